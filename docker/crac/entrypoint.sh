@@ -0,0 +1,22 @@
+#!/bin/sh
+# Restores the checkpoint baked into the image. Without one, starts the application with checkpointing enabled
+# so that ./gradlew cracCheckpoint can warm it up and trigger JDK.checkpoint through jcmd.
+# A restored JVM exits with 78 when its configuration differs from the checkpoint (RestoreConfigurationGuard);
+# the application is then started cold, so it reads the configuration given to this container.
+set -e
+
+CRAC_DIR=/home/app/crac
+CONFIGURATION_CHANGED=78
+
+if [ -n "$(ls -A "$CRAC_DIR" 2>/dev/null)" ]; then
+    status=0
+    java -XX:CRaCRestoreFrom="$CRAC_DIR" || status=$?
+    if [ "$status" -ne "$CONFIGURATION_CHANGED" ]; then
+        exit "$status"
+    fi
+    exec java -jar /home/app/application.jar
+fi
+
+# Not exec'd: the checkpointed JVM must not run as PID 1, or the restore could not recreate it under that PID
+java -XX:CRaCCheckpointTo="$CRAC_DIR" -jar /home/app/application.jar &
+wait $!
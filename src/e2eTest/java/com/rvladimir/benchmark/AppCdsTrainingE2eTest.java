@@ -0,0 +1,91 @@
+package com.rvladimir.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.BindMode;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Training run for the AppCDS image: starts the JVM image with {@code -XX:ArchiveClassesAtExit}, drives the main
+ * request paths and stops the container gracefully so the JVM dumps the dynamic archive on exit. The archive has
+ * to be produced inside the image, since CDS only records classes loaded from the exact classpath it will be
+ * used with. Run with {@code ./gradlew appCdsTraining}; {@code dockerBuildAppCds} bakes the result into an image.
+ */
+@Tag("appcds-training")
+class AppCdsTrainingE2eTest {
+
+    private static final String POSTGRES_IMAGE = "postgres:16-alpine";
+    private static final String DATABASE_ALIAS = "postgres";
+    private static final String JVM_IMAGE_PROPERTY = "benchmark.jvm-image";
+    private static final String ARCHIVE_DIR_PROPERTY = "benchmark.appcds-dir";
+    private static final String ARCHIVE_FILE = "ttrack-be.jsa";
+    private static final String CONTAINER_ARCHIVE_DIR = "/cds";
+    private static final int APP_PORT = 8080;
+    private static final int TRAINING_ITERATIONS = 50;
+    private static final int STOP_TIMEOUT_SECONDS = 60;
+
+    @Test
+    void testTrainingRunWritesAppCdsArchive() throws Exception {
+        // Given
+        String jvmImage = System.getProperty(JVM_IMAGE_PROPERTY);
+        String archiveDirectory = System.getProperty(ARCHIVE_DIR_PROPERTY);
+        assumeTrue(jvmImage != null && archiveDirectory != null, "Run with ./gradlew appCdsTraining");
+        Path archive = prepareArchiveDirectory(Path.of(archiveDirectory)).resolve(ARCHIVE_FILE);
+
+        // When
+        try (Network network = Network.newNetwork();
+             PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(POSTGRES_IMAGE)
+                 .withNetwork(network)
+                 .withNetworkAliases(DATABASE_ALIAS)) {
+            postgres.start();
+            try (GenericContainer<?> app = new GenericContainer<>(DockerImageName.parse(jvmImage))
+                .withNetwork(network)
+                .withExposedPorts(APP_PORT)
+                .withEnv("DATASOURCES_DEFAULT_URL", String.format("jdbc:postgresql://%s:%d/%s",
+                    DATABASE_ALIAS, PostgreSQLContainer.POSTGRESQL_PORT, postgres.getDatabaseName()))
+                .withEnv("DATASOURCES_DEFAULT_USERNAME", postgres.getUsername())
+                .withEnv("DATASOURCES_DEFAULT_PASSWORD", postgres.getPassword())
+                .withEnv("STARTUP_WARMUP_ENABLED", "true")
+                .withEnv("JAVA_TOOL_OPTIONS",
+                    "-XX:ArchiveClassesAtExit=" + CONTAINER_ARCHIVE_DIR + "/" + ARCHIVE_FILE)
+                .withFileSystemBind(archive.getParent().toString(), CONTAINER_ARCHIVE_DIR, BindMode.READ_WRITE)) {
+                app.start();
+                StartupTrainingWorkload workload = new StartupTrainingWorkload(
+                    URI.create(String.format("http://%s:%d/", app.getHost(), app.getMappedPort(APP_PORT))));
+                workload.awaitHealthy();
+                workload.run(TRAINING_ITERATIONS);
+
+                // SIGTERM, so shutdown hooks run and the archive is written before the container exits
+                DockerClientFactory.instance().client()
+                    .stopContainerCmd(app.getContainerId())
+                    .withTimeout(STOP_TIMEOUT_SECONDS)
+                    .exec();
+            }
+        }
+
+        // Then
+        assertThat(archive).isNotEmptyFile();
+    }
+
+    private static Path prepareArchiveDirectory(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Files.deleteIfExists(directory.resolve(ARCHIVE_FILE));
+        // The image does not run as the host user
+        if (!directory.toFile().setWritable(true, false)) {
+            throw new IOException("Cannot make " + directory + " writable for the container user");
+        }
+        return directory;
+    }
+}
@@ -0,0 +1,49 @@
+package com.rvladimir.benchmark;
+
+import java.net.http.HttpClient;
+import java.util.Map;
+
+/**
+ * HTTP version the benchmark clients use, from the {@code benchmark.http-version} system property set by the
+ * {@code benchmark} (1.1) and {@code benchmarkHttp2} (2.0, cleartext h2c) tasks.
+ */
+final class BenchmarkHttpVersion {
+
+    private static final String HTTP_2 = "2.0";
+
+    private BenchmarkHttpVersion() {
+    }
+
+    /**
+     * @return the configured version, {@code 1.1} by default
+     */
+    static String get() {
+        return System.getProperty("benchmark.http-version", "1.1");
+    }
+
+    static boolean isHttp2() {
+        return HTTP_2.equals(get());
+    }
+
+    /**
+     * @return Micronaut HTTP client properties selecting the configured version
+     */
+    static Map<String, String> clientProperties() {
+        if (isHttp2()) {
+            return Map.of(
+                "micronaut.http.client.http-version", HTTP_2,
+                "micronaut.http.client.plaintext-mode", "h2c");
+        }
+        return Map.of();
+    }
+
+    /**
+     * @return the matching version for JDK HTTP clients
+     */
+    static HttpClient.Version jdkVersion() {
+        if (isHttp2()) {
+            return HttpClient.Version.HTTP_2;
+        }
+        return HttpClient.Version.HTTP_1_1;
+    }
+}
@@ -0,0 +1,96 @@
+package com.rvladimir.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.github.dockerjava.api.DockerClient;
+
+import java.net.URI;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Takes the CRaC checkpoint for the CRaC image: starts the CRaC base image, warms it up until the hot paths are
+ * JIT-compiled and the Hikari pool is filled, checkpoints the JVM with {@code jcmd} and commits the stopped
+ * container, checkpoint files included, as the CRaC image. The image restores the checkpoint only when given the
+ * datasource configuration it was taken with, a database at {@value #DATABASE_ALIAS}/{@value #DATABASE_NAME};
+ * with any other it starts cold. Checkpointing needs a privileged container. Run with
+ * {@code ./gradlew cracCheckpoint}.
+ */
+@Tag("crac-checkpoint")
+class CracCheckpointE2eTest {
+
+    static final String DATABASE_ALIAS = "postgres";
+    static final String DATABASE_NAME = "startup_crac";
+
+    private static final String POSTGRES_IMAGE = "postgres:16-alpine";
+    private static final String BASE_IMAGE_PROPERTY = "benchmark.crac-base-image";
+    private static final String CRAC_IMAGE_PROPERTY = "benchmark.crac-image";
+    private static final int APP_PORT = 8080;
+    private static final int WARMUP_ITERATIONS = 500;
+    private static final Duration CHECKPOINT_TIMEOUT = Duration.ofMinutes(2);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(200);
+
+    @Test
+    void testCheckpointAfterWarmupIsCommittedAsImage() throws Exception {
+        // Given
+        String baseImage = System.getProperty(BASE_IMAGE_PROPERTY);
+        String cracImage = System.getProperty(CRAC_IMAGE_PROPERTY);
+        assumeTrue(baseImage != null && cracImage != null, "Run with ./gradlew cracCheckpoint");
+        DockerImageName target = DockerImageName.parse(cracImage);
+        DockerClient docker = DockerClientFactory.instance().client();
+
+        try (Network network = Network.newNetwork();
+             PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(POSTGRES_IMAGE)
+                 .withDatabaseName(DATABASE_NAME)
+                 .withNetwork(network)
+                 .withNetworkAliases(DATABASE_ALIAS)) {
+            postgres.start();
+            try (GenericContainer<?> app = new GenericContainer<>(DockerImageName.parse(baseImage))
+                .withNetwork(network)
+                .withExposedPorts(APP_PORT)
+                .withPrivilegedMode(true)
+                .withEnv("DATASOURCES_DEFAULT_URL", String.format("jdbc:postgresql://%s:%d/%s",
+                    DATABASE_ALIAS, PostgreSQLContainer.POSTGRESQL_PORT, DATABASE_NAME))
+                .withEnv("DATASOURCES_DEFAULT_USERNAME", postgres.getUsername())
+                .withEnv("DATASOURCES_DEFAULT_PASSWORD", postgres.getPassword())
+                .withEnv("STARTUP_WARMUP_ENABLED", "true")) {
+                app.start();
+                StartupTrainingWorkload workload = new StartupTrainingWorkload(
+                    URI.create(String.format("http://%s:%d/", app.getHost(), app.getMappedPort(APP_PORT))));
+                workload.awaitHealthy();
+                workload.run(WARMUP_ITERATIONS);
+
+                // When
+                // The JVM exits once the checkpoint is written; a failed checkpoint leaves it running
+                app.execInContainer("jcmd", "application.jar", "JDK.checkpoint");
+                awaitExit(docker, app.getContainerId());
+                String imageId = docker.commitCmd(app.getContainerId())
+                    .withRepository(target.getUnversionedPart())
+                    .withTag(target.getVersionPart())
+                    .exec();
+
+                // Then
+                assertThat(imageId).isNotBlank();
+            }
+        }
+    }
+
+    private static void awaitExit(DockerClient docker, String containerId) throws InterruptedException {
+        long deadline = System.nanoTime() + CHECKPOINT_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!Boolean.TRUE.equals(docker.inspectContainerCmd(containerId).exec().getState().getRunning())) {
+                return;
+            }
+            Thread.sleep(POLL_INTERVAL.toMillis());
+        }
+        throw new IllegalStateException("Container " + containerId + " still running after " + CHECKPOINT_TIMEOUT);
+    }
+}
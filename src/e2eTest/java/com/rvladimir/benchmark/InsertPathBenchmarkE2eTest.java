@@ -0,0 +1,193 @@
+package com.rvladimir.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rvladimir.domain.Exercise;
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.domain.User;
+import com.rvladimir.repository.ExerciseRepository;
+import com.rvladimir.repository.SessionExerciseRepository;
+import com.rvladimir.repository.TrainingSessionRepository;
+import com.rvladimir.repository.UserRepository;
+import com.rvladimir.service.SessionExerciseService;
+import com.rvladimir.service.dto.CreateSessionExerciseDTO;
+import com.rvladimir.service.dto.SessionExerciseDTO;
+import com.rvladimir.service.mapper.SessionExerciseMapper;
+import com.rvladimir.test.PostgresTestContainer;
+import com.rvladimir.test.TestDataFactory;
+
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.test.support.TestPropertyProvider;
+import io.micronaut.transaction.annotation.Transactional;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Compares the per-insert cost of the Hibernate write path with the Micronaut Data JDBC write path
+ * for {@code POST /session-exercise/training-sessions/{id}/session-exercise}.
+ * Reports bytes allocated on the calling thread and mean latency per insert. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@MicronautTest(transactional = false)
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class InsertPathBenchmarkE2eTest implements TestPropertyProvider {
+
+    private static final Logger LOG = LoggerFactory.getLogger(InsertPathBenchmarkE2eTest.class);
+
+    private static final int WARMUP_INSERTS = 500;
+    private static final int MEASURED_INSERTS = 5_000;
+    private static final int MINUTES = 30;
+    private static final int REST_TIME = 60;
+    private static final String TEST_USER_EMAIL = "insert-benchmark@e2e.com";
+    private static final String TEST_EXERCISE_NAME = "Push-ups";
+    private static final String TEST_EXERCISE_DESC = "desc";
+    private static final String TEST_EXERCISE_IMG = "img";
+
+    @Container
+    static PostgreSQLContainer<?> postgres = PostgresTestContainer.getInstance();
+
+    @Inject
+    SessionExerciseService sessionExerciseService;
+
+    @Inject
+    JpaInsertPath jpaInsertPath;
+
+    @Inject
+    SessionExerciseRepository sessionExerciseRepository;
+
+    @Inject
+    TrainingSessionRepository trainingSessionRepository;
+
+    @Inject
+    ExerciseRepository exerciseRepository;
+
+    @Inject
+    UserRepository userRepository;
+
+    private Long trainingSessionId;
+    private CreateSessionExerciseDTO createDto;
+
+    @Override
+    public Map<String, String> getProperties() {
+        return Map.of(
+            "datasources.default.url", postgres.getJdbcUrl(),
+            "datasources.default.username", postgres.getUsername(),
+            "datasources.default.password", postgres.getPassword(),
+            "datasources.default.driverClassName", postgres.getDriverClassName(),
+            "jpa.default.properties.hibernate.show_sql", "false"
+        );
+    }
+
+    @BeforeAll
+    void seed() {
+        User user = userRepository.save(TestDataFactory.createUser(TEST_USER_EMAIL));
+        Exercise exercise = exerciseRepository.save(
+            new Exercise(null, TEST_EXERCISE_NAME, TEST_EXERCISE_DESC,
+                TypeOfExercise.STRENGTH, TEST_EXERCISE_IMG, LocalDateTime.now())
+        );
+        TrainingSession session = trainingSessionRepository.save(
+            new TrainingSession(null, null, null, TrainingSession.Status.STARTED, user, LocalDateTime.now())
+        );
+        trainingSessionId = session.getId();
+        createDto = new CreateSessionExerciseDTO(
+            1, 2, null, null, LocalTime.of(0, MINUTES), null, null, LocalDateTime.now(), null,
+            REST_TIME, SessionExercise.Status.STARTED, 1, exercise.getId(), null, TypeOfExercise.STRENGTH, null
+        );
+    }
+
+    @AfterAll
+    void cleanup() {
+        sessionExerciseRepository.deleteAll();
+        trainingSessionRepository.deleteAll();
+        exerciseRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testJdbcInsertPathAllocatesLessThanHibernate() {
+        // Given
+        Supplier<SessionExerciseDTO> hibernate =
+            () -> jpaInsertPath.createSessionExercise(trainingSessionId, createDto);
+        Supplier<SessionExerciseDTO> jdbc =
+            () -> sessionExerciseService.createSessionExercise(trainingSessionId, createDto);
+        measure(hibernate, WARMUP_INSERTS);
+        measure(jdbc, WARMUP_INSERTS);
+
+        // When
+        InsertCost hibernateCost = measure(hibernate, MEASURED_INSERTS);
+        InsertCost jdbcCost = measure(jdbc, MEASURED_INSERTS);
+        LOG.info("hibernate: {}", hibernateCost);
+        LOG.info("jdbc: {}", jdbcCost);
+
+        // Then
+        assertThat(jdbcCost.bytesPerInsert()).isLessThan(hibernateCost.bytesPerInsert());
+    }
+
+    private static InsertCost measure(Supplier<SessionExerciseDTO> insert, int inserts) {
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < inserts; i++) {
+            assertThat(insert.get().getId()).isNotNull();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        return new InsertCost(allocated / inserts, elapsedNanos / inserts);
+    }
+
+    private record InsertCost(long bytesPerInsert, long nanosPerInsert) {
+    }
+
+    /**
+     * The Hibernate write path as it was before the JDBC repositories, kept here as the baseline.
+     */
+    @Singleton
+    static class JpaInsertPath {
+
+        private final SessionExerciseRepository sessionExerciseRepository;
+        private final ExerciseRepository exerciseRepository;
+        private final TrainingSessionRepository trainingSessionRepository;
+        private final SessionExerciseMapper sessionExerciseMapper;
+
+        JpaInsertPath(
+            SessionExerciseRepository sessionExerciseRepository,
+            ExerciseRepository exerciseRepository,
+            TrainingSessionRepository trainingSessionRepository,
+            SessionExerciseMapper sessionExerciseMapper) {
+            this.sessionExerciseRepository = sessionExerciseRepository;
+            this.exerciseRepository = exerciseRepository;
+            this.trainingSessionRepository = trainingSessionRepository;
+            this.sessionExerciseMapper = sessionExerciseMapper;
+        }
+
+        @Transactional
+        public SessionExerciseDTO createSessionExercise(Long trainingSessionId, CreateSessionExerciseDTO dto) {
+            Exercise exercise = exerciseRepository.findById(dto.getExerciseId()).orElseThrow();
+            TrainingSession trainingSession = trainingSessionRepository.findById(trainingSessionId).orElseThrow();
+            SessionExercise entity = sessionExerciseMapper.toEntity(dto, exercise, trainingSession);
+            return sessionExerciseMapper.toDto(sessionExerciseRepository.save(entity));
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.rvladimir.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.service.dto.SessionExerciseDTO;
+import com.rvladimir.service.dto.SyncChangesDTO;
+import com.rvladimir.service.dto.TrainingSessionDTO;
+import com.rvladimir.test.PostgresTestContainer;
+import com.rvladimir.web.codec.CborBodyHandler;
+import com.rvladimir.web.codec.SmileBodyHandler;
+
+import io.micronaut.core.type.Argument;
+import io.micronaut.json.JsonMapper;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.test.support.TestPropertyProvider;
+
+import jakarta.inject.Inject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Compares JSON, CBOR and Smile bodies for the payloads mobile clients fetch most: a month of session exercises
+ * and a full sync page. Reports bytes on the wire (plain and gzipped), and mean encode/decode time and allocation.
+ * Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@MicronautTest(transactional = false)
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PayloadEncodingBenchmarkE2eTest implements TestPropertyProvider {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PayloadEncodingBenchmarkE2eTest.class);
+
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int MEASURED_ROUNDS = 10_000;
+    private static final int SESSIONS = 30;
+    private static final int EXERCISES_PER_SESSION = 8;
+    private static final int ROUNDS = 4;
+    private static final int SETS = 3;
+    private static final int REPETITIONS = 12;
+    private static final int REST_SECONDS = 90;
+    private static final int EXERCISE_MINUTES = 6;
+    private static final double WEIGHT_STEP = 2.5;
+    private static final long FIRST_EXERCISE_ID = 1_000L;
+    private static final long USER_ID = 42L;
+    private static final LocalDateTime FIRST_SESSION_AT = LocalDateTime.of(2026, 3, 1, 7, 15);
+    private static final String NOTES = "Felt strong, keep the tempo";
+    private static final TypeOfExercise[] TYPES = {TypeOfExercise.STRENGTH, TypeOfExercise.HIIT, TypeOfExercise.CARDIO};
+
+    @Container
+    static PostgreSQLContainer<?> postgres = PostgresTestContainer.getInstance();
+
+    @Inject
+    JsonMapper jsonMapper;
+
+    @Inject
+    CborBodyHandler cborBodyHandler;
+
+    @Inject
+    SmileBodyHandler smileBodyHandler;
+
+    @Override
+    public Map<String, String> getProperties() {
+        return Map.of(
+            "datasources.default.url", postgres.getJdbcUrl(),
+            "datasources.default.username", postgres.getUsername(),
+            "datasources.default.password", postgres.getPassword(),
+            "datasources.default.driverClassName", postgres.getDriverClassName()
+        );
+    }
+
+    @Test
+    void testBinaryEncodingsShrinkSessionExerciseList() {
+        List<SessionExerciseDTO> exercises = new ArrayList<>();
+        for (int session = 0; session < SESSIONS; session++) {
+            exercises.addAll(sessionExercises(session));
+        }
+        compare("session exercises", Argument.listOf(SessionExerciseDTO.class), exercises);
+    }
+
+    @Test
+    void testBinaryEncodingsShrinkSyncPage() {
+        List<TrainingSessionDTO> sessions = new ArrayList<>();
+        List<SessionExerciseDTO> exercises = new ArrayList<>();
+        for (int session = 0; session < SESSIONS; session++) {
+            sessions.add(new TrainingSessionDTO((long) session, "Session " + session, null,
+                TrainingSession.Status.FINISHED, USER_ID, FIRST_SESSION_AT.plusDays(session)));
+            exercises.addAll(sessionExercises(session));
+        }
+        SyncChangesDTO page = new SyncChangesDTO(sessions, exercises, List.of(), List.of(), "djE6ODE1", false);
+        compare("sync page", Argument.of(SyncChangesDTO.class), page);
+    }
+
+    private <T> void compare(String payload, Argument<T> type, T value) {
+        // Given
+        Codec<T> json = codec(item -> jsonMapper.writeValueAsBytes(type, item),
+            bytes -> jsonMapper.readValue(bytes, type));
+        Codec<T> cbor = codec(item -> cborBodyHandler.encode(type, item),
+            bytes -> cborBodyHandler.decode(type, bytes));
+        Codec<T> smile = codec(item -> smileBodyHandler.encode(type, item),
+            bytes -> smileBodyHandler.decode(type, bytes));
+
+        // When
+        Cost jsonCost = measure(json, value);
+        Cost cborCost = measure(cbor, value);
+        Cost smileCost = measure(smile, value);
+        LOG.info("{} json: {}", payload, jsonCost);
+        LOG.info("{} cbor: {}", payload, cborCost);
+        LOG.info("{} smile: {}", payload, smileCost);
+
+        // Then
+        assertThat(cbor.decode(cbor.encode(value))).isEqualTo(value);
+        assertThat(smile.decode(smile.encode(value))).isEqualTo(value);
+        assertThat(cborCost.bytes()).isLessThan(jsonCost.bytes());
+        assertThat(smileCost.bytes()).isLessThan(cborCost.bytes());
+    }
+
+    private static <T> Cost measure(Codec<T> codec, T value) {
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        byte[] encoded = codec.encode(value);
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            codec.decode(codec.encode(value));
+        }
+
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            codec.encode(value);
+        }
+        long encodeNanos = System.nanoTime() - start;
+        long encodeAllocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            codec.decode(encoded);
+        }
+        long decodeNanos = System.nanoTime() - start;
+        long decodeAllocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        return new Cost(encoded.length, gzippedSize(encoded),
+            encodeNanos / MEASURED_ROUNDS, encodeAllocated / MEASURED_ROUNDS,
+            decodeNanos / MEASURED_ROUNDS, decodeAllocated / MEASURED_ROUNDS);
+    }
+
+    private static int gzippedSize(byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.size();
+    }
+
+    private static List<SessionExerciseDTO> sessionExercises(int session) {
+        LocalDateTime start = FIRST_SESSION_AT.plusDays(session);
+        List<SessionExerciseDTO> exercises = new ArrayList<>();
+        for (int order = 0; order < EXERCISES_PER_SESSION; order++) {
+            LocalDateTime exerciseStart = start.plusMinutes((long) order * EXERCISE_MINUTES);
+            exercises.add(new SessionExerciseDTO(
+                (long) session * EXERCISES_PER_SESSION + order, ROUNDS, SETS, REPETITIONS, null,
+                LocalTime.of(0, EXERCISE_MINUTES), WEIGHT_STEP * (order + 1), null,
+                exerciseStart, exerciseStart.plusMinutes(EXERCISE_MINUTES), REST_SECONDS,
+                SessionExercise.Status.FINISHED, order + 1, FIRST_EXERCISE_ID + order, (long) session,
+                exerciseStart, SessionExercise.UnitOfMeasurement.KILOMETERS, TYPES[order % TYPES.length], NOTES));
+        }
+        return exercises;
+    }
+
+    private static <T> Codec<T> codec(IoFunction<T, byte[]> encoder, IoFunction<byte[], T> decoder) {
+        return new Codec<>(encoder, decoder);
+    }
+
+    @FunctionalInterface
+    private interface IoFunction<A, B> {
+        B apply(A input) throws IOException;
+    }
+
+    private record Codec<T>(IoFunction<T, byte[]> encoder, IoFunction<byte[], T> decoder) {
+
+        byte[] encode(T value) {
+            try {
+                return encoder.apply(value);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        T decode(byte[] content) {
+            try {
+                return decoder.apply(content);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+    private record Cost(int bytes, int gzippedBytes, long encodeNanos, long encodeAllocatedBytes,
+                        long decodeNanos, long decodeAllocatedBytes) {
+    }
+}
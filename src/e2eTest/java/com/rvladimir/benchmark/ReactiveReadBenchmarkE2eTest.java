@@ -0,0 +1,218 @@
+package com.rvladimir.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rvladimir.domain.Exercise;
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.domain.User;
+import com.rvladimir.repository.ExerciseRepository;
+import com.rvladimir.repository.SessionExerciseRepository;
+import com.rvladimir.repository.TrainingSessionRepository;
+import com.rvladimir.repository.UserRepository;
+import com.rvladimir.service.dto.SessionExerciseDTO;
+import com.rvladimir.test.PostgresTestContainer;
+import com.rvladimir.test.TestDataFactory;
+
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.test.support.TestPropertyProvider;
+
+import jakarta.inject.Inject;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Load benchmark comparing the blocking JPA read path with the R2DBC read path.
+ * Fires {@value #CONCURRENT_READERS} concurrent reads at each endpoint while sampling JVM threads
+ * and PostgreSQL backends in use. Run with {@code ./gradlew benchmark}, or {@code ./gradlew benchmarkHttp2} to
+ * multiplex the readers over h2c connections.
+ */
+@Tag("benchmark")
+@MicronautTest(transactional = false)
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReactiveReadBenchmarkE2eTest implements TestPropertyProvider {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReactiveReadBenchmarkE2eTest.class);
+
+    private static final int CONCURRENT_READERS = 5_000;
+    private static final int SESSION_EXERCISE_COUNT = 10;
+    private static final int POOL_SIZE = 10;
+    private static final long SAMPLE_INTERVAL_MILLIS = 10L;
+    private static final Duration RUN_TIMEOUT = Duration.ofMinutes(5);
+    private static final String BLOCKING_ENDPOINT = "/session-exercise/training-session/%d";
+    private static final String REACTIVE_ENDPOINT = "/reactive/session-exercise/training-session/%d";
+    private static final String BUSY_BACKENDS_SQL =
+        "SELECT count(*) FROM pg_stat_activity " +
+            "WHERE datname = current_database() AND pid <> pg_backend_pid() AND state <> 'idle'";
+    private static final String TEST_USER_EMAIL = "benchmark@e2e.com";
+    private static final String TEST_EXERCISE_NAME = "Push-ups";
+    private static final String TEST_EXERCISE_DESC = "desc";
+    private static final String TEST_EXERCISE_IMG = "img";
+
+    @Container
+    static PostgreSQLContainer<?> postgres = PostgresTestContainer.getInstance();
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Inject
+    SessionExerciseRepository sessionExerciseRepository;
+
+    @Inject
+    TrainingSessionRepository trainingSessionRepository;
+
+    @Inject
+    ExerciseRepository exerciseRepository;
+
+    @Inject
+    UserRepository userRepository;
+
+    private Long trainingSessionId;
+
+    @Override
+    public Map<String, String> getProperties() {
+        String r2dbcUrl = "r2dbc:pool:postgresql://" + postgres.getHost() + ":" +
+            postgres.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/" + postgres.getDatabaseName();
+        Map<String, String> properties = new HashMap<>();
+        properties.put("datasources.default.url", postgres.getJdbcUrl());
+        properties.put("datasources.default.username", postgres.getUsername());
+        properties.put("datasources.default.password", postgres.getPassword());
+        properties.put("datasources.default.driverClassName", postgres.getDriverClassName());
+        properties.put("datasources.default.maximumPoolSize", String.valueOf(POOL_SIZE));
+        properties.put("r2dbc.datasources.reactive.url", r2dbcUrl);
+        properties.put("r2dbc.datasources.reactive.username", postgres.getUsername());
+        properties.put("r2dbc.datasources.reactive.password", postgres.getPassword());
+        properties.put("r2dbc.datasources.reactive.options.maxSize", String.valueOf(POOL_SIZE));
+        properties.put("ttrack.reactive-reads.enabled", "true");
+        properties.put("micronaut.server.thread-selection", "AUTO");
+        properties.put("micronaut.http.client.read-timeout", "60s");
+        properties.put("micronaut.http.client.pool.max-concurrent-http1-connections",
+            String.valueOf(CONCURRENT_READERS));
+        properties.putAll(BenchmarkHttpVersion.clientProperties());
+        return properties;
+    }
+
+    @BeforeAll
+    void seed() {
+        User user = userRepository.save(TestDataFactory.createUser(TEST_USER_EMAIL));
+        Exercise exercise = exerciseRepository.save(
+            new Exercise(null, TEST_EXERCISE_NAME, TEST_EXERCISE_DESC,
+                TypeOfExercise.STRENGTH, TEST_EXERCISE_IMG, LocalDateTime.now())
+        );
+        TrainingSession session = trainingSessionRepository.save(
+            new TrainingSession(null, null, null, TrainingSession.Status.STARTED, user, LocalDateTime.now())
+        );
+        trainingSessionId = session.getId();
+        for (int order = 1; order <= SESSION_EXERCISE_COUNT; order++) {
+            SessionExercise sessionExercise = new SessionExercise();
+            sessionExercise.setExercise(exercise);
+            sessionExercise.setTrainingSession(session);
+            sessionExercise.setExerciseOrder(order);
+            sessionExercise.setStatus(SessionExercise.Status.FINISHED);
+            sessionExercise.setCreatedAt(LocalDateTime.now());
+            sessionExerciseRepository.save(sessionExercise);
+        }
+    }
+
+    @AfterAll
+    void cleanup() {
+        sessionExerciseRepository.deleteAll();
+        trainingSessionRepository.deleteAll();
+        exerciseRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testReactivePathServesConcurrentReadersWithBoundedConnections() throws Exception {
+        // Given - warm both paths so class loading and pool start-up are not measured
+        run(BLOCKING_ENDPOINT, POOL_SIZE);
+        run(REACTIVE_ENDPOINT, POOL_SIZE);
+
+        // When
+        RunResult blocking = run(BLOCKING_ENDPOINT, CONCURRENT_READERS);
+        RunResult reactive = run(REACTIVE_ENDPOINT, CONCURRENT_READERS);
+        LOG.info("HTTP/{} blocking: {}", BenchmarkHttpVersion.get(), blocking);
+        LOG.info("HTTP/{} reactive: {}", BenchmarkHttpVersion.get(), reactive);
+
+        // Then
+        assertThat(blocking.successes()).isEqualTo(CONCURRENT_READERS);
+        assertThat(reactive.successes()).isEqualTo(CONCURRENT_READERS);
+        assertThat(reactive.peakBusyConnections()).isLessThanOrEqualTo(POOL_SIZE);
+        assertThat(reactive.peakThreads()).isLessThanOrEqualTo(blocking.peakThreads());
+    }
+
+    private RunResult run(String endpointTemplate, int readers) throws SQLException, InterruptedException {
+        String uri = String.format(endpointTemplate, trainingSessionId);
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        AtomicInteger peakBusyConnections = new AtomicInteger();
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        try (Connection monitor = DriverManager.getConnection(
+            postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+             PreparedStatement statement = monitor.prepareStatement(BUSY_BACKENDS_SQL)) {
+            threads.resetPeakThreadCount();
+            sampler.scheduleAtFixedRate(
+                () -> peakBusyConnections.accumulateAndGet(countBusyBackends(statement), Math::max),
+                0, SAMPLE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            long start = System.nanoTime();
+            Long successes = Flux.range(0, readers)
+                .flatMap(i -> Mono.from(client.retrieve(
+                    HttpRequest.GET(uri), Argument.listOf(SessionExerciseDTO.class))), readers)
+                .filter(body -> body.size() == SESSION_EXERCISE_COUNT)
+                .count()
+                .block(RUN_TIMEOUT);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            sampler.shutdown();
+            sampler.awaitTermination(SAMPLE_INTERVAL_MILLIS, TimeUnit.SECONDS);
+            return new RunResult(successes, elapsedMillis, threads.getPeakThreadCount(), peakBusyConnections.get());
+        } finally {
+            sampler.shutdownNow();
+        }
+    }
+
+    private static int countBusyBackends(PreparedStatement statement) {
+        try (ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        } catch (SQLException e) {
+            return 0;
+        }
+    }
+
+    private record RunResult(long successes, long elapsedMillis, int peakThreads, int peakBusyConnections) {
+    }
+}
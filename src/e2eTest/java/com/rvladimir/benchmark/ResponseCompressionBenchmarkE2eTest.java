@@ -0,0 +1,218 @@
+package com.rvladimir.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rvladimir.domain.Exercise;
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.domain.User;
+import com.rvladimir.repository.ExerciseRepository;
+import com.rvladimir.repository.SessionExerciseRepository;
+import com.rvladimir.repository.TrainingSessionRepository;
+import com.rvladimir.repository.UserRepository;
+import com.rvladimir.test.PostgresTestContainer;
+import com.rvladimir.test.TestDataFactory;
+
+import io.micronaut.context.annotation.Value;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.runtime.server.EmbeddedServer;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.test.support.TestPropertyProvider;
+
+import jakarta.inject.Inject;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Measures response compression per route: bytes on the wire and server CPU per request for {@code identity},
+ * {@code gzip} and {@code br}, over HTTP/1.1 ({@code ./gradlew benchmark}) or h2c ({@code ./gradlew benchmarkHttp2}).
+ * The server runs in-process, so process CPU time above the {@code identity} run is the cost of compressing.
+ */
+@Tag("benchmark")
+@MicronautTest(transactional = false)
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ResponseCompressionBenchmarkE2eTest implements TestPropertyProvider {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ResponseCompressionBenchmarkE2eTest.class);
+
+    private static final int WARMUP_REQUESTS = 200;
+    private static final int MEASURED_REQUESTS = 1_000;
+    private static final int CATALOG_SIZE = 100;
+    private static final int SESSIONS = 30;
+    private static final int EXERCISES_PER_SESSION = 8;
+    private static final int MINUTES = 6;
+    private static final int REST_TIME = 90;
+    private static final long NANOS_PER_MICRO = 1_000L;
+    private static final long PERCENT = 100L;
+    private static final String HISTORY_ROUTE = "/training-session/history?userId=%d&from=%s&to=%s";
+    private static final String IDENTITY = "identity";
+    private static final String GZIP = "gzip";
+    private static final String BROTLI = "br";
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+    private static final String TEST_USER_EMAIL = "compression-benchmark@e2e.com";
+    private static final String TEST_EXERCISE_DESC = "Compound movement, keep a neutral spine";
+    private static final String TEST_EXERCISE_IMG = "https://cdn.example.com/exercises/compound.png";
+
+    @Container
+    static PostgreSQLContainer<?> postgres = PostgresTestContainer.getInstance();
+
+    @Inject
+    EmbeddedServer server;
+
+    @Value("${micronaut.server.netty.compression-threshold}")
+    int compressionThreshold;
+
+    @Inject
+    SessionExerciseRepository sessionExerciseRepository;
+
+    @Inject
+    TrainingSessionRepository trainingSessionRepository;
+
+    @Inject
+    ExerciseRepository exerciseRepository;
+
+    @Inject
+    UserRepository userRepository;
+
+    private final HttpClient http = HttpClient.newBuilder().version(BenchmarkHttpVersion.jdkVersion()).build();
+    private final Map<String, String> routes = new LinkedHashMap<>();
+
+    @Override
+    public Map<String, String> getProperties() {
+        return Map.of(
+            "datasources.default.url", postgres.getJdbcUrl(),
+            "datasources.default.username", postgres.getUsername(),
+            "datasources.default.password", postgres.getPassword(),
+            "datasources.default.driverClassName", postgres.getDriverClassName(),
+            "micronaut.server.http-version", "2.0"
+        );
+    }
+
+    @BeforeAll
+    void seed() {
+        User user = userRepository.save(TestDataFactory.createUser(TEST_USER_EMAIL));
+        Exercise exercise = null;
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            exercise = exerciseRepository.save(new Exercise(null, "Exercise " + i, TEST_EXERCISE_DESC,
+                TypeOfExercise.STRENGTH, TEST_EXERCISE_IMG, LocalDateTime.now()));
+        }
+        TrainingSession session = null;
+        for (int s = 0; s < SESSIONS; s++) {
+            session = trainingSessionRepository.save(new TrainingSession(
+                null, "Session " + s, null, TrainingSession.Status.FINISHED, user, LocalDateTime.now()));
+        }
+        for (int order = 1; order <= EXERCISES_PER_SESSION * SESSIONS / 2; order++) {
+            SessionExercise sessionExercise = new SessionExercise();
+            sessionExercise.setExercise(exercise);
+            sessionExercise.setTrainingSession(session);
+            sessionExercise.setExerciseOrder(order);
+            sessionExercise.setDuration(LocalTime.of(0, MINUTES));
+            sessionExercise.setRestTime(REST_TIME);
+            sessionExercise.setStatus(SessionExercise.Status.FINISHED);
+            sessionExercise.setTypeOfExercise(TypeOfExercise.STRENGTH);
+            sessionExercise.setCreatedAt(LocalDateTime.now());
+            sessionExerciseRepository.save(sessionExercise);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        routes.put("exercise catalog page", "/exercise?size=" + CATALOG_SIZE);
+        routes.put("session exercise list", "/session-exercise/training-session/" + session.getId());
+        routes.put("training history", String.format(HISTORY_ROUTE, user.getId(), now.minusDays(1), now.plusDays(1)));
+        routes.put("empty training history",
+            String.format(HISTORY_ROUTE, user.getId(), now.minusYears(1), now.minusYears(1)));
+    }
+
+    @AfterAll
+    void cleanup() {
+        sessionExerciseRepository.deleteAll();
+        trainingSessionRepository.deleteAll();
+        exerciseRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testCompressionShrinksListResponsesAboveThreshold() throws Exception {
+        for (Map.Entry<String, String> route : routes.entrySet()) {
+            // Given
+            for (String encoding : List.of(IDENTITY, GZIP, BROTLI)) {
+                run(route.getValue(), encoding, WARMUP_REQUESTS);
+            }
+
+            // When
+            RouteCost identity = run(route.getValue(), IDENTITY, MEASURED_REQUESTS);
+            RouteCost gzip = run(route.getValue(), GZIP, MEASURED_REQUESTS);
+            RouteCost brotli = run(route.getValue(), BROTLI, MEASURED_REQUESTS);
+            LOG.info("HTTP/{} {} identity: {}", BenchmarkHttpVersion.get(), route.getKey(), identity);
+            LOG.info("HTTP/{} {} gzip: {} ({}% of identity, +{} us CPU)", BenchmarkHttpVersion.get(), route.getKey(),
+                gzip, gzip.percentOf(identity), gzip.extraCpuMicros(identity));
+            LOG.info("HTTP/{} {} br: {} ({}% of identity, +{} us CPU)", BenchmarkHttpVersion.get(), route.getKey(),
+                brotli, brotli.percentOf(identity), brotli.extraCpuMicros(identity));
+
+            // Then
+            assertThat(identity.contentEncoding()).isEqualTo(IDENTITY);
+            if (identity.bytesPerResponse() < compressionThreshold) {
+                assertThat(gzip.contentEncoding()).isEqualTo(IDENTITY);
+            } else {
+                assertThat(gzip.contentEncoding()).isEqualTo(GZIP);
+                assertThat(gzip.bytesPerResponse()).isLessThan(identity.bytesPerResponse());
+            }
+        }
+    }
+
+    private RouteCost run(String path, String encoding, int requests) throws IOException, InterruptedException {
+        com.sun.management.OperatingSystemMXBean os =
+            (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(server.getURL() + path))
+            .header("Accept-Encoding", encoding)
+            .GET()
+            .build();
+        long bytes = 0;
+        String contentEncoding = IDENTITY;
+        long cpuBefore = os.getProcessCpuTime();
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.getCode());
+            bytes += response.body().length;
+            contentEncoding = response.headers().firstValue(CONTENT_ENCODING).orElse(IDENTITY);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long cpuNanos = os.getProcessCpuTime() - cpuBefore;
+        return new RouteCost(contentEncoding, bytes / requests, cpuNanos / requests / NANOS_PER_MICRO,
+            elapsedNanos / requests / NANOS_PER_MICRO);
+    }
+
+    private record RouteCost(String contentEncoding, long bytesPerResponse, long cpuMicrosPerRequest,
+                             long latencyMicros) {
+
+        long percentOf(RouteCost baseline) {
+            return bytesPerResponse * PERCENT / Math.max(1, baseline.bytesPerResponse);
+        }
+
+        long extraCpuMicros(RouteCost baseline) {
+            return cpuMicrosPerRequest - baseline.cpuMicrosPerRequest;
+        }
+    }
+}
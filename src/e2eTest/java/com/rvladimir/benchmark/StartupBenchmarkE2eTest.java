@@ -0,0 +1,219 @@
+package com.rvladimir.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.AbstractWaitStrategy;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Startup benchmark comparing the JVM image built from {@code optimizedBuildLayers} with the native, AppCDS and
+ * CRaC images. Records time-to-first-request (container start until {@code /health} answers 200) and the resident
+ * set size after {@value #STEADY_STATE_REQUESTS} requests. Each image migrates its own empty database so all of
+ * them pay for Flyway, except the CRaC image, which restores a process that migrated before the checkpoint. Run
+ * with {@code ./gradlew startupBenchmark}, which builds the images first; add {@code -Pcrac} for the CRaC image.
+ */
+@Tag("startup-benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StartupBenchmarkE2eTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StartupBenchmarkE2eTest.class);
+
+    private static final String POSTGRES_IMAGE = "postgres:16-alpine";
+    private static final String DATABASE_ALIAS = CracCheckpointE2eTest.DATABASE_ALIAS;
+    private static final String RUN_WITH_GRADLE = "Run with ./gradlew startupBenchmark";
+    private static final String JVM_IMAGE_PROPERTY = "benchmark.jvm-image";
+    private static final String NATIVE_IMAGE_PROPERTY = "benchmark.native-image";
+    private static final String APPCDS_IMAGE_PROPERTY = "benchmark.appcds-image";
+    private static final String CRAC_IMAGE_PROPERTY = "benchmark.crac-image";
+    private static final int APP_PORT = 8080;
+    private static final int STEADY_STATE_REQUESTS = 2_000;
+    private static final int HTTP_OK = 200;
+    private static final long KILOBYTES_PER_MEGABYTE = 1_024L;
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(5);
+    private static final Duration SETTLE_TIME = Duration.ofSeconds(5);
+    private static final Pattern VM_RSS = Pattern.compile("VmRSS:\\s+(\\d+) kB");
+
+    private Network network;
+    private PostgreSQLContainer<?> postgres;
+    private StartupResult jvmBaseline;
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    @BeforeAll
+    void startDatabase() {
+        network = Network.newNetwork();
+        postgres = new PostgreSQLContainer<>(POSTGRES_IMAGE)
+            .withNetwork(network)
+            .withNetworkAliases(DATABASE_ALIAS);
+        postgres.start();
+    }
+
+    @AfterAll
+    void stopDatabase() {
+        postgres.stop();
+        network.close();
+    }
+
+    @Test
+    void testNativeImageStartsFasterAndUsesLessMemoryThanJvmImage() throws Exception {
+        // Given
+        String nativeImage = System.getProperty(NATIVE_IMAGE_PROPERTY);
+        assumeTrue(nativeImage != null, RUN_WITH_GRADLE);
+
+        // When
+        StartupResult jvm = jvmBaseline();
+        StartupResult nativeResult = measure(nativeImage, "startup_native", false);
+        LOG.info("native: {}", nativeResult);
+
+        // Then
+        assertThat(nativeResult.timeToFirstRequestMillis()).isLessThan(jvm.timeToFirstRequestMillis());
+        assertThat(nativeResult.rssKilobytes()).isLessThan(jvm.rssKilobytes());
+    }
+
+    @Test
+    void testAppCdsImageStartsFasterThanJvmImage() throws Exception {
+        // Given
+        String appCdsImage = System.getProperty(APPCDS_IMAGE_PROPERTY);
+        assumeTrue(appCdsImage != null, RUN_WITH_GRADLE);
+
+        // When
+        StartupResult jvm = jvmBaseline();
+        StartupResult appCds = measure(appCdsImage, "startup_appcds", false);
+        LOG.info("appcds: {}", appCds);
+
+        // Then
+        assertThat(appCds.timeToFirstRequestMillis()).isLessThan(jvm.timeToFirstRequestMillis());
+    }
+
+    @Test
+    void testCracImageStartsFasterThanJvmImage() throws Exception {
+        // Given
+        String cracImage = System.getProperty(CRAC_IMAGE_PROPERTY);
+        assumeTrue(cracImage != null, "Run with ./gradlew startupBenchmark -Pcrac");
+
+        // When
+        StartupResult jvm = jvmBaseline();
+        // The restored process keeps the datasource of the checkpoint, so only the database has to match
+        StartupResult crac = measure(cracImage, CracCheckpointE2eTest.DATABASE_NAME, true);
+        LOG.info("crac:   {}", crac);
+
+        // Then
+        assertThat(crac.timeToFirstRequestMillis()).isLessThan(jvm.timeToFirstRequestMillis());
+    }
+
+    private StartupResult jvmBaseline() throws Exception {
+        if (jvmBaseline == null) {
+            String jvmImage = System.getProperty(JVM_IMAGE_PROPERTY);
+            assumeTrue(jvmImage != null, RUN_WITH_GRADLE);
+            jvmBaseline = measure(jvmImage, "startup_jvm", false);
+            LOG.info("jvm:    {}", jvmBaseline);
+        }
+        return jvmBaseline;
+    }
+
+    private StartupResult measure(String image, String database, boolean privileged) throws Exception {
+        createDatabase(database);
+        String jdbcUrl = String.format("jdbc:postgresql://%s:%d/%s",
+            DATABASE_ALIAS, PostgreSQLContainer.POSTGRESQL_PORT, database);
+        try (GenericContainer<?> app = new GenericContainer<>(DockerImageName.parse(image))
+            .withNetwork(network)
+            .withExposedPorts(APP_PORT)
+            .withPrivilegedMode(privileged)
+            .withEnv("DATASOURCES_DEFAULT_URL", jdbcUrl)
+            .withEnv("DATASOURCES_DEFAULT_USERNAME", postgres.getUsername())
+            .withEnv("DATASOURCES_DEFAULT_PASSWORD", postgres.getPassword())
+            .waitingFor(new NoWaitStrategy())) {
+            long start = System.nanoTime();
+            app.start();
+            URI health = URI.create(String.format("http://%s:%d/health", app.getHost(), app.getMappedPort(APP_PORT)));
+            awaitFirstResponse(health);
+            long timeToFirstRequestMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            for (int i = 0; i < STEADY_STATE_REQUESTS; i++) {
+                assertThat(get(health)).isEqualTo(HTTP_OK);
+            }
+            Thread.sleep(SETTLE_TIME.toMillis());
+            return new StartupResult(image, timeToFirstRequestMillis, readRssKilobytes(app));
+        }
+    }
+
+    private void awaitFirstResponse(URI health) throws InterruptedException {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                if (get(health) == HTTP_OK) {
+                    return;
+                }
+            } catch (IOException ex) {
+                // Not listening yet
+            }
+            Thread.sleep(POLL_INTERVAL.toMillis());
+        }
+        throw new IllegalStateException("No successful response from " + health + " within " + STARTUP_TIMEOUT);
+    }
+
+    private int get(URI uri) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private void createDatabase(String database) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(
+            postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE DATABASE " + database);
+        }
+    }
+
+    private static long readRssKilobytes(GenericContainer<?> app) throws IOException, InterruptedException {
+        String status = app.execInContainer("cat", "/proc/1/status").getStdout();
+        Matcher matcher = VM_RSS.matcher(status);
+        if (!matcher.find()) {
+            throw new IllegalStateException("VmRSS not found in /proc/1/status of " + app.getDockerImageName());
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private record StartupResult(String image, long timeToFirstRequestMillis, long rssKilobytes) {
+        @Override
+        public String toString() {
+            return String.format("%s time-to-first-request=%dms rss=%dMB",
+                image, timeToFirstRequestMillis, rssKilobytes / KILOBYTES_PER_MEGABYTE);
+        }
+    }
+
+    /**
+     * Returns as soon as the container runs, so the startup time is measured by polling {@code /health}.
+     */
+    private static final class NoWaitStrategy extends AbstractWaitStrategy {
+        @Override
+        protected void waitUntilReady() {
+            // Readiness is polled by the benchmark itself
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.rvladimir.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Drives the main request paths of a running container: health, sign-up, mobile login and the authenticated
+ * reads. Used to train the AppCDS archive and to warm up the JVM before a CRaC checkpoint, so both capture the
+ * classes and JIT profiles of real traffic rather than of an idle server.
+ */
+final class StartupTrainingWorkload {
+
+    private static final int HTTP_OK = 200;
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+    private static final String PASSWORD = "Tr4ining!Pass";
+    private static final String JSON = "application/json";
+    private static final String CONTENT_TYPE = "Content-Type";
+    private static final String AUTHORIZATION = "Authorization";
+    private static final String HEALTH = "/health";
+
+    private final URI baseUri;
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    StartupTrainingWorkload(URI baseUri) {
+        this.baseUri = baseUri;
+    }
+
+    /**
+     * Blocks until {@code /health} answers 200.
+     */
+    void awaitHealthy() throws InterruptedException {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                if (send(get(HEALTH)).statusCode() == HTTP_OK) {
+                    return;
+                }
+            } catch (IOException ex) {
+                // Not listening yet
+            }
+            Thread.sleep(POLL_INTERVAL.toMillis());
+        }
+        throw new IllegalStateException("No successful response from " + baseUri + " within " + STARTUP_TIMEOUT);
+    }
+
+    /**
+     * Runs the workload {@code iterations} times, each with a freshly created user.
+     */
+    void run(int iterations) throws IOException, InterruptedException {
+        for (int i = 0; i < iterations; i++) {
+            String email = "training-" + UUID.randomUUID() + "@ttrack.test";
+            expectSuccess(send(get(HEALTH)));
+            expectSuccess(send(post("/user/create", String.format(
+                "{\"name\":\"Training\",\"lastname\":\"Run\",\"nickname\":\"trainer%d\"," +
+                    "\"dateBirth\":\"1990-01-01\",\"email\":\"%s\",\"password\":\"%s\"}", i, email, PASSWORD))));
+            String credentials = String.format("{\"email\":\"%s\",\"password\":\"%s\"}", email, PASSWORD);
+            expectSuccess(send(post("/auth/login", credentials)));
+            HttpResponse<String> login = expectSuccess(send(post("/auth/mobile-login", credentials)));
+            String bearer = "Bearer " + accessToken(login.body());
+            expectSuccess(send(get("/user").header(AUTHORIZATION, bearer)));
+            expectSuccess(send(get("/exercise").header(AUTHORIZATION, bearer)));
+        }
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).GET();
+    }
+
+    private HttpRequest.Builder post(String path, String json) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+            .header(CONTENT_TYPE, JSON)
+            .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static HttpResponse<String> expectSuccess(HttpResponse<String> response) {
+        if (response.statusCode() / HTTP_OK != 1) {
+            throw new IllegalStateException(
+                "Training request " + response.request().uri() + " failed with " + response.statusCode());
+        }
+        return response;
+    }
+
+    private static String accessToken(String body) {
+        Matcher matcher = ACCESS_TOKEN.matcher(body);
+        if (!matcher.find()) {
+            throw new IllegalStateException("No access token in mobile login response");
+        }
+        return matcher.group(1);
+    }
+}
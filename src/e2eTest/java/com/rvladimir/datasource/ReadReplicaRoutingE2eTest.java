@@ -0,0 +1,120 @@
+package com.rvladimir.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.service.dto.ExerciseDTO;
+import com.rvladimir.test.ReplicatedPostgresContainers;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.env.Environment;
+import io.micronaut.core.type.Argument;
+import io.micronaut.data.model.Page;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.cookie.Cookie;
+import io.micronaut.runtime.server.EmbeddedServer;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.test.support.TestPropertyProvider;
+
+import jakarta.inject.Inject;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+/**
+ * End-to-end tests for read-replica routing against a primary and a streaming-replication standby, with a second
+ * application instance for read-your-writes across instances.
+ */
+@MicronautTest(transactional = false)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReadReplicaRoutingE2eTest implements TestPropertyProvider {
+
+    private static final String ENDPOINT_EXERCISE = "/exercise";
+    private static final String TEST_NAME = "Replicated Push-ups";
+    private static final String TEST_DESCRIPTION = "Written to the primary, read from the replica";
+    private static final String TEST_IMAGE = "https://example.com/pushups.jpg";
+    private static final String STICKY_NAME = "Sticky Push-ups";
+    private static final int MAX_POLL_ATTEMPTS = 50;
+    private static final long POLL_INTERVAL_MILLIS = 100L;
+    private static final String REPLICA_PREFIX = "ttrack.datasource-routing.replicas.replica-1.";
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Inject
+    ReplicaRegistry replicaRegistry;
+
+    @Override
+    public Map<String, String> getProperties() {
+        ReplicatedPostgresContainers.start();
+        Map<String, String> properties = new HashMap<>();
+        properties.put("datasources.default.url", ReplicatedPostgresContainers.primaryJdbcUrl());
+        properties.put("datasources.default.username", ReplicatedPostgresContainers.username());
+        properties.put("datasources.default.password", ReplicatedPostgresContainers.password());
+        properties.put("datasources.default.driverClassName", "org.postgresql.Driver");
+        properties.put("ttrack.datasource-routing.enabled", "true");
+        properties.put(REPLICA_PREFIX + "url", ReplicatedPostgresContainers.replicaJdbcUrl());
+        properties.put(REPLICA_PREFIX + "username", ReplicatedPostgresContainers.username());
+        properties.put(REPLICA_PREFIX + "password", ReplicatedPostgresContainers.password());
+        return properties;
+    }
+
+    @Test
+    void testWriteOnOneInstanceKeepsTheClientsReadsOnThePrimaryOfAnother() {
+        // Given - a second instance sharing the primary and replica, as behind a load balancer
+        Map<String, Object> otherProperties = new HashMap<>(getProperties());
+        otherProperties.put("micronaut.server.port", "-1");
+        try (EmbeddedServer other = ApplicationContext.run(EmbeddedServer.class, otherProperties, Environment.TEST);
+             HttpClient otherClient = HttpClient.create(other.getURL())) {
+            ReplicaRegistry otherRegistry = other.getApplicationContext().getBean(ReplicaRegistry.class);
+            ExerciseDTO exerciseDTO = new ExerciseDTO(
+                null, STICKY_NAME, TEST_DESCRIPTION, TypeOfExercise.STRENGTH, TEST_IMAGE);
+            HttpResponse<ExerciseDTO> written = client.toBlocking()
+                .exchange(HttpRequest.POST(ENDPOINT_EXERCISE, exerciseDTO), ExerciseDTO.class);
+            Cookie lastWrite = written.getCookie(RecentWriteCookie.COOKIE_NAME).orElseThrow();
+            long replicaRoutesBefore = otherRegistry.getReplicaRoutes();
+
+            // When
+            Page<ExerciseDTO> page = otherClient.toBlocking().retrieve(
+                HttpRequest.GET(ENDPOINT_EXERCISE).cookie(lastWrite), Argument.of(Page.class, ExerciseDTO.class));
+
+            // Then - the other instance read the write from the primary, and routes the cookie-less read to the replica
+            assertThat(page.getContent()).anyMatch(dto -> STICKY_NAME.equals(dto.getName()));
+            assertThat(otherRegistry.getReplicaRoutes()).isEqualTo(replicaRoutesBefore);
+            otherClient.toBlocking().retrieve(HttpRequest.GET(ENDPOINT_EXERCISE));
+            assertThat(otherRegistry.getReplicaRoutes()).isGreaterThan(replicaRoutesBefore);
+        }
+    }
+
+    @Test
+    void testReadOnlyTransactionsAreServedByTheReplica() throws InterruptedException {
+        // Given
+        ExerciseDTO exerciseDTO = new ExerciseDTO(
+            null, TEST_NAME, TEST_DESCRIPTION, TypeOfExercise.STRENGTH, TEST_IMAGE);
+        client.toBlocking().exchange(HttpRequest.POST(ENDPOINT_EXERCISE, exerciseDTO), ExerciseDTO.class);
+        long replicaRoutesBefore = replicaRegistry.getReplicaRoutes();
+
+        // When - poll until the write has been replayed on the standby
+        boolean replicated = false;
+        for (int attempt = 0; attempt < MAX_POLL_ATTEMPTS && !replicated; attempt++) {
+            Page<ExerciseDTO> page = client.toBlocking().retrieve(
+                HttpRequest.GET(ENDPOINT_EXERCISE), Argument.of(Page.class, ExerciseDTO.class));
+            replicated = page.getContent().stream().anyMatch(dto -> TEST_NAME.equals(dto.getName()));
+            if (!replicated) {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            }
+        }
+
+        // Then
+        assertThat(replicated).isTrue();
+        assertThat(replicaRegistry.getReplicaRoutes()).isGreaterThan(replicaRoutesBefore);
+        assertThat(replicaRegistry.getReplicas()).allMatch(ReplicaPool::isHealthy);
+    }
+}
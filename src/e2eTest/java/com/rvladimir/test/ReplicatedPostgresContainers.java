@@ -0,0 +1,94 @@
+package com.rvladimir.test;
+
+import java.time.Duration;
+
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.wait.strategy.Wait;
+
+/**
+ * A PostgreSQL primary and a hot-standby replica fed by streaming replication.
+ * Used to exercise read-replica routing end to end.
+ */
+public final class ReplicatedPostgresContainers {
+
+    private static final String POSTGRES_IMAGE = "bitnami/postgresql:16";
+    private static final String PRIMARY_ALIAS = "pg-primary";
+    private static final String DATABASE_NAME = "testdb";
+    private static final String USERNAME = "testuser";
+    private static final String PASSWORD = "testpass";
+    private static final String REPLICATION_USER = "repl_user";
+    private static final String REPLICATION_PASSWORD = "repl_pass";
+    private static final int POSTGRES_PORT = 5432;
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final String REPLICATION_MODE_ENV = "POSTGRESQL_REPLICATION_MODE";
+    private static final String REPLICATION_USER_ENV = "POSTGRESQL_REPLICATION_USER";
+    private static final String REPLICATION_PASSWORD_ENV = "POSTGRESQL_REPLICATION_PASSWORD";
+    private static final String PASSWORD_ENV = "POSTGRESQL_PASSWORD";
+    private static final String READY_LOG = ".*database system is ready to accept.*connections.*\\n";
+
+    private static final Network NETWORK = Network.newNetwork();
+
+    @SuppressWarnings("resource")
+    private static final GenericContainer<?> PRIMARY = new GenericContainer<>(POSTGRES_IMAGE)
+        .withNetwork(NETWORK)
+        .withNetworkAliases(PRIMARY_ALIAS)
+        .withExposedPorts(POSTGRES_PORT)
+        .withEnv(REPLICATION_MODE_ENV, "master")
+        .withEnv(REPLICATION_USER_ENV, REPLICATION_USER)
+        .withEnv(REPLICATION_PASSWORD_ENV, REPLICATION_PASSWORD)
+        .withEnv("POSTGRESQL_USERNAME", USERNAME)
+        .withEnv(PASSWORD_ENV, PASSWORD)
+        .withEnv("POSTGRESQL_DATABASE", DATABASE_NAME)
+        .waitingFor(Wait.forLogMessage(READY_LOG, 1).withStartupTimeout(STARTUP_TIMEOUT));
+
+    @SuppressWarnings("resource")
+    private static final GenericContainer<?> REPLICA = new GenericContainer<>(POSTGRES_IMAGE)
+        .withNetwork(NETWORK)
+        .withExposedPorts(POSTGRES_PORT)
+        .dependsOn(PRIMARY)
+        .withEnv(REPLICATION_MODE_ENV, "slave")
+        .withEnv("POSTGRESQL_MASTER_HOST", PRIMARY_ALIAS)
+        .withEnv("POSTGRESQL_MASTER_PORT_NUMBER", String.valueOf(POSTGRES_PORT))
+        .withEnv(REPLICATION_USER_ENV, REPLICATION_USER)
+        .withEnv(REPLICATION_PASSWORD_ENV, REPLICATION_PASSWORD)
+        .withEnv(PASSWORD_ENV, PASSWORD)
+        .waitingFor(Wait.forLogMessage(READY_LOG, 1).withStartupTimeout(STARTUP_TIMEOUT));
+
+    private ReplicatedPostgresContainers() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Starts the primary and replica if they are not already running.
+     */
+    public static void start() {
+        if (!PRIMARY.isRunning()) {
+            PRIMARY.start();
+        }
+        if (!REPLICA.isRunning()) {
+            REPLICA.start();
+        }
+    }
+
+    public static String primaryJdbcUrl() {
+        return jdbcUrl(PRIMARY);
+    }
+
+    public static String replicaJdbcUrl() {
+        return jdbcUrl(REPLICA);
+    }
+
+    public static String username() {
+        return USERNAME;
+    }
+
+    public static String password() {
+        return PASSWORD;
+    }
+
+    private static String jdbcUrl(GenericContainer<?> container) {
+        return "jdbc:postgresql://" + container.getHost() + ":" + container.getMappedPort(POSTGRES_PORT) +
+            "/" + DATABASE_NAME;
+    }
+}
@@ -0,0 +1,95 @@
+package com.rvladimir.warmup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rvladimir.test.PostgresTestContainer;
+
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.test.support.TestPropertyProvider;
+
+import jakarta.inject.Inject;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * End-to-end tests for the startup warmup and the readiness it gates.
+ */
+@MicronautTest(transactional = false)
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StartupWarmupE2eTest implements TestPropertyProvider {
+
+    private static final int MAX_POLL_ATTEMPTS = 300;
+    private static final long POLL_INTERVAL_MILLIS = 100L;
+    private static final String WARMUP_USERS_SQL =
+        "SELECT COUNT(*) FROM ttrack.\"user\" WHERE email = '" + WarmupWorkload.WARMUP_EMAIL + "'";
+
+    @Container
+    static PostgreSQLContainer<?> postgres = PostgresTestContainer.getInstance();
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Inject
+    StartupWarmup warmup;
+
+    @Inject
+    DataSource dataSource;
+
+    @Override
+    public Map<String, String> getProperties() {
+        return Map.of(
+            "datasources.default.url", postgres.getJdbcUrl(),
+            "datasources.default.username", postgres.getUsername(),
+            "datasources.default.password", postgres.getPassword(),
+            "datasources.default.driverClassName", postgres.getDriverClassName(),
+            "ttrack.warmup.enabled", "true",
+            "ttrack.warmup.iterations", "20"
+        );
+    }
+
+    @Test
+    void testWarmupCompletesAndReadinessGoesUpWithoutPersistingData() throws Exception {
+        // Given - the warmup started with the embedded server
+
+        // When
+        for (int attempt = 0; attempt < MAX_POLL_ATTEMPTS && !warmup.isDone(); attempt++) {
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        }
+
+        // Then
+        assertThat(warmup.getStatus()).isEqualTo(StartupWarmup.Status.COMPLETED);
+        assertThat(warmup.getDuration()).isPositive();
+        HttpResponse<String> readiness = client.toBlocking()
+            .exchange(HttpRequest.GET("/health/readiness"), String.class);
+        assertThat(readiness.getStatus()).isEqualTo(HttpStatus.OK);
+        assertThat(countWarmupUsers()).isZero();
+    }
+
+    private long countWarmupUsers() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(WARMUP_USERS_SQL)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.rvladimir.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.rvladimir.analytics.AnalyticsReport;
+import com.rvladimir.domain.User;
+import com.rvladimir.repository.UserRepository;
+import com.rvladimir.service.dto.AnalyticsReportDTO;
+import com.rvladimir.service.dto.LoginDTO;
+import com.rvladimir.test.PostgresTestContainer;
+import com.rvladimir.test.TestDataFactory;
+
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.http.cookie.Cookie;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.test.support.TestPropertyProvider;
+
+import jakarta.inject.Inject;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.junit.jupiter.api.condition.EnabledInNativeImage;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * End-to-end tests for AnalyticsResource with analytics enabled. Reports run on the JVM; native images, which leave
+ * the DuckDB store out, answer 503. Run on both with {@code ./gradlew e2eTest nativeE2eTest}.
+ */
+@MicronautTest(transactional = false)
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AnalyticsResourceE2eTest implements TestPropertyProvider {
+
+    private static final String ENDPOINT_AUTH_LOGIN = "/auth/login";
+    private static final String ENDPOINT_REPORT =
+        "/analytics/reports/" + AnalyticsReport.POPULAR_EXERCISES + "?from=2026-01-01&to=2026-12-31";
+    private static final String COOKIE_NAME = "access_token";
+    private static final String TEST_EMAIL = "analytics.admin@example.com";
+    private static final String TEST_PASSWORD = "password123";
+
+    @Container
+    static PostgreSQLContainer<?> postgres = PostgresTestContainer.getInstance();
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Inject
+    UserRepository userRepository;
+
+    @Override
+    public Map<String, String> getProperties() {
+        Path store = Path.of(System.getProperty("java.io.tmpdir"),
+            "ttrack-analytics-e2e-" + ProcessHandle.current().pid(), "ttrack.duckdb");
+        return Map.of(
+            "datasources.default.url", postgres.getJdbcUrl(),
+            "datasources.default.username", postgres.getUsername(),
+            "datasources.default.password", postgres.getPassword(),
+            "datasources.default.driverClassName", postgres.getDriverClassName(),
+            "ttrack.analytics.enabled", "true",
+            "ttrack.analytics.path", store.toString()
+        );
+    }
+
+    @AfterEach
+    void cleanup() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisabledInNativeImage
+    void testReportRunsOnTheJvm() {
+        // Given
+        Cookie session = loginAsAdmin();
+
+        // When
+        HttpResponse<AnalyticsReportDTO> response = client.toBlocking()
+            .exchange(HttpRequest.GET(ENDPOINT_REPORT).cookie(session), AnalyticsReportDTO.class);
+
+        // Then
+        assertThat(response.status()).isEqualTo(HttpStatus.OK);
+        assertThat(response.body()).isNotNull();
+        assertThat(response.body().getReport()).isEqualTo(AnalyticsReport.POPULAR_EXERCISES);
+        assertThat(response.body().getColumns()).isNotEmpty();
+    }
+
+    @Test
+    @EnabledInNativeImage
+    void testReportIsUnavailableInNativeImages() {
+        // Given
+        Cookie session = loginAsAdmin();
+
+        // When / Then
+        assertThatThrownBy(() -> client.toBlocking()
+            .exchange(HttpRequest.GET(ENDPOINT_REPORT).cookie(session), AnalyticsReportDTO.class))
+            .isInstanceOfSatisfying(HttpClientResponseException.class,
+                ex -> assertThat(ex.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+    }
+
+    private Cookie loginAsAdmin() {
+        User admin = TestDataFactory.createUserWithPassword(TEST_EMAIL, TEST_PASSWORD);
+        admin.setRole(User.Role.ADMIN);
+        userRepository.save(admin);
+        HttpResponse<Void> response = client.toBlocking()
+            .exchange(HttpRequest.POST(ENDPOINT_AUTH_LOGIN, new LoginDTO(TEST_EMAIL, TEST_PASSWORD)));
+        return response.getCookies().get(COOKIE_NAME);
+    }
+}
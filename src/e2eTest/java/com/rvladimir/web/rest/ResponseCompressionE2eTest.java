@@ -0,0 +1,110 @@
+package com.rvladimir.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rvladimir.domain.Exercise;
+import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.repository.ExerciseRepository;
+import com.rvladimir.test.PostgresTestContainer;
+
+import io.micronaut.http.HttpStatus;
+import io.micronaut.runtime.server.EmbeddedServer;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.test.support.TestPropertyProvider;
+
+import jakarta.inject.Inject;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * End-to-end tests for response compression. Brotli depends on a JNI library, so the suite also runs compiled into
+ * a native test image ({@code ./gradlew nativeE2eTest}) to check the library is packaged and loads there.
+ */
+@MicronautTest(transactional = false)
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ResponseCompressionE2eTest implements TestPropertyProvider {
+
+    private static final int CATALOG_SIZE = 30;
+    private static final String CATALOG_ROUTE = "/exercise?size=" + CATALOG_SIZE;
+    private static final String ACCEPT_ENCODING = "Accept-Encoding";
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+    private static final String BROTLI = "br";
+    private static final String GZIP = "gzip";
+    private static final String TEST_EXERCISE_DESC = "Compound movement, keep a neutral spine";
+    private static final String TEST_EXERCISE_IMG = "https://cdn.example.com/exercises/compound.png";
+
+    @Container
+    static PostgreSQLContainer<?> postgres = PostgresTestContainer.getInstance();
+
+    @Inject
+    EmbeddedServer server;
+
+    @Inject
+    ExerciseRepository exerciseRepository;
+
+    private final HttpClient http = HttpClient.newHttpClient();
+
+    @Override
+    public Map<String, String> getProperties() {
+        return Map.of(
+            "datasources.default.url", postgres.getJdbcUrl(),
+            "datasources.default.username", postgres.getUsername(),
+            "datasources.default.password", postgres.getPassword(),
+            "datasources.default.driverClassName", postgres.getDriverClassName()
+        );
+    }
+
+    @BeforeAll
+    void seed() {
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            exerciseRepository.save(new Exercise(null, "Compressed exercise " + i, TEST_EXERCISE_DESC,
+                TypeOfExercise.STRENGTH, TEST_EXERCISE_IMG, LocalDateTime.now()));
+        }
+    }
+
+    @AfterAll
+    void cleanup() {
+        exerciseRepository.deleteAll();
+    }
+
+    @Test
+    void testBrotliIsUsedWhenAccepted() throws IOException, InterruptedException {
+        // When
+        HttpResponse<byte[]> response = fetch(BROTLI + ", " + GZIP);
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.getCode());
+        assertThat(response.headers().firstValue(CONTENT_ENCODING)).hasValue(BROTLI);
+    }
+
+    @Test
+    void testGzipIsUsedWhenBrotliIsNotAccepted() throws IOException, InterruptedException {
+        // When
+        HttpResponse<byte[]> response = fetch(GZIP);
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.getCode());
+        assertThat(response.headers().firstValue(CONTENT_ENCODING)).hasValue(GZIP);
+    }
+
+    private HttpResponse<byte[]> fetch(String acceptEncoding) throws IOException, InterruptedException {
+        URI uri = server.getURI().resolve(CATALOG_ROUTE);
+        HttpRequest request = HttpRequest.newBuilder(uri).header(ACCEPT_ENCODING, acceptEncoding).GET().build();
+        return http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
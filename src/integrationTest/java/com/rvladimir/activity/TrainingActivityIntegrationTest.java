@@ -0,0 +1,248 @@
+package com.rvladimir.activity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rvladimir.archive.ArchiveReader;
+import com.rvladimir.archive.TrainingSessionArchiver;
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.domain.User;
+import com.rvladimir.outbox.OutboxRelay;
+import com.rvladimir.repository.SessionExerciseRepository;
+import com.rvladimir.repository.TrainingSessionRepository;
+import com.rvladimir.repository.UserRepository;
+import com.rvladimir.repository.jdbc.SessionExerciseJdbcRepository;
+import com.rvladimir.repository.jdbc.TrainingActivityJdbcRepository;
+import com.rvladimir.repository.row.SessionExerciseRow;
+import com.rvladimir.repository.row.TrainingSessionRow;
+import com.rvladimir.service.TrainingSessionService;
+import com.rvladimir.service.dto.QuickStartIntervalDTO;
+import com.rvladimir.test.PostgresTestContainer;
+import com.rvladimir.test.TestDataFactory;
+
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.test.support.TestPropertyProvider;
+import io.micronaut.transaction.TransactionOperations;
+
+import jakarta.inject.Inject;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@MicronautTest(transactional = false)
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TrainingActivityIntegrationTest implements TestPropertyProvider {
+
+    private static final String TEST_USER_EMAIL = "activity.user@example.com";
+    private static final int WEIGHT = 3;
+    private static final int FINISHED_DAY_INTENSITY = 2;
+    private static final int ROUNDS = 4;
+    private static final int SPRINTS = 8;
+    private static final int REST_SECONDS = 20;
+    private static final LocalTime DURATION = LocalTime.of(0, 15);
+
+    @Container
+    static PostgreSQLContainer<?> postgres = PostgresTestContainer.getInstance();
+
+    @Inject
+    DataSource dataSource;
+
+    @Inject
+    TransactionOperations<Connection> transactionOperations;
+
+    @Inject
+    TrainingActivityJdbcRepository trainingActivityJdbcRepository;
+
+    @Inject
+    TrainingSessionRepository trainingSessionRepository;
+
+    @Inject
+    SessionExerciseRepository sessionExerciseRepository;
+
+    @Inject
+    SessionExerciseJdbcRepository sessionExerciseJdbcRepository;
+
+    @Inject
+    UserRepository userRepository;
+
+    @Inject
+    TrainingSessionService trainingSessionService;
+
+    @Inject
+    OutboxRelay relay;
+
+    @Inject
+    ArchiveReader archiveReader;
+
+    @Inject
+    TrainingSessionArchiver archiver;
+
+    @Override
+    public Map<String, String> getProperties() {
+        return Map.of(
+            "datasources.default.url", postgres.getJdbcUrl(),
+            "datasources.default.username", postgres.getUsername(),
+            "datasources.default.password", postgres.getPassword(),
+            "datasources.default.driverClassName", postgres.getDriverClassName(),
+            "ttrack.activity.backfill-enabled", "false",
+            "ttrack.archive.directory", Path.of(System.getProperty("java.io.tmpdir"),
+                "ttrack-activity-archive-" + ProcessHandle.current().pid()).toString()
+        );
+    }
+
+    @AfterEach
+    void cleanup() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM ttrack.training_activity");
+            statement.execute("DELETE FROM ttrack.training_activity_backfill");
+            statement.execute("DELETE FROM ttrack.archive_manifest");
+        }
+        sessionExerciseRepository.deleteAll();
+        trainingSessionRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testMarkSetsTheDayBitAndAddsToItsIntensity() {
+        // Given
+        User user = userRepository.save(TestDataFactory.createUser(TEST_USER_EMAIL));
+        LocalDate today = LocalDate.now();
+
+        // When
+        mark(user.getId(), today, 1);
+        mark(user.getId(), today, WEIGHT);
+
+        // Then
+        ActivityCalendar calendar = calendar(user.getId(), today);
+        assertThat(calendar.isActive(today)).isTrue();
+        assertThat(calendar.activeDays()).isEqualTo(1);
+        assertThat(calendar.intensities()[today.getDayOfYear() - 1]).isEqualTo(1 + WEIGHT);
+    }
+
+    @Test
+    void testBackfillRebuildsCalendarsFromTrainingSessionsOnce() {
+        // Given
+        User user = userRepository.save(TestDataFactory.createUser(TEST_USER_EMAIL));
+        LocalDateTime yesterday = LocalDateTime.now().minusDays(1);
+        LocalDateTime earlier = yesterday.minusDays(2);
+        TrainingSession finished = saveSession(user, TrainingSession.Status.FINISHED, yesterday);
+        saveFinishedExercise(finished);
+        saveSession(user, TrainingSession.Status.STARTED, earlier);
+        saveSession(user, TrainingSession.Status.IS_TEMPLATE, earlier.minusDays(1));
+        mark(user.getId(), earlier.toLocalDate().minusDays(2), 1);
+        TrainingActivityBackfill backfill = new TrainingActivityBackfill(dataSource, archiveReader);
+
+        // When
+        int written = backfill.backfill();
+
+        // Then
+        assertThat(written).isPositive();
+        assertThat(backfill.backfill()).isEqualTo(-1);
+        LocalDate yesterdayDay = yesterday.toLocalDate();
+        LocalDate earlierDay = earlier.toLocalDate();
+        assertThat(calendar(user.getId(), yesterdayDay).intensities()[yesterdayDay.getDayOfYear() - 1])
+            .isEqualTo(FINISHED_DAY_INTENSITY);
+        assertThat(calendar(user.getId(), earlierDay).isActive(earlierDay)).isTrue();
+        assertThat(calendar(user.getId(), earlierDay.minusDays(1)).isActive(earlierDay.minusDays(1))).isFalse();
+        assertThat(calendar(user.getId(), earlierDay.minusDays(2)).isActive(earlierDay.minusDays(2))).isFalse();
+    }
+
+    @Test
+    void testBackfillRebuildsCalendarsOfArchivedTrainingSessions() {
+        // Given
+        User user = userRepository.save(TestDataFactory.createUser(TEST_USER_EMAIL));
+        LocalDateTime twoYearsAgo = LocalDateTime.now().minusYears(2);
+        TrainingSession archived = saveSession(user, TrainingSession.Status.FINISHED, twoYearsAgo);
+        saveFinishedExercise(archived);
+        archiver.archive(List.of(new TrainingSessionRow(archived.getId(), archived.getName(), null,
+            TrainingSession.Status.FINISHED, user.getId(), archived.getCreatedAt())));
+
+        // When
+        new TrainingActivityBackfill(dataSource, archiveReader).backfill();
+
+        // Then
+        LocalDate day = twoYearsAgo.toLocalDate();
+        assertThat(trainingSessionRepository.findById(archived.getId())).isEmpty();
+        assertThat(calendar(user.getId(), day).intensities()[day.getDayOfYear() - 1])
+            .isEqualTo(FINISHED_DAY_INTENSITY);
+    }
+
+    @Test
+    void testQuickStartMarksItsDayOnceItsEventsAreRelayed() {
+        // Given
+        User user = userRepository.save(TestDataFactory.createUser(TEST_USER_EMAIL));
+        LocalDate day = quickStart(user);
+
+        // When
+        relay.drain();
+        relay.drain();
+
+        // Then
+        ActivityCalendar calendar = calendar(user.getId(), day);
+        assertThat(calendar.isActive(day)).isTrue();
+        assertThat(calendar.intensities()[day.getDayOfYear() - 1]).isEqualTo(1);
+    }
+
+    @Test
+    void testBackfillLeavesPendingEventsToTheSubscriber() {
+        // Given
+        User user = userRepository.save(TestDataFactory.createUser(TEST_USER_EMAIL));
+        LocalDate day = quickStart(user);
+
+        // When
+        new TrainingActivityBackfill(dataSource, archiveReader).backfill();
+        relay.drain();
+
+        // Then
+        assertThat(calendar(user.getId(), day).intensities()[day.getDayOfYear() - 1]).isEqualTo(1);
+    }
+
+    private LocalDate quickStart(User user) {
+        return trainingSessionService.quickStartInterval(new QuickStartIntervalDTO(
+                user.getId(), TypeOfExercise.HIIT, ROUNDS, SPRINTS, DURATION, REST_SECONDS, null, null))
+            .getTrainingSession().getCreatedAt().toLocalDate();
+    }
+
+    private void mark(long userId, LocalDate day, int weight) {
+        transactionOperations.executeWrite(status -> {
+            trainingActivityJdbcRepository.mark(userId, day, weight);
+            return null;
+        });
+    }
+
+    private ActivityCalendar calendar(long userId, LocalDate day) {
+        List<ActivityCalendar> calendars = transactionOperations.executeRead(status ->
+            trainingActivityJdbcRepository.findBetween(userId, day.getYear(), day.getYear()));
+        return calendars.stream().findFirst().orElseGet(() -> ActivityCalendar.empty(day.getYear()));
+    }
+
+    private TrainingSession saveSession(User user, TrainingSession.Status status, LocalDateTime createdAt) {
+        return trainingSessionRepository.save(new TrainingSession(null, "Leg Day", null, status, user, createdAt));
+    }
+
+    private void saveFinishedExercise(TrainingSession session) {
+        SessionExerciseRow row = new SessionExerciseRow();
+        row.setTrainingSessionId(session.getId());
+        row.setStatus(SessionExercise.Status.FINISHED);
+        row.setCreatedAt(session.getCreatedAt());
+        sessionExerciseJdbcRepository.save(row);
+    }
+}
@@ -0,0 +1,173 @@
+package com.rvladimir.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rvladimir.domain.Exercise;
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.domain.User;
+import com.rvladimir.repository.ExerciseRepository;
+import com.rvladimir.repository.SessionExerciseRepository;
+import com.rvladimir.repository.TrainingSessionRepository;
+import com.rvladimir.repository.UserRepository;
+import com.rvladimir.repository.jdbc.SessionExerciseJdbcRepository;
+import com.rvladimir.repository.row.SessionExerciseRow;
+import com.rvladimir.service.AnalyticsService;
+import com.rvladimir.service.dto.AnalyticsReportDTO;
+import com.rvladimir.test.PostgresTestContainer;
+import com.rvladimir.test.TestDataFactory;
+
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.test.support.TestPropertyProvider;
+
+import jakarta.inject.Inject;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@MicronautTest(transactional = false)
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AnalyticsSnapshotIntegrationTest implements TestPropertyProvider {
+
+    private static final String TEST_USER_EMAIL = "analytics.user@example.com";
+    private static final String ROWING = "Rowing Intervals";
+    private static final int ROUNDS = 8;
+    private static final int MORE_ROUNDS = 12;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = PostgresTestContainer.getInstance();
+
+    @Inject
+    DataSource dataSource;
+
+    @Inject
+    AnalyticsSnapshotJob snapshotJob;
+
+    @Inject
+    AnalyticsStore store;
+
+    @Inject
+    AnalyticsService analyticsService;
+
+    @Inject
+    ExerciseRepository exerciseRepository;
+
+    @Inject
+    TrainingSessionRepository trainingSessionRepository;
+
+    @Inject
+    SessionExerciseRepository sessionExerciseRepository;
+
+    @Inject
+    SessionExerciseJdbcRepository sessionExerciseJdbcRepository;
+
+    @Inject
+    UserRepository userRepository;
+
+    @Override
+    public Map<String, String> getProperties() {
+        try {
+            Path directory = Files.createTempDirectory("ttrack-analytics");
+            return Map.of(
+                "datasources.default.url", postgres.getJdbcUrl(),
+                "datasources.default.username", postgres.getUsername(),
+                "datasources.default.password", postgres.getPassword(),
+                "datasources.default.driverClassName", postgres.getDriverClassName(),
+                "ttrack.analytics.enabled", "true",
+                "ttrack.analytics.path", directory.resolve("analytics.duckdb").toString(),
+                "ttrack.analytics.batch-size", "2"
+            );
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @AfterEach
+    void cleanup() {
+        sessionExerciseRepository.deleteAll();
+        trainingSessionRepository.deleteAll();
+        userRepository.deleteAll();
+        exerciseRepository.deleteAll();
+    }
+
+    @Test
+    void testSnapshotCopiesInsertsUpdatesAndDeletesInPages() throws SQLException {
+        // Given
+        User user = userRepository.save(TestDataFactory.createUser(TEST_USER_EMAIL));
+        Exercise rowing = exerciseRepository.save(
+            new Exercise(null, ROWING, ROWING, TypeOfExercise.HIIT, null, LocalDateTime.now()));
+        TrainingSession session = trainingSessionRepository.save(
+            new TrainingSession(null, ROWING, null, TrainingSession.Status.FINISHED, user, LocalDateTime.now()));
+        SessionExerciseRow kept = saveExercise(session, rowing, ROUNDS);
+        SessionExerciseRow deleted = saveExercise(session, rowing, ROUNDS);
+        snapshotJob.snapshot();
+
+        // When
+        execute("UPDATE ttrack.session_exercise SET rounds = " + MORE_ROUNDS + " WHERE id = ?", kept.getId());
+        execute("DELETE FROM ttrack.session_exercise WHERE id = ?", deleted.getId());
+        snapshotJob.snapshot();
+
+        // Then
+        assertThat(count("SELECT COUNT(*) FROM training_session WHERE id = ?", session.getId())).isEqualTo(1);
+        assertThat(count("SELECT COUNT(*) FROM session_exercise WHERE training_session_id = ?", session.getId()))
+            .isEqualTo(1);
+        assertThat(count("SELECT rounds FROM session_exercise WHERE id = ?", kept.getId())).isEqualTo(MORE_ROUNDS);
+        assertThat(snapshotJob.snapshot()).isZero();
+        AnalyticsReportDTO report = analyticsService.runReport(AnalyticsReport.POPULAR_EXERCISES,
+            LocalDate.now().minusDays(1), LocalDate.now());
+        assertThat(report.getSnapshotAt()).isNotNull();
+        assertThat(report.getRows()).contains(List.of(rowing.getId(), ROWING, "HIIT", 1L, 1L));
+    }
+
+    private SessionExerciseRow saveExercise(TrainingSession session, Exercise exercise, int rounds) {
+        SessionExerciseRow row = new SessionExerciseRow();
+        row.setTrainingSessionId(session.getId());
+        row.setExerciseId(exercise.getId());
+        row.setStatus(SessionExercise.Status.FINISHED);
+        row.setTypeOfExercise(exercise.getType());
+        row.setRounds(rounds);
+        row.setCreatedAt(session.getCreatedAt());
+        return sessionExerciseJdbcRepository.save(row);
+    }
+
+    private void execute(String sql, long id) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            connection.setAutoCommit(true);
+            statement.setLong(1, id);
+            statement.executeUpdate();
+        }
+    }
+
+    private long count(String sql, long id) throws SQLException {
+        return store.read(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setLong(1, id);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getLong(1);
+                }
+            }
+        });
+    }
+}
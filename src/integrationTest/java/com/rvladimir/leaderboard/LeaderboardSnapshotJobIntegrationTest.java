@@ -0,0 +1,248 @@
+package com.rvladimir.leaderboard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rvladimir.cache.CacheInvalidationListening;
+import com.rvladimir.cache.CacheInvalidationPublisher;
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.domain.User;
+import com.rvladimir.repository.SessionExerciseRepository;
+import com.rvladimir.repository.TrainingSessionRepository;
+import com.rvladimir.repository.UserRepository;
+import com.rvladimir.repository.jdbc.SessionExerciseJdbcRepository;
+import com.rvladimir.repository.row.SessionExerciseRow;
+import com.rvladimir.service.dto.LeaderboardEntryDTO;
+import com.rvladimir.test.PostgresTestContainer;
+import com.rvladimir.test.TestDataFactory;
+
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.data.jdbc.runtime.JdbcOperations;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.test.support.TestPropertyProvider;
+
+import jakarta.inject.Inject;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@MicronautTest(transactional = false)
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LeaderboardSnapshotJobIntegrationTest implements TestPropertyProvider {
+
+    private static final String TEST_USER_EMAIL = "leaderboard.user@example.com";
+    private static final double WEIGHT = 100.0;
+    private static final double BETTER_WEIGHT = 120.0;
+    private static final double TEMPLATE_WEIGHT = 500.0;
+    private static final String BOARD = Leaderboards.typeBoard(TypeOfExercise.STRENGTH, LeaderboardMetric.WEIGHT);
+
+    @Container
+    static PostgreSQLContainer<?> postgres = PostgresTestContainer.getInstance();
+
+    @Inject
+    DataSource dataSource;
+
+    @Inject
+    JdbcOperations jdbcOperations;
+
+    @Inject
+    TrainingSessionRepository trainingSessionRepository;
+
+    @Inject
+    SessionExerciseRepository sessionExerciseRepository;
+
+    @Inject
+    SessionExerciseJdbcRepository sessionExerciseJdbcRepository;
+
+    @Inject
+    UserRepository userRepository;
+
+    @Inject
+    CacheInvalidationPublisher publisher;
+
+    @Override
+    public Map<String, String> getProperties() {
+        return Map.of(
+            "datasources.default.url", postgres.getJdbcUrl(),
+            "datasources.default.username", postgres.getUsername(),
+            "datasources.default.password", postgres.getPassword(),
+            "datasources.default.driverClassName", postgres.getDriverClassName(),
+            "ttrack.leaderboard.snapshot-enabled", "false"
+        );
+    }
+
+    @AfterEach
+    void cleanup() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM ttrack.leaderboard_entry");
+            statement.execute("DELETE FROM ttrack.leaderboard_snapshot");
+        }
+        sessionExerciseRepository.deleteAll();
+        trainingSessionRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testRestoreReplaysSessionExercisesAndSkipsTemplates() {
+        // Given
+        User user = userRepository.save(TestDataFactory.createUser(TEST_USER_EMAIL));
+        saveExercise(saveSession(user, TrainingSession.Status.FINISHED), WEIGHT);
+        saveExercise(saveSession(user, TrainingSession.Status.IS_TEMPLATE), TEMPLATE_WEIGHT);
+        Leaderboards leaderboards = leaderboards();
+
+        // When
+        job(leaderboards, null).restore();
+
+        // Then
+        assertThat(leaderboards.board(BOARD).flatMap(board -> board.entry(user.getId())))
+            .map(LeaderboardEntryDTO::getScore)
+            .contains(WEIGHT);
+    }
+
+    @Test
+    void testSnapshotIsRestoredByTheNextInstance() {
+        // Given
+        User user = userRepository.save(TestDataFactory.createUser(TEST_USER_EMAIL));
+        saveExercise(saveSession(user, TrainingSession.Status.FINISHED), WEIGHT);
+        Leaderboards leaderboards = leaderboards();
+        LeaderboardSnapshotJob job = job(leaderboards, null);
+        job.restore();
+        leaderboards.apply(scoreKey(user.getId(), BETTER_WEIGHT));
+
+        // When
+        job.snapshot();
+        Leaderboards restarted = leaderboards();
+        job(restarted, null).restore();
+
+        // Then
+        assertThat(leaderboards.drainUnsaved()).isEmpty();
+        assertThat(restarted.board(BOARD).flatMap(board -> board.entry(user.getId())))
+            .map(LeaderboardEntryDTO::getScore)
+            .contains(BETTER_WEIGHT);
+    }
+
+    @Test
+    void testSnapshotDropsScoresOfMissingUsers() throws SQLException {
+        // Given
+        User user = userRepository.save(TestDataFactory.createUser(TEST_USER_EMAIL));
+        Leaderboards leaderboards = leaderboards();
+        LeaderboardSnapshotJob job = job(leaderboards, null);
+        job.restore();
+        leaderboards.apply(scoreKey(user.getId(), WEIGHT));
+        leaderboards.apply(scoreKey(user.getId() + 1, WEIGHT));
+
+        // When
+        job.snapshot();
+
+        // Then
+        assertThat(leaderboards.drainUnsaved()).isEmpty();
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT user_id FROM ttrack.leaderboard_entry")) {
+            assertThat(resultSet.next()).isTrue();
+            assertThat(resultSet.getLong(1)).isEqualTo(user.getId());
+            assertThat(resultSet.next()).isFalse();
+        }
+    }
+
+    @Test
+    void testSnapshotsWaitWhileNotListeningAndMissedScoresAreCaughtUp() throws SQLException {
+        // Given
+        User user = userRepository.save(TestDataFactory.createUser(TEST_USER_EMAIL));
+        Leaderboards leaderboards = leaderboards();
+        LeaderboardSnapshotJob job = job(leaderboards, publisher);
+        job.restore();
+        leaderboards.apply(scoreKey(user.getId(), WEIGHT));
+        job.onListening(new CacheInvalidationListening(false));
+        saveExercise(saveSession(user, TrainingSession.Status.FINISHED), BETTER_WEIGHT);
+
+        // When
+        job.snapshot();
+        job.onListening(new CacheInvalidationListening(true));
+
+        // Then
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT 1 FROM ttrack.leaderboard_snapshot")) {
+            assertThat(resultSet.next()).isFalse();
+        }
+        assertThat(leaderboards.board(BOARD).flatMap(board -> board.entry(user.getId())))
+            .map(LeaderboardEntryDTO::getScore)
+            .contains(BETTER_WEIGHT);
+    }
+
+    @Test
+    void testOnlyBroadcastingInstancesAdvanceTheWatermarkOnTheDatabaseClock() throws SQLException {
+        // Given
+        User user = userRepository.save(TestDataFactory.createUser(TEST_USER_EMAIL));
+        Leaderboards local = leaderboards();
+        LeaderboardSnapshotJob localJob = job(local, null);
+        localJob.restore();
+        local.apply(scoreKey(user.getId(), WEIGHT));
+        Leaderboards broadcast = leaderboards();
+        LeaderboardSnapshotJob broadcastJob = job(broadcast, publisher);
+        broadcastJob.restore();
+
+        // When
+        localJob.snapshot();
+        LocalDateTime afterLocal = databaseNow();
+        broadcastJob.snapshot();
+        LocalDateTime afterBroadcast = databaseNow();
+
+        // Then
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT taken_at FROM ttrack.leaderboard_snapshot")) {
+            assertThat(resultSet.next()).isTrue();
+            assertThat(resultSet.getTimestamp(1).toLocalDateTime()).isBetween(afterLocal, afterBroadcast);
+            assertThat(resultSet.next()).isFalse();
+        }
+    }
+
+    private LocalDateTime databaseNow() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT LOCALTIMESTAMP")) {
+            resultSet.next();
+            return resultSet.getTimestamp(1).toLocalDateTime();
+        }
+    }
+
+    private LeaderboardSnapshotJob job(Leaderboards leaderboards, CacheInvalidationPublisher broadcaster) {
+        return new LeaderboardSnapshotJob(dataSource, leaderboards, new LeaderboardConfiguration(), broadcaster);
+    }
+
+    private static String scoreKey(long userId, double score) {
+        return String.join(";", BOARD, String.valueOf(userId), String.valueOf(score));
+    }
+
+    private Leaderboards leaderboards() {
+        return new Leaderboards(jdbcOperations, null, ApplicationEventPublisher.noOp());
+    }
+
+    private TrainingSession saveSession(User user, TrainingSession.Status status) {
+        return trainingSessionRepository.save(
+            new TrainingSession(null, "Push Day", null, status, user, LocalDateTime.now()));
+    }
+
+    private void saveExercise(TrainingSession session, double weight) {
+        SessionExerciseRow row = new SessionExerciseRow();
+        row.setTrainingSessionId(session.getId());
+        row.setStatus(SessionExercise.Status.FINISHED);
+        row.setTypeOfExercise(TypeOfExercise.STRENGTH);
+        row.setWeight(weight);
+        row.setCreatedAt(LocalDateTime.now());
+        sessionExerciseJdbcRepository.save(row);
+    }
+}
@@ -0,0 +1,255 @@
+package com.rvladimir.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.rvladimir.archive.ArchiveReader;
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.domain.User;
+import com.rvladimir.outbox.OutboxRelay;
+import com.rvladimir.repository.SessionExerciseRepository;
+import com.rvladimir.repository.TrainingSessionRepository;
+import com.rvladimir.repository.UserRepository;
+import com.rvladimir.repository.jdbc.SessionExerciseJdbcRepository;
+import com.rvladimir.repository.jdbc.TrainingLoadJdbcRepository;
+import com.rvladimir.repository.row.SessionExerciseRow;
+import com.rvladimir.repository.row.TrainingLoadRow;
+import com.rvladimir.service.TrainingSessionService;
+import com.rvladimir.service.dto.QuickStartIntervalDTO;
+import com.rvladimir.test.PostgresTestContainer;
+import com.rvladimir.test.TestDataFactory;
+
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.test.support.TestPropertyProvider;
+import io.micronaut.transaction.TransactionOperations;
+
+import jakarta.inject.Inject;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@MicronautTest(transactional = false)
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TrainingLoadIntegrationTest implements TestPropertyProvider {
+
+    private static final String TEST_USER_EMAIL = "load.user@example.com";
+    private static final Offset<Double> PRECISION = within(1e-9);
+    private static final int DAYS_AGO = 10;
+    private static final int LATER_DAY = 4;
+    private static final int BACK_DATED_DAY = 2;
+    private static final int DAYS = 3;
+    private static final int TEN_MINUTES = 10;
+    private static final int TWENTY_FIVE_MINUTES = 25;
+    private static final int FORTY_MINUTES = 40;
+    private static final int ROUNDS = 6;
+    private static final int SPRINTS = 12;
+    private static final int REST_SECONDS = 30;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = PostgresTestContainer.getInstance();
+
+    @Inject
+    DataSource dataSource;
+
+    @Inject
+    TransactionOperations<Connection> transactionOperations;
+
+    @Inject
+    TrainingLoads trainingLoads;
+
+    @Inject
+    TrainingLoadModel model;
+
+    @Inject
+    TrainingLoadJdbcRepository trainingLoadJdbcRepository;
+
+    @Inject
+    TrainingSessionRepository trainingSessionRepository;
+
+    @Inject
+    SessionExerciseRepository sessionExerciseRepository;
+
+    @Inject
+    SessionExerciseJdbcRepository sessionExerciseJdbcRepository;
+
+    @Inject
+    UserRepository userRepository;
+
+    @Inject
+    TrainingSessionService trainingSessionService;
+
+    @Inject
+    OutboxRelay relay;
+
+    @Inject
+    ArchiveReader archiveReader;
+
+    @Override
+    public Map<String, String> getProperties() {
+        return Map.of(
+            "datasources.default.url", postgres.getJdbcUrl(),
+            "datasources.default.username", postgres.getUsername(),
+            "datasources.default.password", postgres.getPassword(),
+            "datasources.default.driverClassName", postgres.getDriverClassName(),
+            "ttrack.training-load.backfill-enabled", "false"
+        );
+    }
+
+    @AfterEach
+    void cleanup() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM ttrack.training_load");
+            statement.execute("DELETE FROM ttrack.training_load_backfill");
+        }
+        sessionExerciseRepository.deleteAll();
+        trainingSessionRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testLoadsRecordedOutOfOrderMatchLoadsReplayedInOrder() {
+        // Given
+        User user = userRepository.save(TestDataFactory.createUser(TEST_USER_EMAIL));
+        LocalDate first = LocalDate.now().minusDays(DAYS_AGO);
+        LocalDate backDated = first.plusDays(BACK_DATED_DAY);
+        LocalDate later = first.plusDays(LATER_DAY);
+
+        // When
+        record(user.getId(), first, minutes(TEN_MINUTES));
+        record(user.getId(), later, minutes(FORTY_MINUTES));
+        record(user.getId(), backDated, minutes(TWENTY_FIVE_MINUTES));
+        record(user.getId(), first, minutes(TEN_MINUTES));
+
+        // Then
+        TrainingLoadRow expectedFirst = model.next(null, user.getId(), first, 2 * TEN_MINUTES);
+        TrainingLoadRow expectedBackDated = model.next(expectedFirst, user.getId(), backDated, TWENTY_FIVE_MINUTES);
+        TrainingLoadRow expectedLater = model.next(expectedBackDated, user.getId(), later, FORTY_MINUTES);
+        List<TrainingLoadRow> stored = stored(user.getId(), first, later);
+        assertThat(stored).hasSize(DAYS);
+        assertMatches(stored.get(0), expectedFirst);
+        assertMatches(stored.get(1), expectedBackDated);
+        assertMatches(stored.get(2), expectedLater);
+    }
+
+    @Test
+    void testBackfillReplaysSessionExercisesOnce() {
+        // Given
+        User user = userRepository.save(TestDataFactory.createUser(TEST_USER_EMAIL));
+        LocalDateTime startedAt = LocalDateTime.now().minusDays(DAYS_AGO);
+        TrainingSession session = saveSession(user, TrainingSession.Status.FINISHED, startedAt);
+        saveExercise(session, SessionExercise.Status.FINISHED, TEN_MINUTES);
+        saveExercise(session, SessionExercise.Status.IN_PROGRESS, TWENTY_FIVE_MINUTES);
+        saveExercise(session, SessionExercise.Status.NOT_FINISHED, FORTY_MINUTES);
+        TrainingSession template = saveSession(user, TrainingSession.Status.IS_TEMPLATE, startedAt.plusDays(1));
+        saveExercise(template, SessionExercise.Status.FINISHED, FORTY_MINUTES);
+        TrainingLoadBackfill backfill = new TrainingLoadBackfill(dataSource, model, archiveReader);
+
+        // When
+        int written = backfill.backfill();
+
+        // Then
+        assertThat(written).isEqualTo(1);
+        assertThat(backfill.backfill()).isEqualTo(-1);
+        LocalDate day = startedAt.toLocalDate();
+        List<TrainingLoadRow> stored = stored(user.getId(), day, day.plusDays(1));
+        assertThat(stored).hasSize(1);
+        assertMatches(stored.get(0), model.next(null, user.getId(), day, TEN_MINUTES + TWENTY_FIVE_MINUTES));
+    }
+
+    @Test
+    void testQuickStartAndTemplateCopyLoadsMatchTheBackfill() {
+        // Given
+        User user = userRepository.save(TestDataFactory.createUser(TEST_USER_EMAIL));
+        long sessionId = trainingSessionService.quickStartInterval(new QuickStartIntervalDTO(user.getId(),
+            TypeOfExercise.HIIT, ROUNDS, SPRINTS, LocalTime.of(0, TEN_MINUTES), REST_SECONDS, null, null))
+            .getTrainingSession().getId();
+        long templateId = trainingSessionService.saveAsTemplate(user.getId(), sessionId).getTrainingSession().getId();
+        trainingSessionService.startFromTemplate(user.getId(), templateId);
+        relay.drain();
+        LocalDate today = LocalDate.now();
+        List<TrainingLoadRow> incremental = stored(user.getId(), today, today);
+
+        // When
+        new TrainingLoadBackfill(dataSource, model, archiveReader).backfill();
+
+        // Then
+        assertThat(incremental).hasSize(1);
+        assertThat(incremental.get(0).getLoad()).isCloseTo(2.0 * ROUNDS * TEN_MINUTES, PRECISION);
+        List<TrainingLoadRow> backfilled = stored(user.getId(), today, today);
+        assertThat(backfilled).hasSize(1);
+        assertMatches(incremental.get(0), backfilled.get(0));
+    }
+
+    @Test
+    void testBackfillLeavesPendingEventsToTheSubscriber() {
+        // Given
+        User user = userRepository.save(TestDataFactory.createUser(TEST_USER_EMAIL));
+        trainingSessionService.quickStartInterval(new QuickStartIntervalDTO(user.getId(), TypeOfExercise.HIIT, ROUNDS,
+            SPRINTS, LocalTime.of(0, TEN_MINUTES), REST_SECONDS, null, null));
+        LocalDate today = LocalDate.now();
+
+        // When
+        new TrainingLoadBackfill(dataSource, model, archiveReader).backfill();
+        relay.drain();
+
+        // Then
+        List<TrainingLoadRow> stored = stored(user.getId(), today, today);
+        assertThat(stored).hasSize(1);
+        assertThat(stored.get(0).getLoad()).isCloseTo((double) ROUNDS * TEN_MINUTES, PRECISION);
+    }
+
+    private void record(long userId, LocalDate day, SessionExerciseRow row) {
+        transactionOperations.executeWrite(status -> {
+            trainingLoads.record(userId, day, row);
+            return null;
+        });
+    }
+
+    private List<TrainingLoadRow> stored(long userId, LocalDate from, LocalDate to) {
+        return transactionOperations.executeRead(status -> trainingLoadJdbcRepository.findBetween(userId, from, to));
+    }
+
+    private static void assertMatches(TrainingLoadRow actual, TrainingLoadRow expected) {
+        assertThat(actual.getDay()).isEqualTo(expected.getDay());
+        assertThat(actual.getLoad()).isCloseTo(expected.getLoad(), PRECISION);
+        assertThat(actual.getAcute()).isCloseTo(expected.getAcute(), PRECISION);
+        assertThat(actual.getChronic()).isCloseTo(expected.getChronic(), PRECISION);
+    }
+
+    private static SessionExerciseRow minutes(int minutes) {
+        SessionExerciseRow row = new SessionExerciseRow();
+        row.setDuration(LocalTime.of(0, minutes));
+        return row;
+    }
+
+    private TrainingSession saveSession(User user, TrainingSession.Status status, LocalDateTime createdAt) {
+        return trainingSessionRepository.save(new TrainingSession(null, "Conditioning", null, status, user, createdAt));
+    }
+
+    private void saveExercise(TrainingSession session, SessionExercise.Status status, int minutes) {
+        SessionExerciseRow row = minutes(minutes);
+        row.setTrainingSessionId(session.getId());
+        row.setStatus(status);
+        row.setCreatedAt(session.getCreatedAt());
+        sessionExerciseJdbcRepository.save(row);
+    }
+}
@@ -0,0 +1,109 @@
+package com.rvladimir.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rvladimir.test.PostgresTestContainer;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.env.Environment;
+import io.micronaut.flyway.FlywayConfigurationProperties;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.test.support.TestPropertyProvider;
+
+import jakarta.inject.Inject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@MicronautTest(transactional = false)
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MigrationFingerprintIntegrationTest implements TestPropertyProvider {
+
+    private static final int SHA_256_HEX_LENGTH = 64;
+    private static final String ROLE_PROPERTY = "ttrack.migration.role";
+    private static final String HISTORY_SQL =
+        "SELECT count(*) || '/' || max(installed_rank) FROM flyway_schema_history";
+    private static final String RECORDED_AT_SQL =
+        "SELECT recorded_at::text FROM ttrack.migration_fingerprint WHERE id = 1";
+
+    @Container
+    static PostgreSQLContainer<?> postgres = PostgresTestContainer.getInstance();
+
+    @Inject
+    DataSource dataSource;
+
+    @Override
+    public Map<String, String> getProperties() {
+        return Map.of(
+            "datasources.default.url", postgres.getJdbcUrl(),
+            "datasources.default.username", postgres.getUsername(),
+            "datasources.default.password", postgres.getPassword(),
+            "datasources.default.driverClassName", postgres.getDriverClassName(),
+            ROLE_PROPERTY, "MIGRATOR"
+        );
+    }
+
+    @Test
+    void testMigratorRecordsTheBuildFingerprint() throws IOException {
+        // Given
+        String buildFingerprint;
+        try (InputStream in = getClass().getClassLoader()
+            .getResourceAsStream(MigrationFingerprintGate.FINGERPRINT_RESOURCE)) {
+            assertThat(in).as("generated by the migrationFingerprint task").isNotNull();
+            buildFingerprint = new String(in.readAllBytes(), StandardCharsets.UTF_8).trim();
+        }
+
+        // When
+        String recorded = MigrationFingerprintGate.recordedFingerprint(dataSource).orElse(null);
+
+        // Then
+        assertThat(buildFingerprint).hasSize(SHA_256_HEX_LENGTH);
+        assertThat(recorded).isEqualTo(buildFingerprint);
+    }
+
+    @Test
+    void testFollowerSkipsFlywayWhenTheFingerprintMatches() throws SQLException {
+        // Given - this context migrated the schema; a follower built from the same migration set starts against it
+        String historyBefore = query(HISTORY_SQL);
+        String recordedAtBefore = query(RECORDED_AT_SQL);
+        Map<String, Object> followerProperties = new HashMap<>(getProperties());
+        followerProperties.put(ROLE_PROPERTY, "FOLLOWER");
+        followerProperties.put("ttrack.migration.await-timeout", "1s");
+
+        // When
+        try (ApplicationContext follower = ApplicationContext.run(followerProperties, Environment.TEST)) {
+            follower.getBean(DataSource.class);
+
+            // Then - Flyway stayed off, so neither the schema history nor the afterMigrate callback wrote anything
+            assertThat(follower.getBeansOfType(FlywayConfigurationProperties.class))
+                .noneMatch(FlywayConfigurationProperties::isEnabled);
+        }
+        assertThat(query(HISTORY_SQL)).isEqualTo(historyBefore);
+        assertThat(query(RECORDED_AT_SQL)).isEqualTo(recordedAtBefore);
+    }
+
+    private String query(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package com.rvladimir.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.domain.User;
+import com.rvladimir.repository.SessionExerciseRepository;
+import com.rvladimir.repository.TrainingSessionRepository;
+import com.rvladimir.repository.UserRepository;
+import com.rvladimir.repository.jdbc.OutboxJdbcRepository;
+import com.rvladimir.service.TrainingSessionService;
+import com.rvladimir.service.dto.QuickStartIntervalDTO;
+import com.rvladimir.service.dto.QuickStartIntervalResponseDTO;
+import com.rvladimir.test.PostgresTestContainer;
+import com.rvladimir.test.TestDataFactory;
+
+import io.micronaut.test.annotation.MockBean;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.test.support.TestPropertyProvider;
+import io.micronaut.transaction.TransactionOperations;
+
+import jakarta.inject.Inject;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.mockito.ArgumentCaptor;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@MicronautTest(transactional = false)
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class OutboxRelayIntegrationTest implements TestPropertyProvider {
+
+    private static final String TEST_USER_EMAIL = "outbox.user@example.com";
+    private static final int ROUNDS = 8;
+    private static final int SPRINTS = 20;
+    private static final int REST_SECONDS = 10;
+    private static final LocalTime DURATION = LocalTime.of(0, 20);
+    private static final long CONTENDED_AGGREGATE_ID = 9_000_001L;
+    private static final long OTHER_AGGREGATE_ID = 9_000_002L;
+    private static final long WAIT_MILLIS = 500L;
+    private static final String EMPTY_PAYLOAD = "{}";
+    private static final int MAX_ATTEMPTS = 2;
+    private static final String SINK_FAILURE = "Sink unavailable";
+    private static final String SEPARATOR = "/";
+    private static final int LAST_ERROR_COLUMN = 3;
+    private static final String DEAD_LETTER_SQL =
+        "SELECT event_type, attempts, last_error FROM ttrack.outbox_dead_letter WHERE aggregate_id = ? ORDER BY id";
+    private static final String PENDING_SQL =
+        "SELECT event_type, attempts FROM ttrack.outbox_event WHERE aggregate_id = ? ORDER BY id";
+
+    @Container
+    static PostgreSQLContainer<?> postgres = PostgresTestContainer.getInstance();
+
+    @Inject
+    DataSource dataSource;
+
+    @Inject
+    OutboxRelay relay;
+
+    @Inject
+    OutboxSink sink;
+
+    @Inject
+    TrainingSessionService trainingSessionService;
+
+    @Inject
+    TrainingSessionRepository trainingSessionRepository;
+
+    @Inject
+    SessionExerciseRepository sessionExerciseRepository;
+
+    @Inject
+    UserRepository userRepository;
+
+    @Inject
+    OutboxJdbcRepository outboxJdbcRepository;
+
+    @Inject
+    TransactionOperations<Connection> transactionOperations;
+
+    @MockBean(SubscriberOutboxSink.class)
+    OutboxSink sink() {
+        return mock(OutboxSink.class);
+    }
+
+    @Override
+    public Map<String, String> getProperties() {
+        return Map.of(
+            "datasources.default.url", postgres.getJdbcUrl(),
+            "datasources.default.username", postgres.getUsername(),
+            "datasources.default.password", postgres.getPassword(),
+            "datasources.default.driverClassName", postgres.getDriverClassName(),
+            "ttrack.outbox.poll-interval", "1h",
+            "ttrack.outbox.max-attempts", String.valueOf(MAX_ATTEMPTS)
+        );
+    }
+
+    @BeforeEach
+    void clearOutbox() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            connection.setAutoCommit(true);
+            statement.executeUpdate("DELETE FROM ttrack.outbox_event");
+            statement.executeUpdate("DELETE FROM ttrack.outbox_dead_letter");
+        }
+    }
+
+    @AfterEach
+    void cleanup() {
+        sessionExerciseRepository.deleteAll();
+        trainingSessionRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testEventsAreWrittenWithTheWriteAndRelayedInOrder() throws SQLException {
+        // Given
+        User user = userRepository.save(TestDataFactory.createUser(TEST_USER_EMAIL));
+        long sessionId = quickStart(user).getTrainingSession().getId();
+        assertThat(pending(sessionId)).containsExactly(
+            entry(OutboxEventType.TRAINING_SESSION_CREATED, 0), entry(OutboxEventType.SESSION_EXERCISE_SAVED, 0));
+
+        // When
+        relay.drain();
+
+        // Then
+        ArgumentCaptor<OutboxEvent> delivered = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(sink, atLeastOnce()).deliver(delivered.capture());
+        List<OutboxEvent> events = delivered.getAllValues().stream()
+            .filter(event -> event.getAggregateId() == sessionId)
+            .toList();
+        assertThat(events).extracting(OutboxEvent::getEventType).containsExactly(
+            OutboxEventType.TRAINING_SESSION_CREATED.name(), OutboxEventType.SESSION_EXERCISE_SAVED.name());
+        assertThat(events).extracting(OutboxEvent::getAggregateType).containsOnly(Outbox.TRAINING_SESSION);
+        assertThat(events.get(1).getPayload()).contains("\"userId\":" + user.getId());
+        assertThat(pending(sessionId)).isEmpty();
+    }
+
+    @Test
+    void testFailedEventHoldsBackOnlyItsOwnSession() throws SQLException {
+        // Given
+        User user = userRepository.save(TestDataFactory.createUser(TEST_USER_EMAIL));
+        long failing = quickStart(user).getTrainingSession().getId();
+        long healthy = quickStart(user).getTrainingSession().getId();
+        failDeliveries(failing);
+
+        // When
+        relay.drain();
+
+        // Then
+        assertThat(pending(healthy)).isEmpty();
+        List<String> held = pending(failing);
+        assertThat(held).hasSize(2);
+        assertThat(held.get(0)).startsWith(OutboxEventType.TRAINING_SESSION_CREATED.name())
+            .isNotEqualTo(entry(OutboxEventType.TRAINING_SESSION_CREATED, 0));
+        assertThat(held.get(1)).isEqualTo(entry(OutboxEventType.SESSION_EXERCISE_SAVED, 0));
+    }
+
+    @Test
+    void testExhaustedEventIsMovedToDeadLetterAndReleasesItsSession() throws SQLException {
+        // Given
+        User user = userRepository.save(TestDataFactory.createUser(TEST_USER_EMAIL));
+        long failing = quickStart(user).getTrainingSession().getId();
+        failDeliveries(failing);
+        relay.drain();
+
+        // When
+        relay.drain();
+
+        // Then
+        assertThat(deadLetters(failing)).containsExactly(entry(OutboxEventType.TRAINING_SESSION_CREATED, MAX_ATTEMPTS) +
+            SEPARATOR + new IllegalStateException(SINK_FAILURE));
+        assertThat(pending(failing)).containsExactly(entry(OutboxEventType.SESSION_EXERCISE_SAVED, 1));
+    }
+
+    @Test
+    void testConcurrentWritersOfAnAggregateDrawIdsInCommitOrder() throws Exception {
+        // Given
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> transactionOperations.executeWrite(status -> {
+            insert(CONTENDED_AGGREGATE_ID, OutboxEventType.TRAINING_SESSION_CREATED);
+            inserted.countDown();
+            await(release);
+            return null;
+        }));
+        assertThat(inserted.await(1, TimeUnit.MINUTES)).isTrue();
+
+        // When
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> transactionOperations.executeWrite(status -> {
+            insert(CONTENDED_AGGREGATE_ID, OutboxEventType.SESSION_EXERCISE_SAVED);
+            return null;
+        }));
+        transactionOperations.executeWrite(status -> {
+            insert(OTHER_AGGREGATE_ID, OutboxEventType.TRAINING_SESSION_CREATED);
+            return null;
+        });
+
+        // Then
+        assertThatThrownBy(() -> second.get(WAIT_MILLIS, TimeUnit.MILLISECONDS))
+            .isInstanceOf(TimeoutException.class);
+        assertThat(pending(OTHER_AGGREGATE_ID)).containsExactly(entry(OutboxEventType.TRAINING_SESSION_CREATED, 0));
+        release.countDown();
+        first.get(1, TimeUnit.MINUTES);
+        second.get(1, TimeUnit.MINUTES);
+        assertThat(pending(CONTENDED_AGGREGATE_ID)).containsExactly(
+            entry(OutboxEventType.TRAINING_SESSION_CREATED, 0), entry(OutboxEventType.SESSION_EXERCISE_SAVED, 0));
+    }
+
+    private void insert(long aggregateId, OutboxEventType type) {
+        outboxJdbcRepository.insert(Outbox.TRAINING_SESSION, aggregateId, type.name(), EMPTY_PAYLOAD);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.MINUTES);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private void failDeliveries(long sessionId) {
+        doThrow(new IllegalStateException(SINK_FAILURE))
+            .when(sink).deliver(argThat(event -> event != null && event.getAggregateId() == sessionId));
+    }
+
+    private QuickStartIntervalResponseDTO quickStart(User user) {
+        return trainingSessionService.quickStartInterval(new QuickStartIntervalDTO(
+            user.getId(), TypeOfExercise.HIIT, ROUNDS, SPRINTS, DURATION, REST_SECONDS, null, null));
+    }
+
+    /**
+     * Pending events of a session, oldest first, as {@code eventType/attempts}.
+     */
+    private List<String> pending(long sessionId) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(PENDING_SQL)) {
+            connection.setAutoCommit(true);
+            statement.setLong(1, sessionId);
+            List<String> events = new ArrayList<>();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    events.add(entry(OutboxEventType.valueOf(resultSet.getString(1)), resultSet.getInt(2)));
+                }
+            }
+            return events;
+        }
+    }
+
+    /**
+     * Dead letters of a session, oldest first, as {@code eventType/attempts/lastError}.
+     */
+    private List<String> deadLetters(long sessionId) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(DEAD_LETTER_SQL)) {
+            connection.setAutoCommit(true);
+            statement.setLong(1, sessionId);
+            List<String> events = new ArrayList<>();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    events.add(entry(OutboxEventType.valueOf(resultSet.getString(1)), resultSet.getInt(2)) +
+                        SEPARATOR + resultSet.getString(LAST_ERROR_COLUMN));
+                }
+            }
+            return events;
+        }
+    }
+
+    private static String entry(OutboxEventType type, int attempts) {
+        return type + SEPARATOR + attempts;
+    }
+}
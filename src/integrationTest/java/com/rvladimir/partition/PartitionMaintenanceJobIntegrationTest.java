@@ -0,0 +1,195 @@
+package com.rvladimir.partition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.domain.User;
+import com.rvladimir.repository.SessionExerciseRepository;
+import com.rvladimir.repository.TrainingSessionRepository;
+import com.rvladimir.repository.UserRepository;
+import com.rvladimir.repository.jdbc.SessionExerciseJdbcRepository;
+import com.rvladimir.repository.row.SessionExerciseRow;
+import com.rvladimir.test.PostgresTestContainer;
+import com.rvladimir.test.TestDataFactory;
+
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.test.support.TestPropertyProvider;
+
+import jakarta.inject.Inject;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@MicronautTest(transactional = false)
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PartitionMaintenanceJobIntegrationTest implements TestPropertyProvider {
+
+    private static final YearMonth FAR_FUTURE = YearMonth.of(2099, 1);
+    private static final YearMonth UNARCHIVED = YearMonth.of(2098, 1);
+    private static final int SESSION_DAY = 10;
+    private static final int PREMAKE_MONTHS = 2;
+    private static final int RETAIN_MONTHS = 1;
+    private static final String ARCHIVE_SCHEMA = "ttrack_archive";
+
+    @Container
+    static PostgreSQLContainer<?> postgres = PostgresTestContainer.getInstance();
+
+    @Inject
+    DataSource dataSource;
+
+    @Inject
+    UserRepository userRepository;
+
+    @Inject
+    TrainingSessionRepository trainingSessionRepository;
+
+    @Inject
+    SessionExerciseRepository sessionExerciseRepository;
+
+    @Inject
+    SessionExerciseJdbcRepository sessionExerciseJdbcRepository;
+
+    @Override
+    public Map<String, String> getProperties() {
+        return Map.of(
+            "datasources.default.url", postgres.getJdbcUrl(),
+            "datasources.default.username", postgres.getUsername(),
+            "datasources.default.password", postgres.getPassword(),
+            "datasources.default.driverClassName", postgres.getDriverClassName(),
+            "ttrack.partitioning.enabled", "false"
+        );
+    }
+
+    @AfterEach
+    void cleanup() {
+        sessionExerciseRepository.deleteAll();
+        trainingSessionRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testSessionExerciseIsPartitionedByCreatedAt() throws SQLException {
+        // When
+        List<String> strategy = query(
+            "SELECT partstrat::text FROM pg_partitioned_table WHERE partrelid = 'ttrack.session_exercise'::regclass");
+
+        // Then
+        assertThat(strategy).containsExactly("r");
+    }
+
+    @Test
+    void testMaintainCreatesFuturePartitionsAndDetachesExpiredOnes() throws SQLException {
+        // Given
+        PartitioningConfiguration configuration = new PartitioningConfiguration();
+        configuration.setPremakeMonths(PREMAKE_MONTHS);
+        Clock clock = Clock.fixed(FAR_FUTURE.atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        PartitionMaintenanceJob job = new PartitionMaintenanceJob(dataSource, configuration, clock);
+
+        // When
+        maintain(job);
+
+        // Then
+        assertThat(attachedPartitions()).contains(
+            SessionExercisePartitions.partitionName(FAR_FUTURE),
+            SessionExercisePartitions.partitionName(FAR_FUTURE.plusMonths(PREMAKE_MONTHS)));
+
+        // Given
+        configuration.setRetainMonths(RETAIN_MONTHS);
+        Instant later = FAR_FUTURE.plusMonths(PREMAKE_MONTHS).atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+        PartitionMaintenanceJob laterJob = new PartitionMaintenanceJob(
+            dataSource, configuration, Clock.fixed(later, ZoneOffset.UTC));
+
+        // When
+        maintain(laterJob);
+
+        // Then
+        String expired = SessionExercisePartitions.partitionName(FAR_FUTURE);
+        assertThat(attachedPartitions()).doesNotContain(expired);
+        assertThat(query("SELECT table_name FROM information_schema.tables WHERE table_schema = '" +
+            ARCHIVE_SCHEMA + "'")).contains(expired);
+    }
+
+    @Test
+    void testMaintainKeepsExpiredPartitionsHoldingUnarchivedRows() throws SQLException {
+        // Given
+        PartitioningConfiguration configuration = new PartitioningConfiguration();
+        configuration.setPremakeMonths(0);
+        maintain(new PartitionMaintenanceJob(dataSource, configuration, clockAt(UNARCHIVED)));
+        User user = userRepository.save(TestDataFactory.createUser("partition.user@example.com"));
+        LocalDateTime createdAt = UNARCHIVED.atDay(SESSION_DAY).atStartOfDay();
+        saveExercise(saveSession(user, TrainingSession.Status.STARTED, createdAt));
+        saveExercise(saveSession(user, TrainingSession.Status.IS_TEMPLATE, createdAt));
+        configuration.setRetainMonths(RETAIN_MONTHS);
+        PartitionMaintenanceJob laterJob = new PartitionMaintenanceJob(
+            dataSource, configuration, clockAt(UNARCHIVED.plusMonths(PREMAKE_MONTHS)));
+
+        // When
+        maintain(laterJob);
+
+        // Then
+        String partition = SessionExercisePartitions.partitionName(UNARCHIVED);
+        assertThat(attachedPartitions()).contains(partition);
+        assertThat(query("SELECT count(*) FROM ttrack." + partition)).containsExactly(String.valueOf(2));
+    }
+
+    private static Clock clockAt(YearMonth month) {
+        return Clock.fixed(month.atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+    }
+
+    private TrainingSession saveSession(User user, TrainingSession.Status status, LocalDateTime createdAt) {
+        return trainingSessionRepository.save(new TrainingSession(null, "Long Run", null, status, user, createdAt));
+    }
+
+    private void saveExercise(TrainingSession session) {
+        SessionExerciseRow row = new SessionExerciseRow();
+        row.setTrainingSessionId(session.getId());
+        row.setStatus(SessionExercise.Status.STARTED);
+        row.setCreatedAt(session.getCreatedAt());
+        sessionExerciseJdbcRepository.save(row);
+    }
+
+    private void maintain(PartitionMaintenanceJob job) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            job.maintain(connection);
+        }
+    }
+
+    private List<String> attachedPartitions() throws SQLException {
+        return query("SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+            "WHERE i.inhparent = 'ttrack.session_exercise'::regclass");
+    }
+
+    private List<String> query(String sql) throws SQLException {
+        List<String> values = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next()) {
+                values.add(resultSet.getString(1));
+            }
+        }
+        return values;
+    }
+}
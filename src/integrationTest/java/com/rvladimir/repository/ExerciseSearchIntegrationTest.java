@@ -0,0 +1,108 @@
+package com.rvladimir.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rvladimir.domain.Exercise;
+import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.repository.jdbc.ExerciseJdbcRepository;
+import com.rvladimir.repository.row.ExerciseRow;
+import com.rvladimir.test.PostgresTestContainer;
+
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.test.support.TestPropertyProvider;
+
+import jakarta.inject.Inject;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@MicronautTest(transactional = false)
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ExerciseSearchIntegrationTest implements TestPropertyProvider {
+
+    private static final String SQUAT = "Squat";
+    private static final String LUNGE = "Walking Lunge";
+    private static final String BURPEE = "Burpee";
+    private static final String IMAGE = "exercise.png";
+    private static final String SQUAT_QUERY = "squats";
+    private static final int LIMIT = 10;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = PostgresTestContainer.getInstance();
+
+    @Inject
+    ExerciseRepository exerciseRepository;
+
+    @Inject
+    ExerciseJdbcRepository exerciseJdbcRepository;
+
+    @Override
+    public Map<String, String> getProperties() {
+        return Map.of(
+            "datasources.default.url", postgres.getJdbcUrl(),
+            "datasources.default.username", postgres.getUsername(),
+            "datasources.default.password", postgres.getPassword(),
+            "datasources.default.driverClassName", postgres.getDriverClassName()
+        );
+    }
+
+    @BeforeEach
+    void setUp() {
+        exerciseRepository.save(exercise(SQUAT, "Lower body compound movement", TypeOfExercise.STRENGTH));
+        exerciseRepository.save(exercise(LUNGE, "Squat-like step that trains balance", TypeOfExercise.BALANCE));
+        exerciseRepository.save(exercise(BURPEE, "Full body conditioning drill", TypeOfExercise.HIIT));
+    }
+
+    @AfterEach
+    void cleanup() {
+        exerciseRepository.deleteAll();
+    }
+
+    @Test
+    void testSearchRanksNameMatchesAboveDescriptionMatches() {
+        // When
+        List<ExerciseRow> rows = exerciseJdbcRepository.search(SQUAT_QUERY, null, LIMIT, 0);
+
+        // Then
+        assertThat(rows).extracting(ExerciseRow::getName).containsExactly(SQUAT, LUNGE);
+        assertThat(exerciseJdbcRepository.countSearch(SQUAT_QUERY, null)).isEqualTo(2);
+    }
+
+    @Test
+    void testSearchMatchesMisspelledNames() {
+        // When
+        List<ExerciseRow> rows = exerciseJdbcRepository.search("burpes", null, LIMIT, 0);
+
+        // Then
+        assertThat(rows).extracting(ExerciseRow::getName).containsExactly(BURPEE);
+    }
+
+    @Test
+    void testSearchFiltersByType() {
+        // When
+        List<ExerciseRow> rows = exerciseJdbcRepository.search(SQUAT, TypeOfExercise.BALANCE.name(), LIMIT, 0);
+
+        // Then
+        assertThat(rows).extracting(ExerciseRow::getName).containsExactly(LUNGE);
+    }
+
+    private static Exercise exercise(String name, String description, TypeOfExercise type) {
+        Exercise exercise = new Exercise();
+        exercise.setName(name);
+        exercise.setDescription(description);
+        exercise.setType(type);
+        exercise.setImage(IMAGE);
+        exercise.setCreatedAt(LocalDateTime.now());
+        return exercise;
+    }
+}
@@ -0,0 +1,158 @@
+package com.rvladimir.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rvladimir.domain.Exercise;
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.domain.User;
+import com.rvladimir.progress.ProgressMetric;
+import com.rvladimir.repository.jdbc.SessionExerciseJdbcRepository;
+import com.rvladimir.repository.row.SessionExerciseRow;
+import com.rvladimir.service.ProgressService;
+import com.rvladimir.service.dto.ProgressChartDTO;
+import com.rvladimir.service.dto.ProgressPointDTO;
+import com.rvladimir.test.PostgresTestContainer;
+import com.rvladimir.test.TestDataFactory;
+
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.test.support.TestPropertyProvider;
+
+import jakarta.inject.Inject;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@MicronautTest(transactional = false)
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ProgressSeriesIntegrationTest implements TestPropertyProvider {
+
+    private static final String TEST_USER_EMAIL = "progress.user@example.com";
+    private static final String OTHER_USER_EMAIL = "progress.other@example.com";
+    private static final String RUN = "Easy Run";
+    private static final int SESSIONS = 40;
+    private static final int POINTS = 10;
+    private static final int DAYS_AGO = 60;
+    private static final int OTHER_USER_HOURS = 3;
+    private static final double DISTANCE = 5.0;
+    private static final double KILOMETERS_PER_MILE = 1.609344;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = PostgresTestContainer.getInstance();
+
+    @Inject
+    ProgressService progressService;
+
+    @Inject
+    ExerciseRepository exerciseRepository;
+
+    @Inject
+    TrainingSessionRepository trainingSessionRepository;
+
+    @Inject
+    SessionExerciseRepository sessionExerciseRepository;
+
+    @Inject
+    SessionExerciseJdbcRepository sessionExerciseJdbcRepository;
+
+    @Inject
+    UserRepository userRepository;
+
+    @Override
+    public Map<String, String> getProperties() {
+        return Map.of(
+            "datasources.default.url", postgres.getJdbcUrl(),
+            "datasources.default.username", postgres.getUsername(),
+            "datasources.default.password", postgres.getPassword(),
+            "datasources.default.driverClassName", postgres.getDriverClassName()
+        );
+    }
+
+    @AfterEach
+    void cleanup() {
+        sessionExerciseRepository.deleteAll();
+        trainingSessionRepository.deleteAll();
+        userRepository.deleteAll();
+        exerciseRepository.deleteAll();
+    }
+
+    @Test
+    void testChartReadsOnlyTheUsersSessionsOfTheExerciseInOrder() {
+        // Given
+        User user = userRepository.save(TestDataFactory.createUser(TEST_USER_EMAIL));
+        User other = userRepository.save(TestDataFactory.createUser(OTHER_USER_EMAIL));
+        Exercise run = exerciseRepository.save(
+            new Exercise(null, RUN, RUN, TypeOfExercise.CARDIO, null, LocalDateTime.now()));
+        LocalDateTime start = LocalDateTime.now().minusDays(DAYS_AGO).truncatedTo(ChronoUnit.SECONDS);
+        for (int i = 0; i < SESSIONS; i++) {
+            TrainingSession session = saveSession(user, TrainingSession.Status.FINISHED, start.plusDays(i));
+            saveExercise(session, run, SessionExercise.Status.FINISHED, DISTANCE + i);
+        }
+        TrainingSession inMiles = saveSession(user, TrainingSession.Status.FINISHED, start.minusDays(1));
+        SessionExerciseRow miles = exerciseRow(inMiles, run, SessionExercise.Status.FINISHED, DISTANCE);
+        miles.setUnitOfMeasurement(SessionExercise.UnitOfMeasurement.MILES);
+        sessionExerciseJdbcRepository.save(miles);
+        saveExercise(saveSession(user, TrainingSession.Status.IS_TEMPLATE, start.plusHours(1)), run,
+            SessionExercise.Status.FINISHED, DISTANCE);
+        saveExercise(saveSession(user, TrainingSession.Status.FINISHED, start.plusHours(2)), run,
+            SessionExercise.Status.NOT_FINISHED, DISTANCE);
+        saveExercise(saveSession(other, TrainingSession.Status.FINISHED, start.plusHours(OTHER_USER_HOURS)), run,
+            SessionExercise.Status.FINISHED, DISTANCE);
+        LocalDate from = start.toLocalDate().minusDays(1);
+        LocalDate to = LocalDate.now();
+
+        // When
+        ProgressChartDTO chart = progressService.getChart(user.getId(), run.getId(), ProgressMetric.DISTANCE, from,
+            to, POINTS);
+
+        // Then
+        assertThat(chart.getTotal()).isEqualTo(SESSIONS + 1);
+        assertThat(chart.getPoints()).hasSize(POINTS);
+        assertThat(chart.getPoints()).first()
+            .isEqualTo(new ProgressPointDTO(start.minusDays(1), DISTANCE * KILOMETERS_PER_MILE));
+        assertThat(chart.getPoints()).last()
+            .isEqualTo(new ProgressPointDTO(start.plusDays(SESSIONS - 1), DISTANCE + SESSIONS - 1));
+        assertThat(chart.getPoints()).extracting(ProgressPointDTO::getTime).isSorted();
+    }
+
+    private TrainingSession saveSession(User user, TrainingSession.Status status, LocalDateTime createdAt) {
+        return trainingSessionRepository.save(new TrainingSession(null, RUN, null, status, user, createdAt));
+    }
+
+    private void saveExercise(
+        TrainingSession session,
+        Exercise exercise,
+        SessionExercise.Status status,
+        double distance
+    ) {
+        sessionExerciseJdbcRepository.save(exerciseRow(session, exercise, status, distance));
+    }
+
+    private static SessionExerciseRow exerciseRow(
+        TrainingSession session,
+        Exercise exercise,
+        SessionExercise.Status status,
+        double distance
+    ) {
+        SessionExerciseRow row = new SessionExerciseRow();
+        row.setTrainingSessionId(session.getId());
+        row.setExerciseId(exercise.getId());
+        row.setStatus(status);
+        row.setTypeOfExercise(exercise.getType());
+        row.setDistance(distance);
+        row.setUnitOfMeasurement(SessionExercise.UnitOfMeasurement.KILOMETERS);
+        row.setCreatedAt(session.getCreatedAt());
+        return row;
+    }
+}
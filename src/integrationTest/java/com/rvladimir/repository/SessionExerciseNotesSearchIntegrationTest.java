@@ -0,0 +1,155 @@
+package com.rvladimir.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.domain.User;
+import com.rvladimir.repository.jdbc.SessionExerciseJdbcRepository;
+import com.rvladimir.repository.row.SessionExerciseRow;
+import com.rvladimir.service.SessionExerciseService;
+import com.rvladimir.service.dto.NoteMatchDTO;
+import com.rvladimir.service.dto.NotesSearchResultDTO;
+import com.rvladimir.test.PostgresTestContainer;
+import com.rvladimir.test.TestDataFactory;
+
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.test.support.TestPropertyProvider;
+
+import jakarta.inject.Inject;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@MicronautTest(transactional = false)
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SessionExerciseNotesSearchIntegrationTest implements TestPropertyProvider {
+
+    private static final String TEST_USER_EMAIL = "notes.user@example.com";
+    private static final String OTHER_USER_EMAIL = "notes.other@example.com";
+    private static final String KNEE_NOTES = "Left knee felt sore on the last set";
+    private static final String KNEE_QUERY = "knees";
+    private static final int LIMIT = 10;
+    private static final int SMALL_LIMIT = 1;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = PostgresTestContainer.getInstance();
+
+    @Inject
+    SessionExerciseService sessionExerciseService;
+
+    @Inject
+    TrainingSessionRepository trainingSessionRepository;
+
+    @Inject
+    SessionExerciseRepository sessionExerciseRepository;
+
+    @Inject
+    SessionExerciseJdbcRepository sessionExerciseJdbcRepository;
+
+    @Inject
+    UserRepository userRepository;
+
+    @Override
+    public Map<String, String> getProperties() {
+        return Map.of(
+            "datasources.default.url", postgres.getJdbcUrl(),
+            "datasources.default.username", postgres.getUsername(),
+            "datasources.default.password", postgres.getPassword(),
+            "datasources.default.driverClassName", postgres.getDriverClassName()
+        );
+    }
+
+    @AfterEach
+    void cleanup() {
+        sessionExerciseRepository.deleteAll();
+        trainingSessionRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testSearchFindsOnlyTheUsersNotesWithHighlights() {
+        // Given
+        User user = userRepository.save(TestDataFactory.createUser(TEST_USER_EMAIL));
+        User other = userRepository.save(TestDataFactory.createUser(OTHER_USER_EMAIL));
+        TrainingSession session = saveSession(user);
+        SessionExerciseRow match = saveExercise(session, KNEE_NOTES);
+        saveExercise(session, "Felt strong today");
+        saveExercise(session, null);
+        saveExercise(saveSession(other), KNEE_NOTES);
+
+        // When
+        NotesSearchResultDTO result = sessionExerciseService.searchNotes(user.getId(), KNEE_QUERY, null, LIMIT);
+
+        // Then
+        assertThat(result.getMatches()).extracting(NoteMatchDTO::getSessionExerciseId)
+            .containsExactly(match.getId());
+        assertThat(result.getMatches().get(0).getHighlight()).contains("«knee»");
+        assertThat(result.isHasMore()).isFalse();
+    }
+
+    @Test
+    void testSearchPagesByRankThenId() {
+        // Given
+        User user = userRepository.save(TestDataFactory.createUser(TEST_USER_EMAIL));
+        TrainingSession session = saveSession(user);
+        SessionExerciseRow strong = saveExercise(session, "Knee ache, knee wrap helped, knee fine later");
+        SessionExerciseRow weak = saveExercise(session, KNEE_NOTES);
+
+        // When
+        NotesSearchResultDTO firstPage =
+            sessionExerciseService.searchNotes(user.getId(), KNEE_QUERY, null, SMALL_LIMIT);
+        NotesSearchResultDTO secondPage =
+            sessionExerciseService.searchNotes(user.getId(), KNEE_QUERY, firstPage.getCursor(), SMALL_LIMIT);
+
+        // Then
+        assertThat(firstPage.getMatches()).extracting(NoteMatchDTO::getSessionExerciseId)
+            .containsExactly(strong.getId());
+        assertThat(firstPage.isHasMore()).isTrue();
+        assertThat(secondPage.getMatches()).extracting(NoteMatchDTO::getSessionExerciseId)
+            .containsExactly(weak.getId());
+        assertThat(secondPage.isHasMore()).isFalse();
+    }
+
+    @Test
+    void testSearchLeavesOutTemplates() {
+        // Given
+        User user = userRepository.save(TestDataFactory.createUser(TEST_USER_EMAIL));
+        SessionExerciseRow match = saveExercise(saveSession(user), KNEE_NOTES);
+        saveExercise(saveSession(user, TrainingSession.Status.IS_TEMPLATE), KNEE_NOTES);
+
+        // When
+        NotesSearchResultDTO result = sessionExerciseService.searchNotes(user.getId(), KNEE_QUERY, null, LIMIT);
+
+        // Then
+        assertThat(result.getMatches()).extracting(NoteMatchDTO::getSessionExerciseId)
+            .containsExactly(match.getId());
+    }
+
+    private TrainingSession saveSession(User user) {
+        return saveSession(user, TrainingSession.Status.STARTED);
+    }
+
+    private TrainingSession saveSession(User user, TrainingSession.Status status) {
+        return trainingSessionRepository.save(new TrainingSession(
+            null, "Notes Session", null, status, user, LocalDateTime.now()));
+    }
+
+    private SessionExerciseRow saveExercise(TrainingSession session, String notes) {
+        SessionExerciseRow row = new SessionExerciseRow();
+        row.setTrainingSessionId(session.getId());
+        row.setStatus(SessionExercise.Status.STARTED);
+        row.setExerciseOrder(1);
+        row.setNotes(notes);
+        row.setCreatedAt(LocalDateTime.now());
+        return sessionExerciseJdbcRepository.save(row);
+    }
+}
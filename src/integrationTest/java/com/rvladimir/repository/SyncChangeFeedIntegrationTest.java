@@ -0,0 +1,187 @@
+package com.rvladimir.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.domain.User;
+import com.rvladimir.repository.jdbc.SessionExerciseJdbcRepository;
+import com.rvladimir.repository.row.SessionExerciseRow;
+import com.rvladimir.service.SyncService;
+import com.rvladimir.service.dto.SessionExerciseDTO;
+import com.rvladimir.service.dto.SyncChangesDTO;
+import com.rvladimir.service.dto.TrainingSessionDTO;
+import com.rvladimir.test.PostgresTestContainer;
+import com.rvladimir.test.TestDataFactory;
+
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.test.support.TestPropertyProvider;
+
+import jakarta.inject.Inject;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@MicronautTest(transactional = false)
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SyncChangeFeedIntegrationTest implements TestPropertyProvider {
+
+    private static final String TEST_USER_EMAIL = "sync.user@example.com";
+    private static final String OTHER_USER_EMAIL = "sync.other@example.com";
+    private static final String TEST_SESSION_NAME = "Offline Session";
+    private static final String TEST_SESSION_NAME_UPDATED = "Renamed On Server";
+    private static final int LIMIT = 100;
+    private static final int SMALL_LIMIT = 1;
+    private static final String INSERT_SESSION_SQL = """
+        INSERT INTO ttrack.training_session (name, status, user_id, created_at)
+        VALUES (?, 'STARTED', ?, LOCALTIMESTAMP)
+        RETURNING id
+        """;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = PostgresTestContainer.getInstance();
+
+    @Inject
+    DataSource dataSource;
+
+    @Inject
+    SyncService syncService;
+
+    @Inject
+    TrainingSessionRepository trainingSessionRepository;
+
+    @Inject
+    SessionExerciseRepository sessionExerciseRepository;
+
+    @Inject
+    SessionExerciseJdbcRepository sessionExerciseJdbcRepository;
+
+    @Inject
+    UserRepository userRepository;
+
+    @Override
+    public Map<String, String> getProperties() {
+        return Map.of(
+            "datasources.default.url", postgres.getJdbcUrl(),
+            "datasources.default.username", postgres.getUsername(),
+            "datasources.default.password", postgres.getPassword(),
+            "datasources.default.driverClassName", postgres.getDriverClassName()
+        );
+    }
+
+    @AfterEach
+    void cleanup() {
+        sessionExerciseRepository.deleteAll();
+        trainingSessionRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testFullSyncReturnsOnlyTheUsersCurrentState() {
+        // Given
+        User user = userRepository.save(TestDataFactory.createUser(TEST_USER_EMAIL));
+        User other = userRepository.save(TestDataFactory.createUser(OTHER_USER_EMAIL));
+        TrainingSession session = saveSession(user);
+        SessionExerciseRow exercise = saveExercise(session);
+        saveSession(other);
+
+        // When
+        SyncChangesDTO changes = syncService.changesSince(user.getId(), null, LIMIT);
+
+        // Then
+        assertThat(changes.getTrainingSessions()).extracting(TrainingSessionDTO::getId)
+            .containsExactly(session.getId());
+        assertThat(changes.getSessionExercises()).extracting(SessionExerciseDTO::getId)
+            .containsExactly(exercise.getId());
+        assertThat(changes.getDeletedTrainingSessionIds()).isEmpty();
+        assertThat(changes.isHasMore()).isFalse();
+        assertThat(syncService.changesSince(user.getId(), changes.getCursor(), LIMIT).getTrainingSessions())
+            .isEmpty();
+    }
+
+    @Test
+    void testDeltaSyncReturnsUpdatesAndTombstonesSinceCursor() {
+        // Given
+        User user = userRepository.save(TestDataFactory.createUser(TEST_USER_EMAIL));
+        TrainingSession session = saveSession(user);
+        SessionExerciseRow exercise = saveExercise(session);
+        String cursor = syncService.changesSince(user.getId(), null, LIMIT).getCursor();
+
+        session.setName(TEST_SESSION_NAME_UPDATED);
+        trainingSessionRepository.update(session);
+        sessionExerciseRepository.deleteById(exercise.getId());
+
+        // When
+        SyncChangesDTO firstPage = syncService.changesSince(user.getId(), cursor, SMALL_LIMIT);
+        SyncChangesDTO secondPage = syncService.changesSince(user.getId(), firstPage.getCursor(), SMALL_LIMIT);
+
+        // Then
+        assertThat(firstPage.getTrainingSessions()).extracting(TrainingSessionDTO::getName)
+            .containsExactly(TEST_SESSION_NAME_UPDATED);
+        assertThat(firstPage.isHasMore()).isTrue();
+        assertThat(secondPage.getDeletedSessionExerciseIds()).containsExactly(exercise.getId());
+        assertThat(secondPage.isHasMore()).isFalse();
+    }
+
+    @Test
+    void testOpenWriteTransactionOnlyDelaysItsOwnChanges() throws SQLException {
+        // Given
+        User user = userRepository.save(TestDataFactory.createUser(TEST_USER_EMAIL));
+        User other = userRepository.save(TestDataFactory.createUser(OTHER_USER_EMAIL));
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(INSERT_SESSION_SQL)) {
+            connection.setAutoCommit(false);
+            statement.setString(1, TEST_SESSION_NAME);
+            statement.setLong(2, user.getId());
+            long openSessionId;
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                openSessionId = resultSet.getLong(1);
+            }
+            TrainingSession otherSession = saveSession(other);
+            TrainingSession laterSession = saveSession(user);
+
+            // When
+            SyncChangesDTO otherChanges = syncService.changesSince(other.getId(), null, LIMIT);
+            SyncChangesDTO beforeCommit = syncService.changesSince(user.getId(), null, LIMIT);
+            connection.commit();
+            SyncChangesDTO afterCommit = syncService.changesSince(user.getId(), beforeCommit.getCursor(), LIMIT);
+
+            // Then
+            assertThat(otherChanges.getTrainingSessions()).extracting(TrainingSessionDTO::getId)
+                .containsExactly(otherSession.getId());
+            assertThat(beforeCommit.getTrainingSessions()).extracting(TrainingSessionDTO::getId)
+                .containsExactly(laterSession.getId());
+            assertThat(afterCommit.getTrainingSessions()).extracting(TrainingSessionDTO::getId)
+                .containsExactly(openSessionId);
+        }
+    }
+
+    private TrainingSession saveSession(User user) {
+        return trainingSessionRepository.save(new TrainingSession(
+            null, TEST_SESSION_NAME, null, TrainingSession.Status.STARTED, user, LocalDateTime.now()));
+    }
+
+    private SessionExerciseRow saveExercise(TrainingSession session) {
+        SessionExerciseRow row = new SessionExerciseRow();
+        row.setTrainingSessionId(session.getId());
+        row.setStatus(SessionExercise.Status.STARTED);
+        row.setExerciseOrder(1);
+        row.setCreatedAt(LocalDateTime.now());
+        return sessionExerciseJdbcRepository.save(row);
+    }
+}
@@ -0,0 +1,150 @@
+package com.rvladimir.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.domain.User;
+import com.rvladimir.repository.jdbc.SessionExerciseJdbcRepository;
+import com.rvladimir.repository.row.SessionExerciseRow;
+import com.rvladimir.service.TrainingSessionHistoryService;
+import com.rvladimir.service.TrainingSessionService;
+import com.rvladimir.service.dto.SessionExerciseDTO;
+import com.rvladimir.service.dto.TrainingSessionHistoryDTO;
+import com.rvladimir.test.PostgresTestContainer;
+import com.rvladimir.test.TestDataFactory;
+import com.rvladimir.web.error.ValidationException;
+
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.test.support.TestPropertyProvider;
+
+import jakarta.inject.Inject;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@MicronautTest(transactional = false)
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TrainingSessionTemplateIntegrationTest implements TestPropertyProvider {
+
+    private static final String TEST_USER_EMAIL = "template.user@example.com";
+    private static final String OTHER_USER_EMAIL = "template.other@example.com";
+    private static final String SESSION_NAME = "Leg Day";
+    private static final String NOTES = "Keep the back straight";
+    private static final int REPETITIONS = 12;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = PostgresTestContainer.getInstance();
+
+    @Inject
+    TrainingSessionService trainingSessionService;
+
+    @Inject
+    TrainingSessionHistoryService trainingSessionHistoryService;
+
+    @Inject
+    TrainingSessionRepository trainingSessionRepository;
+
+    @Inject
+    SessionExerciseRepository sessionExerciseRepository;
+
+    @Inject
+    SessionExerciseJdbcRepository sessionExerciseJdbcRepository;
+
+    @Inject
+    UserRepository userRepository;
+
+    @Override
+    public Map<String, String> getProperties() {
+        return Map.of(
+            "datasources.default.url", postgres.getJdbcUrl(),
+            "datasources.default.username", postgres.getUsername(),
+            "datasources.default.password", postgres.getPassword(),
+            "datasources.default.driverClassName", postgres.getDriverClassName()
+        );
+    }
+
+    @AfterEach
+    void cleanup() {
+        sessionExerciseRepository.deleteAll();
+        trainingSessionRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testTemplateRoundTripCopiesSessionAndExercises() {
+        // Given
+        User user = userRepository.save(TestDataFactory.createUser(TEST_USER_EMAIL));
+        TrainingSession session = saveSession(user);
+        saveExercise(session, 2);
+        saveExercise(session, 1);
+
+        // When
+        TrainingSessionHistoryDTO template = trainingSessionService.saveAsTemplate(user.getId(), session.getId());
+        TrainingSessionHistoryDTO started =
+            trainingSessionService.startFromTemplate(user.getId(), template.getTrainingSession().getId());
+
+        // Then
+        assertThat(template.getTrainingSession().getStatus()).isEqualTo(TrainingSession.Status.IS_TEMPLATE);
+        assertThat(started.getTrainingSession().getStatus()).isEqualTo(TrainingSession.Status.STARTED);
+        assertThat(started.getTrainingSession().getName()).isEqualTo(SESSION_NAME);
+        assertThat(started.getSessionExercises()).extracting(SessionExerciseDTO::getExerciseOrder)
+            .containsExactly(1, 2);
+        assertThat(started.getSessionExercises()).allSatisfy(exercise -> {
+            assertThat(exercise.getTrainingSessionId()).isEqualTo(started.getTrainingSession().getId());
+            assertThat(exercise.getRepetitions()).isEqualTo(REPETITIONS);
+            assertThat(exercise.getNotes()).isEqualTo(NOTES);
+            assertThat(exercise.getStartTime()).isNull();
+        });
+        assertThat(trainingSessionService.getTemplates(user.getId()))
+            .extracting(entry -> entry.getTrainingSession().getId())
+            .containsExactly(template.getTrainingSession().getId());
+        assertThat(trainingSessionHistoryService.getHistory(
+                user.getId(), LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1)))
+            .extracting(entry -> entry.getTrainingSession().getId())
+            .containsExactly(session.getId(), started.getTrainingSession().getId());
+    }
+
+    @Test
+    void testStartFromTemplateRejectsOtherUsersAndNonTemplates() {
+        // Given
+        User user = userRepository.save(TestDataFactory.createUser(TEST_USER_EMAIL));
+        User other = userRepository.save(TestDataFactory.createUser(OTHER_USER_EMAIL));
+        TrainingSession session = saveSession(user);
+        Long templateId = trainingSessionService.saveAsTemplate(user.getId(), session.getId())
+            .getTrainingSession().getId();
+
+        // When / Then
+        assertThatThrownBy(() -> trainingSessionService.startFromTemplate(other.getId(), templateId))
+            .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> trainingSessionService.startFromTemplate(user.getId(), session.getId()))
+            .isInstanceOf(ValidationException.class);
+        assertThat(trainingSessionRepository.count()).isEqualTo(2);
+    }
+
+    private TrainingSession saveSession(User user) {
+        return trainingSessionRepository.save(new TrainingSession(
+            null, SESSION_NAME, null, TrainingSession.Status.FINISHED, user, LocalDateTime.now()));
+    }
+
+    private void saveExercise(TrainingSession session, int exerciseOrder) {
+        SessionExerciseRow row = new SessionExerciseRow();
+        row.setTrainingSessionId(session.getId());
+        row.setStatus(SessionExercise.Status.FINISHED);
+        row.setExerciseOrder(exerciseOrder);
+        row.setRepetitions(REPETITIONS);
+        row.setNotes(NOTES);
+        row.setStartTime(LocalDateTime.now());
+        row.setCreatedAt(LocalDateTime.now());
+        sessionExerciseJdbcRepository.save(row);
+    }
+}
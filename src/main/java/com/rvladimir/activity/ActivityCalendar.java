@@ -0,0 +1,178 @@
+package com.rvladimir.activity;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Optional;
+
+/**
+ * Training days of one user in one calendar year: one bit per day of year, plus a saturating intensity counter per
+ * day. Both are kept in the layout of ttrack.training_activity, where bit n, least significant first within each
+ * byte, is day of year n + 1. Heatmap and streak questions are answered with bit scans over at most 366 bits.
+ */
+public final class ActivityCalendar {
+
+    /** Days in a leap year; shorter years leave the last bit clear. */
+    public static final int DAYS = 366;
+    /** Length of the stored bitset. */
+    public static final int DAY_BYTES = (DAYS + Byte.SIZE - 1) / Byte.SIZE;
+    /** Intensity counters stop at this value. */
+    public static final int MAX_INTENSITY = 255;
+
+    private final int year;
+    private final BitSet days;
+    private final byte[] intensity;
+
+    private ActivityCalendar(int year, BitSet days, byte[] intensity) {
+        this.year = year;
+        this.days = days;
+        this.intensity = intensity;
+    }
+
+    /**
+     * A year without training days.
+     * @param year the calendar year
+     * @return the empty calendar
+     */
+    public static ActivityCalendar empty(int year) {
+        return new ActivityCalendar(year, new BitSet(DAYS), new byte[DAYS]);
+    }
+
+    /**
+     * Decodes a stored calendar.
+     * @param year the calendar year
+     * @param days the stored bitset
+     * @param intensity the stored intensity counters
+     * @return the calendar
+     */
+    public static ActivityCalendar of(int year, byte[] days, byte[] intensity) {
+        return new ActivityCalendar(year, BitSet.valueOf(days), Arrays.copyOf(intensity, DAYS));
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    /**
+     * Marks a training day and adds to its intensity.
+     * @param day a day of this year
+     * @param weight the intensity to add
+     */
+    public void mark(LocalDate day, int weight) {
+        int index = index(day);
+        days.set(index);
+        intensity[index] = (byte) Math.min(Byte.toUnsignedInt(intensity[index]) + weight, MAX_INTENSITY);
+    }
+
+    /**
+     * Whether a day is a training day.
+     * @param day a day of this year
+     * @return true if the user trained that day
+     */
+    public boolean isActive(LocalDate day) {
+        return days.get(index(day));
+    }
+
+    /**
+     * Intensity counters from January 1st, one per day of this year.
+     * @return the counters
+     */
+    public int[] intensities() {
+        int[] counters = new int[Year.of(year).length()];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = Byte.toUnsignedInt(intensity[i]);
+        }
+        return counters;
+    }
+
+    /**
+     * Number of training days in this year.
+     */
+    public int activeDays() {
+        return days.cardinality();
+    }
+
+    /**
+     * Longest run of consecutive training days within this year.
+     * @return the run length in days
+     */
+    public int longestStreak() {
+        int longest = 0;
+        for (int start = days.nextSetBit(0); start >= 0; ) {
+            int end = days.nextClearBit(start);
+            longest = Math.max(longest, end - start);
+            start = days.nextSetBit(end);
+        }
+        return longest;
+    }
+
+    /**
+     * Number of consecutive training days ending on a day, counted back to January 1st at most.
+     * @param day a day of this year
+     * @return the run length in days, 0 if the day is not a training day
+     */
+    public int streakEndingOn(LocalDate day) {
+        int index = index(day);
+        return index - days.previousClearBit(index);
+    }
+
+    /**
+     * Number of consecutive training days from January 1st.
+     * @return the run length in days
+     */
+    public int leadingStreak() {
+        return days.nextClearBit(0);
+    }
+
+    /**
+     * Number of consecutive training days ending on December 31st.
+     * @return the run length in days
+     */
+    public int trailingStreak() {
+        return streakEndingOn(Year.of(year).atDay(length()));
+    }
+
+    /**
+     * Latest training day on or before a day of this year.
+     * @param day a day of this year
+     * @return the training day, or empty if there is none in this year up to that day
+     */
+    public Optional<LocalDate> lastActiveOnOrBefore(LocalDate day) {
+        int index = days.previousSetBit(index(day));
+        if (index < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(Year.of(year).atDay(index + 1));
+    }
+
+    /**
+     * Number of days in this year.
+     */
+    public int length() {
+        return Year.of(year).length();
+    }
+
+    /**
+     * The bitset in its stored layout.
+     * @return {@value #DAY_BYTES} bytes
+     */
+    public byte[] daysBytes() {
+        return Arrays.copyOf(days.toByteArray(), DAY_BYTES);
+    }
+
+    /**
+     * The intensity counters in their stored layout.
+     * @return {@value #DAYS} bytes
+     */
+    public byte[] intensityBytes() {
+        return intensity.clone();
+    }
+
+    private int index(LocalDate day) {
+        if (day.getYear() != year) {
+            throw new IllegalArgumentException(day + " is not in " + year);
+        }
+        return day.getDayOfYear() - 1;
+    }
+}
@@ -0,0 +1,222 @@
+package com.rvladimir.activity;
+
+import com.rvladimir.archive.ArchiveReader;
+import com.rvladimir.archive.ArchivedSessions;
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.repository.row.SessionExerciseRow;
+import com.rvladimir.repository.row.TrainingSessionRow;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.context.event.StartupEvent;
+
+import jakarta.inject.Singleton;
+
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rebuilds ttrack.training_activity from ttrack.training_session, once per database.
+ * Runs at startup until a rebuild has been recorded. The table is locked against writes for the rebuild, so
+ * training days recorded concurrently are either read back from their sessions or applied on top of the rebuild,
+ * and an instance starting meanwhile waits and then finds the rebuild done. Sessions and exercises whose outbox
+ * events are still pending are left to {@link TrainingActivitySubscriber}, which applies them on top. Training
+ * sessions already moved to the archive are read back from every archive file into a temporary table first, so the
+ * calendars reach past the archive horizon.
+ */
+@Slf4j
+@Singleton
+@Requires(property = "ttrack.activity.backfill-enabled", value = "true", defaultValue = "true")
+public class TrainingActivityBackfill implements ApplicationEventListener<StartupEvent> {
+
+    private static final String LOCK_SQL = "LOCK TABLE ttrack.training_activity IN EXCLUSIVE MODE";
+    private static final String DONE_SQL = "SELECT 1 FROM ttrack.training_activity_backfill WHERE id = 1";
+    private static final String CLEAR_SQL = "DELETE FROM ttrack.training_activity";
+    private static final String ARCHIVE_SQL = "SELECT storage_key FROM ttrack.archive_manifest ORDER BY id";
+    private static final String ARCHIVED_TABLE_SQL =
+        "CREATE TEMP TABLE archived_training_day (user_id BIGINT, day DATE, weight INTEGER) ON COMMIT DROP";
+    private static final String ARCHIVED_INSERT_SQL =
+        "INSERT INTO archived_training_day (user_id, day, weight) VALUES (?, ?, ?)";
+    private static final String DAYS_SQL = """
+        SELECT user_id, day, SUM(weight) AS weight
+        FROM (
+            SELECT ts.user_id, CAST(ts.created_at AS DATE) AS day, s.counted + f.finished AS weight
+            FROM ttrack.training_session ts
+            CROSS JOIN LATERAL (
+                SELECT CAST(NOT EXISTS (
+                    SELECT 1 FROM ttrack.outbox_event o
+                    WHERE o.aggregate_type = 'TRAINING_SESSION' AND o.aggregate_id = ts.id
+                      AND o.event_type = 'TRAINING_SESSION_CREATED'
+                ) AS INTEGER) AS counted
+            ) s
+            CROSS JOIN LATERAL (
+                SELECT COUNT(*) AS finished FROM ttrack.session_exercise se
+                WHERE se.training_session_id = ts.id
+                  AND se.created_at >= ts.created_at
+                  AND se.status = 'FINISHED'
+                  AND NOT EXISTS (
+                      SELECT 1 FROM ttrack.outbox_event o
+                      WHERE o.aggregate_type = 'TRAINING_SESSION' AND o.aggregate_id = ts.id
+                        AND o.event_type = 'SESSION_EXERCISE_SAVED'
+                        AND CAST(o.payload ->> 'sessionExerciseId' AS BIGINT) = se.id
+                  )
+            ) f
+            WHERE ts.status <> 'IS_TEMPLATE'
+            UNION ALL
+            SELECT user_id, day, weight FROM archived_training_day
+        ) d
+        GROUP BY user_id, day
+        HAVING SUM(weight) > 0
+        ORDER BY user_id, day
+        """;
+    private static final String INSERT_SQL =
+        "INSERT INTO ttrack.training_activity (user_id, year, days, intensity) VALUES (?, ?, ?, ?)";
+    private static final String MARK_SQL =
+        "INSERT INTO ttrack.training_activity_backfill (id, completed_at) VALUES (1, ?)";
+    private static final int FETCH_SIZE = 1000;
+    private static final int BATCH_SIZE = 500;
+    private static final int USER_COLUMN = 1;
+    private static final int DAY_COLUMN = 2;
+    private static final int WEIGHT_COLUMN = 3;
+    private static final int YEAR_PARAMETER = 2;
+    private static final int DAYS_PARAMETER = 3;
+    private static final int INTENSITY_PARAMETER = 4;
+
+    private final DataSource dataSource;
+    private final ArchiveReader archiveReader;
+
+    public TrainingActivityBackfill(DataSource dataSource, ArchiveReader archiveReader) {
+        this.dataSource = dataSource;
+        this.archiveReader = archiveReader;
+    }
+
+    @Override
+    public void onApplicationEvent(StartupEvent event) {
+        backfill();
+    }
+
+    /**
+     * Rebuilds the training activity table unless a rebuild has been recorded.
+     * @return the number of calendars written, or -1 if the rebuild was already done
+     */
+    int backfill() {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(LOCK_SQL);
+                try (ResultSet resultSet = statement.executeQuery(DONE_SQL)) {
+                    if (resultSet.next()) {
+                        connection.rollback();
+                        return -1;
+                    }
+                }
+                statement.executeUpdate(CLEAR_SQL);
+            }
+            loadArchive(connection);
+            int written = rebuild(connection);
+            try (PreparedStatement statement = connection.prepareStatement(MARK_SQL)) {
+                statement.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now()));
+                statement.executeUpdate();
+            }
+            connection.commit();
+            log.info("Rebuilt {} training activity calendars", written);
+            return written;
+        } catch (SQLException | UncheckedIOException ex) {
+            log.warn("Could not rebuild the training activity calendars: {}", ex.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Copies the training days of the archived training sessions into {@code archived_training_day}, weighted like
+     * {@code DAYS_SQL} weighs the sessions of the hot tables.
+     */
+    private void loadArchive(Connection connection) throws SQLException {
+        List<String> storageKeys = new ArrayList<>();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(ARCHIVED_TABLE_SQL);
+            try (ResultSet resultSet = statement.executeQuery(ARCHIVE_SQL)) {
+                while (resultSet.next()) {
+                    storageKeys.add(resultSet.getString(1));
+                }
+            }
+        }
+        try (PreparedStatement insert = connection.prepareStatement(ARCHIVED_INSERT_SQL)) {
+            for (String storageKey : storageKeys) {
+                ArchivedSessions archive = archiveReader.read(storageKey);
+                Map<Long, Long> finished = archive.getSessionExercises().stream()
+                    .filter(exercise -> exercise.getStatus() == SessionExercise.Status.FINISHED)
+                    .collect(Collectors.groupingBy(SessionExerciseRow::getTrainingSessionId, Collectors.counting()));
+                for (TrainingSessionRow session : archive.getTrainingSessions()) {
+                    if (session.getStatus() == TrainingSession.Status.IS_TEMPLATE) {
+                        continue;
+                    }
+                    insert.setLong(USER_COLUMN, session.getUserId());
+                    insert.setDate(DAY_COLUMN, Date.valueOf(session.getCreatedAt().toLocalDate()));
+                    insert.setLong(WEIGHT_COLUMN, 1 + finished.getOrDefault(session.getId(), 0L));
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+    }
+
+    private static int rebuild(Connection connection) throws SQLException {
+        int written = 0;
+        try (PreparedStatement select = connection.prepareStatement(DAYS_SQL);
+             PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+            select.setFetchSize(FETCH_SIZE);
+            long userId = 0;
+            ActivityCalendar calendar = null;
+            try (ResultSet resultSet = select.executeQuery()) {
+                while (resultSet.next()) {
+                    long rowUserId = resultSet.getLong(USER_COLUMN);
+                    LocalDate day = resultSet.getObject(DAY_COLUMN, LocalDate.class);
+                    if (calendar == null || rowUserId != userId || day.getYear() != calendar.getYear()) {
+                        if (add(insert, userId, calendar) && ++written % BATCH_SIZE == 0) {
+                            insert.executeBatch();
+                        }
+                        userId = rowUserId;
+                        calendar = ActivityCalendar.empty(day.getYear());
+                    }
+                    calendar.mark(day, resultSet.getInt(WEIGHT_COLUMN));
+                }
+            }
+            if (add(insert, userId, calendar)) {
+                written++;
+            }
+            insert.executeBatch();
+        }
+        return written;
+    }
+
+    private static boolean add(PreparedStatement insert, long userId, ActivityCalendar calendar)
+        throws SQLException {
+        if (calendar == null) {
+            return false;
+        }
+        insert.setLong(USER_COLUMN, userId);
+        insert.setInt(YEAR_PARAMETER, calendar.getYear());
+        insert.setBytes(DAYS_PARAMETER, calendar.daysBytes());
+        insert.setBytes(INTENSITY_PARAMETER, calendar.intensityBytes());
+        insert.addBatch();
+        return true;
+    }
+}
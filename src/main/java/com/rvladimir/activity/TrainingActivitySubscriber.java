@@ -0,0 +1,56 @@
+package com.rvladimir.activity;
+
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.outbox.OutboxEvent;
+import com.rvladimir.outbox.OutboxEventType;
+import com.rvladimir.outbox.OutboxSubscriber;
+import com.rvladimir.outbox.SessionExerciseSaved;
+import com.rvladimir.outbox.TrainingSessionCreated;
+import com.rvladimir.repository.jdbc.TrainingActivityJdbcRepository;
+
+import io.micronaut.serde.ObjectMapper;
+
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Keeps ttrack.training_activity up to date from outbox events, off the request path. A training session marks its
+ * day; a finished session exercise raises the intensity of its session's day. Templates do not count.
+ * The marks are written in the relay's transaction, so they are applied once, together with the removal of the event.
+ */
+@Singleton
+@AllArgsConstructor
+public class TrainingActivitySubscriber implements OutboxSubscriber {
+
+    private final TrainingActivityJdbcRepository trainingActivityJdbcRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onEvent(OutboxEvent event) {
+        if (OutboxEventType.TRAINING_SESSION_CREATED.name().equals(event.getEventType())) {
+            TrainingSessionCreated created = read(event, TrainingSessionCreated.class);
+            if (created.getStatus() != TrainingSession.Status.IS_TEMPLATE) {
+                trainingActivityJdbcRepository.mark(created.getUserId(), created.getCreatedAt().toLocalDate(), 1);
+            }
+        } else if (OutboxEventType.SESSION_EXERCISE_SAVED.name().equals(event.getEventType())) {
+            SessionExerciseSaved saved = read(event, SessionExerciseSaved.class);
+            if (saved.getTrainingSessionStatus() != TrainingSession.Status.IS_TEMPLATE &&
+                saved.getStatus() == SessionExercise.Status.FINISHED) {
+                trainingActivityJdbcRepository.mark(saved.getUserId(), saved.getTrainingDay(), 1);
+            }
+        }
+    }
+
+    private <T> T read(OutboxEvent event, Class<T> type) {
+        try {
+            return objectMapper.readValue(event.getPayload(), type);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not read " + event.getEventType() + " event " + event.getId(), ex);
+        }
+    }
+}
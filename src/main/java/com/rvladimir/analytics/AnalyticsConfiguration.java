@@ -0,0 +1,37 @@
+package com.rvladimir.analytics;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+import java.time.Duration;
+
+import lombok.Data;
+
+/**
+ * Configuration for the embedded analytics store and its snapshots of training data.
+ */
+@Data
+@ConfigurationProperties("ttrack.analytics")
+public class AnalyticsConfiguration {
+
+    private static final Duration DEFAULT_SNAPSHOT_INTERVAL = Duration.ofMinutes(5);
+    private static final int DEFAULT_BATCH_SIZE = 5000;
+    private static final int DEFAULT_THREADS = 2;
+
+    /** Whether the analytics store is opened and kept up to date. Reports are unavailable otherwise. */
+    private boolean enabled;
+
+    /** DuckDB database file; each instance keeps its own. */
+    private String path = "analytics/ttrack.duckdb";
+
+    /** How often changes of training sessions and session exercises are copied into the store. */
+    private Duration snapshotInterval = DEFAULT_SNAPSHOT_INTERVAL;
+
+    /** Maximum number of sync feed entries copied per store transaction. */
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    /** DuckDB memory limit, e.g. {@code 512MB}. */
+    private String memoryLimit = "512MB";
+
+    /** Threads DuckDB may use for one report, so reports leave CPU to request handling. */
+    private int threads = DEFAULT_THREADS;
+}
@@ -0,0 +1,82 @@
+package com.rvladimir.analytics;
+
+/**
+ * Canned reports over the {@link AnalyticsStore}. Each query takes the start (inclusive) and end (exclusive) of
+ * its time range as its two parameters. Templates and {@code NOT_FINISHED} session exercises are left out.
+ */
+public enum AnalyticsReport {
+
+    /** Most performed catalog exercises, with how many users performed them. */
+    POPULAR_EXERCISES("""
+        SELECT se.exercise_id, e.name, e.type, COUNT(*) AS performed, COUNT(DISTINCT ts.user_id) AS users
+        FROM session_exercise se
+        JOIN training_session ts ON ts.id = se.training_session_id
+        LEFT JOIN exercise e ON e.id = se.exercise_id
+        WHERE ts.status <> 'IS_TEMPLATE'
+          AND (se.status IS NULL OR se.status <> 'NOT_FINISHED')
+          AND se.exercise_id IS NOT NULL
+          AND ts.created_at >= ? AND ts.created_at < ?
+        GROUP BY se.exercise_id, e.name, e.type
+        ORDER BY performed DESC, se.exercise_id
+        LIMIT 100
+        """),
+
+    /** Training sessions with HIIT exercises and their average total rounds, per week. */
+    HIIT_ROUNDS("""
+        SELECT CAST(CAST(date_trunc('week', s.created_at) AS DATE) AS VARCHAR) AS week, COUNT(*) AS sessions,
+               ROUND(AVG(s.rounds), 2) AS average_rounds
+        FROM (
+            SELECT ts.id, ts.created_at, CAST(SUM(COALESCE(se.rounds, 0)) AS BIGINT) AS rounds
+            FROM session_exercise se
+            JOIN training_session ts ON ts.id = se.training_session_id
+            WHERE ts.status <> 'IS_TEMPLATE'
+              AND (se.status IS NULL OR se.status <> 'NOT_FINISHED')
+              AND se.type_of_exercise = 'HIIT'
+              AND ts.created_at >= ? AND ts.created_at < ?
+            GROUP BY ts.id, ts.created_at
+        ) s
+        GROUP BY week
+        ORDER BY week
+        """),
+
+    /**
+     * Per exercise type, users who first trained it within the range, and how many of them trained it again in the
+     * second week (days 7 to 13) and in the second month (days 28 to 55) after that first time.
+     */
+    RETENTION_BY_TYPE("""
+        WITH trained AS (
+            SELECT DISTINCT se.type_of_exercise AS type, ts.user_id, ts.created_at
+            FROM session_exercise se
+            JOIN training_session ts ON ts.id = se.training_session_id
+            WHERE ts.status <> 'IS_TEMPLATE'
+              AND (se.status IS NULL OR se.status <> 'NOT_FINISHED')
+              AND se.type_of_exercise IS NOT NULL
+        ),
+        first_trained AS (
+            SELECT type, user_id, MIN(created_at) AS first_at FROM trained GROUP BY type, user_id
+        )
+        SELECT f.type, COUNT(DISTINCT f.user_id) AS users,
+               COUNT(DISTINCT CASE WHEN t.created_at >= f.first_at + INTERVAL 7 DAY
+                   AND t.created_at < f.first_at + INTERVAL 14 DAY THEN f.user_id END) AS returned_second_week,
+               COUNT(DISTINCT CASE WHEN t.created_at >= f.first_at + INTERVAL 28 DAY
+                   AND t.created_at < f.first_at + INTERVAL 56 DAY THEN f.user_id END) AS returned_second_month
+        FROM first_trained f
+        LEFT JOIN trained t ON t.type = f.type AND t.user_id = f.user_id
+        WHERE f.first_at >= ? AND f.first_at < ?
+        GROUP BY f.type
+        ORDER BY users DESC, f.type
+        """);
+
+    private final String sql;
+
+    AnalyticsReport(String sql) {
+        this.sql = sql;
+    }
+
+    /**
+     * The report query, in DuckDB SQL.
+     */
+    public String getSql() {
+        return sql;
+    }
+}
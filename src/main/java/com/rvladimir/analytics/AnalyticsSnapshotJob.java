@@ -0,0 +1,247 @@
+package com.rvladimir.analytics;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.scheduling.annotation.Scheduled;
+
+import jakarta.inject.Singleton;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Copies changes of training sessions and session exercises from PostgreSQL into the {@link AnalyticsStore}.
+ * Changes are found through ttrack.sync_change, which database triggers keep up to date on every insert, update and
+ * delete; the store remembers the feed position it has copied up to, in the same store transaction as the copied
+ * rows, so an interrupted snapshot resumes where it stopped. Each page costs PostgreSQL one index range read of the
+ * feed and two primary key lookups per changed row. The exercise catalog is small and copied whole every run.
+ * Sessions archived to cold storage leave the feed without a delete and stay in the store.
+ */
+@Slf4j
+@Singleton
+@Requires(property = "ttrack.analytics.enabled", value = "true")
+@Requires(condition = NotNativeImageCondition.class)
+public class AnalyticsSnapshotJob {
+
+    static final String TRAINING_SESSION = "TRAINING_SESSION";
+    static final String SESSION_EXERCISE = "SESSION_EXERCISE";
+
+    private static final String FEED_SQL = """
+        SELECT sc.entity_type, sc.entity_id, sc.change_seq FROM ttrack.sync_change sc
+        WHERE (sc.change_seq, sc.entity_type, sc.entity_id) > (?, ?, ?)
+          AND sc.change_seq IS NOT NULL
+        ORDER BY sc.change_seq, sc.entity_type, sc.entity_id
+        LIMIT ?
+        """;
+    private static final String SEQUENCE_SQL = "SELECT ttrack.sequence_sync_changes(?)";
+    private static final String SOURCE_SESSIONS_SQL =
+        "SELECT id, user_id, status, created_at FROM ttrack.training_session WHERE id = ANY(?)";
+    private static final String SOURCE_EXERCISES_SQL = """
+        SELECT id, training_session_id, exercise_id, type_of_exercise, status, rounds, sets, repetitions, weight,
+               CASE WHEN unit_of_measurement = 'MILES' THEN distance * 1.609344 ELSE distance END,
+               CAST(EXTRACT(EPOCH FROM duration) AS INTEGER), created_at
+        FROM ttrack.session_exercise
+        WHERE id = ANY(?)
+        """;
+    private static final String SOURCE_CATALOG_SQL = "SELECT id, name, type FROM ttrack.exercise";
+    private static final String STATE_SQL = "SELECT change_seq, entity_type, entity_id FROM snapshot_state";
+    private static final String CHANGE_SQL = "INSERT INTO snapshot_change (entity_type, id) VALUES (?, ?)";
+    private static final String[] REMOVE_CHANGED_SQL = {
+        """
+        DELETE FROM training_session WHERE id IN (
+            SELECT id FROM snapshot_change WHERE entity_type = 'TRAINING_SESSION')
+        """,
+        """
+        DELETE FROM session_exercise WHERE id IN (
+            SELECT id FROM snapshot_change WHERE entity_type = 'SESSION_EXERCISE')
+        """,
+        "DELETE FROM snapshot_change"
+    };
+    private static final String SESSION_INSERT_SQL = "INSERT INTO training_session VALUES (?, ?, ?, ?)";
+    private static final String EXERCISE_INSERT_SQL =
+        "INSERT INTO session_exercise VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String CATALOG_INSERT_SQL = "INSERT INTO exercise VALUES (?, ?, ?)";
+    private static final String CLEAR_STATE_SQL = "DELETE FROM snapshot_state";
+    private static final String STATE_INSERT_SQL = "INSERT INTO snapshot_state VALUES (?, ?, ?, ?)";
+    private static final int SESSION_COLUMNS = 4;
+    private static final int EXERCISE_COLUMNS = 12;
+    private static final int CATALOG_COLUMNS = 3;
+    private static final int FEED_ENTITY_ID_COLUMN = 2;
+    private static final int FEED_CHANGE_SEQ_COLUMN = 3;
+    private static final int POSITION_ENTITY_ID = 3;
+    private static final int LIMIT_PARAMETER = 4;
+    private static final int COMPLETED_AT_PARAMETER = 4;
+
+    private final DataSource dataSource;
+    private final AnalyticsStore store;
+    private final AnalyticsConfiguration configuration;
+
+    public AnalyticsSnapshotJob(DataSource dataSource, AnalyticsStore store, AnalyticsConfiguration configuration) {
+        this.dataSource = dataSource;
+        this.store = store;
+        this.configuration = configuration;
+    }
+
+    @Scheduled(initialDelay = "30s", fixedDelay = "${ttrack.analytics.snapshot-interval:5m}")
+    void run() {
+        snapshot();
+    }
+
+    /**
+     * Numbers the committed feed entries, then copies the catalog and every numbered feed entry.
+     * @return the number of feed entries copied
+     */
+    synchronized int snapshot() {
+        int copied = 0;
+        try (Connection source = dataSource.getConnection()) {
+            source.setAutoCommit(true);
+            sequenceChanges(source);
+            source.setAutoCommit(false);
+            source.setReadOnly(true);
+            store.write(target -> copyCatalog(source, target));
+            int page;
+            do {
+                page = store.write(target -> copyPage(source, target));
+                source.commit();
+                copied += page;
+            } while (page == configuration.getBatchSize());
+            log.debug("Copied {} changes into the analytics store", copied);
+        } catch (SQLException ex) {
+            log.warn("Could not snapshot into the analytics store: {}", ex.getMessage());
+        }
+        return copied;
+    }
+
+    /**
+     * Numbers the committed feed entries still waiting for a change sequence, one committed batch at a time.
+     */
+    private void sequenceChanges(Connection source) throws SQLException {
+        try (PreparedStatement statement = source.prepareStatement(SEQUENCE_SQL)) {
+            statement.setInt(1, configuration.getBatchSize());
+            int sequenced;
+            do {
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    sequenced = resultSet.getInt(1);
+                }
+            } while (sequenced == configuration.getBatchSize());
+        }
+    }
+
+    private static int copyCatalog(Connection source, Connection target) throws SQLException {
+        try (Statement statement = target.createStatement()) {
+            statement.execute("DELETE FROM exercise");
+        }
+        try (Statement select = source.createStatement();
+             ResultSet resultSet = select.executeQuery(SOURCE_CATALOG_SQL)) {
+            return copy(resultSet, target, CATALOG_INSERT_SQL, CATALOG_COLUMNS);
+        }
+    }
+
+    private int copyPage(Connection source, Connection target) throws SQLException {
+        long changeSeq = 0;
+        String entityType = "";
+        long entityId = 0;
+        try (Statement statement = target.createStatement(); ResultSet resultSet = statement.executeQuery(STATE_SQL)) {
+            if (resultSet.next()) {
+                changeSeq = resultSet.getLong(1);
+                entityType = resultSet.getString(2);
+                entityId = resultSet.getLong(POSITION_ENTITY_ID);
+            }
+        }
+        List<Long> sessionIds = new ArrayList<>();
+        List<Long> exerciseIds = new ArrayList<>();
+        try (PreparedStatement feed = source.prepareStatement(FEED_SQL);
+             PreparedStatement change = target.prepareStatement(CHANGE_SQL)) {
+            feed.setLong(1, changeSeq);
+            feed.setString(2, entityType);
+            feed.setLong(POSITION_ENTITY_ID, entityId);
+            feed.setInt(LIMIT_PARAMETER, configuration.getBatchSize());
+            try (ResultSet resultSet = feed.executeQuery()) {
+                while (resultSet.next()) {
+                    entityType = resultSet.getString(1);
+                    entityId = resultSet.getLong(FEED_ENTITY_ID_COLUMN);
+                    changeSeq = resultSet.getLong(FEED_CHANGE_SEQ_COLUMN);
+                    if (TRAINING_SESSION.equals(entityType)) {
+                        sessionIds.add(entityId);
+                    } else {
+                        exerciseIds.add(entityId);
+                    }
+                    change.setString(1, entityType);
+                    change.setLong(2, entityId);
+                    change.addBatch();
+                }
+            }
+            change.executeBatch();
+        }
+        try (Statement statement = target.createStatement()) {
+            for (String sql : REMOVE_CHANGED_SQL) {
+                statement.execute(sql);
+            }
+        }
+        copyRows(source, SOURCE_SESSIONS_SQL, sessionIds, target, SESSION_INSERT_SQL, SESSION_COLUMNS);
+        copyRows(source, SOURCE_EXERCISES_SQL, exerciseIds, target, EXERCISE_INSERT_SQL, EXERCISE_COLUMNS);
+        try (Statement statement = target.createStatement();
+             PreparedStatement state = target.prepareStatement(STATE_INSERT_SQL)) {
+            statement.execute(CLEAR_STATE_SQL);
+            state.setLong(1, changeSeq);
+            state.setString(2, entityType);
+            state.setLong(POSITION_ENTITY_ID, entityId);
+            state.setTimestamp(COMPLETED_AT_PARAMETER, Timestamp.valueOf(LocalDateTime.now()));
+            state.executeUpdate();
+        }
+        return sessionIds.size() + exerciseIds.size();
+    }
+
+    /**
+     * Copies the rows that still exist; rows deleted since the feed was read are left out and their tombstones
+     * arrive with a later page.
+     */
+    private static void copyRows(
+        Connection source,
+        String selectSql,
+        List<Long> ids,
+        Connection target,
+        String insertSql,
+        int columns
+    ) throws SQLException {
+        if (ids.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement select = source.prepareStatement(selectSql)) {
+            Array array = source.createArrayOf("bigint", ids.toArray());
+            select.setArray(1, array);
+            try (ResultSet resultSet = select.executeQuery()) {
+                copy(resultSet, target, insertSql, columns);
+            }
+            array.free();
+        }
+    }
+
+    private static int copy(ResultSet resultSet, Connection target, String insertSql, int columns)
+        throws SQLException {
+        int copied = 0;
+        try (PreparedStatement insert = target.prepareStatement(insertSql)) {
+            while (resultSet.next()) {
+                for (int column = 1; column <= columns; column++) {
+                    insert.setObject(column, resultSet.getObject(column));
+                }
+                insert.addBatch();
+                copied++;
+            }
+            insert.executeBatch();
+        }
+        return copied;
+    }
+}
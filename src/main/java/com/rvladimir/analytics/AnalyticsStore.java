@@ -0,0 +1,123 @@
+package com.rvladimir.analytics;
+
+import io.micronaut.context.annotation.Requires;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.regex.Pattern;
+
+import org.duckdb.DuckDBConnection;
+
+/**
+ * Embedded DuckDB database holding a columnar copy of training sessions, session exercises and the exercise
+ * catalog for reporting. Reports scan this copy in-process and never reach PostgreSQL.
+ * Writes go through one connection, one transaction at a time; every read gets its own duplicate of that
+ * connection, so reports run concurrently with each other and with snapshots and see committed snapshots only.
+ */
+@Singleton
+@Requires(property = "ttrack.analytics.enabled", value = "true")
+@Requires(condition = NotNativeImageCondition.class)
+public class AnalyticsStore implements AutoCloseable {
+
+    private static final Pattern MEMORY_LIMIT_PATTERN =
+        Pattern.compile("\\d+(\\.\\d+)?\\s*[KMGT]?i?B", Pattern.CASE_INSENSITIVE);
+    private static final String[] SCHEMA = {
+        """
+        CREATE TABLE IF NOT EXISTS training_session (
+            id BIGINT, user_id BIGINT, status VARCHAR, created_at TIMESTAMP)
+        """,
+        """
+        CREATE TABLE IF NOT EXISTS session_exercise (
+            id BIGINT, training_session_id BIGINT, exercise_id BIGINT, type_of_exercise VARCHAR, status VARCHAR,
+            rounds INTEGER, sets INTEGER, repetitions INTEGER, weight DOUBLE, distance_km DOUBLE,
+            duration_seconds INTEGER, created_at TIMESTAMP)
+        """,
+        "CREATE TABLE IF NOT EXISTS exercise (id BIGINT, name VARCHAR, type VARCHAR)",
+        """
+        CREATE TABLE IF NOT EXISTS snapshot_state (
+            change_seq BIGINT, entity_type VARCHAR, entity_id BIGINT, completed_at TIMESTAMP)
+        """,
+        "CREATE TEMP TABLE IF NOT EXISTS snapshot_change (entity_type VARCHAR, id BIGINT)"
+    };
+
+    private final DuckDBConnection writer;
+
+    public AnalyticsStore(AnalyticsConfiguration configuration) throws SQLException, IOException {
+        if (!MEMORY_LIMIT_PATTERN.matcher(configuration.getMemoryLimit()).matches()) {
+            throw new IllegalStateException("Invalid analytics memory limit: " + configuration.getMemoryLimit());
+        }
+        Path path = Path.of(configuration.getPath()).toAbsolutePath().normalize();
+        Files.createDirectories(path.getParent());
+        this.writer = DriverManager.getConnection("jdbc:duckdb:" + path).unwrap(DuckDBConnection.class);
+        try (Statement statement = writer.createStatement()) {
+            statement.execute("SET memory_limit = '" + configuration.getMemoryLimit() + "'");
+            statement.execute("SET threads = " + Math.max(configuration.getThreads(), 1));
+            for (String ddl : SCHEMA) {
+                statement.execute(ddl);
+            }
+        }
+        writer.setAutoCommit(false);
+        writer.commit();
+    }
+
+    /**
+     * Runs work in one store transaction, committed when it returns and rolled back when it throws.
+     * @param work the work
+     * @param <T> the result type
+     * @return the result of the work
+     * @throws SQLException if the work or the commit fails
+     */
+    public synchronized <T> T write(Work<T> work) throws SQLException {
+        try {
+            T result = work.run(writer);
+            writer.commit();
+            return result;
+        } catch (SQLException | RuntimeException ex) {
+            writer.rollback();
+            throw ex;
+        }
+    }
+
+    /**
+     * Runs read-only work on a connection of its own.
+     * @param work the work
+     * @param <T> the result type
+     * @return the result of the work
+     * @throws SQLException if the work fails
+     */
+    public <T> T read(Work<T> work) throws SQLException {
+        try (Connection connection = writer.duplicate()) {
+            return work.run(connection);
+        }
+    }
+
+    @Override
+    @PreDestroy
+    public synchronized void close() throws SQLException {
+        writer.close();
+    }
+
+    /**
+     * Work on a store connection.
+     * @param <T> the result type
+     */
+    @FunctionalInterface
+    public interface Work<T> {
+
+        /**
+         * Runs the work.
+         * @param connection the store connection
+         * @return the result
+         * @throws SQLException if a statement fails
+         */
+        T run(Connection connection) throws SQLException;
+    }
+}
@@ -0,0 +1,25 @@
+package com.rvladimir.analytics;
+
+import io.micronaut.context.condition.Condition;
+import io.micronaut.context.condition.ConditionContext;
+
+/**
+ * Keeps the analytics store out of native images. The DuckDB JDBC driver extracts and loads a native library whose
+ * JNI code calls back into many driver classes; a native image would need reachability metadata for every one of
+ * them and would otherwise fail at the first report. Analytics is therefore JVM-only, and native images answer
+ * reports as if {@code ttrack.analytics.enabled} were false.
+ */
+public final class NotNativeImageCondition implements Condition {
+
+    /** Set by GraalVM while building and running a native image; read the same way by {@code ImageInfo}. */
+    static final String IMAGE_CODE_PROPERTY = "org.graalvm.nativeimage.imagecode";
+
+    @Override
+    public boolean matches(ConditionContext context) {
+        if (System.getProperty(IMAGE_CODE_PROPERTY) == null) {
+            return true;
+        }
+        context.fail("DuckDB analytics is not available in native images");
+        return false;
+    }
+}
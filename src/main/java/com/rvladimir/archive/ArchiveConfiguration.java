@@ -0,0 +1,30 @@
+package com.rvladimir.archive;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+import java.time.Duration;
+
+import lombok.Data;
+
+/**
+ * Configuration for cold-storage archival of finished training sessions.
+ */
+@Data
+@ConfigurationProperties("ttrack.archive")
+public class ArchiveConfiguration {
+
+    private static final long DEFAULT_MIN_AGE_DAYS = 365;
+    private static final int DEFAULT_BATCH_SIZE = 500;
+
+    /** Whether {@link TrainingSessionArchiveJob} runs. Archived data is always readable. */
+    private boolean enabled;
+
+    /** Finished training sessions created longer ago than this are moved to the archive. */
+    private Duration minAge = Duration.ofDays(DEFAULT_MIN_AGE_DAYS);
+
+    /** Root directory of {@link LocalArchiveStorage}. */
+    private String directory = "archive";
+
+    /** Maximum number of training sessions loaded per archival round. */
+    private int batchSize = DEFAULT_BATCH_SIZE;
+}
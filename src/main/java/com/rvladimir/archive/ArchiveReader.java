@@ -0,0 +1,32 @@
+package com.rvladimir.archive;
+
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Reads archive files back into rows, for everything derived from training sessions that must also cover the
+ * archived ones: progress charts and the rebuilds of the activity calendars and the training load.
+ */
+@Singleton
+@AllArgsConstructor
+public class ArchiveReader {
+
+    private final ArchiveStorage archiveStorage;
+
+    /**
+     * Reads and decodes one archive file.
+     * @param storageKey the storage key recorded in the archive manifest
+     * @return the archived training sessions and session exercises
+     */
+    public ArchivedSessions read(String storageKey) {
+        try {
+            return ColumnarArchiveCodec.decode(archiveStorage.read(storageKey));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not read archive " + storageKey, ex);
+        }
+    }
+}
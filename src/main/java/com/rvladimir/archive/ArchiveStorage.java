@@ -0,0 +1,24 @@
+package com.rvladimir.archive;
+
+import java.io.IOException;
+
+/**
+ * Blob store holding archive files. {@link LocalArchiveStorage} is the default; object storage is plugged in by
+ * providing a bean that replaces it.
+ */
+public interface ArchiveStorage {
+
+    /**
+     * Stores an archive file. Keys are never reused, so implementations may reject overwrites.
+     * @param key the storage key, a relative '/'-separated path
+     * @param content the encoded archive
+     */
+    void write(String key, byte[] content) throws IOException;
+
+    /**
+     * Reads an archive file.
+     * @param key the storage key
+     * @return the encoded archive
+     */
+    byte[] read(String key) throws IOException;
+}
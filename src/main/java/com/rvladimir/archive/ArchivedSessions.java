@@ -0,0 +1,23 @@
+package com.rvladimir.archive;
+
+import com.rvladimir.repository.row.SessionExerciseRow;
+import com.rvladimir.repository.row.TrainingSessionRow;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Content of one archive file: a batch of training sessions of a single user and all their session exercises.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedSessions {
+
+    private List<TrainingSessionRow> trainingSessions;
+
+    private List<SessionExerciseRow> sessionExercises;
+}
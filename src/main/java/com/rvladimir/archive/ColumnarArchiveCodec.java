@@ -0,0 +1,328 @@
+package com.rvladimir.archive;
+
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.repository.row.SessionExerciseRow;
+import com.rvladimir.repository.row.TrainingSessionRow;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compact columnar encoding of {@link ArchivedSessions}, gzip-compressed as a whole.
+ *
+ * <p>Each table is stored column by column: a presence bitmap followed by the non-null values.
+ * Integers and timestamps are delta and zig-zag encoded as variable-length longs, so sorted ids and
+ * close timestamps shrink to one or two bytes; strings and enums are dictionary encoded.
+ * Timestamps keep microsecond precision, matching PostgreSQL.
+ */
+public final class ColumnarArchiveCodec {
+
+    /** "TTA1": ttrack archive, format version 1. */
+    private static final int MAGIC = 0x54544131;
+    private static final int VARINT_PAYLOAD_BITS = 7;
+    private static final int VARINT_PAYLOAD_MASK = 0x7F;
+    private static final int VARINT_CONTINUATION = 0x80;
+    private static final int LONG_SIGN_SHIFT = 63;
+    private static final long NANOS_PER_MICRO = 1_000L;
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+
+    private ColumnarArchiveCodec() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Encodes sessions and their exercises into a gzip-compressed columnar archive.
+     */
+    public static byte[] encode(ArchivedSessions archive) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            out.writeInt(MAGIC);
+            writeTrainingSessions(out, archive.getTrainingSessions());
+            writeSessionExercises(out, archive.getSessionExercises());
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes an archive produced by {@link #encode(ArchivedSessions)}.
+     */
+    public static ArchivedSessions decode(byte[] content) throws IOException {
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(content)))) {
+            int magic = in.readInt();
+            if (magic != MAGIC) {
+                throw new IOException("Not a training session archive (magic " + Integer.toHexString(magic) + ")");
+            }
+            List<TrainingSessionRow> sessions = readTrainingSessions(in);
+            List<SessionExerciseRow> exercises = readSessionExercises(in);
+            return new ArchivedSessions(sessions, exercises);
+        }
+    }
+
+    private static void writeTrainingSessions(DataOutputStream out, List<TrainingSessionRow> rows) throws IOException {
+        writeVarLong(out, rows.size());
+        writeLongs(out, rows, TrainingSessionRow::getId);
+        writeStrings(out, rows, TrainingSessionRow::getName);
+        writeStrings(out, rows, TrainingSessionRow::getDescription);
+        writeStrings(out, rows, row -> enumName(row.getStatus()));
+        writeLongs(out, rows, TrainingSessionRow::getUserId);
+        writeLongs(out, rows, row -> toEpochMicros(row.getCreatedAt()));
+    }
+
+    private static List<TrainingSessionRow> readTrainingSessions(DataInputStream in) throws IOException {
+        List<TrainingSessionRow> rows = newRows(in, TrainingSessionRow::new);
+        readLongs(in, rows, TrainingSessionRow::setId);
+        readStrings(in, rows, TrainingSessionRow::setName);
+        readStrings(in, rows, TrainingSessionRow::setDescription);
+        readStrings(in, rows, (row, value) -> row.setStatus(TrainingSession.Status.valueOf(value)));
+        readLongs(in, rows, TrainingSessionRow::setUserId);
+        readLongs(in, rows, (row, value) -> row.setCreatedAt(fromEpochMicros(value)));
+        return rows;
+    }
+
+    private static void writeSessionExercises(DataOutputStream out, List<SessionExerciseRow> rows) throws IOException {
+        writeVarLong(out, rows.size());
+        writeLongs(out, rows, SessionExerciseRow::getId);
+        writeLongs(out, rows, row -> toLong(row.getRounds()));
+        writeLongs(out, rows, row -> toLong(row.getSets()));
+        writeLongs(out, rows, row -> toLong(row.getRepetitions()));
+        writeLongs(out, rows, row -> toLong(row.getSprints()));
+        writeLongs(out, rows, row -> toNanoOfDay(row.getDuration()));
+        writeDoubles(out, rows, SessionExerciseRow::getWeight);
+        writeDoubles(out, rows, SessionExerciseRow::getDistance);
+        writeLongs(out, rows, row -> toEpochMicros(row.getStartTime()));
+        writeLongs(out, rows, row -> toEpochMicros(row.getEndTime()));
+        writeLongs(out, rows, row -> toLong(row.getRestTime()));
+        writeStrings(out, rows, row -> enumName(row.getStatus()));
+        writeLongs(out, rows, row -> toLong(row.getExerciseOrder()));
+        writeLongs(out, rows, SessionExerciseRow::getExerciseId);
+        writeLongs(out, rows, SessionExerciseRow::getTrainingSessionId);
+        writeLongs(out, rows, row -> toEpochMicros(row.getCreatedAt()));
+        writeStrings(out, rows, row -> enumName(row.getUnitOfMeasurement()));
+        writeStrings(out, rows, row -> enumName(row.getTypeOfExercise()));
+        writeStrings(out, rows, SessionExerciseRow::getNotes);
+    }
+
+    private static List<SessionExerciseRow> readSessionExercises(DataInputStream in) throws IOException {
+        List<SessionExerciseRow> rows = newRows(in, SessionExerciseRow::new);
+        readLongs(in, rows, SessionExerciseRow::setId);
+        readLongs(in, rows, (row, value) -> row.setRounds(value.intValue()));
+        readLongs(in, rows, (row, value) -> row.setSets(value.intValue()));
+        readLongs(in, rows, (row, value) -> row.setRepetitions(value.intValue()));
+        readLongs(in, rows, (row, value) -> row.setSprints(value.intValue()));
+        readLongs(in, rows, (row, value) -> row.setDuration(LocalTime.ofNanoOfDay(value)));
+        readDoubles(in, rows, SessionExerciseRow::setWeight);
+        readDoubles(in, rows, SessionExerciseRow::setDistance);
+        readLongs(in, rows, (row, value) -> row.setStartTime(fromEpochMicros(value)));
+        readLongs(in, rows, (row, value) -> row.setEndTime(fromEpochMicros(value)));
+        readLongs(in, rows, (row, value) -> row.setRestTime(value.intValue()));
+        readStrings(in, rows, (row, value) -> row.setStatus(SessionExercise.Status.valueOf(value)));
+        readLongs(in, rows, (row, value) -> row.setExerciseOrder(value.intValue()));
+        readLongs(in, rows, SessionExerciseRow::setExerciseId);
+        readLongs(in, rows, SessionExerciseRow::setTrainingSessionId);
+        readLongs(in, rows, (row, value) -> row.setCreatedAt(fromEpochMicros(value)));
+        readStrings(in, rows, (row, value) -> row.setUnitOfMeasurement(
+            SessionExercise.UnitOfMeasurement.valueOf(value)));
+        readStrings(in, rows, (row, value) -> row.setTypeOfExercise(TypeOfExercise.valueOf(value)));
+        readStrings(in, rows, SessionExerciseRow::setNotes);
+        return rows;
+    }
+
+    private static <T> List<T> newRows(DataInputStream in, Supplier<T> factory) throws IOException {
+        int count = Math.toIntExact(readVarLong(in));
+        List<T> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(factory.get());
+        }
+        return rows;
+    }
+
+    private static <T> void writeLongs(DataOutputStream out, List<T> rows, Function<T, Long> getter)
+        throws IOException {
+        writePresence(out, rows, getter);
+        long previous = 0;
+        for (T row : rows) {
+            Long value = getter.apply(row);
+            if (value != null) {
+                writeVarLong(out, zigZag(value - previous));
+                previous = value;
+            }
+        }
+    }
+
+    private static <T> void readLongs(DataInputStream in, List<T> rows, BiConsumer<T, Long> setter)
+        throws IOException {
+        BitSet present = readPresence(in);
+        long previous = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            if (present.get(i)) {
+                previous += unZigZag(readVarLong(in));
+                setter.accept(rows.get(i), previous);
+            }
+        }
+    }
+
+    private static <T> void writeDoubles(DataOutputStream out, List<T> rows, Function<T, Double> getter)
+        throws IOException {
+        writePresence(out, rows, getter);
+        for (T row : rows) {
+            Double value = getter.apply(row);
+            if (value != null) {
+                out.writeDouble(value);
+            }
+        }
+    }
+
+    private static <T> void readDoubles(DataInputStream in, List<T> rows, BiConsumer<T, Double> setter)
+        throws IOException {
+        BitSet present = readPresence(in);
+        for (int i = 0; i < rows.size(); i++) {
+            if (present.get(i)) {
+                setter.accept(rows.get(i), in.readDouble());
+            }
+        }
+    }
+
+    private static <T> void writeStrings(DataOutputStream out, List<T> rows, Function<T, String> getter)
+        throws IOException {
+        writePresence(out, rows, getter);
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<String> entries = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        for (T row : rows) {
+            String value = getter.apply(row);
+            if (value != null) {
+                indexes.add(dictionary.computeIfAbsent(value, key -> {
+                    entries.add(key);
+                    return entries.size() - 1;
+                }));
+            }
+        }
+        writeVarLong(out, entries.size());
+        for (String entry : entries) {
+            byte[] utf8 = entry.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(out, utf8.length);
+            out.write(utf8);
+        }
+        for (Integer index : indexes) {
+            writeVarLong(out, index);
+        }
+    }
+
+    private static <T> void readStrings(DataInputStream in, List<T> rows, BiConsumer<T, String> setter)
+        throws IOException {
+        BitSet present = readPresence(in);
+        int size = Math.toIntExact(readVarLong(in));
+        List<String> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            byte[] utf8 = new byte[Math.toIntExact(readVarLong(in))];
+            in.readFully(utf8);
+            entries.add(new String(utf8, StandardCharsets.UTF_8));
+        }
+        for (int i = 0; i < rows.size(); i++) {
+            if (present.get(i)) {
+                setter.accept(rows.get(i), entries.get(Math.toIntExact(readVarLong(in))));
+            }
+        }
+    }
+
+    private static <T> void writePresence(DataOutputStream out, List<T> rows, Function<T, ?> getter)
+        throws IOException {
+        BitSet present = new BitSet(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            if (getter.apply(rows.get(i)) != null) {
+                present.set(i);
+            }
+        }
+        byte[] bitmap = present.toByteArray();
+        writeVarLong(out, bitmap.length);
+        out.write(bitmap);
+    }
+
+    private static BitSet readPresence(DataInputStream in) throws IOException {
+        byte[] bitmap = new byte[Math.toIntExact(readVarLong(in))];
+        in.readFully(bitmap);
+        return BitSet.valueOf(bitmap);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~VARINT_PAYLOAD_MASK) != 0) {
+            out.writeByte((int) (remaining & VARINT_PAYLOAD_MASK) | VARINT_CONTINUATION);
+            remaining >>>= VARINT_PAYLOAD_BITS;
+        }
+        out.writeByte((int) remaining);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        int shift = 0;
+        int current;
+        do {
+            current = in.readUnsignedByte();
+            value |= (long) (current & VARINT_PAYLOAD_MASK) << shift;
+            shift += VARINT_PAYLOAD_BITS;
+        } while ((current & VARINT_CONTINUATION) != 0);
+        return value;
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> LONG_SIGN_SHIFT);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static Long toLong(Integer value) {
+        if (value == null) {
+            return null;
+        }
+        return value.longValue();
+    }
+
+    private static Long toNanoOfDay(LocalTime value) {
+        if (value == null) {
+            return null;
+        }
+        return value.toNanoOfDay();
+    }
+
+    private static Long toEpochMicros(LocalDateTime value) {
+        if (value == null) {
+            return null;
+        }
+        return value.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND + value.getNano() / NANOS_PER_MICRO;
+    }
+
+    private static LocalDateTime fromEpochMicros(long micros) {
+        long seconds = Math.floorDiv(micros, MICROS_PER_SECOND);
+        long nanos = Math.floorMod(micros, MICROS_PER_SECOND) * NANOS_PER_MICRO;
+        return LocalDateTime.ofEpochSecond(seconds, (int) nanos, ZoneOffset.UTC);
+    }
+
+    private static String enumName(Enum<?> value) {
+        if (value == null) {
+            return null;
+        }
+        return value.name();
+    }
+}
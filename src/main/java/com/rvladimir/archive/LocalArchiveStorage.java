@@ -0,0 +1,48 @@
+package com.rvladimir.archive;
+
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Stores archive files below {@code ttrack.archive.directory} on the local file system.
+ * Files are written to a temporary sibling and moved into place, so readers never see partial files.
+ */
+@Singleton
+public class LocalArchiveStorage implements ArchiveStorage {
+
+    private final Path root;
+
+    public LocalArchiveStorage(ArchiveConfiguration configuration) {
+        this.root = Path.of(configuration.getDirectory()).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void write(String key, byte[] content) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Path temporary = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temporary, content);
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    @Override
+    public byte[] read(String key) throws IOException {
+        return Files.readAllBytes(resolve(key));
+    }
+
+    private Path resolve(String key) throws IOException {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IOException("Archive key escapes the archive directory: " + key);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,134 @@
+package com.rvladimir.archive;
+
+import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.repository.jdbc.TrainingSessionJdbcRepository;
+import com.rvladimir.repository.row.TrainingSessionRow;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
+import io.micronaut.scheduling.annotation.Scheduled;
+
+import jakarta.inject.Singleton;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Periodically moves finished training sessions older than {@code ttrack.archive.min-age} to cold storage.
+ * Sessions are archived in one file per user and month. Guarded by a PostgreSQL advisory lock so only one
+ * instance archives at a time.
+ */
+@Slf4j
+@Singleton
+@Requires(property = "ttrack.archive.enabled", value = "true")
+public class TrainingSessionArchiveJob {
+
+    /** Arbitrary application-wide key for {@code pg_try_advisory_lock}. */
+    private static final long ADVISORY_LOCK_KEY = 0x7474_7261_636b_0002L;
+    private static final String TRY_LOCK_SQL = "SELECT pg_try_advisory_lock(?)";
+    private static final String UNLOCK_SQL = "SELECT pg_advisory_unlock(?)";
+    private static final Sort ARCHIVE_ORDER = Sort.of(Sort.Order.asc("userId"), Sort.Order.asc("createdAt"));
+
+    private final DataSource dataSource;
+    private final TrainingSessionJdbcRepository trainingSessionJdbcRepository;
+    private final TrainingSessionArchiver archiver;
+    private final ArchiveConfiguration configuration;
+    private final Clock clock;
+
+    public TrainingSessionArchiveJob(
+            DataSource dataSource,
+            TrainingSessionJdbcRepository trainingSessionJdbcRepository,
+            TrainingSessionArchiver archiver,
+            ArchiveConfiguration configuration) {
+        this(dataSource, trainingSessionJdbcRepository, archiver, configuration, Clock.systemDefaultZone());
+    }
+
+    TrainingSessionArchiveJob(
+            DataSource dataSource,
+            TrainingSessionJdbcRepository trainingSessionJdbcRepository,
+            TrainingSessionArchiver archiver,
+            ArchiveConfiguration configuration,
+            Clock clock) {
+        this.dataSource = dataSource;
+        this.trainingSessionJdbcRepository = trainingSessionJdbcRepository;
+        this.archiver = archiver;
+        this.configuration = configuration;
+        this.clock = clock;
+    }
+
+    @Scheduled(initialDelay = "1m", fixedDelay = "${ttrack.archive.check-interval:1h}")
+    void run() {
+        try (Connection lockConnection = dataSource.getConnection()) {
+            lockConnection.setAutoCommit(true);
+            if (!advisoryLock(lockConnection, TRY_LOCK_SQL)) {
+                log.debug("Training session archival already running on another instance");
+                return;
+            }
+            try {
+                int archived = archiveExpired();
+                if (archived > 0) {
+                    log.info("Archived {} training sessions", archived);
+                }
+            } finally {
+                advisoryLock(lockConnection, UNLOCK_SQL);
+            }
+        } catch (SQLException | RuntimeException ex) {
+            log.warn("Training session archival failed: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Archives finished sessions older than the configured age until none are left.
+     * @return the number of archived training sessions
+     */
+    int archiveExpired() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(configuration.getMinAge());
+        Pageable firstPage = Pageable.from(0, configuration.getBatchSize(), ARCHIVE_ORDER);
+        int archived = 0;
+        List<TrainingSessionRow> batch;
+        do {
+            batch = trainingSessionJdbcRepository.findByStatusAndCreatedAtLessThan(
+                TrainingSession.Status.FINISHED, cutoff, firstPage);
+            for (List<TrainingSessionRow> group : groupByUserAndMonth(batch)) {
+                archiver.archive(group);
+                archived += group.size();
+            }
+        } while (batch.size() == configuration.getBatchSize());
+        return archived;
+    }
+
+    /**
+     * Splits sessions into one group per user and creation month, keeping their order.
+     */
+    static List<List<TrainingSessionRow>> groupByUserAndMonth(List<TrainingSessionRow> sessions) {
+        Map<String, List<TrainingSessionRow>> groups = new LinkedHashMap<>();
+        for (TrainingSessionRow session : sessions) {
+            String key = session.getUserId() + "/" + YearMonth.from(session.getCreatedAt());
+            groups.computeIfAbsent(key, ignored -> new ArrayList<>()).add(session);
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    private static boolean advisoryLock(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, ADVISORY_LOCK_KEY);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+}
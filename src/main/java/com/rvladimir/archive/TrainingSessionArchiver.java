@@ -0,0 +1,84 @@
+package com.rvladimir.archive;
+
+import com.rvladimir.repository.jdbc.ArchiveManifestJdbcRepository;
+import com.rvladimir.repository.jdbc.SessionExerciseJdbcRepository;
+import com.rvladimir.repository.jdbc.TrainingSessionJdbcRepository;
+import com.rvladimir.repository.row.ArchiveManifestRow;
+import com.rvladimir.repository.row.SessionExerciseRow;
+import com.rvladimir.repository.row.TrainingSessionRow;
+
+import io.micronaut.transaction.annotation.Transactional;
+
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves one batch of a user's training sessions and their session exercises into an archive file.
+ */
+@Slf4j
+@Singleton
+@AllArgsConstructor
+public class TrainingSessionArchiver {
+
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("uuuu-MM");
+
+    private final TrainingSessionJdbcRepository trainingSessionJdbcRepository;
+    private final SessionExerciseJdbcRepository sessionExerciseJdbcRepository;
+    private final ArchiveManifestJdbcRepository archiveManifestJdbcRepository;
+    private final ArchiveStorage archiveStorage;
+
+    /**
+     * Writes the sessions to storage, records the file in the manifest and deletes the archived rows,
+     * all within one transaction. The file is written first: if the transaction rolls back it is left
+     * unreferenced and the rows stay in the hot tables. Archived rows are still readable through the history,
+     * so their removal is kept out of the sync feed rather than sent to clients as deletes.
+     *
+     * @param sessions training sessions of a single user
+     * @return the manifest entry of the new archive file
+     */
+    @Transactional
+    public ArchiveManifestRow archive(List<TrainingSessionRow> sessions) {
+        List<Long> ids = sessions.stream().map(TrainingSessionRow::getId).toList();
+        LocalDateTime periodStart = sessions.stream()
+            .map(TrainingSessionRow::getCreatedAt).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime periodEnd = sessions.stream()
+            .map(TrainingSessionRow::getCreatedAt).max(Comparator.naturalOrder()).orElseThrow();
+        Long userId = sessions.get(0).getUserId();
+
+        List<SessionExerciseRow> exercises = sessionExerciseJdbcRepository.findByTrainingSessionIds(ids, periodStart);
+        String key = storageKey(userId, periodStart);
+        byte[] content;
+        try {
+            content = ColumnarArchiveCodec.encode(new ArchivedSessions(sessions, exercises));
+            archiveStorage.write(key, content);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not write archive " + key, ex);
+        }
+
+        ArchiveManifestRow manifest = archiveManifestJdbcRepository.save(new ArchiveManifestRow(
+            null, userId, periodStart, periodEnd, sessions.size(), exercises.size(), key,
+            (long) content.length, LocalDateTime.now()));
+        trainingSessionJdbcRepository.suppressSyncChanges();
+        sessionExerciseJdbcRepository.deleteByTrainingSessionIdInAndCreatedAtGreaterThanEquals(ids, periodStart);
+        trainingSessionJdbcRepository.deleteByIdIn(ids);
+
+        log.info("Archived {} training sessions and {} session exercises of user {} to {} ({} bytes)",
+            sessions.size(), exercises.size(), userId, key, content.length);
+        return manifest;
+    }
+
+    private static String storageKey(Long userId, LocalDateTime periodStart) {
+        return String.format("training-sessions/user-%d/%s/%s.tta.gz",
+            userId, MONTH_FORMAT.format(periodStart), UUID.randomUUID());
+    }
+}
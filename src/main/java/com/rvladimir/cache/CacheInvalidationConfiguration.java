@@ -0,0 +1,31 @@
+package com.rvladimir.cache;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+import java.time.Duration;
+
+import lombok.Data;
+
+/**
+ * Configuration for cross-instance invalidation of the Hibernate second-level cache.
+ * Invalidations are broadcast through PostgreSQL {@code LISTEN/NOTIFY} on {@link #channel}.
+ */
+@Data
+@ConfigurationProperties("ttrack.cache.invalidation")
+public class CacheInvalidationConfiguration {
+
+    private static final long DEFAULT_POLL_TIMEOUT_SECONDS = 5;
+    private static final long DEFAULT_RECONNECT_DELAY_SECONDS = 10;
+
+    /** Whether updates and deletes of cached entities are broadcast to other instances. */
+    private boolean enabled = true;
+
+    /** PostgreSQL notification channel used as the invalidation bus. */
+    private String channel = "ttrack_cache_invalidation";
+
+    /** How long the listener blocks waiting for notifications before polling again. */
+    private Duration pollTimeout = Duration.ofSeconds(DEFAULT_POLL_TIMEOUT_SECONDS);
+
+    /** Delay before the listener reconnects after losing its database connection. */
+    private Duration reconnectDelay = Duration.ofSeconds(DEFAULT_RECONNECT_DELAY_SECONDS);
+}
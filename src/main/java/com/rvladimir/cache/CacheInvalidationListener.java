@@ -0,0 +1,235 @@
+package com.rvladimir.cache;
+
+import com.rvladimir.leaderboard.Leaderboards;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.crac.OrderedResource;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.regex.Pattern;
+
+import org.crac.Context;
+import org.crac.Resource;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Listens on the cache invalidation channel and evicts second-level cache entries changed by other instances,
+ * and template cache entries changed by any instance. Also applies leaderboard scores recorded by any instance.
+ * Uses a dedicated connection outside the pool, since {@code LISTEN} is bound to a single database session.
+ * The connection is closed before a CRaC checkpoint (open sockets cannot be checkpointed) and reopened on restore.
+ * Notifications sent while the connection is down are lost: after a reconnect the whole second-level cache and
+ * template cache are evicted, and {@link CacheInvalidationListening} is published so the leaderboards catch up from
+ * the database before further notifications are handled.
+ */
+@Slf4j
+@Singleton
+@Requires(beans = CacheInvalidationPublisher.class)
+public class CacheInvalidationListener implements ApplicationEventListener<StartupEvent>, OrderedResource {
+
+    private static final Pattern CHANNEL_PATTERN = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final CacheInvalidationConfiguration configuration;
+    private final CacheInvalidationPublisher publisher;
+    private final SessionFactory sessionFactory;
+    private final TemplateCache templateCache;
+    private final Leaderboards leaderboards;
+    private final ApplicationEventPublisher<CacheInvalidationListening> eventPublisher;
+    private final String url;
+    private final String username;
+    private final String password;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public CacheInvalidationListener(
+        CacheInvalidationConfiguration configuration,
+        CacheInvalidationPublisher publisher,
+        SessionFactory sessionFactory,
+        TemplateCache templateCache,
+        Leaderboards leaderboards,
+        ApplicationEventPublisher<CacheInvalidationListening> eventPublisher,
+        @Value("${datasources.default.url}") String url,
+        @Value("${datasources.default.username:}") String username,
+        @Value("${datasources.default.password:}") String password
+    ) {
+        this.configuration = configuration;
+        this.publisher = publisher;
+        this.sessionFactory = sessionFactory;
+        this.templateCache = templateCache;
+        this.leaderboards = leaderboards;
+        this.eventPublisher = eventPublisher;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+    }
+
+    @Override
+    public void onApplicationEvent(StartupEvent event) {
+        start();
+    }
+
+    @Override
+    public void beforeCheckpoint(Context<? extends Resource> context) throws InterruptedException {
+        Thread stopped = stop();
+        if (stopped != null) {
+            stopped.join(configuration.getPollTimeout().plus(configuration.getReconnectDelay()).toMillis());
+        }
+    }
+
+    @Override
+    public void afterRestore(Context<? extends Resource> context) {
+        start();
+    }
+
+    private synchronized void start() {
+        if (running) {
+            return;
+        }
+        if (!CHANNEL_PATTERN.matcher(configuration.getChannel()).matches()) {
+            throw new IllegalStateException("Invalid cache invalidation channel: " + configuration.getChannel());
+        }
+        running = true;
+        worker = Thread.ofPlatform()
+            .daemon()
+            .name("cache-invalidation-listener")
+            .start(this::listenLoop);
+    }
+
+    @PreDestroy
+    synchronized Thread stop() {
+        running = false;
+        Thread stopped = worker;
+        worker = null;
+        if (stopped != null) {
+            stopped.interrupt();
+        }
+        return stopped;
+    }
+
+    private void listenLoop() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + configuration.getChannel());
+                }
+                log.info("Listening for cache invalidations on channel '{}'", configuration.getChannel());
+                if (reconnecting) {
+                    evictAll();
+                }
+                reconnecting = true;
+                eventPublisher.publishEvent(new CacheInvalidationListening(true));
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                int timeoutMillis = (int) configuration.getPollTimeout().toMillis();
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(timeoutMillis);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            handle(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException ex) {
+                if (running) {
+                    log.warn("Cache invalidation listener lost its connection: {}", ex.getMessage());
+                    eventPublisher.publishEvent(new CacheInvalidationListening(false));
+                    sleepBeforeReconnect();
+                }
+            }
+        }
+    }
+
+    private void handle(String payload) {
+        CacheInvalidationMessage.decode(payload).ifPresentOrElse(message -> {
+            if (TemplateCache.REGION.equals(message.getEntityName())) {
+                evictTemplates(message);
+                return;
+            }
+            if (Leaderboards.REGION.equals(message.getEntityName())) {
+                applyScore(message);
+                return;
+            }
+            if (publisher.getNodeId().equals(message.getNodeId())) {
+                return;
+            }
+            evict(message);
+        }, () -> log.warn("Ignoring malformed cache invalidation payload: {}", payload));
+    }
+
+    /**
+     * Evicts everything the notifications missed while reconnecting could have concerned.
+     */
+    private void evictAll() {
+        sessionFactory.getCache().evictAllRegions();
+        templateCache.evictAll();
+        log.info("Evicted the second-level cache and the template cache after reconnecting");
+    }
+
+    private void evict(CacheInvalidationMessage message) {
+        try {
+            EntityPersister persister = sessionFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(message.getEntityName());
+            Cache cache = sessionFactory.getCache();
+            cache.evictEntityData(message.getEntityName(), Long.valueOf(message.getId()));
+            if (persister.hasNaturalIdentifier()) {
+                cache.evictNaturalIdData(message.getEntityName());
+            }
+            log.debug("Evicted {}#{} from the second-level cache", message.getEntityName(), message.getId());
+        } catch (IllegalArgumentException ex) {
+            log.warn("Could not evict {}#{}: {}", message.getEntityName(), message.getId(), ex.getMessage());
+        }
+    }
+
+    /**
+     * Evicts a user's templates, also for this instance's own notifications: they arrive after the writing
+     * transaction commits, so they also drop entries a concurrent read loaded before that commit.
+     */
+    private void evictTemplates(CacheInvalidationMessage message) {
+        try {
+            templateCache.evict(Long.valueOf(message.getId()));
+            log.debug("Evicted the templates of user {}", message.getId());
+        } catch (NumberFormatException ex) {
+            log.warn("Ignoring template invalidation for malformed user ID: {}", message.getId());
+        }
+    }
+
+    /**
+     * Applies a leaderboard score, also for this instance's own notifications, which arrive only once the
+     * recording transaction commits.
+     */
+    private void applyScore(CacheInvalidationMessage message) {
+        try {
+            leaderboards.apply(message.getId());
+        } catch (IllegalArgumentException ex) {
+            log.warn("Ignoring malformed leaderboard score: {}", message.getId());
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(configuration.getReconnectDelay().toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.rvladimir.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by {@link CacheInvalidationListener} when it starts listening on the invalidation channel, after every
+ * (re)connect, and when it loses its connection. Notifications sent while it was not listening are lost, so state
+ * kept up to date from the channel must catch up from the database when listening resumes.
+ */
+@Getter
+@AllArgsConstructor
+public final class CacheInvalidationListening {
+
+    private final boolean listening;
+}
@@ -0,0 +1,46 @@
+package com.rvladimir.cache;
+
+import java.util.Optional;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Payload broadcast on the cache invalidation channel.
+ * Encoded as {@code nodeId|entityName|id} to stay well below the 8000 byte NOTIFY payload limit.
+ */
+@Getter
+@AllArgsConstructor
+public final class CacheInvalidationMessage {
+
+    private static final String SEPARATOR = "|";
+    private static final int PART_COUNT = 3;
+
+    private final String nodeId;
+    private final String entityName;
+    private final String id;
+
+    /**
+     * Encodes this message as a NOTIFY payload.
+     * @return the encoded payload
+     */
+    public String encode() {
+        return nodeId + SEPARATOR + entityName + SEPARATOR + id;
+    }
+
+    /**
+     * Decodes a NOTIFY payload.
+     * @param payload the raw payload
+     * @return the decoded message, or empty if the payload is malformed
+     */
+    public static Optional<CacheInvalidationMessage> decode(String payload) {
+        if (payload == null) {
+            return Optional.empty();
+        }
+        String[] parts = payload.split("\\|", PART_COUNT);
+        if (parts.length != PART_COUNT || parts[0].isEmpty() || parts[1].isEmpty() || parts[2].isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new CacheInvalidationMessage(parts[0], parts[1], parts[2]));
+    }
+}
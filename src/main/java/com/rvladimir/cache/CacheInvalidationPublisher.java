@@ -0,0 +1,82 @@
+package com.rvladimir.cache;
+
+import io.micronaut.context.annotation.Requires;
+
+import jakarta.inject.Singleton;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.UUID;
+
+import org.hibernate.Session;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Hibernate listener that broadcasts updates and deletes of second-level cached entities.
+ * The {@code pg_notify} call runs on the writing transaction's connection, so PostgreSQL only
+ * delivers the notification once that transaction commits and drops it on rollback.
+ */
+@Singleton
+@Requires(property = "ttrack.cache.invalidation.enabled", value = "true", defaultValue = "true")
+public class CacheInvalidationPublisher implements PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final CacheInvalidationConfiguration configuration;
+
+    public CacheInvalidationPublisher(CacheInvalidationConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * Identifier of this application instance, used by listeners to ignore their own notifications.
+     * @return the node identifier
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getPersister(), event.getId(), event.getSession());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getPersister(), event.getId(), event.getSession());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void publish(EntityPersister persister, Object id, Session session) {
+        if (!persister.canWriteToCache()) {
+            return;
+        }
+        session.doWork(connection -> publish(connection, persister.getEntityName(), String.valueOf(id)));
+    }
+
+    /**
+     * Broadcasts a change on the writing transaction's connection, for caches kept outside Hibernate.
+     * @param connection the connection of the writing transaction
+     * @param entityName the name listeners dispatch on
+     * @param id the changed key
+     * @throws SQLException if the notification cannot be queued
+     */
+    public void publish(Connection connection, String entityName, String id) throws SQLException {
+        String payload = new CacheInvalidationMessage(nodeId, entityName, id).encode();
+        try (PreparedStatement statement = connection.prepareStatement(NOTIFY_SQL)) {
+            statement.setString(1, configuration.getChannel());
+            statement.setString(2, payload);
+            statement.execute();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.rvladimir.cache;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.BeanCreatedEvent;
+import io.micronaut.context.event.BeanCreatedEventListener;
+
+import jakarta.inject.Singleton;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+
+/**
+ * Registers the {@link CacheInvalidationPublisher} with every Hibernate session factory as it is created.
+ */
+@Singleton
+@Requires(beans = CacheInvalidationPublisher.class)
+public class CacheInvalidationRegistrar implements BeanCreatedEventListener<SessionFactory> {
+
+    private final CacheInvalidationPublisher publisher;
+
+    public CacheInvalidationRegistrar(CacheInvalidationPublisher publisher) {
+        this.publisher = publisher;
+    }
+
+    @Override
+    public SessionFactory onCreated(BeanCreatedEvent<SessionFactory> event) {
+        SessionFactory sessionFactory = event.getBean();
+        EventListenerRegistry registry = sessionFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_UPDATE, publisher);
+        registry.appendListeners(EventType.POST_DELETE, publisher);
+        return sessionFactory;
+    }
+}
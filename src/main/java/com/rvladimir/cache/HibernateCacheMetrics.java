@@ -0,0 +1,91 @@
+package com.rvladimir.cache;
+
+import com.rvladimir.constants.TtrackConstants;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import jakarta.inject.Singleton;
+
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+/**
+ * Exposes hit, miss and put counts plus the hit ratio of the second-level cache regions as Micrometer meters
+ * ({@code ttrack.cache.hits}, {@code ttrack.cache.misses}, {@code ttrack.cache.puts}, {@code ttrack.cache.hit.ratio}).
+ * Requires {@code hibernate.generate_statistics} to be enabled.
+ */
+@Singleton
+public class HibernateCacheMetrics implements MeterBinder {
+
+    private static final String REGION_TAG = "region";
+    private static final List<String> REGIONS = List.of(
+        TtrackConstants.EXERCISE_CACHE_REGION,
+        TtrackConstants.USER_CACHE_REGION,
+        TtrackConstants.USER_EMAIL_CACHE_REGION
+    );
+
+    private final SessionFactory sessionFactory;
+
+    public HibernateCacheMetrics(SessionFactory sessionFactory) {
+        this.sessionFactory = sessionFactory;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics statistics = sessionFactory.getStatistics();
+        for (String region : REGIONS) {
+            counter(registry, "ttrack.cache.hits", region, statistics, CacheRegionStatistics::getHitCount);
+            counter(registry, "ttrack.cache.misses", region, statistics, CacheRegionStatistics::getMissCount);
+            counter(registry, "ttrack.cache.puts", region, statistics, CacheRegionStatistics::getPutCount);
+            Gauge.builder("ttrack.cache.hit.ratio", statistics, stats -> hitRatio(stats, region))
+                .tag(REGION_TAG, region)
+                .description("Second-level cache hit ratio")
+                .register(registry);
+        }
+    }
+
+    private void counter(
+        MeterRegistry registry,
+        String name,
+        String region,
+        Statistics statistics,
+        ToDoubleFunction<CacheRegionStatistics> value
+    ) {
+        FunctionCounter.builder(name, statistics, stats -> {
+            CacheRegionStatistics regionStatistics = regionStatistics(stats, region);
+            if (regionStatistics == null) {
+                return 0;
+            }
+            return value.applyAsDouble(regionStatistics);
+        })
+            .tag(REGION_TAG, region)
+            .register(registry);
+    }
+
+    private static double hitRatio(Statistics statistics, String region) {
+        CacheRegionStatistics regionStatistics = regionStatistics(statistics, region);
+        if (regionStatistics == null) {
+            return 0;
+        }
+        long lookups = regionStatistics.getHitCount() + regionStatistics.getMissCount();
+        if (lookups == 0) {
+            return 0;
+        }
+        return (double) regionStatistics.getHitCount() / lookups;
+    }
+
+    private static CacheRegionStatistics regionStatistics(Statistics statistics, String region) {
+        try {
+            return statistics.getDomainDataRegionStatistics(region);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.rvladimir.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rvladimir.service.dto.TrainingSessionHistoryDTO;
+
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.jdbc.runtime.JdbcOperations;
+
+import jakarta.inject.Singleton;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Per-user cache of training session templates with their session exercises.
+ * A change evicts the user's entry here right away and, through the cache invalidation channel, on every instance
+ * once the changing transaction commits. Without broadcasting, entries expire after the configured time-to-live.
+ */
+@Singleton
+public class TemplateCache {
+
+    /** Name under which template changes are broadcast on the cache invalidation channel. */
+    public static final String REGION = "ttrack.templates";
+
+    private final Cache<Long, List<TrainingSessionHistoryDTO>> templates;
+    private final JdbcOperations jdbcOperations;
+    private final CacheInvalidationPublisher publisher;
+
+    public TemplateCache(
+        TemplateCacheConfiguration configuration,
+        JdbcOperations jdbcOperations,
+        @Nullable CacheInvalidationPublisher publisher
+    ) {
+        this.templates = Caffeine.newBuilder()
+            .expireAfterWrite(configuration.getTtl())
+            .maximumSize(configuration.getMaximumUsers())
+            .build();
+        this.jdbcOperations = jdbcOperations;
+        this.publisher = publisher;
+    }
+
+    /**
+     * Returns the cached templates of a user, loading them on a miss.
+     * @param userId the user ID
+     * @param loader reads the templates of the user from the database
+     * @return the templates with their session exercises
+     */
+    public List<TrainingSessionHistoryDTO> get(Long userId, Function<Long, List<TrainingSessionHistoryDTO>> loader) {
+        return templates.get(userId, loader);
+    }
+
+    /**
+     * Evicts the templates of a user after a change, on this instance now and on all instances after commit.
+     * Must be called within the changing transaction.
+     * @param userId the user ID
+     */
+    public void invalidate(Long userId) {
+        evict(userId);
+        if (publisher != null) {
+            jdbcOperations.execute(connection -> {
+                publisher.publish(connection, REGION, String.valueOf(userId));
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Evicts the templates of a user on this instance only.
+     * @param userId the user ID
+     */
+    public void evict(Long userId) {
+        templates.invalidate(userId);
+    }
+
+    /**
+     * Evicts the templates of every user on this instance only, e.g. after invalidations may have been missed.
+     */
+    public void evictAll() {
+        templates.invalidateAll();
+    }
+}
@@ -0,0 +1,24 @@
+package com.rvladimir.cache;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+import java.time.Duration;
+
+import lombok.Data;
+
+/**
+ * Configuration for the per-user cache of training session templates.
+ */
+@Data
+@ConfigurationProperties("ttrack.cache.templates")
+public class TemplateCacheConfiguration {
+
+    private static final long DEFAULT_TTL_MINUTES = 10;
+    private static final long DEFAULT_MAXIMUM_USERS = 10_000;
+
+    /** How long the templates of a user stay cached; bounds staleness when invalidations are not broadcast. */
+    private Duration ttl = Duration.ofMinutes(DEFAULT_TTL_MINUTES);
+
+    /** Maximum number of users whose templates are cached; least recently used users are dropped first. */
+    private long maximumUsers = DEFAULT_MAXIMUM_USERS;
+}
@@ -6,5 +6,20 @@ public final class TtrackConstants {
     }
 
     public static final String TTRACK_SCHEMA = "ttrack";
+
+    /** Hibernate second-level cache region holding {@code Exercise} entities. */
+    public static final String EXERCISE_CACHE_REGION = "ttrack.exercise";
+
+    /** Hibernate second-level cache region holding {@code User} entities. */
+    public static final String USER_CACHE_REGION = "ttrack.user";
+
+    /** Hibernate natural-id cache region resolving {@code User} emails to ids. */
+    public static final String USER_EMAIL_CACHE_REGION = "ttrack.user.email";
+
+    /** Name of the R2DBC datasource serving the non-blocking read path. */
+    public static final String REACTIVE_DATASOURCE = "reactive";
+
+    /** Property toggling the R2DBC read path beans. */
+    public static final String REACTIVE_READS_ENABLED_PROPERTY = "ttrack.reactive-reads.enabled";
 }
 
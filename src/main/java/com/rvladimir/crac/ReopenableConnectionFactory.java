@@ -0,0 +1,60 @@
+package com.rvladimir.crac;
+
+import io.r2dbc.spi.Closeable;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+
+import org.reactivestreams.Publisher;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * An R2DBC connection factory, typically a connection pool, that can be closed and built again from its options.
+ * A closed r2dbc-pool cannot be reopened, so the pool is replaced with a new one built from the same options.
+ */
+final class ReopenableConnectionFactory implements ConnectionFactory, Closeable {
+
+    private final ConnectionFactoryOptions options;
+
+    private volatile ConnectionFactory delegate;
+
+    ReopenableConnectionFactory(ConnectionFactory delegate, ConnectionFactoryOptions options) {
+        this.delegate = delegate;
+        this.options = options;
+    }
+
+    @Override
+    public Publisher<? extends Connection> create() {
+        return delegate.create();
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return delegate.getMetadata();
+    }
+
+    @Override
+    public Publisher<Void> close() {
+        if (delegate instanceof Closeable closeable) {
+            return closeable.close();
+        }
+        return Mono.empty();
+    }
+
+    /**
+     * Closes the current factory and waits until its connections are released.
+     */
+    synchronized void suspend() {
+        Mono.from(close()).block();
+    }
+
+    /**
+     * Replaces the closed factory with a new one built from the same options.
+     */
+    synchronized void reopen() {
+        delegate = ConnectionFactories.get(options);
+    }
+}
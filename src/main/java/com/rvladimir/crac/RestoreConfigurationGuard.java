@@ -0,0 +1,117 @@
+package com.rvladimir.crac;
+
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.crac.OrderedResource;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.crac.Resource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Refuses a CRaC restore into an environment configured differently from the checkpoint.
+ * A restored JVM keeps the configuration it read before the checkpoint: datasource, replica and R2DBC credentials,
+ * JWT secrets. Environment variables given to the restored container, e.g. rotated secrets, would be ignored. Before
+ * the checkpoint a SHA-256 digest of every environment variable starting with one of
+ * {@code ttrack.crac.guarded-variable-prefixes} is kept; after the restore the digests are taken again from the new
+ * environment. If any differs, the JVM halts with {@value #CONFIGURATION_CHANGED_EXIT_CODE}, and
+ * {@code docker/crac/entrypoint.sh} answers with a cold start that reads the new configuration.
+ * Restored first, so no other resource reopens a connection with stale credentials.
+ */
+@Slf4j
+@Context
+public class RestoreConfigurationGuard implements OrderedResource {
+
+    /** Exit code of a refused restore ({@code EX_CONFIG}). */
+    static final int CONFIGURATION_CHANGED_EXIT_CODE = 78;
+
+    /** Prefixes of the environment variables the application reads its configuration and credentials from. */
+    private static final String DEFAULT_PREFIXES = "DATASOURCES_,R2DBC_,JWT_,MICRONAUT_,TTRACK_,DB_";
+
+    private final List<String> prefixes;
+
+    private volatile Map<String, String> checkpointed;
+
+    public RestoreConfigurationGuard(
+        @Value("${ttrack.crac.guarded-variable-prefixes:" + DEFAULT_PREFIXES + "}") List<String> prefixes
+    ) {
+        this.prefixes = prefixes;
+    }
+
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public void beforeCheckpoint(org.crac.Context<? extends Resource> context) {
+        checkpointed = digests(System.getenv(), prefixes);
+    }
+
+    @Override
+    public void afterRestore(org.crac.Context<? extends Resource> context) {
+        Set<String> changed = changed(checkpointed, digests(System.getenv(), prefixes));
+        if (!changed.isEmpty()) {
+            log.error("Refusing to restore the checkpoint: {} changed since it was taken; starting cold instead",
+                changed);
+            Runtime.getRuntime().halt(CONFIGURATION_CHANGED_EXIT_CODE);
+        }
+    }
+
+    /**
+     * Digests of the guarded environment variables, so the guard keeps no copy of their values.
+     * @param environment the environment variables
+     * @param prefixes prefixes of the guarded variable names
+     * @return the SHA-256 digest of each guarded variable, by name
+     */
+    static Map<String, String> digests(Map<String, String> environment, List<String> prefixes) {
+        SortedMap<String, String> digests = new TreeMap<>();
+        environment.forEach((name, value) -> {
+            if (prefixes.stream().anyMatch(name::startsWith)) {
+                digests.put(name, sha256(value));
+            }
+        });
+        return digests;
+    }
+
+    /**
+     * Names of the variables added, removed or changed between two sets of digests.
+     * @param before the digests taken before the checkpoint, or null if none was taken
+     * @param after the digests taken after the restore
+     * @return the changed names, empty if the configuration is unchanged
+     */
+    static Set<String> changed(@Nullable Map<String, String> before, Map<String, String> after) {
+        Set<String> changed = new TreeSet<>();
+        if (before == null) {
+            return changed;
+        }
+        before.forEach((name, digest) -> {
+            if (!digest.equals(after.get(name))) {
+                changed.add(name);
+            }
+        });
+        after.keySet().stream().filter(name -> !before.containsKey(name)).forEach(changed::add);
+        return changed;
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
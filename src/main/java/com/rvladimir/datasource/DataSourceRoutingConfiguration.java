@@ -0,0 +1,31 @@
+package com.rvladimir.datasource;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+import java.time.Duration;
+
+import lombok.Data;
+
+/**
+ * Configuration for routing read-only transactions to replica pools.
+ */
+@Data
+@ConfigurationProperties("ttrack.datasource-routing")
+public class DataSourceRoutingConfiguration {
+
+    private static final long DEFAULT_MAX_LAG_SECONDS = 5;
+    private static final long DEFAULT_STICKINESS_SECONDS = 5;
+    private static final long DEFAULT_LAG_CHECK_SECONDS = 10;
+
+    /** Whether the default datasource is wrapped with a {@link RoutingDataSource}. */
+    private boolean enabled;
+
+    /** Replicas lagging further behind the primary than this are skipped until they catch up. */
+    private Duration maxReplicationLag = Duration.ofSeconds(DEFAULT_MAX_LAG_SECONDS);
+
+    /** After a client writes, its read-only transactions stay on the primary for this long, on every instance. */
+    private Duration stickinessWindow = Duration.ofSeconds(DEFAULT_STICKINESS_SECONDS);
+
+    /** How often {@link ReplicaLagMonitor} measures replication lag on each replica. */
+    private Duration lagCheckInterval = Duration.ofSeconds(DEFAULT_LAG_CHECK_SECONDS);
+}
@@ -0,0 +1,21 @@
+package com.rvladimir.datasource;
+
+import io.micronaut.aop.Around;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read-only transactional method whose transaction may be served by a read replica.
+ * Must be combined with {@code @Transactional(readOnly = true)}; the routing decision is taken before
+ * the transaction starts, so nested calls inside an existing transaction keep using its connection.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Around
+public @interface ReadReplica {
+}
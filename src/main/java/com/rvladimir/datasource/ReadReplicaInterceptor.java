@@ -0,0 +1,46 @@
+package com.rvladimir.datasource;
+
+import io.micronaut.aop.InterceptPhase;
+import io.micronaut.aop.InterceptorBean;
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.http.context.ServerRequestContext;
+
+import jakarta.inject.Singleton;
+
+/**
+ * Flags the current thread for replica routing around {@link ReadReplica} methods.
+ * Runs before the transaction interceptor so the flag is set when the transaction acquires its connection.
+ * Requests whose {@link RecentWriteCookie} records a write within the stickiness window are kept on the primary.
+ */
+@Singleton
+@InterceptorBean(ReadReplica.class)
+public class ReadReplicaInterceptor implements MethodInterceptor<Object, Object> {
+
+    private final RecentWriteCookie recentWriteCookie;
+
+    public ReadReplicaInterceptor(RecentWriteCookie recentWriteCookie) {
+        this.recentWriteCookie = recentWriteCookie;
+    }
+
+    @Override
+    public int getOrder() {
+        return InterceptPhase.TRANSACTION.getPosition() - 1;
+    }
+
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        boolean previous = RoutingContext.setReplicaPreferred(!mustReadFromPrimary());
+        try {
+            return context.proceed();
+        } finally {
+            RoutingContext.setReplicaPreferred(previous);
+        }
+    }
+
+    private boolean mustReadFromPrimary() {
+        return ServerRequestContext.currentRequest()
+            .map(recentWriteCookie::wroteRecently)
+            .orElse(false);
+    }
+}
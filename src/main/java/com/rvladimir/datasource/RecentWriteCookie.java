@@ -0,0 +1,93 @@
+package com.rvladimir.datasource;
+
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.cookie.Cookie;
+import io.micronaut.security.token.cookie.AccessTokenCookieConfiguration;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Carries read-your-writes stickiness in a cookie, so it holds whichever instance serves the next request.
+ * A successful write sets the cookie to the wall-clock time of the write, expiring with the stickiness window; reads
+ * of a request carrying a write time within the window stay on the primary. The cookie only ever moves its client's
+ * own reads to the primary, so a forged or replayed value costs nothing but replica offload. Instances compare it with
+ * their own clock, which must agree across instances to well within the window.
+ */
+@Singleton
+public class RecentWriteCookie {
+
+    static final String COOKIE_NAME = "ttrack_last_write";
+
+    private static final String COOKIE_PATH = "/";
+
+    private final Duration window;
+    private final LongSupplier clock;
+    private final AccessTokenCookieConfiguration accessTokenCookie;
+
+    @Inject
+    public RecentWriteCookie(
+        DataSourceRoutingConfiguration configuration,
+        @Nullable AccessTokenCookieConfiguration accessTokenCookie
+    ) {
+        this(configuration.getStickinessWindow(), System::currentTimeMillis, accessTokenCookie);
+    }
+
+    RecentWriteCookie(Duration window, LongSupplier clock, @Nullable AccessTokenCookieConfiguration accessTokenCookie) {
+        this.window = window;
+        this.clock = clock;
+        this.accessTokenCookie = accessTokenCookie;
+    }
+
+    /**
+     * Builds the cookie recording a write made now. It is sent like the access token cookie, so it reaches the same
+     * requests.
+     * @return the cookie to set on the response to the write
+     */
+    public Cookie issue() {
+        Cookie cookie = Cookie.of(COOKIE_NAME, String.valueOf(clock.getAsLong()))
+            .httpOnly(true)
+            .path(COOKIE_PATH)
+            .maxAge(window);
+        if (accessTokenCookie != null) {
+            accessTokenCookie.isCookieSecure().ifPresent(cookie::secure);
+            accessTokenCookie.getCookieDomain().ifPresent(cookie::domain);
+            accessTokenCookie.getCookieSameSite().ifPresent(cookie::sameSite);
+        }
+        return cookie;
+    }
+
+    /**
+     * Whether the request carries a write made within the stickiness window.
+     * @param request the current request
+     * @return true if the request's reads should go to the primary
+     */
+    public boolean wroteRecently(HttpRequest<?> request) {
+        return request.getCookies().findCookie(COOKIE_NAME)
+            .map(Cookie::getValue)
+            .map(this::withinWindow)
+            .orElse(false);
+    }
+
+    /**
+     * Whether a write time lies within the window of the current time. Times ahead of the local clock are accepted
+     * within the window too, as they come from instances whose clocks run slightly ahead.
+     * @param value the write time in epoch milliseconds
+     * @return true if the write is recent, false if it is old or not a time
+     */
+    boolean withinWindow(String value) {
+        long writtenAt;
+        try {
+            writtenAt = Long.parseLong(value);
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+        long windowMillis = window.toMillis();
+        long age = clock.getAsLong() - writtenAt;
+        return age < windowMillis && age > -windowMillis;
+    }
+}
@@ -0,0 +1,37 @@
+package com.rvladimir.datasource;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.http.HttpMethod;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.annotation.ResponseFilter;
+import io.micronaut.http.annotation.ServerFilter;
+
+import java.util.Set;
+
+/**
+ * Sets the {@link RecentWriteCookie} on responses to successful state-changing requests, so
+ * {@link ReadReplicaInterceptor} keeps the client's subsequent reads on the primary, on any instance.
+ */
+@ServerFilter(ServerFilter.MATCH_ALL_PATTERN)
+@Requires(beans = ReplicaRegistry.class)
+public class RecentWriteFilter {
+
+    private static final Set<HttpMethod> READ_METHODS = Set.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS);
+
+    private final RecentWriteCookie recentWriteCookie;
+
+    public RecentWriteFilter(RecentWriteCookie recentWriteCookie) {
+        this.recentWriteCookie = recentWriteCookie;
+    }
+
+    @ResponseFilter
+    public void recordWrite(HttpRequest<?> request, MutableHttpResponse<?> response) {
+        if (READ_METHODS.contains(request.getMethod()) ||
+            response.getStatus().getCode() >= HttpStatus.BAD_REQUEST.getCode()) {
+            return;
+        }
+        response.cookie(recentWriteCookie.issue());
+    }
+}
@@ -0,0 +1,26 @@
+package com.rvladimir.datasource;
+
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+
+import lombok.Data;
+
+/**
+ * Connection settings for one read replica, declared under {@code ttrack.datasource-routing.replicas.<name>}.
+ */
+@Data
+@EachProperty("ttrack.datasource-routing.replicas")
+public class ReplicaDataSourceConfiguration {
+
+    private static final int DEFAULT_MAXIMUM_POOL_SIZE = 10;
+
+    private final String name;
+    private String url;
+    private String username;
+    private String password;
+    private int maximumPoolSize = DEFAULT_MAXIMUM_POOL_SIZE;
+
+    public ReplicaDataSourceConfiguration(@Parameter String name) {
+        this.name = name;
+    }
+}
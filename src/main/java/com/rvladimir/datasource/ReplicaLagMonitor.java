@@ -0,0 +1,76 @@
+package com.rvladimir.datasource;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.scheduling.annotation.Scheduled;
+
+import jakarta.inject.Singleton;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Periodically measures replication lag on every replica and takes lagging replicas out of rotation.
+ */
+@Slf4j
+@Singleton
+@Requires(beans = ReplicaRegistry.class)
+public class ReplicaLagMonitor {
+
+    /** Zero when the replica has replayed everything it received, otherwise seconds since the last replayed commit. */
+    private static final String LAG_SQL = """
+        SELECT CASE
+            WHEN NOT pg_is_in_recovery() THEN 0
+            WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+            ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+        END
+        """;
+    private static final double MILLIS_PER_SECOND = 1000.0;
+
+    private final ReplicaRegistry registry;
+    private final double maxLagSeconds;
+
+    public ReplicaLagMonitor(
+        ReplicaRegistry registry,
+        DataSourceRoutingConfiguration configuration
+    ) {
+        this.registry = registry;
+        this.maxLagSeconds = configuration.getMaxReplicationLag().toMillis() / MILLIS_PER_SECOND;
+    }
+
+    @Scheduled(fixedDelay = "${ttrack.datasource-routing.lag-check-interval:10s}")
+    void checkReplicas() {
+        for (ReplicaPool replica : registry.getReplicas()) {
+            checkReplica(replica);
+        }
+    }
+
+    private void checkReplica(ReplicaPool replica) {
+        try (Connection connection = replica.getConnection()) {
+            double lag = measureLag(connection);
+            boolean withinLimit = lag <= maxLagSeconds;
+            if (replica.isHealthy() && !withinLimit) {
+                log.warn("Replica '{}' lags {}s behind the primary, routing reads to the primary",
+                    replica.getName(), lag);
+            }
+            replica.updateLag(lag, withinLimit);
+        } catch (SQLException ex) {
+            log.warn("Replica '{}' lag check failed: {}", replica.getName(), ex.getMessage());
+            replica.markUnhealthy();
+        }
+    }
+
+    private static double measureLag(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet resultSet = statement.executeQuery(LAG_SQL)) {
+                resultSet.next();
+                double lag = resultSet.getDouble(1);
+                connection.rollback();
+                return lag;
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.rvladimir.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * A connection pool to a single read replica together with its last measured replication lag. The pool can be closed
+ * and opened again, so a CRaC checkpoint does not carry its connections into the image.
+ */
+public class ReplicaPool implements Closeable {
+
+    private final ReplicaDataSourceConfiguration configuration;
+    private final String name;
+    private volatile HikariDataSource dataSource;
+    private volatile boolean healthy = true;
+    private volatile double lagSeconds;
+
+    public ReplicaPool(ReplicaDataSourceConfiguration configuration) {
+        this.configuration = configuration;
+        this.name = configuration.getName();
+        this.dataSource = open();
+    }
+
+    private HikariDataSource open() {
+        HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setPoolName("replica-" + configuration.getName());
+        hikariConfig.setJdbcUrl(configuration.getUrl());
+        hikariConfig.setUsername(configuration.getUsername());
+        hikariConfig.setPassword(configuration.getPassword());
+        hikariConfig.setMaximumPoolSize(configuration.getMaximumPoolSize());
+        hikariConfig.setAutoCommit(false);
+        hikariConfig.setReadOnly(true);
+        return new HikariDataSource(hikariConfig);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+
+    /**
+     * Records the outcome of a lag check.
+     * @param measuredLagSeconds the measured lag in seconds
+     * @param withinLimit whether the lag is acceptable for serving reads
+     */
+    void updateLag(double measuredLagSeconds, boolean withinLimit) {
+        this.lagSeconds = measuredLagSeconds;
+        this.healthy = withinLimit;
+    }
+
+    /**
+     * Takes the replica out of rotation until the next successful lag check.
+     */
+    void markUnhealthy() {
+        this.healthy = false;
+    }
+
+    Connection getConnection() throws SQLException {
+        return dataSource.getConnection();
+    }
+
+    /**
+     * Replaces a closed pool with a new one; the replica stays out of rotation until the next successful lag check.
+     */
+    void reopen() {
+        if (dataSource.isClosed()) {
+            markUnhealthy();
+            dataSource = open();
+        }
+    }
+
+    @Override
+    public void close() {
+        dataSource.close();
+    }
+}
@@ -0,0 +1,91 @@
+package com.rvladimir.datasource;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.crac.OrderedResource;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.crac.Context;
+import org.crac.Resource;
+
+/**
+ * Holds the configured replica pools and picks a healthy one for each read-only transaction. The pools are built
+ * outside the Micronaut datasource support, so they are closed before a CRaC checkpoint and opened again after a
+ * restore here.
+ */
+@Singleton
+@Requires(property = "ttrack.datasource-routing.enabled", value = "true")
+public class ReplicaRegistry implements OrderedResource {
+
+    private final List<ReplicaPool> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+    private final LongAdder primaryRoutes = new LongAdder();
+    private final LongAdder replicaRoutes = new LongAdder();
+
+    @Inject
+    public ReplicaRegistry(List<ReplicaDataSourceConfiguration> configurations) {
+        this(configurations.stream().map(ReplicaPool::new).toArray(ReplicaPool[]::new));
+    }
+
+    ReplicaRegistry(ReplicaPool... replicas) {
+        this.replicas = List.of(replicas);
+    }
+
+    public List<ReplicaPool> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Picks the next healthy replica in round-robin order.
+     * @return a healthy replica, or empty if every replica is lagging or down
+     */
+    public Optional<ReplicaPool> nextHealthy() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            ReplicaPool candidate = replicas.get((start + i) % size);
+            if (candidate.isHealthy()) {
+                return Optional.of(candidate);
+            }
+        }
+        return Optional.empty();
+    }
+
+    void recordPrimaryRoute() {
+        primaryRoutes.increment();
+    }
+
+    void recordReplicaRoute() {
+        replicaRoutes.increment();
+    }
+
+    public long getPrimaryRoutes() {
+        return primaryRoutes.sum();
+    }
+
+    public long getReplicaRoutes() {
+        return replicaRoutes.sum();
+    }
+
+    @Override
+    public void beforeCheckpoint(Context<? extends Resource> context) {
+        close();
+    }
+
+    @Override
+    public void afterRestore(Context<? extends Resource> context) {
+        replicas.forEach(ReplicaPool::reopen);
+    }
+
+    @PreDestroy
+    void close() {
+        replicas.forEach(ReplicaPool::close);
+    }
+}
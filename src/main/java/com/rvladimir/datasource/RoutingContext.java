@@ -0,0 +1,33 @@
+package com.rvladimir.datasource;
+
+/**
+ * Holds the routing decision for the transaction about to start on the current thread.
+ * Set by {@link ReadReplicaInterceptor} before the transaction acquires its connection.
+ */
+public final class RoutingContext {
+
+    private static final ThreadLocal<Boolean> REPLICA = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private RoutingContext() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Whether the next connection on this thread may be served by a replica.
+     * @return true if a replica may be used
+     */
+    public static boolean isReplicaPreferred() {
+        return REPLICA.get();
+    }
+
+    /**
+     * Sets the routing preference for this thread.
+     * @param replica true to prefer a replica
+     * @return the previous preference, to be restored afterwards
+     */
+    static boolean setReplicaPreferred(boolean replica) {
+        boolean previous = REPLICA.get();
+        REPLICA.set(replica);
+        return previous;
+    }
+}
@@ -0,0 +1,92 @@
+package com.rvladimir.datasource;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DataSource that hands out replica connections to transactions started under {@link ReadReplica}
+ * and primary connections to everything else. Falls back to the primary when no replica is healthy.
+ */
+@Slf4j
+public class RoutingDataSource implements DataSource {
+
+    private final DataSource primary;
+    private final ReplicaRegistry registry;
+
+    public RoutingDataSource(DataSource primary, ReplicaRegistry registry) {
+        this.primary = primary;
+        this.registry = registry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (RoutingContext.isReplicaPreferred()) {
+            Optional<ReplicaPool> replica = registry.nextHealthy();
+            if (replica.isPresent()) {
+                try {
+                    Connection connection = replica.get().getConnection();
+                    registry.recordReplicaRoute();
+                    return connection;
+                } catch (SQLException ex) {
+                    log.warn("Replica '{}' unavailable, falling back to primary: {}",
+                        replica.get().getName(), ex.getMessage());
+                    replica.get().markUnhealthy();
+                }
+            }
+        }
+        registry.recordPrimaryRoute();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        registry.recordPrimaryRoute();
+        return primary.getConnection(username, password);
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return primary.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        primary.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        primary.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return primary.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return primary.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        return primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+}
@@ -0,0 +1,52 @@
+package com.rvladimir.datasource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micronaut.context.annotation.Requires;
+
+import jakarta.inject.Singleton;
+
+/**
+ * Exposes how many connections were routed to the primary versus replicas,
+ * plus the last measured lag and health of each replica.
+ */
+@Singleton
+@Requires(beans = ReplicaRegistry.class)
+public class RoutingDataSourceMetrics implements MeterBinder {
+
+    private static final String ROUTES_METRIC = "ttrack.datasource.routes";
+    private static final String TARGET_TAG = "target";
+    private static final String REPLICA_TAG = "replica";
+
+    private final ReplicaRegistry registry;
+
+    public RoutingDataSourceMetrics(ReplicaRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        FunctionCounter.builder(ROUTES_METRIC, registry, ReplicaRegistry::getPrimaryRoutes)
+            .tag(TARGET_TAG, "primary")
+            .register(meterRegistry);
+        FunctionCounter.builder(ROUTES_METRIC, registry, ReplicaRegistry::getReplicaRoutes)
+            .tag(TARGET_TAG, REPLICA_TAG)
+            .register(meterRegistry);
+        for (ReplicaPool replica : registry.getReplicas()) {
+            Gauge.builder("ttrack.datasource.replica.lag", replica, ReplicaPool::getLagSeconds)
+                .tag(REPLICA_TAG, replica.getName())
+                .baseUnit("seconds")
+                .register(meterRegistry);
+            Gauge.builder("ttrack.datasource.replica.healthy", replica, pool -> {
+                if (pool.isHealthy()) {
+                    return 1;
+                }
+                return 0;
+            })
+                .tag(REPLICA_TAG, replica.getName())
+                .register(meterRegistry);
+        }
+    }
+}
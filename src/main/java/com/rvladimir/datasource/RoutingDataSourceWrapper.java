@@ -0,0 +1,36 @@
+package com.rvladimir.datasource;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.BeanCreatedEvent;
+import io.micronaut.context.event.BeanCreatedEventListener;
+
+import jakarta.inject.Singleton;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the default datasource in a {@link RoutingDataSource} as soon as it is created,
+ * so Hibernate, Flyway and every other consumer see the routing datasource.
+ */
+@Singleton
+@Requires(beans = ReplicaRegistry.class)
+public class RoutingDataSourceWrapper implements BeanCreatedEventListener<DataSource> {
+
+    private static final String DEFAULT_DATASOURCE = "default";
+
+    private final ReplicaRegistry registry;
+
+    public RoutingDataSourceWrapper(ReplicaRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public DataSource onCreated(BeanCreatedEvent<DataSource> event) {
+        DataSource dataSource = event.getBean();
+        if (!DEFAULT_DATASOURCE.equals(event.getBeanIdentifier().getName()) ||
+            dataSource instanceof RoutingDataSource) {
+            return dataSource;
+        }
+        return new RoutingDataSource(dataSource, registry);
+    }
+}
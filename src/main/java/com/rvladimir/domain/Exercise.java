@@ -4,6 +4,7 @@ import com.rvladimir.constants.TtrackConstants;
 
 import io.micronaut.serde.annotation.Serdeable;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -16,6 +17,9 @@ import jakarta.validation.constraints.NotNull;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -23,9 +27,12 @@ import lombok.NoArgsConstructor;
 /**
  * Entity representing an exercise in the exercise catalog.
  * Maps to ttrack.exercise table.
+ * Cached in the second-level cache since catalog rows are read on every session exercise write.
  */
 @Serdeable
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = TtrackConstants.EXERCISE_CACHE_REGION)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -4,6 +4,7 @@ import com.rvladimir.constants.TtrackConstants;
 
 import io.micronaut.serde.annotation.Serdeable;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -26,10 +27,13 @@ import lombok.NoArgsConstructor;
  * Entity representing a session exercise performed during a training session.
  * All metric fields are nullable to support any exercise modality
  * (weight training, HIIT, interval, cardio, boxing, etc.).
- * Maps to ttrack.session_exercise table.
+ * Maps to ttrack.session_exercise table, which is range-partitioned by month on {@code created_at}.
+ * Never held in the second-level cache: the rows are written by SessionExerciseJdbcRepository, which bypasses the
+ * Hibernate events that broadcast cache invalidations.
  */
 @Serdeable
 @Entity
+@Cacheable(false)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -86,7 +90,8 @@ public class SessionExercise {
     @JoinColumn(name = "training_session_id")
     private TrainingSession trainingSession;
 
-    @Column(name = "created_at")
+    /** Partition key; always set on insert and never changed afterwards. */
+    @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @Column(name = "unit_of_measurement")
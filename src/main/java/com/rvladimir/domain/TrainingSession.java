@@ -4,6 +4,7 @@ import com.rvladimir.constants.TtrackConstants;
 
 import io.micronaut.serde.annotation.Serdeable;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -22,8 +23,15 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/**
+ * Entity representing a training session, or a template when its status is {@code IS_TEMPLATE}.
+ * Maps to ttrack.training_session table.
+ * Never held in the second-level cache: the rows are written by TrainingSessionJdbcRepository, which bypasses the
+ * Hibernate events that broadcast cache invalidations.
+ */
 @Serdeable
 @Entity
+@Cacheable(false)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
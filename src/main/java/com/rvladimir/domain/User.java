@@ -4,6 +4,7 @@ import com.rvladimir.constants.TtrackConstants;
 
 import io.micronaut.serde.annotation.Serdeable;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -16,12 +17,26 @@ import jakarta.validation.constraints.NotNull;
 
 import java.time.LocalDate;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/**
+ * Entity representing an application user.
+ * Cached in the second-level cache; the email is a natural id so lookups by email
+ * are resolved through the natural-id cache instead of a query.
+ * Maps to ttrack.user table.
+ */
 @Serdeable
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = TtrackConstants.USER_CACHE_REGION)
+@NaturalIdCache(region = TtrackConstants.USER_EMAIL_CACHE_REGION)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -49,6 +64,7 @@ public class User {
     private LocalDate dateBirth;
 
     @NotNull
+    @NaturalId(mutable = true)
     @Column(nullable = false, unique = true)
     private String email;
 
@@ -0,0 +1,27 @@
+package com.rvladimir.leaderboard;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+import java.time.Duration;
+
+import lombok.Data;
+
+/**
+ * Configuration for leaderboard snapshots.
+ */
+@Data
+@ConfigurationProperties("ttrack.leaderboard")
+public class LeaderboardConfiguration {
+
+    private static final Duration DEFAULT_SNAPSHOT_INTERVAL = Duration.ofMinutes(1);
+    private static final Duration DEFAULT_REPLAY_OVERLAP = Duration.ofMinutes(5);
+
+    /** How often changed scores are written to the snapshot tables. */
+    private Duration snapshotInterval = DEFAULT_SNAPSHOT_INTERVAL;
+
+    /**
+     * How far before the last snapshot startup starts replaying session exercises, to cover rows whose
+     * transactions committed after the snapshot began.
+     */
+    private Duration replayOverlap = DEFAULT_REPLAY_OVERLAP;
+}
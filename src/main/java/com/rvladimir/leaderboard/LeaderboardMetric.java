@@ -0,0 +1,51 @@
+package com.rvladimir.leaderboard;
+
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.repository.row.SessionExerciseRow;
+
+import java.util.OptionalDouble;
+
+/**
+ * What a leaderboard ranks; higher is better for every metric.
+ */
+public enum LeaderboardMetric {
+    /** Heaviest weight lifted. */
+    WEIGHT,
+    /** Longest distance, in kilometers. */
+    DISTANCE,
+    /** Most rounds, e.g. on the boxing bag. */
+    ROUNDS,
+    /** Most repetitions. */
+    REPETITIONS;
+
+    private static final double KILOMETERS_PER_MILE = 1.609344;
+
+    /**
+     * Score of a session exercise on this metric.
+     * @param row the session exercise
+     * @return the score, or empty if the session exercise does not record this metric
+     */
+    public OptionalDouble score(SessionExerciseRow row) {
+        return switch (this) {
+            case WEIGHT -> positive(row.getWeight());
+            case DISTANCE -> kilometers(row);
+            case ROUNDS -> positive(row.getRounds());
+            case REPETITIONS -> positive(row.getRepetitions());
+        };
+    }
+
+    private static OptionalDouble kilometers(SessionExerciseRow row) {
+        OptionalDouble distance = positive(row.getDistance());
+        if (distance.isPresent() && row.getUnitOfMeasurement() == SessionExercise.UnitOfMeasurement.MILES) {
+            return OptionalDouble.of(distance.getAsDouble() * KILOMETERS_PER_MILE);
+        }
+        return distance;
+    }
+
+    private static OptionalDouble positive(Number value) {
+        if (value == null || value.doubleValue() <= 0) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of(value.doubleValue());
+    }
+}
@@ -0,0 +1,16 @@
+package com.rvladimir.leaderboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A user's best score on a board, as snapshotted.
+ */
+@Getter
+@AllArgsConstructor
+public final class LeaderboardScore {
+
+    private final String board;
+    private final long userId;
+    private final double score;
+}
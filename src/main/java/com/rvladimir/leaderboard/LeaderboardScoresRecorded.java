@@ -0,0 +1,17 @@
+package com.rvladimir.leaderboard;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Scores of a new session exercise, published within the writing transaction and applied once it commits.
+ */
+@Getter
+@AllArgsConstructor
+public final class LeaderboardScoresRecorded {
+
+    private final long userId;
+    private final Map<String, Double> scores;
+}
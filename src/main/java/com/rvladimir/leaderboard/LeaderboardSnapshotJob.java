@@ -0,0 +1,258 @@
+package com.rvladimir.leaderboard;
+
+import com.rvladimir.cache.CacheInvalidationListening;
+import com.rvladimir.cache.CacheInvalidationPublisher;
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.repository.row.SessionExerciseRow;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.runtime.event.annotation.EventListener;
+import io.micronaut.scheduling.annotation.Scheduled;
+
+import jakarta.inject.Singleton;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Persists the leaderboards and restores them at startup.
+ * Every interval, the best scores changed since the previous run are upserted, keeping the higher score on
+ * conflict, so instances holding the same boards may all snapshot without coordination. The start time of the run,
+ * read from the database clock so instances agree on it, is stored as a watermark. At startup, the snapshot is loaded
+ * and session exercises created since the watermark, minus an overlap, are replayed; replaying a score twice is
+ * harmless because boards keep each user's best.
+ * The watermark is shared, so it may only be advanced by an instance holding every score: with cache invalidation
+ * enabled every instance applies every score, but without it each instance holds only the scores it recorded. Without
+ * broadcasting, snapshots therefore save scores but leave the watermark alone, and startup replays all session
+ * exercises.
+ * Scores of users deleted meanwhile are dropped rather than retried.
+ * While the cache invalidation listener is disconnected, scores broadcast by other instances do not reach this one, so
+ * snapshots are held back; once it listens again, the boards are restored the same way, catching up on the scores it
+ * missed, before snapshots resume.
+ */
+@Slf4j
+@Singleton
+@Requires(property = "ttrack.leaderboard.snapshot-enabled", value = "true", defaultValue = "true")
+public class LeaderboardSnapshotJob implements ApplicationEventListener<StartupEvent> {
+
+    private static final String LOAD_SQL = "SELECT board, user_id, score FROM ttrack.leaderboard_entry";
+    private static final String WATERMARK_SQL = "SELECT taken_at FROM ttrack.leaderboard_snapshot WHERE id = 1";
+    private static final String REPLAY_SQL = """
+        SELECT ts.user_id, se.exercise_id, se.type_of_exercise, se.weight, se.distance, se.unit_of_measurement,
+               se.rounds, se.repetitions
+        FROM ttrack.session_exercise se
+        JOIN ttrack.training_session ts ON ts.id = se.training_session_id
+        WHERE se.created_at >= ?
+          AND ts.status <> 'IS_TEMPLATE'
+          AND (se.status IS NULL OR se.status <> 'NOT_FINISHED')
+        """;
+    private static final String UPSERT_SQL = """
+        INSERT INTO ttrack.leaderboard_entry (board, user_id, score)
+        SELECT ?, u.id, ? FROM ttrack.user u WHERE u.id = ?
+        ON CONFLICT (board, user_id) DO UPDATE SET score = GREATEST(ttrack.leaderboard_entry.score, EXCLUDED.score)
+        """;
+    private static final String NOW_SQL = "SELECT LOCALTIMESTAMP";
+    private static final String MARK_SQL = """
+        INSERT INTO ttrack.leaderboard_snapshot (id, taken_at) VALUES (1, ?)
+        ON CONFLICT (id) DO UPDATE SET taken_at = GREATEST(ttrack.leaderboard_snapshot.taken_at, EXCLUDED.taken_at)
+        """;
+    private static final LocalDateTime BEGINNING = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
+    private static final int FETCH_SIZE = 1000;
+    private static final int BOARD_COLUMN = 1;
+    private static final int USER_COLUMN = 2;
+    private static final int SCORE_COLUMN = 3;
+    private static final int BOARD_PARAMETER = 1;
+    private static final int SCORE_PARAMETER = 2;
+    private static final int USER_PARAMETER = 3;
+
+    private final DataSource dataSource;
+    private final Leaderboards leaderboards;
+    private final LeaderboardConfiguration configuration;
+    private final boolean broadcasting;
+
+    private volatile boolean restored;
+    private volatile boolean listening = true;
+
+    public LeaderboardSnapshotJob(
+        DataSource dataSource,
+        Leaderboards leaderboards,
+        LeaderboardConfiguration configuration,
+        @Nullable CacheInvalidationPublisher publisher
+    ) {
+        this.dataSource = dataSource;
+        this.leaderboards = leaderboards;
+        this.configuration = configuration;
+        this.broadcasting = publisher != null;
+    }
+
+    @Override
+    public void onApplicationEvent(StartupEvent event) {
+        restore();
+    }
+
+    /**
+     * Loads the snapshot and replays newer session exercises. Snapshots are skipped until this succeeds, so the
+     * watermark never moves past scores that were not restored.
+     */
+    void restore() {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            int loaded = load(connection);
+            LocalDateTime since = watermark(connection);
+            int replayed = replay(connection, since);
+            connection.commit();
+            restored = true;
+            log.info("Restored {} leaderboard scores and replayed {} session exercises since {}",
+                loaded, replayed, since);
+        } catch (SQLException ex) {
+            log.warn("Could not restore the leaderboards: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Holds back snapshots while scores broadcast by other instances may be missed, and catches up on them once the
+     * cache invalidation listener listens again.
+     * @param event whether the listener is listening
+     */
+    @EventListener
+    void onListening(CacheInvalidationListening event) {
+        if (event.isListening()) {
+            restored = false;
+            restore();
+        }
+        listening = event.isListening();
+    }
+
+    @Scheduled(
+        initialDelay = "${ttrack.leaderboard.snapshot-interval:1m}",
+        fixedDelay = "${ttrack.leaderboard.snapshot-interval:1m}"
+    )
+    void snapshot() {
+        if (!listening) {
+            log.debug("Holding back the leaderboard snapshot until cache invalidations are received again");
+            return;
+        }
+        if (!restored) {
+            restore();
+            return;
+        }
+        List<LeaderboardScore> scores = List.of();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            LocalDateTime takenAt = now(connection);
+            scores = leaderboards.drainUnsaved();
+            save(connection, scores);
+            if (broadcasting) {
+                mark(connection, takenAt);
+            }
+            connection.commit();
+            log.debug("Snapshotted {} leaderboard scores", scores.size());
+        } catch (SQLException ex) {
+            leaderboards.markUnsaved(scores);
+            log.warn("Could not snapshot the leaderboards: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * The start time of the current transaction on the database clock, which every instance shares.
+     */
+    private static LocalDateTime now(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(NOW_SQL)) {
+            resultSet.next();
+            return resultSet.getTimestamp(1).toLocalDateTime();
+        }
+    }
+
+    private int load(Connection connection) throws SQLException {
+        int loaded = 0;
+        try (Statement statement = connection.createStatement()) {
+            statement.setFetchSize(FETCH_SIZE);
+            try (ResultSet resultSet = statement.executeQuery(LOAD_SQL)) {
+                while (resultSet.next()) {
+                    leaderboards.restore(new LeaderboardScore(resultSet.getString(BOARD_COLUMN),
+                        resultSet.getLong(USER_COLUMN), resultSet.getDouble(SCORE_COLUMN)));
+                    loaded++;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private LocalDateTime watermark(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(WATERMARK_SQL)) {
+            if (resultSet.next()) {
+                return resultSet.getTimestamp(1).toLocalDateTime().minus(configuration.getReplayOverlap());
+            }
+            return BEGINNING;
+        }
+    }
+
+    private int replay(Connection connection, LocalDateTime since) throws SQLException {
+        int replayed = 0;
+        try (PreparedStatement statement = connection.prepareStatement(REPLAY_SQL)) {
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setTimestamp(1, Timestamp.valueOf(since));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    leaderboards.replay(resultSet.getLong("user_id"), toRow(resultSet));
+                    replayed++;
+                }
+            }
+        }
+        return replayed;
+    }
+
+    private static SessionExerciseRow toRow(ResultSet resultSet) throws SQLException {
+        SessionExerciseRow row = new SessionExerciseRow();
+        row.setExerciseId(resultSet.getObject("exercise_id", Long.class));
+        String type = resultSet.getString("type_of_exercise");
+        if (type != null) {
+            row.setTypeOfExercise(TypeOfExercise.valueOf(type));
+        }
+        row.setWeight(resultSet.getObject("weight", Double.class));
+        row.setDistance(resultSet.getObject("distance", Double.class));
+        String unit = resultSet.getString("unit_of_measurement");
+        if (unit != null) {
+            row.setUnitOfMeasurement(SessionExercise.UnitOfMeasurement.valueOf(unit));
+        }
+        row.setRounds(resultSet.getObject("rounds", Integer.class));
+        row.setRepetitions(resultSet.getObject("repetitions", Integer.class));
+        return row;
+    }
+
+    private static void save(Connection connection, List<LeaderboardScore> scores) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(UPSERT_SQL)) {
+            for (LeaderboardScore score : scores) {
+                statement.setString(BOARD_PARAMETER, score.getBoard());
+                statement.setDouble(SCORE_PARAMETER, score.getScore());
+                statement.setLong(USER_PARAMETER, score.getUserId());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private static void mark(Connection connection, LocalDateTime takenAt) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(MARK_SQL)) {
+            statement.setTimestamp(1, Timestamp.valueOf(takenAt));
+            statement.execute();
+        }
+    }
+}
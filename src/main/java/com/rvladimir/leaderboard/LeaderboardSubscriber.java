@@ -0,0 +1,47 @@
+package com.rvladimir.leaderboard;
+
+import com.rvladimir.outbox.OutboxEvent;
+import com.rvladimir.outbox.OutboxEventType;
+import com.rvladimir.outbox.OutboxSubscriber;
+import com.rvladimir.outbox.SessionExerciseSaved;
+
+import io.micronaut.serde.ObjectMapper;
+
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Records the scores of saved session exercises in the {@link Leaderboards} from outbox events, off the request path.
+ * Templates and {@code NOT_FINISHED} exercises do not count. Scores reach the boards once the relay's transaction
+ * commits; a redelivered event offers the same scores again, which leaves the boards unchanged.
+ */
+@Singleton
+@AllArgsConstructor
+public class LeaderboardSubscriber implements OutboxSubscriber {
+
+    private final Leaderboards leaderboards;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onEvent(OutboxEvent event) {
+        if (!OutboxEventType.SESSION_EXERCISE_SAVED.name().equals(event.getEventType())) {
+            return;
+        }
+        SessionExerciseSaved saved = read(event);
+        if (saved.counts()) {
+            leaderboards.record(saved.getUserId(), saved.toRow());
+        }
+    }
+
+    private SessionExerciseSaved read(OutboxEvent event) {
+        try {
+            return objectMapper.readValue(event.getPayload(), SessionExerciseSaved.class);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not read " + event.getEventType() + " event " + event.getId(), ex);
+        }
+    }
+}
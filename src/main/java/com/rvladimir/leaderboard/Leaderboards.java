@@ -0,0 +1,203 @@
+package com.rvladimir.leaderboard;
+
+import com.rvladimir.cache.CacheInvalidationPublisher;
+import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.repository.row.SessionExerciseRow;
+
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.jdbc.runtime.JdbcOperations;
+import io.micronaut.transaction.annotation.TransactionalEventListener;
+
+import jakarta.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory leaderboards, one {@link RankedBoard} per exercise and metric and per exercise type and metric.
+ * Scores are recorded from outbox events by {@link LeaderboardSubscriber} and only applied once the relay's
+ * transaction commits, so a rolled-back delivery never reaches a board. With cache invalidation enabled they are
+ * broadcast on the invalidation channel, which PostgreSQL delivers on commit, and applied by every instance, this one
+ * included; otherwise they are applied by this instance after commit, through {@link LeaderboardScoresRecorded}.
+ * Scores changed since the last snapshot are tracked for {@link LeaderboardSnapshotJob}.
+ */
+@Singleton
+public class Leaderboards {
+
+    /** Name under which scores are broadcast on the cache invalidation channel. */
+    public static final String REGION = "ttrack.leaderboard";
+
+    private static final String SEPARATOR = ":";
+    private static final String SCORE_SEPARATOR = ";";
+    private static final int SCORE_PARTS = 3;
+
+    private final ConcurrentMap<String, RankedBoard> boards = new ConcurrentHashMap<>();
+    private final Set<Key> unsaved = ConcurrentHashMap.newKeySet();
+    private final JdbcOperations jdbcOperations;
+    private final CacheInvalidationPublisher publisher;
+    private final ApplicationEventPublisher<LeaderboardScoresRecorded> eventPublisher;
+
+    public Leaderboards(
+        JdbcOperations jdbcOperations,
+        @Nullable CacheInvalidationPublisher publisher,
+        ApplicationEventPublisher<LeaderboardScoresRecorded> eventPublisher
+    ) {
+        this.jdbcOperations = jdbcOperations;
+        this.publisher = publisher;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Name of the board ranking a metric on one catalog exercise.
+     * @param exerciseId the catalog exercise ID
+     * @param metric the metric
+     * @return the board name, e.g. {@code exercise:12:WEIGHT}
+     */
+    public static String exerciseBoard(long exerciseId, LeaderboardMetric metric) {
+        return "exercise" + SEPARATOR + exerciseId + SEPARATOR + metric.name();
+    }
+
+    /**
+     * Name of the board ranking a metric across all exercises of a type.
+     * @param type the exercise type
+     * @param metric the metric
+     * @return the board name, e.g. {@code type:BOXING_BAG:ROUNDS}
+     */
+    public static String typeBoard(TypeOfExercise type, LeaderboardMetric metric) {
+        return "type" + SEPARATOR + type.name() + SEPARATOR + metric.name();
+    }
+
+    /**
+     * Records the scores of a new session exercise. Must be called within a transaction.
+     * @param userId the user who performed the exercise
+     * @param row the saved session exercise
+     */
+    public void record(long userId, SessionExerciseRow row) {
+        Map<String, Double> scores = scores(row);
+        if (scores.isEmpty()) {
+            return;
+        }
+        if (publisher == null) {
+            eventPublisher.publishEvent(new LeaderboardScoresRecorded(userId, scores));
+            return;
+        }
+        scores.forEach((board, score) -> {
+            String id = board + SCORE_SEPARATOR + userId + SCORE_SEPARATOR + score;
+            jdbcOperations.execute(connection -> {
+                publisher.publish(connection, REGION, id);
+                return null;
+            });
+        });
+    }
+
+    /**
+     * Applies the scores recorded by {@link #record} once their transaction has committed.
+     * @param event the recorded scores
+     */
+    @TransactionalEventListener(TransactionalEventListener.TransactionPhase.AFTER_COMMIT)
+    public void onScoresRecorded(LeaderboardScoresRecorded event) {
+        event.getScores().forEach((board, score) -> offer(board, event.getUserId(), score));
+    }
+
+    /**
+     * Applies a score broadcast by {@link #record}.
+     * @param id the broadcast key, {@code board;userId;score}
+     * @throws IllegalArgumentException if the key is malformed
+     */
+    public void apply(String id) {
+        String[] parts = id.split(SCORE_SEPARATOR, SCORE_PARTS);
+        if (parts.length != SCORE_PARTS) {
+            throw new IllegalArgumentException("Malformed leaderboard score: " + id);
+        }
+        offer(parts[0], Long.parseLong(parts[1]), Double.parseDouble(parts[2]));
+    }
+
+    /**
+     * Applies the scores of a session exercise read back at startup, without broadcasting them.
+     * @param userId the user who performed the exercise
+     * @param row the session exercise
+     */
+    public void replay(long userId, SessionExerciseRow row) {
+        scores(row).forEach((board, score) -> offer(board, userId, score));
+    }
+
+    /**
+     * Restores a snapshotted score; it is not snapshotted again unless beaten.
+     * @param score the snapshotted score
+     */
+    public void restore(LeaderboardScore score) {
+        boards.computeIfAbsent(score.getBoard(), name -> new RankedBoard()).offer(score.getUserId(), score.getScore());
+    }
+
+    /**
+     * Looks up a board.
+     * @param board the board name
+     * @return the board, or empty if nobody has a score on it yet
+     */
+    public Optional<RankedBoard> board(String board) {
+        return Optional.ofNullable(boards.get(board));
+    }
+
+    /**
+     * Takes the best scores changed since the previous call.
+     * @return the changed scores
+     */
+    public List<LeaderboardScore> drainUnsaved() {
+        List<LeaderboardScore> drained = new ArrayList<>();
+        Iterator<Key> keys = unsaved.iterator();
+        while (keys.hasNext()) {
+            Key key = keys.next();
+            keys.remove();
+            OptionalDouble score = boards.get(key.board()).score(key.userId());
+            if (score.isPresent()) {
+                drained.add(new LeaderboardScore(key.board(), key.userId(), score.getAsDouble()));
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * Marks scores as changed again, e.g. after a failed snapshot.
+     * @param scores the scores to snapshot next time
+     */
+    public void markUnsaved(List<LeaderboardScore> scores) {
+        for (LeaderboardScore score : scores) {
+            unsaved.add(new Key(score.getBoard(), score.getUserId()));
+        }
+    }
+
+    private void offer(String board, long userId, double score) {
+        if (boards.computeIfAbsent(board, name -> new RankedBoard()).offer(userId, score)) {
+            unsaved.add(new Key(board, userId));
+        }
+    }
+
+    private static Map<String, Double> scores(SessionExerciseRow row) {
+        Map<String, Double> scores = new LinkedHashMap<>();
+        for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+            OptionalDouble score = metric.score(row);
+            if (score.isEmpty()) {
+                continue;
+            }
+            if (row.getExerciseId() != null) {
+                scores.put(exerciseBoard(row.getExerciseId(), metric), score.getAsDouble());
+            }
+            if (row.getTypeOfExercise() != null) {
+                scores.put(typeBoard(row.getTypeOfExercise(), metric), score.getAsDouble());
+            }
+        }
+        return scores;
+    }
+
+    private record Key(String board, long userId) {
+    }
+}
@@ -0,0 +1,250 @@
+package com.rvladimir.leaderboard;
+
+import com.rvladimir.service.dto.LeaderboardEntryDTO;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Best score per user on one leaderboard, highest first, ties ranked by lower user ID.
+ * Entries live in an indexable skip list: every forward link also counts the entries it skips, so finding the rank
+ * of an entry or the entry at a rank takes O(log n) expected time, like an update. A map from user to best score
+ * locates a user's entry. Reads share a lock; updates hold it exclusively.
+ */
+public final class RankedBoard {
+
+    private static final int MAX_LEVEL = 32;
+    /** A node reaches each next level with probability 1 / PROMOTION_ODDS. */
+    private static final int PROMOTION_ODDS = 4;
+
+    private final Node head = new Node(0, Double.POSITIVE_INFINITY, MAX_LEVEL);
+    private final Map<Long, Double> scores = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private int level = 1;
+    private int length;
+
+    /**
+     * Records a score, keeping it only if it beats the user's best.
+     * @param userId the user ID
+     * @param score the score
+     * @return true if the score is the user's new best
+     */
+    public boolean offer(long userId, double score) {
+        lock.writeLock().lock();
+        try {
+            Double best = scores.get(userId);
+            if (best != null && best >= score) {
+                return false;
+            }
+            if (best != null) {
+                delete(userId, best);
+            }
+            insert(userId, score);
+            scores.put(userId, score);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Best score of a user.
+     * @param userId the user ID
+     * @return the score, or empty if the user has none on this board
+     */
+    public OptionalDouble score(long userId) {
+        lock.readLock().lock();
+        try {
+            Double best = scores.get(userId);
+            if (best == null) {
+                return OptionalDouble.empty();
+            }
+            return OptionalDouble.of(best);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rank and best score of a user.
+     * @param userId the user ID
+     * @return the entry, or empty if the user has no score on this board
+     */
+    public Optional<LeaderboardEntryDTO> entry(long userId) {
+        lock.readLock().lock();
+        try {
+            Double best = scores.get(userId);
+            if (best == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new LeaderboardEntryDTO(rank(userId, best), userId, best));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Entries from a rank on, in rank order.
+     * @param fromRank the first rank, starting at 1
+     * @param count the maximum number of entries
+     * @return the entries, empty if the board has fewer than {@code fromRank} entries
+     */
+    public List<LeaderboardEntryDTO> range(int fromRank, int count) {
+        lock.readLock().lock();
+        try {
+            List<LeaderboardEntryDTO> entries = new ArrayList<>();
+            if (fromRank < 1 || fromRank > length) {
+                return entries;
+            }
+            Node node = nodeAt(fromRank);
+            for (int rank = fromRank; node != null && entries.size() < count; rank++) {
+                entries.add(new LeaderboardEntryDTO(rank, node.userId, node.score));
+                node = node.next[0];
+            }
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of users with a score on this board.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return length;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(long userId, double score) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        Node node = head;
+        for (int i = level - 1; i >= 0; i--) {
+            if (i < level - 1) {
+                rank[i] = rank[i + 1];
+            }
+            while (node.next[i] != null && precedes(node.next[i], userId, score)) {
+                rank[i] += node.span[i];
+                node = node.next[i];
+            }
+            update[i] = node;
+        }
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                update[i] = head;
+                head.span[i] = length;
+            }
+            level = nodeLevel;
+        }
+        Node inserted = new Node(userId, score, nodeLevel);
+        for (int i = 0; i < nodeLevel; i++) {
+            inserted.next[i] = update[i].next[i];
+            update[i].next[i] = inserted;
+            inserted.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = rank[0] - rank[i] + 1;
+        }
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        length++;
+    }
+
+    private void delete(long userId, double score) {
+        Node[] update = new Node[MAX_LEVEL];
+        Node node = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && precedes(node.next[i], userId, score)) {
+                node = node.next[i];
+            }
+            update[i] = node;
+        }
+        Node deleted = node.next[0];
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == deleted) {
+                update[i].span[i] += deleted.span[i] - 1;
+                update[i].next[i] = deleted.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        length--;
+    }
+
+    private int rank(long userId, double score) {
+        int rank = 0;
+        Node node = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && (precedes(node.next[i], userId, score) || node.next[i].userId == userId)) {
+                rank += node.span[i];
+                node = node.next[i];
+            }
+            if (node != head && node.userId == userId) {
+                return rank;
+            }
+        }
+        return rank;
+    }
+
+    private Node nodeAt(int rank) {
+        int traversed = 0;
+        Node node = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && traversed + node.span[i] <= rank) {
+                traversed += node.span[i];
+                node = node.next[i];
+            }
+            if (traversed == rank) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Whether a node ranks above the entry of a user with a score.
+     */
+    private static boolean precedes(Node node, long userId, double score) {
+        int comparison = Double.compare(node.score, score);
+        return comparison > 0 || comparison == 0 && node.userId < userId;
+    }
+
+    private static int randomLevel() {
+        int nodeLevel = 1;
+        while (nodeLevel < MAX_LEVEL && ThreadLocalRandom.current().nextInt(PROMOTION_ODDS) == 0) {
+            nodeLevel++;
+        }
+        return nodeLevel;
+    }
+
+    /**
+     * Skip list node; {@code span[i]} is the number of entries {@code next[i]} moves forward.
+     */
+    private static final class Node {
+
+        private final long userId;
+        private final double score;
+        private final Node[] next;
+        private final int[] span;
+
+        private Node(long userId, double score, int levels) {
+            this.userId = userId;
+            this.score = score;
+            this.next = new Node[levels];
+            this.span = new int[levels];
+        }
+    }
+}
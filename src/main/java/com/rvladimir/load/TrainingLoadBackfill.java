@@ -0,0 +1,257 @@
+package com.rvladimir.load;
+
+import com.rvladimir.archive.ArchiveReader;
+import com.rvladimir.archive.ArchivedSessions;
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.repository.row.SessionExerciseRow;
+import com.rvladimir.repository.row.TrainingLoadRow;
+import com.rvladimir.repository.row.TrainingSessionRow;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.context.event.StartupEvent;
+
+import jakarta.inject.Singleton;
+
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rebuilds ttrack.training_load from the session exercises of training sessions, once per database.
+ * Runs at startup until a rebuild has been recorded, replaying each user's training days in order through the model.
+ * The table is locked against writes for the rebuild, so loads recorded concurrently are either read back from their
+ * session exercises or applied on top of the rebuild. Session exercises whose outbox events are still pending are left
+ * to {@link TrainingLoadSubscriber}, which applies them on top. Session exercises already moved to the archive are read
+ * back from every archive file into a temporary table first and replayed in day order with the others, so the loads
+ * reach past the archive horizon.
+ */
+@Slf4j
+@Singleton
+@Requires(property = "ttrack.training-load.backfill-enabled", value = "true", defaultValue = "true")
+public class TrainingLoadBackfill implements ApplicationEventListener<StartupEvent> {
+
+    private static final String LOCK_SQL = "LOCK TABLE ttrack.training_load IN EXCLUSIVE MODE";
+    private static final String DONE_SQL = "SELECT 1 FROM ttrack.training_load_backfill WHERE id = 1";
+    private static final String CLEAR_SQL = "DELETE FROM ttrack.training_load";
+    private static final String ARCHIVE_SQL = "SELECT storage_key FROM ttrack.archive_manifest ORDER BY id";
+    private static final String ARCHIVED_TABLE_SQL = """
+        CREATE TEMP TABLE archived_session_exercise (
+            user_id BIGINT, day DATE, duration TIME, rounds INTEGER, weight FLOAT, repetitions INTEGER, sets INTEGER)
+        ON COMMIT DROP
+        """;
+    private static final String ARCHIVED_INSERT_SQL = """
+        INSERT INTO archived_session_exercise (user_id, day, duration, rounds, weight, repetitions, sets)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+        """;
+    private static final String EXERCISES_SQL = """
+        SELECT ts.user_id, CAST(ts.created_at AS DATE) AS day, se.duration, se.rounds, se.weight, se.repetitions,
+               se.sets
+        FROM ttrack.training_session ts
+        JOIN ttrack.session_exercise se ON se.training_session_id = ts.id AND se.created_at >= ts.created_at
+        WHERE ts.status <> 'IS_TEMPLATE'
+          AND (se.status IS NULL OR se.status <> 'NOT_FINISHED')
+          AND NOT EXISTS (
+              SELECT 1 FROM ttrack.outbox_event o
+              WHERE o.aggregate_type = 'TRAINING_SESSION' AND o.aggregate_id = ts.id
+                AND o.event_type = 'SESSION_EXERCISE_SAVED'
+                AND CAST(o.payload ->> 'sessionExerciseId' AS BIGINT) = se.id
+          )
+        UNION ALL
+        SELECT user_id, day, duration, rounds, weight, repetitions, sets FROM archived_session_exercise
+        ORDER BY user_id, day
+        """;
+    private static final String INSERT_SQL =
+        "INSERT INTO ttrack.training_load (user_id, day, load, acute, chronic) VALUES (?, ?, ?, ?, ?)";
+    private static final String MARK_SQL =
+        "INSERT INTO ttrack.training_load_backfill (id, completed_at) VALUES (1, ?)";
+    private static final int FETCH_SIZE = 1000;
+    private static final int BATCH_SIZE = 500;
+    private static final int USER_COLUMN = 1;
+    private static final int DAY_COLUMN = 2;
+    private static final int LOAD_PARAMETER = 3;
+    private static final int ACUTE_PARAMETER = 4;
+    private static final int CHRONIC_PARAMETER = 5;
+    private static final int DURATION_PARAMETER = 3;
+    private static final int ROUNDS_PARAMETER = 4;
+    private static final int WEIGHT_PARAMETER = 5;
+    private static final int REPETITIONS_PARAMETER = 6;
+    private static final int SETS_PARAMETER = 7;
+
+    private final DataSource dataSource;
+    private final TrainingLoadModel model;
+    private final ArchiveReader archiveReader;
+
+    public TrainingLoadBackfill(DataSource dataSource, TrainingLoadModel model, ArchiveReader archiveReader) {
+        this.dataSource = dataSource;
+        this.model = model;
+        this.archiveReader = archiveReader;
+    }
+
+    @Override
+    public void onApplicationEvent(StartupEvent event) {
+        backfill();
+    }
+
+    /**
+     * Rebuilds the training load table unless a rebuild has been recorded.
+     * @return the number of training days written, or -1 if the rebuild was already done
+     */
+    int backfill() {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(LOCK_SQL);
+                try (ResultSet resultSet = statement.executeQuery(DONE_SQL)) {
+                    if (resultSet.next()) {
+                        connection.rollback();
+                        return -1;
+                    }
+                }
+                statement.executeUpdate(CLEAR_SQL);
+            }
+            loadArchive(connection);
+            int written = rebuild(connection);
+            try (PreparedStatement statement = connection.prepareStatement(MARK_SQL)) {
+                statement.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now()));
+                statement.executeUpdate();
+            }
+            connection.commit();
+            log.info("Rebuilt {} training load days", written);
+            return written;
+        } catch (SQLException | UncheckedIOException ex) {
+            log.warn("Could not rebuild the training load: {}", ex.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Copies the archived session exercises counted by {@code EXERCISES_SQL} into {@code archived_session_exercise}.
+     */
+    private void loadArchive(Connection connection) throws SQLException {
+        List<String> storageKeys = new ArrayList<>();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(ARCHIVED_TABLE_SQL);
+            try (ResultSet resultSet = statement.executeQuery(ARCHIVE_SQL)) {
+                while (resultSet.next()) {
+                    storageKeys.add(resultSet.getString(1));
+                }
+            }
+        }
+        try (PreparedStatement insert = connection.prepareStatement(ARCHIVED_INSERT_SQL)) {
+            for (String storageKey : storageKeys) {
+                ArchivedSessions archive = archiveReader.read(storageKey);
+                Map<Long, TrainingSessionRow> sessions = archive.getTrainingSessions().stream()
+                    .filter(session -> session.getStatus() != TrainingSession.Status.IS_TEMPLATE)
+                    .collect(Collectors.toMap(TrainingSessionRow::getId, Function.identity()));
+                for (SessionExerciseRow exercise : archive.getSessionExercises()) {
+                    TrainingSessionRow session = sessions.get(exercise.getTrainingSessionId());
+                    if (session != null && exercise.getStatus() != SessionExercise.Status.NOT_FINISHED) {
+                        addArchived(insert, session, exercise);
+                    }
+                }
+                insert.executeBatch();
+            }
+        }
+    }
+
+    private static void addArchived(PreparedStatement insert, TrainingSessionRow session, SessionExerciseRow exercise)
+        throws SQLException {
+        insert.setLong(USER_COLUMN, session.getUserId());
+        insert.setDate(DAY_COLUMN, Date.valueOf(session.getCreatedAt().toLocalDate()));
+        if (exercise.getDuration() == null) {
+            insert.setNull(DURATION_PARAMETER, Types.TIME);
+        } else {
+            insert.setTime(DURATION_PARAMETER, Time.valueOf(exercise.getDuration()));
+        }
+        insert.setObject(ROUNDS_PARAMETER, exercise.getRounds(), Types.INTEGER);
+        insert.setObject(WEIGHT_PARAMETER, exercise.getWeight(), Types.DOUBLE);
+        insert.setObject(REPETITIONS_PARAMETER, exercise.getRepetitions(), Types.INTEGER);
+        insert.setObject(SETS_PARAMETER, exercise.getSets(), Types.INTEGER);
+        insert.addBatch();
+    }
+
+    private int rebuild(Connection connection) throws SQLException {
+        int written = 0;
+        try (PreparedStatement select = connection.prepareStatement(EXERCISES_SQL);
+             PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+            select.setFetchSize(FETCH_SIZE);
+            TrainingLoadRow previous = null;
+            long userId = 0;
+            LocalDate day = null;
+            double load = 0;
+            try (ResultSet resultSet = select.executeQuery()) {
+                while (resultSet.next()) {
+                    long rowUserId = resultSet.getLong(USER_COLUMN);
+                    LocalDate rowDay = resultSet.getObject(DAY_COLUMN, LocalDate.class);
+                    if (day != null && (rowUserId != userId || !rowDay.equals(day))) {
+                        previous = add(insert, previous, userId, day, load);
+                        if (++written % BATCH_SIZE == 0) {
+                            insert.executeBatch();
+                        }
+                        load = 0;
+                    }
+                    if (rowUserId != userId) {
+                        previous = null;
+                    }
+                    userId = rowUserId;
+                    day = rowDay;
+                    load += model.load(toRow(resultSet));
+                }
+            }
+            if (day != null) {
+                add(insert, previous, userId, day, load);
+                written++;
+            }
+            insert.executeBatch();
+        }
+        return written;
+    }
+
+    private TrainingLoadRow add(
+        PreparedStatement insert,
+        TrainingLoadRow previous,
+        long userId,
+        LocalDate day,
+        double load
+    ) throws SQLException {
+        TrainingLoadRow row = model.next(previous, userId, day, load);
+        insert.setLong(USER_COLUMN, userId);
+        insert.setDate(DAY_COLUMN, Date.valueOf(day));
+        insert.setDouble(LOAD_PARAMETER, row.getLoad());
+        insert.setDouble(ACUTE_PARAMETER, row.getAcute());
+        insert.setDouble(CHRONIC_PARAMETER, row.getChronic());
+        insert.addBatch();
+        return row;
+    }
+
+    private static SessionExerciseRow toRow(ResultSet resultSet) throws SQLException {
+        SessionExerciseRow row = new SessionExerciseRow();
+        row.setDuration(resultSet.getObject("duration", LocalTime.class));
+        row.setRounds(resultSet.getObject("rounds", Integer.class));
+        row.setWeight(resultSet.getObject("weight", Double.class));
+        row.setRepetitions(resultSet.getObject("repetitions", Integer.class));
+        row.setSets(resultSet.getObject("sets", Integer.class));
+        return row;
+    }
+}
@@ -0,0 +1,27 @@
+package com.rvladimir.load;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Configuration for the training load model. Stored averages are computed with these values, so after changing
+ * them the table must be rebuilt by deleting the row of ttrack.training_load_backfill and restarting.
+ */
+@Data
+@ConfigurationProperties("ttrack.training-load")
+public class TrainingLoadConfiguration {
+
+    private static final int DEFAULT_ACUTE_DAYS = 7;
+    private static final int DEFAULT_CHRONIC_DAYS = 28;
+    private static final double DEFAULT_KILOGRAMS_PER_UNIT = 100.0;
+
+    /** Span of the acute (fatigue) average, in days. */
+    private int acuteDays = DEFAULT_ACUTE_DAYS;
+
+    /** Span of the chronic (fitness) average, in days. */
+    private int chronicDays = DEFAULT_CHRONIC_DAYS;
+
+    /** Lifted volume (weight x repetitions x sets) worth one load unit, i.e. as much as one minute of work. */
+    private double kilogramsPerUnit = DEFAULT_KILOGRAMS_PER_UNIT;
+}
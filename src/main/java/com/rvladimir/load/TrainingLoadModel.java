@@ -0,0 +1,101 @@
+package com.rvladimir.load;
+
+import com.rvladimir.repository.row.SessionExerciseRow;
+import com.rvladimir.repository.row.TrainingLoadRow;
+
+import io.micronaut.core.annotation.Nullable;
+
+import jakarta.inject.Singleton;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Daily training load and its acute and chronic exponentially weighted moving averages.
+ * The load of a session exercise, in arbitrary units, is its minutes of work (duration times rounds) plus its lifted
+ * volume (weight times repetitions times sets) scaled by {@link TrainingLoadConfiguration#getKilogramsPerUnit()}.
+ * An average over N days weighs each day's load by {@code 2 / (N + 1)}: {@code ewma(d) = w * load(d) + (1 - w) *
+ * ewma(d - 1)}. The averages are linear in the daily loads, so adding load x to a day raises every later day's
+ * average by {@code w * x * (1 - w)^k}, k days on, which is how back-dated loads are applied without replaying.
+ */
+@Singleton
+public class TrainingLoadModel {
+
+    private static final double SECONDS_PER_MINUTE = 60.0;
+
+    private final double acuteWeight;
+    private final double chronicWeight;
+    private final double kilogramsPerUnit;
+
+    public TrainingLoadModel(TrainingLoadConfiguration configuration) {
+        this.acuteWeight = 2.0 / (configuration.getAcuteDays() + 1);
+        this.chronicWeight = 2.0 / (configuration.getChronicDays() + 1);
+        this.kilogramsPerUnit = configuration.getKilogramsPerUnit();
+    }
+
+    /**
+     * Load of a session exercise.
+     * @param row the session exercise
+     * @return the load in arbitrary units, 0 if the exercise records neither a duration nor a lifted volume
+     */
+    public double load(SessionExerciseRow row) {
+        double load = 0;
+        if (row.getDuration() != null) {
+            load += row.getDuration().toSecondOfDay() / SECONDS_PER_MINUTE * atLeastOne(row.getRounds());
+        }
+        if (row.getWeight() != null && row.getRepetitions() != null) {
+            load += row.getWeight() * row.getRepetitions() * atLeastOne(row.getSets()) / kilogramsPerUnit;
+        }
+        return Math.max(load, 0);
+    }
+
+    /**
+     * Weight of a day's load in the acute average.
+     */
+    public double getAcuteWeight() {
+        return acuteWeight;
+    }
+
+    /**
+     * Weight of a day's load in the chronic average.
+     */
+    public double getChronicWeight() {
+        return chronicWeight;
+    }
+
+    /**
+     * The row of a training day, following the previous training day.
+     * @param previous the latest training day before, or null if there is none
+     * @param userId the user ID
+     * @param day the training day
+     * @param load the load of the day
+     * @return the row with the averages as of the end of the day
+     */
+    public TrainingLoadRow next(@Nullable TrainingLoadRow previous, long userId, LocalDate day, double load) {
+        double acute = acuteWeight * load;
+        double chronic = chronicWeight * load;
+        if (previous != null) {
+            long gap = ChronoUnit.DAYS.between(previous.getDay(), day);
+            acute += previous.getAcute() * Math.pow(1 - acuteWeight, gap);
+            chronic += previous.getChronic() * Math.pow(1 - chronicWeight, gap);
+        }
+        return new TrainingLoadRow(userId, day, load, acute, chronic);
+    }
+
+    /**
+     * The averages on a later day without training.
+     * @param row the latest training day
+     * @param day the later day
+     * @return the row of the day, with no load
+     */
+    public TrainingLoadRow decay(TrainingLoadRow row, LocalDate day) {
+        return next(row, row.getUserId(), day, 0);
+    }
+
+    private static int atLeastOne(Integer count) {
+        if (count == null || count < 1) {
+            return 1;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,47 @@
+package com.rvladimir.load;
+
+import com.rvladimir.outbox.OutboxEvent;
+import com.rvladimir.outbox.OutboxEventType;
+import com.rvladimir.outbox.OutboxSubscriber;
+import com.rvladimir.outbox.SessionExerciseSaved;
+
+import io.micronaut.serde.ObjectMapper;
+
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Adds the load of saved session exercises to ttrack.training_load from outbox events, off the request path.
+ * Templates and {@code NOT_FINISHED} exercises do not count. The load is written in the relay's transaction, so it is
+ * added once, together with the removal of the event.
+ */
+@Singleton
+@AllArgsConstructor
+public class TrainingLoadSubscriber implements OutboxSubscriber {
+
+    private final TrainingLoads trainingLoads;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onEvent(OutboxEvent event) {
+        if (!OutboxEventType.SESSION_EXERCISE_SAVED.name().equals(event.getEventType())) {
+            return;
+        }
+        SessionExerciseSaved saved = read(event);
+        if (saved.counts()) {
+            trainingLoads.record(saved.getUserId(), saved.getTrainingDay(), saved.toRow());
+        }
+    }
+
+    private SessionExerciseSaved read(OutboxEvent event) {
+        try {
+            return objectMapper.readValue(event.getPayload(), SessionExerciseSaved.class);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not read " + event.getEventType() + " event " + event.getId(), ex);
+        }
+    }
+}
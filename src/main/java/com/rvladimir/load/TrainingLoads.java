@@ -0,0 +1,47 @@
+package com.rvladimir.load;
+
+import com.rvladimir.repository.jdbc.TrainingLoadJdbcRepository;
+import com.rvladimir.repository.row.SessionExerciseRow;
+import com.rvladimir.repository.row.TrainingLoadRow;
+
+import jakarta.inject.Singleton;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Keeps the stored training load of users up to date as session exercises are added, fed by
+ * {@link TrainingLoadSubscriber}.
+ * Adding to the latest training day or starting a new one touches one row. A session exercise added to an earlier
+ * day, e.g. to a session started days ago, also raises the averages of the later stored days, in one statement.
+ */
+@Singleton
+@AllArgsConstructor
+public class TrainingLoads {
+
+    private final TrainingLoadModel model;
+    private final TrainingLoadJdbcRepository trainingLoadJdbcRepository;
+
+    /**
+     * Adds the load of a new session exercise. Must be called within a transaction.
+     * @param userId the user who performed the exercise
+     * @param day the day of its training session
+     * @param row the saved session exercise
+     */
+    public void record(long userId, LocalDate day, SessionExerciseRow row) {
+        double load = model.load(row);
+        if (load <= 0) {
+            return;
+        }
+        double acuteIncrease = model.getAcuteWeight() * load;
+        double chronicIncrease = model.getChronicWeight() * load;
+        trainingLoadJdbcRepository.lock(userId);
+        if (!trainingLoadJdbcRepository.addToDay(userId, day, load, acuteIncrease, chronicIncrease)) {
+            TrainingLoadRow previous = trainingLoadJdbcRepository.findLatestBefore(userId, day).orElse(null);
+            trainingLoadJdbcRepository.insert(model.next(previous, userId, day, load));
+        }
+        trainingLoadJdbcRepository.addToLaterDays(userId, day, acuteIncrease, 1 - model.getAcuteWeight(),
+            chronicIncrease, 1 - model.getChronicWeight());
+    }
+}
@@ -0,0 +1,37 @@
+package com.rvladimir.migration;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+import java.time.Duration;
+
+import lombok.Data;
+
+/**
+ * Configuration for who runs the Flyway migrations of the default datasource.
+ */
+@Data
+@ConfigurationProperties("ttrack.migration")
+public class MigrationConfiguration {
+
+    private static final long DEFAULT_AWAIT_SECONDS = 120;
+    private static final long DEFAULT_POLL_SECONDS = 2;
+
+    /**
+     * Whether this instance migrates the schema or only checks that a migrator already did.
+     */
+    public enum Role {
+        /** Runs Flyway on every start and records the migration fingerprint afterwards. */
+        MIGRATOR,
+        /** Skips Flyway when the recorded fingerprint matches its own; otherwise waits for a migrator. */
+        FOLLOWER
+    }
+
+    /** Role of this instance. */
+    private Role role = Role.MIGRATOR;
+
+    /** How long a follower waits for a migrator to record a matching fingerprint before failing startup. */
+    private Duration awaitTimeout = Duration.ofSeconds(DEFAULT_AWAIT_SECONDS);
+
+    /** How often a follower re-reads the recorded fingerprint while waiting. */
+    private Duration pollInterval = Duration.ofSeconds(DEFAULT_POLL_SECONDS);
+}
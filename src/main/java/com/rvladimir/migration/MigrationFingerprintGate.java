@@ -0,0 +1,155 @@
+package com.rvladimir.migration;
+
+import io.micronaut.context.event.BeanCreatedEvent;
+import io.micronaut.context.event.BeanCreatedEventListener;
+import io.micronaut.core.order.Ordered;
+import io.micronaut.flyway.FlywayConfigurationProperties;
+
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Decides whether Flyway runs for the default datasource, before Flyway's own datasource listener does.
+ * The build writes a SHA-256 fingerprint of {@code db/migration} to {@value #FINGERPRINT_RESOURCE}; migrators pass it
+ * to the {@code afterMigrate.sql} callback, which stores it in {@code ttrack.migration_fingerprint}. Followers skip
+ * Flyway, with its script scan, checksums and history table lock, when the stored fingerprint equals theirs, and
+ * otherwise wait for a migrator up to {@code ttrack.migration.await-timeout}.
+ */
+@Slf4j
+@Singleton
+public class MigrationFingerprintGate implements BeanCreatedEventListener<DataSource>, Ordered {
+
+    static final String FINGERPRINT_RESOURCE = "META-INF/ttrack/migration-fingerprint";
+    static final String FINGERPRINT_PLACEHOLDER = "ttrack_migration_fingerprint";
+
+    private static final String DEFAULT_DATASOURCE = "default";
+    private static final String UNKNOWN_FINGERPRINT = "unknown";
+    private static final String SELECT_FINGERPRINT_SQL =
+        "SELECT fingerprint FROM ttrack.migration_fingerprint WHERE id = 1";
+
+    private final MigrationConfiguration configuration;
+    private final List<FlywayConfigurationProperties> flywayConfigurations;
+    private final Optional<String> fingerprint;
+
+    public MigrationFingerprintGate(
+        MigrationConfiguration configuration,
+        List<FlywayConfigurationProperties> flywayConfigurations
+    ) {
+        this(configuration, flywayConfigurations, loadFingerprint());
+    }
+
+    MigrationFingerprintGate(
+        MigrationConfiguration configuration,
+        List<FlywayConfigurationProperties> flywayConfigurations,
+        Optional<String> fingerprint
+    ) {
+        this.configuration = configuration;
+        this.flywayConfigurations = flywayConfigurations;
+        this.fingerprint = fingerprint;
+    }
+
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public DataSource onCreated(BeanCreatedEvent<DataSource> event) {
+        if (!DEFAULT_DATASOURCE.equals(event.getBeanIdentifier().getName())) {
+            return event.getBean();
+        }
+        flywayConfigurations.stream()
+            .filter(flyway -> DEFAULT_DATASOURCE.equals(flyway.getNameQualifier()))
+            .filter(FlywayConfigurationProperties::isEnabled)
+            .findFirst()
+            .ifPresent(flyway -> gate(flyway, event.getBean()));
+        return event.getBean();
+    }
+
+    private void gate(FlywayConfigurationProperties flyway, DataSource dataSource) {
+        if (configuration.getRole() == MigrationConfiguration.Role.MIGRATOR || fingerprint.isEmpty()) {
+            if (fingerprint.isEmpty()) {
+                log.warn("No migration fingerprint on the classpath ({}), running Flyway", FINGERPRINT_RESOURCE);
+            }
+            Map<String, String> placeholders = new HashMap<>(flyway.getFluentConfiguration().getPlaceholders());
+            placeholders.put(FINGERPRINT_PLACEHOLDER, fingerprint.orElse(UNKNOWN_FINGERPRINT));
+            flyway.getFluentConfiguration().placeholders(placeholders);
+            return;
+        }
+        awaitMatchingFingerprint(dataSource, fingerprint.get());
+        flyway.setEnabled(false);
+        log.info("Migration fingerprint {} matches the database, skipping Flyway", fingerprint.get());
+    }
+
+    /**
+     * Blocks until the database holds {@code expected}, or fails startup after the configured timeout.
+     */
+    void awaitMatchingFingerprint(DataSource dataSource, String expected) {
+        long deadline = System.nanoTime() + configuration.getAwaitTimeout().toNanos();
+        Optional<String> recorded = recordedFingerprint(dataSource);
+        while (recorded.filter(expected::equals).isEmpty()) {
+            if (System.nanoTime() >= deadline) {
+                throw new IllegalStateException(String.format(
+                    "Database migration fingerprint %s does not match %s after %s; is a migrator running?",
+                    recorded.orElse("<none>"), expected, configuration.getAwaitTimeout()));
+            }
+            log.info("Waiting for a migrator to apply migration set {}", expected);
+            sleep();
+            recorded = recordedFingerprint(dataSource);
+        }
+    }
+
+    /**
+     * Reads the fingerprint recorded by the last migrator; empty before the first migration.
+     */
+    static Optional<String> recordedFingerprint(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_FINGERPRINT_SQL);
+             ResultSet resultSet = statement.executeQuery()) {
+            if (resultSet.next()) {
+                return Optional.of(resultSet.getString(1));
+            }
+            return Optional.empty();
+        } catch (SQLException ex) {
+            log.debug("Could not read the migration fingerprint: {}", ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(configuration.getPollInterval().toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the migration fingerprint", ex);
+        }
+    }
+
+    private static Optional<String> loadFingerprint() {
+        ClassLoader classLoader = MigrationFingerprintGate.class.getClassLoader();
+        try (InputStream in = classLoader.getResourceAsStream(FINGERPRINT_RESOURCE)) {
+            if (in == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new String(in.readAllBytes(), StandardCharsets.UTF_8).trim());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
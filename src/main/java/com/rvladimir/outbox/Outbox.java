@@ -0,0 +1,62 @@
+package com.rvladimir.outbox;
+
+import com.rvladimir.repository.jdbc.OutboxJdbcRepository;
+import com.rvladimir.repository.row.SessionExerciseRow;
+import com.rvladimir.repository.row.TrainingSessionRow;
+
+import io.micronaut.serde.ObjectMapper;
+
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Records domain events in the transactional outbox. Each event costs the writing transaction one insert; the work
+ * reacting to it runs later, off the request path, when {@link OutboxRelay} delivers it.
+ * Must be called within the writing transaction.
+ */
+@Singleton
+@AllArgsConstructor
+public class Outbox {
+
+    /** Aggregate type of the events of a training session and its exercises. */
+    public static final String TRAINING_SESSION = "TRAINING_SESSION";
+
+    private final OutboxJdbcRepository outboxJdbcRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Records that a training session was created.
+     * @param session the saved training session
+     */
+    public void trainingSessionCreated(TrainingSessionRow session) {
+        publish(session.getId(), OutboxEventType.TRAINING_SESSION_CREATED, new TrainingSessionCreated(
+            session.getId(), session.getUserId(), session.getStatus(), session.getCreatedAt()));
+    }
+
+    /**
+     * Records that a session exercise was saved.
+     * @param session its training session or template
+     * @param exercise the saved session exercise
+     */
+    public void sessionExerciseSaved(TrainingSessionRow session, SessionExerciseRow exercise) {
+        publish(exercise.getTrainingSessionId(), OutboxEventType.SESSION_EXERCISE_SAVED, new SessionExerciseSaved(
+            exercise.getId(), exercise.getTrainingSessionId(), session.getUserId(), session.getStatus(),
+            session.getCreatedAt().toLocalDate(), exercise.getExerciseId(), exercise.getTypeOfExercise(),
+            exercise.getStatus(), exercise.getCreatedAt(), exercise.getRounds(), exercise.getSets(),
+            exercise.getRepetitions(), exercise.getDuration(), exercise.getWeight(), exercise.getDistance(),
+            exercise.getUnitOfMeasurement()));
+    }
+
+    private void publish(long trainingSessionId, OutboxEventType type, Object payload) {
+        try {
+            outboxJdbcRepository.insert(TRAINING_SESSION, trainingSessionId, type.name(),
+                objectMapper.writeValueAsString(payload));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not serialize " + type + " event", ex);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.rvladimir.outbox;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+import java.time.Duration;
+
+import lombok.Data;
+
+/**
+ * Configuration for the relay of the transactional outbox.
+ */
+@Data
+@ConfigurationProperties("ttrack.outbox")
+public class OutboxConfiguration {
+
+    private static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(1);
+    private static final int DEFAULT_BATCH_SIZE = 500;
+    private static final int DEFAULT_MAX_ATTEMPTS = 10;
+
+    /** Whether {@link OutboxRelay} runs on this instance. Events are written to the outbox either way. */
+    private boolean relayEnabled = true;
+
+    /** How long the relay waits after draining the outbox before looking again. */
+    private Duration pollInterval = DEFAULT_POLL_INTERVAL;
+
+    /** Maximum number of events locked and delivered per relay transaction. */
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    /**
+     * Deliveries of one event that may fail before it is moved to ttrack.outbox_dead_letter, so it stops holding back
+     * its aggregate.
+     */
+    private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+}
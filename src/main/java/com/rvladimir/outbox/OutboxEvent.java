@@ -0,0 +1,23 @@
+package com.rvladimir.outbox;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * An event read from the outbox for delivery. The payload is the stored JSON document; its type follows from the
+ * event type.
+ */
+@Getter
+@AllArgsConstructor
+public final class OutboxEvent {
+
+    private final long id;
+    private final String aggregateType;
+    private final long aggregateId;
+    private final String eventType;
+    private final String payload;
+    private final LocalDateTime createdAt;
+    private final int attempts;
+}
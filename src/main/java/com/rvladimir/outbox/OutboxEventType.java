@@ -0,0 +1,14 @@
+package com.rvladimir.outbox;
+
+/**
+ * Domain events written to the outbox. All of them belong to a training session aggregate, so the events of one
+ * session, including those of its exercises, are delivered in the order they were written.
+ */
+public enum OutboxEventType {
+
+    /** A training session was created; payload {@link TrainingSessionCreated}. */
+    TRAINING_SESSION_CREATED,
+
+    /** A session exercise was saved; payload {@link SessionExerciseSaved}. */
+    SESSION_EXERCISE_SAVED
+}
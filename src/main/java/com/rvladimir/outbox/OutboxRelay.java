@@ -0,0 +1,224 @@
+package com.rvladimir.outbox;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.data.jdbc.runtime.JdbcOperations;
+import io.micronaut.scheduling.annotation.Scheduled;
+import io.micronaut.transaction.TransactionOperations;
+
+import jakarta.inject.Singleton;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drains ttrack.outbox_event in batches and hands the events to the {@link OutboxSink}.
+ * A batch is claimed with {@code FOR UPDATE SKIP LOCKED}, so instances relay concurrently without waiting on each
+ * other. Only the oldest pending event of an aggregate can be claimed; the later events of a claimed aggregate are
+ * locked behind it in the same transaction. An aggregate is therefore relayed by one instance at a time, in order.
+ * ID order is commit order within an aggregate, since {@code OutboxJdbcRepository} serializes the writers of an
+ * aggregate, so an event committed late cannot slip in before one already relayed.
+ * Events are delivered within the batch transaction, each under a savepoint: what a subscriber writes on the
+ * transaction's connection commits together with the deletion of its event, and is rolled back if the delivery fails.
+ * A failed event stays pending, with the later events of its aggregate, until a later run; after
+ * {@code ttrack.outbox.max-attempts} failures it is moved to ttrack.outbox_dead_letter, in the same transaction, with
+ * the message of its last failure, and the aggregate's later events go on.
+ */
+@Slf4j
+@Singleton
+@Requires(property = "ttrack.outbox.relay-enabled", value = "true", defaultValue = "true")
+public class OutboxRelay {
+
+    private static final String CLAIM_SQL = """
+        SELECT o.id FROM ttrack.outbox_event o
+        WHERE NOT EXISTS (
+            SELECT 1 FROM ttrack.outbox_event p
+            WHERE p.aggregate_type = o.aggregate_type AND p.aggregate_id = o.aggregate_id AND p.id < o.id
+        )
+        ORDER BY o.id
+        LIMIT ?
+        FOR UPDATE SKIP LOCKED
+        """;
+    private static final String BATCH_SQL = """
+        SELECT e.id, e.aggregate_type, e.aggregate_id, e.event_type, CAST(e.payload AS TEXT), e.created_at, e.attempts
+        FROM ttrack.outbox_event e
+        JOIN ttrack.outbox_event h ON h.aggregate_type = e.aggregate_type AND h.aggregate_id = e.aggregate_id
+        WHERE h.id = ANY(?)
+        ORDER BY e.id
+        LIMIT ?
+        FOR UPDATE OF e
+        """;
+    private static final String DELETE_SQL = "DELETE FROM ttrack.outbox_event WHERE id = ANY(?)";
+    private static final String DEAD_LETTER_SQL = """
+        INSERT INTO ttrack.outbox_dead_letter
+            (id, aggregate_type, aggregate_id, event_type, payload, created_at, attempts, last_error)
+        SELECT id, aggregate_type, aggregate_id, event_type, payload, created_at, attempts + 1, ?
+        FROM ttrack.outbox_event WHERE id = ?
+        """;
+    private static final String RETRY_SQL = "UPDATE ttrack.outbox_event SET attempts = attempts + 1 WHERE id = ANY(?)";
+    private static final int AGGREGATE_TYPE_COLUMN = 2;
+    private static final int AGGREGATE_ID_COLUMN = 3;
+    private static final int EVENT_TYPE_COLUMN = 4;
+    private static final int PAYLOAD_COLUMN = 5;
+    private static final int CREATED_AT_COLUMN = 6;
+    private static final int ATTEMPTS_COLUMN = 7;
+
+    private final JdbcOperations jdbcOperations;
+    private final TransactionOperations<Connection> transactionOperations;
+    private final OutboxSink sink;
+    private final OutboxConfiguration configuration;
+
+    public OutboxRelay(JdbcOperations jdbcOperations, TransactionOperations<Connection> transactionOperations,
+                       OutboxSink sink, OutboxConfiguration configuration) {
+        this.jdbcOperations = jdbcOperations;
+        this.transactionOperations = transactionOperations;
+        this.sink = sink;
+        this.configuration = configuration;
+    }
+
+    @Scheduled(initialDelay = "10s", fixedDelay = "${ttrack.outbox.poll-interval:1s}")
+    void run() {
+        try {
+            int relayed = drain();
+            if (relayed > 0) {
+                log.debug("Relayed {} outbox events", relayed);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Outbox relay failed: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Relays batches until the outbox is empty or a batch has events left pending.
+     * @return the number of events delivered or dead-lettered
+     */
+    public int drain() {
+        int relayed = 0;
+        int batch;
+        do {
+            batch = relayBatch();
+            relayed += batch;
+        } while (batch == configuration.getBatchSize());
+        return relayed;
+    }
+
+    /**
+     * Claims, delivers and removes one batch of events, in one transaction.
+     * @return the number of events delivered or dead-lettered
+     */
+    int relayBatch() {
+        return transactionOperations.executeWrite(status -> jdbcOperations.execute(this::relay));
+    }
+
+    private int relay(Connection connection) throws SQLException {
+        List<OutboxEvent> events = claim(connection);
+        List<Long> removed = new ArrayList<>();
+        List<Long> failed = new ArrayList<>();
+        Set<String> heldBack = new HashSet<>();
+        for (OutboxEvent event : events) {
+            String aggregate = event.getAggregateType() + ":" + event.getAggregateId();
+            if (heldBack.contains(aggregate)) {
+                continue;
+            }
+            Optional<String> failure = deliver(connection, event);
+            if (failure.isEmpty()) {
+                removed.add(event.getId());
+            } else if (event.getAttempts() + 1 >= configuration.getMaxAttempts()) {
+                log.error("Moving outbox event {} ({} of {}) to the dead letter table after {} failed deliveries",
+                    event.getId(), event.getEventType(), aggregate, event.getAttempts() + 1);
+                deadLetter(connection, event, failure.get());
+                removed.add(event.getId());
+            } else {
+                failed.add(event.getId());
+                heldBack.add(aggregate);
+            }
+        }
+        update(connection, DELETE_SQL, removed);
+        update(connection, RETRY_SQL, failed);
+        return removed.size();
+    }
+
+    private List<OutboxEvent> claim(Connection connection) throws SQLException {
+        List<Long> heads = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(CLAIM_SQL)) {
+            statement.setInt(1, configuration.getBatchSize());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    heads.add(resultSet.getLong(1));
+                }
+            }
+        }
+        List<OutboxEvent> events = new ArrayList<>();
+        if (heads.isEmpty()) {
+            return events;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(BATCH_SQL)) {
+            statement.setArray(1, ids(connection, heads));
+            statement.setInt(2, configuration.getBatchSize());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    events.add(new OutboxEvent(
+                        resultSet.getLong(1),
+                        resultSet.getString(AGGREGATE_TYPE_COLUMN),
+                        resultSet.getLong(AGGREGATE_ID_COLUMN),
+                        resultSet.getString(EVENT_TYPE_COLUMN),
+                        resultSet.getString(PAYLOAD_COLUMN),
+                        resultSet.getObject(CREATED_AT_COLUMN, LocalDateTime.class),
+                        resultSet.getInt(ATTEMPTS_COLUMN)));
+                }
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Delivers an event under a savepoint.
+     * @return empty when delivered, otherwise the message of the failure
+     */
+    private Optional<String> deliver(Connection connection, OutboxEvent event) throws SQLException {
+        Savepoint savepoint = connection.setSavepoint();
+        try {
+            sink.deliver(event);
+            connection.releaseSavepoint(savepoint);
+            return Optional.empty();
+        } catch (RuntimeException ex) {
+            connection.rollback(savepoint);
+            log.warn("Could not deliver outbox event {} ({}): {}", event.getId(), event.getEventType(),
+                ex.getMessage());
+            return Optional.of(String.valueOf(ex));
+        }
+    }
+
+    private static void deadLetter(Connection connection, OutboxEvent event, String error) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(DEAD_LETTER_SQL)) {
+            statement.setString(1, error);
+            statement.setLong(2, event.getId());
+            statement.executeUpdate();
+        }
+    }
+
+    private static void update(Connection connection, String sql, List<Long> ids) throws SQLException {
+        if (ids.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setArray(1, ids(connection, ids));
+            statement.executeUpdate();
+        }
+    }
+
+    private static Array ids(Connection connection, List<Long> ids) throws SQLException {
+        return connection.createArrayOf("bigint", ids.toArray());
+    }
+}
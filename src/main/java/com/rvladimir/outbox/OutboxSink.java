@@ -0,0 +1,17 @@
+package com.rvladimir.outbox;
+
+/**
+ * Destination of the events drained by {@link OutboxRelay}. The default, {@link SubscriberOutboxSink}, hands them
+ * to in-process {@link OutboxSubscriber}s; a bean annotated {@code @Replaces(SubscriberOutboxSink.class)} can send
+ * them elsewhere, e.g. to a message broker.
+ */
+public interface OutboxSink {
+
+    /**
+     * Delivers one event. Called at least once per event, in outbox order within its aggregate, within the relay's
+     * transaction.
+     * @param event the event
+     * @throws RuntimeException if the event could not be delivered; it is retried on a later relay run
+     */
+    void deliver(OutboxEvent event);
+}
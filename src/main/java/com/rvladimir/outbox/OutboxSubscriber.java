@@ -0,0 +1,16 @@
+package com.rvladimir.outbox;
+
+/**
+ * In-process consumer of outbox events, called by {@link SubscriberOutboxSink} on the instance that relays the
+ * event, after the writing transaction committed. Subscribers run in the relay's transaction: database writes made
+ * through it commit together with the removal of the event and are rolled back when any subscriber fails, so they take
+ * effect once. Other side effects are repeated on redelivery and must tolerate duplicates.
+ */
+public interface OutboxSubscriber {
+
+    /**
+     * Handles an event. Events this subscriber does not care about are ignored.
+     * @param event the event
+     */
+    void onEvent(OutboxEvent event);
+}
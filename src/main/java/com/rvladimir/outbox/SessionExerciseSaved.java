@@ -0,0 +1,92 @@
+package com.rvladimir.outbox;
+
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.repository.row.SessionExerciseRow;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Payload of {@link OutboxEventType#SESSION_EXERCISE_SAVED}. Carries the status and day of its training session and
+ * the metrics of the session exercise, so subscribers need not read either back. Events written before the metrics
+ * were added carry none; their scores and load were recorded on the write path.
+ */
+@Serdeable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionExerciseSaved {
+
+    private Long sessionExerciseId;
+
+    private Long trainingSessionId;
+
+    private Long userId;
+
+    private TrainingSession.Status trainingSessionStatus;
+
+    private LocalDate trainingDay;
+
+    private Long exerciseId;
+
+    private TypeOfExercise typeOfExercise;
+
+    private SessionExercise.Status status;
+
+    private LocalDateTime createdAt;
+
+    private Integer rounds;
+
+    private Integer sets;
+
+    private Integer repetitions;
+
+    private LocalTime duration;
+
+    private Double weight;
+
+    private Double distance;
+
+    private SessionExercise.UnitOfMeasurement unitOfMeasurement;
+
+    /**
+     * Whether the session exercise counts towards the leaderboards and the training load: it belongs to a training
+     * session, not a template, and is not {@code NOT_FINISHED}. This is the predicate the rebuilds replay.
+     * @return true if it counts
+     */
+    public boolean counts() {
+        return trainingSessionStatus != TrainingSession.Status.IS_TEMPLATE &&
+            status != SessionExercise.Status.NOT_FINISHED;
+    }
+
+    /**
+     * The session exercise, as far as this event carries it.
+     * @return a row with the IDs, type, status and metrics of the session exercise
+     */
+    public SessionExerciseRow toRow() {
+        SessionExerciseRow row = new SessionExerciseRow();
+        row.setId(sessionExerciseId);
+        row.setTrainingSessionId(trainingSessionId);
+        row.setExerciseId(exerciseId);
+        row.setTypeOfExercise(typeOfExercise);
+        row.setStatus(status);
+        row.setCreatedAt(createdAt);
+        row.setRounds(rounds);
+        row.setSets(sets);
+        row.setRepetitions(repetitions);
+        row.setDuration(duration);
+        row.setWeight(weight);
+        row.setDistance(distance);
+        row.setUnitOfMeasurement(unitOfMeasurement);
+        return row;
+    }
+}
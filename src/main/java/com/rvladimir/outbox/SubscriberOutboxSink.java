@@ -0,0 +1,25 @@
+package com.rvladimir.outbox;
+
+import jakarta.inject.Singleton;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Delivers outbox events to every {@link OutboxSubscriber} bean, in turn. Without subscribers events are drained
+ * and discarded.
+ */
+@Singleton
+@AllArgsConstructor
+public class SubscriberOutboxSink implements OutboxSink {
+
+    private final List<OutboxSubscriber> subscribers;
+
+    @Override
+    public void deliver(OutboxEvent event) {
+        for (OutboxSubscriber subscriber : subscribers) {
+            subscriber.onEvent(event);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.rvladimir.outbox;
+
+import com.rvladimir.domain.TrainingSession;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Payload of {@link OutboxEventType#TRAINING_SESSION_CREATED}. Templates are created sessions too; subscribers
+ * that only care about training check the status.
+ */
+@Serdeable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainingSessionCreated {
+
+    private Long trainingSessionId;
+
+    private Long userId;
+
+    private TrainingSession.Status status;
+
+    private LocalDateTime createdAt;
+}
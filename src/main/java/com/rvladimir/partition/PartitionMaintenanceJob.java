@@ -0,0 +1,186 @@
+package com.rvladimir.partition;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.scheduling.annotation.Scheduled;
+
+import jakarta.inject.Singleton;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the monthly partitions of ttrack.session_exercise ahead of the clock and detaches expired ones once every
+ * row in them has been archived; the archiver only moves finished sessions, so a month still holding exercises of
+ * started sessions or templates stays attached.
+ * Guarded by a PostgreSQL advisory lock so only one instance does the work per run.
+ */
+@Slf4j
+@Singleton
+@Requires(property = "ttrack.partitioning.enabled", value = "true", defaultValue = "true")
+public class PartitionMaintenanceJob {
+
+    /** Arbitrary application-wide key for {@code pg_try_advisory_lock}. */
+    private static final long ADVISORY_LOCK_KEY = 0x7474_7261_636b_0001L;
+    private static final String ALTER_TABLE = "ALTER TABLE ";
+    private static final String TRY_LOCK_SQL = "SELECT pg_try_advisory_lock(?)";
+    private static final String UNLOCK_SQL = "SELECT pg_advisory_unlock(?)";
+    private static final String LOCK_PARENT_SQL =
+        "LOCK TABLE " + SessionExercisePartitions.PARENT_TABLE + " IN ACCESS EXCLUSIVE MODE";
+    private static final String CREATE_PARTITION_SQL = "SELECT ttrack.create_session_exercise_partition(?)";
+    private static final String LIST_PARTITIONS_SQL = """
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'ttrack.session_exercise'::regclass
+        """;
+
+    private final DataSource dataSource;
+    private final PartitioningConfiguration configuration;
+    private final Clock clock;
+
+    public PartitionMaintenanceJob(DataSource dataSource, PartitioningConfiguration configuration) {
+        this(dataSource, configuration, Clock.systemDefaultZone());
+    }
+
+    PartitionMaintenanceJob(DataSource dataSource, PartitioningConfiguration configuration, Clock clock) {
+        this.dataSource = dataSource;
+        this.configuration = configuration;
+        this.clock = clock;
+    }
+
+    @Scheduled(initialDelay = "10s", fixedDelay = "${ttrack.partitioning.check-interval:6h}")
+    void run() {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            if (!tryLock(connection)) {
+                log.debug("Partition maintenance already running on another instance");
+                return;
+            }
+            try {
+                maintain(connection);
+            } finally {
+                unlock(connection);
+            }
+        } catch (SQLException ex) {
+            log.warn("Partition maintenance failed: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Creates the partitions for the current and the next {@code premakeMonths} months, then detaches the
+     * partitions older than {@code retainMonths} that no longer hold any rows.
+     */
+    void maintain(Connection connection) throws SQLException {
+        YearMonth current = YearMonth.now(clock);
+        for (int offset = 0; offset <= configuration.getPremakeMonths(); offset++) {
+            createPartition(connection, current.plusMonths(offset));
+        }
+        if (configuration.getRetainMonths() > 0) {
+            YearMonth oldestRetained = current.minusMonths(configuration.getRetainMonths());
+            for (String partition : expiredPartitions(listPartitions(connection), oldestRetained)) {
+                detachArchivedPartition(connection, partition);
+            }
+        }
+    }
+
+    /**
+     * Returns the monthly partitions holding only months before {@code oldestRetained}.
+     */
+    static List<String> expiredPartitions(List<String> partitions, YearMonth oldestRetained) {
+        List<String> expired = new ArrayList<>();
+        for (String partition : partitions) {
+            Optional<YearMonth> month = SessionExercisePartitions.monthOf(partition);
+            if (month.isPresent() && month.get().isBefore(oldestRetained)) {
+                expired.add(partition);
+            }
+        }
+        return expired;
+    }
+
+    private static void createPartition(Connection connection, YearMonth month) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(CREATE_PARTITION_SQL)) {
+            statement.setObject(1, month.atDay(1));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                log.debug("Session exercise partition {} is in place", resultSet.getString(1));
+            }
+        }
+    }
+
+    private static List<String> listPartitions(Connection connection) throws SQLException {
+        List<String> partitions = new ArrayList<>();
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet resultSet = statement.executeQuery(LIST_PARTITIONS_SQL)) {
+                while (resultSet.next()) {
+                    partitions.add(resultSet.getString(1));
+                }
+            }
+        }
+        return partitions;
+    }
+
+    /**
+     * Detaches a partition and parks it in the archive schema, unless it still holds rows: those have not been
+     * archived, and nothing reads the archive schema, so detaching would drop them from every listing. The check
+     * and the detach run in one transaction under the lock {@code DETACH} takes anyway, so no row can be added in
+     * between. {@code DETACH ... CONCURRENTLY} is not available because the table keeps a default partition; it is
+     * a catalog-only change, so the parent is locked only briefly.
+     */
+    private void detachArchivedPartition(Connection connection, String partition) throws SQLException {
+        String qualified = "ttrack." + partition;
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(LOCK_PARENT_SQL);
+            if (hasRows(statement, qualified)) {
+                connection.rollback();
+                log.warn("Not detaching session exercise partition {}: it still holds rows that are not archived",
+                    partition);
+                return;
+            }
+            statement.execute(ALTER_TABLE + SessionExercisePartitions.PARENT_TABLE + " DETACH PARTITION " + qualified);
+            statement.execute(ALTER_TABLE + qualified + " SET SCHEMA " + configuration.getArchiveSchema());
+            connection.commit();
+        } catch (SQLException ex) {
+            connection.rollback();
+            throw ex;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+        log.info("Detached session exercise partition {} into schema {}", partition, configuration.getArchiveSchema());
+    }
+
+    private static boolean hasRows(Statement statement, String qualified) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery("SELECT EXISTS (SELECT 1 FROM " + qualified + ")")) {
+            return resultSet.next() && resultSet.getBoolean(1);
+        }
+    }
+
+    private static boolean tryLock(Connection connection) throws SQLException {
+        return advisoryLock(connection, TRY_LOCK_SQL);
+    }
+
+    private static void unlock(Connection connection) throws SQLException {
+        advisoryLock(connection, UNLOCK_SQL);
+    }
+
+    private static boolean advisoryLock(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, ADVISORY_LOCK_KEY);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+}
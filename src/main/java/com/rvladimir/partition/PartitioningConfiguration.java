@@ -0,0 +1,36 @@
+package com.rvladimir.partition;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+import java.time.Duration;
+
+import lombok.Data;
+
+/**
+ * Configuration for the monthly partitions of ttrack.session_exercise.
+ */
+@Data
+@ConfigurationProperties("ttrack.partitioning")
+public class PartitioningConfiguration {
+
+    private static final int DEFAULT_PREMAKE_MONTHS = 3;
+    private static final long DEFAULT_CHECK_HOURS = 6;
+
+    /** Whether {@link PartitionMaintenanceJob} runs. */
+    private boolean enabled = true;
+
+    /** Number of future months that always have a partition ready, so inserts never hit the default partition. */
+    private int premakeMonths = DEFAULT_PREMAKE_MONTHS;
+
+    /**
+     * Months of history kept attached; older partitions are detached into {@link #archiveSchema}.
+     * Zero keeps every partition attached.
+     */
+    private int retainMonths;
+
+    /** Schema detached partitions are moved to until they are archived. */
+    private String archiveSchema = "ttrack_archive";
+
+    /** How often {@link PartitionMaintenanceJob} runs. */
+    private Duration checkInterval = Duration.ofHours(DEFAULT_CHECK_HOURS);
+}
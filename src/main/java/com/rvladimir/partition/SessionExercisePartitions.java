@@ -0,0 +1,44 @@
+package com.rvladimir.partition;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+/**
+ * Naming convention of the monthly ttrack.session_exercise partitions ({@code session_exercise_pYYYY_MM}).
+ * Must match {@code ttrack.create_session_exercise_partition}.
+ */
+public final class SessionExercisePartitions {
+
+    public static final String PARENT_TABLE = "ttrack.session_exercise";
+
+    private static final String PREFIX = "session_exercise_p";
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("uuuu_MM");
+
+    private SessionExercisePartitions() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Returns the partition table name holding the given month.
+     */
+    public static String partitionName(YearMonth month) {
+        return PREFIX + MONTH_FORMAT.format(month);
+    }
+
+    /**
+     * Returns the month held by a partition table, or empty when the name is not a monthly partition
+     * (e.g. the default partition).
+     */
+    public static Optional<YearMonth> monthOf(String partitionName) {
+        if (partitionName == null || !partitionName.startsWith(PREFIX)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(YearMonth.parse(partitionName.substring(PREFIX.length()), MONTH_FORMAT));
+        } catch (DateTimeParseException ex) {
+            return Optional.empty();
+        }
+    }
+}
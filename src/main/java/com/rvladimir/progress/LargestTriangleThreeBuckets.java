@@ -0,0 +1,65 @@
+package com.rvladimir.progress;
+
+/**
+ * Largest-Triangle-Three-Buckets downsampling (Steinarsson, 2013). Keeps the first and last points and splits the
+ * rest into equal buckets; from each bucket it keeps the point forming the largest triangle with the point kept from
+ * the previous bucket and the average of the next bucket. Peaks and troughs survive, which plain averaging or
+ * every-nth sampling would flatten. Runs in one pass over the series.
+ */
+public final class LargestTriangleThreeBuckets {
+
+    /** Fewest points a downsampled series can have: the first, the last and one bucket. */
+    public static final int MIN_THRESHOLD = 3;
+
+    private LargestTriangleThreeBuckets() {
+    }
+
+    /**
+     * Downsamples a series ordered by time.
+     * @param series the series
+     * @param threshold the number of points to keep, at least {@value #MIN_THRESHOLD}
+     * @return the downsampled series, or the series itself if it has no more points than the threshold
+     */
+    public static SeriesBuffer downsample(SeriesBuffer series, int threshold) {
+        if (threshold < MIN_THRESHOLD) {
+            throw new IllegalArgumentException("Threshold must be at least " + MIN_THRESHOLD);
+        }
+        int size = series.size();
+        if (size <= threshold) {
+            return series;
+        }
+        SeriesBuffer sampled = new SeriesBuffer(threshold);
+        double bucketSize = (double) (size - 2) / (threshold - 2);
+        int kept = 0;
+        sampled.add(series.time(0), series.value(0));
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            int start = (int) (bucket * bucketSize) + 1;
+            int end = (int) ((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min((int) ((bucket + 2) * bucketSize) + 1, size);
+            double nextTime = 0;
+            double nextValue = 0;
+            for (int i = end; i < nextEnd; i++) {
+                nextTime += series.time(i);
+                nextValue += series.value(i);
+            }
+            nextTime /= nextEnd - end;
+            nextValue /= nextEnd - end;
+            double keptTime = series.time(kept);
+            double keptValue = series.value(kept);
+            double largestArea = -1;
+            int largest = start;
+            for (int i = start; i < end; i++) {
+                double area = Math.abs((keptTime - nextTime) * (series.value(i) - keptValue) -
+                    (keptTime - series.time(i)) * (nextValue - keptValue));
+                if (area > largestArea) {
+                    largestArea = area;
+                    largest = i;
+                }
+            }
+            sampled.add(series.time(largest), series.value(largest));
+            kept = largest;
+        }
+        sampled.add(series.time(size - 1), series.value(size - 1));
+        return sampled;
+    }
+}
@@ -0,0 +1,57 @@
+package com.rvladimir.progress;
+
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.repository.row.SessionExerciseRow;
+
+/**
+ * What a progress chart plots for a session exercise.
+ */
+public enum ProgressMetric {
+    /** Weight lifted. */
+    WEIGHT,
+    /** Repetitions per set. */
+    REPETITIONS,
+    /** Distance, in kilometers. */
+    DISTANCE,
+    /** Duration, in seconds. */
+    DURATION;
+
+    /** Distances recorded in miles are charted in kilometers. */
+    public static final double KILOMETERS_PER_MILE = 1.609344;
+
+    /**
+     * Reads the metric from a session exercise row, the way the series query reads it from the table. Used for
+     * archived session exercises, which are no longer in the table.
+     * @param row the session exercise
+     * @return the value, or 0 when the session exercise has none
+     */
+    public double read(SessionExerciseRow row) {
+        return switch (this) {
+            case WEIGHT -> orZero(row.getWeight());
+            case REPETITIONS -> orZero(row.getRepetitions());
+            case DISTANCE -> distance(row);
+            case DURATION -> duration(row);
+        };
+    }
+
+    private static double orZero(Number value) {
+        if (value == null) {
+            return 0;
+        }
+        return value.doubleValue();
+    }
+
+    private static double duration(SessionExerciseRow row) {
+        if (row.getDuration() == null) {
+            return 0;
+        }
+        return row.getDuration().toSecondOfDay();
+    }
+
+    private static double distance(SessionExerciseRow row) {
+        if (row.getUnitOfMeasurement() == SessionExercise.UnitOfMeasurement.MILES) {
+            return orZero(row.getDistance()) * KILOMETERS_PER_MILE;
+        }
+        return orZero(row.getDistance());
+    }
+}
@@ -0,0 +1,115 @@
+package com.rvladimir.progress;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Growable time series held in two primitive arrays, so buffering a long history costs 16 bytes per point and no
+ * object per point. Times are stored as seconds since the epoch of their local date-time read as UTC.
+ */
+public final class SeriesBuffer {
+
+    private static final int DEFAULT_CAPACITY = 256;
+
+    private long[] times;
+    private double[] values;
+    private int size;
+
+    public SeriesBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * An empty buffer.
+     * @param capacity the number of points held before growing
+     */
+    public SeriesBuffer(int capacity) {
+        this.times = new long[Math.max(capacity, 1)];
+        this.values = new double[times.length];
+    }
+
+    /**
+     * Appends a point.
+     * @param time the time of the point
+     * @param value the value of the point
+     */
+    public void add(LocalDateTime time, double value) {
+        add(time.toEpochSecond(ZoneOffset.UTC), value);
+    }
+
+    /**
+     * Appends a point.
+     * @param epochSecond the time of the point, as returned by {@link #time(int)}
+     * @param value the value of the point
+     */
+    public void add(long epochSecond, double value) {
+        if (size == times.length) {
+            times = Arrays.copyOf(times, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        times[size] = epochSecond;
+        values[size] = value;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Time of a point.
+     * @param index the point index
+     * @return the time in epoch seconds
+     */
+    public long time(int index) {
+        return times[index];
+    }
+
+    /**
+     * Value of a point.
+     * @param index the point index
+     * @return the value
+     */
+    public double value(int index) {
+        return values[index];
+    }
+
+    /**
+     * Time of a point as a local date-time.
+     * @param index the point index
+     * @return the time
+     */
+    public LocalDateTime dateTime(int index) {
+        return LocalDateTime.ofEpochSecond(times[index], 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Merges two series, each in time order, into one in time order. Points at equal times keep {@code first}'s
+     * points ahead of {@code second}'s.
+     * @param first a series in time order
+     * @param second a series in time order
+     * @return the merged series
+     */
+    public static SeriesBuffer merge(SeriesBuffer first, SeriesBuffer second) {
+        if (second.size == 0) {
+            return first;
+        }
+        if (first.size == 0) {
+            return second;
+        }
+        SeriesBuffer merged = new SeriesBuffer(first.size + second.size);
+        int i = 0;
+        int j = 0;
+        while (i < first.size || j < second.size) {
+            if (j == second.size || i < first.size && first.times[i] <= second.times[j]) {
+                merged.add(first.times[i], first.values[i]);
+                i++;
+            } else {
+                merged.add(second.times[j], second.values[j]);
+                j++;
+            }
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,52 @@
+package com.rvladimir.provisioning;
+
+import com.rvladimir.security.PasswordHasher;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.ForkJoinPool;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Bounded fork-join pool for BCrypt hashing during bulk provisioning.
+ * Hashing runs here instead of on request or common-pool threads, so a large import cannot starve the server.
+ */
+@Singleton
+public class PasswordHashingPool {
+
+    private final PasswordHasher passwordHasher;
+    private final ForkJoinPool pool;
+    private final Scheduler scheduler;
+
+    public PasswordHashingPool(ProvisioningConfiguration configuration, PasswordHasher passwordHasher) {
+        this.passwordHasher = passwordHasher;
+        this.pool = new ForkJoinPool(Math.max(1, configuration.getHashingParallelism()));
+        this.scheduler = Schedulers.fromExecutorService(pool, "password-hashing");
+    }
+
+    /**
+     * Hashes a password on the pool.
+     * @param password the plain password
+     * @return the BCrypt hash, emitted on a pool thread
+     */
+    public Mono<String> hash(String password) {
+        return Mono.fromCallable(() -> passwordHasher.hash(password)).subscribeOn(scheduler);
+    }
+
+    /**
+     * Number of passwords hashed at once.
+     */
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    @PreDestroy
+    void close() {
+        scheduler.dispose();
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,32 @@
+package com.rvladimir.provisioning;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Configuration for bulk user provisioning.
+ */
+@Data
+@ConfigurationProperties("ttrack.provisioning")
+public class ProvisioningConfiguration {
+
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final int DEFAULT_MAX_USERS = 5000;
+    private static final int DEFAULT_MAX_CONCURRENT_JOBS = 2;
+
+    /**
+     * Threads hashing passwords. BCrypt is CPU bound, so half the cores by default, leaving the rest to the requests
+     * served while an import runs.
+     */
+    private int hashingParallelism = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /** Bulk requests provisioning at once; further requests are refused until one finishes. */
+    private int maxConcurrentJobs = DEFAULT_MAX_CONCURRENT_JOBS;
+
+    /** Users inserted per JDBC batch and transaction. */
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    /** Maximum number of users in one request. */
+    private int maxUsers = DEFAULT_MAX_USERS;
+}
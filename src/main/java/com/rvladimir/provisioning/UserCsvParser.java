@@ -0,0 +1,150 @@
+package com.rvladimir.provisioning;
+
+import com.rvladimir.service.dto.CreateUserDTO;
+import com.rvladimir.web.error.ValidationException;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads users to provision from CSV (RFC 4180: comma separated, optional double quotes, {@code ""} escapes a quote).
+ * The header row names the columns, in any order: {@code name, lastname, nickname, dateBirth, email, password}.
+ * Values are not validated here beyond the date format; rows are validated one by one when provisioned.
+ */
+public final class UserCsvParser {
+
+    private static final String NAME = "name";
+    private static final String LASTNAME = "lastname";
+    private static final String NICKNAME = "nickname";
+    private static final String DATE_BIRTH = "datebirth";
+    private static final String EMAIL = "email";
+    private static final String PASSWORD = "password";
+    private static final List<String> COLUMNS = List.of(NAME, LASTNAME, NICKNAME, DATE_BIRTH, EMAIL, PASSWORD);
+    private static final String ROW = "Row ";
+    private static final String CSV_FIELD = "csv";
+    private static final String INVALID_CSV = "INVALID_CSV";
+    private static final char QUOTE = '"';
+    private static final char COMMA = ',';
+
+    private UserCsvParser() {
+    }
+
+    /**
+     * Parses a CSV document into one create request per data row; blank lines are skipped.
+     * @param csv the CSV document with a header row
+     * @return the users in document order
+     * @throws ValidationException if the header misses a column, a row has a different number of fields than the
+     *     header, a quote is not closed or a date is not ISO formatted
+     */
+    public static List<CreateUserDTO> parse(String csv) {
+        List<List<String>> records = records(csv);
+        if (records.isEmpty()) {
+            return List.of();
+        }
+        List<String> header = records.get(0);
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            positions.put(header.get(i).strip().toLowerCase(Locale.ROOT), i);
+        }
+        for (String column : COLUMNS) {
+            if (!positions.containsKey(column)) {
+                throw new ValidationException("Missing CSV column: " + column, CSV_FIELD, INVALID_CSV);
+            }
+        }
+        List<CreateUserDTO> users = new ArrayList<>();
+        for (int line = 1; line < records.size(); line++) {
+            List<String> fields = records.get(line);
+            if (fields.size() != header.size()) {
+                throw new ValidationException(
+                    ROW + line + " has " + fields.size() + " fields, expected " + header.size(),
+                    CSV_FIELD, INVALID_CSV);
+            }
+            users.add(new CreateUserDTO(
+                field(fields, positions, NAME),
+                field(fields, positions, LASTNAME),
+                field(fields, positions, NICKNAME),
+                date(field(fields, positions, DATE_BIRTH), line),
+                field(fields, positions, EMAIL),
+                field(fields, positions, PASSWORD)));
+        }
+        return users;
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> positions, String column) {
+        String value = fields.get(positions.get(column)).strip();
+        if (value.isEmpty()) {
+            return null;
+        }
+        return value;
+    }
+
+    private static LocalDate date(String value, int line) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new ValidationException(
+                ROW + line + " has an invalid dateBirth, expected yyyy-MM-dd", CSV_FIELD, INVALID_CSV);
+        }
+    }
+
+    /**
+     * Splits the document into records of raw fields, honouring quoted commas and line breaks.
+     */
+    private static List<List<String>> records(String csv) {
+        List<List<String>> records = new ArrayList<>();
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean blank = true;
+        for (int i = 0; i < csv.length(); i++) {
+            char c = csv.charAt(i);
+            if (quoted) {
+                if (c == QUOTE && i + 1 < csv.length() && csv.charAt(i + 1) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else if (c == QUOTE) {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == QUOTE) {
+                quoted = true;
+                blank = false;
+            } else if (c == COMMA) {
+                fields.add(field.toString());
+                field.setLength(0);
+                blank = false;
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && i + 1 < csv.length() && csv.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                if (!blank) {
+                    fields.add(field.toString());
+                    records.add(fields);
+                }
+                fields = new ArrayList<>();
+                field.setLength(0);
+                blank = true;
+            } else {
+                field.append(c);
+                blank = blank && Character.isWhitespace(c);
+            }
+        }
+        if (quoted) {
+            throw new ValidationException("Unterminated quoted CSV field", CSV_FIELD, INVALID_CSV);
+        }
+        if (!blank) {
+            fields.add(field.toString());
+            records.add(fields);
+        }
+        return records;
+    }
+}
@@ -5,10 +5,36 @@ import com.rvladimir.domain.User;
 import io.micronaut.data.annotation.Repository;
 import io.micronaut.data.jpa.repository.JpaRepository;
 
+import jakarta.persistence.EntityManager;
+
 import java.util.Optional;
 
+import org.hibernate.Session;
+
+/**
+ * Repository for User entity.
+ * Declared as an abstract class so that email lookups can go through Hibernate's natural-id API,
+ * which is served from the natural-id cache instead of issuing a query on every login.
+ */
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
-    boolean existsByEmail(String email);
-    Optional<User> findByEmail(String email);
+public abstract class UserRepository implements JpaRepository<User, Long> {
+
+    private final EntityManager entityManager;
+
+    protected UserRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    public abstract boolean existsByEmail(String email);
+
+    /**
+     * Finds a user by email using the natural-id cache.
+     * @param email the user's email
+     * @return the user, if present
+     */
+    public Optional<User> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+            .bySimpleNaturalId(User.class)
+            .loadOptional(email);
+    }
 }
@@ -0,0 +1,40 @@
+package com.rvladimir.repository.jdbc;
+
+import com.rvladimir.repository.row.ArchiveManifestRow;
+
+import io.micronaut.data.annotation.Query;
+import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.repository.GenericRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC repository for the archive manifest.
+ */
+@JdbcRepository(dialect = Dialect.POSTGRES)
+public interface ArchiveManifestJdbcRepository extends GenericRepository<ArchiveManifestRow, Long> {
+    /**
+     * Inserts a manifest entry.
+     * @param row the row to insert
+     * @return the row with its generated ID
+     */
+    ArchiveManifestRow save(ArchiveManifestRow row);
+
+    /**
+     * Finds the archive files of a user holding sessions created within a range.
+     * @param userId the user ID
+     * @param from the inclusive range start
+     * @param to the inclusive range end
+     * @return the overlapping manifest entries, oldest first
+     */
+    @Query("""
+        SELECT am.* FROM ttrack.archive_manifest am
+        WHERE am.user_id = :userId
+          AND am.period_end >= :from
+          AND am.period_start <= :to
+        ORDER BY am.period_start
+        """)
+    List<ArchiveManifestRow> findOverlapping(Long userId, LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,126 @@
+package com.rvladimir.repository.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import lombok.Getter;
+
+/**
+ * A subset of a table's columns read straight into a DTO, for read endpoints serving sparse fieldsets.
+ * Properties outside the projection stay null, so the DTO's serializer leaves them out of the response.
+ * @param <T> the DTO type
+ */
+public final class ColumnProjection<T> {
+
+    private final Supplier<T> factory;
+    private final List<Column<T, ?>> columns;
+
+    public ColumnProjection(Supplier<T> factory, List<Column<T, ?>> columns) {
+        this.factory = factory;
+        this.columns = List.copyOf(columns);
+    }
+
+    /**
+     * Builds the select list of the projected columns.
+     * @param alias the table alias to qualify the columns with
+     * @return the comma-separated select list
+     */
+    public String selectList(String alias) {
+        return columns.stream()
+            .map(column -> alias + "." + column.getName())
+            .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Reads the current row of a result set whose columns follow {@link #selectList(String)}.
+     * @param resultSet the result set positioned on a row
+     * @return a DTO holding the projected properties
+     * @throws SQLException if a column cannot be read
+     */
+    public T read(ResultSet resultSet) throws SQLException {
+        T target = factory.get();
+        for (int i = 0; i < columns.size(); i++) {
+            columns.get(i).read(resultSet, i + 1, target);
+        }
+        return target;
+    }
+
+    /**
+     * Copies the projected properties of a fully populated DTO into a new one.
+     * @param source the DTO to project
+     * @return a DTO holding only the projected properties
+     */
+    public T copy(T source) {
+        T target = factory.get();
+        for (Column<T, ?> column : columns) {
+            column.copy(source, target);
+        }
+        return target;
+    }
+
+    /**
+     * Reads a single column value from a result set.
+     * @param <V> the value type
+     */
+    @FunctionalInterface
+    public interface ColumnReader<V> {
+        V read(ResultSet resultSet, int index) throws SQLException;
+    }
+
+    /**
+     * A column and the DTO property it populates.
+     * @param <T> the DTO type
+     * @param <V> the property type
+     */
+    public static final class Column<T, V> {
+
+        @Getter
+        private final String name;
+        private final ColumnReader<V> reader;
+        private final Function<T, V> getter;
+        private final BiConsumer<T, V> setter;
+
+        private Column(String name, ColumnReader<V> reader, Function<T, V> getter, BiConsumer<T, V> setter) {
+            this.name = name;
+            this.reader = reader;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        /**
+         * A column read through the driver's conversion to {@code type}.
+         */
+        public static <T, V> Column<T, V> of(
+                String name, Class<V> type, Function<T, V> getter, BiConsumer<T, V> setter) {
+            return new Column<>(name, (resultSet, index) -> resultSet.getObject(index, type), getter, setter);
+        }
+
+        /**
+         * A VARCHAR column holding enum constant names.
+         */
+        public static <T, E extends Enum<E>> Column<T, E> ofEnum(
+                String name, Class<E> type, Function<T, E> getter, BiConsumer<T, E> setter) {
+            ColumnReader<E> reader = (resultSet, index) -> {
+                String value = resultSet.getString(index);
+                if (value == null) {
+                    return null;
+                }
+                return Enum.valueOf(type, value);
+            };
+            return new Column<>(name, reader, getter, setter);
+        }
+
+        void read(ResultSet resultSet, int index, T target) throws SQLException {
+            setter.accept(target, reader.read(resultSet, index));
+        }
+
+        void copy(T source, T target) {
+            setter.accept(target, getter.apply(source));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.rvladimir.repository.jdbc;
+
+import com.rvladimir.repository.row.ExerciseRow;
+
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.annotation.Query;
+import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.repository.GenericRepository;
+
+import java.util.List;
+
+/**
+ * Compile-time generated JDBC repository for catalog exercise search.
+ * Matches use the generated {@code search_vector} column and the trigram index on name and description.
+ */
+@JdbcRepository(dialect = Dialect.POSTGRES)
+public interface ExerciseJdbcRepository extends GenericRepository<ExerciseRow, Long> {
+
+    /**
+     * Finds every catalog exercise, e.g. to build the autocomplete index.
+     * @return all exercise rows
+     */
+    List<ExerciseRow> findAll();
+
+    /**
+     * Finds exercises whose name or description matches a search, best match first.
+     * A row matches when its stemmed words match the query (websearch syntax: quoted phrases, {@code or},
+     * {@code -word}) or when the query is trigram-similar to a word of its name or description.
+     * Full-text rank and name similarity add up to the score.
+     * @param query the search text
+     * @param type the exercise type name to filter by, or null for all types
+     * @param limit the page size
+     * @param offset the number of rows to skip
+     * @return the matching exercise rows
+     */
+    @Query("""
+        SELECT e.id, e.name, e.description, e.type, e.image, e.created_at
+        FROM ttrack.exercise e
+        CROSS JOIN websearch_to_tsquery(CAST('english' AS REGCONFIG), :query) q
+        WHERE (e.search_vector @@ q OR :query <% e.name OR :query <% e.description)
+          AND (CAST(:type AS VARCHAR) IS NULL OR e.type = :type)
+        ORDER BY ts_rank_cd(e.search_vector, q) + word_similarity(:query, e.name) DESC, e.id
+        LIMIT :limit OFFSET :offset
+        """)
+    List<ExerciseRow> search(String query, @Nullable String type, int limit, long offset);
+
+    /**
+     * Counts the exercises matching a search, with the same predicate as {@link #search}.
+     * @param query the search text
+     * @param type the exercise type name to filter by, or null for all types
+     * @return the number of matching exercises
+     */
+    @Query("""
+        SELECT COUNT(*)
+        FROM ttrack.exercise e
+        CROSS JOIN websearch_to_tsquery(CAST('english' AS REGCONFIG), :query) q
+        WHERE (e.search_vector @@ q OR :query <% e.name OR :query <% e.description)
+          AND (CAST(:type AS VARCHAR) IS NULL OR e.type = :type)
+        """)
+    long countSearch(String query, @Nullable String type);
+}
@@ -0,0 +1,60 @@
+package com.rvladimir.repository.jdbc;
+
+import io.micronaut.data.jdbc.runtime.JdbcOperations;
+
+import jakarta.inject.Singleton;
+
+import java.util.Objects;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Writes of ttrack.outbox_event. Statements run on the connection of the surrounding transaction, so an event is
+ * committed or rolled back together with the write that raised it.
+ * <p>
+ * Event IDs come from a sequence when the event is inserted, not when it commits, so two transactions raising events
+ * of one aggregate could otherwise commit them out of ID order, and the relay would deliver the later one first.
+ * Inserting therefore takes a transaction-scoped advisory lock on the aggregate: a second writer of the aggregate
+ * waits until the first commits or rolls back before drawing its ID, so an aggregate's IDs follow its commit order.
+ * Writers of other aggregates are not delayed.
+ */
+@Singleton
+@AllArgsConstructor
+public class OutboxJdbcRepository {
+
+    /** First key of the two-key {@code pg_advisory_xact_lock}; the second key is derived from the aggregate. */
+    private static final int LOCK_CLASS = 0x7474_6f62;
+    private static final String LOCK_SQL = "SELECT pg_advisory_xact_lock(?, ?)";
+    private static final String INSERT_SQL = """
+        INSERT INTO ttrack.outbox_event (aggregate_type, aggregate_id, event_type, payload)
+        VALUES (?, ?, ?, CAST(? AS JSONB))
+        """;
+    private static final int AGGREGATE_TYPE_PARAMETER = 1;
+    private static final int AGGREGATE_ID_PARAMETER = 2;
+    private static final int EVENT_TYPE_PARAMETER = 3;
+    private static final int PAYLOAD_PARAMETER = 4;
+
+    private final JdbcOperations jdbcOperations;
+
+    /**
+     * Appends an event to the outbox, after waiting for other open transactions appending events of the aggregate.
+     * @param aggregateType the aggregate type, e.g. {@code TRAINING_SESSION}
+     * @param aggregateId the aggregate ID
+     * @param eventType the event type
+     * @param payload the event as a JSON document
+     */
+    public void insert(String aggregateType, long aggregateId, String eventType, String payload) {
+        jdbcOperations.prepareStatement(LOCK_SQL, statement -> {
+            statement.setInt(1, LOCK_CLASS);
+            statement.setInt(2, Objects.hash(aggregateType, aggregateId));
+            return statement.execute();
+        });
+        jdbcOperations.prepareStatement(INSERT_SQL, statement -> {
+            statement.setString(AGGREGATE_TYPE_PARAMETER, aggregateType);
+            statement.setLong(AGGREGATE_ID_PARAMETER, aggregateId);
+            statement.setString(EVENT_TYPE_PARAMETER, eventType);
+            statement.setString(PAYLOAD_PARAMETER, payload);
+            return statement.executeUpdate();
+        });
+    }
+}
@@ -0,0 +1,91 @@
+package com.rvladimir.repository.jdbc;
+
+import com.rvladimir.progress.ProgressMetric;
+import com.rvladimir.progress.SeriesBuffer;
+
+import io.micronaut.data.jdbc.runtime.JdbcOperations;
+
+import jakarta.inject.Singleton;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Reads the progress of a user on one catalog exercise as a time series. The user's training sessions are walked in
+ * start order through the partial history index on (user_id, created_at), and the session exercises of each session
+ * through the index on (training_session_id, created_at), so rows arrive in chart order without a sort.
+ * Statements run on the connection of the surrounding transaction; within a transaction the rows are fetched through
+ * a cursor, a batch at a time, straight into a {@link SeriesBuffer}. Only the hot tables are read; archived training
+ * sessions are added by {@code ProgressServiceImpl}.
+ */
+@Singleton
+@AllArgsConstructor
+public class ProgressJdbcRepository {
+
+    private static final String SERIES_SQL = """
+        SELECT ts.created_at, %1$s
+        FROM ttrack.training_session ts
+        JOIN ttrack.session_exercise se ON se.training_session_id = ts.id AND se.created_at >= ts.created_at
+        WHERE ts.user_id = ?
+          AND ts.status <> 'IS_TEMPLATE'
+          AND ts.created_at >= ? AND ts.created_at < ?
+          AND se.exercise_id = ?
+          AND (se.status IS NULL OR se.status <> 'NOT_FINISHED')
+          AND %1$s > 0
+        ORDER BY ts.created_at, se.created_at
+        """;
+    private static final int FETCH_SIZE = 1000;
+    private static final int FROM_PARAMETER = 2;
+    private static final int TO_PARAMETER = 3;
+    private static final int EXERCISE_PARAMETER = 4;
+    private static final int VALUE_COLUMN = 2;
+
+    private final JdbcOperations jdbcOperations;
+
+    /**
+     * Reads the values of a metric for every session exercise of a catalog exercise that a user performed in training
+     * sessions started within a range, oldest first. Each point is timed at the start of its training session.
+     * Templates, {@code NOT_FINISHED} session exercises and session exercises without the metric are left out.
+     * @param userId the user ID
+     * @param exerciseId the catalog exercise ID
+     * @param metric the metric to read
+     * @param from the inclusive range start
+     * @param to the exclusive range end
+     * @return the series
+     */
+    public SeriesBuffer findSeries(
+        long userId,
+        long exerciseId,
+        ProgressMetric metric,
+        LocalDateTime from,
+        LocalDateTime to
+    ) {
+        return jdbcOperations.prepareStatement(String.format(SERIES_SQL, column(metric)), statement -> {
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setLong(1, userId);
+            statement.setTimestamp(FROM_PARAMETER, Timestamp.valueOf(from));
+            statement.setTimestamp(TO_PARAMETER, Timestamp.valueOf(to));
+            statement.setLong(EXERCISE_PARAMETER, exerciseId);
+            SeriesBuffer series = new SeriesBuffer();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    series.add(resultSet.getTimestamp(1).toLocalDateTime(), resultSet.getDouble(VALUE_COLUMN));
+                }
+            }
+            return series;
+        });
+    }
+
+    private static String column(ProgressMetric metric) {
+        return switch (metric) {
+            case WEIGHT -> "se.weight";
+            case REPETITIONS -> "se.repetitions";
+            case DISTANCE -> "CASE WHEN se.unit_of_measurement = 'MILES' " +
+                "THEN se.distance * " + ProgressMetric.KILOMETERS_PER_MILE + " ELSE se.distance END";
+            case DURATION -> "EXTRACT(EPOCH FROM se.duration)";
+        };
+    }
+}
@@ -0,0 +1,110 @@
+package com.rvladimir.repository.jdbc;
+
+import com.rvladimir.repository.row.NoteMatchRow;
+import com.rvladimir.repository.row.SessionExerciseRow;
+
+import io.micronaut.data.annotation.Query;
+import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.repository.GenericRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Compile-time generated JDBC repository for session exercise inserts and simple reads.
+ * Bypasses the Hibernate persistence context on the hot write path.
+ */
+@JdbcRepository(dialect = Dialect.POSTGRES)
+public interface SessionExerciseJdbcRepository extends GenericRepository<SessionExerciseRow, Long> {
+    /**
+     * Inserts a session exercise row.
+     * @param row the row to insert
+     * @return the row with its generated ID
+     */
+    SessionExerciseRow save(SessionExerciseRow row);
+
+    /**
+     * Finds session exercises by ID. Looks into every partition; meant for small ID sets such as a sync page.
+     * @param ids the session exercise IDs
+     * @return the session exercise rows that still exist
+     */
+    List<SessionExerciseRow> findByIdIn(Collection<Long> ids);
+
+    /**
+     * Finds all session exercises of a training session in execution order.
+     * Session exercises are never older than their session, so the session's {@code created_at}
+     * bounds the partition key and lets PostgreSQL prune older monthly partitions at execution time.
+     * @param trainingSessionId the training session ID
+     * @return list of session exercise rows
+     */
+    @Query("""
+        SELECT se.* FROM ttrack.session_exercise se
+        WHERE se.training_session_id = :trainingSessionId
+          AND se.created_at >= COALESCE((
+              SELECT ts.created_at FROM ttrack.training_session ts WHERE ts.id = :trainingSessionId),
+              CAST('-infinity' AS TIMESTAMP))
+        ORDER BY se.exercise_order
+        """)
+    List<SessionExerciseRow> findByTrainingSessionIdOrderByExerciseOrder(Long trainingSessionId);
+
+    /**
+     * Finds the session exercises of several training sessions, grouped by session in execution order.
+     * @param trainingSessionIds the training session IDs
+     * @param createdAfter creation time of the oldest of those sessions, used for partition pruning
+     * @return list of session exercise rows
+     */
+    @Query("""
+        SELECT se.* FROM ttrack.session_exercise se
+        WHERE se.training_session_id IN (:trainingSessionIds)
+          AND se.created_at >= :createdAfter
+        ORDER BY se.training_session_id, se.exercise_order
+        """)
+    List<SessionExerciseRow> findByTrainingSessionIds(Collection<Long> trainingSessionIds, LocalDateTime createdAfter);
+
+    /**
+     * Searches the notes of a user's session exercises, best match first, continuing after a keyset position.
+     * The user ID and the query meet in one (user_id, notes_vector) index scan, and the user's oldest session bounds
+     * the partitions to scan; templates are left out, and highlights are only built for the returned page.
+     * @param userId the user ID
+     * @param query the search text, in websearch syntax
+     * @param rank rank of the last match already returned, or positive infinity for the first page
+     * @param id ID of the last match already returned
+     * @param limit the maximum number of matches
+     * @return the matches with rank and highlight
+     */
+    @Query("""
+        SELECT m.id, m.training_session_id, m.exercise_id, m.created_at, m.rank,
+            ts_headline(CAST('english' AS REGCONFIG), m.notes, m.q,
+                'StartSel=«, StopSel=», MaxFragments=2, MaxWords=20, MinWords=5') AS highlight
+        FROM (
+            SELECT se.id, se.training_session_id, se.exercise_id, se.created_at, se.notes, q,
+                ts_rank_cd(se.notes_vector, q) AS rank
+            FROM ttrack.session_exercise se
+            CROSS JOIN websearch_to_tsquery(CAST('english' AS REGCONFIG), :query) q
+            WHERE se.notes IS NOT NULL
+              AND se.user_id = :userId
+              AND se.notes_vector @@ q
+              AND se.training_session_id <> ALL(ARRAY(
+                  SELECT ts.id FROM ttrack.training_session ts
+                  WHERE ts.user_id = :userId AND ts.status = 'IS_TEMPLATE'))
+              AND se.created_at >= COALESCE((
+                  SELECT MIN(ts.created_at) FROM ttrack.training_session ts
+                  WHERE ts.user_id = :userId AND ts.status <> 'IS_TEMPLATE'),
+                  CAST('infinity' AS TIMESTAMP))
+        ) m
+        WHERE (m.rank, m.id) < (:rank, :id)
+        ORDER BY m.rank DESC, m.id DESC
+        LIMIT :limit
+        """)
+    List<NoteMatchRow> searchNotes(Long userId, String query, float rank, long id, int limit);
+
+    /**
+     * Deletes the session exercises of several training sessions.
+     * @param trainingSessionIds the training session IDs
+     * @param createdAt creation time of the oldest of those sessions, used for partition pruning
+     */
+    void deleteByTrainingSessionIdInAndCreatedAtGreaterThanEquals(
+        Collection<Long> trainingSessionIds, LocalDateTime createdAt);
+}
@@ -0,0 +1,103 @@
+package com.rvladimir.repository.jdbc;
+
+import io.micronaut.data.jdbc.runtime.JdbcOperations;
+
+import jakarta.inject.Singleton;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Reads that select only the columns behind a sparse fieldset. The select list is built from a
+ * {@link ColumnProjection}, whose column names come from a fixed catalog and never from the request.
+ * Statements run on the connection of the surrounding transaction.
+ */
+@Singleton
+@AllArgsConstructor
+public class SparseFieldsJdbcRepository {
+
+    private static final String SESSION_EXERCISES_SQL = """
+        SELECT %s FROM ttrack.session_exercise se
+        WHERE se.training_session_id = ?
+          AND se.created_at >= COALESCE((
+              SELECT ts.created_at FROM ttrack.training_session ts WHERE ts.id = ?),
+              CAST('-infinity' AS TIMESTAMP))
+        ORDER BY se.exercise_order
+        """;
+    private static final String EXERCISES_SQL = "SELECT %s FROM ttrack.exercise e ORDER BY %s";
+    private static final String EXERCISES_PAGE_SQL = EXERCISES_SQL + " LIMIT ? OFFSET ?";
+    private static final String COUNT_EXERCISES_SQL = "SELECT COUNT(*) FROM ttrack.exercise";
+    private static final String SESSION_EXERCISE_ALIAS = "se";
+    private static final String EXERCISE_ALIAS = "e";
+
+    private final JdbcOperations jdbcOperations;
+
+    /**
+     * Finds the session exercises of a training session in execution order, reading only the projected columns.
+     * Prunes monthly partitions the same way as
+     * {@link SessionExerciseJdbcRepository#findByTrainingSessionIdOrderByExerciseOrder(Long)}.
+     * @param projection the columns to read
+     * @param trainingSessionId the training session ID
+     * @param <T> the DTO type
+     * @return the projected session exercises
+     */
+    public <T> List<T> findSessionExercisesByTrainingSession(ColumnProjection<T> projection, Long trainingSessionId) {
+        String sql = String.format(SESSION_EXERCISES_SQL, projection.selectList(SESSION_EXERCISE_ALIAS));
+        return jdbcOperations.prepareStatement(sql, statement -> {
+            statement.setLong(1, trainingSessionId);
+            statement.setLong(2, trainingSessionId);
+            return readAll(statement, projection);
+        });
+    }
+
+    /**
+     * Finds a page of catalog exercises, reading only the projected columns.
+     * @param projection the columns to read
+     * @param orderBy the ORDER BY clause, built from catalog column names
+     * @param offset the number of rows to skip
+     * @param limit the page size, or a negative value for all rows
+     * @param <T> the DTO type
+     * @return the projected exercises
+     */
+    public <T> List<T> findExercises(ColumnProjection<T> projection, String orderBy, long offset, int limit) {
+        String selectList = projection.selectList(EXERCISE_ALIAS);
+        if (limit < 0) {
+            return jdbcOperations.prepareStatement(String.format(EXERCISES_SQL, selectList, orderBy),
+                statement -> readAll(statement, projection));
+        }
+        return jdbcOperations.prepareStatement(String.format(EXERCISES_PAGE_SQL, selectList, orderBy), statement -> {
+            statement.setInt(1, limit);
+            statement.setLong(2, offset);
+            return readAll(statement, projection);
+        });
+    }
+
+    /**
+     * Counts the catalog exercises.
+     * @return the number of exercises
+     */
+    public long countExercises() {
+        return jdbcOperations.prepareStatement(COUNT_EXERCISES_SQL, statement -> {
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        });
+    }
+
+    private static <T> List<T> readAll(PreparedStatement statement, ColumnProjection<T> projection)
+            throws SQLException {
+        List<T> results = new ArrayList<>();
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                results.add(projection.read(resultSet));
+            }
+        }
+        return results;
+    }
+}
@@ -0,0 +1,103 @@
+package com.rvladimir.repository.jdbc;
+
+import com.rvladimir.activity.ActivityCalendar;
+
+import io.micronaut.data.jdbc.runtime.JdbcOperations;
+
+import jakarta.inject.Singleton;
+
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Reads and updates of ttrack.training_activity. A training day is recorded in place with {@code set_bit} and
+ * {@code set_byte} under the row lock of the upsert, so concurrent writers never overwrite each other's days.
+ * Days of users deleted meanwhile are skipped. Statements run on the connection of the surrounding transaction.
+ */
+@Singleton
+@AllArgsConstructor
+public class TrainingActivityJdbcRepository {
+
+    private static final String MARK_SQL = """
+        INSERT INTO ttrack.training_activity (user_id, year, days, intensity)
+        SELECT u.id, ?,
+            set_bit(decode(repeat('00', %1$d), 'hex'), ?, 1),
+            set_byte(decode(repeat('00', %2$d), 'hex'), ?, LEAST(?, %3$d))
+        FROM ttrack.user u
+        WHERE u.id = ?
+        ON CONFLICT (user_id, year) DO UPDATE SET
+            days = set_bit(ttrack.training_activity.days, ?, 1),
+            intensity = set_byte(ttrack.training_activity.intensity, ?,
+                LEAST(get_byte(ttrack.training_activity.intensity, ?) + ?, %3$d))
+        """.formatted(ActivityCalendar.DAY_BYTES, ActivityCalendar.DAYS, ActivityCalendar.MAX_INTENSITY);
+    private static final String FIND_SQL = """
+        SELECT year, days, intensity FROM ttrack.training_activity
+        WHERE user_id = ? AND year BETWEEN ? AND ?
+        ORDER BY year
+        """;
+    private static final int USER_PARAMETER = 1;
+    private static final int YEAR_PARAMETER = 2;
+    private static final int TO_YEAR_PARAMETER = 3;
+    private static final int MARK_YEAR_PARAMETER = 1;
+    private static final int INSERT_DAY_PARAMETER = 2;
+    private static final int INSERT_DAY_BYTE_PARAMETER = 3;
+    private static final int INSERT_WEIGHT_PARAMETER = 4;
+    private static final int MARK_USER_PARAMETER = 5;
+    private static final int UPDATE_DAY_PARAMETER = 6;
+    private static final int UPDATE_DAY_BYTE_PARAMETER = 7;
+    private static final int READ_DAY_BYTE_PARAMETER = 8;
+    private static final int UPDATE_WEIGHT_PARAMETER = 9;
+    private static final int DAYS_COLUMN = 2;
+    private static final int INTENSITY_COLUMN = 3;
+
+    private final JdbcOperations jdbcOperations;
+
+    /**
+     * Marks a training day of a user and adds to its intensity.
+     * @param userId the user ID
+     * @param day the training day
+     * @param weight the intensity to add
+     */
+    public void mark(long userId, LocalDate day, int weight) {
+        int index = day.getDayOfYear() - 1;
+        jdbcOperations.prepareStatement(MARK_SQL, statement -> {
+            statement.setInt(MARK_YEAR_PARAMETER, day.getYear());
+            statement.setInt(INSERT_DAY_PARAMETER, index);
+            statement.setInt(INSERT_DAY_BYTE_PARAMETER, index);
+            statement.setInt(INSERT_WEIGHT_PARAMETER, weight);
+            statement.setLong(MARK_USER_PARAMETER, userId);
+            statement.setInt(UPDATE_DAY_PARAMETER, index);
+            statement.setInt(UPDATE_DAY_BYTE_PARAMETER, index);
+            statement.setInt(READ_DAY_BYTE_PARAMETER, index);
+            statement.setInt(UPDATE_WEIGHT_PARAMETER, weight);
+            return statement.executeUpdate();
+        });
+    }
+
+    /**
+     * Finds the calendars of a user within a range of years, oldest first. Years without training days have none.
+     * @param userId the user ID
+     * @param fromYear the first year to read
+     * @param toYear the last year to read
+     * @return the calendars
+     */
+    public List<ActivityCalendar> findBetween(long userId, int fromYear, int toYear) {
+        return jdbcOperations.prepareStatement(FIND_SQL, statement -> {
+            statement.setLong(USER_PARAMETER, userId);
+            statement.setInt(YEAR_PARAMETER, fromYear);
+            statement.setInt(TO_YEAR_PARAMETER, toYear);
+            List<ActivityCalendar> calendars = new ArrayList<>();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    calendars.add(ActivityCalendar.of(resultSet.getInt(1),
+                        resultSet.getBytes(DAYS_COLUMN), resultSet.getBytes(INTENSITY_COLUMN)));
+                }
+            }
+            return calendars;
+        });
+    }
+}
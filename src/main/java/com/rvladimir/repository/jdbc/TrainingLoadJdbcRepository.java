@@ -0,0 +1,196 @@
+package com.rvladimir.repository.jdbc;
+
+import com.rvladimir.repository.row.TrainingLoadRow;
+
+import io.micronaut.data.jdbc.runtime.JdbcOperations;
+
+import jakarta.inject.Singleton;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Reads and updates of ttrack.training_load. Writers of one user are serialized with a transaction-scoped advisory
+ * lock, since adding a day depends on the stored day before it. Statements run on the connection of the surrounding
+ * transaction.
+ */
+@Singleton
+@AllArgsConstructor
+public class TrainingLoadJdbcRepository {
+
+    /** First key of the two-key {@code pg_advisory_xact_lock}; the second key is derived from the user ID. */
+    private static final int LOCK_CLASS = 0x7474_6c64;
+    private static final String LOCK_SQL = "SELECT pg_advisory_xact_lock(?, ?)";
+    private static final String ADD_TO_DAY_SQL = """
+        UPDATE ttrack.training_load SET load = load + ?, acute = acute + ?, chronic = chronic + ?
+        WHERE user_id = ? AND day = ?
+        """;
+    private static final String INSERT_SQL =
+        "INSERT INTO ttrack.training_load (user_id, day, load, acute, chronic) VALUES (?, ?, ?, ?, ?)";
+    private static final String ADD_TO_LATER_DAYS_SQL = """
+        UPDATE ttrack.training_load
+        SET acute = acute + ? * power(?, day - CAST(? AS DATE)),
+            chronic = chronic + ? * power(?, day - CAST(? AS DATE))
+        WHERE user_id = ? AND day > CAST(? AS DATE)
+        """;
+    private static final String LATEST_BEFORE_SQL = """
+        SELECT user_id, day, load, acute, chronic FROM ttrack.training_load
+        WHERE user_id = ? AND day < ?
+        ORDER BY day DESC
+        LIMIT 1
+        """;
+    private static final String BETWEEN_SQL = """
+        SELECT user_id, day, load, acute, chronic FROM ttrack.training_load
+        WHERE user_id = ? AND day BETWEEN ? AND ?
+        ORDER BY day
+        """;
+    private static final int USER_COLUMN = 1;
+    private static final int DAY_COLUMN = 2;
+    private static final int LOAD_COLUMN = 3;
+    private static final int ACUTE_COLUMN = 4;
+    private static final int CHRONIC_COLUMN = 5;
+    private static final int ACUTE_INCREASE_PARAMETER = 2;
+    private static final int CHRONIC_INCREASE_PARAMETER = 3;
+    private static final int WHERE_USER_PARAMETER = 4;
+    private static final int WHERE_DAY_PARAMETER = 5;
+    private static final int LATER_ACUTE_RETENTION_PARAMETER = 2;
+    private static final int LATER_ACUTE_DAY_PARAMETER = 3;
+    private static final int LATER_CHRONIC_INCREASE_PARAMETER = 4;
+    private static final int LATER_CHRONIC_RETENTION_PARAMETER = 5;
+    private static final int LATER_CHRONIC_DAY_PARAMETER = 6;
+    private static final int LATER_USER_PARAMETER = 7;
+    private static final int LATER_DAY_PARAMETER = 8;
+    private static final int TO_PARAMETER = 3;
+
+    private final JdbcOperations jdbcOperations;
+
+    /**
+     * Blocks until no other transaction writes the training load of a user, up to the end of this transaction.
+     * @param userId the user ID
+     */
+    public void lock(long userId) {
+        jdbcOperations.prepareStatement(LOCK_SQL, statement -> {
+            statement.setInt(1, LOCK_CLASS);
+            statement.setInt(2, Long.hashCode(userId));
+            return statement.execute();
+        });
+    }
+
+    /**
+     * Adds to the load and averages of a stored day.
+     * @param userId the user ID
+     * @param day the day
+     * @param load the load to add
+     * @param acuteIncrease the increase of the acute average
+     * @param chronicIncrease the increase of the chronic average
+     * @return true if the day was stored
+     */
+    public boolean addToDay(long userId, LocalDate day, double load, double acuteIncrease, double chronicIncrease) {
+        return jdbcOperations.prepareStatement(ADD_TO_DAY_SQL, statement -> {
+            statement.setDouble(1, load);
+            statement.setDouble(ACUTE_INCREASE_PARAMETER, acuteIncrease);
+            statement.setDouble(CHRONIC_INCREASE_PARAMETER, chronicIncrease);
+            statement.setLong(WHERE_USER_PARAMETER, userId);
+            statement.setDate(WHERE_DAY_PARAMETER, Date.valueOf(day));
+            return statement.executeUpdate() > 0;
+        });
+    }
+
+    /**
+     * Stores a day.
+     * @param row the day
+     */
+    public void insert(TrainingLoadRow row) {
+        jdbcOperations.prepareStatement(INSERT_SQL, statement -> {
+            statement.setLong(USER_COLUMN, row.getUserId());
+            statement.setDate(DAY_COLUMN, Date.valueOf(row.getDay()));
+            statement.setDouble(LOAD_COLUMN, row.getLoad());
+            statement.setDouble(ACUTE_COLUMN, row.getAcute());
+            statement.setDouble(CHRONIC_COLUMN, row.getChronic());
+            return statement.executeUpdate();
+        });
+    }
+
+    /**
+     * Propagates load added to a day to the averages of every later stored day, each increase decayed by the
+     * retention to the power of the days in between.
+     * @param userId the user ID
+     * @param day the day the load was added to
+     * @param acuteIncrease the increase of the acute average on that day
+     * @param acuteRetention the daily retention of the acute average
+     * @param chronicIncrease the increase of the chronic average on that day
+     * @param chronicRetention the daily retention of the chronic average
+     * @return the number of later days updated
+     */
+    public int addToLaterDays(
+        long userId,
+        LocalDate day,
+        double acuteIncrease,
+        double acuteRetention,
+        double chronicIncrease,
+        double chronicRetention
+    ) {
+        Date from = Date.valueOf(day);
+        return jdbcOperations.prepareStatement(ADD_TO_LATER_DAYS_SQL, statement -> {
+            statement.setDouble(1, acuteIncrease);
+            statement.setDouble(LATER_ACUTE_RETENTION_PARAMETER, acuteRetention);
+            statement.setDate(LATER_ACUTE_DAY_PARAMETER, from);
+            statement.setDouble(LATER_CHRONIC_INCREASE_PARAMETER, chronicIncrease);
+            statement.setDouble(LATER_CHRONIC_RETENTION_PARAMETER, chronicRetention);
+            statement.setDate(LATER_CHRONIC_DAY_PARAMETER, from);
+            statement.setLong(LATER_USER_PARAMETER, userId);
+            statement.setDate(LATER_DAY_PARAMETER, from);
+            return statement.executeUpdate();
+        });
+    }
+
+    /**
+     * Finds the latest stored day of a user before a day.
+     * @param userId the user ID
+     * @param day the exclusive bound
+     * @return the row, if any
+     */
+    public Optional<TrainingLoadRow> findLatestBefore(long userId, LocalDate day) {
+        return jdbcOperations.prepareStatement(LATEST_BEFORE_SQL, statement -> {
+            statement.setLong(USER_COLUMN, userId);
+            statement.setDate(DAY_COLUMN, Date.valueOf(day));
+            return readAll(statement).stream().findFirst();
+        });
+    }
+
+    /**
+     * Finds the stored days of a user within a range, oldest first.
+     * @param userId the user ID
+     * @param from the inclusive range start
+     * @param to the inclusive range end
+     * @return the rows
+     */
+    public List<TrainingLoadRow> findBetween(long userId, LocalDate from, LocalDate to) {
+        return jdbcOperations.prepareStatement(BETWEEN_SQL, statement -> {
+            statement.setLong(USER_COLUMN, userId);
+            statement.setDate(DAY_COLUMN, Date.valueOf(from));
+            statement.setDate(TO_PARAMETER, Date.valueOf(to));
+            return readAll(statement);
+        });
+    }
+
+    private static List<TrainingLoadRow> readAll(PreparedStatement statement) throws SQLException {
+        List<TrainingLoadRow> rows = new ArrayList<>();
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                rows.add(new TrainingLoadRow(resultSet.getLong(USER_COLUMN),
+                    resultSet.getDate(DAY_COLUMN).toLocalDate(), resultSet.getDouble(LOAD_COLUMN),
+                    resultSet.getDouble(ACUTE_COLUMN), resultSet.getDouble(CHRONIC_COLUMN)));
+            }
+        }
+        return rows;
+    }
+}
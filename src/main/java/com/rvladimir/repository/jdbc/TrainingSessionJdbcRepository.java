@@ -0,0 +1,176 @@
+package com.rvladimir.repository.jdbc;
+
+import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.repository.row.SyncChangeRow;
+import com.rvladimir.repository.row.TrainingSessionRow;
+
+import io.micronaut.data.annotation.Query;
+import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.repository.GenericRepository;
+import io.micronaut.transaction.TransactionDefinition;
+import io.micronaut.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Compile-time generated JDBC repository for training session inserts and simple reads.
+ * Bypasses the Hibernate persistence context on the hot write path.
+ */
+@JdbcRepository(dialect = Dialect.POSTGRES)
+public interface TrainingSessionJdbcRepository extends GenericRepository<TrainingSessionRow, Long> {
+    /**
+     * Inserts a training session row.
+     * @param row the row to insert
+     * @return the row with its generated ID
+     */
+    TrainingSessionRow save(TrainingSessionRow row);
+
+    /**
+     * Checks whether a training session exists.
+     * @param id the training session ID
+     * @return true if the training session exists
+     */
+    boolean existsById(Long id);
+
+    /**
+     * Finds a training session by ID.
+     * @param id the training session ID
+     * @return the training session row, if present
+     */
+    Optional<TrainingSessionRow> findById(Long id);
+
+    /**
+     * Finds training sessions by ID.
+     * @param ids the training session IDs
+     * @return the training session rows that still exist
+     */
+    List<TrainingSessionRow> findByIdIn(Collection<Long> ids);
+
+    /**
+     * Finds the training sessions of a user created within a range, oldest first, leaving templates out.
+     * The status predicate is a literal so the partial history index applies to every execution.
+     * @param userId the user ID
+     * @param from the inclusive range start
+     * @param to the inclusive range end
+     * @return the training session rows
+     */
+    @Query("""
+        SELECT ts.* FROM ttrack.training_session ts
+        WHERE ts.user_id = :userId
+          AND ts.created_at BETWEEN :from AND :to
+          AND ts.status <> 'IS_TEMPLATE'
+        ORDER BY ts.created_at
+        """)
+    List<TrainingSessionRow> findHistory(Long userId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Finds the templates of a user, oldest first.
+     * @param userId the user ID
+     * @return the template rows
+     */
+    @Query("""
+        SELECT ts.* FROM ttrack.training_session ts
+        WHERE ts.user_id = :userId
+          AND ts.status = 'IS_TEMPLATE'
+        ORDER BY ts.created_at, ts.id
+        """)
+    List<TrainingSessionRow> findTemplates(Long userId);
+
+    /**
+     * Copies a training session of a user and all its session exercises into a new session, in one statement.
+     * Nothing is written when the source does not exist, belongs to another user, or is not of the expected kind.
+     * Copied session exercises keep their plan (order, exercise, targets and notes) but not their timings.
+     * @param sourceId the ID of the training session to copy
+     * @param userId the user owning the source and the copy
+     * @param fromTemplate whether the source must be a template, or must not be one
+     * @param status the status of the new training session
+     * @param exerciseStatus the status of the new session exercises
+     * @param createdAt creation time of the new rows
+     * @return the new training session row, if the source was copied
+     */
+    @Query("""
+        WITH source AS (
+            SELECT ts.id, ts.name, ts.description FROM ttrack.training_session ts
+            WHERE ts.id = :sourceId
+              AND ts.user_id = :userId
+              AND (ts.status = 'IS_TEMPLATE') = :fromTemplate
+        ), copy AS (
+            INSERT INTO ttrack.training_session (name, description, status, user_id, created_at)
+            SELECT s.name, s.description, :status, :userId, :createdAt FROM source s
+            RETURNING id, name, description, status, user_id, created_at
+        ), exercises AS (
+            INSERT INTO ttrack.session_exercise (rounds, sets, repetitions, sprints, duration, weight, distance,
+                rest_time, status, exercise_order, exercise_id, training_session_id, created_at,
+                unit_of_measurement, type_of_exercise, notes)
+            SELECT se.rounds, se.sets, se.repetitions, se.sprints, se.duration, se.weight, se.distance,
+                se.rest_time, :exerciseStatus, se.exercise_order, se.exercise_id, c.id, :createdAt,
+                se.unit_of_measurement, se.type_of_exercise, se.notes
+            FROM ttrack.session_exercise se
+            CROSS JOIN copy c
+            WHERE se.training_session_id = :sourceId
+        )
+        SELECT c.id, c.name, c.description, c.status, c.user_id, c.created_at FROM copy c
+        """)
+    Optional<TrainingSessionRow> copySession(
+        Long sourceId, Long userId, boolean fromTemplate, String status, String exerciseStatus,
+        LocalDateTime createdAt);
+
+    /**
+     * Finds training sessions in a status created before a cutoff.
+     * @param status the training session status
+     * @param createdAt the exclusive cutoff
+     * @param pageable the page and sort order
+     * @return the training session rows
+     */
+    List<TrainingSessionRow> findByStatusAndCreatedAtLessThan(
+        TrainingSession.Status status, LocalDateTime createdAt, Pageable pageable);
+
+    /**
+     * Deletes training sessions by ID. Their session exercises must be deleted first.
+     * @param ids the training session IDs
+     */
+    void deleteByIdIn(Collection<Long> ids);
+
+    /**
+     * Numbers committed sync feed entries that have no change sequence yet, in a transaction of its own, so a read
+     * that follows sees them. Entries are numbered in commit order, so later reads never see new entries behind a
+     * position already handed out.
+     * @param limit the maximum number of entries to number
+     * @return the number of entries numbered, 0 if another instance was numbering them
+     */
+    @Transactional(propagation = TransactionDefinition.Propagation.REQUIRES_NEW)
+    @Query("SELECT ttrack.sequence_sync_changes(:limit)")
+    int sequenceSyncChanges(int limit);
+
+    /**
+     * Finds the numbered sync feed entries of a user after a position, in feed order. Entries still waiting for a
+     * change sequence are left for a later read.
+     * @param userId the user ID
+     * @param changeSeq change sequence of the last entry already read
+     * @param entityType entity type of the last entry already read
+     * @param entityId entity ID of the last entry already read
+     * @param limit the maximum number of entries
+     * @return the sync feed entries
+     */
+    @Query("""
+        SELECT sc.entity_type, sc.entity_id, sc.change_seq, sc.deleted FROM ttrack.sync_change sc
+        WHERE sc.user_id = :userId
+          AND (sc.change_seq, sc.entity_type, sc.entity_id) > (:changeSeq, :entityType, :entityId)
+          AND sc.change_seq IS NOT NULL
+        ORDER BY sc.change_seq, sc.entity_type, sc.entity_id
+        LIMIT :limit
+        """)
+    List<SyncChangeRow> findSyncChanges(Long userId, long changeSeq, String entityType, long entityId, int limit);
+
+    /**
+     * Keeps the rows written or deleted by the current transaction out of the sync feed.
+     * @return the new setting value
+     */
+    @Query("SELECT set_config('ttrack.sync_suppress', 'on', TRUE)")
+    String suppressSyncChanges();
+}
@@ -0,0 +1,45 @@
+package com.rvladimir.repository.jdbc;
+
+import com.rvladimir.repository.row.UserKeyRow;
+import com.rvladimir.repository.row.UserRow;
+
+import io.micronaut.data.annotation.Query;
+import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.repository.GenericRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Compile-time generated JDBC repository for bulk user provisioning.
+ */
+@JdbcRepository(dialect = Dialect.POSTGRES)
+public interface UserJdbcRepository extends GenericRepository<UserRow, Long> {
+
+    /**
+     * Inserts user rows as one JDBC batch.
+     * @param rows the rows to insert
+     * @return the rows with their generated IDs
+     */
+    List<UserRow> saveAll(Iterable<UserRow> rows);
+
+    /**
+     * Inserts a user row.
+     * @param row the row to insert
+     * @return the row with its generated ID
+     */
+    UserRow save(UserRow row);
+
+    /**
+     * Finds the existing users holding any of the given emails or nicknames, in one query.
+     * @param emails the candidate emails
+     * @param nicknames the candidate nicknames
+     * @return the keys of the users already holding one of them
+     */
+    @Query("""
+        SELECT u.email, u.nickname FROM ttrack.user u
+        WHERE u.email IN (:emails) OR u.nickname IN (:nicknames)
+        """)
+    List<UserKeyRow> findTaken(Collection<String> emails, Collection<String> nicknames);
+}
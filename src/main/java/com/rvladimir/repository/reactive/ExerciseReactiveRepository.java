@@ -0,0 +1,27 @@
+package com.rvladimir.repository.reactive;
+
+import com.rvladimir.constants.TtrackConstants;
+import com.rvladimir.repository.row.ExerciseRow;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.r2dbc.annotation.R2dbcRepository;
+import io.micronaut.data.repository.GenericRepository;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking, read-only repository for the exercise catalog.
+ */
+@R2dbcRepository(dataSource = TtrackConstants.REACTIVE_DATASOURCE, dialect = Dialect.POSTGRES)
+@Requires(property = TtrackConstants.REACTIVE_READS_ENABLED_PROPERTY, value = "true")
+public interface ExerciseReactiveRepository extends GenericRepository<ExerciseRow, Long> {
+    /**
+     * Finds a page of catalog exercises.
+     * @param pageable the page request
+     * @return the requested page
+     */
+    Mono<Page<ExerciseRow>> findAll(Pageable pageable);
+}
@@ -0,0 +1,36 @@
+package com.rvladimir.repository.reactive;
+
+import com.rvladimir.constants.TtrackConstants;
+import com.rvladimir.repository.row.SessionExerciseRow;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.data.annotation.Query;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.r2dbc.annotation.R2dbcRepository;
+import io.micronaut.data.repository.GenericRepository;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Non-blocking, read-only repository for session exercises.
+ */
+@R2dbcRepository(dataSource = TtrackConstants.REACTIVE_DATASOURCE, dialect = Dialect.POSTGRES)
+@Requires(property = TtrackConstants.REACTIVE_READS_ENABLED_PROPERTY, value = "true")
+public interface SessionExerciseReactiveRepository extends GenericRepository<SessionExerciseRow, Long> {
+    /**
+     * Streams all session exercises of a training session in execution order.
+     * Session exercises are never older than their session, so the session's {@code created_at}
+     * bounds the partition key and lets PostgreSQL prune older monthly partitions at execution time.
+     * @param trainingSessionId the training session ID
+     * @return the session exercise rows
+     */
+    @Query("""
+        SELECT se.* FROM ttrack.session_exercise se
+        WHERE se.training_session_id = :trainingSessionId
+          AND se.created_at >= COALESCE((
+              SELECT ts.created_at FROM ttrack.training_session ts WHERE ts.id = :trainingSessionId),
+              CAST('-infinity' AS TIMESTAMP))
+        ORDER BY se.exercise_order
+        """)
+    Flux<SessionExerciseRow> findByTrainingSessionIdOrderByExerciseOrder(Long trainingSessionId);
+}
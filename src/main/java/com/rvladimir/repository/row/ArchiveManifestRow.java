@@ -0,0 +1,45 @@
+package com.rvladimir.repository.row;
+
+import com.rvladimir.constants.TtrackConstants;
+
+import io.micronaut.data.annotation.GeneratedValue;
+import io.micronaut.data.annotation.Id;
+import io.micronaut.data.annotation.MappedEntity;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Row of ttrack.archive_manifest describing one archive file of training sessions.
+ */
+@MappedEntity(value = "archive_manifest", schema = TtrackConstants.TTRACK_SCHEMA)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchiveManifestRow {
+
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    private Long userId;
+
+    /** Creation time of the oldest training session in the file. */
+    private LocalDateTime periodStart;
+
+    /** Creation time of the newest training session in the file. */
+    private LocalDateTime periodEnd;
+
+    private Integer sessionCount;
+
+    private Integer exerciseCount;
+
+    private String storageKey;
+
+    private Long byteSize;
+
+    private LocalDateTime createdAt;
+}
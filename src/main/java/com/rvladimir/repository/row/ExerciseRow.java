@@ -0,0 +1,36 @@
+package com.rvladimir.repository.row;
+
+import com.rvladimir.constants.TtrackConstants;
+import com.rvladimir.domain.TypeOfExercise;
+
+import io.micronaut.data.annotation.Id;
+import io.micronaut.data.annotation.MappedEntity;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Read-only row of ttrack.exercise used by the R2DBC read path.
+ */
+@MappedEntity(value = "exercise", schema = TtrackConstants.TTRACK_SCHEMA)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExerciseRow {
+
+    @Id
+    private Long id;
+
+    private String name;
+
+    private String description;
+
+    private TypeOfExercise type;
+
+    private String image;
+
+    private LocalDateTime createdAt;
+}
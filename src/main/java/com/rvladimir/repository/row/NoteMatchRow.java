@@ -0,0 +1,33 @@
+package com.rvladimir.repository.row;
+
+import io.micronaut.core.annotation.Introspected;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Projection of a session exercise whose notes match a search, with its rank and highlighted excerpt.
+ */
+@Introspected
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NoteMatchRow {
+
+    private Long id;
+
+    private Long trainingSessionId;
+
+    private Long exerciseId;
+
+    private LocalDateTime createdAt;
+
+    /** Full-text rank of the notes against the search; higher is better. */
+    private float rank;
+
+    /** Fragments of the notes with the matched words between {@code «} and {@code »}. */
+    private String highlight;
+}
@@ -0,0 +1,67 @@
+package com.rvladimir.repository.row;
+
+import com.rvladimir.constants.TtrackConstants;
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.domain.TypeOfExercise;
+
+import io.micronaut.data.annotation.GeneratedValue;
+import io.micronaut.data.annotation.Id;
+import io.micronaut.data.annotation.MappedEntity;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Row of ttrack.session_exercise used by the JDBC write path and the R2DBC read path.
+ * Foreign keys are kept as plain ids so rows map without joins and inserts skip entity loading.
+ */
+@MappedEntity(value = "session_exercise", schema = TtrackConstants.TTRACK_SCHEMA)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionExerciseRow {
+
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    private Integer rounds;
+
+    private Integer sets;
+
+    private Integer repetitions;
+
+    private Integer sprints;
+
+    private LocalTime duration;
+
+    private Double weight;
+
+    private Double distance;
+
+    private LocalDateTime startTime;
+
+    private LocalDateTime endTime;
+
+    private Integer restTime;
+
+    private SessionExercise.Status status;
+
+    private Integer exerciseOrder;
+
+    private Long exerciseId;
+
+    private Long trainingSessionId;
+
+    private LocalDateTime createdAt;
+
+    private SessionExercise.UnitOfMeasurement unitOfMeasurement;
+
+    private TypeOfExercise typeOfExercise;
+
+    private String notes;
+}
@@ -0,0 +1,29 @@
+package com.rvladimir.repository.row;
+
+import io.micronaut.core.annotation.Introspected;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Projection of a ttrack.sync_change row: the latest change of one training session or session exercise.
+ * Only carries the columns of the covering index so feed reads stay index-only.
+ */
+@Introspected
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncChangeRow {
+
+    /** {@code TRAINING_SESSION} or {@code SESSION_EXERCISE}. */
+    private String entityType;
+
+    private Long entityId;
+
+    /** ID of the transaction that wrote the latest change. */
+    private Long changeSeq;
+
+    /** Whether the entity has been deleted since. */
+    private boolean deleted;
+}
@@ -0,0 +1,32 @@
+package com.rvladimir.repository.row;
+
+import io.micronaut.core.annotation.Introspected;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Row of ttrack.training_load: a user's training load on one day and the averages as of the end of that day.
+ */
+@Introspected
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainingLoadRow {
+
+    private Long userId;
+
+    private LocalDate day;
+
+    /** Load of the day, in arbitrary units. */
+    private double load;
+
+    /** Acute exponentially weighted average of daily loads. */
+    private double acute;
+
+    /** Chronic exponentially weighted average of daily loads. */
+    private double chronic;
+}
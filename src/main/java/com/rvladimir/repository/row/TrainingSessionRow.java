@@ -0,0 +1,39 @@
+package com.rvladimir.repository.row;
+
+import com.rvladimir.constants.TtrackConstants;
+import com.rvladimir.domain.TrainingSession;
+
+import io.micronaut.data.annotation.GeneratedValue;
+import io.micronaut.data.annotation.Id;
+import io.micronaut.data.annotation.MappedEntity;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Row of ttrack.training_session used by the JDBC write path.
+ * The owner is kept as a plain id so inserts skip entity loading.
+ */
+@MappedEntity(value = "training_session", schema = TtrackConstants.TTRACK_SCHEMA)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainingSessionRow {
+
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    private String name;
+
+    private String description;
+
+    private TrainingSession.Status status;
+
+    private Long userId;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,21 @@
+package com.rvladimir.repository.row;
+
+import io.micronaut.core.annotation.Introspected;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Projection of the unique keys of an existing user.
+ */
+@Introspected
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserKeyRow {
+
+    private String email;
+
+    private String nickname;
+}
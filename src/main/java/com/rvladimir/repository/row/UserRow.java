@@ -0,0 +1,36 @@
+package com.rvladimir.repository.row;
+
+import com.rvladimir.constants.TtrackConstants;
+import com.rvladimir.domain.User;
+
+import io.micronaut.data.annotation.GeneratedValue;
+import io.micronaut.data.annotation.Id;
+import io.micronaut.data.annotation.MappedEntity;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Row of ttrack.user used by the JDBC bulk provisioning path.
+ * Inserts skip the persistence context; new users are not in the second-level cache yet, so nothing goes stale.
+ */
+@MappedEntity(value = "user", schema = TtrackConstants.TTRACK_SCHEMA)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserRow {
+
+    @Id
+    @GeneratedValue
+    private Long id;
+    private String name;
+    private String lastname;
+    private String nickname;
+    private LocalDate dateBirth;
+    private String email;
+    private String password;
+    private User.Role role;
+}
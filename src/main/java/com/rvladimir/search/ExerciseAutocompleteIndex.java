@@ -0,0 +1,119 @@
+package com.rvladimir.search;
+
+import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.repository.row.ExerciseRow;
+import com.rvladimir.service.dto.ExerciseDTO;
+
+import io.micronaut.core.annotation.Nullable;
+
+import jakarta.inject.Singleton;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory prefix index over catalog exercise names for type-ahead.
+ * Every name is indexed from its start and from the start of each following word, in one sorted array that a
+ * lookup binary-searches for the first key with the typed prefix and then scans while keys keep matching.
+ * The index is rebuilt as a whole and swapped in atomically, so lookups never lock.
+ */
+@Singleton
+public class ExerciseAutocompleteIndex {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{Alnum}]+");
+    private static final String SPACE = " ";
+
+    private volatile Snapshot snapshot = new Snapshot(new String[0], new int[0], new boolean[0], new ExerciseDTO[0]);
+
+    /**
+     * Replaces the indexed exercises.
+     * @param rows the whole exercise catalog
+     */
+    public void rebuild(List<ExerciseRow> rows) {
+        List<Key> keys = new ArrayList<>();
+        ExerciseDTO[] exercises = new ExerciseDTO[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            ExerciseRow row = rows.get(i);
+            exercises[i] = new ExerciseDTO(row.getId(), row.getName(), null, row.getType(), null);
+            String name = normalize(row.getName());
+            keys.add(new Key(name, i, true));
+            for (int space = name.indexOf(' '); space >= 0; space = name.indexOf(' ', space + 1)) {
+                keys.add(new Key(name.substring(space + 1), i, false));
+            }
+        }
+        keys.sort(Comparator.comparing(Key::text));
+        String[] texts = new String[keys.size()];
+        int[] keyExercises = new int[keys.size()];
+        boolean[] fromStart = new boolean[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            texts[i] = keys.get(i).text();
+            keyExercises[i] = keys.get(i).exercise();
+            fromStart[i] = keys.get(i).fromStart();
+        }
+        snapshot = new Snapshot(texts, keyExercises, fromStart, exercises);
+    }
+
+    /**
+     * Suggests exercises whose name, or a word of it, starts with a prefix.
+     * Names starting with the prefix come first, then shorter names, then alphabetical order.
+     * @param prefix the typed text; case, accents and punctuation are ignored
+     * @param type the exercise type to keep, or null for all types
+     * @param limit the maximum number of suggestions
+     * @return the suggested exercises with ID, name and type
+     */
+    public List<ExerciseDTO> suggest(String prefix, @Nullable TypeOfExercise type, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        Snapshot current = snapshot;
+        int from = Arrays.binarySearch(current.keys(), normalized);
+        if (from < 0) {
+            from = -from - 1;
+        }
+        Map<Integer, Boolean> matches = new LinkedHashMap<>();
+        for (int i = from; i < current.keys().length && current.keys()[i].startsWith(normalized); i++) {
+            int exercise = current.keyExercises()[i];
+            if (type == null || current.exercises()[exercise].getType() == type) {
+                matches.merge(exercise, current.fromStart()[i], Boolean::logicalOr);
+            }
+        }
+        return matches.entrySet().stream()
+            .sorted(Comparator.<Map.Entry<Integer, Boolean>, Boolean>comparing(match -> !match.getValue())
+                .thenComparing(match -> current.exercises()[match.getKey()].getName().length())
+                .thenComparing(match -> current.exercises()[match.getKey()].getName()))
+            .limit(limit)
+            .map(match -> current.exercises()[match.getKey()])
+            .toList();
+    }
+
+    /**
+     * Number of indexed exercises.
+     */
+    public int size() {
+        return snapshot.exercises().length;
+    }
+
+    static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String plain = DIACRITICS.matcher(decomposed).replaceAll("");
+        return SEPARATORS.matcher(plain.toLowerCase(Locale.ROOT)).replaceAll(SPACE).strip();
+    }
+
+    private record Key(String text, int exercise, boolean fromStart) {
+    }
+
+    /**
+     * Sorted keys with, per key, the index of its exercise and whether the key starts at the start of the name.
+     */
+    private record Snapshot(String[] keys, int[] keyExercises, boolean[] fromStart, ExerciseDTO[] exercises) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.rvladimir.search;
+
+import com.rvladimir.repository.jdbc.ExerciseJdbcRepository;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.data.exceptions.DataAccessException;
+import io.micronaut.scheduling.annotation.Scheduled;
+
+import jakarta.inject.Singleton;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reloads the autocomplete index from the exercise catalog at startup and then periodically, so exercises added
+ * on any instance show up in type-ahead within one refresh interval.
+ */
+@Slf4j
+@Singleton
+@AllArgsConstructor
+@Requires(property = "ttrack.search.autocomplete.enabled", value = "true", defaultValue = "true")
+public class ExerciseAutocompleteRefresher {
+
+    private final ExerciseJdbcRepository exerciseJdbcRepository;
+    private final ExerciseAutocompleteIndex index;
+
+    @Scheduled(fixedDelay = "${ttrack.search.autocomplete.refresh-interval:1m}")
+    void refresh() {
+        try {
+            index.rebuild(exerciseJdbcRepository.findAll());
+            log.debug("Autocomplete index holds {} exercises", index.size());
+        } catch (DataAccessException ex) {
+            log.warn("Could not refresh the autocomplete index: {}", ex.getMessage());
+        }
+    }
+}
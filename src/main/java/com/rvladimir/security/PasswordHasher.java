@@ -0,0 +1,157 @@
+package com.rvladimir.security;
+
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.crac.OrderedResource;
+
+import jakarta.inject.Singleton;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.crac.Resource;
+import org.mindrot.jbcrypt.BCrypt;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hashes and checks passwords with BCrypt at a cost calibrated on this host.
+ * On first use, unless a cost is configured, hashes are timed from the minimum cost upwards; each cost step doubles
+ * the work, so the first cost whose doubled time would exceed the target latency is the last one measured. Startup
+ * does not pay for it, and instances that never hash a password never calibrate. The dummy hash checked for unknown
+ * emails uses the same cost, so a failed login takes as long for a missing user as for a wrong password. A CRaC
+ * checkpoint carries the cost measured on the machine that took it, so a restore drops it and the next use calibrates
+ * again.
+ */
+@Slf4j
+@Singleton
+public class PasswordHasher implements OrderedResource {
+
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+    private static final int SAMPLES = 2;
+    /** Position of the two cost digits in a hash such as {@code $2a$12$...}. */
+    private static final int COST_START = 4;
+    private static final int COST_END = 6;
+
+    private final PasswordHashingConfiguration configuration;
+    /** Cost and dummy hash, swapped together so no caller sees one without the other; empty until first use. */
+    private final AtomicReference<Settings> settings = new AtomicReference<>();
+
+    public PasswordHasher(PasswordHashingConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    @Override
+    public void beforeCheckpoint(org.crac.Context<? extends Resource> context) {
+        // Nothing to release; the cost is recalibrated after restore
+    }
+
+    @Override
+    public void afterRestore(org.crac.Context<? extends Resource> context) {
+        settings.set(null);
+    }
+
+    /**
+     * Hashes a password at the current cost.
+     * @param password the plain password
+     * @return the BCrypt hash
+     */
+    public String hash(String password) {
+        return BCrypt.hashpw(password, BCrypt.gensalt(settings().cost()));
+    }
+
+    /**
+     * Checks a password against a stored hash, or against the dummy hash when there is none, so the check takes
+     * the same time either way.
+     * @param password the plain password
+     * @param hash the stored hash, or null when the user does not exist
+     * @return true if a hash was given and the password matches it
+     */
+    public boolean matches(String password, @Nullable String hash) {
+        if (hash == null) {
+            BCrypt.checkpw(password, settings().dummyHash());
+            return false;
+        }
+        return BCrypt.checkpw(password, hash);
+    }
+
+    /**
+     * Whether a stored hash was made at a lower cost than the current one and should be replaced on next login.
+     * Hashes at a higher cost are kept, so instances calibrated to different costs do not rehash back and forth.
+     * @param hash the stored hash
+     * @return true if the hash should be replaced
+     */
+    public boolean needsRehash(String hash) {
+        try {
+            return Integer.parseInt(hash.substring(COST_START, COST_END)) < settings().cost();
+        } catch (NumberFormatException | IndexOutOfBoundsException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * BCrypt cost of new hashes.
+     */
+    public int getCost() {
+        return settings().cost();
+    }
+
+    /**
+     * Current settings, computed by the first caller while concurrent callers wait for it rather than calibrate too.
+     */
+    private Settings settings() {
+        Settings current = settings.get();
+        if (current != null) {
+            return current;
+        }
+        synchronized (settings) {
+            current = settings.get();
+            if (current == null) {
+                current = configure(configuration);
+                settings.set(current);
+            }
+            return current;
+        }
+    }
+
+    private static Settings configure(PasswordHashingConfiguration configuration) {
+        int cost;
+        if (configuration.getCost() == null) {
+            cost = calibrate(configuration);
+        } else {
+            cost = configuration.getCost();
+        }
+        return new Settings(cost, BCrypt.hashpw("dummy-password", BCrypt.gensalt(cost)));
+    }
+
+    private static int calibrate(PasswordHashingConfiguration configuration) {
+        long target = configuration.getTargetLatency().toNanos();
+        int calibrated = configuration.getMinCost();
+        long elapsed = time(calibrated);
+        while (calibrated < configuration.getMaxCost() && elapsed * 2 <= target) {
+            calibrated++;
+            elapsed = time(calibrated);
+        }
+        log.info("BCrypt cost {} takes {} ms on this host (target {} ms)",
+            calibrated, Duration.ofNanos(elapsed).toMillis(), configuration.getTargetLatency().toMillis());
+        return calibrated;
+    }
+
+    /**
+     * Fastest of a few hashes at a cost, so a GC pause or a busy core does not lower the calibrated cost.
+     */
+    private static long time(int cost) {
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            BCrypt.hashpw(CALIBRATION_PASSWORD, BCrypt.gensalt(cost));
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+        return fastest;
+    }
+
+    /**
+     * BCrypt cost of new hashes and the dummy hash made at that cost.
+     */
+    private record Settings(int cost, String dummyHash) {
+    }
+}
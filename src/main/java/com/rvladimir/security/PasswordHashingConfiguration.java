@@ -0,0 +1,33 @@
+package com.rvladimir.security;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.Nullable;
+
+import java.time.Duration;
+
+import lombok.Data;
+
+/**
+ * Configuration for BCrypt password hashing.
+ */
+@Data
+@ConfigurationProperties("ttrack.security.password")
+public class PasswordHashingConfiguration {
+
+    private static final Duration DEFAULT_TARGET_LATENCY = Duration.ofMillis(250);
+    private static final int DEFAULT_MIN_COST = 12;
+    private static final int DEFAULT_MAX_COST = 14;
+
+    /** Time one hash should take on this host; calibration picks the highest cost that stays within it. */
+    private Duration targetLatency = DEFAULT_TARGET_LATENCY;
+
+    /** Lowest cost calibration may pick, however slow the host. */
+    private int minCost = DEFAULT_MIN_COST;
+
+    /** Highest cost calibration may pick, however fast the host. */
+    private int maxCost = DEFAULT_MAX_COST;
+
+    /** Fixed cost that skips calibration, e.g. so every instance of a mixed fleet hashes alike. */
+    @Nullable
+    private Integer cost;
+}
@@ -0,0 +1,26 @@
+package com.rvladimir.service;
+
+import com.rvladimir.service.dto.ActivityHeatmapDTO;
+import com.rvladimir.service.dto.ActivityStreakDTO;
+
+/**
+ * Training activity of users by calendar day: heatmaps and streaks.
+ * A day counts as a training day when the user started a training session that day; templates do not count.
+ */
+public interface ActivityService {
+
+    /**
+     * Returns the training days of a user in a calendar year.
+     * @param userId the user ID
+     * @param year the calendar year
+     * @return the heatmap of the year
+     */
+    ActivityHeatmapDTO getHeatmap(Long userId, int year);
+
+    /**
+     * Returns the current and longest training streaks of a user.
+     * @param userId the user ID
+     * @return the streaks
+     */
+    ActivityStreakDTO getStreak(Long userId);
+}
@@ -0,0 +1,21 @@
+package com.rvladimir.service;
+
+import com.rvladimir.analytics.AnalyticsReport;
+import com.rvladimir.service.dto.AnalyticsReportDTO;
+
+import java.time.LocalDate;
+
+/**
+ * Canned cross-user reports, answered from the embedded analytics store.
+ */
+public interface AnalyticsService {
+
+    /**
+     * Runs a canned report over a range of days.
+     * @param report the report
+     * @param from the first day
+     * @param to the last day
+     * @return the report table
+     */
+    AnalyticsReportDTO runReport(AnalyticsReport report, LocalDate from, LocalDate to);
+}
@@ -1,13 +1,42 @@
 package com.rvladimir.service;
 
+import com.rvladimir.domain.TypeOfExercise;
 import com.rvladimir.service.dto.ExerciseDTO;
 
 import io.micronaut.data.model.Page;
 import io.micronaut.data.model.Pageable;
 
+import java.util.List;
+
 public interface ExerciseService {
 
     ExerciseDTO create(ExerciseDTO exerciseDTO);
 
     Page<ExerciseDTO> getAll(Pageable pageable);
+
+    /**
+     * Retrieves a page of exercises holding only the requested properties and the ID.
+     * @param pageable the page to read
+     * @param fields comma-separated property names, or null for all properties
+     * @return the page of exercises
+     */
+    Page<ExerciseDTO> getAll(Pageable pageable, String fields);
+
+    /**
+     * Searches exercise names and descriptions, best match first, tolerating typos.
+     * @param query the search text
+     * @param type the exercise type to filter by, or null for all types
+     * @param pageable the page to read; its sort is ignored in favour of the match ranking
+     * @return the page of matching exercises
+     */
+    Page<ExerciseDTO> search(String query, TypeOfExercise type, Pageable pageable);
+
+    /**
+     * Suggests exercises for type-ahead from the in-memory autocomplete index.
+     * @param prefix the typed text
+     * @param type the exercise type to filter by, or null for all types
+     * @param limit the maximum number of suggestions
+     * @return the suggested exercises with ID, name and type
+     */
+    List<ExerciseDTO> autocomplete(String prefix, TypeOfExercise type, int limit);
 }
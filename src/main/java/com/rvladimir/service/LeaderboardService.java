@@ -0,0 +1,49 @@
+package com.rvladimir.service;
+
+import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.leaderboard.LeaderboardMetric;
+import com.rvladimir.service.dto.LeaderboardDTO;
+import com.rvladimir.service.dto.LeaderboardEntryDTO;
+
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.List;
+
+/**
+ * Leaderboards of users' best scores, per catalog exercise or per exercise type.
+ * A board is selected by exactly one of an exercise ID or an exercise type, plus a metric.
+ */
+public interface LeaderboardService {
+
+    /**
+     * Returns the top of a leaderboard, or the entries of chosen users such as a user's friends.
+     * @param exerciseId the catalog exercise ID, or null to select the board by type
+     * @param type the exercise type, or null to select the board by exercise
+     * @param metric the ranked metric
+     * @param limit the number of top entries, when no users are given
+     * @param userIds the users to return, with their global ranks, or null for the top of the board
+     * @return the entries in rank order
+     */
+    LeaderboardDTO getLeaderboard(
+        @Nullable Long exerciseId,
+        @Nullable TypeOfExercise type,
+        LeaderboardMetric metric,
+        int limit,
+        @Nullable List<Long> userIds
+    );
+
+    /**
+     * Returns the rank and best score of a user on a leaderboard.
+     * @param exerciseId the catalog exercise ID, or null to select the board by type
+     * @param type the exercise type, or null to select the board by exercise
+     * @param metric the ranked metric
+     * @param userId the user ID
+     * @return the user's entry
+     */
+    LeaderboardEntryDTO getRank(
+        @Nullable Long exerciseId,
+        @Nullable TypeOfExercise type,
+        LeaderboardMetric metric,
+        Long userId
+    );
+}
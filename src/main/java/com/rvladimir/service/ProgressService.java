@@ -0,0 +1,31 @@
+package com.rvladimir.service;
+
+import com.rvladimir.progress.ProgressMetric;
+import com.rvladimir.service.dto.ProgressChartDTO;
+
+import java.time.LocalDate;
+
+/**
+ * Progress charts of users on catalog exercises.
+ */
+public interface ProgressService {
+
+    /**
+     * Returns the progress of a user on a catalog exercise, downsampled to at most a number of points.
+     * @param userId the user ID
+     * @param exerciseId the catalog exercise ID
+     * @param metric the metric to plot
+     * @param from the first day
+     * @param to the last day
+     * @param points the maximum number of points
+     * @return the chart
+     */
+    ProgressChartDTO getChart(
+        Long userId,
+        Long exerciseId,
+        ProgressMetric metric,
+        LocalDate from,
+        LocalDate to,
+        int points
+    );
+}
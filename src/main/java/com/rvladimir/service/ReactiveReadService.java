@@ -0,0 +1,31 @@
+package com.rvladimir.service;
+
+import com.rvladimir.service.dto.ExerciseDTO;
+import com.rvladimir.service.dto.SessionExerciseDTO;
+
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking read operations served over R2DBC.
+ * Writes stay on the blocking JPA services.
+ */
+public interface ReactiveReadService {
+
+    /**
+     * Streams all SessionExercises for a training session.
+     * @param trainingSessionId the training session ID
+     * @return the session exercises in execution order
+     */
+    Flux<SessionExerciseDTO> getSessionExercisesByTrainingSession(Long trainingSessionId);
+
+    /**
+     * Retrieves a page of the exercise catalog.
+     * @param pageable the page request
+     * @return the requested page
+     */
+    Mono<Page<ExerciseDTO>> getExercises(Pageable pageable);
+}
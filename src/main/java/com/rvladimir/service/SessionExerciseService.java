@@ -1,6 +1,7 @@
 package com.rvladimir.service;
 
 import com.rvladimir.service.dto.CreateSessionExerciseDTO;
+import com.rvladimir.service.dto.NotesSearchResultDTO;
 import com.rvladimir.service.dto.SessionExerciseDTO;
 
 import java.util.List;
@@ -24,4 +25,22 @@ public interface SessionExerciseService {
      * @return list of session exercises
      */
     List<SessionExerciseDTO> getSessionExercisesByTrainingSession(Long trainingSessionId);
+
+    /**
+     * Retrieves the SessionExercises of a training session holding only the requested properties and the ID.
+     * @param trainingSessionId the training session ID
+     * @param fields comma-separated property names, or null for all properties
+     * @return list of session exercises
+     */
+    List<SessionExerciseDTO> getSessionExercisesByTrainingSession(Long trainingSessionId, String fields);
+
+    /**
+     * Searches the notes of a user's session exercises, best match first.
+     * @param userId the user ID
+     * @param query the search text; quoted phrases, {@code or} and {@code -word} are supported
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param limit the maximum number of matches to return
+     * @return one page of matches with highlighted excerpts
+     */
+    NotesSearchResultDTO searchNotes(Long userId, String query, String cursor, int limit);
 }
@@ -0,0 +1,19 @@
+package com.rvladimir.service;
+
+import com.rvladimir.service.dto.SyncChangesDTO;
+
+/**
+ * Service interface for the offline-first delta sync of mobile clients.
+ */
+public interface SyncService {
+
+    /**
+     * Retrieves the training sessions and session exercises of a user changed since a cursor.
+     * The work done is proportional to the number of changes, not to the size of the user's history.
+     * @param userId the user ID
+     * @param cursor the cursor returned by the previous sync, or null for a full sync
+     * @param limit the maximum number of changed entities to return
+     * @return the changes and the cursor for the next sync
+     */
+    SyncChangesDTO changesSince(Long userId, String cursor, int limit);
+}
@@ -0,0 +1,20 @@
+package com.rvladimir.service;
+
+import com.rvladimir.service.dto.TrainingLoadSeriesDTO;
+
+import java.time.LocalDate;
+
+/**
+ * Daily training load of users with its acute and chronic averages and their ratio.
+ */
+public interface TrainingLoadService {
+
+    /**
+     * Returns the training load of a user for every day of a range.
+     * @param userId the user ID
+     * @param from the first day
+     * @param to the last day
+     * @return one point per day, oldest first
+     */
+    TrainingLoadSeriesDTO getSeries(Long userId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,35 @@
+package com.rvladimir.service;
+
+import com.rvladimir.service.dto.TrainingSessionHistoryDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Service interface for reading a user's training history across the hot tables and the archive.
+ */
+public interface TrainingSessionHistoryService {
+
+    /**
+     * Retrieves the training sessions of a user created within a range, oldest first.
+     * Archived sessions are read from cold storage when the range reaches into archived periods.
+     * @param userId the user ID
+     * @param from the inclusive range start
+     * @param to the inclusive range end
+     * @return the training sessions with their session exercises
+     */
+    List<TrainingSessionHistoryDTO> getHistory(Long userId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Retrieves the training history with sessions and session exercises holding only the requested
+     * properties and their IDs.
+     * @param userId the user ID
+     * @param from the inclusive range start
+     * @param to the inclusive range end
+     * @param fields comma-separated training session properties, or null for all properties
+     * @param exerciseFields comma-separated session exercise properties, or null for all properties
+     * @return the training sessions with their session exercises
+     */
+    List<TrainingSessionHistoryDTO> getHistory(
+        Long userId, LocalDateTime from, LocalDateTime to, String fields, String exerciseFields);
+}
@@ -4,6 +4,9 @@ import com.rvladimir.service.dto.CreateTrainingSessionDTO;
 import com.rvladimir.service.dto.QuickStartIntervalDTO;
 import com.rvladimir.service.dto.QuickStartIntervalResponseDTO;
 import com.rvladimir.service.dto.TrainingSessionDTO;
+import com.rvladimir.service.dto.TrainingSessionHistoryDTO;
+
+import java.util.List;
 
 public interface TrainingSessionService {
 
@@ -17,4 +20,30 @@ public interface TrainingSessionService {
      * @return a composite response containing the created TrainingSession and SessionExercise
      */
     QuickStartIntervalResponseDTO quickStartInterval(QuickStartIntervalDTO dto);
+
+    /**
+     * Retrieves the templates of a user with their session exercises, oldest first.
+     *
+     * @param userId the user ID
+     * @return the templates with their session exercises in execution order
+     */
+    List<TrainingSessionHistoryDTO> getTemplates(Long userId);
+
+    /**
+     * Starts a new training session from a template, copying all its session exercises.
+     *
+     * @param userId the ID of the user owning the template
+     * @param templateId the template ID
+     * @return the started training session with its session exercises
+     */
+    TrainingSessionHistoryDTO startFromTemplate(Long userId, Long templateId);
+
+    /**
+     * Saves a copy of a training session and its session exercises as a template.
+     *
+     * @param userId the ID of the user owning the training session
+     * @param trainingSessionId the ID of the training session to copy
+     * @return the template with its session exercises
+     */
+    TrainingSessionHistoryDTO saveAsTemplate(Long userId, Long trainingSessionId);
 }
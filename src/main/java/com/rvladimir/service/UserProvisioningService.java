@@ -0,0 +1,22 @@
+package com.rvladimir.service;
+
+import com.rvladimir.service.dto.CreateUserDTO;
+import com.rvladimir.service.dto.ProvisionedUserDTO;
+
+import java.util.List;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Bulk user provisioning, e.g. for gym partners onboarding their members.
+ */
+public interface UserProvisioningService {
+
+    /**
+     * Creates users in bulk with role USER, emitting one outcome per requested user as soon as it is known.
+     * Invalid and duplicate users are reported first; created users follow batch by batch as batches commit.
+     * @param users the users to create
+     * @return the outcome of every requested user
+     */
+    Flux<ProvisionedUserDTO> provision(List<CreateUserDTO> users);
+}
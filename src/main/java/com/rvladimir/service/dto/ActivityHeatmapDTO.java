@@ -0,0 +1,33 @@
+package com.rvladimir.service.dto;
+
+import io.micronaut.serde.annotation.Serdeable;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Training days of a user in one calendar year, for a heatmap.
+ */
+@Serdeable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityHeatmapDTO {
+
+    @Schema(description = "Calendar year", example = "2026")
+    private int year;
+
+    @Schema(description = "Number of training days in the year", example = "148")
+    private int activeDays;
+
+    @Schema(description = "Longest run of consecutive training days within the year", example = "12")
+    private int longestStreak;
+
+    @Schema(description = "Intensity per day from January 1st, one entry per day of the year: training sessions " +
+        "plus finished session exercises, capped at 255; 0 for days without training")
+    private List<Integer> intensity;
+}
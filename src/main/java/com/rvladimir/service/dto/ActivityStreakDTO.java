@@ -0,0 +1,33 @@
+package com.rvladimir.service.dto;
+
+import io.micronaut.serde.annotation.Serdeable;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Training streaks of a user.
+ */
+@Serdeable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityStreakDTO {
+
+    @Schema(description = "Consecutive training days up to today, or up to yesterday while today has no training yet",
+        example = "5")
+    private int current;
+
+    @Schema(description = "Longest run of consecutive training days ever", example = "21")
+    private int longest;
+
+    @Schema(description = "Whether the user has trained today", example = "false")
+    private boolean trainedToday;
+
+    @Schema(description = "Last training day, or null if the user has never trained", example = "2026-10-18")
+    private LocalDate lastTrainingDay;
+}
@@ -0,0 +1,43 @@
+package com.rvladimir.service.dto;
+
+import com.rvladimir.analytics.AnalyticsReport;
+
+import io.micronaut.serde.annotation.Serdeable;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of a canned analytics report, as a table.
+ */
+@Serdeable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsReportDTO {
+
+    @Schema(description = "The report", example = "POPULAR_EXERCISES")
+    private AnalyticsReport report;
+
+    @Schema(description = "First day of the range", example = "2026-01-01")
+    private LocalDate from;
+
+    @Schema(description = "Last day of the range", example = "2026-09-30")
+    private LocalDate to;
+
+    @Schema(description = "When the data was last copied from the database, or null before the first snapshot",
+        example = "2026-10-18T09:55:00")
+    private LocalDateTime snapshotAt;
+
+    @Schema(description = "Column names", example = "[\"exercise_id\", \"name\", \"type\", \"performed\", \"users\"]")
+    private List<String> columns;
+
+    @Schema(description = "Rows, one value per column: numbers, strings or null")
+    private List<List<Object>> rows;
+}
@@ -1,6 +1,9 @@
 package com.rvladimir.service.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.web.codec.SparseFieldsetFilter;
 
 import io.micronaut.serde.annotation.Serdeable;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -16,6 +19,8 @@ import lombok.NoArgsConstructor;
  * DTO for Exercise response and creation.
  */
 @Serdeable
+@JsonInclude(JsonInclude.Include.ALWAYS)
+@JsonFilter(SparseFieldsetFilter.NAME)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -44,4 +49,10 @@ public class ExerciseDTO {
     @NotBlank
     @Schema(description = "The exercise image URL", example = "https://example.com/pushups.jpg")
     private String image;
+
+    /**
+     * An exercise narrowed to a sparse fieldset. Serialized without the properties left unset.
+     */
+    public static class Sparse extends ExerciseDTO implements SparseFieldset {
+    }
 }
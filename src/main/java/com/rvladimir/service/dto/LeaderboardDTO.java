@@ -0,0 +1,29 @@
+package com.rvladimir.service.dto;
+
+import io.micronaut.serde.annotation.Serdeable;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entries of one leaderboard.
+ */
+@Serdeable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardDTO {
+
+    @Schema(description = "Name of the leaderboard", example = "type:BOXING_BAG:ROUNDS")
+    private String board;
+
+    @Schema(description = "Number of users with a score on the leaderboard", example = "1250")
+    private int total;
+
+    @Schema(description = "Entries in rank order")
+    private List<LeaderboardEntryDTO> entries;
+}
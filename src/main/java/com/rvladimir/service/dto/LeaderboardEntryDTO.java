@@ -0,0 +1,27 @@
+package com.rvladimir.service.dto;
+
+import io.micronaut.serde.annotation.Serdeable;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A user's best score on a leaderboard and its rank among all users.
+ */
+@Serdeable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardEntryDTO {
+
+    @Schema(description = "Rank among all users on the leaderboard, starting at 1", example = "3")
+    private int rank;
+
+    @Schema(description = "ID of the user", example = "42")
+    private long userId;
+
+    @Schema(description = "Best score of the user; kilograms or kilometers for weight and distance", example = "120.5")
+    private double score;
+}
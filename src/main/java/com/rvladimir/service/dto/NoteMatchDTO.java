@@ -0,0 +1,39 @@
+package com.rvladimir.service.dto;
+
+import io.micronaut.serde.annotation.Serdeable;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A session exercise whose notes match a search.
+ */
+@Serdeable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NoteMatchDTO {
+
+    @Schema(description = "ID of the matching session exercise", example = "42")
+    private Long sessionExerciseId;
+
+    @Schema(description = "ID of the training session holding the session exercise", example = "7")
+    private Long trainingSessionId;
+
+    @Schema(description = "ID of the catalog exercise", example = "3")
+    private Long exerciseId;
+
+    @Schema(description = "When the session exercise was recorded")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "Relevance of the notes to the search; higher is better", example = "0.1")
+    private float rank;
+
+    @Schema(description = "Excerpts of the notes with matched words between « and »; plain text, not HTML",
+        example = "left knee felt «sore» after the last set")
+    private String highlight;
+}
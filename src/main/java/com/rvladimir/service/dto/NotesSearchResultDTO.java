@@ -0,0 +1,29 @@
+package com.rvladimir.service.dto;
+
+import io.micronaut.serde.annotation.Serdeable;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One page of the session exercises whose notes match a search, best match first.
+ */
+@Serdeable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotesSearchResultDTO {
+
+    @Schema(description = "Matching session exercises, best match first")
+    private List<NoteMatchDTO> matches;
+
+    @Schema(description = "Opaque cursor for the next page; null when there are no matches")
+    private String cursor;
+
+    @Schema(description = "Whether more matches follow the returned cursor", example = "false")
+    private boolean hasMore;
+}
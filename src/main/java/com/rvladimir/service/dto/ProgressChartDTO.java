@@ -0,0 +1,34 @@
+package com.rvladimir.service.dto;
+
+import com.rvladimir.progress.ProgressMetric;
+
+import io.micronaut.serde.annotation.Serdeable;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress of a user on one catalog exercise, downsampled for charting.
+ */
+@Serdeable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgressChartDTO {
+
+    @Schema(description = "ID of the catalog exercise", example = "12")
+    private Long exerciseId;
+
+    @Schema(description = "The plotted metric", example = "WEIGHT")
+    private ProgressMetric metric;
+
+    @Schema(description = "Number of session exercises in the range before downsampling", example = "4210")
+    private int total;
+
+    @Schema(description = "Points oldest first, at most the requested number")
+    private List<ProgressPointDTO> points;
+}
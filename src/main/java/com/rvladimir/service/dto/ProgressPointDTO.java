@@ -0,0 +1,27 @@
+package com.rvladimir.service.dto;
+
+import io.micronaut.serde.annotation.Serdeable;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One point of a progress chart.
+ */
+@Serdeable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgressPointDTO {
+
+    @Schema(description = "Start of the training session", example = "2026-10-18T07:30:00")
+    private LocalDateTime time;
+
+    @Schema(description = "Value of the metric: weight as logged, repetitions, kilometers or seconds",
+        example = "82.5")
+    private double value;
+}
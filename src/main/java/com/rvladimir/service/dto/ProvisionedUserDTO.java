@@ -0,0 +1,50 @@
+package com.rvladimir.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.micronaut.serde.annotation.Serdeable;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of provisioning one user of a bulk request.
+ */
+@Serdeable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProvisionedUserDTO {
+
+    @Schema(description = "Zero-based position of the user in the request", example = "0")
+    private int index;
+
+    @Schema(description = "Email of the user as requested", example = "tony.stark@gmail.com")
+    private String email;
+
+    @Schema(description = "What happened to the user")
+    private Outcome outcome;
+
+    @Schema(description = "ID of the created user", example = "42")
+    private Long userId;
+
+    @Schema(description = "Why the user was not created", example = "Duplicate value for email")
+    private String message;
+
+    /**
+     * Outcome of a provisioned user.
+     */
+    public enum Outcome {
+        /** The user was created. */
+        CREATED,
+        /** The email or nickname is taken, or repeated earlier in the request. */
+        DUPLICATE,
+        /** The user data failed validation. */
+        INVALID,
+        /** The insert failed. */
+        FAILED
+    }
+}
@@ -1,7 +1,10 @@
 package com.rvladimir.service.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.rvladimir.domain.SessionExercise;
 import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.web.codec.SparseFieldsetFilter;
 
 import io.micronaut.serde.annotation.Serdeable;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -18,6 +21,8 @@ import lombok.NoArgsConstructor;
  */
 @Data
 @Serdeable
+@JsonInclude(JsonInclude.Include.ALWAYS)
+@JsonFilter(SparseFieldsetFilter.NAME)
 @NoArgsConstructor
 @AllArgsConstructor
 @Schema(description = "Session exercise response payload")
@@ -82,4 +87,10 @@ public class SessionExerciseDTO {
 
     @Schema(description = "Optional notes about this exercise execution", example = "Focus on form")
     private String notes;
+
+    /**
+     * A session exercise narrowed to a sparse fieldset. Serialized without the properties left unset.
+     */
+    public static class Sparse extends SessionExerciseDTO implements SparseFieldset {
+    }
 }
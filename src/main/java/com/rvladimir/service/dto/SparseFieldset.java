@@ -0,0 +1,8 @@
+package com.rvladimir.service.dto;
+
+/**
+ * Marks a DTO narrowed to the properties requested through a {@code fields} parameter. Properties the projection
+ * left unset are not serialized; DTOs that are not narrowed serialize every property.
+ */
+public interface SparseFieldset {
+}
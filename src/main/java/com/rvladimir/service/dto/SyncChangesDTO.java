@@ -0,0 +1,39 @@
+package com.rvladimir.service.dto;
+
+import io.micronaut.serde.annotation.Serdeable;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One page of the changes of a user's training data since a sync cursor.
+ * Entities changed several times appear once, in their latest state.
+ */
+@Serdeable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncChangesDTO {
+
+    @Schema(description = "Training sessions created or updated since the cursor")
+    private List<TrainingSessionDTO> trainingSessions;
+
+    @Schema(description = "Session exercises created or updated since the cursor")
+    private List<SessionExerciseDTO> sessionExercises;
+
+    @Schema(description = "IDs of training sessions deleted since the cursor")
+    private List<Long> deletedTrainingSessionIds;
+
+    @Schema(description = "IDs of session exercises deleted since the cursor")
+    private List<Long> deletedSessionExerciseIds;
+
+    @Schema(description = "Opaque cursor to pass on the next sync; unchanged when there were no changes")
+    private String cursor;
+
+    @Schema(description = "Whether more changes are available right away with the returned cursor", example = "false")
+    private boolean hasMore;
+}
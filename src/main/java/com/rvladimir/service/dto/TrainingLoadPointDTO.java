@@ -0,0 +1,36 @@
+package com.rvladimir.service.dto;
+
+import io.micronaut.serde.annotation.Serdeable;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Training load of a user on one day.
+ */
+@Serdeable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainingLoadPointDTO {
+
+    @Schema(description = "The day", example = "2026-10-18")
+    private LocalDate day;
+
+    @Schema(description = "Load of the day in arbitrary units: minutes of work plus lifted volume scaled to minutes",
+        example = "64.5")
+    private double load;
+
+    @Schema(description = "Acute (fatigue) exponentially weighted average of daily loads", example = "31.2")
+    private double acute;
+
+    @Schema(description = "Chronic (fitness) exponentially weighted average of daily loads", example = "27.9")
+    private double chronic;
+
+    @Schema(description = "Acute:chronic workload ratio, or null while the chronic average is 0", example = "1.12")
+    private Double ratio;
+}
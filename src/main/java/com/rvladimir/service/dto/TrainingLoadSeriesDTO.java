@@ -0,0 +1,29 @@
+package com.rvladimir.service.dto;
+
+import io.micronaut.serde.annotation.Serdeable;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Daily training load of a user over a range of days.
+ */
+@Serdeable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainingLoadSeriesDTO {
+
+    @Schema(description = "Span of the acute average, in days", example = "7")
+    private int acuteDays;
+
+    @Schema(description = "Span of the chronic average, in days", example = "28")
+    private int chronicDays;
+
+    @Schema(description = "One point per day of the range, oldest first")
+    private List<TrainingLoadPointDTO> points;
+}
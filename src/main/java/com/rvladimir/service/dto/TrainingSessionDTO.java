@@ -1,6 +1,9 @@
 package com.rvladimir.service.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.web.codec.SparseFieldsetFilter;
 
 import io.micronaut.serde.annotation.Serdeable;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -14,6 +17,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Serdeable
+@JsonInclude(JsonInclude.Include.ALWAYS)
+@JsonFilter(SparseFieldsetFilter.NAME)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -41,4 +46,10 @@ public class TrainingSessionDTO {
     @Schema(description = "The timestamp when the training session was created", example = "2026-01-13T10:30:00",
         accessMode = Schema.AccessMode.READ_ONLY)
     private LocalDateTime createdAt;
+
+    /**
+     * A training session narrowed to a sparse fieldset. Serialized without the properties left unset.
+     */
+    public static class Sparse extends TrainingSessionDTO implements SparseFieldset {
+    }
 }
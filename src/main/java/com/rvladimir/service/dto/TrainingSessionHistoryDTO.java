@@ -0,0 +1,29 @@
+package com.rvladimir.service.dto;
+
+import io.micronaut.serde.annotation.Serdeable;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A training session together with its session exercises, as listed in the history or among templates.
+ */
+@Serdeable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainingSessionHistoryDTO {
+
+    @Schema(description = "The training session")
+    private TrainingSessionDTO trainingSession;
+
+    @Schema(description = "The session exercises of the training session in execution order")
+    private List<SessionExerciseDTO> sessionExercises;
+
+    @Schema(description = "Whether the training session was read from cold storage", example = "false")
+    private boolean archived;
+}
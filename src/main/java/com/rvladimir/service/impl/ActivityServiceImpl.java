@@ -0,0 +1,130 @@
+package com.rvladimir.service.impl;
+
+import com.rvladimir.activity.ActivityCalendar;
+import com.rvladimir.datasource.ReadReplica;
+import com.rvladimir.repository.jdbc.TrainingActivityJdbcRepository;
+import com.rvladimir.service.ActivityService;
+import com.rvladimir.service.dto.ActivityHeatmapDTO;
+import com.rvladimir.service.dto.ActivityStreakDTO;
+import com.rvladimir.web.error.ValidationException;
+
+import io.micronaut.transaction.annotation.Transactional;
+
+import jakarta.inject.Singleton;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Implementation of ActivityService.
+ * Each request reads the stored calendars of a user, at most one small row per year, and answers with bit scans.
+ */
+@Singleton
+@AllArgsConstructor
+public class ActivityServiceImpl implements ActivityService {
+
+    static final int MIN_YEAR = 1900;
+    static final int MAX_YEAR = 9999;
+
+    private final TrainingActivityJdbcRepository trainingActivityJdbcRepository;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @ReadReplica
+    @Transactional(readOnly = true)
+    public ActivityHeatmapDTO getHeatmap(Long userId, int year) {
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            throw new ValidationException(
+                "Year must be between " + MIN_YEAR + " and " + MAX_YEAR, "year", "INVALID_YEAR");
+        }
+        ActivityCalendar calendar = trainingActivityJdbcRepository.findBetween(userId, year, year).stream()
+            .findFirst()
+            .orElseGet(() -> ActivityCalendar.empty(year));
+        return new ActivityHeatmapDTO(year, calendar.activeDays(), calendar.longestStreak(),
+            Arrays.stream(calendar.intensities()).boxed().toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     * Streaks run across year boundaries.
+     */
+    @Override
+    @ReadReplica
+    @Transactional(readOnly = true)
+    public ActivityStreakDTO getStreak(Long userId) {
+        LocalDate today = LocalDate.now();
+        List<ActivityCalendar> calendars =
+            trainingActivityJdbcRepository.findBetween(userId, MIN_YEAR, today.getYear());
+        Map<Integer, ActivityCalendar> byYear = calendars.stream()
+            .collect(Collectors.toMap(ActivityCalendar::getYear, Function.identity()));
+        boolean trainedToday = Optional.ofNullable(byYear.get(today.getYear()))
+            .map(calendar -> calendar.isActive(today))
+            .orElse(false);
+        LocalDate end = today;
+        if (!trainedToday) {
+            end = today.minusDays(1);
+        }
+        return new ActivityStreakDTO(currentStreak(byYear, end), longestStreak(calendars), trainedToday,
+            lastTrainingDay(calendars, today));
+    }
+
+    private static int currentStreak(Map<Integer, ActivityCalendar> byYear, LocalDate end) {
+        int streak = 0;
+        LocalDate day = end;
+        ActivityCalendar calendar = byYear.get(day.getYear());
+        while (calendar != null) {
+            int run = calendar.streakEndingOn(day);
+            streak += run;
+            if (run < day.getDayOfYear()) {
+                break;
+            }
+            day = day.minusDays(run);
+            calendar = byYear.get(day.getYear());
+        }
+        return streak;
+    }
+
+    private static int longestStreak(List<ActivityCalendar> calendars) {
+        int longest = 0;
+        int carried = 0;
+        int previousYear = 0;
+        for (ActivityCalendar calendar : calendars) {
+            if (calendar.getYear() != previousYear + 1) {
+                carried = 0;
+            }
+            int leading = calendar.leadingStreak();
+            longest = Math.max(longest, Math.max(calendar.longestStreak(), carried + leading));
+            if (leading == calendar.length()) {
+                carried += leading;
+            } else {
+                carried = calendar.trailingStreak();
+            }
+            previousYear = calendar.getYear();
+        }
+        return longest;
+    }
+
+    private static LocalDate lastTrainingDay(List<ActivityCalendar> calendars, LocalDate today) {
+        for (int i = calendars.size() - 1; i >= 0; i--) {
+            ActivityCalendar calendar = calendars.get(i);
+            LocalDate upTo = today;
+            if (calendar.getYear() < today.getYear()) {
+                upTo = LocalDate.ofYearDay(calendar.getYear(), calendar.length());
+            }
+            Optional<LocalDate> day = calendar.lastActiveOnOrBefore(upTo);
+            if (day.isPresent()) {
+                return day.get();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,116 @@
+package com.rvladimir.service.impl;
+
+import com.rvladimir.analytics.AnalyticsReport;
+import com.rvladimir.analytics.AnalyticsStore;
+import com.rvladimir.service.AnalyticsService;
+import com.rvladimir.service.dto.AnalyticsReportDTO;
+import com.rvladimir.web.error.ValidationException;
+
+import io.micronaut.context.BeanProvider;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.exceptions.HttpStatusException;
+
+import jakarta.inject.Singleton;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementation of AnalyticsService.
+ * Reports run in-process on the {@link AnalyticsStore}; PostgreSQL is not queried.
+ */
+@Slf4j
+@Singleton
+@AllArgsConstructor
+public class AnalyticsServiceImpl implements AnalyticsService {
+
+    static final int MAX_ROWS = 1000;
+
+    private static final String SNAPSHOT_AT_SQL = "SELECT completed_at FROM snapshot_state";
+
+    private final BeanProvider<AnalyticsStore> analyticsStore;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AnalyticsReportDTO runReport(AnalyticsReport report, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new ValidationException("Range must not end before it starts", "from", "INVALID_RANGE");
+        }
+        if (!analyticsStore.isPresent()) {
+            throw new HttpStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Analytics is disabled");
+        }
+        try {
+            return analyticsStore.get().read(connection -> run(connection, report, from, to));
+        } catch (SQLException ex) {
+            log.warn("Analytics report {} failed: {}", report, ex.getMessage());
+            throw new HttpStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Analytics report failed");
+        }
+    }
+
+    private static AnalyticsReportDTO run(Connection connection, AnalyticsReport report, LocalDate from, LocalDate to)
+        throws SQLException {
+        List<String> columns = new ArrayList<>();
+        List<List<Object>> rows = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(report.getSql())) {
+            statement.setTimestamp(1, Timestamp.valueOf(from.atStartOfDay()));
+            statement.setTimestamp(2, Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+            statement.setMaxRows(MAX_ROWS);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                ResultSetMetaData metaData = resultSet.getMetaData();
+                for (int column = 1; column <= metaData.getColumnCount(); column++) {
+                    columns.add(metaData.getColumnLabel(column));
+                }
+                while (resultSet.next()) {
+                    List<Object> row = new ArrayList<>(columns.size());
+                    for (int column = 1; column <= columns.size(); column++) {
+                        row.add(value(resultSet.getObject(column)));
+                    }
+                    rows.add(row);
+                }
+            }
+        }
+        return new AnalyticsReportDTO(report, from, to, snapshotAt(connection), columns, rows);
+    }
+
+    private static LocalDateTime snapshotAt(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(SNAPSHOT_AT_SQL)) {
+            if (resultSet.next()) {
+                return resultSet.getTimestamp(1).toLocalDateTime();
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Narrows DuckDB values to types every response codec writes: whole numbers to long, decimals to double.
+     */
+    private static Object value(Object value) {
+        if (value instanceof BigInteger || value instanceof Integer || value instanceof Short) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof BigDecimal || value instanceof Float) {
+            return ((Number) value).doubleValue();
+        }
+        if (value == null || value instanceof Number || value instanceof String) {
+            return value;
+        }
+        return value.toString();
+    }
+}
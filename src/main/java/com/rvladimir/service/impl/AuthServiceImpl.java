@@ -2,6 +2,7 @@ package com.rvladimir.service.impl;
 
 import com.rvladimir.domain.User;
 import com.rvladimir.repository.UserRepository;
+import com.rvladimir.security.PasswordHasher;
 import com.rvladimir.service.AuthService;
 import com.rvladimir.service.dto.LoginDTO;
 import com.rvladimir.service.dto.MobileLoginResponseDTO;
@@ -23,8 +24,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-import org.mindrot.jbcrypt.BCrypt;
-
 @Singleton
 @Transactional
 public class AuthServiceImpl implements AuthService {
@@ -33,24 +32,26 @@ public class AuthServiceImpl implements AuthService {
     private final TokenGenerator tokenGenerator;
     private final RefreshTokenGenerator refreshTokenGenerator;
     private final RefreshTokenValidator refreshTokenValidator;
+    private final PasswordHasher passwordHasher;
 
     private static final String INVALID_CREDENTIALS_MSG = "Invalid email or password.";
     private static final String TOKEN_GENERATION_FAILED_MSG = "Failed to generate token";
     private static final String INVALID_REFRESH_TOKEN_MSG = "Invalid or expired refresh token";
     private static final String BEARER_TOKEN_TYPE = "Bearer";
     private static final String USER_ID_CLAIM = "userId";
-    private static final String DUMMY_PASSWORD_HASH = BCrypt.hashpw("dummy-password", BCrypt.gensalt());
 
     public AuthServiceImpl(
         UserRepository userRepository,
         TokenGenerator tokenGenerator,
         RefreshTokenGenerator refreshTokenGenerator,
-        RefreshTokenValidator refreshTokenValidator
+        RefreshTokenValidator refreshTokenValidator,
+        PasswordHasher passwordHasher
     ) {
         this.userRepository = userRepository;
         this.tokenGenerator = tokenGenerator;
         this.refreshTokenGenerator = refreshTokenGenerator;
         this.refreshTokenValidator = refreshTokenValidator;
+        this.passwordHasher = passwordHasher;
     }
 
     @Override
@@ -61,12 +62,13 @@ public class AuthServiceImpl implements AuthService {
         }
 
         Optional<User> userOpt = userRepository.findByEmail(email);
-        String storedHash = userOpt.map(User::getPassword).orElse(DUMMY_PASSWORD_HASH);
-        boolean passwordMatches = BCrypt.checkpw(loginDTO.getPassword(), storedHash);
+        String storedHash = userOpt.map(User::getPassword).orElse(null);
+        boolean passwordMatches = passwordHasher.matches(loginDTO.getPassword(), storedHash);
 
         if (userOpt.isEmpty() || !passwordMatches) {
             throw new HttpStatusException(HttpStatus.UNAUTHORIZED, INVALID_CREDENTIALS_MSG);
         }
+        rehashIfOutdated(userOpt.get(), loginDTO.getPassword());
 
         return generateToken(userOpt.get());
     }
@@ -79,12 +81,13 @@ public class AuthServiceImpl implements AuthService {
         }
 
         Optional<User> userOpt = userRepository.findByEmail(email);
-        String storedHash = userOpt.map(User::getPassword).orElse(DUMMY_PASSWORD_HASH);
-        boolean passwordMatches = BCrypt.checkpw(loginDTO.getPassword(), storedHash);
+        String storedHash = userOpt.map(User::getPassword).orElse(null);
+        boolean passwordMatches = passwordHasher.matches(loginDTO.getPassword(), storedHash);
 
         if (userOpt.isEmpty() || !passwordMatches) {
             throw new HttpStatusException(HttpStatus.UNAUTHORIZED, INVALID_CREDENTIALS_MSG);
         }
+        rehashIfOutdated(userOpt.get(), loginDTO.getPassword());
 
         User user = userOpt.get();
         String accessToken = generateToken(user);
@@ -134,6 +137,16 @@ public class AuthServiceImpl implements AuthService {
         return new TokenResponseDTO(newAccessToken, BEARER_TOKEN_TYPE, newRefreshToken);
     }
 
+    /**
+     * Replaces a hash made at a lower cost than the current one, now that the plain password is known to match.
+     */
+    private void rehashIfOutdated(User user, String password) {
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            user.setPassword(passwordHasher.hash(password));
+            userRepository.update(user);
+        }
+    }
+
     private String generateToken(User user) {
         Map<String, Object> claims = new HashMap<>();
         Instant now = Instant.now();
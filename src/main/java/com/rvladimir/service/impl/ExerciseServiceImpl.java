@@ -1,27 +1,57 @@
 package com.rvladimir.service.impl;
 
+import com.rvladimir.datasource.ReadReplica;
 import com.rvladimir.domain.Exercise;
+import com.rvladimir.domain.TypeOfExercise;
 import com.rvladimir.repository.ExerciseRepository;
+import com.rvladimir.repository.jdbc.ColumnProjection;
+import com.rvladimir.repository.jdbc.ExerciseJdbcRepository;
+import com.rvladimir.repository.jdbc.SparseFieldsJdbcRepository;
+import com.rvladimir.search.ExerciseAutocompleteIndex;
 import com.rvladimir.service.ExerciseService;
 import com.rvladimir.service.dto.ExerciseDTO;
 import com.rvladimir.service.mapper.ExerciseMapper;
+import com.rvladimir.web.error.ValidationException;
 
 import io.micronaut.data.model.Page;
 import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
+import io.micronaut.transaction.TransactionDefinition;
 import io.micronaut.transaction.annotation.Transactional;
 
 import jakarta.inject.Singleton;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
 @Singleton
 @Transactional
 public class ExerciseServiceImpl implements ExerciseService {
 
+    private static final String FIELDS_PARAMETER = "fields";
+    private static final String SORT_PARAMETER = "sort";
+    private static final String ID_COLUMN = "id";
+    private static final int MAX_SUGGESTIONS = 50;
+
     private final ExerciseRepository exerciseRepository;
     private final ExerciseMapper exerciseMapper;
+    private final SparseFieldsJdbcRepository sparseFieldsJdbcRepository;
+    private final ExerciseJdbcRepository exerciseJdbcRepository;
+    private final ExerciseAutocompleteIndex autocompleteIndex;
 
-    public ExerciseServiceImpl(ExerciseRepository exerciseRepository, ExerciseMapper exerciseMapper) {
+    public ExerciseServiceImpl(
+        ExerciseRepository exerciseRepository,
+        ExerciseMapper exerciseMapper,
+        SparseFieldsJdbcRepository sparseFieldsJdbcRepository,
+        ExerciseJdbcRepository exerciseJdbcRepository,
+        ExerciseAutocompleteIndex autocompleteIndex
+    ) {
         this.exerciseRepository = exerciseRepository;
         this.exerciseMapper = exerciseMapper;
+        this.sparseFieldsJdbcRepository = sparseFieldsJdbcRepository;
+        this.exerciseJdbcRepository = exerciseJdbcRepository;
+        this.autocompleteIndex = autocompleteIndex;
     }
 
     @Override
@@ -32,9 +62,74 @@ public class ExerciseServiceImpl implements ExerciseService {
     }
 
     @Override
+    @ReadReplica
     @Transactional(readOnly = true)
     public Page<ExerciseDTO> getAll(Pageable pageable) {
         return exerciseRepository.findAll(pageable)
             .map(exerciseMapper::toDto);
     }
+
+    /**
+     * {@inheritDoc}
+     * Only the columns behind the requested properties are read; sorting is limited to catalog properties.
+     */
+    @Override
+    @ReadReplica
+    @Transactional(readOnly = true)
+    public Page<ExerciseDTO> getAll(Pageable pageable, String fields) {
+        Optional<ColumnProjection<ExerciseDTO>> projection = ExerciseMapper.FIELDS.select(fields, FIELDS_PARAMETER);
+        if (projection.isEmpty()) {
+            return getAll(pageable);
+        }
+        List<ExerciseDTO> content = sparseFieldsJdbcRepository.findExercises(
+            projection.get(), orderBy(pageable.getSort()), pageable.getOffset(), pageable.getSize());
+        return Page.of(content, pageable, sparseFieldsJdbcRepository.countExercises());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @ReadReplica
+    @Transactional(readOnly = true)
+    public Page<ExerciseDTO> search(String query, TypeOfExercise type, Pageable pageable) {
+        if (query == null || query.isBlank()) {
+            throw new ValidationException("Search query must not be blank", "q", "INVALID_QUERY");
+        }
+        String typeName = null;
+        if (type != null) {
+            typeName = type.name();
+        }
+        List<ExerciseDTO> content = exerciseJdbcRepository.search(query, typeName, pageable.getSize(),
+                pageable.getOffset()).stream()
+            .map(exerciseMapper::rowToDto)
+            .toList();
+        return Page.of(content, pageable, exerciseJdbcRepository.countSearch(query, typeName));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Served from memory without a transaction or database round trip.
+     */
+    @Override
+    @Transactional(propagation = TransactionDefinition.Propagation.SUPPORTS)
+    public List<ExerciseDTO> autocomplete(String prefix, TypeOfExercise type, int limit) {
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new ValidationException(
+                "Limit must be between 1 and " + MAX_SUGGESTIONS, "limit", "INVALID_LIMIT");
+        }
+        return autocompleteIndex.suggest(prefix, type, limit);
+    }
+
+    private static String orderBy(Sort sort) {
+        List<String> orders = new ArrayList<>();
+        for (Sort.Order order : sort.getOrderBy()) {
+            String column = ExerciseMapper.FIELDS.column(order.getProperty())
+                .orElseThrow(() -> new ValidationException(
+                    "Cannot sort by " + order.getProperty(), SORT_PARAMETER, "INVALID_SORT"));
+            orders.add(column + " " + order.getDirection().name());
+        }
+        orders.add(ID_COLUMN);
+        return String.join(", ", orders);
+    }
 }
@@ -0,0 +1,88 @@
+package com.rvladimir.service.impl;
+
+import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.leaderboard.LeaderboardMetric;
+import com.rvladimir.leaderboard.Leaderboards;
+import com.rvladimir.leaderboard.RankedBoard;
+import com.rvladimir.service.LeaderboardService;
+import com.rvladimir.service.dto.LeaderboardDTO;
+import com.rvladimir.service.dto.LeaderboardEntryDTO;
+import com.rvladimir.web.error.ValidationException;
+
+import jakarta.inject.Singleton;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Implementation of LeaderboardService.
+ * Served from the in-memory boards of {@link Leaderboards}; no request touches the database.
+ */
+@Singleton
+@AllArgsConstructor
+public class LeaderboardServiceImpl implements LeaderboardService {
+
+    static final int MAX_LIMIT = 100;
+
+    private final Leaderboards leaderboards;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LeaderboardDTO getLeaderboard(
+        Long exerciseId,
+        TypeOfExercise type,
+        LeaderboardMetric metric,
+        int limit,
+        List<Long> userIds
+    ) {
+        String name = boardName(exerciseId, type, metric);
+        Optional<RankedBoard> board = leaderboards.board(name);
+        if (userIds != null) {
+            if (userIds.size() > MAX_LIMIT) {
+                throw new ValidationException(
+                    "At most " + MAX_LIMIT + " users per request", "userIds", "INVALID_USER_IDS");
+            }
+            List<LeaderboardEntryDTO> entries = userIds.stream()
+                .distinct()
+                .flatMap(userId -> board.flatMap(ranked -> ranked.entry(userId)).stream())
+                .sorted(Comparator.comparingInt(LeaderboardEntryDTO::getRank))
+                .toList();
+            return new LeaderboardDTO(name, board.map(RankedBoard::size).orElse(0), entries);
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ValidationException("Limit must be between 1 and " + MAX_LIMIT, "limit", "INVALID_LIMIT");
+        }
+        if (board.isEmpty()) {
+            return new LeaderboardDTO(name, 0, List.of());
+        }
+        return new LeaderboardDTO(name, board.get().size(), board.get().range(1, limit));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LeaderboardEntryDTO getRank(Long exerciseId, TypeOfExercise type, LeaderboardMetric metric, Long userId) {
+        return leaderboards.board(boardName(exerciseId, type, metric))
+            .flatMap(board -> board.entry(userId))
+            .orElseThrow(() -> new ValidationException(
+                "User has no score on this leaderboard", "userId", "NOT_FOUND"));
+    }
+
+    private static String boardName(Long exerciseId, TypeOfExercise type, LeaderboardMetric metric) {
+        boolean byExercise = exerciseId != null;
+        if (byExercise == (type != null)) {
+            throw new ValidationException(
+                "Select a leaderboard by either exerciseId or type", "exerciseId", "INVALID_BOARD");
+        }
+        if (byExercise) {
+            return Leaderboards.exerciseBoard(exerciseId, metric);
+        }
+        return Leaderboards.typeBoard(type, metric);
+    }
+}
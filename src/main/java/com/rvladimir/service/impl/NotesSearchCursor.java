@@ -0,0 +1,67 @@
+package com.rvladimir.service.impl;
+
+import com.rvladimir.repository.row.NoteMatchRow;
+import com.rvladimir.web.error.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Position in the results of a notes search: the rank and ID of the last match a client has received.
+ * Clients get it as an opaque, URL-safe string and must not depend on its content.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+final class NotesSearchCursor {
+
+    /** Position before the best match, used for the first page. */
+    static final NotesSearchCursor START = new NotesSearchCursor(Float.POSITIVE_INFINITY, Long.MAX_VALUE);
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = ":";
+    private static final int PARTS = 3;
+    private static final String CURSOR_FIELD = "cursor";
+    private static final String INVALID_CURSOR = "INVALID_CURSOR";
+
+    private final float rank;
+    private final long id;
+
+    /**
+     * Creates the cursor pointing at a match.
+     */
+    static NotesSearchCursor of(NoteMatchRow match) {
+        return new NotesSearchCursor(match.getRank(), match.getId());
+    }
+
+    /**
+     * Parses a cursor returned by an earlier page; a missing cursor means the first page.
+     * @throws ValidationException if the cursor was not issued by this server
+     */
+    static NotesSearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        try {
+            String plain = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = plain.split(SEPARATOR, -1);
+            if (parts.length != PARTS || !VERSION.equals(parts[0]) || Float.isNaN(Float.parseFloat(parts[1]))) {
+                throw new ValidationException("Unsupported search cursor", CURSOR_FIELD, INVALID_CURSOR);
+            }
+            return new NotesSearchCursor(Float.parseFloat(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException ex) {
+            throw new ValidationException("Malformed search cursor", CURSOR_FIELD, INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * Encodes the cursor for clients.
+     */
+    String encode() {
+        String plain = String.join(SEPARATOR, VERSION, Float.toString(rank), Long.toString(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(plain.getBytes(StandardCharsets.UTF_8));
+    }
+}
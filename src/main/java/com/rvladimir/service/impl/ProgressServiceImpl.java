@@ -0,0 +1,124 @@
+package com.rvladimir.service.impl;
+
+import com.rvladimir.archive.ArchiveReader;
+import com.rvladimir.archive.ArchivedSessions;
+import com.rvladimir.datasource.ReadReplica;
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.progress.LargestTriangleThreeBuckets;
+import com.rvladimir.progress.ProgressMetric;
+import com.rvladimir.progress.SeriesBuffer;
+import com.rvladimir.repository.jdbc.ArchiveManifestJdbcRepository;
+import com.rvladimir.repository.jdbc.ProgressJdbcRepository;
+import com.rvladimir.repository.row.ArchiveManifestRow;
+import com.rvladimir.repository.row.SessionExerciseRow;
+import com.rvladimir.repository.row.TrainingSessionRow;
+import com.rvladimir.service.ProgressService;
+import com.rvladimir.service.dto.ProgressChartDTO;
+import com.rvladimir.service.dto.ProgressPointDTO;
+import com.rvladimir.web.error.ValidationException;
+
+import io.micronaut.transaction.annotation.Transactional;
+
+import jakarta.inject.Singleton;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Implementation of ProgressService.
+ * The series is buffered in primitive arrays and downsampled with Largest-Triangle-Three-Buckets, so the response
+ * size is bounded by the requested number of points however long the history is. Training sessions moved to the
+ * archive are read back from the archive files listed for the range and merged in, so charts reach past the archive
+ * horizon.
+ */
+@Singleton
+@AllArgsConstructor
+public class ProgressServiceImpl implements ProgressService {
+
+    static final int MAX_POINTS = 1000;
+
+    private final ProgressJdbcRepository progressJdbcRepository;
+    private final ArchiveManifestJdbcRepository archiveManifestJdbcRepository;
+    private final ArchiveReader archiveReader;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @ReadReplica
+    @Transactional(readOnly = true)
+    public ProgressChartDTO getChart(
+        Long userId,
+        Long exerciseId,
+        ProgressMetric metric,
+        LocalDate from,
+        LocalDate to,
+        int points
+    ) {
+        if (points < LargestTriangleThreeBuckets.MIN_THRESHOLD || points > MAX_POINTS) {
+            throw new ValidationException(
+                "Points must be between " + LargestTriangleThreeBuckets.MIN_THRESHOLD + " and " + MAX_POINTS,
+                "points", "INVALID_POINTS");
+        }
+        if (from.isAfter(to)) {
+            throw new ValidationException("Range must not end before it starts", "from", "INVALID_RANGE");
+        }
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        SeriesBuffer series = SeriesBuffer.merge(
+            findArchivedSeries(userId, exerciseId, metric, start, end),
+            progressJdbcRepository.findSeries(userId, exerciseId, metric, start, end));
+        SeriesBuffer sampled = LargestTriangleThreeBuckets.downsample(series, points);
+        List<ProgressPointDTO> chart = new ArrayList<>(sampled.size());
+        for (int i = 0; i < sampled.size(); i++) {
+            chart.add(new ProgressPointDTO(sampled.dateTime(i), sampled.value(i)));
+        }
+        return new ProgressChartDTO(exerciseId, metric, series.size(), chart);
+    }
+
+    /**
+     * Reads a series from the archived training sessions, with the filters of the series query.
+     */
+    private SeriesBuffer findArchivedSeries(
+        long userId,
+        long exerciseId,
+        ProgressMetric metric,
+        LocalDateTime start,
+        LocalDateTime end
+    ) {
+        List<ArchivedPoint> points = new ArrayList<>();
+        for (ArchiveManifestRow manifest : archiveManifestJdbcRepository.findOverlapping(userId, start, end)) {
+            ArchivedSessions archive = archiveReader.read(manifest.getStorageKey());
+            Map<Long, TrainingSessionRow> sessions = archive.getTrainingSessions().stream()
+                .filter(session -> session.getStatus() != TrainingSession.Status.IS_TEMPLATE)
+                .filter(session -> !session.getCreatedAt().isBefore(start) && session.getCreatedAt().isBefore(end))
+                .collect(Collectors.toMap(TrainingSessionRow::getId, Function.identity()));
+            for (SessionExerciseRow exercise : archive.getSessionExercises()) {
+                TrainingSessionRow session = sessions.get(exercise.getTrainingSessionId());
+                double value = metric.read(exercise);
+                if (session != null && exercise.getExerciseId() != null && exercise.getExerciseId() == exerciseId &&
+                    exercise.getStatus() != SessionExercise.Status.NOT_FINISHED && value > 0) {
+                    points.add(new ArchivedPoint(session.getCreatedAt(), exercise.getCreatedAt(), value));
+                }
+            }
+        }
+        points.sort(Comparator.comparing(ArchivedPoint::sessionStart)
+            .thenComparing(ArchivedPoint::performedAt, Comparator.nullsLast(Comparator.naturalOrder())));
+        SeriesBuffer series = new SeriesBuffer(points.size());
+        points.forEach(point -> series.add(point.sessionStart(), point.value()));
+        return series;
+    }
+
+    /** A point of an archived session exercise, ordered like the series query orders its rows. */
+    private record ArchivedPoint(LocalDateTime sessionStart, LocalDateTime performedAt, double value) {
+    }
+}
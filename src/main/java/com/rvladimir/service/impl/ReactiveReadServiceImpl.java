@@ -0,0 +1,52 @@
+package com.rvladimir.service.impl;
+
+import com.rvladimir.constants.TtrackConstants;
+import com.rvladimir.repository.reactive.ExerciseReactiveRepository;
+import com.rvladimir.repository.reactive.SessionExerciseReactiveRepository;
+import com.rvladimir.service.ReactiveReadService;
+import com.rvladimir.service.dto.ExerciseDTO;
+import com.rvladimir.service.dto.SessionExerciseDTO;
+import com.rvladimir.service.mapper.ExerciseMapper;
+import com.rvladimir.service.mapper.SessionExerciseMapper;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
+
+import jakarta.inject.Singleton;
+
+import lombok.AllArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementation of ReactiveReadService backed by the R2DBC repositories.
+ */
+@Singleton
+@AllArgsConstructor
+@Requires(property = TtrackConstants.REACTIVE_READS_ENABLED_PROPERTY, value = "true")
+public class ReactiveReadServiceImpl implements ReactiveReadService {
+
+    private final SessionExerciseReactiveRepository sessionExerciseReactiveRepository;
+    private final ExerciseReactiveRepository exerciseReactiveRepository;
+    private final SessionExerciseMapper sessionExerciseMapper;
+    private final ExerciseMapper exerciseMapper;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Flux<SessionExerciseDTO> getSessionExercisesByTrainingSession(Long trainingSessionId) {
+        return sessionExerciseReactiveRepository.findByTrainingSessionIdOrderByExerciseOrder(trainingSessionId)
+            .map(sessionExerciseMapper::rowToDto);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<Page<ExerciseDTO>> getExercises(Pageable pageable) {
+        return exerciseReactiveRepository.findAll(pageable)
+            .map(page -> page.map(exerciseMapper::rowToDto));
+    }
+}
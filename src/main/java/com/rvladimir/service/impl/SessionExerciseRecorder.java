@@ -0,0 +1,39 @@
+package com.rvladimir.service.impl;
+
+import com.rvladimir.cache.TemplateCache;
+import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.outbox.Outbox;
+import com.rvladimir.repository.row.SessionExerciseRow;
+import com.rvladimir.repository.row.TrainingSessionRow;
+
+import jakarta.inject.Singleton;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Records saved session exercises in everything derived from them, for every path that inserts them. Every exercise
+ * is recorded in the outbox, whose subscribers update the leaderboards, the training load and the activity calendar
+ * off the request path. Exercises of a template also invalidate the template cache right away, so the next read of
+ * the user's templates, typically by the same client, already sees them. Must be called within the writing transaction.
+ */
+@Singleton
+@AllArgsConstructor
+public class SessionExerciseRecorder {
+
+    private final TemplateCache templateCache;
+    private final Outbox outbox;
+
+    /**
+     * Records the exercises saved in a training session or template.
+     * @param session the training session or template
+     * @param exercises the saved session exercises, possibly none
+     */
+    public void record(TrainingSessionRow session, List<SessionExerciseRow> exercises) {
+        if (session.getStatus() == TrainingSession.Status.IS_TEMPLATE) {
+            templateCache.invalidate(session.getUserId());
+        }
+        exercises.forEach(exercise -> outbox.sessionExerciseSaved(session, exercise));
+    }
+}
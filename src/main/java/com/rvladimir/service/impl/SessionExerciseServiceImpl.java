@@ -1,18 +1,23 @@
 package com.rvladimir.service.impl;
 
-import com.rvladimir.domain.Exercise;
-import com.rvladimir.domain.SessionExercise;
-import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.datasource.ReadReplica;
 import com.rvladimir.repository.ExerciseRepository;
-import com.rvladimir.repository.SessionExerciseRepository;
-import com.rvladimir.repository.TrainingSessionRepository;
+import com.rvladimir.repository.jdbc.SessionExerciseJdbcRepository;
+import com.rvladimir.repository.jdbc.SparseFieldsJdbcRepository;
+import com.rvladimir.repository.jdbc.TrainingSessionJdbcRepository;
+import com.rvladimir.repository.row.NoteMatchRow;
+import com.rvladimir.repository.row.SessionExerciseRow;
+import com.rvladimir.repository.row.TrainingSessionRow;
 import com.rvladimir.service.SessionExerciseService;
 import com.rvladimir.service.dto.CreateSessionExerciseDTO;
+import com.rvladimir.service.dto.NotesSearchResultDTO;
 import com.rvladimir.service.dto.SessionExerciseDTO;
 import com.rvladimir.service.mapper.SessionExerciseMapper;
+import com.rvladimir.web.error.ValidationException;
+
+import io.micronaut.transaction.annotation.Transactional;
 
 import jakarta.inject.Singleton;
-import jakarta.transaction.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -22,15 +27,24 @@ import lombok.AllArgsConstructor;
 
 /**
  * Implementation of SessionExerciseService.
+ * Inserts and listings go through the JDBC repositories; the catalog exercise lookup
+ * stays on JPA so it is served from the second-level cache. Saved session exercises are
+ * recorded through {@link SessionExerciseRecorder}.
  */
 @Singleton
 @AllArgsConstructor
 public class SessionExerciseServiceImpl implements SessionExerciseService {
 
-    private final SessionExerciseRepository sessionExerciseRepository;
+    static final int MAX_SEARCH_LIMIT = 100;
+
+    private static final String FIELDS_PARAMETER = "fields";
+
+    private final SessionExerciseJdbcRepository sessionExerciseJdbcRepository;
     private final ExerciseRepository exerciseRepository;
-    private final TrainingSessionRepository trainingSessionRepository;
+    private final TrainingSessionJdbcRepository trainingSessionJdbcRepository;
     private final SessionExerciseMapper sessionExerciseMapper;
+    private final SparseFieldsJdbcRepository sparseFieldsJdbcRepository;
+    private final SessionExerciseRecorder sessionExerciseRecorder;
 
     /**
      * {@inheritDoc}
@@ -38,24 +52,72 @@ public class SessionExerciseServiceImpl implements SessionExerciseService {
     @Override
     @Transactional
     public SessionExerciseDTO createSessionExercise(Long trainingSessionId, CreateSessionExerciseDTO dto) {
-        Optional<Exercise> exerciseOpt = exerciseRepository.findById(dto.getExerciseId());
-        Optional<TrainingSession> trainingSessionOpt = trainingSessionRepository.findById(trainingSessionId);
-        if (exerciseOpt.isEmpty() || trainingSessionOpt.isEmpty()) {
+        boolean exerciseExists = exerciseRepository.findById(dto.getExerciseId()).isPresent();
+        Optional<TrainingSessionRow> trainingSession = trainingSessionJdbcRepository.findById(trainingSessionId);
+        if (!exerciseExists || trainingSession.isEmpty()) {
             throw new IllegalArgumentException("Exercise or TrainingSession not found");
         }
-        SessionExercise entity = sessionExerciseMapper.toEntity(dto, exerciseOpt.get(), trainingSessionOpt.get());
-        SessionExercise saved = sessionExerciseRepository.save(entity);
-        return sessionExerciseMapper.toDto(saved);
+        SessionExerciseRow row = sessionExerciseMapper.toRow(dto, trainingSessionId);
+        SessionExerciseRow saved = sessionExerciseJdbcRepository.save(row);
+        sessionExerciseRecorder.record(trainingSession.get(), List.of(saved));
+        return sessionExerciseMapper.rowToDto(saved);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
+    @ReadReplica
+    @Transactional(readOnly = true)
     public List<SessionExerciseDTO> getSessionExercisesByTrainingSession(Long trainingSessionId) {
-        List<SessionExercise> entities = sessionExerciseRepository.findByTrainingSessionId(trainingSessionId);
-        return entities.stream()
-                .map(sessionExerciseMapper::toDto)
+        List<SessionExerciseRow> rows =
+            sessionExerciseJdbcRepository.findByTrainingSessionIdOrderByExerciseOrder(trainingSessionId);
+        return rows.stream()
+                .map(sessionExerciseMapper::rowToDto)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * {@inheritDoc}
+     * Only the columns behind the requested properties are read.
+     */
+    @Override
+    @ReadReplica
+    @Transactional(readOnly = true)
+    public List<SessionExerciseDTO> getSessionExercisesByTrainingSession(Long trainingSessionId, String fields) {
+        return SessionExerciseMapper.FIELDS.select(fields, FIELDS_PARAMETER)
+            .map(projection ->
+                sparseFieldsJdbcRepository.findSessionExercisesByTrainingSession(projection, trainingSessionId))
+            .orElseGet(() -> getSessionExercisesByTrainingSession(trainingSessionId));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Pages are keyed on rank and ID, so deep pages cost the same as the first.
+     */
+    @Override
+    @ReadReplica
+    @Transactional(readOnly = true)
+    public NotesSearchResultDTO searchNotes(Long userId, String query, String cursor, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new ValidationException("Search query must not be blank", "q", "INVALID_QUERY");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new ValidationException("Limit must be between 1 and " + MAX_SEARCH_LIMIT, "limit", "INVALID_LIMIT");
+        }
+        NotesSearchCursor position = NotesSearchCursor.decode(cursor);
+
+        List<NoteMatchRow> matches = sessionExerciseJdbcRepository.searchNotes(
+            userId, query.strip(), position.getRank(), position.getId(), limit + 1);
+        boolean hasMore = matches.size() > limit;
+        if (hasMore) {
+            matches = matches.subList(0, limit);
+        }
+        String next = null;
+        if (!matches.isEmpty()) {
+            next = NotesSearchCursor.of(matches.get(matches.size() - 1)).encode();
+        }
+        return new NotesSearchResultDTO(
+            matches.stream().map(sessionExerciseMapper::matchToDto).toList(), next, hasMore);
+    }
 }
@@ -0,0 +1,71 @@
+package com.rvladimir.service.impl;
+
+import com.rvladimir.repository.row.SyncChangeRow;
+import com.rvladimir.web.error.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Position in a user's sync feed: the last feed entry a client has received.
+ * Clients get it as an opaque, URL-safe string and must not depend on its content.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+final class SyncCursor {
+
+    /** Position before the first feed entry, used for a full sync. */
+    static final SyncCursor START = new SyncCursor(-1L, "", 0L);
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = ":";
+    private static final int PARTS = 4;
+    private static final int SEQ_PART = 1;
+    private static final int TYPE_PART = 2;
+    private static final int ID_PART = 3;
+    private static final String CURSOR_FIELD = "cursor";
+    private static final String INVALID_CURSOR = "INVALID_CURSOR";
+
+    private final long changeSeq;
+    private final String entityType;
+    private final long entityId;
+
+    /**
+     * Creates the cursor pointing at a feed entry.
+     */
+    static SyncCursor of(SyncChangeRow change) {
+        return new SyncCursor(change.getChangeSeq(), change.getEntityType(), change.getEntityId());
+    }
+
+    /**
+     * Parses a cursor returned by an earlier sync; a missing cursor means a full sync.
+     * @throws ValidationException if the cursor was not issued by this server
+     */
+    static SyncCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        try {
+            String plain = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = plain.split(SEPARATOR, -1);
+            if (parts.length != PARTS || !VERSION.equals(parts[0]) || parts[TYPE_PART].isEmpty()) {
+                throw new ValidationException("Unsupported sync cursor", CURSOR_FIELD, INVALID_CURSOR);
+            }
+            return new SyncCursor(Long.parseLong(parts[SEQ_PART]), parts[TYPE_PART], Long.parseLong(parts[ID_PART]));
+        } catch (IllegalArgumentException ex) {
+            throw new ValidationException("Malformed sync cursor", CURSOR_FIELD, INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * Encodes the cursor for clients.
+     */
+    String encode() {
+        String plain = String.join(SEPARATOR, VERSION, Long.toString(changeSeq), entityType, Long.toString(entityId));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(plain.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,100 @@
+package com.rvladimir.service.impl;
+
+import com.rvladimir.repository.jdbc.SessionExerciseJdbcRepository;
+import com.rvladimir.repository.jdbc.TrainingSessionJdbcRepository;
+import com.rvladimir.repository.row.SyncChangeRow;
+import com.rvladimir.service.SyncService;
+import com.rvladimir.service.dto.SessionExerciseDTO;
+import com.rvladimir.service.dto.SyncChangesDTO;
+import com.rvladimir.service.dto.TrainingSessionDTO;
+import com.rvladimir.service.mapper.SessionExerciseMapper;
+import com.rvladimir.service.mapper.TrainingSessionMapper;
+import com.rvladimir.web.error.ValidationException;
+
+import io.micronaut.transaction.annotation.Transactional;
+
+import jakarta.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Implementation of SyncService.
+ * Reads a page of the {@code ttrack.sync_change} feed, which database triggers keep up to date on every write,
+ * and loads the current state of the entities it names. Committed changes are numbered right before the read, so a
+ * sync returns every change committed before it started. Runs on the primary, where the changes are numbered.
+ */
+@Singleton
+@AllArgsConstructor
+public class SyncServiceImpl implements SyncService {
+
+    static final String TRAINING_SESSION = "TRAINING_SESSION";
+    static final String SESSION_EXERCISE = "SESSION_EXERCISE";
+    static final int MAX_LIMIT = 1000;
+    static final int SEQUENCE_BATCH = 10_000;
+
+    private final TrainingSessionJdbcRepository trainingSessionJdbcRepository;
+    private final SessionExerciseJdbcRepository sessionExerciseJdbcRepository;
+    private final TrainingSessionMapper trainingSessionMapper;
+    private final SessionExerciseMapper sessionExerciseMapper;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SyncChangesDTO changesSince(Long userId, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ValidationException("Limit must be between 1 and " + MAX_LIMIT, "limit", "INVALID_LIMIT");
+        }
+        SyncCursor position = SyncCursor.decode(cursor);
+
+        trainingSessionJdbcRepository.sequenceSyncChanges(SEQUENCE_BATCH);
+        List<SyncChangeRow> changes = trainingSessionJdbcRepository.findSyncChanges(
+            userId, position.getChangeSeq(), position.getEntityType(), position.getEntityId(), limit + 1);
+        boolean hasMore = changes.size() > limit;
+        if (hasMore) {
+            changes = changes.subList(0, limit);
+        }
+
+        List<Long> trainingSessionIds = new ArrayList<>();
+        List<Long> sessionExerciseIds = new ArrayList<>();
+        List<Long> deletedTrainingSessionIds = new ArrayList<>();
+        List<Long> deletedSessionExerciseIds = new ArrayList<>();
+        for (SyncChangeRow change : changes) {
+            boolean session = TRAINING_SESSION.equals(change.getEntityType());
+            if (session && change.isDeleted()) {
+                deletedTrainingSessionIds.add(change.getEntityId());
+            } else if (session) {
+                trainingSessionIds.add(change.getEntityId());
+            } else if (change.isDeleted()) {
+                deletedSessionExerciseIds.add(change.getEntityId());
+            } else {
+                sessionExerciseIds.add(change.getEntityId());
+            }
+        }
+
+        // Rows deleted since the feed page was read are left out; their tombstones arrive with a later sync
+        List<TrainingSessionDTO> trainingSessions = List.of();
+        if (!trainingSessionIds.isEmpty()) {
+            trainingSessions = trainingSessionJdbcRepository.findByIdIn(trainingSessionIds).stream()
+                .map(trainingSessionMapper::rowToDto)
+                .toList();
+        }
+        List<SessionExerciseDTO> sessionExercises = List.of();
+        if (!sessionExerciseIds.isEmpty()) {
+            sessionExercises = sessionExerciseJdbcRepository.findByIdIn(sessionExerciseIds).stream()
+                .map(sessionExerciseMapper::rowToDto)
+                .toList();
+        }
+
+        SyncCursor next = position;
+        if (!changes.isEmpty()) {
+            next = SyncCursor.of(changes.get(changes.size() - 1));
+        }
+        return new SyncChangesDTO(trainingSessions, sessionExercises, deletedTrainingSessionIds,
+            deletedSessionExerciseIds, next.encode(), hasMore);
+    }
+}
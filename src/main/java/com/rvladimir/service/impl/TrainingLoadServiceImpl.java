@@ -0,0 +1,86 @@
+package com.rvladimir.service.impl;
+
+import com.rvladimir.datasource.ReadReplica;
+import com.rvladimir.load.TrainingLoadConfiguration;
+import com.rvladimir.load.TrainingLoadModel;
+import com.rvladimir.repository.jdbc.TrainingLoadJdbcRepository;
+import com.rvladimir.repository.row.TrainingLoadRow;
+import com.rvladimir.service.TrainingLoadService;
+import com.rvladimir.service.dto.TrainingLoadPointDTO;
+import com.rvladimir.service.dto.TrainingLoadSeriesDTO;
+import com.rvladimir.web.error.ValidationException;
+
+import io.micronaut.transaction.annotation.Transactional;
+
+import jakarta.inject.Singleton;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Implementation of TrainingLoadService.
+ * Reads the stored training days of the range and the last one before it; days without training are derived by
+ * decaying the previous training day, so the cost depends on the range, not on the user's history.
+ */
+@Singleton
+@AllArgsConstructor
+public class TrainingLoadServiceImpl implements TrainingLoadService {
+
+    static final int MAX_DAYS = 366;
+
+    private final TrainingLoadJdbcRepository trainingLoadJdbcRepository;
+    private final TrainingLoadModel model;
+    private final TrainingLoadConfiguration configuration;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @ReadReplica
+    @Transactional(readOnly = true)
+    public TrainingLoadSeriesDTO getSeries(Long userId, LocalDate from, LocalDate to) {
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        if (days < 1 || days > MAX_DAYS) {
+            throw new ValidationException(
+                "Range must span between 1 and " + MAX_DAYS + " days", "from", "INVALID_RANGE");
+        }
+        TrainingLoadRow last = trainingLoadJdbcRepository.findLatestBefore(userId, from).orElse(null);
+        Iterator<TrainingLoadRow> stored = trainingLoadJdbcRepository.findBetween(userId, from, to).iterator();
+        TrainingLoadRow next = nextOrNull(stored);
+        List<TrainingLoadPointDTO> points = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            TrainingLoadRow point;
+            if (next != null && next.getDay().equals(day)) {
+                point = next;
+                last = next;
+                next = nextOrNull(stored);
+            } else if (last != null) {
+                point = model.decay(last, day);
+            } else {
+                point = new TrainingLoadRow(userId, day, 0, 0, 0);
+            }
+            points.add(toPoint(point, day));
+        }
+        return new TrainingLoadSeriesDTO(configuration.getAcuteDays(), configuration.getChronicDays(), points);
+    }
+
+    private static TrainingLoadRow nextOrNull(Iterator<TrainingLoadRow> rows) {
+        if (rows.hasNext()) {
+            return rows.next();
+        }
+        return null;
+    }
+
+    private static TrainingLoadPointDTO toPoint(TrainingLoadRow row, LocalDate day) {
+        Double ratio = null;
+        if (row.getChronic() > 0) {
+            ratio = row.getAcute() / row.getChronic();
+        }
+        return new TrainingLoadPointDTO(day, row.getLoad(), row.getAcute(), row.getChronic(), ratio);
+    }
+}
@@ -0,0 +1,143 @@
+package com.rvladimir.service.impl;
+
+import com.rvladimir.archive.ArchiveStorage;
+import com.rvladimir.archive.ArchivedSessions;
+import com.rvladimir.archive.ColumnarArchiveCodec;
+import com.rvladimir.datasource.ReadReplica;
+import com.rvladimir.repository.jdbc.ArchiveManifestJdbcRepository;
+import com.rvladimir.repository.jdbc.ColumnProjection;
+import com.rvladimir.repository.jdbc.SessionExerciseJdbcRepository;
+import com.rvladimir.repository.jdbc.TrainingSessionJdbcRepository;
+import com.rvladimir.repository.row.ArchiveManifestRow;
+import com.rvladimir.repository.row.SessionExerciseRow;
+import com.rvladimir.repository.row.TrainingSessionRow;
+import com.rvladimir.service.TrainingSessionHistoryService;
+import com.rvladimir.service.dto.SessionExerciseDTO;
+import com.rvladimir.service.dto.TrainingSessionDTO;
+import com.rvladimir.service.dto.TrainingSessionHistoryDTO;
+import com.rvladimir.service.mapper.SessionExerciseMapper;
+import com.rvladimir.service.mapper.TrainingSessionMapper;
+import com.rvladimir.web.error.ValidationException;
+
+import io.micronaut.transaction.annotation.Transactional;
+
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Implementation of TrainingSessionHistoryService.
+ * Hot sessions come from the JDBC repositories; periods listed in the archive manifest are read through
+ * from {@link ArchiveStorage}.
+ */
+@Singleton
+@AllArgsConstructor
+public class TrainingSessionHistoryServiceImpl implements TrainingSessionHistoryService {
+
+    private static final String FIELDS_PARAMETER = "fields";
+    private static final String EXERCISE_FIELDS_PARAMETER = "exerciseFields";
+
+    private final TrainingSessionJdbcRepository trainingSessionJdbcRepository;
+    private final SessionExerciseJdbcRepository sessionExerciseJdbcRepository;
+    private final ArchiveManifestJdbcRepository archiveManifestJdbcRepository;
+    private final ArchiveStorage archiveStorage;
+    private final TrainingSessionMapper trainingSessionMapper;
+    private final SessionExerciseMapper sessionExerciseMapper;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @ReadReplica
+    @Transactional(readOnly = true)
+    public List<TrainingSessionHistoryDTO> getHistory(Long userId, LocalDateTime from, LocalDateTime to) {
+        if (from.isAfter(to)) {
+            throw new ValidationException("Range start must not be after range end", "from", "INVALID_RANGE");
+        }
+
+        List<TrainingSessionHistoryDTO> history = new ArrayList<>();
+        List<TrainingSessionRow> sessions =
+            trainingSessionJdbcRepository.findHistory(userId, from, to);
+        if (!sessions.isEmpty()) {
+            List<Long> ids = sessions.stream().map(TrainingSessionRow::getId).toList();
+            List<SessionExerciseRow> exercises =
+                sessionExerciseJdbcRepository.findByTrainingSessionIds(ids, sessions.get(0).getCreatedAt());
+            history.addAll(toHistory(sessions, exercises, false));
+        }
+
+        for (ArchiveManifestRow manifest : archiveManifestJdbcRepository.findOverlapping(userId, from, to)) {
+            ArchivedSessions archive = readArchive(manifest);
+            List<TrainingSessionRow> archivedInRange = archive.getTrainingSessions().stream()
+                .filter(session -> !session.getCreatedAt().isBefore(from) && !session.getCreatedAt().isAfter(to))
+                .toList();
+            history.addAll(toHistory(archivedInRange, archive.getSessionExercises(), true));
+        }
+
+        history.sort(Comparator.comparing(entry -> entry.getTrainingSession().getCreatedAt()));
+        return history;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Archived sessions are only available as whole rows, so the projection is applied after merging.
+     */
+    @Override
+    @ReadReplica
+    @Transactional(readOnly = true)
+    public List<TrainingSessionHistoryDTO> getHistory(
+            Long userId, LocalDateTime from, LocalDateTime to, String fields, String exerciseFields) {
+        Optional<ColumnProjection<TrainingSessionDTO>> sessionProjection =
+            TrainingSessionMapper.FIELDS.select(fields, FIELDS_PARAMETER);
+        Optional<ColumnProjection<SessionExerciseDTO>> exerciseProjection =
+            SessionExerciseMapper.FIELDS.select(exerciseFields, EXERCISE_FIELDS_PARAMETER);
+        List<TrainingSessionHistoryDTO> history = getHistory(userId, from, to);
+        if (sessionProjection.isEmpty() && exerciseProjection.isEmpty()) {
+            return history;
+        }
+        return history.stream()
+            .map(entry -> new TrainingSessionHistoryDTO(
+                sessionProjection.map(projection -> projection.copy(entry.getTrainingSession()))
+                    .orElse(entry.getTrainingSession()),
+                exerciseProjection.map(projection -> copyAll(projection, entry.getSessionExercises()))
+                    .orElse(entry.getSessionExercises()),
+                entry.isArchived()))
+            .toList();
+    }
+
+    private static <T> List<T> copyAll(ColumnProjection<T> projection, List<T> sources) {
+        return sources.stream().map(projection::copy).toList();
+    }
+
+    private ArchivedSessions readArchive(ArchiveManifestRow manifest) {
+        try {
+            return ColumnarArchiveCodec.decode(archiveStorage.read(manifest.getStorageKey()));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not read archive " + manifest.getStorageKey(), ex);
+        }
+    }
+
+    private List<TrainingSessionHistoryDTO> toHistory(
+            List<TrainingSessionRow> sessions, List<SessionExerciseRow> exercises, boolean archived) {
+        Map<Long, List<SessionExerciseDTO>> exercisesBySession = exercises.stream()
+            .sorted(Comparator.comparing(SessionExerciseRow::getExerciseOrder,
+                Comparator.nullsLast(Comparator.naturalOrder())))
+            .collect(Collectors.groupingBy(SessionExerciseRow::getTrainingSessionId,
+                Collectors.mapping(sessionExerciseMapper::rowToDto, Collectors.toList())));
+        return sessions.stream()
+            .map(session -> new TrainingSessionHistoryDTO(
+                trainingSessionMapper.rowToDto(session),
+                exercisesBySession.getOrDefault(session.getId(), List.of()),
+                archived))
+            .toList();
+    }
+}
@@ -1,18 +1,22 @@
 package com.rvladimir.service.impl;
 
-import com.rvladimir.domain.Exercise;
+import com.rvladimir.cache.TemplateCache;
 import com.rvladimir.domain.SessionExercise;
 import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.outbox.Outbox;
 import com.rvladimir.repository.ExerciseRepository;
-import com.rvladimir.repository.SessionExerciseRepository;
-import com.rvladimir.repository.TrainingSessionRepository;
 import com.rvladimir.repository.UserRepository;
+import com.rvladimir.repository.jdbc.SessionExerciseJdbcRepository;
+import com.rvladimir.repository.jdbc.TrainingSessionJdbcRepository;
+import com.rvladimir.repository.row.SessionExerciseRow;
+import com.rvladimir.repository.row.TrainingSessionRow;
 import com.rvladimir.service.TrainingSessionService;
 import com.rvladimir.service.dto.CreateTrainingSessionDTO;
 import com.rvladimir.service.dto.QuickStartIntervalDTO;
 import com.rvladimir.service.dto.QuickStartIntervalResponseDTO;
 import com.rvladimir.service.dto.SessionExerciseDTO;
 import com.rvladimir.service.dto.TrainingSessionDTO;
+import com.rvladimir.service.dto.TrainingSessionHistoryDTO;
 import com.rvladimir.service.mapper.SessionExerciseMapper;
 import com.rvladimir.service.mapper.TrainingSessionMapper;
 import com.rvladimir.web.error.ValidationException;
@@ -21,7 +25,10 @@ import jakarta.inject.Singleton;
 import jakarta.transaction.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Singleton
 @Transactional
@@ -31,27 +38,37 @@ public class TrainingSessionServiceImpl implements TrainingSessionService {
     private static final String FIELD_USER_ID = "userId";
     private static final String ERROR_NOT_FOUND = "NOT_FOUND";
     private static final String DEFAULT_INTERVAL_LABEL = "INTERVAL";
+    private static final String SESSION_NOT_FOUND = "Training session not found";
 
-    private final TrainingSessionRepository trainingSessionRepository;
+    private final TrainingSessionJdbcRepository trainingSessionJdbcRepository;
     private final UserRepository userRepository;
     private final TrainingSessionMapper trainingSessionMapper;
-    private final SessionExerciseRepository sessionExerciseRepository;
+    private final SessionExerciseJdbcRepository sessionExerciseJdbcRepository;
     private final ExerciseRepository exerciseRepository;
     private final SessionExerciseMapper sessionExerciseMapper;
+    private final TemplateCache templateCache;
+    private final SessionExerciseRecorder sessionExerciseRecorder;
+    private final Outbox outbox;
 
     public TrainingSessionServiceImpl(
-            TrainingSessionRepository trainingSessionRepository,
+            TrainingSessionJdbcRepository trainingSessionJdbcRepository,
             UserRepository userRepository,
             TrainingSessionMapper trainingSessionMapper,
-            SessionExerciseRepository sessionExerciseRepository,
+            SessionExerciseJdbcRepository sessionExerciseJdbcRepository,
             ExerciseRepository exerciseRepository,
-            SessionExerciseMapper sessionExerciseMapper) {
-        this.trainingSessionRepository = trainingSessionRepository;
+            SessionExerciseMapper sessionExerciseMapper,
+            TemplateCache templateCache,
+            SessionExerciseRecorder sessionExerciseRecorder,
+            Outbox outbox) {
+        this.trainingSessionJdbcRepository = trainingSessionJdbcRepository;
         this.userRepository = userRepository;
         this.trainingSessionMapper = trainingSessionMapper;
-        this.sessionExerciseRepository = sessionExerciseRepository;
+        this.sessionExerciseJdbcRepository = sessionExerciseJdbcRepository;
         this.exerciseRepository = exerciseRepository;
         this.sessionExerciseMapper = sessionExerciseMapper;
+        this.templateCache = templateCache;
+        this.sessionExerciseRecorder = sessionExerciseRecorder;
+        this.outbox = outbox;
     }
 
     @Override
@@ -60,9 +77,10 @@ public class TrainingSessionServiceImpl implements TrainingSessionService {
             throw new ValidationException(USER_NOT_FOUND, FIELD_USER_ID, ERROR_NOT_FOUND);
         }
 
-        TrainingSession trainingSession = trainingSessionMapper.toEntity(createTrainingSessionDTO);
-        TrainingSession savedTrainingSession = trainingSessionRepository.save(trainingSession);
-        return trainingSessionMapper.toDto(savedTrainingSession);
+        TrainingSessionRow trainingSession = trainingSessionMapper.toRow(createTrainingSessionDTO);
+        TrainingSessionRow savedTrainingSession = trainingSessionJdbcRepository.save(trainingSession);
+        outbox.trainingSessionCreated(savedTrainingSession);
+        return trainingSessionMapper.rowToDto(savedTrainingSession);
     }
 
     /**
@@ -74,19 +92,90 @@ public class TrainingSessionServiceImpl implements TrainingSessionService {
             throw new ValidationException(USER_NOT_FOUND, FIELD_USER_ID, ERROR_NOT_FOUND);
         }
 
-        TrainingSession session = buildIntervalSession(dto);
-        TrainingSession savedSession = trainingSessionRepository.save(session);
+        TrainingSessionRow session = buildIntervalSession(dto);
+        TrainingSessionRow savedSession = trainingSessionJdbcRepository.save(session);
 
-        SessionExercise exercise = buildIntervalExercise(dto, savedSession);
-        SessionExercise savedExercise = sessionExerciseRepository.save(exercise);
+        SessionExerciseRow exercise = buildIntervalExercise(dto, savedSession);
+        SessionExerciseRow savedExercise = sessionExerciseJdbcRepository.save(exercise);
+        outbox.trainingSessionCreated(savedSession);
+        sessionExerciseRecorder.record(savedSession, List.of(savedExercise));
 
-        TrainingSessionDTO sessionDTO = trainingSessionMapper.toDto(savedSession);
-        SessionExerciseDTO exerciseDTO = sessionExerciseMapper.toDto(savedExercise);
+        TrainingSessionDTO sessionDTO = trainingSessionMapper.rowToDto(savedSession);
+        SessionExerciseDTO exerciseDTO = sessionExerciseMapper.rowToDto(savedExercise);
         return new QuickStartIntervalResponseDTO(sessionDTO, exerciseDTO);
     }
 
-    private TrainingSession buildIntervalSession(QuickStartIntervalDTO dto) {
-        TrainingSession session = new TrainingSession();
+    /**
+     * {@inheritDoc}
+     * Served from the per-user template cache; a hit does not touch the database.
+     */
+    @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<TrainingSessionHistoryDTO> getTemplates(Long userId) {
+        return templateCache.get(userId, this::loadTemplates);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The session and its exercises are copied by a single INSERT ... SELECT statement.
+     */
+    @Override
+    public TrainingSessionHistoryDTO startFromTemplate(Long userId, Long templateId) {
+        TrainingSessionRow session = trainingSessionJdbcRepository.copySession(
+                templateId, userId, true, TrainingSession.Status.STARTED.name(),
+                SessionExercise.Status.STARTED.name(), LocalDateTime.now())
+            .orElseThrow(() -> new ValidationException("Template not found", "templateId", ERROR_NOT_FOUND));
+        return withCopiedExercises(session);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TrainingSessionHistoryDTO saveAsTemplate(Long userId, Long trainingSessionId) {
+        TrainingSessionRow template = trainingSessionJdbcRepository.copySession(
+                trainingSessionId, userId, false, TrainingSession.Status.IS_TEMPLATE.name(),
+                SessionExercise.Status.STARTED.name(), LocalDateTime.now())
+            .orElseThrow(() -> new ValidationException(SESSION_NOT_FOUND, "trainingSessionId", ERROR_NOT_FOUND));
+        return withCopiedExercises(template);
+    }
+
+    private List<TrainingSessionHistoryDTO> loadTemplates(Long userId) {
+        List<TrainingSessionRow> templates = trainingSessionJdbcRepository.findTemplates(userId);
+        if (templates.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = templates.stream().map(TrainingSessionRow::getId).toList();
+        Map<Long, List<SessionExerciseDTO>> exercisesByTemplate = sessionExerciseJdbcRepository
+            .findByTrainingSessionIds(ids, templates.get(0).getCreatedAt()).stream()
+            .sorted(Comparator.comparing(SessionExerciseRow::getExerciseOrder,
+                Comparator.nullsLast(Comparator.naturalOrder())))
+            .collect(Collectors.groupingBy(SessionExerciseRow::getTrainingSessionId,
+                Collectors.mapping(sessionExerciseMapper::rowToDto, Collectors.toList())));
+        return templates.stream()
+            .map(template -> new TrainingSessionHistoryDTO(
+                trainingSessionMapper.rowToDto(template),
+                exercisesByTemplate.getOrDefault(template.getId(), List.of()),
+                false))
+            .toList();
+    }
+
+    /**
+     * Loads the exercises of a copied session and records the copy, exercises included.
+     */
+    private TrainingSessionHistoryDTO withCopiedExercises(TrainingSessionRow session) {
+        List<SessionExerciseRow> rows =
+            sessionExerciseJdbcRepository.findByTrainingSessionIdOrderByExerciseOrder(session.getId());
+        outbox.trainingSessionCreated(session);
+        sessionExerciseRecorder.record(session, rows);
+        List<SessionExerciseDTO> exercises = rows.stream()
+            .map(sessionExerciseMapper::rowToDto)
+            .toList();
+        return new TrainingSessionHistoryDTO(trainingSessionMapper.rowToDto(session), exercises, false);
+    }
+
+    private TrainingSessionRow buildIntervalSession(QuickStartIntervalDTO dto) {
+        TrainingSessionRow session = new TrainingSessionRow();
         String label = DEFAULT_INTERVAL_LABEL;
         if (dto.getTypeOfExercise() != null) {
             label = dto.getTypeOfExercise().name();
@@ -94,27 +183,24 @@ public class TrainingSessionServiceImpl implements TrainingSessionService {
         session.setName("Quick Start – " + label);
         session.setStatus(TrainingSession.Status.STARTED);
         session.setCreatedAt(LocalDateTime.now());
-        com.rvladimir.domain.User user = new com.rvladimir.domain.User();
-        user.setId(dto.getUserId());
-        session.setUser(user);
+        session.setUserId(dto.getUserId());
         return session;
     }
 
-    private SessionExercise buildIntervalExercise(QuickStartIntervalDTO dto, TrainingSession session) {
-        SessionExercise exercise = new SessionExercise();
+    private SessionExerciseRow buildIntervalExercise(QuickStartIntervalDTO dto, TrainingSessionRow session) {
+        SessionExerciseRow exercise = new SessionExerciseRow();
         exercise.setRounds(dto.getRounds());
         exercise.setSprints(dto.getSprints());
         exercise.setDuration(dto.getDuration());
         exercise.setRestTime(dto.getRestTime());
         exercise.setStatus(SessionExercise.Status.STARTED);
         exercise.setExerciseOrder(1);
-        exercise.setTrainingSession(session);
+        exercise.setTrainingSessionId(session.getId());
         exercise.setCreatedAt(LocalDateTime.now());
         exercise.setNotes(dto.getNotes());
         exercise.setTypeOfExercise(dto.getTypeOfExercise());
-        if (dto.getExerciseId() != null) {
-            Optional<Exercise> catalogExercise = exerciseRepository.findById(dto.getExerciseId());
-            catalogExercise.ifPresent(exercise::setExercise);
+        if (dto.getExerciseId() != null && exerciseRepository.findById(dto.getExerciseId()).isPresent()) {
+            exercise.setExerciseId(dto.getExerciseId());
         }
         return exercise;
     }
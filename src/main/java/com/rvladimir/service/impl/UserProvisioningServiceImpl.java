@@ -0,0 +1,207 @@
+package com.rvladimir.service.impl;
+
+import com.rvladimir.domain.User;
+import com.rvladimir.provisioning.PasswordHashingPool;
+import com.rvladimir.provisioning.ProvisioningConfiguration;
+import com.rvladimir.repository.jdbc.UserJdbcRepository;
+import com.rvladimir.repository.row.UserKeyRow;
+import com.rvladimir.repository.row.UserRow;
+import com.rvladimir.service.UserProvisioningService;
+import com.rvladimir.service.dto.CreateUserDTO;
+import com.rvladimir.service.dto.ProvisionedUserDTO;
+import com.rvladimir.service.dto.ProvisionedUserDTO.Outcome;
+import com.rvladimir.web.error.ValidationException;
+
+import io.micronaut.data.exceptions.DataAccessException;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.exceptions.HttpStatusException;
+import io.micronaut.transaction.TransactionOperations;
+
+import jakarta.inject.Singleton;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Implementation of UserProvisioningService.
+ * Duplicates are found with one query for the whole request, passwords are hashed in parallel on
+ * {@link PasswordHashingPool}, and rows are inserted as JDBC batches, one transaction per batch.
+ * A batch that fails, e.g. because another request took an email meanwhile, is retried row by row.
+ * At most {@code ttrack.provisioning.max-concurrent-jobs} requests provision at once, since they share the hashing
+ * pool and the primary; the permit is held until the outcome stream ends.
+ */
+@Slf4j
+@Singleton
+public class UserProvisioningServiceImpl implements UserProvisioningService {
+
+    private static final String DUPLICATE_EMAIL = "Duplicate value for email";
+    private static final String DUPLICATE_NICKNAME = "Duplicate value for nickname";
+
+    private final UserJdbcRepository userJdbcRepository;
+    private final PasswordHashingPool hashingPool;
+    private final ProvisioningConfiguration configuration;
+    private final TransactionOperations<Connection> transactionOperations;
+    private final Validator validator;
+    private final Semaphore jobs;
+
+    public UserProvisioningServiceImpl(
+        UserJdbcRepository userJdbcRepository,
+        PasswordHashingPool hashingPool,
+        ProvisioningConfiguration configuration,
+        TransactionOperations<Connection> transactionOperations,
+        Validator validator
+    ) {
+        this.userJdbcRepository = userJdbcRepository;
+        this.hashingPool = hashingPool;
+        this.configuration = configuration;
+        this.transactionOperations = transactionOperations;
+        this.validator = validator;
+        this.jobs = new Semaphore(Math.max(1, configuration.getMaxConcurrentJobs()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Flux<ProvisionedUserDTO> provision(List<CreateUserDTO> users) {
+        if (users.size() > configuration.getMaxUsers()) {
+            throw new ValidationException(
+                "At most " + configuration.getMaxUsers() + " users per request", "users", "TOO_MANY_USERS");
+        }
+        if (!jobs.tryAcquire()) {
+            throw new HttpStatusException(HttpStatus.TOO_MANY_REQUESTS,
+                "Too many bulk provisioning requests running, retry when one finishes");
+        }
+        try {
+            return provisionValid(users).doFinally(signal -> jobs.release());
+        } catch (RuntimeException ex) {
+            jobs.release();
+            throw ex;
+        }
+    }
+
+    private Flux<ProvisionedUserDTO> provisionValid(List<CreateUserDTO> users) {
+        List<ProvisionedUserDTO> rejected = new ArrayList<>();
+        List<Pending> valid = new ArrayList<>();
+        for (int i = 0; i < users.size(); i++) {
+            CreateUserDTO user = users.get(i);
+            if (user == null) {
+                rejected.add(new ProvisionedUserDTO(i, null, Outcome.INVALID, null, "Missing user"));
+                continue;
+            }
+            Set<ConstraintViolation<CreateUserDTO>> violations = validator.validate(user);
+            if (violations.isEmpty()) {
+                valid.add(new Pending(i, user));
+            } else {
+                rejected.add(new ProvisionedUserDTO(i, user.getEmail(), Outcome.INVALID, null, describe(violations)));
+            }
+        }
+        List<Pending> unique = withoutDuplicates(valid, rejected);
+        return Flux.concat(Flux.fromIterable(rejected), create(unique));
+    }
+
+    private List<Pending> withoutDuplicates(List<Pending> valid, List<ProvisionedUserDTO> rejected) {
+        Set<String> emails = new HashSet<>();
+        Set<String> nicknames = new HashSet<>();
+        if (!valid.isEmpty()) {
+            List<String> requestedEmails = valid.stream().map(pending -> pending.user().getEmail()).toList();
+            List<String> requestedNicknames = valid.stream().map(pending -> pending.user().getNickname()).toList();
+            List<UserKeyRow> taken = transactionOperations.executeRead(
+                status -> userJdbcRepository.findTaken(requestedEmails, requestedNicknames));
+            for (UserKeyRow key : taken) {
+                emails.add(key.getEmail());
+                nicknames.add(key.getNickname());
+            }
+        }
+        List<Pending> unique = new ArrayList<>();
+        for (Pending pending : valid) {
+            String email = pending.user().getEmail();
+            if (emails.contains(email)) {
+                rejected.add(new ProvisionedUserDTO(pending.index(), email, Outcome.DUPLICATE, null, DUPLICATE_EMAIL));
+            } else if (nicknames.contains(pending.user().getNickname())) {
+                rejected.add(
+                    new ProvisionedUserDTO(pending.index(), email, Outcome.DUPLICATE, null, DUPLICATE_NICKNAME));
+            } else {
+                emails.add(email);
+                nicknames.add(pending.user().getNickname());
+                unique.add(pending);
+            }
+        }
+        return unique;
+    }
+
+    private Flux<ProvisionedUserDTO> create(List<Pending> unique) {
+        return Flux.fromIterable(unique)
+            .flatMap(pending -> hashingPool.hash(pending.user().getPassword())
+                .map(hash -> new Hashed(pending.index(), toRow(pending.user(), hash))),
+                hashingPool.getParallelism())
+            .buffer(configuration.getBatchSize())
+            .concatMap(batch -> Mono.fromCallable(() -> insert(batch)).subscribeOn(Schedulers.boundedElastic()))
+            .flatMapIterable(outcomes -> outcomes);
+    }
+
+    private List<ProvisionedUserDTO> insert(List<Hashed> batch) {
+        List<UserRow> rows = batch.stream().map(Hashed::row).toList();
+        try {
+            List<UserRow> saved = transactionOperations.executeWrite(status -> userJdbcRepository.saveAll(rows));
+            List<ProvisionedUserDTO> outcomes = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                outcomes.add(created(batch.get(i), saved.get(i)));
+            }
+            return outcomes;
+        } catch (DataAccessException ex) {
+            log.warn("Inserting a batch of {} users failed, retrying one by one: {}", batch.size(), ex.getMessage());
+            return batch.stream().map(this::insertOne).toList();
+        }
+    }
+
+    private ProvisionedUserDTO insertOne(Hashed hashed) {
+        try {
+            UserRow saved = transactionOperations.executeWrite(status -> userJdbcRepository.save(hashed.row()));
+            return created(hashed, saved);
+        } catch (DataAccessException ex) {
+            return new ProvisionedUserDTO(
+                hashed.index(), hashed.row().getEmail(), Outcome.FAILED, null, ex.getMessage());
+        }
+    }
+
+    private static ProvisionedUserDTO created(Hashed hashed, UserRow saved) {
+        return new ProvisionedUserDTO(hashed.index(), saved.getEmail(), Outcome.CREATED, saved.getId(), null);
+    }
+
+    private static UserRow toRow(CreateUserDTO user, String passwordHash) {
+        return new UserRow(null, user.getName(), user.getLastname(), user.getNickname(), user.getDateBirth(),
+            user.getEmail(), passwordHash, User.Role.USER);
+    }
+
+    private static String describe(Set<ConstraintViolation<CreateUserDTO>> violations) {
+        return violations.stream()
+            .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+            .sorted()
+            .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * A valid user of the request, with its position.
+     */
+    private record Pending(int index, CreateUserDTO user) {
+    }
+
+    /**
+     * A user ready to insert, with its position.
+     */
+    private record Hashed(int index, UserRow row) {
+    }
+}
@@ -2,6 +2,7 @@ package com.rvladimir.service.impl;
 
 import com.rvladimir.domain.User;
 import com.rvladimir.repository.UserRepository;
+import com.rvladimir.security.PasswordHasher;
 import com.rvladimir.service.UserService;
 import com.rvladimir.service.dto.CreateUserDTO;
 import com.rvladimir.service.dto.UserDTO;
@@ -11,19 +12,18 @@ import com.rvladimir.web.error.ValidationException;
 import jakarta.inject.Singleton;
 import jakarta.transaction.Transactional;
 
-import org.mindrot.jbcrypt.BCrypt;
-
 @Singleton
 @Transactional
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
-    private static final int BCRYPT_COST = 12;
+    private final PasswordHasher passwordHasher;
 
-    public UserServiceImpl(UserRepository userRepository, UserMapper userMapper) {
+    public UserServiceImpl(UserRepository userRepository, UserMapper userMapper, PasswordHasher passwordHasher) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
+        this.passwordHasher = passwordHasher;
     }
 
     @Override
@@ -34,8 +34,8 @@ public class UserServiceImpl implements UserService {
 
         User user = userMapper.toEntity(createUserDTO);
         user.setRole(User.Role.USER);
-        // Hash the user's password before persisting (BCrypt with a cost factor)
-        String hashedPassword = BCrypt.hashpw(createUserDTO.getPassword(), BCrypt.gensalt(BCRYPT_COST));
+        // Hash the user's password before persisting (BCrypt at the calibrated cost)
+        String hashedPassword = passwordHasher.hash(createUserDTO.getPassword());
         user.setPassword(hashedPassword);
         User savedUser = userRepository.save(user);
         return userMapper.toDto(savedUser);
@@ -1,6 +1,9 @@
 package com.rvladimir.service.mapper;
 
 import com.rvladimir.domain.Exercise;
+import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.repository.jdbc.ColumnProjection.Column;
+import com.rvladimir.repository.row.ExerciseRow;
 import com.rvladimir.service.dto.ExerciseDTO;
 
 import jakarta.inject.Singleton;
@@ -13,6 +16,17 @@ import java.time.LocalDateTime;
 @Singleton
 public class ExerciseMapper {
 
+    /**
+     * Properties an exercise listing can be narrowed to with {@code fields}.
+     */
+    public static final FieldCatalog<ExerciseDTO> FIELDS = FieldCatalog.<ExerciseDTO>builder(ExerciseDTO.Sparse::new)
+        .field(Column.of("id", Long.class, ExerciseDTO::getId, ExerciseDTO::setId))
+        .field(Column.of("name", String.class, ExerciseDTO::getName, ExerciseDTO::setName))
+        .field(Column.of("description", String.class, ExerciseDTO::getDescription, ExerciseDTO::setDescription))
+        .field(Column.ofEnum("type", TypeOfExercise.class, ExerciseDTO::getType, ExerciseDTO::setType))
+        .field(Column.of("image", String.class, ExerciseDTO::getImage, ExerciseDTO::setImage))
+        .build();
+
     /**
      * Convert ExerciseDTO to Exercise entity.
      * @param exerciseDTO the DTO to convert
@@ -49,4 +63,22 @@ public class ExerciseMapper {
             exercise.getImage()
         );
     }
+
+    /**
+     * Convert an R2DBC exercise row to ExerciseDTO.
+     * @param row the row to convert
+     * @return the ExerciseDTO
+     */
+    public ExerciseDTO rowToDto(ExerciseRow row) {
+        if (row == null) {
+            return null;
+        }
+        return new ExerciseDTO(
+            row.getId(),
+            row.getName(),
+            row.getDescription(),
+            row.getType(),
+            row.getImage()
+        );
+    }
 }
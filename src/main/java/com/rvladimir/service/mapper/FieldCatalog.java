@@ -0,0 +1,119 @@
+package com.rvladimir.service.mapper;
+
+import com.rvladimir.repository.jdbc.ColumnProjection;
+import com.rvladimir.web.error.ValidationException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * The DTO properties a read endpoint can return selectively through a {@code fields} parameter,
+ * each read from the column of the same name in snake case. The first property is the ID, which is always returned.
+ * @param <T> the DTO type
+ */
+public final class FieldCatalog<T> {
+
+    private final Supplier<T> factory;
+    private final Map<String, ColumnProjection.Column<T, ?>> columns;
+    private final String idProperty;
+
+    private FieldCatalog(Supplier<T> factory, Map<String, ColumnProjection.Column<T, ?>> columns) {
+        this.factory = factory;
+        this.columns = columns;
+        this.idProperty = columns.keySet().iterator().next();
+    }
+
+    /**
+     * Starts a catalog; the first property added must be the ID.
+     */
+    public static <T> Builder<T> builder(Supplier<T> factory) {
+        return new Builder<>(factory);
+    }
+
+    /**
+     * Resolves a comma-separated list of property names.
+     * @param fields the requested properties, or null or blank for all of them
+     * @param parameter the request parameter named in validation errors
+     * @return the projection of the requested properties and the ID, or empty when every property is wanted
+     * @throws ValidationException if a property is not in the catalog
+     */
+    public Optional<ColumnProjection<T>> select(String fields, String parameter) {
+        if (fields == null || fields.isBlank()) {
+            return Optional.empty();
+        }
+        Set<String> requested = new LinkedHashSet<>();
+        requested.add(idProperty);
+        Arrays.stream(fields.split(","))
+            .map(String::trim)
+            .filter(field -> !field.isEmpty())
+            .forEach(requested::add);
+        List<ColumnProjection.Column<T, ?>> selected = new ArrayList<>();
+        for (String field : requested) {
+            ColumnProjection.Column<T, ?> column = columns.get(field);
+            if (column == null) {
+                throw new ValidationException("Unknown field: " + field, parameter, "INVALID_FIELD");
+            }
+            selected.add(column);
+        }
+        return Optional.of(new ColumnProjection<>(factory, selected));
+    }
+
+    /**
+     * Looks up the column of a property, e.g. to sort by it.
+     * @param property the DTO property name
+     * @return the column name, or empty if the property is not in the catalog
+     */
+    public Optional<String> column(String property) {
+        return Optional.ofNullable(columns.get(property)).map(ColumnProjection.Column::getName);
+    }
+
+    /**
+     * Builder of a {@link FieldCatalog}.
+     * @param <T> the DTO type
+     */
+    public static final class Builder<T> {
+
+        private final Supplier<T> factory;
+        private final Map<String, ColumnProjection.Column<T, ?>> columns = new LinkedHashMap<>();
+
+        private Builder(Supplier<T> factory) {
+            this.factory = factory;
+        }
+
+        /**
+         * Adds the property read from a column; the property name is the camel-case form of the column name.
+         */
+        public Builder<T> field(ColumnProjection.Column<T, ?> column) {
+            columns.put(propertyName(column.getName()), column);
+            return this;
+        }
+
+        public FieldCatalog<T> build() {
+            return new FieldCatalog<>(factory, Collections.unmodifiableMap(new LinkedHashMap<>(columns)));
+        }
+
+        private static String propertyName(String column) {
+            StringBuilder property = new StringBuilder(column.length());
+            boolean upper = false;
+            for (char c : column.toCharArray()) {
+                if (c == '_') {
+                    upper = true;
+                } else if (upper) {
+                    property.append(Character.toUpperCase(c));
+                    upper = false;
+                } else {
+                    property.append(c);
+                }
+            }
+            return property.toString();
+        }
+    }
+}
@@ -3,12 +3,18 @@ package com.rvladimir.service.mapper;
 import com.rvladimir.domain.Exercise;
 import com.rvladimir.domain.SessionExercise;
 import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.repository.jdbc.ColumnProjection.Column;
+import com.rvladimir.repository.row.NoteMatchRow;
+import com.rvladimir.repository.row.SessionExerciseRow;
 import com.rvladimir.service.dto.CreateSessionExerciseDTO;
+import com.rvladimir.service.dto.NoteMatchDTO;
 import com.rvladimir.service.dto.SessionExerciseDTO;
 
 import jakarta.inject.Singleton;
 
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 
 /**
  * Mapper for SessionExercise and its DTOs.
@@ -16,6 +22,45 @@ import java.time.LocalDateTime;
 @Singleton
 public class SessionExerciseMapper {
 
+    /**
+     * Properties a session exercise listing can be narrowed to with {@code fields}.
+     */
+    public static final FieldCatalog<SessionExerciseDTO> FIELDS =
+        FieldCatalog.<SessionExerciseDTO>builder(SessionExerciseDTO.Sparse::new)
+            .field(Column.of("id", Long.class, SessionExerciseDTO::getId, SessionExerciseDTO::setId))
+            .field(Column.of("rounds", Integer.class, SessionExerciseDTO::getRounds, SessionExerciseDTO::setRounds))
+            .field(Column.of("sets", Integer.class, SessionExerciseDTO::getSets, SessionExerciseDTO::setSets))
+            .field(Column.of("repetitions", Integer.class,
+                SessionExerciseDTO::getRepetitions, SessionExerciseDTO::setRepetitions))
+            .field(Column.of("sprints", Integer.class, SessionExerciseDTO::getSprints, SessionExerciseDTO::setSprints))
+            .field(Column.of("duration", LocalTime.class,
+                SessionExerciseDTO::getDuration, SessionExerciseDTO::setDuration))
+            .field(Column.of("weight", Double.class, SessionExerciseDTO::getWeight, SessionExerciseDTO::setWeight))
+            .field(Column.of("distance", Double.class,
+                SessionExerciseDTO::getDistance, SessionExerciseDTO::setDistance))
+            .field(Column.of("start_time", LocalDateTime.class,
+                SessionExerciseDTO::getStartTime, SessionExerciseDTO::setStartTime))
+            .field(Column.of("end_time", LocalDateTime.class,
+                SessionExerciseDTO::getEndTime, SessionExerciseDTO::setEndTime))
+            .field(Column.of("rest_time", Integer.class,
+                SessionExerciseDTO::getRestTime, SessionExerciseDTO::setRestTime))
+            .field(Column.ofEnum("status", SessionExercise.Status.class,
+                SessionExerciseDTO::getStatus, SessionExerciseDTO::setStatus))
+            .field(Column.of("exercise_order", Integer.class,
+                SessionExerciseDTO::getExerciseOrder, SessionExerciseDTO::setExerciseOrder))
+            .field(Column.of("exercise_id", Long.class,
+                SessionExerciseDTO::getExerciseId, SessionExerciseDTO::setExerciseId))
+            .field(Column.of("training_session_id", Long.class,
+                SessionExerciseDTO::getTrainingSessionId, SessionExerciseDTO::setTrainingSessionId))
+            .field(Column.of("created_at", LocalDateTime.class,
+                SessionExerciseDTO::getCreatedAt, SessionExerciseDTO::setCreatedAt))
+            .field(Column.ofEnum("unit_of_measurement", SessionExercise.UnitOfMeasurement.class,
+                SessionExerciseDTO::getUnitOfMeasurement, SessionExerciseDTO::setUnitOfMeasurement))
+            .field(Column.ofEnum("type_of_exercise", TypeOfExercise.class,
+                SessionExerciseDTO::getTypeOfExercise, SessionExerciseDTO::setTypeOfExercise))
+            .field(Column.of("notes", String.class, SessionExerciseDTO::getNotes, SessionExerciseDTO::setNotes))
+            .build();
+
     /**
      * Maps CreateSessionExerciseDTO to SessionExercise entity.
      * The {@code createdAt} field is set server-side to the current timestamp.
@@ -43,6 +88,33 @@ public class SessionExerciseMapper {
         return entity;
     }
 
+    /**
+     * Maps CreateSessionExerciseDTO to a SessionExercise row for the JDBC write path.
+     * The {@code createdAt} field is set server-side to the current timestamp.
+     */
+    public SessionExerciseRow toRow(CreateSessionExerciseDTO dto, Long trainingSessionId) {
+        SessionExerciseRow row = new SessionExerciseRow();
+        row.setRounds(dto.getRounds());
+        row.setSets(dto.getSets());
+        row.setRepetitions(dto.getRepetitions());
+        row.setSprints(dto.getSprints());
+        row.setDuration(dto.getDuration());
+        row.setWeight(dto.getWeight());
+        row.setDistance(dto.getDistance());
+        row.setStartTime(dto.getStartTime());
+        row.setEndTime(dto.getEndTime());
+        row.setRestTime(dto.getRestTime());
+        row.setStatus(dto.getStatus());
+        row.setExerciseOrder(dto.getExerciseOrder());
+        row.setExerciseId(dto.getExerciseId());
+        row.setTrainingSessionId(trainingSessionId);
+        row.setCreatedAt(LocalDateTime.now());
+        row.setUnitOfMeasurement(dto.getUnitOfMeasurement());
+        row.setTypeOfExercise(dto.getTypeOfExercise());
+        row.setNotes(dto.getNotes());
+        return row;
+    }
+
     /**
      * Maps SessionExercise entity to SessionExerciseDTO.
      */
@@ -77,4 +149,45 @@ public class SessionExerciseMapper {
             entity.getNotes()
         );
     }
+
+    /**
+     * Maps a SessionExercise row to SessionExerciseDTO.
+     */
+    public SessionExerciseDTO rowToDto(SessionExerciseRow row) {
+        return new SessionExerciseDTO(
+            row.getId(),
+            row.getRounds(),
+            row.getSets(),
+            row.getRepetitions(),
+            row.getSprints(),
+            row.getDuration(),
+            row.getWeight(),
+            row.getDistance(),
+            row.getStartTime(),
+            row.getEndTime(),
+            row.getRestTime(),
+            row.getStatus(),
+            row.getExerciseOrder(),
+            row.getExerciseId(),
+            row.getTrainingSessionId(),
+            row.getCreatedAt(),
+            row.getUnitOfMeasurement(),
+            row.getTypeOfExercise(),
+            row.getNotes()
+        );
+    }
+
+    /**
+     * Maps a notes search match row to NoteMatchDTO.
+     */
+    public NoteMatchDTO matchToDto(NoteMatchRow row) {
+        return new NoteMatchDTO(
+            row.getId(),
+            row.getTrainingSessionId(),
+            row.getExerciseId(),
+            row.getCreatedAt(),
+            row.getRank(),
+            row.getHighlight()
+        );
+    }
 }
@@ -2,6 +2,8 @@ package com.rvladimir.service.mapper;
 
 import com.rvladimir.domain.TrainingSession;
 import com.rvladimir.domain.User;
+import com.rvladimir.repository.jdbc.ColumnProjection.Column;
+import com.rvladimir.repository.row.TrainingSessionRow;
 import com.rvladimir.service.dto.CreateTrainingSessionDTO;
 import com.rvladimir.service.dto.TrainingSessionDTO;
 
@@ -12,6 +14,22 @@ import java.time.LocalDateTime;
 @Singleton
 public class TrainingSessionMapper {
 
+    /**
+     * Properties a training session in the history can be narrowed to with {@code fields}.
+     */
+    public static final FieldCatalog<TrainingSessionDTO> FIELDS =
+        FieldCatalog.<TrainingSessionDTO>builder(TrainingSessionDTO.Sparse::new)
+            .field(Column.of("id", Long.class, TrainingSessionDTO::getId, TrainingSessionDTO::setId))
+            .field(Column.of("name", String.class, TrainingSessionDTO::getName, TrainingSessionDTO::setName))
+            .field(Column.of("description", String.class,
+                TrainingSessionDTO::getDescription, TrainingSessionDTO::setDescription))
+            .field(Column.ofEnum("status", TrainingSession.Status.class,
+                TrainingSessionDTO::getStatus, TrainingSessionDTO::setStatus))
+            .field(Column.of("user_id", Long.class, TrainingSessionDTO::getUserId, TrainingSessionDTO::setUserId))
+            .field(Column.of("created_at", LocalDateTime.class,
+                TrainingSessionDTO::getCreatedAt, TrainingSessionDTO::setCreatedAt))
+            .build();
+
     /**
      * Convert CreateTrainingSessionDTO to TrainingSession entity
      * @param createTrainingSessionDTO the DTO to convert
@@ -49,4 +67,39 @@ public class TrainingSessionMapper {
             trainingSession.getCreatedAt()
         );
     }
+
+    /**
+     * Convert CreateTrainingSessionDTO to a TrainingSession row for the JDBC write path
+     * @param createTrainingSessionDTO the DTO to convert
+     * @return the TrainingSession row
+     */
+    public TrainingSessionRow toRow(CreateTrainingSessionDTO createTrainingSessionDTO) {
+        if (createTrainingSessionDTO == null) {
+            return null;
+        }
+        TrainingSessionRow row = new TrainingSessionRow();
+        row.setStatus(TrainingSession.Status.STARTED);
+        row.setCreatedAt(LocalDateTime.now());
+        row.setUserId(createTrainingSessionDTO.getUserId());
+        return row;
+    }
+
+    /**
+     * Convert a TrainingSession row to TrainingSessionDTO
+     * @param row the row to convert
+     * @return the TrainingSessionDTO
+     */
+    public TrainingSessionDTO rowToDto(TrainingSessionRow row) {
+        if (row == null) {
+            return null;
+        }
+        return new TrainingSessionDTO(
+            row.getId(),
+            row.getName(),
+            row.getDescription(),
+            row.getStatus(),
+            row.getUserId(),
+            row.getCreatedAt()
+        );
+    }
 }
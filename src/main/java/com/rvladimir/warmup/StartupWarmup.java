@@ -0,0 +1,114 @@
+package com.rvladimir.warmup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.runtime.server.event.ServerStartupEvent;
+
+import jakarta.inject.Singleton;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Primes the JIT, the connection pool and the second-level cache once the server is listening, so the first real
+ * requests do not pay for it. {@link WarmupHealthIndicator} keeps readiness DOWN until this finishes; the duration
+ * is logged, reported as a health detail and exported as {@code ttrack.warmup.duration}.
+ * A failed warmup is logged and still marks the instance ready, since it only costs latency.
+ */
+@Slf4j
+@Singleton
+@Requires(property = "ttrack.warmup.enabled", value = "true", defaultValue = "false")
+public class StartupWarmup implements ApplicationEventListener<ServerStartupEvent>, MeterBinder {
+
+    /**
+     * Progress of the warmup.
+     */
+    public enum Status {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final WarmupWorkload workload;
+    private final WarmupConfiguration configuration;
+    private final int poolSize;
+
+    private volatile Status status = Status.PENDING;
+    private volatile Duration duration = Duration.ZERO;
+
+    public StartupWarmup(
+        WarmupWorkload workload,
+        WarmupConfiguration configuration,
+        @Value("${datasources.default.maximum-pool-size:10}") int poolSize
+    ) {
+        this.workload = workload;
+        this.configuration = configuration;
+        this.poolSize = poolSize;
+    }
+
+    @Override
+    public void onApplicationEvent(ServerStartupEvent event) {
+        Thread.ofPlatform()
+            .daemon()
+            .name("startup-warmup")
+            .start(this::run);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        TimeGauge.builder("ttrack.warmup.duration", this, TimeUnit.MILLISECONDS,
+                warmup -> warmup.getDuration().toMillis())
+            .description("Time spent warming up before the instance reported ready")
+            .register(registry);
+    }
+
+    /**
+     * Runs the warmup on the calling thread.
+     */
+    void run() {
+        status = Status.RUNNING;
+        long start = System.nanoTime();
+        Status outcome = Status.COMPLETED;
+        try {
+            workload.fillPool(poolSize);
+            for (int i = 0; i < configuration.getIterations(); i++) {
+                try {
+                    workload.exerciseRequestPath(i);
+                } catch (WarmupWorkload.WarmupRollback expected) {
+                    // Every warmup transaction ends this way
+                }
+            }
+            int cached = workload.primeCaches(configuration.getCachePageSize());
+            log.debug("Warmup loaded {} exercises into the second-level cache", cached);
+        } catch (SQLException | RuntimeException ex) {
+            outcome = Status.FAILED;
+            log.warn("Warmup failed, continuing without it: {}", ex.getMessage());
+        }
+        duration = Duration.ofNanos(System.nanoTime() - start);
+        status = outcome;
+        log.info("Warmup {} in {} ms", outcome, duration.toMillis());
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Whether the warmup is over, successfully or not.
+     */
+    public boolean isDone() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+}
@@ -0,0 +1,28 @@
+package com.rvladimir.warmup;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Configuration for the warmup that runs before the instance reports ready.
+ */
+@Data
+@ConfigurationProperties("ttrack.warmup")
+public class WarmupConfiguration {
+
+    private static final int DEFAULT_ITERATIONS = 500;
+    private static final int DEFAULT_CACHE_PAGE_SIZE = 100;
+
+    /**
+     * Whether {@link StartupWarmup} runs and holds readiness DOWN until it is done. Off by default: it writes through
+     * the primary on every start, so it is meant for the image training runs (AppCDS, CRaC) that turn it on.
+     */
+    private boolean enabled;
+
+    /** Passes over the write and read paths, each in its own rolled back transaction. */
+    private int iterations = DEFAULT_ITERATIONS;
+
+    /** Catalog exercises loaded into the second-level cache. */
+    private int cachePageSize = DEFAULT_CACHE_PAGE_SIZE;
+}
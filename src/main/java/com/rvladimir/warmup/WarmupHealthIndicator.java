@@ -0,0 +1,45 @@
+package com.rvladimir.warmup;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.health.HealthStatus;
+import io.micronaut.management.health.indicator.HealthIndicator;
+import io.micronaut.management.health.indicator.HealthResult;
+import io.micronaut.management.health.indicator.annotation.Readiness;
+
+import jakarta.inject.Singleton;
+
+import java.util.Map;
+
+import org.reactivestreams.Publisher;
+
+/**
+ * Reports readiness DOWN until {@link StartupWarmup} is done, with the warmup status and duration as details.
+ */
+@Singleton
+@Readiness
+@Requires(beans = StartupWarmup.class)
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    static final String NAME = "warmup";
+
+    private final StartupWarmup warmup;
+
+    public WarmupHealthIndicator(StartupWarmup warmup) {
+        this.warmup = warmup;
+    }
+
+    @Override
+    public Publisher<HealthResult> getResult() {
+        HealthStatus status = HealthStatus.DOWN;
+        if (warmup.isDone()) {
+            status = HealthStatus.UP;
+        }
+        return Publishers.just(HealthResult.builder(NAME, status)
+            .details(Map.of(
+                "status", warmup.getStatus().name(),
+                "durationMillis", warmup.getDuration().toMillis()
+            ))
+            .build());
+    }
+}
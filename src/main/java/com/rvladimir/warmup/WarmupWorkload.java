@@ -0,0 +1,164 @@
+package com.rvladimir.warmup;
+
+import com.rvladimir.datasource.ReadReplica;
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.domain.User;
+import com.rvladimir.repository.UserRepository;
+import com.rvladimir.service.ExerciseService;
+import com.rvladimir.service.SessionExerciseService;
+import com.rvladimir.service.TrainingSessionService;
+import com.rvladimir.service.dto.CreateSessionExerciseDTO;
+import com.rvladimir.service.dto.CreateTrainingSessionDTO;
+import com.rvladimir.service.dto.ExerciseDTO;
+import com.rvladimir.service.dto.QuickStartIntervalDTO;
+import com.rvladimir.service.dto.QuickStartIntervalResponseDTO;
+import com.rvladimir.service.dto.SessionExerciseDTO;
+import com.rvladimir.service.dto.TrainingSessionDTO;
+
+import io.micronaut.data.model.Pageable;
+import io.micronaut.serde.ObjectMapper;
+import io.micronaut.transaction.annotation.Transactional;
+
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * The work done by {@link StartupWarmup}: the main write and read paths through the services, the Serde codecs of
+ * their DTOs, the connection pool and the second-level cache.
+ */
+@Singleton
+@AllArgsConstructor
+public class WarmupWorkload {
+
+    /** Reserved account the warmup works as; {@code .invalid} is a reserved TLD, so no real user can own it. */
+    static final String WARMUP_EMAIL = "warmup@ttrack.invalid";
+
+    private static final int INTERVAL_ROUNDS = 3;
+    private static final int INTERVAL_SECONDS = 30;
+    private static final int WARMUP_BIRTH_YEAR = 1990;
+    private static final String WARMUP_NAME = "Warmup";
+    /** Not a BCrypt hash, so no password ever matches it. */
+    private static final String UNUSABLE_PASSWORD = "!";
+
+    private final UserRepository userRepository;
+    private final ExerciseService exerciseService;
+    private final TrainingSessionService trainingSessionService;
+    private final SessionExerciseService sessionExerciseService;
+    private final ObjectMapper objectMapper;
+    private final DataSource dataSource;
+
+    /**
+     * Runs the write and read paths once inside one short transaction, then rolls it back by throwing
+     * {@link WarmupRollback}, so nothing the warmup writes is ever committed. In-memory projections such as the
+     * leaderboards are only updated once a transaction commits, so the warmup leaves them untouched; no template is
+     * written, so the template cache is neither filled nor invalidated. Every pass works as the reserved
+     * {@value #WARMUP_EMAIL} account, inserted directly without hashing a password, or reused if it was ever
+     * committed, so the warmup never adds users of its own.
+     */
+    @Transactional
+    public void exerciseRequestPath(int iteration) {
+        User user = userRepository.findByEmail(WARMUP_EMAIL).orElseGet(() -> userRepository.save(warmupUser()));
+        ExerciseDTO exercise = exerciseService.create(
+            new ExerciseDTO(null, WARMUP_NAME, "Startup warmup", TypeOfExercise.STRENGTH, null));
+        TrainingSessionDTO session = trainingSessionService.create(new CreateTrainingSessionDTO(user.getId()));
+        SessionExerciseDTO created = sessionExerciseService.createSessionExercise(
+            session.getId(), sessionExercise(exercise.getId(), iteration));
+        QuickStartIntervalResponseDTO interval = trainingSessionService.quickStartInterval(interval(user.getId()));
+        List<SessionExerciseDTO> listed = sessionExerciseService.getSessionExercisesByTrainingSession(session.getId());
+        roundTrip(session, TrainingSessionDTO.class);
+        roundTrip(created, SessionExerciseDTO.class);
+        roundTrip(interval, QuickStartIntervalResponseDTO.class);
+        for (SessionExerciseDTO dto : listed) {
+            roundTrip(dto, SessionExerciseDTO.class);
+        }
+        exerciseService.getAll(Pageable.from(0));
+        throw new WarmupRollback();
+    }
+
+    /**
+     * Loads the first {@code pageSize} catalog exercises, which puts them into the second-level cache.
+     *
+     * @return the number of exercises loaded
+     */
+    @ReadReplica
+    @Transactional(readOnly = true)
+    public int primeCaches(int pageSize) {
+        return exerciseService.getAll(Pageable.from(0, pageSize)).getNumberOfElements();
+    }
+
+    /**
+     * Holds {@code connections} pooled connections at the same time, so the pool grows to that size now instead of
+     * under the first burst of requests.
+     */
+    public void fillPool(int connections) throws SQLException {
+        List<Connection> held = new ArrayList<>(connections);
+        try {
+            for (int i = 0; i < connections; i++) {
+                held.add(dataSource.getConnection());
+            }
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+        }
+    }
+
+    private <T> void roundTrip(T value, Class<T> type) {
+        try {
+            objectMapper.readValue(objectMapper.writeValueAsBytes(value), type);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static User warmupUser() {
+        return new User(null, WARMUP_NAME, WARMUP_NAME, WARMUP_EMAIL, LocalDate.of(WARMUP_BIRTH_YEAR, 1, 1),
+            WARMUP_EMAIL, UNUSABLE_PASSWORD, User.Role.USER);
+    }
+
+    private static CreateSessionExerciseDTO sessionExercise(Long exerciseId, int order) {
+        CreateSessionExerciseDTO dto = new CreateSessionExerciseDTO();
+        dto.setExerciseId(exerciseId);
+        dto.setExerciseOrder(order + 1);
+        dto.setSets(INTERVAL_ROUNDS);
+        dto.setRepetitions(INTERVAL_SECONDS);
+        dto.setStatus(SessionExercise.Status.FINISHED);
+        dto.setTypeOfExercise(TypeOfExercise.STRENGTH);
+        return dto;
+    }
+
+    private static QuickStartIntervalDTO interval(Long userId) {
+        QuickStartIntervalDTO dto = new QuickStartIntervalDTO();
+        dto.setUserId(userId);
+        dto.setTypeOfExercise(TypeOfExercise.BOXING_BAG);
+        dto.setRounds(INTERVAL_ROUNDS);
+        dto.setDuration(LocalTime.of(0, 0, INTERVAL_SECONDS));
+        dto.setRestTime(INTERVAL_SECONDS);
+        return dto;
+    }
+
+    /**
+     * Thrown at the end of {@link #exerciseRequestPath(int)} to roll the warmup transaction back.
+     */
+    static final class WarmupRollback extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        WarmupRollback() {
+            super("Warmup transaction rolled back", null, false, false);
+        }
+    }
+}
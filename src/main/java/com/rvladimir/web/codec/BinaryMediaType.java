@@ -0,0 +1,17 @@
+package com.rvladimir.web.codec;
+
+/**
+ * Binary media types negotiated through {@code Accept} and {@code Content-Type} besides JSON.
+ * Both encode the same object model as JSON, so every {@code @Serdeable} DTO supports them.
+ */
+public final class BinaryMediaType {
+
+    /** Concise Binary Object Representation (RFC 8949). */
+    public static final String APPLICATION_CBOR = "application/cbor";
+
+    /** Jackson Smile, a binary JSON that also back-references repeated property names. */
+    public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+
+    private BinaryMediaType() {
+    }
+}
@@ -0,0 +1,22 @@
+package com.rvladimir.web.codec;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import io.micronaut.http.annotation.Consumes;
+import io.micronaut.http.annotation.Produces;
+import io.micronaut.serde.SerdeRegistry;
+
+import jakarta.inject.Singleton;
+
+/**
+ * Handles {@value BinaryMediaType#APPLICATION_CBOR} request and response bodies.
+ */
+@Singleton
+@Produces(BinaryMediaType.APPLICATION_CBOR)
+@Consumes(BinaryMediaType.APPLICATION_CBOR)
+public class CborBodyHandler extends SerdeBinaryBodyHandler {
+
+    public CborBodyHandler(SerdeRegistry serdeRegistry) {
+        super(serdeRegistry, new CBORFactory());
+    }
+}
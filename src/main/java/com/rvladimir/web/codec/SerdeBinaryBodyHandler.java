@@ -0,0 +1,120 @@
+package com.rvladimir.web.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.type.Headers;
+import io.micronaut.core.type.MutableHeaders;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.body.MessageBodyHandler;
+import io.micronaut.http.codec.CodecException;
+import io.micronaut.serde.Decoder;
+import io.micronaut.serde.Deserializer;
+import io.micronaut.serde.Encoder;
+import io.micronaut.serde.SerdeRegistry;
+import io.micronaut.serde.Serializer;
+import io.micronaut.serde.jackson.JacksonDecoder;
+import io.micronaut.serde.jackson.JacksonEncoder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Reads and writes bodies in a binary Jackson data format through Micronaut Serde.
+ * The compile-time Serde (de)serializers of the DTOs drive a format-specific Jackson generator or parser, so binary
+ * bodies map exactly like JSON ones without reflection or a second object mapper.
+ */
+abstract class SerdeBinaryBodyHandler implements MessageBodyHandler<Object> {
+
+    private final SerdeRegistry serdeRegistry;
+    private final JsonFactory factory;
+
+    SerdeBinaryBodyHandler(SerdeRegistry serdeRegistry, JsonFactory factory) {
+        this.serdeRegistry = serdeRegistry;
+        this.factory = factory;
+    }
+
+    @Override
+    public boolean isReadable(Argument<Object> type, MediaType mediaType) {
+        return !CharSequence.class.isAssignableFrom(type.getType());
+    }
+
+    @Override
+    public boolean isWriteable(Argument<Object> type, MediaType mediaType) {
+        return !CharSequence.class.isAssignableFrom(type.getType());
+    }
+
+    @Override
+    public Object read(Argument<Object> type, MediaType mediaType, Headers httpHeaders, InputStream inputStream) {
+        try (JsonParser parser = factory.createParser(inputStream)) {
+            return decode(type, parser);
+        } catch (IOException ex) {
+            throw codecException("decoding", mediaType, ex);
+        }
+    }
+
+    @Override
+    public void writeTo(Argument<Object> type, MediaType mediaType, Object object, MutableHeaders outgoingHeaders,
+                        OutputStream outputStream) {
+        if (!outgoingHeaders.contains(HttpHeaders.CONTENT_TYPE)) {
+            outgoingHeaders.set(HttpHeaders.CONTENT_TYPE, mediaType.toString());
+        }
+        Argument<Object> runtimeType = type;
+        if (object != null && type.getType() == Object.class) {
+            runtimeType = Argument.of(object.getClass());
+        }
+        try (JsonGenerator generator = factory.createGenerator(outputStream)) {
+            encode(runtimeType, object, generator);
+        } catch (IOException ex) {
+            throw codecException("encoding", mediaType, ex);
+        }
+    }
+
+    /**
+     * Encodes a value to bytes; used by benchmarks and tests.
+     */
+    public <T> byte[] encode(Argument<T> type, T value) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = factory.createGenerator(out)) {
+            encode(type, value, generator);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes a value from bytes; used by benchmarks and tests.
+     */
+    public <T> T decode(Argument<T> type, byte[] content) throws IOException {
+        try (JsonParser parser = factory.createParser(new ByteArrayInputStream(content))) {
+            return decode(type, parser);
+        }
+    }
+
+    private <T> void encode(Argument<T> type, T value, JsonGenerator generator) throws IOException {
+        Serializer.EncoderContext context = serdeRegistry.newEncoderContext(null);
+        Serializer<? super T> serializer = context.findSerializer(type).createSpecific(context, type);
+        Encoder encoder = JacksonEncoder.create(generator);
+        serializer.serialize(encoder, context, type, value);
+        generator.flush();
+    }
+
+    private <T> T decode(Argument<T> type, JsonParser parser) throws IOException {
+        Deserializer.DecoderContext context = serdeRegistry.newDecoderContext(null);
+        Deserializer<? extends T> deserializer = context.findDeserializer(type).createSpecific(context, type);
+        if (!parser.hasCurrentToken() && parser.nextToken() == null) {
+            return null;
+        }
+        Decoder decoder = JacksonDecoder.create(parser);
+        return deserializer.deserialize(decoder, context, type);
+    }
+
+    private static CodecException codecException(String action, MediaType mediaType, IOException ex) {
+        return new CodecException("Error " + action + " " + mediaType + " body: " + ex.getMessage(), ex);
+    }
+}
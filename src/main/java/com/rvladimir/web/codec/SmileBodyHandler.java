@@ -0,0 +1,27 @@
+package com.rvladimir.web.codec;
+
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+import io.micronaut.http.annotation.Consumes;
+import io.micronaut.http.annotation.Produces;
+import io.micronaut.serde.SerdeRegistry;
+
+import jakarta.inject.Singleton;
+
+/**
+ * Handles {@value BinaryMediaType#APPLICATION_SMILE} request and response bodies.
+ * Shared string values are enabled on top of the default shared property names: enum values such as statuses and
+ * exercise types repeat on every element of a list and are sent once.
+ */
+@Singleton
+@Produces(BinaryMediaType.APPLICATION_SMILE)
+@Consumes(BinaryMediaType.APPLICATION_SMILE)
+public class SmileBodyHandler extends SerdeBinaryBodyHandler {
+
+    public SmileBodyHandler(SerdeRegistry serdeRegistry) {
+        super(serdeRegistry, SmileFactory.builder()
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .build());
+    }
+}
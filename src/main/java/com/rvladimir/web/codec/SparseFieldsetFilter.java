@@ -0,0 +1,28 @@
+package com.rvladimir.web.codec;
+
+import com.rvladimir.service.dto.SparseFieldset;
+
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.serde.PropertyFilter;
+import io.micronaut.serde.Serializer;
+
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+/**
+ * Serde property filter of the DTOs a sparse fieldset can narrow: drops the null properties of narrowed instances
+ * only, so full responses keep every property in JSON and the binary formats alike.
+ */
+@Singleton
+@Named(SparseFieldsetFilter.NAME)
+public class SparseFieldsetFilter implements PropertyFilter {
+
+    /** Name to give {@code @JsonFilter} on the DTOs. */
+    public static final String NAME = "sparse-fieldset";
+
+    @Override
+    public boolean shouldInclude(Serializer.EncoderContext encoderContext, Serializer<Object> propertySerializer,
+                                 Object bean, String propertyName, @Nullable Object propertyValue) {
+        return propertyValue != null || !(bean instanceof SparseFieldset);
+    }
+}
@@ -0,0 +1,55 @@
+package com.rvladimir.web.rest;
+
+import com.rvladimir.service.ActivityService;
+import com.rvladimir.service.dto.ActivityHeatmapDTO;
+import com.rvladimir.service.dto.ActivityStreakDTO;
+import com.rvladimir.web.codec.BinaryMediaType;
+
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Produces;
+import io.micronaut.http.annotation.QueryValue;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * REST resource for training activity heatmaps and streaks.
+ */
+@Tag(name = "Activity", description = "Training days per calendar year and training streaks")
+@Controller("/activity")
+@Produces({MediaType.APPLICATION_JSON, BinaryMediaType.APPLICATION_CBOR, BinaryMediaType.APPLICATION_SMILE})
+@RequiredArgsConstructor
+public class ActivityResource {
+    private final ActivityService activityService;
+
+    /**
+     * Retrieves the training days of a user in a year.
+     */
+    @Get("/heatmap")
+    @Operation(
+        summary = "Get a yearly activity heatmap",
+        description = "Training days of a user in a calendar year, with an intensity per day from January 1st.")
+    @ApiResponse(responseCode = "200", description = "The heatmap of the year.")
+    @ApiResponse(responseCode = "400", description = "Invalid year.")
+    public HttpResponse<ActivityHeatmapDTO> getHeatmap(@QueryValue Long userId, @QueryValue int year) {
+        return HttpResponse.ok(activityService.getHeatmap(userId, year));
+    }
+
+    /**
+     * Retrieves the training streaks of a user.
+     */
+    @Get("/streak")
+    @Operation(
+        summary = "Get training streaks",
+        description = "Current and longest runs of consecutive training days of a user. The current streak " +
+            "still counts while today has no training yet.")
+    @ApiResponse(responseCode = "200", description = "The user's streaks.")
+    public HttpResponse<ActivityStreakDTO> getStreak(@QueryValue Long userId) {
+        return HttpResponse.ok(activityService.getStreak(userId));
+    }
+}
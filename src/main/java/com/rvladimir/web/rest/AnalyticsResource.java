@@ -0,0 +1,51 @@
+package com.rvladimir.web.rest;
+
+import com.rvladimir.analytics.AnalyticsReport;
+import com.rvladimir.service.AnalyticsService;
+import com.rvladimir.service.dto.AnalyticsReportDTO;
+import com.rvladimir.web.codec.BinaryMediaType;
+
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.PathVariable;
+import io.micronaut.http.annotation.Produces;
+import io.micronaut.http.annotation.QueryValue;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import java.time.LocalDate;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * REST resource for analytics reports. Restricted to administrators.
+ */
+@Tag(name = "Analytics", description = "Canned cross-user reports, answered off the primary database")
+@Controller("/analytics")
+@Produces({MediaType.APPLICATION_JSON, BinaryMediaType.APPLICATION_CBOR, BinaryMediaType.APPLICATION_SMILE})
+@RequiredArgsConstructor
+public class AnalyticsResource {
+    private final AnalyticsService analyticsService;
+
+    /**
+     * Runs a canned analytics report.
+     */
+    @Get("/reports/{report}")
+    @Operation(
+        summary = "Run an analytics report",
+        description = "Runs `POPULAR_EXERCISES`, `HIIT_ROUNDS` or `RETENTION_BY_TYPE` over training sessions " +
+            "started from `from` to `to`, on the embedded analytics store. Data is as of `snapshotAt`.")
+    @ApiResponse(responseCode = "200", description = "The report table.")
+    @ApiResponse(responseCode = "400", description = "Invalid report or range.")
+    @ApiResponse(responseCode = "503", description = "Analytics is disabled on this instance.")
+    public HttpResponse<AnalyticsReportDTO> runReport(
+        @PathVariable AnalyticsReport report,
+        @QueryValue LocalDate from,
+        @QueryValue LocalDate to
+    ) {
+        return HttpResponse.ok(analyticsService.runReport(report, from, to));
+    }
+}
@@ -5,6 +5,7 @@ import com.rvladimir.service.dto.LoginDTO;
 import com.rvladimir.service.dto.MobileLoginResponseDTO;
 import com.rvladimir.service.dto.RefreshTokenRequestDTO;
 import com.rvladimir.service.dto.TokenResponseDTO;
+import com.rvladimir.web.codec.BinaryMediaType;
 
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.http.HttpResponse;
@@ -71,7 +72,11 @@ public class AuthResource {
         description = "Authenticates a user and returns a JWT access token, a refresh token, " +
             "and the user's id, email, name and lastname in the response body."
     )
-    @Post(uri = "/mobile-login", consumes = MediaType.APPLICATION_JSON, produces = MediaType.APPLICATION_JSON)
+    @Post(
+        uri = "/mobile-login",
+        consumes = {MediaType.APPLICATION_JSON, BinaryMediaType.APPLICATION_CBOR, BinaryMediaType.APPLICATION_SMILE},
+        produces = {MediaType.APPLICATION_JSON, BinaryMediaType.APPLICATION_CBOR, BinaryMediaType.APPLICATION_SMILE}
+    )
     public HttpResponse<MobileLoginResponseDTO> mobileLogin(@Body @Valid LoginDTO loginDTO) {
         log.info("Mobile login attempt for user: {}", loginDTO.getEmail());
 
@@ -96,7 +101,11 @@ public class AuthResource {
         summary = "Mobile Token Refresh",
         description = "Validates the provided refresh token and issues a new access token with a rotated refresh token."
     )
-    @Post(uri = "/mobile-refresh", consumes = MediaType.APPLICATION_JSON, produces = MediaType.APPLICATION_JSON)
+    @Post(
+        uri = "/mobile-refresh",
+        consumes = {MediaType.APPLICATION_JSON, BinaryMediaType.APPLICATION_CBOR, BinaryMediaType.APPLICATION_SMILE},
+        produces = {MediaType.APPLICATION_JSON, BinaryMediaType.APPLICATION_CBOR, BinaryMediaType.APPLICATION_SMILE}
+    )
     public HttpResponse<TokenResponseDTO> mobileRefresh(@Body @Valid RefreshTokenRequestDTO request) {
         log.info("Token refresh requested.");
 
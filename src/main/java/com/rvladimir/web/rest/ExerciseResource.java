@@ -1,15 +1,22 @@
 package com.rvladimir.web.rest;
 
+import com.rvladimir.domain.TypeOfExercise;
 import com.rvladimir.service.ExerciseService;
 import com.rvladimir.service.dto.ExerciseDTO;
+import com.rvladimir.web.codec.BinaryMediaType;
 
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.data.model.Page;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.Body;
+import io.micronaut.http.annotation.Consumes;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Get;
 import io.micronaut.http.annotation.Post;
+import io.micronaut.http.annotation.Produces;
+import io.micronaut.http.annotation.QueryValue;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -18,10 +25,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 
 import jakarta.validation.Valid;
 
+import java.util.List;
+
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Controller("/exercise")
+@Produces({MediaType.APPLICATION_JSON, BinaryMediaType.APPLICATION_CBOR, BinaryMediaType.APPLICATION_SMILE})
+@Consumes({MediaType.APPLICATION_JSON, BinaryMediaType.APPLICATION_CBOR, BinaryMediaType.APPLICATION_SMILE})
 @Tag(name = "Exercise")
 @Slf4j
 @AllArgsConstructor
@@ -48,15 +59,17 @@ public class ExerciseResource {
     }
 
     @Get
-    @Operation(summary = "Get all exercises", description = "Retrieves all exercises with pagination support")
+    @Operation(summary = "Get all exercises", description = "Retrieves all exercises with pagination support. " +
+        "`fields` narrows each exercise to the listed properties and its ID.")
     @ApiResponse(
         responseCode = "200",
         description = "Exercises retrieved successfully",
         content = @Content(mediaType = "application/json", schema = @Schema(implementation = Page.class))
     )
-    public HttpResponse<Page<ExerciseDTO>> getAll(Pageable pageable) {
+    @ApiResponse(responseCode = "400", description = "Unknown field or sort property.")
+    public HttpResponse<Page<ExerciseDTO>> getAll(Pageable pageable, @QueryValue @Nullable String fields) {
         log.info("Retrieving all exercises with pageable: {}", pageable);
-        Page<ExerciseDTO> page = exerciseService.getAll(pageable);
+        Page<ExerciseDTO> page = exerciseService.getAll(pageable, fields);
         if (page == null || page.isEmpty()) {
             log.warn("No exercises found for pageable: {}", pageable);
         } else {
@@ -65,4 +78,32 @@ public class ExerciseResource {
         return HttpResponse.ok(page);
     }
 
+    @Get("/search")
+    @Operation(summary = "Search exercises", description = "Searches exercise names and descriptions, best match " +
+        "first. Misspelled words still match similar names. `type` narrows the search to one exercise type.")
+    @ApiResponse(responseCode = "200", description = "Matching exercises, best match first")
+    @ApiResponse(responseCode = "400", description = "Blank query.")
+    public HttpResponse<Page<ExerciseDTO>> search(
+        @QueryValue String q,
+        @QueryValue @Nullable TypeOfExercise type,
+        Pageable pageable
+    ) {
+        log.info("Searching exercises for '{}' with type {} and pageable: {}", q, type, pageable);
+        Page<ExerciseDTO> page = exerciseService.search(q, type, pageable);
+        log.info("Found {} exercises matching '{}'", page.getTotalSize(), q);
+        return HttpResponse.ok(page);
+    }
+
+    @Get("/autocomplete")
+    @Operation(summary = "Autocomplete exercise names", description = "Suggests exercises whose name or one of its " +
+        "words starts with `prefix`, for type-ahead. Suggestions hold the ID, name and type.")
+    @ApiResponse(responseCode = "200", description = "Suggested exercises")
+    @ApiResponse(responseCode = "400", description = "Invalid limit.")
+    public HttpResponse<List<ExerciseDTO>> autocomplete(
+        @QueryValue String prefix,
+        @QueryValue @Nullable TypeOfExercise type,
+        @QueryValue(defaultValue = "10") int limit
+    ) {
+        return HttpResponse.ok(exerciseService.autocomplete(prefix, type, limit));
+    }
 }
@@ -0,0 +1,73 @@
+package com.rvladimir.web.rest;
+
+import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.leaderboard.LeaderboardMetric;
+import com.rvladimir.service.LeaderboardService;
+import com.rvladimir.service.dto.LeaderboardDTO;
+import com.rvladimir.service.dto.LeaderboardEntryDTO;
+import com.rvladimir.web.codec.BinaryMediaType;
+
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Produces;
+import io.micronaut.http.annotation.QueryValue;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * REST resource for leaderboards.
+ */
+@Tag(name = "Leaderboard", description = "Leaderboards of best scores per exercise and exercise type")
+@Controller("/leaderboard")
+@Produces({MediaType.APPLICATION_JSON, BinaryMediaType.APPLICATION_CBOR, BinaryMediaType.APPLICATION_SMILE})
+@RequiredArgsConstructor
+public class LeaderboardResource {
+    private final LeaderboardService leaderboardService;
+
+    /**
+     * Retrieves the top of a leaderboard, or the entries of chosen users.
+     */
+    @Get
+    @Operation(
+        summary = "Get a leaderboard",
+        description = "Best scores of all users on a metric, for one catalog exercise (`exerciseId`) or across an " +
+            "exercise type (`type`). With `userIds`, e.g. a user's friends, returns only those users with their " +
+            "global ranks.")
+    @ApiResponse(responseCode = "200", description = "Leaderboard entries in rank order.")
+    @ApiResponse(responseCode = "400", description = "Neither or both of exerciseId and type, or invalid limit.")
+    public HttpResponse<LeaderboardDTO> getLeaderboard(
+        @QueryValue LeaderboardMetric metric,
+        @QueryValue @Nullable Long exerciseId,
+        @QueryValue @Nullable TypeOfExercise type,
+        @QueryValue(defaultValue = "10") int limit,
+        @QueryValue @Nullable List<Long> userIds
+    ) {
+        return HttpResponse.ok(leaderboardService.getLeaderboard(exerciseId, type, metric, limit, userIds));
+    }
+
+    /**
+     * Retrieves the rank of a user on a leaderboard.
+     */
+    @Get("/rank")
+    @Operation(
+        summary = "Get a user's rank",
+        description = "Rank and best score of a user on the leaderboard selected as in `GET /leaderboard`.")
+    @ApiResponse(responseCode = "200", description = "The user's leaderboard entry.")
+    @ApiResponse(responseCode = "400", description = "Invalid leaderboard, or the user has no score on it.")
+    public HttpResponse<LeaderboardEntryDTO> getRank(
+        @QueryValue LeaderboardMetric metric,
+        @QueryValue @Nullable Long exerciseId,
+        @QueryValue @Nullable TypeOfExercise type,
+        @QueryValue Long userId
+    ) {
+        return HttpResponse.ok(leaderboardService.getRank(exerciseId, type, metric, userId));
+    }
+}
@@ -0,0 +1,53 @@
+package com.rvladimir.web.rest;
+
+import com.rvladimir.progress.ProgressMetric;
+import com.rvladimir.service.ProgressService;
+import com.rvladimir.service.dto.ProgressChartDTO;
+import com.rvladimir.web.codec.BinaryMediaType;
+
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Produces;
+import io.micronaut.http.annotation.QueryValue;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import java.time.LocalDate;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * REST resource for progress charts.
+ */
+@Tag(name = "Progress", description = "Charts of a user's progress on a catalog exercise")
+@Controller("/progress")
+@Produces({MediaType.APPLICATION_JSON, BinaryMediaType.APPLICATION_CBOR, BinaryMediaType.APPLICATION_SMILE})
+@RequiredArgsConstructor
+public class ProgressResource {
+    private final ProgressService progressService;
+
+    /**
+     * Retrieves the progress chart of a user on a catalog exercise.
+     */
+    @Get("/chart")
+    @Operation(
+        summary = "Get a progress chart",
+        description = "Values of a metric for every time the user performed the exercise in training sessions " +
+            "started from `from` to `to`, downsampled with Largest-Triangle-Three-Buckets to at most `points` " +
+            "points (3 to 1000).")
+    @ApiResponse(responseCode = "200", description = "The chart, oldest point first.")
+    @ApiResponse(responseCode = "400", description = "Invalid range or number of points.")
+    public HttpResponse<ProgressChartDTO> getChart(
+        @QueryValue Long userId,
+        @QueryValue Long exerciseId,
+        @QueryValue ProgressMetric metric,
+        @QueryValue LocalDate from,
+        @QueryValue LocalDate to,
+        @QueryValue(defaultValue = "300") int points
+    ) {
+        return HttpResponse.ok(progressService.getChart(userId, exerciseId, metric, from, to, points));
+    }
+}
@@ -0,0 +1,60 @@
+package com.rvladimir.web.rest;
+
+import com.rvladimir.constants.TtrackConstants;
+import com.rvladimir.service.ReactiveReadService;
+import com.rvladimir.service.dto.ExerciseDTO;
+import com.rvladimir.service.dto.SessionExerciseDTO;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.PathVariable;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking REST resource mirroring the read-heavy listings.
+ * Handlers run on the event loop and never hold a JDBC connection.
+ */
+@Tag(name = "Reactive Reads", description = "Non-blocking read API served over R2DBC")
+@Controller("/reactive")
+@Requires(property = TtrackConstants.REACTIVE_READS_ENABLED_PROPERTY, value = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveReadResource {
+    private final ReactiveReadService reactiveReadService;
+
+    /**
+     * Streams all SessionExercises for a training session.
+     */
+    @Get("/session-exercise/training-session/{trainingSessionId}")
+    @Operation(
+        summary = "Get session exercises by training session (non-blocking)",
+        description = "Streams all session exercises for a given training session over R2DBC.")
+    @ApiResponse(responseCode = "200", description = "List of SessionExercises")
+    public Flux<SessionExerciseDTO> getSessionExercisesByTrainingSession(@PathVariable Long trainingSessionId) {
+        log.debug("Streaming session exercises for trainingSessionId: {}", trainingSessionId);
+        return reactiveReadService.getSessionExercisesByTrainingSession(trainingSessionId);
+    }
+
+    /**
+     * Retrieves a page of the exercise catalog.
+     */
+    @Get("/exercise")
+    @Operation(
+        summary = "Get all exercises (non-blocking)",
+        description = "Retrieves all exercises with pagination support over R2DBC")
+    @ApiResponse(responseCode = "200", description = "Exercises retrieved successfully")
+    public Mono<Page<ExerciseDTO>> getExercises(Pageable pageable) {
+        log.debug("Retrieving exercises page: {}", pageable);
+        return reactiveReadService.getExercises(pageable);
+    }
+}
@@ -2,14 +2,21 @@ package com.rvladimir.web.rest;
 
 import com.rvladimir.service.SessionExerciseService;
 import com.rvladimir.service.dto.CreateSessionExerciseDTO;
+import com.rvladimir.service.dto.NotesSearchResultDTO;
 import com.rvladimir.service.dto.SessionExerciseDTO;
+import com.rvladimir.web.codec.BinaryMediaType;
 
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.Body;
+import io.micronaut.http.annotation.Consumes;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Get;
 import io.micronaut.http.annotation.PathVariable;
 import io.micronaut.http.annotation.Post;
+import io.micronaut.http.annotation.Produces;
+import io.micronaut.http.annotation.QueryValue;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -26,6 +33,8 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Tag(name = "SessionExercise", description = "Session Exercise management API")
 @Controller("/session-exercise")
+@Produces({MediaType.APPLICATION_JSON, BinaryMediaType.APPLICATION_CBOR, BinaryMediaType.APPLICATION_SMILE})
+@Consumes({MediaType.APPLICATION_JSON, BinaryMediaType.APPLICATION_CBOR, BinaryMediaType.APPLICATION_SMILE})
 @RequiredArgsConstructor
 @Slf4j
 public class SessionExerciseResource {
@@ -37,15 +46,18 @@ public class SessionExerciseResource {
     @Get("/training-session/{trainingSessionId}")
     @Operation(
         summary = "Get session exercises by training session",
-        description = "Retrieves all session exercises for a given training session.")
+        description = "Retrieves all session exercises for a given training session. " +
+            "`fields` narrows each session exercise to the listed properties and its ID.")
     @ApiResponse(responseCode = "200", description = "List of SessionExercises")
+    @ApiResponse(responseCode = "400", description = "Unknown field.")
     @ApiResponse(responseCode = "404", description = "Training session not found.")
     public HttpResponse<List<SessionExerciseDTO>> getSessionExercisesByTrainingSession(
-        @PathVariable Long trainingSessionId
+        @PathVariable Long trainingSessionId,
+        @QueryValue @Nullable String fields
     ) {
         log.info("Retrieving session exercises for trainingSessionId: {}", trainingSessionId);
         List<SessionExerciseDTO> result =
-            sessionExerciseService.getSessionExercisesByTrainingSession(trainingSessionId);
+            sessionExerciseService.getSessionExercisesByTrainingSession(trainingSessionId, fields);
         if (result == null || result.isEmpty()) {
             log.warn("No session exercises found for trainingSessionId: {}", trainingSessionId);
         } else {
@@ -54,6 +66,29 @@ public class SessionExerciseResource {
         return HttpResponse.ok(result);
     }
 
+    /**
+     * Searches the notes of a user's session exercises.
+     */
+    @Get("/notes/search")
+    @Operation(
+        summary = "Search session exercise notes",
+        description = "Full-text search over the notes of a user's session exercises, best match first, with " +
+            "highlighted excerpts. Repeat with the returned cursor while hasMore is true.")
+    @ApiResponse(responseCode = "200", description = "One page of matching session exercises.")
+    @ApiResponse(responseCode = "400", description = "Blank query, invalid cursor or limit.")
+    public HttpResponse<NotesSearchResultDTO> searchNotes(
+        @QueryValue Long userId,
+        @QueryValue String q,
+        @QueryValue @Nullable String cursor,
+        @QueryValue(defaultValue = "20") int limit
+    ) {
+        log.info("Searching session exercise notes for user ID: {} (limit {})", userId, limit);
+        NotesSearchResultDTO result = sessionExerciseService.searchNotes(userId, q, cursor, limit);
+        log.info("Notes search for user ID {} returned {} matches, hasMore={}",
+            userId, result.getMatches().size(), result.isHasMore());
+        return HttpResponse.ok(result);
+    }
+
     /**
      * Creates a new SessionExercise for a training session.
      */
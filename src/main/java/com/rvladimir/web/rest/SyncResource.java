@@ -0,0 +1,58 @@
+package com.rvladimir.web.rest;
+
+import com.rvladimir.service.SyncService;
+import com.rvladimir.service.dto.SyncChangesDTO;
+import com.rvladimir.web.codec.BinaryMediaType;
+
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Consumes;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Produces;
+import io.micronaut.http.annotation.QueryValue;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Tag(name = "Sync")
+@Controller("/sync")
+@Produces({MediaType.APPLICATION_JSON, BinaryMediaType.APPLICATION_CBOR, BinaryMediaType.APPLICATION_SMILE})
+@Consumes({MediaType.APPLICATION_JSON, BinaryMediaType.APPLICATION_CBOR, BinaryMediaType.APPLICATION_SMILE})
+@Slf4j
+@AllArgsConstructor
+public class SyncResource {
+
+    private final SyncService syncService;
+
+    @ApiResponse(responseCode = "200", description = "Changes since the cursor.")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor or limit.")
+    @Operation(
+        summary = "Get changes since a sync cursor",
+        description = "Returns the training sessions and session exercises of a user created, updated or deleted " +
+            "since the cursor of the previous sync. Omit the cursor for a full sync and repeat with the returned " +
+            "cursor while hasMore is true."
+    )
+    @Get
+    public HttpResponse<SyncChangesDTO> getChanges(
+        @QueryValue Long userId,
+        @QueryValue @Nullable String cursor,
+        @QueryValue(defaultValue = "500") int limit
+    ) {
+        log.info("Syncing changes for user ID: {} (limit {})", userId, limit);
+        SyncChangesDTO changes = syncService.changesSince(userId, cursor, limit);
+        log.info(
+            "Sync for user ID {} returned {} sessions, {} exercises, {} deletions, hasMore={}",
+            userId,
+            changes.getTrainingSessions().size(),
+            changes.getSessionExercises().size(),
+            changes.getDeletedTrainingSessionIds().size() + changes.getDeletedSessionExerciseIds().size(),
+            changes.isHasMore()
+        );
+        return HttpResponse.ok(changes);
+    }
+}
@@ -0,0 +1,48 @@
+package com.rvladimir.web.rest;
+
+import com.rvladimir.service.TrainingLoadService;
+import com.rvladimir.service.dto.TrainingLoadSeriesDTO;
+import com.rvladimir.web.codec.BinaryMediaType;
+
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Produces;
+import io.micronaut.http.annotation.QueryValue;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import java.time.LocalDate;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * REST resource for training load.
+ */
+@Tag(name = "Training Load", description = "Daily training load, acute and chronic averages and their ratio")
+@Controller("/training-load")
+@Produces({MediaType.APPLICATION_JSON, BinaryMediaType.APPLICATION_CBOR, BinaryMediaType.APPLICATION_SMILE})
+@RequiredArgsConstructor
+public class TrainingLoadResource {
+    private final TrainingLoadService trainingLoadService;
+
+    /**
+     * Retrieves the daily training load of a user over a range of days.
+     */
+    @Get
+    @Operation(
+        summary = "Get training load",
+        description = "One point per day from `from` to `to` (at most 366 days): the day's load, the acute and " +
+            "chronic exponentially weighted averages and the acute:chronic workload ratio.")
+    @ApiResponse(responseCode = "200", description = "The daily training load, oldest first.")
+    @ApiResponse(responseCode = "400", description = "Invalid range.")
+    public HttpResponse<TrainingLoadSeriesDTO> getSeries(
+        @QueryValue Long userId,
+        @QueryValue LocalDate from,
+        @QueryValue LocalDate to
+    ) {
+        return HttpResponse.ok(trainingLoadService.getSeries(userId, from, to));
+    }
+}
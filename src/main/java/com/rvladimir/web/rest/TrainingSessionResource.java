@@ -1,31 +1,47 @@
 package com.rvladimir.web.rest;
 
+import com.rvladimir.service.TrainingSessionHistoryService;
 import com.rvladimir.service.TrainingSessionService;
 import com.rvladimir.service.dto.CreateTrainingSessionDTO;
 import com.rvladimir.service.dto.QuickStartIntervalDTO;
 import com.rvladimir.service.dto.QuickStartIntervalResponseDTO;
 import com.rvladimir.service.dto.TrainingSessionDTO;
+import com.rvladimir.service.dto.TrainingSessionHistoryDTO;
+import com.rvladimir.web.codec.BinaryMediaType;
 
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.Body;
+import io.micronaut.http.annotation.Consumes;
 import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.PathVariable;
 import io.micronaut.http.annotation.Post;
+import io.micronaut.http.annotation.Produces;
+import io.micronaut.http.annotation.QueryValue;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 import jakarta.validation.Valid;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Tag(name = "Training Session")
 @Controller("/training-session")
+@Produces({MediaType.APPLICATION_JSON, BinaryMediaType.APPLICATION_CBOR, BinaryMediaType.APPLICATION_SMILE})
+@Consumes({MediaType.APPLICATION_JSON, BinaryMediaType.APPLICATION_CBOR, BinaryMediaType.APPLICATION_SMILE})
 @Slf4j
 @AllArgsConstructor
 public class TrainingSessionResource {
 
     private final TrainingSessionService trainingSessionService;
+    private final TrainingSessionHistoryService trainingSessionHistoryService;
 
     @ApiResponse(responseCode = "201", description = "Training session created successfully.")
     @ApiResponse(responseCode = "400", description = "Invalid training session data.")
@@ -71,4 +87,78 @@ public class TrainingSessionResource {
         return HttpResponse.created(response);
     }
 
+    @ApiResponse(responseCode = "200", description = "Training sessions of the user within the range.")
+    @ApiResponse(responseCode = "400", description = "Invalid range or unknown field.")
+    @Operation(
+        summary = "Get training history",
+        description = "Retrieves the training sessions of a user created within a range, with their session " +
+            "exercises. Ranges reaching into archived periods are read through from cold storage. `fields` and " +
+            "`exerciseFields` narrow sessions and session exercises to the listed properties and their IDs."
+    )
+    @Get(uri = "/history")
+    public HttpResponse<List<TrainingSessionHistoryDTO>> getHistory(
+        @QueryValue Long userId,
+        @QueryValue LocalDateTime from,
+        @QueryValue LocalDateTime to,
+        @QueryValue @Nullable String fields,
+        @QueryValue @Nullable String exerciseFields
+    ) {
+        log.info("Retrieving training history for user ID: {} from {} to {}", userId, from, to);
+        List<TrainingSessionHistoryDTO> history =
+            trainingSessionHistoryService.getHistory(userId, from, to, fields, exerciseFields);
+        log.info("Found {} training sessions for user ID: {}", history.size(), userId);
+        return HttpResponse.ok(history);
+    }
+
+    @ApiResponse(responseCode = "200", description = "Templates of the user with their session exercises.")
+    @Operation(
+        summary = "Get training session templates",
+        description = "Retrieves the templates of a user with their session exercises, oldest first. Served from " +
+            "a per-user cache."
+    )
+    @Get(uri = "/templates")
+    public HttpResponse<List<TrainingSessionHistoryDTO>> getTemplates(@QueryValue Long userId) {
+        log.info("Retrieving templates for user ID: {}", userId);
+        return HttpResponse.ok(trainingSessionService.getTemplates(userId));
+    }
+
+    @ApiResponse(responseCode = "201", description = "Training session started from the template.")
+    @ApiResponse(responseCode = "400", description = "Template not found for the user.")
+    @Operation(
+        summary = "Start a training session from a template",
+        description = "Atomically copies a template and all its session exercises into a new STARTED session."
+    )
+    @Post(uri = "/templates/{templateId}/start")
+    public HttpResponse<TrainingSessionHistoryDTO> startFromTemplate(
+        @PathVariable Long templateId,
+        @QueryValue Long userId
+    ) {
+        log.info("Starting training session from template {} for user ID: {}", templateId, userId);
+        TrainingSessionHistoryDTO started = trainingSessionService.startFromTemplate(userId, templateId);
+        log.info(
+            "Training session started from template {}: id={}, exercises={}",
+            templateId,
+            started.getTrainingSession().getId(),
+            started.getSessionExercises().size()
+        );
+        return HttpResponse.created(started);
+    }
+
+    @ApiResponse(responseCode = "201", description = "Template saved.")
+    @ApiResponse(responseCode = "400", description = "Training session not found for the user.")
+    @Operation(
+        summary = "Save a training session as a template",
+        description = "Copies a training session and all its session exercises into a new template."
+    )
+    @Post(uri = "/{trainingSessionId}/template")
+    public HttpResponse<TrainingSessionHistoryDTO> saveAsTemplate(
+        @PathVariable Long trainingSessionId,
+        @QueryValue Long userId
+    ) {
+        log.info("Saving training session {} as a template for user ID: {}", trainingSessionId, userId);
+        TrainingSessionHistoryDTO template = trainingSessionService.saveAsTemplate(userId, trainingSessionId);
+        log.info("Template saved: id={}", template.getTrainingSession().getId());
+        return HttpResponse.created(template);
+    }
+
 }
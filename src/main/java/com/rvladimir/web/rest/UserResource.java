@@ -1,22 +1,31 @@
 package com.rvladimir.web.rest;
 
+import com.rvladimir.provisioning.UserCsvParser;
+import com.rvladimir.service.UserProvisioningService;
 import com.rvladimir.service.UserService;
 import com.rvladimir.service.dto.CreateUserDTO;
+import com.rvladimir.service.dto.ProvisionedUserDTO;
 import com.rvladimir.service.dto.UserDTO;
 
 import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.Body;
+import io.micronaut.http.annotation.Consumes;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Get;
 import io.micronaut.http.annotation.Post;
+import io.micronaut.http.annotation.Produces;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 import jakarta.validation.Valid;
 
+import java.util.List;
+
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 
 @Tag(name = "User")
 @Controller("/user")
@@ -25,6 +34,7 @@ import lombok.extern.slf4j.Slf4j;
 public class UserResource {
 
     private final UserService userService;
+    private final UserProvisioningService userProvisioningService;
 
     @ApiResponse(responseCode = "201", description = "User created successfully.")
     @ApiResponse(responseCode = "400", description = "Invalid user data.")
@@ -45,6 +55,39 @@ public class UserResource {
         return HttpResponse.created(userDTO);
     }
 
+    @ApiResponse(responseCode = "200", description = "Outcome of every user, streamed as newline-delimited JSON.")
+    @ApiResponse(responseCode = "400", description = "Too many users in the request.")
+    @ApiResponse(responseCode = "429", description = "Too many bulk provisioning requests running.")
+    @Operation(
+        summary = "Create users in bulk",
+        description = "Creates users with role USER and streams one outcome per user: CREATED, DUPLICATE, INVALID " +
+            "or FAILED. Invalid or duplicate users do not stop the others. Admin only."
+    )
+    @Post(uri = "/bulk")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON_STREAM)
+    public Flux<ProvisionedUserDTO> provisionUsers(@Body List<CreateUserDTO> users) {
+        log.info("Provisioning {} users", users.size());
+        return userProvisioningService.provision(users);
+    }
+
+    @ApiResponse(responseCode = "200", description = "Outcome of every user, streamed as newline-delimited JSON.")
+    @ApiResponse(responseCode = "400", description = "Malformed CSV or too many users in the request.")
+    @ApiResponse(responseCode = "429", description = "Too many bulk provisioning requests running.")
+    @Operation(
+        summary = "Create users in bulk from CSV",
+        description = "Same as the JSON variant, from a CSV with a header row naming the columns name, lastname, " +
+            "nickname, dateBirth (ISO date), email and password. Admin only."
+    )
+    @Post(uri = "/bulk")
+    @Consumes(MediaType.TEXT_CSV)
+    @Produces(MediaType.APPLICATION_JSON_STREAM)
+    public Flux<ProvisionedUserDTO> provisionUsersFromCsv(@Body String csv) {
+        List<CreateUserDTO> users = UserCsvParser.parse(csv);
+        log.info("Provisioning {} users from CSV", users.size());
+        return userProvisioningService.provision(users);
+    }
+
     @Get()
     public HttpResponse<String> getUser() {
         log.info("getUser endpoint called");
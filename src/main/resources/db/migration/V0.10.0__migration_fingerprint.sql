@@ -0,0 +1,8 @@
+-- Fingerprint of the migration set last applied by a migrator instance (single row).
+-- Follower instances compare it with the fingerprint they were built with and skip Flyway when both match.
+CREATE TABLE IF NOT EXISTS ttrack.migration_fingerprint (
+    id SMALLINT PRIMARY KEY DEFAULT 1,
+    fingerprint VARCHAR(64) NOT NULL,
+    recorded_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT ck_migration_fingerprint_single_row CHECK (id = 1)
+);
@@ -0,0 +1,101 @@
+-- Change feed for offline-first mobile sync. Holds one row per training session and session exercise with
+-- the change sequence of its latest write; deleted rows stay behind as tombstones (deleted = TRUE).
+-- change_seq is the 64-bit ID of the writing transaction. Clients only receive changes of transactions older
+-- than every transaction still running, so a change can never become visible behind a cursor already handed out.
+CREATE TABLE IF NOT EXISTS ttrack.sync_change (
+    entity_type VARCHAR(32) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    change_seq BIGINT NOT NULL,
+    deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    changed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT sync_change_pkey PRIMARY KEY (entity_type, entity_id)
+);
+
+-- Covers the sync read: one user's changes after a cursor, answered from the index alone
+CREATE INDEX IF NOT EXISTS idx_sync_change_user_seq
+    ON ttrack.sync_change (user_id, change_seq, entity_type, entity_id) INCLUDE (deleted);
+
+-- Upserts the feed row of one entity. Bulk moves such as archiving set ttrack.sync_suppress for their
+-- transaction so the rows they remove do not reach clients as deletes.
+CREATE OR REPLACE FUNCTION ttrack.record_sync_change(
+    changed_entity_type TEXT, changed_entity_id BIGINT, changed_user_id BIGINT, is_deleted BOOLEAN)
+RETURNS VOID
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    IF changed_user_id IS NULL OR current_setting('ttrack.sync_suppress', TRUE) = 'on' THEN
+        RETURN;
+    END IF;
+    INSERT INTO ttrack.sync_change (entity_type, entity_id, user_id, change_seq, deleted)
+    VALUES (changed_entity_type, changed_entity_id, changed_user_id,
+        CAST(CAST(pg_current_xact_id() AS TEXT) AS BIGINT), is_deleted)
+    ON CONFLICT (entity_type, entity_id) DO UPDATE
+        SET user_id = EXCLUDED.user_id,
+            change_seq = EXCLUDED.change_seq,
+            deleted = EXCLUDED.deleted,
+            changed_at = CURRENT_TIMESTAMP;
+END;
+$$;
+
+CREATE OR REPLACE FUNCTION ttrack.training_session_sync_change()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        PERFORM ttrack.record_sync_change('TRAINING_SESSION', OLD.id, OLD.user_id, TRUE);
+        RETURN OLD;
+    END IF;
+    PERFORM ttrack.record_sync_change('TRAINING_SESSION', NEW.id, NEW.user_id, FALSE);
+    RETURN NEW;
+END;
+$$;
+
+-- Session exercises carry no user_id; it comes from their session, or from the session's feed row
+-- when the session is deleted in the same statement
+CREATE OR REPLACE FUNCTION ttrack.session_exercise_sync_change()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    changed ttrack.session_exercise%ROWTYPE;
+    owner_id BIGINT;
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        changed := OLD;
+    ELSE
+        changed := NEW;
+    END IF;
+    SELECT ts.user_id INTO owner_id FROM ttrack.training_session ts WHERE ts.id = changed.training_session_id;
+    IF owner_id IS NULL THEN
+        SELECT sc.user_id INTO owner_id FROM ttrack.sync_change sc
+        WHERE sc.entity_type = 'TRAINING_SESSION' AND sc.entity_id = changed.training_session_id;
+    END IF;
+    PERFORM ttrack.record_sync_change('SESSION_EXERCISE', changed.id, owner_id, TG_OP = 'DELETE');
+    RETURN changed;
+END;
+$$;
+
+CREATE TRIGGER trg_training_session_sync_change
+    AFTER INSERT OR UPDATE OR DELETE ON ttrack.training_session
+    FOR EACH ROW EXECUTE FUNCTION ttrack.training_session_sync_change();
+
+-- Defined on the partitioned parent, so every monthly partition inherits it
+CREATE TRIGGER trg_session_exercise_sync_change
+    AFTER INSERT OR UPDATE OR DELETE ON ttrack.session_exercise
+    FOR EACH ROW EXECUTE FUNCTION ttrack.session_exercise_sync_change();
+
+-- Seed the feed with the existing rows so a first sync returns the current state
+INSERT INTO ttrack.sync_change (entity_type, entity_id, user_id, change_seq)
+SELECT 'TRAINING_SESSION', ts.id, ts.user_id, CAST(CAST(pg_current_xact_id() AS TEXT) AS BIGINT)
+FROM ttrack.training_session ts
+WHERE ts.user_id IS NOT NULL
+ON CONFLICT (entity_type, entity_id) DO NOTHING;
+
+INSERT INTO ttrack.sync_change (entity_type, entity_id, user_id, change_seq)
+SELECT 'SESSION_EXERCISE', se.id, ts.user_id, CAST(CAST(pg_current_xact_id() AS TEXT) AS BIGINT)
+FROM ttrack.session_exercise se
+JOIN ttrack.training_session ts ON ts.id = se.training_session_id
+WHERE ts.user_id IS NOT NULL
+ON CONFLICT (entity_type, entity_id) DO NOTHING;
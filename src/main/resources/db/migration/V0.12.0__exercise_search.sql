@@ -0,0 +1,15 @@
+-- Exercise catalog search. The generated search_vector serves ranked full-text matches on name and description;
+-- the trigram index serves fuzzy matches on misspelled or partial words the stemmer cannot map.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE ttrack.exercise
+    ADD COLUMN IF NOT EXISTS search_vector TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector(CAST('english' AS REGCONFIG), name), 'A')
+        || setweight(to_tsvector(CAST('english' AS REGCONFIG), description), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_exercise_search_vector
+    ON ttrack.exercise USING GIN (search_vector);
+
+CREATE INDEX IF NOT EXISTS idx_exercise_name_description_trgm
+    ON ttrack.exercise USING GIN (name gin_trgm_ops, description gin_trgm_ops);
@@ -0,0 +1,15 @@
+-- Full-text search over session exercise notes. The generated notes_vector is added on the partitioned parent, so
+-- every monthly partition gets the column and the index. The GIN index only covers annotated rows.
+ALTER TABLE ttrack.session_exercise
+    ADD COLUMN IF NOT EXISTS notes_vector TSVECTOR GENERATED ALWAYS AS (
+        to_tsvector(CAST('english' AS REGCONFIG), COALESCE(notes, ''))
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_session_exercise_notes_vector
+    ON ttrack.session_exercise USING GIN (notes_vector)
+    WHERE notes IS NOT NULL;
+
+-- Scopes a search to one user: their session IDs feed a bitmap scan on the training_session_id index that is
+-- ANDed with the notes index, and their oldest session bounds the partitions to scan
+CREATE INDEX IF NOT EXISTS idx_training_session_user_created_at
+    ON ttrack.training_session (user_id, created_at);
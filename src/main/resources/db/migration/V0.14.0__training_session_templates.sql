@@ -0,0 +1,11 @@
+-- Templates (status IS_TEMPLATE) are planned workouts, not training history. History and notes search scans go
+-- through a partial index without them, and template listings through a small partial index of their own.
+CREATE INDEX IF NOT EXISTS idx_training_session_user_created_at_history
+    ON ttrack.training_session (user_id, created_at)
+    WHERE status <> 'IS_TEMPLATE';
+
+DROP INDEX IF EXISTS ttrack.idx_training_session_user_created_at;
+
+CREATE INDEX IF NOT EXISTS idx_training_session_user_template
+    ON ttrack.training_session (user_id, created_at)
+    WHERE status = 'IS_TEMPLATE';
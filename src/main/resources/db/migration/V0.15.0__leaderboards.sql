@@ -0,0 +1,15 @@
+-- Snapshot of the in-memory leaderboards, read back at startup: each user's best score per board.
+-- Boards are named <scope>:<key>:<metric>, e.g. exercise:12:WEIGHT or type:BOXING_BAG:ROUNDS.
+CREATE TABLE IF NOT EXISTS ttrack.leaderboard_entry (
+    board VARCHAR(100) NOT NULL,
+    user_id BIGINT NOT NULL,
+    score DOUBLE PRECISION NOT NULL,
+    PRIMARY KEY (board, user_id),
+    CONSTRAINT fk_leaderboard_entry_user FOREIGN KEY (user_id) REFERENCES ttrack.user(id) ON DELETE CASCADE
+);
+
+-- Single row: when the last snapshot started. Startup replays session exercises created since then.
+CREATE TABLE IF NOT EXISTS ttrack.leaderboard_snapshot (
+    id SMALLINT PRIMARY KEY CHECK (id = 1),
+    taken_at TIMESTAMP NOT NULL
+);
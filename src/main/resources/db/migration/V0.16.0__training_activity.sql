@@ -0,0 +1,17 @@
+-- Training days of a user in one calendar year, for the activity heatmap and streaks.
+-- days: 46-byte bitset, bit n (least significant first, as get_bit/set_bit and java.util.BitSet) is day of year n + 1.
+-- intensity: 366 bytes, one per day of year: training sessions plus finished session exercises, capped at 255.
+CREATE TABLE IF NOT EXISTS ttrack.training_activity (
+    user_id BIGINT NOT NULL,
+    year SMALLINT NOT NULL,
+    days BYTEA NOT NULL CHECK (length(days) = 46),
+    intensity BYTEA NOT NULL CHECK (length(intensity) = 366),
+    PRIMARY KEY (user_id, year),
+    CONSTRAINT fk_training_activity_user FOREIGN KEY (user_id) REFERENCES ttrack.user(id) ON DELETE CASCADE
+);
+
+-- Single row: when training_activity was rebuilt from training_session. Until then every instance tries the rebuild.
+CREATE TABLE IF NOT EXISTS ttrack.training_activity_backfill (
+    id SMALLINT PRIMARY KEY CHECK (id = 1),
+    completed_at TIMESTAMP NOT NULL
+);
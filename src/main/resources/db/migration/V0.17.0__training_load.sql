@@ -0,0 +1,18 @@
+-- Training load of a user on each day with training, in arbitrary units, and the exponentially weighted averages
+-- (acute and chronic) as of the end of that day. Days without training are not stored: their averages are the
+-- previous stored day's, decayed.
+CREATE TABLE IF NOT EXISTS ttrack.training_load (
+    user_id BIGINT NOT NULL,
+    day DATE NOT NULL,
+    load DOUBLE PRECISION NOT NULL,
+    acute DOUBLE PRECISION NOT NULL,
+    chronic DOUBLE PRECISION NOT NULL,
+    PRIMARY KEY (user_id, day),
+    CONSTRAINT fk_training_load_user FOREIGN KEY (user_id) REFERENCES ttrack.user(id) ON DELETE CASCADE
+);
+
+-- Single row: when training_load was rebuilt from session exercises. Until then every instance tries the rebuild.
+CREATE TABLE IF NOT EXISTS ttrack.training_load_backfill (
+    id SMALLINT PRIMARY KEY CHECK (id = 1),
+    completed_at TIMESTAMP NOT NULL
+);
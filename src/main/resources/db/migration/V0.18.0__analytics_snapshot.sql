@@ -0,0 +1,3 @@
+-- Analytics snapshots follow the sync feed of every user at once, in feed order
+CREATE INDEX IF NOT EXISTS idx_sync_change_seq
+    ON ttrack.sync_change (change_seq, entity_type, entity_id) INCLUDE (deleted);
@@ -0,0 +1,15 @@
+-- Transactional outbox: domain events are inserted in the transaction of the write that raised them and delivered
+-- after commit by the outbox relay. Events of one aggregate (aggregate_type, aggregate_id) are delivered in id order.
+-- Delivered events are deleted; attempts counts failed deliveries of an event still pending.
+CREATE TABLE IF NOT EXISTS ttrack.outbox_event (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(32) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    event_type VARCHAR(64) NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0
+);
+
+-- Finds the earlier pending events of an aggregate, and all pending events of the aggregates in a batch
+CREATE INDEX IF NOT EXISTS idx_outbox_event_aggregate ON ttrack.outbox_event (aggregate_type, aggregate_id, id);
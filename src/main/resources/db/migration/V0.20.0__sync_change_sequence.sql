@@ -0,0 +1,63 @@
+-- Orders the sync feed by commit instead of by writing transaction. Triggers now leave change_seq NULL, and
+-- ttrack.sequence_sync_changes numbers committed entries from ttrack.sync_change_seq in short transactions of
+-- its own that run one at a time. An entry is therefore only numbered once its writer has committed, and after
+-- every entry numbered before it is visible, so a long-running writer delays its own changes and no one else's.
+CREATE SEQUENCE IF NOT EXISTS ttrack.sync_change_seq;
+
+-- Continue above the transaction IDs already handed out in cursors
+SELECT setval('ttrack.sync_change_seq', GREATEST(
+    (SELECT max(change_seq) FROM ttrack.sync_change),
+    CAST(CAST(pg_current_xact_id() AS TEXT) AS BIGINT)));
+
+ALTER TABLE ttrack.sync_change ALTER COLUMN change_seq DROP NOT NULL;
+
+-- Finds the entries waiting for a change sequence
+CREATE INDEX IF NOT EXISTS idx_sync_change_pending
+    ON ttrack.sync_change (entity_type, entity_id) WHERE change_seq IS NULL;
+
+CREATE OR REPLACE FUNCTION ttrack.record_sync_change(
+    changed_entity_type TEXT, changed_entity_id BIGINT, changed_user_id BIGINT, is_deleted BOOLEAN)
+RETURNS VOID
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    IF changed_user_id IS NULL OR current_setting('ttrack.sync_suppress', TRUE) = 'on' THEN
+        RETURN;
+    END IF;
+    INSERT INTO ttrack.sync_change (entity_type, entity_id, user_id, change_seq, deleted)
+    VALUES (changed_entity_type, changed_entity_id, changed_user_id, NULL, is_deleted)
+    ON CONFLICT (entity_type, entity_id) DO UPDATE
+        SET user_id = EXCLUDED.user_id,
+            change_seq = NULL,
+            deleted = EXCLUDED.deleted,
+            changed_at = CURRENT_TIMESTAMP;
+END;
+$$;
+
+-- Numbers up to max_entries committed entries and returns how many it numbered. Entries still locked by a running
+-- writer are skipped and numbered by a later call. Returns 0 right away while another call is running; that call
+-- numbers what this one would have. Must run in its own transaction, committed before the feed is read.
+CREATE OR REPLACE FUNCTION ttrack.sequence_sync_changes(max_entries INTEGER)
+RETURNS INTEGER
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    sequenced INTEGER;
+BEGIN
+    -- Arbitrary application-wide key, held until commit so numbered batches become visible in order
+    IF NOT pg_try_advisory_xact_lock(8391457768303427587) THEN
+        RETURN 0;
+    END IF;
+    WITH pending AS (
+        SELECT sc.entity_type, sc.entity_id FROM ttrack.sync_change sc
+        WHERE sc.change_seq IS NULL
+        LIMIT max_entries
+        FOR UPDATE SKIP LOCKED
+    )
+    UPDATE ttrack.sync_change sc SET change_seq = nextval('ttrack.sync_change_seq')
+    FROM pending p
+    WHERE sc.entity_type = p.entity_type AND sc.entity_id = p.entity_id;
+    GET DIAGNOSTICS sequenced = ROW_COUNT;
+    RETURN sequenced;
+END;
+$$;
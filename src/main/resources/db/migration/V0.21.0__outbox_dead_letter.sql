@@ -0,0 +1,14 @@
+-- Outbox events whose delivery failed ttrack.outbox.max-attempts times. The relay moves them here, with the message
+-- of their last failure, so they stop holding back their aggregate without being lost. The id is the one the event
+-- had in ttrack.outbox_event. To replay an event, insert it back into ttrack.outbox_event and delete it here.
+CREATE TABLE IF NOT EXISTS ttrack.outbox_dead_letter (
+    id BIGINT PRIMARY KEY,
+    aggregate_type VARCHAR(32) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    event_type VARCHAR(64) NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    attempts INTEGER NOT NULL,
+    failed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error TEXT
+);
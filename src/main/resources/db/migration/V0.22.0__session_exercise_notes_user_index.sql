@@ -0,0 +1,33 @@
+-- Scopes the notes search index to a user. Session exercises carry their session's user_id, kept by a trigger on
+-- every path that inserts them, so one btree_gin index on (user_id, notes_vector) answers a user's search without
+-- first collecting their session IDs and ANDing two bitmaps.
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+ALTER TABLE ttrack.session_exercise ADD COLUMN IF NOT EXISTS user_id BIGINT;
+
+CREATE OR REPLACE FUNCTION ttrack.set_session_exercise_user_id()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    NEW.user_id := (SELECT ts.user_id FROM ttrack.training_session ts WHERE ts.id = NEW.training_session_id);
+    RETURN NEW;
+END;
+$$;
+
+DROP TRIGGER IF EXISTS trg_session_exercise_user_id ON ttrack.session_exercise;
+CREATE TRIGGER trg_session_exercise_user_id
+    BEFORE INSERT OR UPDATE OF training_session_id ON ttrack.session_exercise
+    FOR EACH ROW EXECUTE FUNCTION ttrack.set_session_exercise_user_id();
+
+UPDATE ttrack.session_exercise se
+SET user_id = ts.user_id
+FROM ttrack.training_session ts
+WHERE ts.id = se.training_session_id
+  AND se.user_id IS NULL;
+
+DROP INDEX IF EXISTS ttrack.idx_session_exercise_notes_vector;
+
+CREATE INDEX IF NOT EXISTS idx_session_exercise_user_notes_vector
+    ON ttrack.session_exercise USING GIN (user_id, notes_vector)
+    WHERE notes IS NOT NULL;
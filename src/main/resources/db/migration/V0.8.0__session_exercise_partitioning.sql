@@ -0,0 +1,115 @@
+-- Convert ttrack.session_exercise into a table range-partitioned by month on created_at.
+-- The partition key must be part of every unique constraint, so the primary key becomes (id, created_at).
+
+-- created_at becomes the partition key and can no longer be NULL
+UPDATE ttrack.session_exercise se
+SET created_at = COALESCE(
+    (SELECT ts.created_at FROM ttrack.training_session ts WHERE ts.id = se.training_session_id),
+    CURRENT_TIMESTAMP)
+WHERE se.created_at IS NULL;
+
+-- Keep the id sequence alive while the old table is swapped out
+ALTER SEQUENCE ttrack.session_exercise_id_seq OWNED BY NONE;
+
+ALTER TABLE ttrack.session_exercise RENAME TO session_exercise_unpartitioned;
+ALTER INDEX ttrack.session_exercise_pkey RENAME TO session_exercise_unpartitioned_pkey;
+
+CREATE TABLE ttrack.session_exercise (
+    id BIGINT NOT NULL DEFAULT nextval('ttrack.session_exercise_id_seq'),
+    rounds INTEGER,
+    sets INTEGER,
+    repetitions INTEGER,
+    sprints INTEGER,
+    duration TIME,
+    weight FLOAT,
+    distance FLOAT,
+    start_time TIMESTAMP,
+    end_time TIMESTAMP,
+    rest_time INTEGER,
+    status VARCHAR,
+    exercise_order INTEGER,
+    exercise_id BIGINT,
+    training_session_id BIGINT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    unit_of_measurement VARCHAR(16),
+    type_of_exercise VARCHAR(32),
+    notes TEXT,
+    CONSTRAINT session_exercise_pkey PRIMARY KEY (id, created_at),
+    CONSTRAINT fk_session_exercise_exercise FOREIGN KEY (exercise_id) REFERENCES ttrack.exercise(id),
+    CONSTRAINT fk_session_exercise_training_session
+        FOREIGN KEY (training_session_id) REFERENCES ttrack.training_session(id)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE ttrack.session_exercise_id_seq OWNED BY ttrack.session_exercise.id;
+
+-- Session listings filter on the session and a created_at lower bound, so both prune and use the index
+CREATE INDEX idx_session_exercise_training_session_created_at
+    ON ttrack.session_exercise (training_session_id, created_at);
+
+-- Catches rows outside every monthly partition; the maintenance job keeps it empty
+CREATE TABLE ttrack.session_exercise_default PARTITION OF ttrack.session_exercise DEFAULT;
+
+-- Creates the monthly partition containing month_start (idempotent).
+-- Rows that already landed in the default partition for that month are moved into the new partition.
+CREATE OR REPLACE FUNCTION ttrack.create_session_exercise_partition(month_start DATE)
+RETURNS TEXT
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    range_start DATE := date_trunc('month', month_start)::DATE;
+    range_end DATE := (date_trunc('month', month_start) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := 'session_exercise_p' || to_char(range_start, 'YYYY_MM');
+BEGIN
+    IF to_regclass('ttrack.' || partition_name) IS NOT NULL THEN
+        RETURN partition_name;
+    END IF;
+
+    IF NOT EXISTS (
+        SELECT 1 FROM ttrack.session_exercise_default
+        WHERE created_at >= range_start AND created_at < range_end
+    ) THEN
+        EXECUTE format(
+            'CREATE TABLE ttrack.%I PARTITION OF ttrack.session_exercise FOR VALUES FROM (%L) TO (%L)',
+            partition_name, range_start, range_end);
+        RETURN partition_name;
+    END IF;
+
+    -- A partition cannot be created while the default partition holds rows for its range
+    EXECUTE format(
+        'CREATE TEMP TABLE session_exercise_default_spill ON COMMIT DROP AS '
+            'SELECT * FROM ttrack.session_exercise_default WHERE created_at >= %L AND created_at < %L',
+        range_start, range_end);
+    DELETE FROM ttrack.session_exercise_default
+        WHERE created_at >= range_start AND created_at < range_end;
+    EXECUTE format(
+        'CREATE TABLE ttrack.%I PARTITION OF ttrack.session_exercise FOR VALUES FROM (%L) TO (%L)',
+        partition_name, range_start, range_end);
+    EXECUTE 'INSERT INTO ttrack.session_exercise SELECT * FROM session_exercise_default_spill';
+    EXECUTE 'DROP TABLE session_exercise_default_spill';
+
+    RETURN partition_name;
+END;
+$$;
+
+-- Partitions for every month that already has data, plus the next three months
+SELECT ttrack.create_session_exercise_partition(month_start::DATE)
+FROM generate_series(
+    date_trunc('month', COALESCE(
+        (SELECT MIN(created_at) FROM ttrack.session_exercise_unpartitioned), CURRENT_TIMESTAMP)),
+    date_trunc('month', CURRENT_TIMESTAMP) + INTERVAL '3 months',
+    INTERVAL '1 month') AS month_start;
+
+INSERT INTO ttrack.session_exercise (
+    id, rounds, sets, repetitions, sprints, duration, weight, distance, start_time, end_time, rest_time,
+    status, exercise_order, exercise_id, training_session_id, created_at, unit_of_measurement,
+    type_of_exercise, notes)
+SELECT
+    id, rounds, sets, repetitions, sprints, duration, weight, distance, start_time, end_time, rest_time,
+    status, exercise_order, exercise_id, training_session_id, created_at, unit_of_measurement,
+    type_of_exercise, notes
+FROM ttrack.session_exercise_unpartitioned;
+
+DROP TABLE ttrack.session_exercise_unpartitioned;
+
+-- Detached partitions are moved here before they are archived
+CREATE SCHEMA IF NOT EXISTS ttrack_archive;
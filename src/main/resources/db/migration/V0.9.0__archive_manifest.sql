@@ -0,0 +1,17 @@
+-- Index of archive files holding finished training sessions moved out of the hot tables.
+-- Each file holds sessions of one user created between period_start and period_end (inclusive).
+CREATE TABLE IF NOT EXISTS ttrack.archive_manifest (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    period_start TIMESTAMP NOT NULL,
+    period_end TIMESTAMP NOT NULL,
+    session_count INTEGER NOT NULL,
+    exercise_count INTEGER NOT NULL,
+    storage_key VARCHAR NOT NULL,
+    byte_size BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uq_archive_manifest_storage_key UNIQUE (storage_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_archive_manifest_user_period
+    ON ttrack.archive_manifest (user_id, period_start, period_end);
@@ -0,0 +1,5 @@
+-- Flyway callback: records the fingerprint of the migration set this instance was built with.
+-- The placeholder is set by com.rvladimir.migration.MigrationFingerprintGate.
+INSERT INTO ttrack.migration_fingerprint (id, fingerprint)
+VALUES (1, '${ttrack_migration_fingerprint}')
+ON CONFLICT (id) DO UPDATE SET fingerprint = EXCLUDED.fingerprint, recorded_at = CURRENT_TIMESTAMP;
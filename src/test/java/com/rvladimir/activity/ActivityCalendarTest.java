@@ -0,0 +1,99 @@
+package com.rvladimir.activity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.Month;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for ActivityCalendar.
+ */
+class ActivityCalendarTest {
+
+    private static final int YEAR = 2024;
+    private static final int NON_LEAP_YEAR = 2025;
+    private static final LocalDate JANUARY_1 = LocalDate.of(YEAR, Month.JANUARY, 1);
+    private static final LocalDate JANUARY_9 = LocalDate.of(YEAR, Month.JANUARY, 9);
+    private static final LocalDate MARCH_3 = LocalDate.of(YEAR, Month.MARCH, 3);
+    private static final LocalDate DECEMBER_31 = LocalDate.of(YEAR, Month.DECEMBER, 31);
+    private static final int WEIGHT = 3;
+    private static final int HEAVY_WEIGHT = 200;
+    private static final int LEAP_YEAR_DAYS = 366;
+    private static final int NON_LEAP_YEAR_DAYS = 365;
+    private static final int MARCH_RUN = 5;
+    private static final int TRAILING_RUN = 3;
+    private static final int PARTIAL_RUN = 4;
+
+    @Test
+    void testMarkSetsTheDayAndSaturatesIntensity() {
+        // Given
+        ActivityCalendar calendar = ActivityCalendar.empty(YEAR);
+
+        // When
+        calendar.mark(MARCH_3, WEIGHT);
+        calendar.mark(JANUARY_9, HEAVY_WEIGHT);
+        calendar.mark(JANUARY_9, HEAVY_WEIGHT);
+
+        // Then
+        assertThat(calendar.isActive(MARCH_3)).isTrue();
+        assertThat(calendar.isActive(JANUARY_1)).isFalse();
+        assertThat(calendar.activeDays()).isEqualTo(2);
+        assertThat(calendar.intensities()).hasSize(LEAP_YEAR_DAYS);
+        assertThat(calendar.intensities()[MARCH_3.getDayOfYear() - 1]).isEqualTo(WEIGHT);
+        assertThat(calendar.intensities()[JANUARY_9.getDayOfYear() - 1]).isEqualTo(ActivityCalendar.MAX_INTENSITY);
+        assertThat(ActivityCalendar.empty(NON_LEAP_YEAR).intensities()).hasSize(NON_LEAP_YEAR_DAYS);
+    }
+
+    @Test
+    void testStoredLayoutRoundTripsWithDayOfYearBits() {
+        // Given
+        ActivityCalendar calendar = ActivityCalendar.empty(YEAR);
+        calendar.mark(JANUARY_1, 1);
+        calendar.mark(JANUARY_9, WEIGHT);
+
+        // When
+        byte[] days = calendar.daysBytes();
+        ActivityCalendar decoded = ActivityCalendar.of(YEAR, days, calendar.intensityBytes());
+
+        // Then
+        assertThat(days).hasSize(ActivityCalendar.DAY_BYTES);
+        assertThat(days[0]).isEqualTo((byte) 1);
+        assertThat(days[1]).isEqualTo((byte) 1);
+        assertThat(decoded.isActive(JANUARY_9)).isTrue();
+        assertThat(decoded.intensities()).isEqualTo(calendar.intensities());
+    }
+
+    @Test
+    void testStreaksAreFoundWithBitScans() {
+        // Given
+        ActivityCalendar calendar = ActivityCalendar.empty(YEAR);
+        calendar.mark(JANUARY_1, 1);
+        for (int i = 0; i < MARCH_RUN; i++) {
+            calendar.mark(MARCH_3.plusDays(i), 1);
+        }
+        for (int i = 0; i < TRAILING_RUN; i++) {
+            calendar.mark(DECEMBER_31.minusDays(i), 1);
+        }
+
+        // When / Then
+        assertThat(calendar.longestStreak()).isEqualTo(MARCH_RUN);
+        assertThat(calendar.streakEndingOn(MARCH_3.plusDays(PARTIAL_RUN - 1))).isEqualTo(PARTIAL_RUN);
+        assertThat(calendar.streakEndingOn(MARCH_3.minusDays(1))).isZero();
+        assertThat(calendar.leadingStreak()).isEqualTo(1);
+        assertThat(calendar.trailingStreak()).isEqualTo(TRAILING_RUN);
+        assertThat(calendar.lastActiveOnOrBefore(MARCH_3.minusDays(1))).contains(JANUARY_1);
+        assertThat(ActivityCalendar.empty(YEAR).lastActiveOnOrBefore(DECEMBER_31)).isEmpty();
+    }
+
+    @Test
+    void testDaysOfAnotherYearAreRejected() {
+        // Given
+        ActivityCalendar calendar = ActivityCalendar.empty(NON_LEAP_YEAR);
+
+        // When / Then
+        assertThatThrownBy(() -> calendar.mark(MARCH_3, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
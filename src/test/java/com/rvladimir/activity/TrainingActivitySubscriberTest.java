@@ -0,0 +1,116 @@
+package com.rvladimir.activity;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.outbox.Outbox;
+import com.rvladimir.outbox.OutboxEvent;
+import com.rvladimir.outbox.OutboxEventType;
+import com.rvladimir.outbox.SessionExerciseSaved;
+import com.rvladimir.outbox.TrainingSessionCreated;
+import com.rvladimir.repository.jdbc.TrainingActivityJdbcRepository;
+
+import io.micronaut.serde.ObjectMapper;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Test class for TrainingActivitySubscriber.
+ */
+@ExtendWith(MockitoExtension.class)
+class TrainingActivitySubscriberTest {
+
+    private static final long USER_ID = 4L;
+    private static final long TRAINING_SESSION_ID = 9L;
+    private static final long SESSION_EXERCISE_ID = 12L;
+    private static final LocalDateTime STARTED_AT = LocalDateTime.now().minusDays(2);
+    private static final String PAYLOAD = "{}";
+
+    @Mock
+    private TrainingActivityJdbcRepository trainingActivityJdbcRepository;
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @InjectMocks
+    private TrainingActivitySubscriber subscriber;
+
+    @Test
+    void testCreatedSessionMarksItsDay() throws IOException {
+        // Given
+        when(objectMapper.readValue(PAYLOAD, TrainingSessionCreated.class)).thenReturn(new TrainingSessionCreated(
+            TRAINING_SESSION_ID, USER_ID, TrainingSession.Status.STARTED, STARTED_AT));
+
+        // When
+        subscriber.onEvent(event(OutboxEventType.TRAINING_SESSION_CREATED));
+
+        // Then
+        verify(trainingActivityJdbcRepository).mark(USER_ID, STARTED_AT.toLocalDate(), 1);
+    }
+
+    @Test
+    void testCreatedTemplateIsIgnored() throws IOException {
+        // Given
+        when(objectMapper.readValue(PAYLOAD, TrainingSessionCreated.class)).thenReturn(new TrainingSessionCreated(
+            TRAINING_SESSION_ID, USER_ID, TrainingSession.Status.IS_TEMPLATE, STARTED_AT));
+
+        // When
+        subscriber.onEvent(event(OutboxEventType.TRAINING_SESSION_CREATED));
+
+        // Then
+        verifyNoInteractions(trainingActivityJdbcRepository);
+    }
+
+    @Test
+    void testFinishedExerciseRaisesItsSessionDay() throws IOException {
+        // Given
+        when(objectMapper.readValue(PAYLOAD, SessionExerciseSaved.class))
+            .thenReturn(saved(TrainingSession.Status.STARTED, SessionExercise.Status.FINISHED));
+
+        // When
+        subscriber.onEvent(event(OutboxEventType.SESSION_EXERCISE_SAVED));
+
+        // Then
+        verify(trainingActivityJdbcRepository).mark(USER_ID, STARTED_AT.toLocalDate(), 1);
+    }
+
+    @Test
+    void testStartedExerciseAndTemplateExerciseAreIgnored() throws IOException {
+        // Given
+        when(objectMapper.readValue(PAYLOAD, SessionExerciseSaved.class)).thenReturn(
+            saved(TrainingSession.Status.STARTED, SessionExercise.Status.STARTED),
+            saved(TrainingSession.Status.IS_TEMPLATE, SessionExercise.Status.FINISHED));
+
+        // When
+        subscriber.onEvent(event(OutboxEventType.SESSION_EXERCISE_SAVED));
+        subscriber.onEvent(event(OutboxEventType.SESSION_EXERCISE_SAVED));
+
+        // Then
+        verifyNoInteractions(trainingActivityJdbcRepository);
+    }
+
+    private static OutboxEvent event(OutboxEventType type) {
+        return new OutboxEvent(1L, Outbox.TRAINING_SESSION, TRAINING_SESSION_ID, type.name(), PAYLOAD, STARTED_AT, 0);
+    }
+
+    private static SessionExerciseSaved saved(TrainingSession.Status sessionStatus, SessionExercise.Status status) {
+        SessionExerciseSaved saved = new SessionExerciseSaved();
+        saved.setSessionExerciseId(SESSION_EXERCISE_ID);
+        saved.setTrainingSessionId(TRAINING_SESSION_ID);
+        saved.setUserId(USER_ID);
+        saved.setTrainingSessionStatus(sessionStatus);
+        saved.setTrainingDay(STARTED_AT.toLocalDate());
+        saved.setStatus(status);
+        saved.setCreatedAt(STARTED_AT);
+        return saved;
+    }
+}
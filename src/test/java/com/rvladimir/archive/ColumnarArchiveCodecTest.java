@@ -0,0 +1,119 @@
+package com.rvladimir.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.repository.row.SessionExerciseRow;
+import com.rvladimir.repository.row.TrainingSessionRow;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for ColumnarArchiveCodec and the grouping of TrainingSessionArchiveJob.
+ */
+class ColumnarArchiveCodecTest {
+
+    private static final String MORNING_RUN = "Morning Run";
+    private static final long USER_ID = 7L;
+    private static final long OTHER_USER_ID = 8L;
+    private static final long FIRST_SESSION_ID = 100L;
+    private static final long SECOND_SESSION_ID = 101L;
+    private static final long EXERCISE_ID = 3L;
+    private static final LocalDateTime JANUARY_START = LocalDateTime.of(2024, 1, 5, 7, 30, 15, 123_456_000);
+    private static final LocalDateTime JANUARY_END = LocalDateTime.of(2024, 1, 28, 18, 0);
+    private static final LocalDateTime FEBRUARY = LocalDateTime.of(2024, 2, 2, 9, 0);
+    private static final LocalTime DURATION = LocalTime.of(0, 45, 30);
+    private static final int ROUNDS = 5;
+    private static final long SESSION_MINUTES = 45L;
+    private static final int REST_TIME = 60;
+    private static final double DISTANCE = 5.25;
+    private static final int LONG_NOTES_LENGTH = 70_000;
+    private static final int SESSION_COUNT = 1_000;
+
+    @Test
+    void testEncodeDecodeRoundTrip() throws IOException {
+        // Given
+        TrainingSessionRow first = new TrainingSessionRow(
+            FIRST_SESSION_ID, MORNING_RUN, null, TrainingSession.Status.FINISHED, USER_ID, JANUARY_START);
+        TrainingSessionRow second = new TrainingSessionRow(
+            SECOND_SESSION_ID, "Évening Boxing 🥊", "Bag work", TrainingSession.Status.FINISHED, USER_ID,
+            JANUARY_END);
+        SessionExerciseRow run = new SessionExerciseRow(
+            1L, null, null, null, null, DURATION, null, DISTANCE, JANUARY_START,
+            JANUARY_START.plusMinutes(SESSION_MINUTES), null, SessionExercise.Status.FINISHED, 1, EXERCISE_ID,
+            FIRST_SESSION_ID, JANUARY_START,
+            SessionExercise.UnitOfMeasurement.KILOMETERS, TypeOfExercise.CARDIO, "x".repeat(LONG_NOTES_LENGTH));
+        SessionExerciseRow boxing = new SessionExerciseRow(
+            2L, ROUNDS, null, null, null, null, null, null, null, null, REST_TIME,
+            SessionExercise.Status.FINISHED, 1, null, SECOND_SESSION_ID, JANUARY_END,
+            null, TypeOfExercise.BOXING_BAG, null);
+        ArchivedSessions archive = new ArchivedSessions(List.of(first, second), List.of(run, boxing));
+
+        // When
+        ArchivedSessions decoded = ColumnarArchiveCodec.decode(ColumnarArchiveCodec.encode(archive));
+
+        // Then
+        assertThat(decoded).isEqualTo(archive);
+    }
+
+    @Test
+    void testEncodeIsSmallerThanRowCountTimesColumns() throws IOException {
+        // Given
+        List<TrainingSessionRow> sessions = new ArrayList<>();
+        for (int i = 0; i < SESSION_COUNT; i++) {
+            sessions.add(new TrainingSessionRow(FIRST_SESSION_ID + i, MORNING_RUN, null,
+                TrainingSession.Status.FINISHED, USER_ID, JANUARY_START.plusHours(i)));
+        }
+
+        // When
+        byte[] encoded = ColumnarArchiveCodec.encode(new ArchivedSessions(sessions, List.of()));
+
+        // Then
+        assertThat(encoded.length).isLessThan(SESSION_COUNT);
+        assertThat(ColumnarArchiveCodec.decode(encoded).getTrainingSessions()).isEqualTo(sessions);
+    }
+
+    @Test
+    void testDecodeRejectsForeignContent() throws IOException {
+        // Given
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(new byte[] {1, 2, 2, 1});
+        }
+
+        // When / Then
+        assertThatThrownBy(() -> ColumnarArchiveCodec.decode(bytes.toByteArray()))
+            .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void testGroupByUserAndMonthSplitsFiles() {
+        // Given
+        TrainingSessionRow january = new TrainingSessionRow(
+            FIRST_SESSION_ID, null, null, TrainingSession.Status.FINISHED, USER_ID, JANUARY_START);
+        TrainingSessionRow lateJanuary = new TrainingSessionRow(
+            SECOND_SESSION_ID, null, null, TrainingSession.Status.FINISHED, USER_ID, JANUARY_END);
+        TrainingSessionRow february = new TrainingSessionRow(
+            SECOND_SESSION_ID + 1, null, null, TrainingSession.Status.FINISHED, USER_ID, FEBRUARY);
+        TrainingSessionRow otherUser = new TrainingSessionRow(
+            SECOND_SESSION_ID + 2, null, null, TrainingSession.Status.FINISHED, OTHER_USER_ID, JANUARY_START);
+
+        // When
+        List<List<TrainingSessionRow>> groups = TrainingSessionArchiveJob.groupByUserAndMonth(
+            List.of(january, lateJanuary, february, otherUser));
+
+        // Then
+        assertThat(groups).containsExactly(List.of(january, lateJanuary), List.of(february), List.of(otherUser));
+    }
+}
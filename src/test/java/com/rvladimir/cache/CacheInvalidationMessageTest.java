@@ -0,0 +1,40 @@
+package com.rvladimir.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for CacheInvalidationMessage.
+ */
+class CacheInvalidationMessageTest {
+
+    private static final String NODE_ID = "node-1";
+    private static final String ENTITY_NAME = "com.rvladimir.domain.Exercise";
+    private static final String ENTITY_ID = "42";
+
+    @Test
+    void testEncodeDecodeRoundTrip() {
+        // Given
+        CacheInvalidationMessage message = new CacheInvalidationMessage(NODE_ID, ENTITY_NAME, ENTITY_ID);
+
+        // When
+        Optional<CacheInvalidationMessage> decoded = CacheInvalidationMessage.decode(message.encode());
+
+        // Then
+        assertThat(decoded).isPresent();
+        assertThat(decoded.get().getNodeId()).isEqualTo(NODE_ID);
+        assertThat(decoded.get().getEntityName()).isEqualTo(ENTITY_NAME);
+        assertThat(decoded.get().getId()).isEqualTo(ENTITY_ID);
+    }
+
+    @Test
+    void testDecodeRejectsMalformedPayloads() {
+        assertThat(CacheInvalidationMessage.decode(null)).isEmpty();
+        assertThat(CacheInvalidationMessage.decode("")).isEmpty();
+        assertThat(CacheInvalidationMessage.decode(NODE_ID + "|" + ENTITY_NAME)).isEmpty();
+        assertThat(CacheInvalidationMessage.decode(NODE_ID + "||" + ENTITY_ID)).isEmpty();
+    }
+}
@@ -0,0 +1,62 @@
+package com.rvladimir.crac;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for RestoreConfigurationGuard.
+ */
+class RestoreConfigurationGuardTest {
+
+    private static final List<String> PREFIXES = List.of("DATASOURCES_", "JWT_");
+    private static final String PASSWORD = "DATASOURCES_DEFAULT_PASSWORD";
+    private static final String SECRET = "JWT_SECRET";
+    private static final String HOSTNAME = "HOSTNAME";
+    private static final String URL = "DATASOURCES_DEFAULT_URL";
+    private static final String CHECKPOINTED_PASSWORD = "checkpointed";
+    private static final String SECRET_VALUE = "secret";
+
+    @Test
+    void testUnchangedGuardedVariablesAllowTheRestore() {
+        // Given
+        Map<String, String> before = RestoreConfigurationGuard.digests(
+            Map.of(PASSWORD, CHECKPOINTED_PASSWORD, SECRET, SECRET_VALUE, HOSTNAME, "builder"), PREFIXES);
+
+        // When
+        Map<String, String> after = RestoreConfigurationGuard.digests(
+            Map.of(PASSWORD, CHECKPOINTED_PASSWORD, SECRET, SECRET_VALUE, HOSTNAME, "production-1"), PREFIXES);
+
+        // Then
+        assertThat(after).containsOnlyKeys(PASSWORD, SECRET);
+        assertThat(after.values()).doesNotContain(CHECKPOINTED_PASSWORD, SECRET_VALUE);
+        assertThat(RestoreConfigurationGuard.changed(before, after)).isEmpty();
+    }
+
+    @Test
+    void testChangedAddedAndRemovedVariablesAreReportedByName() {
+        // Given
+        Map<String, String> before = RestoreConfigurationGuard.digests(
+            Map.of(PASSWORD, CHECKPOINTED_PASSWORD, SECRET, SECRET_VALUE), PREFIXES);
+
+        // When
+        Map<String, String> after = RestoreConfigurationGuard.digests(
+            Map.of(PASSWORD, "rotated", URL, "jdbc:postgresql://db/ttrack"), PREFIXES);
+
+        // Then
+        assertThat(RestoreConfigurationGuard.changed(before, after))
+            .containsExactly(URL, PASSWORD, SECRET);
+    }
+
+    @Test
+    void testRestoreWithoutCheckpointDigestsIsAllowed() {
+        // When
+        Map<String, String> after = RestoreConfigurationGuard.digests(Map.of(SECRET, SECRET_VALUE), PREFIXES);
+
+        // Then
+        assertThat(RestoreConfigurationGuard.changed(null, after)).isEmpty();
+    }
+}
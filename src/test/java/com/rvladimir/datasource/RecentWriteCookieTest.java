@@ -0,0 +1,77 @@
+package com.rvladimir.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.cookie.Cookie;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for RecentWriteCookie.
+ */
+class RecentWriteCookieTest {
+
+    private static final long WINDOW_MILLIS = 5_000L;
+    private static final long HALF_WINDOW_MILLIS = 2_500L;
+    private static final long WRITTEN_AT = 1_700_000_000_000L;
+    private static final String PATH = "/exercise";
+
+    private AtomicLong clock;
+    private RecentWriteCookie recentWriteCookie;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(WRITTEN_AT);
+        recentWriteCookie = new RecentWriteCookie(Duration.ofMillis(WINDOW_MILLIS), clock::get, null);
+    }
+
+    @Test
+    void testIssuedCookieRecordsTheWriteTimeAndExpiresWithTheWindow() {
+        // When
+        Cookie cookie = recentWriteCookie.issue();
+
+        // Then
+        assertThat(cookie.getName()).isEqualTo(RecentWriteCookie.COOKIE_NAME);
+        assertThat(cookie.getValue()).isEqualTo(String.valueOf(WRITTEN_AT));
+        assertThat(cookie.getMaxAge()).isEqualTo(Duration.ofMillis(WINDOW_MILLIS).toSeconds());
+        assertThat(cookie.isHttpOnly()).isTrue();
+    }
+
+    @Test
+    void testRequestCarryingARecentWriteStaysOnThePrimary() {
+        // Given
+        Cookie cookie = recentWriteCookie.issue();
+
+        // When
+        clock.addAndGet(HALF_WINDOW_MILLIS);
+
+        // Then
+        assertThat(recentWriteCookie.wroteRecently(HttpRequest.GET(PATH).cookie(cookie))).isTrue();
+        assertThat(recentWriteCookie.wroteRecently(HttpRequest.GET(PATH))).isFalse();
+    }
+
+    @Test
+    void testWindowExpires() {
+        // Given
+        Cookie cookie = recentWriteCookie.issue();
+
+        // When
+        clock.addAndGet(WINDOW_MILLIS);
+
+        // Then
+        assertThat(recentWriteCookie.wroteRecently(HttpRequest.GET(PATH).cookie(cookie))).isFalse();
+    }
+
+    @Test
+    void testWriteTimesAheadOfTheClockAreAcceptedOnlyWithinTheWindow() {
+        // Then
+        assertThat(recentWriteCookie.withinWindow(String.valueOf(WRITTEN_AT + HALF_WINDOW_MILLIS))).isTrue();
+        assertThat(recentWriteCookie.withinWindow(String.valueOf(WRITTEN_AT + WINDOW_MILLIS))).isFalse();
+        assertThat(recentWriteCookie.withinWindow("not-a-time")).isFalse();
+    }
+}
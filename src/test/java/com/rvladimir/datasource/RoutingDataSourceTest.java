@@ -0,0 +1,100 @@
+package com.rvladimir.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for RoutingDataSource.
+ */
+class RoutingDataSourceTest {
+
+    private DataSource primary;
+    private ReplicaPool replica;
+    private Connection primaryConnection;
+    private Connection replicaConnection;
+    private ReplicaRegistry registry;
+    private RoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = mock(DataSource.class);
+        replica = mock(ReplicaPool.class);
+        primaryConnection = mock(Connection.class);
+        replicaConnection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        registry = new ReplicaRegistry(replica);
+        routingDataSource = new RoutingDataSource(primary, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RoutingContext.setReplicaPreferred(false);
+    }
+
+    @Test
+    void testUsesPrimaryOutsideReadReplicaScope() throws SQLException {
+        // When
+        Connection connection = routingDataSource.getConnection();
+
+        // Then
+        assertThat(connection).isSameAs(primaryConnection);
+        assertThat(registry.getPrimaryRoutes()).isEqualTo(1);
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void testUsesHealthyReplicaInReadReplicaScope() throws SQLException {
+        // Given
+        when(replica.isHealthy()).thenReturn(true);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        RoutingContext.setReplicaPreferred(true);
+
+        // When
+        Connection connection = routingDataSource.getConnection();
+
+        // Then
+        assertThat(connection).isSameAs(replicaConnection);
+        assertThat(registry.getReplicaRoutes()).isEqualTo(1);
+    }
+
+    @Test
+    void testFallsBackToPrimaryWhenReplicaLags() throws SQLException {
+        // Given
+        when(replica.isHealthy()).thenReturn(false);
+        RoutingContext.setReplicaPreferred(true);
+
+        // When
+        Connection connection = routingDataSource.getConnection();
+
+        // Then
+        assertThat(connection).isSameAs(primaryConnection);
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void testFallsBackToPrimaryWhenReplicaIsUnreachable() throws SQLException {
+        // Given
+        when(replica.isHealthy()).thenReturn(true);
+        when(replica.getConnection()).thenThrow(new SQLException("connection refused"));
+        RoutingContext.setReplicaPreferred(true);
+
+        // When
+        Connection connection = routingDataSource.getConnection();
+
+        // Then
+        assertThat(connection).isSameAs(primaryConnection);
+        verify(replica).markUnhealthy();
+    }
+}
@@ -0,0 +1,108 @@
+package com.rvladimir.leaderboard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.outbox.Outbox;
+import com.rvladimir.outbox.OutboxEvent;
+import com.rvladimir.outbox.OutboxEventType;
+import com.rvladimir.outbox.SessionExerciseSaved;
+import com.rvladimir.repository.row.SessionExerciseRow;
+
+import io.micronaut.serde.ObjectMapper;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Test class for LeaderboardSubscriber.
+ */
+@ExtendWith(MockitoExtension.class)
+class LeaderboardSubscriberTest {
+
+    private static final long USER_ID = 4L;
+    private static final long TRAINING_SESSION_ID = 9L;
+    private static final long EXERCISE_ID = 15L;
+    private static final double WEIGHT = 80.0;
+    private static final LocalDateTime STARTED_AT = LocalDateTime.now().minusDays(2);
+    private static final String PAYLOAD = "{}";
+
+    @Mock
+    private Leaderboards leaderboards;
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @InjectMocks
+    private LeaderboardSubscriber subscriber;
+
+    @Test
+    void testCountedExerciseRecordsItsScores() throws IOException {
+        // Given
+        when(objectMapper.readValue(PAYLOAD, SessionExerciseSaved.class))
+            .thenReturn(saved(TrainingSession.Status.STARTED, SessionExercise.Status.STARTED));
+
+        // When
+        subscriber.onEvent(event(OutboxEventType.SESSION_EXERCISE_SAVED));
+
+        // Then
+        ArgumentCaptor<SessionExerciseRow> row = ArgumentCaptor.forClass(SessionExerciseRow.class);
+        verify(leaderboards).record(eq(USER_ID), row.capture());
+        assertThat(row.getValue().getExerciseId()).isEqualTo(EXERCISE_ID);
+        assertThat(row.getValue().getTypeOfExercise()).isEqualTo(TypeOfExercise.STRENGTH);
+        assertThat(row.getValue().getWeight()).isEqualTo(WEIGHT);
+    }
+
+    @Test
+    void testUnfinishedExerciseAndTemplateExerciseAreIgnored() throws IOException {
+        // Given
+        when(objectMapper.readValue(PAYLOAD, SessionExerciseSaved.class)).thenReturn(
+            saved(TrainingSession.Status.STARTED, SessionExercise.Status.NOT_FINISHED),
+            saved(TrainingSession.Status.IS_TEMPLATE, SessionExercise.Status.FINISHED));
+
+        // When
+        subscriber.onEvent(event(OutboxEventType.SESSION_EXERCISE_SAVED));
+        subscriber.onEvent(event(OutboxEventType.SESSION_EXERCISE_SAVED));
+
+        // Then
+        verifyNoInteractions(leaderboards);
+    }
+
+    @Test
+    void testCreatedSessionIsIgnored() {
+        // When
+        subscriber.onEvent(event(OutboxEventType.TRAINING_SESSION_CREATED));
+
+        // Then
+        verifyNoInteractions(leaderboards, objectMapper);
+    }
+
+    private static OutboxEvent event(OutboxEventType type) {
+        return new OutboxEvent(1L, Outbox.TRAINING_SESSION, TRAINING_SESSION_ID, type.name(), PAYLOAD, STARTED_AT, 0);
+    }
+
+    private static SessionExerciseSaved saved(TrainingSession.Status sessionStatus, SessionExercise.Status status) {
+        SessionExerciseSaved saved = new SessionExerciseSaved();
+        saved.setTrainingSessionId(TRAINING_SESSION_ID);
+        saved.setUserId(USER_ID);
+        saved.setTrainingSessionStatus(sessionStatus);
+        saved.setTrainingDay(STARTED_AT.toLocalDate());
+        saved.setExerciseId(EXERCISE_ID);
+        saved.setTypeOfExercise(TypeOfExercise.STRENGTH);
+        saved.setStatus(status);
+        saved.setWeight(WEIGHT);
+        return saved;
+    }
+}
@@ -0,0 +1,110 @@
+package com.rvladimir.leaderboard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.repository.row.SessionExerciseRow;
+
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.data.jdbc.runtime.JdbcOperations;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Test class for Leaderboards.
+ */
+@ExtendWith(MockitoExtension.class)
+class LeaderboardsTest {
+
+    private static final long USER_ID = 7L;
+    private static final long EXERCISE_ID = 12L;
+    private static final double DISTANCE_MILES = 10.0;
+    private static final double DISTANCE_KILOMETERS = 16.09344;
+    private static final double PRECISION = 1e-9;
+    private static final int ROUNDS = 12;
+
+    @Mock
+    private JdbcOperations jdbcOperations;
+
+    @Mock
+    private ApplicationEventPublisher<LeaderboardScoresRecorded> eventPublisher;
+
+    @Captor
+    private ArgumentCaptor<LeaderboardScoresRecorded> recorded;
+
+    private Leaderboards leaderboards;
+
+    @BeforeEach
+    void setUp() {
+        leaderboards = new Leaderboards(jdbcOperations, null, eventPublisher);
+    }
+
+    @Test
+    void testRecordUpdatesExerciseAndTypeBoardsAfterCommit() {
+        // Given
+        SessionExerciseRow row = new SessionExerciseRow();
+        row.setExerciseId(EXERCISE_ID);
+        row.setTypeOfExercise(TypeOfExercise.BOXING_BAG);
+        row.setRounds(ROUNDS);
+        row.setDistance(DISTANCE_MILES);
+        row.setUnitOfMeasurement(SessionExercise.UnitOfMeasurement.MILES);
+
+        // When
+        leaderboards.record(USER_ID, row);
+        assertThat(leaderboards.board(Leaderboards.typeBoard(TypeOfExercise.BOXING_BAG, LeaderboardMetric.ROUNDS)))
+            .isEmpty();
+        verify(eventPublisher).publishEvent(recorded.capture());
+        leaderboards.onScoresRecorded(recorded.getValue());
+
+        // Then
+        assertThat(leaderboards.board(Leaderboards.typeBoard(TypeOfExercise.BOXING_BAG, LeaderboardMetric.ROUNDS))
+            .flatMap(board -> board.entry(USER_ID))).isPresent();
+        assertThat(leaderboards.board(Leaderboards.exerciseBoard(EXERCISE_ID, LeaderboardMetric.DISTANCE))
+            .orElseThrow().score(USER_ID).getAsDouble()).isCloseTo(DISTANCE_KILOMETERS, within(PRECISION));
+        assertThat(leaderboards.board(Leaderboards.exerciseBoard(EXERCISE_ID, LeaderboardMetric.WEIGHT))).isEmpty();
+        verifyNoInteractions(jdbcOperations);
+    }
+
+    @Test
+    void testDrainUnsavedReturnsChangedScoresOnce() {
+        // Given
+        String board = Leaderboards.exerciseBoard(EXERCISE_ID, LeaderboardMetric.ROUNDS);
+        leaderboards.restore(new LeaderboardScore(board, USER_ID, ROUNDS));
+        assertThat(leaderboards.drainUnsaved()).isEmpty();
+        leaderboards.apply(String.join(";", board, String.valueOf(USER_ID), String.valueOf(ROUNDS + 1)));
+
+        // When
+        List<LeaderboardScore> drained = leaderboards.drainUnsaved();
+
+        // Then
+        assertThat(drained).singleElement().satisfies(score -> {
+            assertThat(score.getBoard()).isEqualTo(board);
+            assertThat(score.getScore()).isEqualTo(ROUNDS + 1);
+        });
+        assertThat(leaderboards.drainUnsaved()).isEmpty();
+        leaderboards.markUnsaved(drained);
+        assertThat(leaderboards.drainUnsaved()).hasSize(1);
+    }
+
+    @Test
+    void testApplyRejectsMalformedScores() {
+        // When / Then
+        assertThatThrownBy(() -> leaderboards.apply("exercise:12:ROUNDS;7"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> leaderboards.apply("exercise:12:ROUNDS;seven;12"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
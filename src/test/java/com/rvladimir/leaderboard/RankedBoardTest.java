@@ -0,0 +1,94 @@
+package com.rvladimir.leaderboard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rvladimir.service.dto.LeaderboardEntryDTO;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for RankedBoard.
+ */
+class RankedBoardTest {
+
+    private static final long ALICE = 1L;
+    private static final long BOB = 2L;
+    private static final long CAROL = 3L;
+    private static final double LOW = 50.0;
+    private static final double HIGH = 80.0;
+    private static final double BEST = 95.0;
+    private static final long SEED = 42L;
+    private static final int USERS = 500;
+    private static final int OFFERS = 5000;
+    private static final int MAX_SCORE = 100;
+    private static final int PAGE = 10;
+    private static final int THIRD_RANK = 3;
+
+    @Test
+    void testOfferKeepsEachUsersBestScore() {
+        // Given
+        RankedBoard board = new RankedBoard();
+
+        // When
+        boolean first = board.offer(ALICE, HIGH);
+        boolean worse = board.offer(ALICE, LOW);
+        boolean better = board.offer(ALICE, BEST);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(worse).isFalse();
+        assertThat(better).isTrue();
+        assertThat(board.size()).isEqualTo(1);
+        assertThat(board.score(ALICE)).hasValue(BEST);
+    }
+
+    @Test
+    void testRanksHighestFirstAndTiesByUserId() {
+        // Given
+        RankedBoard board = new RankedBoard();
+        board.offer(CAROL, HIGH);
+        board.offer(BOB, LOW);
+        board.offer(ALICE, HIGH);
+
+        // When / Then
+        assertThat(board.range(1, PAGE)).extracting(LeaderboardEntryDTO::getUserId)
+            .containsExactly(ALICE, CAROL, BOB);
+        assertThat(board.entry(BOB)).map(LeaderboardEntryDTO::getRank).contains(THIRD_RANK);
+        assertThat(board.entry(USERS)).isEmpty();
+        assertThat(board.range(PAGE, PAGE)).isEmpty();
+    }
+
+    @Test
+    void testRanksMatchASortedListAfterManyUpdates() {
+        // Given
+        RankedBoard board = new RankedBoard();
+        Map<Long, Double> best = new HashMap<>();
+        Random random = new Random(SEED);
+        for (int i = 0; i < OFFERS; i++) {
+            long userId = random.nextInt(USERS);
+            double score = random.nextInt(MAX_SCORE);
+            board.offer(userId, score);
+            best.merge(userId, score, Math::max);
+        }
+        List<Long> expected = new ArrayList<>(best.keySet());
+        expected.sort(Comparator.comparing((Long userId) -> -best.get(userId)).thenComparing(userId -> userId));
+
+        // When
+        List<LeaderboardEntryDTO> all = board.range(1, USERS);
+
+        // Then
+        assertThat(all).extracting(LeaderboardEntryDTO::getUserId).containsExactlyElementsOf(expected);
+        for (int rank = 1; rank <= expected.size(); rank++) {
+            assertThat(board.entry(expected.get(rank - 1))).map(LeaderboardEntryDTO::getRank).contains(rank);
+        }
+        assertThat(board.range(PAGE, PAGE)).extracting(LeaderboardEntryDTO::getUserId)
+            .containsExactlyElementsOf(expected.subList(PAGE - 1, PAGE - 1 + PAGE));
+    }
+}
@@ -0,0 +1,82 @@
+package com.rvladimir.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.rvladimir.repository.row.SessionExerciseRow;
+import com.rvladimir.repository.row.TrainingLoadRow;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for TrainingLoadModel.
+ */
+class TrainingLoadModelTest {
+
+    private static final long USER_ID = 4L;
+    private static final Offset<Double> PRECISION = within(1e-9);
+    private static final LocalDate MONDAY = LocalDate.of(2026, Month.OCTOBER, 5);
+    private static final int ROUNDS = 5;
+    private static final LocalTime THREE_MINUTES = LocalTime.of(0, 3);
+    private static final double ROUND_MINUTES = 15.0;
+    private static final double WEIGHT = 100.0;
+    private static final int REPETITIONS = 8;
+    private static final int SETS = 3;
+    private static final double VOLUME_UNITS = 24.0;
+    private static final double LOAD = 60.0;
+    private static final double OTHER_LOAD = 30.0;
+    private static final double ACUTE_WEIGHT = 0.25;
+    private static final int GAP = 3;
+
+    private final TrainingLoadModel model = new TrainingLoadModel(new TrainingLoadConfiguration());
+
+    @Test
+    void testLoadAddsMinutesOfWorkAndScaledVolume() {
+        // Given
+        SessionExerciseRow rounds = new SessionExerciseRow();
+        rounds.setDuration(THREE_MINUTES);
+        rounds.setRounds(ROUNDS);
+        SessionExerciseRow lift = new SessionExerciseRow();
+        lift.setWeight(WEIGHT);
+        lift.setRepetitions(REPETITIONS);
+        lift.setSets(SETS);
+
+        // When / Then
+        assertThat(model.load(rounds)).isCloseTo(ROUND_MINUTES, PRECISION);
+        assertThat(model.load(lift)).isCloseTo(VOLUME_UNITS, PRECISION);
+        assertThat(model.load(new SessionExerciseRow())).isZero();
+    }
+
+    @Test
+    void testAveragesWeighDailyLoadsByTwoOverSpanPlusOne() {
+        // When
+        TrainingLoadRow first = model.next(null, USER_ID, MONDAY, LOAD);
+        TrainingLoadRow later = model.next(first, USER_ID, MONDAY.plusDays(GAP), 0);
+
+        // Then
+        assertThat(model.getAcuteWeight()).isCloseTo(ACUTE_WEIGHT, PRECISION);
+        assertThat(first.getAcute()).isCloseTo(ACUTE_WEIGHT * LOAD, PRECISION);
+        assertThat(later.getAcute()).isCloseTo(first.getAcute() * Math.pow(1 - ACUTE_WEIGHT, GAP), PRECISION);
+        assertThat(model.decay(first, MONDAY.plusDays(GAP)).getChronic()).isCloseTo(later.getChronic(), PRECISION);
+    }
+
+    @Test
+    void testLoadAddedToAnEarlierDayPropagatesAsDecayedIncrease() {
+        // Given
+        TrainingLoadRow monday = model.next(null, USER_ID, MONDAY, LOAD);
+        TrainingLoadRow thursday = model.next(monday, USER_ID, MONDAY.plusDays(GAP), OTHER_LOAD);
+
+        // When
+        TrainingLoadRow mondayAgain = model.next(null, USER_ID, MONDAY, LOAD + OTHER_LOAD);
+        TrainingLoadRow thursdayAgain = model.next(mondayAgain, USER_ID, MONDAY.plusDays(GAP), OTHER_LOAD);
+
+        // Then
+        double increase = model.getAcuteWeight() * OTHER_LOAD * Math.pow(1 - model.getAcuteWeight(), GAP);
+        assertThat(thursdayAgain.getAcute()).isCloseTo(thursday.getAcute() + increase, PRECISION);
+    }
+}
@@ -0,0 +1,97 @@
+package com.rvladimir.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.outbox.Outbox;
+import com.rvladimir.outbox.OutboxEvent;
+import com.rvladimir.outbox.OutboxEventType;
+import com.rvladimir.outbox.SessionExerciseSaved;
+import com.rvladimir.repository.row.SessionExerciseRow;
+
+import io.micronaut.serde.ObjectMapper;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Test class for TrainingLoadSubscriber.
+ */
+@ExtendWith(MockitoExtension.class)
+class TrainingLoadSubscriberTest {
+
+    private static final long USER_ID = 4L;
+    private static final long TRAINING_SESSION_ID = 9L;
+    private static final int ROUNDS = 5;
+    private static final LocalTime TWENTY_MINUTES = LocalTime.of(0, 20);
+    private static final LocalDateTime STARTED_AT = LocalDateTime.now().minusDays(2);
+    private static final String PAYLOAD = "{}";
+
+    @Mock
+    private TrainingLoads trainingLoads;
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @InjectMocks
+    private TrainingLoadSubscriber subscriber;
+
+    @Test
+    void testCountedExerciseAddsItsLoadToItsSessionDay() throws IOException {
+        // Given
+        when(objectMapper.readValue(PAYLOAD, SessionExerciseSaved.class))
+            .thenReturn(saved(TrainingSession.Status.FINISHED, SessionExercise.Status.FINISHED));
+
+        // When
+        subscriber.onEvent(event(OutboxEventType.SESSION_EXERCISE_SAVED));
+
+        // Then
+        ArgumentCaptor<SessionExerciseRow> row = ArgumentCaptor.forClass(SessionExerciseRow.class);
+        verify(trainingLoads).record(eq(USER_ID), eq(STARTED_AT.toLocalDate()), row.capture());
+        assertThat(row.getValue().getDuration()).isEqualTo(TWENTY_MINUTES);
+        assertThat(row.getValue().getRounds()).isEqualTo(ROUNDS);
+    }
+
+    @Test
+    void testUnfinishedExerciseAndTemplateExerciseAreIgnored() throws IOException {
+        // Given
+        when(objectMapper.readValue(PAYLOAD, SessionExerciseSaved.class)).thenReturn(
+            saved(TrainingSession.Status.STARTED, SessionExercise.Status.NOT_FINISHED),
+            saved(TrainingSession.Status.IS_TEMPLATE, SessionExercise.Status.FINISHED));
+
+        // When
+        subscriber.onEvent(event(OutboxEventType.SESSION_EXERCISE_SAVED));
+        subscriber.onEvent(event(OutboxEventType.SESSION_EXERCISE_SAVED));
+
+        // Then
+        verifyNoInteractions(trainingLoads);
+    }
+
+    private static OutboxEvent event(OutboxEventType type) {
+        return new OutboxEvent(1L, Outbox.TRAINING_SESSION, TRAINING_SESSION_ID, type.name(), PAYLOAD, STARTED_AT, 0);
+    }
+
+    private static SessionExerciseSaved saved(TrainingSession.Status sessionStatus, SessionExercise.Status status) {
+        SessionExerciseSaved saved = new SessionExerciseSaved();
+        saved.setTrainingSessionId(TRAINING_SESSION_ID);
+        saved.setUserId(USER_ID);
+        saved.setTrainingSessionStatus(sessionStatus);
+        saved.setTrainingDay(STARTED_AT.toLocalDate());
+        saved.setStatus(status);
+        saved.setDuration(TWENTY_MINUTES);
+        saved.setRounds(ROUNDS);
+        return saved;
+    }
+}
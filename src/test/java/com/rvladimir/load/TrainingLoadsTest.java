@@ -0,0 +1,97 @@
+package com.rvladimir.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.rvladimir.repository.jdbc.TrainingLoadJdbcRepository;
+import com.rvladimir.repository.row.SessionExerciseRow;
+import com.rvladimir.repository.row.TrainingLoadRow;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Test class for TrainingLoads.
+ */
+@ExtendWith(MockitoExtension.class)
+class TrainingLoadsTest {
+
+    private static final long USER_ID = 6L;
+    private static final LocalDate DAY = LocalDate.of(2026, Month.OCTOBER, 12);
+    private static final LocalTime TWENTY_MINUTES = LocalTime.of(0, 20);
+    private static final double LOAD = 20.0;
+    private static final double PREVIOUS_ACUTE = 10.0;
+    private static final double PREVIOUS_CHRONIC = 8.0;
+
+    @Mock
+    private TrainingLoadJdbcRepository trainingLoadJdbcRepository;
+
+    private TrainingLoadModel model;
+    private TrainingLoads trainingLoads;
+    private SessionExerciseRow exercise;
+
+    @BeforeEach
+    void setUp() {
+        model = new TrainingLoadModel(new TrainingLoadConfiguration());
+        trainingLoads = new TrainingLoads(model, trainingLoadJdbcRepository);
+        exercise = new SessionExerciseRow();
+        exercise.setDuration(TWENTY_MINUTES);
+    }
+
+    @Test
+    void testRecordAddsToAStoredDay() {
+        // Given
+        when(trainingLoadJdbcRepository.addToDay(eq(USER_ID), eq(DAY), eq(LOAD), anyDouble(), anyDouble()))
+            .thenReturn(true);
+
+        // When
+        trainingLoads.record(USER_ID, DAY, exercise);
+
+        // Then
+        verify(trainingLoadJdbcRepository).lock(USER_ID);
+        verify(trainingLoadJdbcRepository, never()).findLatestBefore(USER_ID, DAY);
+        verify(trainingLoadJdbcRepository).addToLaterDays(USER_ID, DAY, model.getAcuteWeight() * LOAD,
+            1 - model.getAcuteWeight(), model.getChronicWeight() * LOAD, 1 - model.getChronicWeight());
+    }
+
+    @Test
+    void testRecordStartsANewDayFromThePreviousOne() {
+        // Given
+        TrainingLoadRow previous =
+            new TrainingLoadRow(USER_ID, DAY.minusDays(1), LOAD, PREVIOUS_ACUTE, PREVIOUS_CHRONIC);
+        when(trainingLoadJdbcRepository.addToDay(eq(USER_ID), eq(DAY), eq(LOAD), anyDouble(), anyDouble()))
+            .thenReturn(false);
+        when(trainingLoadJdbcRepository.findLatestBefore(USER_ID, DAY)).thenReturn(Optional.of(previous));
+
+        // When
+        trainingLoads.record(USER_ID, DAY, exercise);
+
+        // Then
+        ArgumentCaptor<TrainingLoadRow> inserted = ArgumentCaptor.forClass(TrainingLoadRow.class);
+        verify(trainingLoadJdbcRepository).insert(inserted.capture());
+        assertThat(inserted.getValue()).isEqualTo(model.next(previous, USER_ID, DAY, LOAD));
+    }
+
+    @Test
+    void testRecordIgnoresExercisesWithoutLoad() {
+        // When
+        trainingLoads.record(USER_ID, DAY, new SessionExerciseRow());
+
+        // Then
+        verifyNoInteractions(trainingLoadJdbcRepository);
+    }
+}
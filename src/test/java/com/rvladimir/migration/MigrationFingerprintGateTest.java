@@ -0,0 +1,146 @@
+package com.rvladimir.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micronaut.context.event.BeanCreatedEvent;
+import io.micronaut.flyway.FlywayConfigurationProperties;
+import io.micronaut.inject.BeanIdentifier;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Test class for MigrationFingerprintGate.
+ */
+@ExtendWith(MockitoExtension.class)
+class MigrationFingerprintGateTest {
+
+    private static final String DEFAULT = "default";
+    private static final String FINGERPRINT = "a3f1c2";
+    private static final String STALE_FINGERPRINT = "0b9e77";
+    private static final Duration SHORT_TIMEOUT = Duration.ofMillis(50);
+    private static final Duration SHORT_POLL = Duration.ofMillis(10);
+
+    @Mock
+    private FlywayConfigurationProperties flyway;
+
+    @Mock
+    private FluentConfiguration fluentConfiguration;
+
+    @Mock
+    private BeanCreatedEvent<DataSource> event;
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private MigrationConfiguration configuration;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new MigrationConfiguration();
+        configuration.setAwaitTimeout(SHORT_TIMEOUT);
+        configuration.setPollInterval(SHORT_POLL);
+    }
+
+    @Test
+    void testMigratorRunsFlywayWithFingerprintPlaceholder() {
+        // Given
+        when(flyway.getFluentConfiguration()).thenReturn(fluentConfiguration);
+        when(fluentConfiguration.getPlaceholders()).thenReturn(Map.of());
+
+        // When
+        gate(Optional.of(FINGERPRINT)).onCreated(event);
+
+        // Then
+        verify(fluentConfiguration).placeholders(argThat(placeholders ->
+            FINGERPRINT.equals(placeholders.get(MigrationFingerprintGate.FINGERPRINT_PLACEHOLDER))));
+        verify(flyway, never()).setEnabled(false);
+    }
+
+    @Test
+    void testFollowerSkipsFlywayWhenFingerprintMatches() throws SQLException {
+        // Given
+        configuration.setRole(MigrationConfiguration.Role.FOLLOWER);
+        when(event.getBean()).thenReturn(dataSource);
+        recordFingerprint(FINGERPRINT);
+
+        // When
+        gate(Optional.of(FINGERPRINT)).onCreated(event);
+
+        // Then
+        verify(flyway).setEnabled(false);
+    }
+
+    @Test
+    void testFollowerFailsStartupWhenNoMigratorCatchesUp() throws SQLException {
+        // Given
+        configuration.setRole(MigrationConfiguration.Role.FOLLOWER);
+        when(event.getBean()).thenReturn(dataSource);
+        recordFingerprint(STALE_FINGERPRINT);
+        MigrationFingerprintGate gate = gate(Optional.of(FINGERPRINT));
+
+        // When / Then
+        assertThatThrownBy(() -> gate.onCreated(event))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining(STALE_FINGERPRINT);
+        verify(flyway, never()).setEnabled(false);
+    }
+
+    @Test
+    void testRecordedFingerprintIsEmptyBeforeFirstMigration() throws SQLException {
+        // Given
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenThrow(new SQLException("relation does not exist"));
+
+        // When
+        Optional<String> recorded = MigrationFingerprintGate.recordedFingerprint(dataSource);
+
+        // Then
+        assertThat(recorded).isEmpty();
+    }
+
+    private MigrationFingerprintGate gate(Optional<String> fingerprint) {
+        when(event.getBeanIdentifier()).thenReturn(BeanIdentifier.of(DEFAULT));
+        when(flyway.getNameQualifier()).thenReturn(DEFAULT);
+        when(flyway.isEnabled()).thenReturn(true);
+        return new MigrationFingerprintGate(configuration, List.of(flyway), fingerprint);
+    }
+
+    private void recordFingerprint(String fingerprint) throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getString(1)).thenReturn(fingerprint);
+    }
+}
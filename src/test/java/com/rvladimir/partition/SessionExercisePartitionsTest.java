@@ -0,0 +1,61 @@
+package com.rvladimir.partition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for SessionExercisePartitions and the retention cutoff of PartitionMaintenanceJob.
+ */
+class SessionExercisePartitionsTest {
+
+    private static final YearMonth MARCH_2025 = YearMonth.of(2025, 3);
+    private static final String MARCH_2025_PARTITION = "session_exercise_p2025_03";
+    private static final String JANUARY_2025_PARTITION = "session_exercise_p2025_01";
+    private static final String FEBRUARY_2025_PARTITION = "session_exercise_p2025_02";
+    private static final String DEFAULT_PARTITION = "session_exercise_default";
+
+    @Test
+    void testPartitionNameUsesYearAndZeroPaddedMonth() {
+        // When
+        String name = SessionExercisePartitions.partitionName(MARCH_2025);
+
+        // Then
+        assertThat(name).isEqualTo(MARCH_2025_PARTITION);
+    }
+
+    @Test
+    void testMonthOfRoundTripsPartitionName() {
+        // When / Then
+        assertThat(SessionExercisePartitions.monthOf(MARCH_2025_PARTITION)).contains(MARCH_2025);
+    }
+
+    @Test
+    void testMonthOfIgnoresNonMonthlyPartitions() {
+        // When / Then
+        assertThat(SessionExercisePartitions.monthOf(DEFAULT_PARTITION)).isEmpty();
+        assertThat(SessionExercisePartitions.monthOf("session_exercise_p2025_13")).isEmpty();
+        assertThat(SessionExercisePartitions.monthOf(null)).isEmpty();
+    }
+
+    @Test
+    void testExpiredPartitionsKeepsRetainedMonthsAndDefault() {
+        // Given
+        List<String> partitions = List.of(
+            JANUARY_2025_PARTITION,
+            FEBRUARY_2025_PARTITION,
+            MARCH_2025_PARTITION,
+            "session_exercise_p2025_04",
+            DEFAULT_PARTITION
+        );
+
+        // When
+        List<String> expired = PartitionMaintenanceJob.expiredPartitions(partitions, MARCH_2025);
+
+        // Then
+        assertThat(expired).containsExactly(JANUARY_2025_PARTITION, FEBRUARY_2025_PARTITION);
+    }
+}
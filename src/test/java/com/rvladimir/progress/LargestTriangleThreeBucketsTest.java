@@ -0,0 +1,88 @@
+package com.rvladimir.progress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for LargestTriangleThreeBuckets and SeriesBuffer.
+ */
+class LargestTriangleThreeBucketsTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, Month.JANUARY, 6, 7, 30);
+    private static final long DAY_SECONDS = 86_400L;
+    private static final int POINTS = 10_000;
+    private static final int THRESHOLD = 50;
+    private static final int SPIKE = 4321;
+    private static final int DIP = 7000;
+    private static final double BASELINE = 60.0;
+    private static final double SPIKE_VALUE = 140.0;
+    private static final double DIP_VALUE = 5.0;
+
+    @Test
+    void testSeriesBufferGrowsAndKeepsLocalTimes() {
+        // Given
+        SeriesBuffer series = new SeriesBuffer(1);
+
+        // When
+        series.add(START, BASELINE);
+        series.add(START.plusDays(1), SPIKE_VALUE);
+
+        // Then
+        assertThat(series.size()).isEqualTo(2);
+        assertThat(series.dateTime(1)).isEqualTo(START.plusDays(1));
+        assertThat(series.time(1) - series.time(0)).isEqualTo(DAY_SECONDS);
+        assertThat(series.value(1)).isEqualTo(SPIKE_VALUE);
+    }
+
+    @Test
+    void testDownsampleKeepsEndpointsAndExtremes() {
+        // Given
+        SeriesBuffer series = new SeriesBuffer();
+        for (int i = 0; i < POINTS; i++) {
+            double value = BASELINE + Math.sin(i);
+            if (i == SPIKE) {
+                value = SPIKE_VALUE;
+            } else if (i == DIP) {
+                value = DIP_VALUE;
+            }
+            series.add(START.plusDays(i), value);
+        }
+
+        // When
+        SeriesBuffer sampled = LargestTriangleThreeBuckets.downsample(series, THRESHOLD);
+
+        // Then
+        assertThat(sampled.size()).isEqualTo(THRESHOLD);
+        assertThat(sampled.dateTime(0)).isEqualTo(START);
+        assertThat(sampled.dateTime(THRESHOLD - 1)).isEqualTo(START.plusDays(POINTS - 1));
+        double max = Double.NEGATIVE_INFINITY;
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < sampled.size(); i++) {
+            if (i > 0) {
+                assertThat(sampled.time(i)).isGreaterThan(sampled.time(i - 1));
+            }
+            max = Math.max(max, sampled.value(i));
+            min = Math.min(min, sampled.value(i));
+        }
+        assertThat(max).isEqualTo(SPIKE_VALUE);
+        assertThat(min).isEqualTo(DIP_VALUE);
+    }
+
+    @Test
+    void testDownsampleReturnsShortSeriesUnchanged() {
+        // Given
+        SeriesBuffer series = new SeriesBuffer();
+        series.add(START, BASELINE);
+        series.add(START.plusDays(1), SPIKE_VALUE);
+
+        // When / Then
+        assertThat(LargestTriangleThreeBuckets.downsample(series, THRESHOLD)).isSameAs(series);
+        assertThatThrownBy(() -> LargestTriangleThreeBuckets.downsample(series, 2))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,82 @@
+package com.rvladimir.provisioning;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.rvladimir.service.dto.CreateUserDTO;
+import com.rvladimir.web.error.ValidationException;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for UserCsvParser.
+ */
+class UserCsvParserTest {
+
+    private static final String HEADER = "name,lastname,nickname,dateBirth,email,password\n";
+    private static final int BIRTH_YEAR = 1990;
+    private static final int BIRTH_MONTH = 5;
+    private static final int BIRTH_DAY = 15;
+
+    @Test
+    void testParseReadsRowsInDocumentOrder() {
+        // Given
+        String csv = HEADER +
+            "John,Doe,johnd,1990-05-15,john.doe@example.com,secret1\r\n" +
+            "\n" +
+            "\"Mary, Jane\",\"O\"\"Neil\",mj,,mary@example.com,secret2";
+
+        // When
+        List<CreateUserDTO> users = UserCsvParser.parse(csv);
+
+        // Then
+        assertThat(users).hasSize(2);
+        assertThat(users.get(0).getDateBirth()).isEqualTo(LocalDate.of(BIRTH_YEAR, BIRTH_MONTH, BIRTH_DAY));
+        assertThat(users.get(0).getPassword()).isEqualTo("secret1");
+        assertThat(users.get(1).getName()).isEqualTo("Mary, Jane");
+        assertThat(users.get(1).getLastname()).isEqualTo("O\"Neil");
+        assertThat(users.get(1).getDateBirth()).isNull();
+    }
+
+    @Test
+    void testParseAcceptsColumnsInAnyOrderAndCase() {
+        // Given
+        String csv = "EMAIL,Password,Name,LastName,NickName,DateBirth\nann@example.com,pw,Ann,Lee,ann,2000-01-01\n";
+
+        // When
+        List<CreateUserDTO> users = UserCsvParser.parse(csv);
+
+        // Then
+        assertThat(users).singleElement().satisfies(user -> {
+            assertThat(user.getEmail()).isEqualTo("ann@example.com");
+            assertThat(user.getNickname()).isEqualTo("ann");
+        });
+    }
+
+    @Test
+    void testParseRejectsMalformedDocuments() {
+        // When / Then
+        assertThatThrownBy(() -> UserCsvParser.parse("name,email\nJohn,john@example.com"))
+            .isInstanceOf(ValidationException.class)
+            .hasMessage("Missing CSV column: lastname");
+        assertThatThrownBy(() -> UserCsvParser.parse(HEADER + "John,Doe,johnd"))
+            .isInstanceOf(ValidationException.class)
+            .hasMessage("Row 1 has 3 fields, expected 6");
+        assertThatThrownBy(() -> UserCsvParser.parse(HEADER + "John,Doe,johnd,15/05/1990,john@example.com,pw"))
+            .isInstanceOf(ValidationException.class)
+            .hasMessage("Row 1 has an invalid dateBirth, expected yyyy-MM-dd");
+        assertThatThrownBy(() -> UserCsvParser.parse(HEADER + "\"John,Doe,johnd,,john@example.com,pw"))
+            .isInstanceOf(ValidationException.class)
+            .hasMessage("Unterminated quoted CSV field");
+    }
+
+    @Test
+    void testParseReturnsNoUsersForAnEmptyDocument() {
+        // When / Then
+        assertThat(UserCsvParser.parse("")).isEmpty();
+        assertThat(UserCsvParser.parse(HEADER)).isEmpty();
+    }
+}
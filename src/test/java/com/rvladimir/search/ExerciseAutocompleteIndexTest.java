@@ -0,0 +1,85 @@
+package com.rvladimir.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.repository.row.ExerciseRow;
+import com.rvladimir.service.dto.ExerciseDTO;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for ExerciseAutocompleteIndex.
+ */
+class ExerciseAutocompleteIndexTest {
+
+    private static final String PUSH_UP = "Push-up";
+    private static final String PUSH_PRESS = "Push Press";
+    private static final String INCLINE_PUSH_UP = "Incline Push-up";
+    private static final String PULL_UP = "Pull-up";
+    private static final String CAFE_SPRINT = "Café Sprint";
+    private static final String PUSH_PREFIX = "push";
+    private static final String SHORT_PREFIX = "p";
+    private static final long PUSH_UP_ID = 3L;
+    private static final long PULL_UP_ID = 4L;
+    private static final long CAFE_SPRINT_ID = 5L;
+    private static final int LIMIT = 10;
+
+    private ExerciseAutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ExerciseAutocompleteIndex();
+        index.rebuild(List.of(
+            row(1L, INCLINE_PUSH_UP, TypeOfExercise.STRENGTH),
+            row(2L, PUSH_PRESS, TypeOfExercise.STRENGTH),
+            row(PUSH_UP_ID, PUSH_UP, TypeOfExercise.STRENGTH),
+            row(PULL_UP_ID, PULL_UP, TypeOfExercise.STRENGTH),
+            row(CAFE_SPRINT_ID, CAFE_SPRINT, TypeOfExercise.HIIT)));
+    }
+
+    @Test
+    void testSuggestRanksNamePrefixAboveWordPrefix() {
+        // When
+        List<ExerciseDTO> suggestions = index.suggest(PUSH_PREFIX, null, LIMIT);
+
+        // Then
+        assertThat(suggestions).extracting(ExerciseDTO::getName)
+            .containsExactly(PUSH_UP, PUSH_PRESS, INCLINE_PUSH_UP);
+        assertThat(suggestions.get(0).getDescription()).isNull();
+    }
+
+    @Test
+    void testSuggestIgnoresCasePunctuationAndAccents() {
+        // When / Then
+        assertThat(index.suggest("PUSH UP", null, LIMIT)).extracting(ExerciseDTO::getName)
+            .containsExactly(PUSH_UP, INCLINE_PUSH_UP);
+        assertThat(index.suggest("cafe", null, LIMIT)).extracting(ExerciseDTO::getName)
+            .containsExactly(CAFE_SPRINT);
+    }
+
+    @Test
+    void testSuggestFiltersByTypeAndHonoursLimit() {
+        // When / Then
+        assertThat(index.suggest(SHORT_PREFIX, TypeOfExercise.HIIT, LIMIT)).isEmpty();
+        assertThat(index.suggest(SHORT_PREFIX, null, 2)).hasSize(2);
+        assertThat(index.suggest(" ", null, LIMIT)).isEmpty();
+    }
+
+    @Test
+    void testRebuildReplacesTheIndexedExercises() {
+        // When
+        index.rebuild(List.of(row(1L, PULL_UP, TypeOfExercise.STRENGTH)));
+
+        // Then
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.suggest(PUSH_PREFIX, null, LIMIT)).isEmpty();
+    }
+
+    private static ExerciseRow row(Long id, String name, TypeOfExercise type) {
+        return new ExerciseRow(id, name, name + " description", type, null, null);
+    }
+}
@@ -0,0 +1,109 @@
+package com.rvladimir.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.mindrot.jbcrypt.BCrypt;
+
+/**
+ * Test class for PasswordHasher.
+ */
+class PasswordHasherTest {
+
+    private static final String PASSWORD = "password123";
+    private static final int MIN_COST = 4;
+    private static final int MAX_COST = 6;
+    private static final int FIXED_COST = 5;
+
+    @Test
+    void testCalibrationStaysWithinTheConfiguredCosts() {
+        // Given
+        PasswordHashingConfiguration unreachable = configuration(Duration.ofMinutes(1));
+        PasswordHashingConfiguration instant = configuration(Duration.ZERO);
+
+        // When / Then
+        assertThat(new PasswordHasher(unreachable).getCost()).isEqualTo(MAX_COST);
+        assertThat(new PasswordHasher(instant).getCost()).isEqualTo(MIN_COST);
+    }
+
+    @Test
+    void testCalibrationWaitsForFirstUse() {
+        // Given
+        PasswordHashingConfiguration configuration = configuration(Duration.ZERO);
+        PasswordHasher hasher = new PasswordHasher(configuration);
+
+        // When
+        configuration.setTargetLatency(Duration.ofMinutes(1));
+
+        // Then
+        assertThat(hasher.getCost()).isEqualTo(MAX_COST);
+        configuration.setTargetLatency(Duration.ZERO);
+        assertThat(hasher.getCost()).isEqualTo(MAX_COST);
+    }
+
+    @Test
+    void testRestoreRecalibratesTheCost() {
+        // Given
+        PasswordHashingConfiguration configuration = configuration(Duration.ZERO);
+        PasswordHasher hasher = new PasswordHasher(configuration);
+        assertThat(hasher.getCost()).isEqualTo(MIN_COST);
+        configuration.setTargetLatency(Duration.ofMinutes(1));
+
+        // When
+        hasher.afterRestore(null);
+
+        // Then
+        assertThat(hasher.getCost()).isEqualTo(MAX_COST);
+        assertThat(hasher.hash(PASSWORD)).startsWith("$2a$06$");
+    }
+
+    @Test
+    void testConfiguredCostSkipsCalibration() {
+        // Given
+        PasswordHashingConfiguration configuration = configuration(Duration.ZERO);
+        configuration.setCost(FIXED_COST);
+        PasswordHasher hasher = new PasswordHasher(configuration);
+
+        // When
+        String hash = hasher.hash(PASSWORD);
+
+        // Then
+        assertThat(hasher.getCost()).isEqualTo(FIXED_COST);
+        assertThat(hash).startsWith("$2a$05$");
+        assertThat(hasher.matches(PASSWORD, hash)).isTrue();
+    }
+
+    @Test
+    void testMatchesWithoutAHashChecksTheDummyHash() {
+        // Given
+        PasswordHasher hasher = new PasswordHasher(configuration(Duration.ZERO));
+
+        // When / Then
+        assertThat(hasher.matches(PASSWORD, null)).isFalse();
+        assertThat(hasher.matches("dummy-password", null)).isFalse();
+    }
+
+    @Test
+    void testNeedsRehashOnlyForLowerCosts() {
+        // Given
+        PasswordHashingConfiguration configuration = configuration(Duration.ZERO);
+        configuration.setCost(FIXED_COST);
+        PasswordHasher hasher = new PasswordHasher(configuration);
+
+        // When / Then
+        assertThat(hasher.needsRehash(BCrypt.hashpw(PASSWORD, BCrypt.gensalt(MIN_COST)))).isTrue();
+        assertThat(hasher.needsRehash(BCrypt.hashpw(PASSWORD, BCrypt.gensalt(FIXED_COST)))).isFalse();
+        assertThat(hasher.needsRehash(BCrypt.hashpw(PASSWORD, BCrypt.gensalt(MAX_COST)))).isFalse();
+        assertThat(hasher.needsRehash("not-a-hash")).isFalse();
+    }
+
+    private static PasswordHashingConfiguration configuration(Duration targetLatency) {
+        PasswordHashingConfiguration configuration = new PasswordHashingConfiguration();
+        configuration.setTargetLatency(targetLatency);
+        configuration.setMinCost(MIN_COST);
+        configuration.setMaxCost(MAX_COST);
+        return configuration;
+    }
+}
@@ -0,0 +1,142 @@
+package com.rvladimir.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.rvladimir.activity.ActivityCalendar;
+import com.rvladimir.repository.jdbc.TrainingActivityJdbcRepository;
+import com.rvladimir.service.dto.ActivityHeatmapDTO;
+import com.rvladimir.service.dto.ActivityStreakDTO;
+import com.rvladimir.web.error.ValidationException;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Test class for ActivityServiceImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+class ActivityServiceImplTest {
+
+    private static final long USER_ID = 3L;
+    private static final int YEAR = 2024;
+    private static final int WEIGHT = 4;
+    private static final LocalDate TRAINING_DAY = LocalDate.of(YEAR, Month.JUNE, 1);
+    private static final LocalDate NEW_YEARS_EVE = LocalDate.of(YEAR, Month.DECEMBER, 31);
+    private static final int YEAR_END_RUN = 2;
+    private static final int NEW_YEAR_RUN = 3;
+    private static final int RECENT_RUN = 3;
+
+    @Mock
+    private TrainingActivityJdbcRepository trainingActivityJdbcRepository;
+
+    @InjectMocks
+    private ActivityServiceImpl activityService;
+
+    @Test
+    void testGetHeatmapReturnsIntensityPerDay() {
+        // Given
+        ActivityCalendar calendar = ActivityCalendar.empty(YEAR);
+        calendar.mark(TRAINING_DAY, WEIGHT);
+        when(trainingActivityJdbcRepository.findBetween(USER_ID, YEAR, YEAR)).thenReturn(List.of(calendar));
+
+        // When
+        ActivityHeatmapDTO result = activityService.getHeatmap(USER_ID, YEAR);
+
+        // Then
+        assertThat(result.getActiveDays()).isEqualTo(1);
+        assertThat(result.getLongestStreak()).isEqualTo(1);
+        assertThat(result.getIntensity()).hasSize(Year.of(YEAR).length());
+        assertThat(result.getIntensity().get(TRAINING_DAY.getDayOfYear() - 1)).isEqualTo(WEIGHT);
+    }
+
+    @Test
+    void testGetHeatmapOfAYearWithoutTrainingIsEmpty() {
+        // Given
+        when(trainingActivityJdbcRepository.findBetween(USER_ID, YEAR, YEAR)).thenReturn(List.of());
+
+        // When
+        ActivityHeatmapDTO result = activityService.getHeatmap(USER_ID, YEAR);
+
+        // Then
+        assertThat(result.getActiveDays()).isZero();
+        assertThat(result.getIntensity()).hasSize(Year.of(YEAR).length()).containsOnly(0);
+    }
+
+    @Test
+    void testGetHeatmapRejectsAnInvalidYear() {
+        // When / Then
+        assertThatThrownBy(() -> activityService.getHeatmap(USER_ID, ActivityServiceImpl.MAX_YEAR + 1))
+            .isInstanceOf(ValidationException.class)
+            .extracting("code").isEqualTo("INVALID_YEAR");
+        verifyNoInteractions(trainingActivityJdbcRepository);
+    }
+
+    @Test
+    void testCurrentStreakCountsUpToYesterdayWhileTodayHasNoTraining() {
+        // Given
+        LocalDate today = LocalDate.now();
+        LocalDate yesterday = today.minusDays(1);
+        stubCalendars(today, yesterday, yesterday.minusDays(1), yesterday.minusDays(2));
+
+        // When
+        ActivityStreakDTO result = activityService.getStreak(USER_ID);
+
+        // Then
+        assertThat(result.getCurrent()).isEqualTo(RECENT_RUN);
+        assertThat(result.isTrainedToday()).isFalse();
+        assertThat(result.getLastTrainingDay()).isEqualTo(yesterday);
+    }
+
+    @Test
+    void testStreaksRunAcrossYearBoundaries() {
+        // Given
+        LocalDate today = LocalDate.now();
+        stubCalendars(today, today, NEW_YEARS_EVE.minusDays(1), NEW_YEARS_EVE,
+            NEW_YEARS_EVE.plusDays(1), NEW_YEARS_EVE.plusDays(2), NEW_YEARS_EVE.plusDays(NEW_YEAR_RUN));
+
+        // When
+        ActivityStreakDTO result = activityService.getStreak(USER_ID);
+
+        // Then
+        assertThat(result.getCurrent()).isEqualTo(1);
+        assertThat(result.isTrainedToday()).isTrue();
+        assertThat(result.getLongest()).isEqualTo(YEAR_END_RUN + NEW_YEAR_RUN);
+        assertThat(result.getLastTrainingDay()).isEqualTo(today);
+    }
+
+    @Test
+    void testStreakOfAUserWhoNeverTrained() {
+        // Given
+        stubCalendars(LocalDate.now());
+
+        // When
+        ActivityStreakDTO result = activityService.getStreak(USER_ID);
+
+        // Then
+        assertThat(result.getCurrent()).isZero();
+        assertThat(result.getLongest()).isZero();
+        assertThat(result.getLastTrainingDay()).isNull();
+    }
+
+    private void stubCalendars(LocalDate today, LocalDate... days) {
+        Map<Integer, ActivityCalendar> calendars = new TreeMap<>();
+        for (LocalDate day : days) {
+            calendars.computeIfAbsent(day.getYear(), ActivityCalendar::empty).mark(day, 1);
+        }
+        when(trainingActivityJdbcRepository.findBetween(USER_ID, ActivityServiceImpl.MIN_YEAR, today.getYear()))
+            .thenReturn(List.copyOf(calendars.values()));
+    }
+}
@@ -0,0 +1,190 @@
+package com.rvladimir.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.rvladimir.analytics.AnalyticsConfiguration;
+import com.rvladimir.analytics.AnalyticsReport;
+import com.rvladimir.analytics.AnalyticsStore;
+import com.rvladimir.service.dto.AnalyticsReportDTO;
+import com.rvladimir.web.error.ValidationException;
+
+import io.micronaut.context.BeanProvider;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.exceptions.HttpStatusException;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Test class for AnalyticsServiceImpl, over a DuckDB store in a temporary directory.
+ */
+@ExtendWith(MockitoExtension.class)
+class AnalyticsServiceImplTest {
+
+    private static final LocalDate FROM = LocalDate.of(2026, Month.SEPTEMBER, 1);
+    private static final LocalDate TO = LocalDate.of(2026, Month.SEPTEMBER, 30);
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2026, Month.SEPTEMBER, 7, 18, 0);
+    private static final String HIIT = "HIIT";
+    private static final String STRENGTH = "STRENGTH";
+    private static final String FINISHED = "FINISHED";
+    private static final String INSERT_EXERCISE = "INSERT INTO exercise VALUES (?, ?, ?)";
+    private static final String BURPEES_NAME = "Burpees";
+    private static final String SQUAT_NAME = "Back Squat";
+    private static final long BURPEES = 10L;
+    private static final long SQUAT = 11L;
+    private static final long FIRST_USER = 1L;
+    private static final long SECOND_USER = 2L;
+    private static final long LATER_SESSION = 3L;
+    private static final long SECOND_BURPEES = 3L;
+    private static final long LATER_SQUAT = 4L;
+    private static final int FIRST_ROUNDS = 6;
+    private static final int SECOND_ROUNDS = 9;
+    private static final int SECOND_WEEK_DAYS = 8;
+    private static final double AVERAGE_ROUNDS = 7.5;
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private BeanProvider<AnalyticsStore> storeProvider;
+
+    private AnalyticsStore store;
+    private AnalyticsServiceImpl analyticsService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        AnalyticsConfiguration configuration = new AnalyticsConfiguration();
+        configuration.setPath(directory.resolve("analytics.duckdb").toString());
+        store = new AnalyticsStore(configuration);
+        analyticsService = new AnalyticsServiceImpl(storeProvider);
+        store.write(connection -> {
+            insert(connection, INSERT_EXERCISE, BURPEES, BURPEES_NAME, HIIT);
+            insert(connection, INSERT_EXERCISE, SQUAT, SQUAT_NAME, STRENGTH);
+            session(connection, 1L, FIRST_USER, MONDAY);
+            exercise(connection, 1L, 1L, BURPEES, HIIT, FIRST_ROUNDS);
+            exercise(connection, 2L, 1L, SQUAT, STRENGTH, null);
+            session(connection, 2L, SECOND_USER, MONDAY.plusDays(1));
+            exercise(connection, SECOND_BURPEES, 2L, BURPEES, HIIT, SECOND_ROUNDS);
+            session(connection, LATER_SESSION, FIRST_USER, MONDAY.plusDays(SECOND_WEEK_DAYS));
+            exercise(connection, LATER_SQUAT, LATER_SESSION, SQUAT, STRENGTH, null);
+            return null;
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        store.close();
+    }
+
+    @Test
+    void testPopularExercisesCountsPerformancesAndUsers() {
+        // Given
+        when(storeProvider.isPresent()).thenReturn(true);
+        when(storeProvider.get()).thenReturn(store);
+
+        // When
+        AnalyticsReportDTO result = analyticsService.runReport(AnalyticsReport.POPULAR_EXERCISES, FROM, TO);
+
+        // Then
+        assertThat(result.getColumns()).containsExactly("exercise_id", "name", "type", "performed", "users");
+        assertThat(result.getRows()).containsExactly(
+            List.of(BURPEES, BURPEES_NAME, HIIT, 2L, 2L),
+            List.of(SQUAT, SQUAT_NAME, STRENGTH, 2L, 1L));
+        assertThat(result.getSnapshotAt()).isNull();
+    }
+
+    @Test
+    void testHiitRoundsAveragesPerWeek() {
+        // Given
+        when(storeProvider.isPresent()).thenReturn(true);
+        when(storeProvider.get()).thenReturn(store);
+
+        // When
+        AnalyticsReportDTO result = analyticsService.runReport(AnalyticsReport.HIIT_ROUNDS, FROM, TO);
+
+        // Then
+        assertThat(result.getRows()).containsExactly(List.of(MONDAY.toLocalDate().toString(), 2L, AVERAGE_ROUNDS));
+    }
+
+    @Test
+    void testRetentionByTypeCountsReturningUsers() {
+        // Given
+        when(storeProvider.isPresent()).thenReturn(true);
+        when(storeProvider.get()).thenReturn(store);
+
+        // When
+        AnalyticsReportDTO result = analyticsService.runReport(AnalyticsReport.RETENTION_BY_TYPE, FROM, TO);
+
+        // Then
+        assertThat(result.getRows()).containsExactly(
+            List.of(HIIT, 2L, 0L, 0L),
+            List.of(STRENGTH, 1L, 1L, 0L));
+    }
+
+    @Test
+    void testRunReportFailsWhenAnalyticsIsDisabled() {
+        // Given
+        when(storeProvider.isPresent()).thenReturn(false);
+
+        // When / Then
+        assertThatThrownBy(() -> analyticsService.runReport(AnalyticsReport.POPULAR_EXERCISES, FROM, TO))
+            .isInstanceOf(HttpStatusException.class)
+            .satisfies(ex -> assertThat(((HttpStatusException) ex).getStatus())
+                .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+    }
+
+    @Test
+    void testRunReportRejectsAnInvalidRange() {
+        // When / Then
+        assertThatThrownBy(() -> analyticsService.runReport(AnalyticsReport.POPULAR_EXERCISES, TO, FROM))
+            .isInstanceOf(ValidationException.class);
+        verifyNoInteractions(storeProvider);
+    }
+
+    private static void session(Connection connection, long id, long userId, LocalDateTime createdAt)
+        throws SQLException {
+        insert(connection, "INSERT INTO training_session VALUES (?, ?, ?, ?)", id, userId, FINISHED,
+            Timestamp.valueOf(createdAt));
+    }
+
+    private static void exercise(
+        Connection connection,
+        long id,
+        long sessionId,
+        long exerciseId,
+        String type,
+        Integer rounds
+    ) throws SQLException {
+        insert(connection,
+            "INSERT INTO session_exercise (id, training_session_id, exercise_id, type_of_exercise, status, rounds) " +
+                "VALUES (?, ?, ?, ?, ?, ?)",
+            id, sessionId, exerciseId, type, FINISHED, rounds);
+    }
+
+    private static void insert(Connection connection, String sql, Object... values) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < values.length; i++) {
+                statement.setObject(i + 1, values[i]);
+            }
+            statement.executeUpdate();
+        }
+    }
+}
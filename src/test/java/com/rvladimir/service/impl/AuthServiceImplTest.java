@@ -9,6 +9,8 @@ import static org.mockito.Mockito.when;
 
 import com.rvladimir.domain.User;
 import com.rvladimir.repository.UserRepository;
+import com.rvladimir.security.PasswordHasher;
+import com.rvladimir.security.PasswordHashingConfiguration;
 import com.rvladimir.service.dto.LoginDTO;
 
 import io.micronaut.http.HttpStatus;
@@ -28,6 +30,7 @@ import org.mindrot.jbcrypt.BCrypt;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 /**
@@ -44,6 +47,8 @@ class AuthServiceImplTest {
     private static final String TEST_NICKNAME = "johnd";
     private static final long USER_ID = 42L;
     private static final int TEST_BIRTH_YEAR = 1990;
+    private static final int TEST_BCRYPT_COST = 5;
+    private static final int OUTDATED_BCRYPT_COST = 4;
 
     @Mock
     private UserRepository userRepository;
@@ -57,6 +62,9 @@ class AuthServiceImplTest {
     @Mock
     private RefreshTokenValidator refreshTokenValidator;
 
+    @Spy
+    private PasswordHasher passwordHasher = new PasswordHasher(hashingConfiguration());
+
     @InjectMocks
     private AuthServiceImpl authService;
 
@@ -71,7 +79,7 @@ class AuthServiceImplTest {
             TEST_NICKNAME,
             java.time.LocalDate.of(TEST_BIRTH_YEAR, 1, 1),
             TEST_EMAIL,
-            BCrypt.hashpw(TEST_PASSWORD, BCrypt.gensalt()),
+            BCrypt.hashpw(TEST_PASSWORD, BCrypt.gensalt(TEST_BCRYPT_COST)),
             User.Role.USER
         );
     }
@@ -174,4 +182,43 @@ class AuthServiceImplTest {
                     .isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR.getCode());
             });
     }
+
+    @Test
+    void testLoginRehashesPasswordStoredAtALowerCost() {
+        // Given
+        user.setPassword(BCrypt.hashpw(TEST_PASSWORD, BCrypt.gensalt(OUTDATED_BCRYPT_COST)));
+        LoginDTO loginDTO = new LoginDTO(TEST_EMAIL, TEST_PASSWORD);
+        when(userRepository.findByEmail(TEST_EMAIL)).thenReturn(Optional.of(user));
+        when(tokenGenerator.generateToken(any(Map.class))).thenReturn(Optional.of(TOKEN_VALUE));
+
+        // When
+        authService.login(loginDTO);
+
+        // Then
+        verify(userRepository).update(user);
+        assertThat(passwordHasher.needsRehash(user.getPassword())).isFalse();
+        assertThat(BCrypt.checkpw(TEST_PASSWORD, user.getPassword())).isTrue();
+    }
+
+    @Test
+    void testLoginKeepsPasswordStoredAtTheCurrentCost() {
+        // Given
+        String storedHash = user.getPassword();
+        LoginDTO loginDTO = new LoginDTO(TEST_EMAIL, TEST_PASSWORD);
+        when(userRepository.findByEmail(TEST_EMAIL)).thenReturn(Optional.of(user));
+        when(tokenGenerator.generateToken(any(Map.class))).thenReturn(Optional.of(TOKEN_VALUE));
+
+        // When
+        authService.login(loginDTO);
+
+        // Then
+        verify(userRepository, never()).update(any(User.class));
+        assertThat(user.getPassword()).isEqualTo(storedHash);
+    }
+
+    private static PasswordHashingConfiguration hashingConfiguration() {
+        PasswordHashingConfiguration configuration = new PasswordHashingConfiguration();
+        configuration.setCost(TEST_BCRYPT_COST);
+        return configuration;
+    }
 }
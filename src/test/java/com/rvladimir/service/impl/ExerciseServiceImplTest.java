@@ -1,18 +1,28 @@
 package com.rvladimir.service.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.rvladimir.domain.Exercise;
 import com.rvladimir.domain.TypeOfExercise;
 import com.rvladimir.repository.ExerciseRepository;
+import com.rvladimir.repository.jdbc.ColumnProjection;
+import com.rvladimir.repository.jdbc.ExerciseJdbcRepository;
+import com.rvladimir.repository.jdbc.SparseFieldsJdbcRepository;
+import com.rvladimir.repository.row.ExerciseRow;
+import com.rvladimir.search.ExerciseAutocompleteIndex;
 import com.rvladimir.service.dto.ExerciseDTO;
 import com.rvladimir.service.mapper.ExerciseMapper;
+import com.rvladimir.web.error.ValidationException;
 
 import io.micronaut.data.model.Page;
 import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -21,6 +31,8 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -47,6 +59,12 @@ class ExerciseServiceImplTest {
     private static final int HOUR_10 = 10;
     private static final int MINUTE_30 = 30;
     private static final int PAGE_SIZE = 10;
+    private static final long TOTAL_EXERCISES = 11L;
+    private static final String NAME_FIELD = "name";
+    private static final String UNSORTABLE_FIELD = "createdAt";
+    private static final String SEARCH_QUERY = "push";
+    private static final int SUGGESTION_LIMIT = 5;
+    private static final int TOO_MANY_SUGGESTIONS = 51;
 
     @Mock
     private ExerciseRepository exerciseRepository;
@@ -54,6 +72,18 @@ class ExerciseServiceImplTest {
     @Mock
     private ExerciseMapper exerciseMapper;
 
+    @Mock
+    private SparseFieldsJdbcRepository sparseFieldsJdbcRepository;
+
+    @Mock
+    private ExerciseJdbcRepository exerciseJdbcRepository;
+
+    @Mock
+    private ExerciseAutocompleteIndex autocompleteIndex;
+
+    @Captor
+    private ArgumentCaptor<ColumnProjection<ExerciseDTO>> projectionCaptor;
+
     @InjectMocks
     private ExerciseServiceImpl exerciseService;
 
@@ -249,4 +279,85 @@ class ExerciseServiceImplTest {
 
         verify(exerciseRepository).findAll(pageable);
     }
+
+    @Test
+    void testGetAllWithFieldsReadsOnlyTheirColumns() {
+        // Given
+        Pageable pageable = Pageable.from(0, PAGE_SIZE, Sort.of(Sort.Order.desc(NAME_FIELD)));
+        ExerciseDTO sparse = new ExerciseDTO();
+        sparse.setId(EXERCISE_ID);
+        sparse.setName(EXERCISE_NAME);
+        when(sparseFieldsJdbcRepository.findExercises(
+            projectionCaptor.capture(), eq("name DESC, id"), eq(0L), eq(PAGE_SIZE))).thenReturn(List.of(sparse));
+        when(sparseFieldsJdbcRepository.countExercises()).thenReturn(TOTAL_EXERCISES);
+
+        // When
+        Page<ExerciseDTO> result = exerciseService.getAll(pageable, NAME_FIELD);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(sparse);
+        assertThat(result.getTotalSize()).isEqualTo(TOTAL_EXERCISES);
+        assertThat(projectionCaptor.getValue().selectList("e")).isEqualTo("e.id, e.name");
+        verifyNoInteractions(exerciseRepository);
+    }
+
+    @Test
+    void testGetAllWithFieldsRejectsUnknownSortProperty() {
+        // Given
+        Pageable pageable = Pageable.from(0, PAGE_SIZE, Sort.of(Sort.Order.asc(UNSORTABLE_FIELD)));
+
+        // When / Then
+        assertThatThrownBy(() -> exerciseService.getAll(pageable, NAME_FIELD))
+            .isInstanceOf(ValidationException.class)
+            .hasMessageContaining(UNSORTABLE_FIELD);
+        verifyNoInteractions(sparseFieldsJdbcRepository);
+    }
+
+    @Test
+    void testSearchMapsRankedRowsToPage() {
+        // Given
+        Pageable pageable = Pageable.from(1, PAGE_SIZE);
+        ExerciseRow row = new ExerciseRow(
+            EXERCISE_ID, EXERCISE_NAME, EXERCISE_DESCRIPTION, EXERCISE_TYPE, EXERCISE_IMAGE, createdAt);
+        when(exerciseJdbcRepository.search(SEARCH_QUERY, EXERCISE_TYPE.name(), PAGE_SIZE, PAGE_SIZE))
+            .thenReturn(List.of(row));
+        when(exerciseJdbcRepository.countSearch(SEARCH_QUERY, EXERCISE_TYPE.name())).thenReturn(TOTAL_EXERCISES);
+        when(exerciseMapper.rowToDto(row)).thenReturn(exerciseDTO);
+
+        // When
+        Page<ExerciseDTO> result = exerciseService.search(SEARCH_QUERY, EXERCISE_TYPE, pageable);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(exerciseDTO);
+        assertThat(result.getTotalSize()).isEqualTo(TOTAL_EXERCISES);
+    }
+
+    @Test
+    void testSearchRejectsBlankQuery() {
+        // When / Then
+        assertThatThrownBy(() -> exerciseService.search(" ", null, Pageable.from(0, PAGE_SIZE)))
+            .isInstanceOf(ValidationException.class);
+        verifyNoInteractions(exerciseJdbcRepository);
+    }
+
+    @Test
+    void testAutocompleteReadsTheIndex() {
+        // Given
+        when(autocompleteIndex.suggest(SEARCH_QUERY, null, SUGGESTION_LIMIT)).thenReturn(List.of(exerciseDTO));
+
+        // When
+        List<ExerciseDTO> result = exerciseService.autocomplete(SEARCH_QUERY, null, SUGGESTION_LIMIT);
+
+        // Then
+        assertThat(result).containsExactly(exerciseDTO);
+        verifyNoInteractions(exerciseRepository, exerciseJdbcRepository);
+    }
+
+    @Test
+    void testAutocompleteRejectsTooManySuggestions() {
+        // When / Then
+        assertThatThrownBy(() -> exerciseService.autocomplete(SEARCH_QUERY, null, TOO_MANY_SUGGESTIONS))
+            .isInstanceOf(ValidationException.class);
+        verifyNoInteractions(autocompleteIndex);
+    }
 }
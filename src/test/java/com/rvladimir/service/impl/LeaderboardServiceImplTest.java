@@ -0,0 +1,130 @@
+package com.rvladimir.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.leaderboard.LeaderboardMetric;
+import com.rvladimir.leaderboard.Leaderboards;
+import com.rvladimir.leaderboard.RankedBoard;
+import com.rvladimir.service.dto.LeaderboardDTO;
+import com.rvladimir.service.dto.LeaderboardEntryDTO;
+import com.rvladimir.web.error.ValidationException;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Test class for LeaderboardServiceImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+class LeaderboardServiceImplTest {
+
+    private static final long EXERCISE_ID = 12L;
+    private static final long ALICE = 1L;
+    private static final long BOB = 2L;
+    private static final long CAROL = 3L;
+    private static final long STRANGER = 99L;
+    private static final double LOW = 50.0;
+    private static final double MIDDLE = 70.0;
+    private static final double HIGH = 90.0;
+    private static final int LIMIT = 10;
+    private static final int BOARD_SIZE = 3;
+    private static final String BOARD = Leaderboards.exerciseBoard(EXERCISE_ID, LeaderboardMetric.WEIGHT);
+
+    @Mock
+    private Leaderboards leaderboards;
+
+    @InjectMocks
+    private LeaderboardServiceImpl leaderboardService;
+
+    private RankedBoard board;
+
+    @BeforeEach
+    void setUp() {
+        board = new RankedBoard();
+        board.offer(ALICE, LOW);
+        board.offer(BOB, HIGH);
+        board.offer(CAROL, MIDDLE);
+    }
+
+    @Test
+    void testGetLeaderboardReturnsTheTop() {
+        // Given
+        when(leaderboards.board(BOARD)).thenReturn(Optional.of(board));
+
+        // When
+        LeaderboardDTO result = leaderboardService.getLeaderboard(EXERCISE_ID, null, LeaderboardMetric.WEIGHT, 2, null);
+
+        // Then
+        assertThat(result.getBoard()).isEqualTo(BOARD);
+        assertThat(result.getTotal()).isEqualTo(BOARD_SIZE);
+        assertThat(result.getEntries()).extracting(LeaderboardEntryDTO::getUserId).containsExactly(BOB, CAROL);
+    }
+
+    @Test
+    void testGetLeaderboardForChosenUsersKeepsGlobalRanks() {
+        // Given
+        when(leaderboards.board(BOARD)).thenReturn(Optional.of(board));
+
+        // When
+        LeaderboardDTO result = leaderboardService.getLeaderboard(
+            EXERCISE_ID, null, LeaderboardMetric.WEIGHT, LIMIT, List.of(ALICE, STRANGER, BOB, ALICE));
+
+        // Then
+        assertThat(result.getEntries()).extracting(LeaderboardEntryDTO::getUserId).containsExactly(BOB, ALICE);
+        assertThat(result.getEntries()).extracting(LeaderboardEntryDTO::getRank).containsExactly(1, BOARD_SIZE);
+    }
+
+    @Test
+    void testGetLeaderboardOfAnEmptyBoard() {
+        // Given
+        String typeBoard = Leaderboards.typeBoard(TypeOfExercise.BOXING_BAG, LeaderboardMetric.ROUNDS);
+        when(leaderboards.board(typeBoard)).thenReturn(Optional.empty());
+
+        // When
+        LeaderboardDTO result = leaderboardService.getLeaderboard(
+            null, TypeOfExercise.BOXING_BAG, LeaderboardMetric.ROUNDS, LIMIT, null);
+
+        // Then
+        assertThat(result.getTotal()).isZero();
+        assertThat(result.getEntries()).isEmpty();
+    }
+
+    @Test
+    void testGetLeaderboardRejectsAmbiguousBoardsAndLimits() {
+        // When / Then
+        assertThatThrownBy(() -> leaderboardService.getLeaderboard(
+            EXERCISE_ID, TypeOfExercise.STRENGTH, LeaderboardMetric.WEIGHT, LIMIT, null))
+            .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> leaderboardService.getLeaderboard(null, null, LeaderboardMetric.WEIGHT, LIMIT, null))
+            .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> leaderboardService.getLeaderboard(
+            EXERCISE_ID, null, LeaderboardMetric.WEIGHT, LeaderboardServiceImpl.MAX_LIMIT + 1, null))
+            .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void testGetRank() {
+        // Given
+        when(leaderboards.board(BOARD)).thenReturn(Optional.of(board));
+
+        // When
+        LeaderboardEntryDTO entry = leaderboardService.getRank(EXERCISE_ID, null, LeaderboardMetric.WEIGHT, CAROL);
+
+        // Then
+        assertThat(entry.getRank()).isEqualTo(2);
+        assertThat(entry.getScore()).isEqualTo(MIDDLE);
+        assertThatThrownBy(() -> leaderboardService.getRank(EXERCISE_ID, null, LeaderboardMetric.WEIGHT, STRANGER))
+            .isInstanceOf(ValidationException.class)
+            .hasMessage("User has no score on this leaderboard");
+    }
+}
@@ -0,0 +1,154 @@
+package com.rvladimir.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.rvladimir.archive.ArchiveReader;
+import com.rvladimir.archive.ArchivedSessions;
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.progress.ProgressMetric;
+import com.rvladimir.progress.SeriesBuffer;
+import com.rvladimir.repository.jdbc.ArchiveManifestJdbcRepository;
+import com.rvladimir.repository.jdbc.ProgressJdbcRepository;
+import com.rvladimir.repository.row.ArchiveManifestRow;
+import com.rvladimir.repository.row.SessionExerciseRow;
+import com.rvladimir.repository.row.TrainingSessionRow;
+import com.rvladimir.service.dto.ProgressChartDTO;
+import com.rvladimir.service.dto.ProgressPointDTO;
+import com.rvladimir.web.error.ValidationException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Test class for ProgressServiceImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+class ProgressServiceImplTest {
+
+    private static final long USER_ID = 5L;
+    private static final long EXERCISE_ID = 12L;
+    private static final LocalDate FROM = LocalDate.of(2024, Month.JANUARY, 1);
+    private static final LocalDate TO = LocalDate.of(2026, Month.OCTOBER, 18);
+    private static final int HISTORY = 900;
+    private static final int POINTS = 100;
+    private static final double WEIGHT = 80.0;
+    private static final LocalTime MORNING = LocalTime.of(7, 0);
+    private static final long ARCHIVED_SESSION_ID = 40L;
+    private static final long OTHER_EXERCISE_ID = 13L;
+    private static final String STORAGE_KEY = "user-5/2024-01/archive.tta";
+
+    @Mock
+    private ProgressJdbcRepository progressJdbcRepository;
+    @Mock
+    private ArchiveManifestJdbcRepository archiveManifestJdbcRepository;
+    @Mock
+    private ArchiveReader archiveReader;
+
+    @InjectMocks
+    private ProgressServiceImpl progressService;
+
+    @Test
+    void testGetChartDownsamplesTheWholeDaysOfTheRange() {
+        // Given
+        SeriesBuffer series = new SeriesBuffer();
+        for (int i = 0; i < HISTORY; i++) {
+            series.add(FROM.atStartOfDay().plusDays(i), WEIGHT + i % 2);
+        }
+        when(progressJdbcRepository.findSeries(USER_ID, EXERCISE_ID, ProgressMetric.WEIGHT,
+            FROM.atStartOfDay(), TO.plusDays(1).atStartOfDay())).thenReturn(series);
+
+        // When
+        ProgressChartDTO result = progressService.getChart(USER_ID, EXERCISE_ID, ProgressMetric.WEIGHT, FROM, TO,
+            POINTS);
+
+        // Then
+        assertThat(result.getTotal()).isEqualTo(HISTORY);
+        assertThat(result.getPoints()).hasSize(POINTS);
+        assertThat(result.getPoints()).first().extracting(ProgressPointDTO::getTime)
+            .isEqualTo(FROM.atStartOfDay());
+    }
+
+    @Test
+    void testGetChartReturnsShortHistoryAsIs() {
+        // Given
+        SeriesBuffer series = new SeriesBuffer();
+        LocalDateTime performedAt = TO.atTime(MORNING);
+        series.add(performedAt, WEIGHT);
+        when(progressJdbcRepository.findSeries(USER_ID, EXERCISE_ID, ProgressMetric.WEIGHT,
+            FROM.atStartOfDay(), TO.plusDays(1).atStartOfDay())).thenReturn(series);
+
+        // When
+        ProgressChartDTO result = progressService.getChart(USER_ID, EXERCISE_ID, ProgressMetric.WEIGHT, FROM, TO,
+            POINTS);
+
+        // Then
+        assertThat(result.getPoints()).containsExactly(new ProgressPointDTO(performedAt, WEIGHT));
+    }
+
+    @Test
+    void testGetChartRejectsInvalidArguments() {
+        // When / Then
+        assertThatThrownBy(() -> progressService.getChart(USER_ID, EXERCISE_ID, ProgressMetric.WEIGHT, FROM, TO, 2))
+            .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> progressService.getChart(USER_ID, EXERCISE_ID, ProgressMetric.WEIGHT, FROM, TO,
+            ProgressServiceImpl.MAX_POINTS + 1))
+            .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> progressService.getChart(USER_ID, EXERCISE_ID, ProgressMetric.WEIGHT, TO, FROM,
+            POINTS))
+            .isInstanceOf(ValidationException.class);
+        verifyNoInteractions(progressJdbcRepository);
+    }
+
+    @Test
+    void testGetChartMergesArchivedSessionsIntoTheSeries() {
+        // Given
+        LocalDateTime archivedAt = FROM.atTime(MORNING);
+        LocalDateTime hotAt = TO.atTime(MORNING);
+        TrainingSessionRow archivedSession = new TrainingSessionRow(ARCHIVED_SESSION_ID, null, null,
+            TrainingSession.Status.FINISHED, USER_ID, archivedAt);
+        List<SessionExerciseRow> archivedExercises = List.of(
+            archivedExercise(EXERCISE_ID, SessionExercise.Status.FINISHED),
+            archivedExercise(OTHER_EXERCISE_ID, SessionExercise.Status.FINISHED),
+            archivedExercise(EXERCISE_ID, SessionExercise.Status.NOT_FINISHED));
+        ArchiveManifestRow manifest = new ArchiveManifestRow(null, USER_ID, archivedAt, archivedAt, 1,
+            archivedExercises.size(), STORAGE_KEY, 0L, archivedAt);
+        when(archiveManifestJdbcRepository.findOverlapping(USER_ID, FROM.atStartOfDay(), TO.plusDays(1).atStartOfDay()))
+            .thenReturn(List.of(manifest));
+        when(archiveReader.read(STORAGE_KEY))
+            .thenReturn(new ArchivedSessions(List.of(archivedSession), archivedExercises));
+        SeriesBuffer hot = new SeriesBuffer();
+        hot.add(hotAt, WEIGHT + 1);
+        when(progressJdbcRepository.findSeries(USER_ID, EXERCISE_ID, ProgressMetric.WEIGHT,
+            FROM.atStartOfDay(), TO.plusDays(1).atStartOfDay())).thenReturn(hot);
+
+        // When
+        ProgressChartDTO result = progressService.getChart(USER_ID, EXERCISE_ID, ProgressMetric.WEIGHT, FROM, TO,
+            POINTS);
+
+        // Then
+        assertThat(result.getPoints()).containsExactly(
+            new ProgressPointDTO(archivedAt, WEIGHT), new ProgressPointDTO(hotAt, WEIGHT + 1));
+    }
+
+    private static SessionExerciseRow archivedExercise(long exerciseId, SessionExercise.Status status) {
+        SessionExerciseRow row = new SessionExerciseRow();
+        row.setTrainingSessionId(ARCHIVED_SESSION_ID);
+        row.setExerciseId(exerciseId);
+        row.setStatus(status);
+        row.setWeight(WEIGHT);
+        return row;
+    }
+}
@@ -0,0 +1,137 @@
+package com.rvladimir.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.repository.reactive.ExerciseReactiveRepository;
+import com.rvladimir.repository.reactive.SessionExerciseReactiveRepository;
+import com.rvladimir.repository.row.ExerciseRow;
+import com.rvladimir.repository.row.SessionExerciseRow;
+import com.rvladimir.service.dto.ExerciseDTO;
+import com.rvladimir.service.dto.SessionExerciseDTO;
+import com.rvladimir.service.mapper.ExerciseMapper;
+import com.rvladimir.service.mapper.SessionExerciseMapper;
+
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Test class for ReactiveReadServiceImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveReadServiceImplTest {
+
+    private static final long TRAINING_SESSION_ID = 3L;
+    private static final long EXERCISE_ID = 10L;
+    private static final long SESSION_EXERCISE_ID = 1L;
+    private static final long SESSION_EXERCISE_ID_2 = 2L;
+    private static final int EXERCISE_ORDER_2 = 2;
+    private static final int PAGE_SIZE = 10;
+    private static final String EXERCISE_NAME = "Push-ups";
+    private static final String EXERCISE_DESCRIPTION = "Upper body strength exercise";
+    private static final String EXERCISE_IMAGE = "https://example.com/pushups.jpg";
+
+    @Mock
+    private SessionExerciseReactiveRepository sessionExerciseReactiveRepository;
+
+    @Mock
+    private ExerciseReactiveRepository exerciseReactiveRepository;
+
+    private ReactiveReadServiceImpl reactiveReadService;
+
+    @BeforeEach
+    void setUp() {
+        reactiveReadService = new ReactiveReadServiceImpl(
+            sessionExerciseReactiveRepository,
+            exerciseReactiveRepository,
+            new SessionExerciseMapper(),
+            new ExerciseMapper()
+        );
+    }
+
+    private SessionExerciseRow createRow(long id, int exerciseOrder) {
+        SessionExerciseRow row = new SessionExerciseRow();
+        row.setId(id);
+        row.setExerciseOrder(exerciseOrder);
+        row.setExerciseId(EXERCISE_ID);
+        row.setTrainingSessionId(TRAINING_SESSION_ID);
+        row.setTypeOfExercise(TypeOfExercise.STRENGTH);
+        row.setCreatedAt(LocalDateTime.now());
+        return row;
+    }
+
+    @Test
+    void testGetSessionExercisesByTrainingSessionMapsRowsInOrder() {
+        // Given
+        when(sessionExerciseReactiveRepository.findByTrainingSessionIdOrderByExerciseOrder(TRAINING_SESSION_ID))
+            .thenReturn(Flux.just(
+                createRow(SESSION_EXERCISE_ID, 1),
+                createRow(SESSION_EXERCISE_ID_2, EXERCISE_ORDER_2)));
+
+        // When
+        List<SessionExerciseDTO> result = reactiveReadService
+            .getSessionExercisesByTrainingSession(TRAINING_SESSION_ID)
+            .collectList()
+            .block();
+
+        // Then
+        assertThat(result).extracting(SessionExerciseDTO::getId)
+            .containsExactly(SESSION_EXERCISE_ID, SESSION_EXERCISE_ID_2);
+        assertThat(result).allSatisfy(dto -> {
+            assertThat(dto.getTrainingSessionId()).isEqualTo(TRAINING_SESSION_ID);
+            assertThat(dto.getExerciseId()).isEqualTo(EXERCISE_ID);
+            assertThat(dto.getTypeOfExercise()).isEqualTo(TypeOfExercise.STRENGTH);
+        });
+    }
+
+    @Test
+    void testGetSessionExercisesByTrainingSessionEmpty() {
+        // Given
+        when(sessionExerciseReactiveRepository.findByTrainingSessionIdOrderByExerciseOrder(TRAINING_SESSION_ID))
+            .thenReturn(Flux.empty());
+
+        // When
+        List<SessionExerciseDTO> result = reactiveReadService
+            .getSessionExercisesByTrainingSession(TRAINING_SESSION_ID)
+            .collectList()
+            .block();
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void testGetExercisesMapsPage() {
+        // Given
+        Pageable pageable = Pageable.from(0, PAGE_SIZE);
+        ExerciseRow row = new ExerciseRow(
+            EXERCISE_ID, EXERCISE_NAME, EXERCISE_DESCRIPTION, TypeOfExercise.STRENGTH, EXERCISE_IMAGE,
+            LocalDateTime.now());
+        when(exerciseReactiveRepository.findAll(pageable)).thenReturn(Mono.just(Page.of(List.of(row), pageable, 1L)));
+
+        // When
+        Page<ExerciseDTO> result = reactiveReadService.getExercises(pageable).block();
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(result.getTotalSize()).isEqualTo(1L);
+        assertThat(result.getContent()).singleElement().satisfies(dto -> {
+            assertThat(dto.getId()).isEqualTo(EXERCISE_ID);
+            assertThat(dto.getName()).isEqualTo(EXERCISE_NAME);
+            assertThat(dto.getType()).isEqualTo(TypeOfExercise.STRENGTH);
+        });
+    }
+}
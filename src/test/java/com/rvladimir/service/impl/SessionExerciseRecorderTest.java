@@ -0,0 +1,98 @@
+package com.rvladimir.service.impl;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.rvladimir.cache.TemplateCache;
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.outbox.Outbox;
+import com.rvladimir.repository.row.SessionExerciseRow;
+import com.rvladimir.repository.row.TrainingSessionRow;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Test class for SessionExerciseRecorder.
+ */
+@ExtendWith(MockitoExtension.class)
+class SessionExerciseRecorderTest {
+
+    private static final long USER_ID = 5L;
+    private static final long TRAINING_SESSION_ID = 7L;
+    private static final LocalDateTime SESSION_STARTED_AT = LocalDateTime.now().minusDays(1);
+
+    @Mock
+    private TemplateCache templateCache;
+    @Mock
+    private Outbox outbox;
+
+    @InjectMocks
+    private SessionExerciseRecorder sessionExerciseRecorder;
+
+    private TrainingSessionRow trainingSession;
+
+    @BeforeEach
+    void setUp() {
+        trainingSession = new TrainingSessionRow(TRAINING_SESSION_ID, null, null, TrainingSession.Status.STARTED,
+            USER_ID, SESSION_STARTED_AT);
+    }
+
+    @Test
+    void testRecordSessionExercisesPublishesThemToTheOutbox() {
+        // Given
+        SessionExerciseRow first = exercise(SessionExercise.Status.STARTED);
+        SessionExerciseRow second = exercise(SessionExercise.Status.STARTED);
+        second.setExerciseOrder(2);
+
+        // When
+        sessionExerciseRecorder.record(trainingSession, List.of(first, second));
+
+        // Then
+        verifyNoInteractions(templateCache);
+        verify(outbox).sessionExerciseSaved(trainingSession, first);
+        verify(outbox).sessionExerciseSaved(trainingSession, second);
+    }
+
+    @Test
+    void testRecordTemplateInvalidatesTemplateCache() {
+        // Given
+        trainingSession.setStatus(TrainingSession.Status.IS_TEMPLATE);
+        SessionExerciseRow exercise = exercise(SessionExercise.Status.FINISHED);
+
+        // When
+        sessionExerciseRecorder.record(trainingSession, List.of(exercise));
+
+        // Then
+        verify(templateCache).invalidate(USER_ID);
+        verify(outbox).sessionExerciseSaved(trainingSession, exercise);
+    }
+
+    @Test
+    void testRecordEmptyTemplateStillInvalidatesTemplateCache() {
+        // Given
+        trainingSession.setStatus(TrainingSession.Status.IS_TEMPLATE);
+
+        // When
+        sessionExerciseRecorder.record(trainingSession, List.of());
+
+        // Then
+        verify(templateCache).invalidate(USER_ID);
+        verifyNoInteractions(outbox);
+    }
+
+    private static SessionExerciseRow exercise(SessionExercise.Status status) {
+        SessionExerciseRow row = new SessionExerciseRow();
+        row.setTrainingSessionId(TRAINING_SESSION_ID);
+        row.setStatus(status);
+        return row;
+    }
+}
@@ -3,20 +3,31 @@ package com.rvladimir.service.impl;
 import static com.rvladimir.service.impl.SessionExerciseTestHelper.createCreateSessionExerciseDTO;
 import static com.rvladimir.service.impl.SessionExerciseTestHelper.createSessionExerciseDTO;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.rvladimir.domain.Exercise;
-import com.rvladimir.domain.SessionExercise;
 import com.rvladimir.domain.TrainingSession;
 import com.rvladimir.repository.ExerciseRepository;
-import com.rvladimir.repository.SessionExerciseRepository;
-import com.rvladimir.repository.TrainingSessionRepository;
+import com.rvladimir.repository.jdbc.ColumnProjection;
+import com.rvladimir.repository.jdbc.SessionExerciseJdbcRepository;
+import com.rvladimir.repository.jdbc.SparseFieldsJdbcRepository;
+import com.rvladimir.repository.jdbc.TrainingSessionJdbcRepository;
+import com.rvladimir.repository.row.NoteMatchRow;
+import com.rvladimir.repository.row.SessionExerciseRow;
+import com.rvladimir.repository.row.TrainingSessionRow;
 import com.rvladimir.service.dto.CreateSessionExerciseDTO;
+import com.rvladimir.service.dto.NoteMatchDTO;
+import com.rvladimir.service.dto.NotesSearchResultDTO;
 import com.rvladimir.service.dto.SessionExerciseDTO;
 import com.rvladimir.service.mapper.SessionExerciseMapper;
+import com.rvladimir.web.error.ValidationException;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -25,6 +36,8 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -35,32 +48,50 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class SessionExerciseServiceImplTest {
 
+    private static final String ALIAS = "se";
+    private static final String COLUMN_NAME = "exercise_order";
+    private static final long USER_ID = 5L;
+    private static final String NOTES_QUERY = "knee";
+    private static final int SEARCH_LIMIT = 2;
+    private static final float BEST_RANK = 0.5f;
+    private static final float WORST_RANK = 0.1f;
+    private static final long BEST_MATCH_ID = 3L;
+    private static final long LAST_MATCH_ID = 2L;
+    private static final String FIELD_PROPERTY = "field";
+    private static final LocalDateTime SESSION_STARTED_AT = LocalDateTime.now().minusDays(1);
+
     @Mock
-    private SessionExerciseRepository sessionExerciseRepository;
+    private SessionExerciseJdbcRepository sessionExerciseJdbcRepository;
     @Mock
     private ExerciseRepository exerciseRepository;
     @Mock
-    private TrainingSessionRepository trainingSessionRepository;
+    private TrainingSessionJdbcRepository trainingSessionJdbcRepository;
     @Mock
     private SessionExerciseMapper sessionExerciseMapper;
+    @Mock
+    private SparseFieldsJdbcRepository sparseFieldsJdbcRepository;
+    @Mock
+    private SessionExerciseRecorder sessionExerciseRecorder;
+    @Captor
+    private ArgumentCaptor<ColumnProjection<SessionExerciseDTO>> projectionCaptor;
 
     @InjectMocks
     private SessionExerciseServiceImpl sessionExerciseService;
 
     private CreateSessionExerciseDTO createDto;
-    private SessionExercise sessionExercise;
+    private SessionExerciseRow sessionExerciseRow;
+    private TrainingSessionRow trainingSessionRow;
     private SessionExerciseDTO sessionExerciseDTO;
     private Exercise exercise;
-    private TrainingSession trainingSession;
 
     @BeforeEach
     void setUp() {
         exercise = new Exercise();
         exercise.setId(SessionExerciseTestHelper.EXERCISE_ID);
-        trainingSession = new TrainingSession();
-        trainingSession.setId(SessionExerciseTestHelper.TRAINING_SESSION_ID);
         createDto = createCreateSessionExerciseDTO();
-        sessionExercise = new SessionExercise();
+        sessionExerciseRow = new SessionExerciseRow();
+        trainingSessionRow = new TrainingSessionRow(SessionExerciseTestHelper.TRAINING_SESSION_ID, null, null,
+            TrainingSession.Status.STARTED, USER_ID, SESSION_STARTED_AT);
         sessionExerciseDTO = createSessionExerciseDTO();
     }
 
@@ -68,11 +99,12 @@ class SessionExerciseServiceImplTest {
     void testCreateSessionExerciseSuccess() {
         // Given
         when(exerciseRepository.findById(SessionExerciseTestHelper.EXERCISE_ID)).thenReturn(Optional.of(exercise));
-        when(trainingSessionRepository.findById(SessionExerciseTestHelper.TRAINING_SESSION_ID))
-            .thenReturn(Optional.of(trainingSession));
-        when(sessionExerciseMapper.toEntity(createDto, exercise, trainingSession)).thenReturn(sessionExercise);
-        when(sessionExerciseRepository.save(any(SessionExercise.class))).thenReturn(sessionExercise);
-        when(sessionExerciseMapper.toDto(sessionExercise)).thenReturn(sessionExerciseDTO);
+        when(trainingSessionJdbcRepository.findById(SessionExerciseTestHelper.TRAINING_SESSION_ID))
+            .thenReturn(Optional.of(trainingSessionRow));
+        when(sessionExerciseMapper.toRow(createDto, SessionExerciseTestHelper.TRAINING_SESSION_ID))
+            .thenReturn(sessionExerciseRow);
+        when(sessionExerciseJdbcRepository.save(any(SessionExerciseRow.class))).thenReturn(sessionExerciseRow);
+        when(sessionExerciseMapper.rowToDto(sessionExerciseRow)).thenReturn(sessionExerciseDTO);
 
         // When
         SessionExerciseDTO result =
@@ -82,29 +114,31 @@ class SessionExerciseServiceImplTest {
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(1L);
         verify(exerciseRepository).findById(SessionExerciseTestHelper.EXERCISE_ID);
-        verify(trainingSessionRepository).findById(SessionExerciseTestHelper.TRAINING_SESSION_ID);
-        verify(sessionExerciseMapper).toEntity(createDto, exercise, trainingSession);
-        verify(sessionExerciseRepository).save(any(SessionExercise.class));
-        verify(sessionExerciseMapper).toDto(sessionExercise);
+        verify(trainingSessionJdbcRepository).findById(SessionExerciseTestHelper.TRAINING_SESSION_ID);
+        verify(sessionExerciseMapper).toRow(createDto, SessionExerciseTestHelper.TRAINING_SESSION_ID);
+        verify(sessionExerciseJdbcRepository).save(any(SessionExerciseRow.class));
+        verify(sessionExerciseMapper).rowToDto(sessionExerciseRow);
+        verify(sessionExerciseRecorder).record(trainingSessionRow, List.of(sessionExerciseRow));
     }
 
     @Test
     void testCreateSessionExerciseExerciseNotFound() {
         // Given
         when(exerciseRepository.findById(SessionExerciseTestHelper.EXERCISE_ID)).thenReturn(Optional.empty());
-        when(trainingSessionRepository.findById(SessionExerciseTestHelper.TRAINING_SESSION_ID))
-            .thenReturn(Optional.of(trainingSession));
+        when(trainingSessionJdbcRepository.findById(SessionExerciseTestHelper.TRAINING_SESSION_ID))
+            .thenReturn(Optional.of(trainingSessionRow));
 
         // When & Then
         Assertions.assertThrows(IllegalArgumentException.class, () ->
             sessionExerciseService.createSessionExercise(SessionExerciseTestHelper.TRAINING_SESSION_ID, createDto));
+        verifyNoInteractions(sessionExerciseRecorder);
     }
 
     @Test
     void testCreateSessionExerciseTrainingSessionNotFound() {
         // Given
         when(exerciseRepository.findById(SessionExerciseTestHelper.EXERCISE_ID)).thenReturn(Optional.of(exercise));
-        when(trainingSessionRepository.findById(SessionExerciseTestHelper.TRAINING_SESSION_ID))
+        when(trainingSessionJdbcRepository.findById(SessionExerciseTestHelper.TRAINING_SESSION_ID))
             .thenReturn(Optional.empty());
 
         // When & Then
@@ -115,9 +149,9 @@ class SessionExerciseServiceImplTest {
     @Test
     void testGetSessionExercisesByTrainingSession() {
         // Given
-        when(sessionExerciseRepository.findByTrainingSessionId(SessionExerciseTestHelper.TRAINING_SESSION_ID))
-            .thenReturn(Collections.singletonList(sessionExercise));
-        when(sessionExerciseMapper.toDto(sessionExercise)).thenReturn(sessionExerciseDTO);
+        when(sessionExerciseJdbcRepository.findByTrainingSessionIdOrderByExerciseOrder(
+            SessionExerciseTestHelper.TRAINING_SESSION_ID)).thenReturn(Collections.singletonList(sessionExerciseRow));
+        when(sessionExerciseMapper.rowToDto(sessionExerciseRow)).thenReturn(sessionExerciseDTO);
 
         // When
         List<SessionExerciseDTO> result =
@@ -126,14 +160,15 @@ class SessionExerciseServiceImplTest {
         // Then
         assertThat(result).hasSize(1);
         assertThat(result.getFirst()).isEqualTo(sessionExerciseDTO);
-        verify(sessionExerciseRepository).findByTrainingSessionId(SessionExerciseTestHelper.TRAINING_SESSION_ID);
+        verify(sessionExerciseJdbcRepository)
+            .findByTrainingSessionIdOrderByExerciseOrder(SessionExerciseTestHelper.TRAINING_SESSION_ID);
     }
 
     @Test
     void testGetSessionExercisesByTrainingSessionEmpty() {
         // Given
-        when(sessionExerciseRepository.findByTrainingSessionId(SessionExerciseTestHelper.TRAINING_SESSION_ID))
-            .thenReturn(Collections.emptyList());
+        when(sessionExerciseJdbcRepository.findByTrainingSessionIdOrderByExerciseOrder(
+            SessionExerciseTestHelper.TRAINING_SESSION_ID)).thenReturn(Collections.emptyList());
 
         // When
         List<SessionExerciseDTO> result =
@@ -141,6 +176,91 @@ class SessionExerciseServiceImplTest {
 
         // Then
         assertThat(result).isEmpty();
-        verify(sessionExerciseRepository).findByTrainingSessionId(SessionExerciseTestHelper.TRAINING_SESSION_ID);
+        verify(sessionExerciseJdbcRepository)
+            .findByTrainingSessionIdOrderByExerciseOrder(SessionExerciseTestHelper.TRAINING_SESSION_ID);
+    }
+
+    @Test
+    void testGetSessionExercisesWithFieldsReadsOnlyTheirColumns() {
+        // Given
+        when(sparseFieldsJdbcRepository.findSessionExercisesByTrainingSession(
+            projectionCaptor.capture(), eq(SessionExerciseTestHelper.TRAINING_SESSION_ID)))
+            .thenReturn(List.of(sessionExerciseDTO));
+
+        // When
+        List<SessionExerciseDTO> result = sessionExerciseService.getSessionExercisesByTrainingSession(
+            SessionExerciseTestHelper.TRAINING_SESSION_ID, "status, startTime");
+
+        // Then
+        assertThat(result).containsExactly(sessionExerciseDTO);
+        assertThat(projectionCaptor.getValue().selectList(ALIAS)).isEqualTo("se.id, se.status, se.start_time");
+        verifyNoInteractions(sessionExerciseJdbcRepository);
+    }
+
+    @Test
+    void testGetSessionExercisesWithUnknownFieldThrows() {
+        // When / Then
+        assertThatThrownBy(() -> sessionExerciseService.getSessionExercisesByTrainingSession(
+            SessionExerciseTestHelper.TRAINING_SESSION_ID, COLUMN_NAME))
+            .isInstanceOf(ValidationException.class)
+            .hasMessageContaining(COLUMN_NAME);
+        verifyNoInteractions(sparseFieldsJdbcRepository, sessionExerciseJdbcRepository);
+    }
+
+    @Test
+    void testSearchNotesReturnsFirstPageWithCursor() {
+        // Given
+        List<NoteMatchRow> rows = List.of(
+            match(BEST_MATCH_ID, BEST_RANK), match(LAST_MATCH_ID, WORST_RANK), match(1L, WORST_RANK));
+        when(sessionExerciseJdbcRepository.searchNotes(
+            USER_ID, NOTES_QUERY, Float.POSITIVE_INFINITY, Long.MAX_VALUE, SEARCH_LIMIT + 1)).thenReturn(rows);
+        when(sessionExerciseMapper.matchToDto(any(NoteMatchRow.class))).thenReturn(new NoteMatchDTO());
+
+        // When
+        NotesSearchResultDTO result = sessionExerciseService.searchNotes(USER_ID, " knee ", null, SEARCH_LIMIT);
+
+        // Then
+        assertThat(result.getMatches()).hasSize(SEARCH_LIMIT);
+        assertThat(result.isHasMore()).isTrue();
+        assertThat(result.getCursor()).isEqualTo(NotesSearchCursor.of(rows.get(1)).encode());
+    }
+
+    @Test
+    void testSearchNotesResumesAfterCursor() {
+        // Given
+        NoteMatchRow previous = match(LAST_MATCH_ID, WORST_RANK);
+        when(sessionExerciseJdbcRepository.searchNotes(
+            USER_ID, NOTES_QUERY, WORST_RANK, LAST_MATCH_ID, SEARCH_LIMIT + 1))
+            .thenReturn(List.of());
+
+        // When
+        NotesSearchResultDTO result = sessionExerciseService.searchNotes(
+            USER_ID, NOTES_QUERY, NotesSearchCursor.of(previous).encode(), SEARCH_LIMIT);
+
+        // Then
+        assertThat(result.getMatches()).isEmpty();
+        assertThat(result.getCursor()).isNull();
+        assertThat(result.isHasMore()).isFalse();
+    }
+
+    @Test
+    void testSearchNotesRejectsForeignCursorAndBlankQuery() {
+        // When / Then
+        assertThatThrownBy(() -> sessionExerciseService.searchNotes(USER_ID, NOTES_QUERY, "not-a-cursor", SEARCH_LIMIT))
+            .isInstanceOf(ValidationException.class)
+            .extracting("code").isEqualTo("INVALID_CURSOR");
+        assertThatThrownBy(() -> sessionExerciseService.searchNotes(USER_ID, " ", null, SEARCH_LIMIT))
+            .isInstanceOf(ValidationException.class)
+            .extracting(FIELD_PROPERTY).isEqualTo("q");
+        assertThatThrownBy(() -> sessionExerciseService.searchNotes(
+            USER_ID, NOTES_QUERY, null, SessionExerciseServiceImpl.MAX_SEARCH_LIMIT + 1))
+            .isInstanceOf(ValidationException.class)
+            .extracting(FIELD_PROPERTY).isEqualTo("limit");
+        verifyNoInteractions(sessionExerciseJdbcRepository);
+    }
+
+    private static NoteMatchRow match(long id, float rank) {
+        return new NoteMatchRow(id, SessionExerciseTestHelper.TRAINING_SESSION_ID,
+            SessionExerciseTestHelper.EXERCISE_ID, null, rank, SessionExerciseTestHelper.NOTES);
     }
 }
@@ -0,0 +1,163 @@
+package com.rvladimir.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.repository.jdbc.SessionExerciseJdbcRepository;
+import com.rvladimir.repository.jdbc.TrainingSessionJdbcRepository;
+import com.rvladimir.repository.row.SessionExerciseRow;
+import com.rvladimir.repository.row.SyncChangeRow;
+import com.rvladimir.repository.row.TrainingSessionRow;
+import com.rvladimir.service.dto.SessionExerciseDTO;
+import com.rvladimir.service.dto.SyncChangesDTO;
+import com.rvladimir.service.dto.TrainingSessionDTO;
+import com.rvladimir.service.mapper.SessionExerciseMapper;
+import com.rvladimir.service.mapper.TrainingSessionMapper;
+import com.rvladimir.web.error.ValidationException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Test class for SyncServiceImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+class SyncServiceImplTest {
+
+    private static final long USER_ID = 1L;
+    private static final long SESSION_ID = 10L;
+    private static final long DELETED_SESSION_ID = 11L;
+    private static final long EXERCISE_ID = 100L;
+    private static final long DELETED_EXERCISE_ID = 101L;
+    private static final long FIRST_SEQ = 740L;
+    private static final long SECOND_SEQ = 815L;
+    private static final int LIMIT = 3;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 3, 2, 7, 30);
+
+    @Mock
+    private TrainingSessionJdbcRepository trainingSessionJdbcRepository;
+    @Mock
+    private SessionExerciseJdbcRepository sessionExerciseJdbcRepository;
+    @Spy
+    private TrainingSessionMapper trainingSessionMapper;
+    @Spy
+    private SessionExerciseMapper sessionExerciseMapper;
+
+    @InjectMocks
+    private SyncServiceImpl syncService;
+
+    @Test
+    void testFullSyncReturnsChangedEntitiesAndTombstones() {
+        // Given
+        SyncChangeRow lastChange = change(SyncServiceImpl.SESSION_EXERCISE, DELETED_EXERCISE_ID, SECOND_SEQ, true);
+        when(trainingSessionJdbcRepository.findSyncChanges(USER_ID, -1L, "", 0L, LIMIT + 1)).thenReturn(List.of(
+            change(SyncServiceImpl.TRAINING_SESSION, SESSION_ID, FIRST_SEQ, false),
+            change(SyncServiceImpl.SESSION_EXERCISE, EXERCISE_ID, FIRST_SEQ, false),
+            lastChange));
+        when(trainingSessionJdbcRepository.findByIdIn(List.of(SESSION_ID))).thenReturn(List.of(session()));
+        when(sessionExerciseJdbcRepository.findByIdIn(List.of(EXERCISE_ID))).thenReturn(List.of(exercise()));
+
+        // When
+        SyncChangesDTO changes = syncService.changesSince(USER_ID, null, LIMIT);
+
+        // Then
+        assertThat(changes.getTrainingSessions()).extracting(TrainingSessionDTO::getId).containsExactly(SESSION_ID);
+        assertThat(changes.getSessionExercises()).extracting(SessionExerciseDTO::getId).containsExactly(EXERCISE_ID);
+        assertThat(changes.getDeletedTrainingSessionIds()).isEmpty();
+        assertThat(changes.getDeletedSessionExerciseIds()).containsExactly(DELETED_EXERCISE_ID);
+        assertThat(changes.isHasMore()).isFalse();
+        assertThat(changes.getCursor()).isEqualTo(SyncCursor.of(lastChange).encode());
+        verify(trainingSessionJdbcRepository).sequenceSyncChanges(SyncServiceImpl.SEQUENCE_BATCH);
+    }
+
+    @Test
+    void testSyncResumesAfterCursorAndReportsMorePages() {
+        // Given
+        SyncChangeRow previous = change(SyncServiceImpl.TRAINING_SESSION, SESSION_ID, FIRST_SEQ, false);
+        List<SyncChangeRow> page = List.of(
+            change(SyncServiceImpl.TRAINING_SESSION, DELETED_SESSION_ID, SECOND_SEQ, true),
+            change(SyncServiceImpl.SESSION_EXERCISE, DELETED_EXERCISE_ID, SECOND_SEQ, true),
+            change(SyncServiceImpl.SESSION_EXERCISE, EXERCISE_ID, SECOND_SEQ, true),
+            change(SyncServiceImpl.SESSION_EXERCISE, EXERCISE_ID + 1, SECOND_SEQ, true));
+        when(trainingSessionJdbcRepository.findSyncChanges(
+            USER_ID, FIRST_SEQ, SyncServiceImpl.TRAINING_SESSION, SESSION_ID, LIMIT + 1)).thenReturn(page);
+
+        // When
+        SyncChangesDTO changes = syncService.changesSince(USER_ID, SyncCursor.of(previous).encode(), LIMIT);
+
+        // Then
+        assertThat(changes.getDeletedTrainingSessionIds()).containsExactly(DELETED_SESSION_ID);
+        assertThat(changes.getDeletedSessionExerciseIds()).containsExactly(DELETED_EXERCISE_ID, EXERCISE_ID);
+        assertThat(changes.isHasMore()).isTrue();
+        assertThat(changes.getCursor()).isEqualTo(SyncCursor.of(page.get(LIMIT - 1)).encode());
+        verify(trainingSessionJdbcRepository, never()).findByIdIn(anyCollection());
+        verify(sessionExerciseJdbcRepository, never()).findByIdIn(anyCollection());
+    }
+
+    @Test
+    void testSyncWithoutChangesKeepsCursor() {
+        // Given
+        String cursor = SyncCursor.of(change(SyncServiceImpl.TRAINING_SESSION, SESSION_ID, FIRST_SEQ, false))
+            .encode();
+        when(trainingSessionJdbcRepository.findSyncChanges(
+            USER_ID, FIRST_SEQ, SyncServiceImpl.TRAINING_SESSION, SESSION_ID, LIMIT + 1)).thenReturn(List.of());
+
+        // When
+        SyncChangesDTO changes = syncService.changesSince(USER_ID, cursor, LIMIT);
+
+        // Then
+        assertThat(changes.getCursor()).isEqualTo(cursor);
+        assertThat(changes.getTrainingSessions()).isEmpty();
+        assertThat(changes.isHasMore()).isFalse();
+    }
+
+    @Test
+    void testSyncRejectsForeignCursor() {
+        // When / Then
+        assertThatThrownBy(() -> syncService.changesSince(USER_ID, "not-a-cursor", LIMIT))
+            .isInstanceOf(ValidationException.class)
+            .extracting("code").isEqualTo("INVALID_CURSOR");
+        verifyNoInteractions(trainingSessionJdbcRepository, sessionExerciseJdbcRepository);
+    }
+
+    @Test
+    void testSyncRejectsLimitAboveMaximum() {
+        // When / Then
+        assertThatThrownBy(() -> syncService.changesSince(USER_ID, null, SyncServiceImpl.MAX_LIMIT + 1))
+            .isInstanceOf(ValidationException.class)
+            .extracting("field").isEqualTo("limit");
+        verifyNoInteractions(trainingSessionJdbcRepository, sessionExerciseJdbcRepository);
+    }
+
+    private static SyncChangeRow change(String entityType, long entityId, long changeSeq, boolean deleted) {
+        return new SyncChangeRow(entityType, entityId, changeSeq, deleted);
+    }
+
+    private static TrainingSessionRow session() {
+        return new TrainingSessionRow(SESSION_ID, null, null, TrainingSession.Status.STARTED, USER_ID, CREATED_AT);
+    }
+
+    private static SessionExerciseRow exercise() {
+        SessionExerciseRow row = new SessionExerciseRow();
+        row.setId(EXERCISE_ID);
+        row.setTrainingSessionId(SESSION_ID);
+        row.setStatus(SessionExercise.Status.STARTED);
+        row.setExerciseOrder(1);
+        row.setCreatedAt(CREATED_AT);
+        return row;
+    }
+}
@@ -0,0 +1,101 @@
+package com.rvladimir.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.rvladimir.load.TrainingLoadConfiguration;
+import com.rvladimir.load.TrainingLoadModel;
+import com.rvladimir.repository.jdbc.TrainingLoadJdbcRepository;
+import com.rvladimir.repository.row.TrainingLoadRow;
+import com.rvladimir.service.dto.TrainingLoadPointDTO;
+import com.rvladimir.service.dto.TrainingLoadSeriesDTO;
+import com.rvladimir.web.error.ValidationException;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Test class for TrainingLoadServiceImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+class TrainingLoadServiceImplTest {
+
+    private static final long USER_ID = 8L;
+    private static final LocalDate FROM = LocalDate.of(2026, Month.OCTOBER, 1);
+    private static final LocalDate TO = FROM.plusDays(3);
+    private static final int POINTS = 4;
+    private static final double LOAD = 40.0;
+    private static final double ACUTE = 20.0;
+    private static final double CHRONIC = 10.0;
+    private static final double RATIO = 2.0;
+
+    @Mock
+    private TrainingLoadJdbcRepository trainingLoadJdbcRepository;
+
+    private TrainingLoadModel model;
+    private TrainingLoadServiceImpl trainingLoadService;
+
+    @BeforeEach
+    void setUp() {
+        TrainingLoadConfiguration configuration = new TrainingLoadConfiguration();
+        model = new TrainingLoadModel(configuration);
+        trainingLoadService = new TrainingLoadServiceImpl(trainingLoadJdbcRepository, model, configuration);
+    }
+
+    @Test
+    void testGetSeriesFillsDaysWithoutTrainingByDecay() {
+        // Given
+        TrainingLoadRow before = new TrainingLoadRow(USER_ID, FROM.minusDays(1), LOAD, ACUTE, CHRONIC);
+        TrainingLoadRow stored = model.next(before, USER_ID, FROM.plusDays(2), LOAD);
+        when(trainingLoadJdbcRepository.findLatestBefore(USER_ID, FROM)).thenReturn(Optional.of(before));
+        when(trainingLoadJdbcRepository.findBetween(USER_ID, FROM, TO)).thenReturn(List.of(stored));
+
+        // When
+        TrainingLoadSeriesDTO result = trainingLoadService.getSeries(USER_ID, FROM, TO);
+
+        // Then
+        List<TrainingLoadPointDTO> points = result.getPoints();
+        assertThat(points).hasSize(POINTS).extracting(TrainingLoadPointDTO::getLoad)
+            .containsExactly(0.0, 0.0, LOAD, 0.0);
+        assertThat(points.get(0).getAcute()).isEqualTo(model.decay(before, FROM).getAcute());
+        assertThat(points.get(2).getAcute()).isEqualTo(stored.getAcute());
+        assertThat(points.get(POINTS - 1).getChronic()).isEqualTo(model.decay(stored, TO).getChronic());
+    }
+
+    @Test
+    void testGetSeriesReturnsTheRatioOnlyOnceThereIsAChronicLoad() {
+        // Given
+        when(trainingLoadJdbcRepository.findLatestBefore(USER_ID, FROM)).thenReturn(Optional.empty());
+        when(trainingLoadJdbcRepository.findBetween(USER_ID, FROM, TO))
+            .thenReturn(List.of(new TrainingLoadRow(USER_ID, TO, LOAD, ACUTE, CHRONIC)));
+
+        // When
+        TrainingLoadSeriesDTO result = trainingLoadService.getSeries(USER_ID, FROM, TO);
+
+        // Then
+        assertThat(result.getAcuteDays()).isEqualTo(new TrainingLoadConfiguration().getAcuteDays());
+        assertThat(result.getPoints()).extracting(TrainingLoadPointDTO::getRatio)
+            .containsExactly(null, null, null, RATIO);
+    }
+
+    @Test
+    void testGetSeriesRejectsAnInvalidRange() {
+        // When / Then
+        assertThatThrownBy(() -> trainingLoadService.getSeries(USER_ID, TO, FROM))
+            .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> trainingLoadService.getSeries(USER_ID, FROM,
+            FROM.plusDays(TrainingLoadServiceImpl.MAX_DAYS)))
+            .isInstanceOf(ValidationException.class);
+        verifyNoInteractions(trainingLoadJdbcRepository);
+    }
+}
@@ -0,0 +1,162 @@
+package com.rvladimir.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.rvladimir.archive.ArchiveStorage;
+import com.rvladimir.archive.ArchivedSessions;
+import com.rvladimir.archive.ColumnarArchiveCodec;
+import com.rvladimir.domain.SessionExercise;
+import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.repository.jdbc.ArchiveManifestJdbcRepository;
+import com.rvladimir.repository.jdbc.SessionExerciseJdbcRepository;
+import com.rvladimir.repository.jdbc.TrainingSessionJdbcRepository;
+import com.rvladimir.repository.row.ArchiveManifestRow;
+import com.rvladimir.repository.row.SessionExerciseRow;
+import com.rvladimir.repository.row.TrainingSessionRow;
+import com.rvladimir.service.dto.SessionExerciseDTO;
+import com.rvladimir.service.dto.SparseFieldset;
+import com.rvladimir.service.dto.TrainingSessionDTO;
+import com.rvladimir.service.dto.TrainingSessionHistoryDTO;
+import com.rvladimir.service.mapper.SessionExerciseMapper;
+import com.rvladimir.service.mapper.TrainingSessionMapper;
+import com.rvladimir.web.error.ValidationException;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Test class for TrainingSessionHistoryServiceImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+class TrainingSessionHistoryServiceImplTest {
+
+    private static final long USER_ID = 1L;
+    private static final long ARCHIVED_SESSION_ID = 10L;
+    private static final long OUT_OF_RANGE_SESSION_ID = 11L;
+    private static final long HOT_SESSION_ID = 20L;
+    private static final long ARCHIVED_EXERCISE_ID = 100L;
+    private static final long HOT_EXERCISE_ID = 200L;
+    private static final String STORAGE_KEY = "training-sessions/user-1/2024-01/archive.tta.gz";
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 1, 10, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 12, 31, 0, 0);
+    private static final LocalDateTime BEFORE_FROM = LocalDateTime.of(2024, 1, 2, 8, 0);
+    private static final LocalDateTime ARCHIVED_AT = LocalDateTime.of(2024, 1, 20, 8, 0);
+    private static final LocalDateTime HOT_AT = LocalDateTime.of(2025, 6, 1, 8, 0);
+    private static final String SESSION_ONLY_FIELD = "userId";
+
+    @Mock
+    private TrainingSessionJdbcRepository trainingSessionJdbcRepository;
+    @Mock
+    private SessionExerciseJdbcRepository sessionExerciseJdbcRepository;
+    @Mock
+    private ArchiveManifestJdbcRepository archiveManifestJdbcRepository;
+    @Mock
+    private ArchiveStorage archiveStorage;
+    @Spy
+    private TrainingSessionMapper trainingSessionMapper;
+    @Spy
+    private SessionExerciseMapper sessionExerciseMapper;
+
+    @InjectMocks
+    private TrainingSessionHistoryServiceImpl trainingSessionHistoryService;
+
+    @Test
+    void testGetHistoryMergesHotAndArchivedSessions() throws IOException {
+        // Given
+        TrainingSessionRow hotSession = session(HOT_SESSION_ID, HOT_AT);
+        when(trainingSessionJdbcRepository.findHistory(USER_ID, FROM, TO))
+            .thenReturn(List.of(hotSession));
+        when(sessionExerciseJdbcRepository.findByTrainingSessionIds(List.of(HOT_SESSION_ID), HOT_AT))
+            .thenReturn(List.of(exercise(HOT_EXERCISE_ID, HOT_SESSION_ID, HOT_AT)));
+
+        ArchivedSessions archive = new ArchivedSessions(
+            List.of(session(OUT_OF_RANGE_SESSION_ID, BEFORE_FROM), session(ARCHIVED_SESSION_ID, ARCHIVED_AT)),
+            List.of(exercise(ARCHIVED_EXERCISE_ID, ARCHIVED_SESSION_ID, ARCHIVED_AT)));
+        ArchiveManifestRow manifest = new ArchiveManifestRow(
+            1L, USER_ID, BEFORE_FROM, ARCHIVED_AT, 2, 1, STORAGE_KEY, 0L, ARCHIVED_AT);
+        when(archiveManifestJdbcRepository.findOverlapping(USER_ID, FROM, TO)).thenReturn(List.of(manifest));
+        when(archiveStorage.read(STORAGE_KEY)).thenReturn(ColumnarArchiveCodec.encode(archive));
+
+        // When
+        List<TrainingSessionHistoryDTO> history = trainingSessionHistoryService.getHistory(USER_ID, FROM, TO);
+
+        // Then
+        assertThat(history).extracting(entry -> entry.getTrainingSession().getId())
+            .containsExactly(ARCHIVED_SESSION_ID, HOT_SESSION_ID);
+        assertThat(history).extracting(TrainingSessionHistoryDTO::isArchived).containsExactly(true, false);
+        assertThat(history.get(0).getSessionExercises()).extracting(SessionExerciseDTO::getId)
+            .containsExactly(ARCHIVED_EXERCISE_ID);
+        assertThat(history.get(1).getSessionExercises()).extracting(SessionExerciseDTO::getId)
+            .containsExactly(HOT_EXERCISE_ID);
+    }
+
+    @Test
+    void testGetHistoryRejectsInvertedRange() {
+        // When / Then
+        assertThatThrownBy(() -> trainingSessionHistoryService.getHistory(USER_ID, TO, FROM))
+            .isInstanceOf(ValidationException.class);
+        verifyNoInteractions(trainingSessionJdbcRepository, archiveManifestJdbcRepository, archiveStorage);
+    }
+
+    @Test
+    void testGetHistoryWithFieldsKeepsOnlyRequestedProperties() {
+        // Given
+        when(trainingSessionJdbcRepository.findHistory(USER_ID, FROM, TO))
+            .thenReturn(List.of(session(HOT_SESSION_ID, HOT_AT)));
+        when(sessionExerciseJdbcRepository.findByTrainingSessionIds(List.of(HOT_SESSION_ID), HOT_AT))
+            .thenReturn(List.of(exercise(HOT_EXERCISE_ID, HOT_SESSION_ID, HOT_AT)));
+        when(archiveManifestJdbcRepository.findOverlapping(USER_ID, FROM, TO)).thenReturn(List.of());
+
+        // When
+        List<TrainingSessionHistoryDTO> history =
+            trainingSessionHistoryService.getHistory(USER_ID, FROM, TO, "createdAt", "status");
+
+        // Then
+        TrainingSessionDTO trainingSession = history.get(0).getTrainingSession();
+        assertThat(trainingSession.getId()).isEqualTo(HOT_SESSION_ID);
+        assertThat(trainingSession.getCreatedAt()).isEqualTo(HOT_AT);
+        assertThat(trainingSession.getStatus()).isNull();
+        assertThat(trainingSession.getUserId()).isNull();
+        assertThat(trainingSession).isInstanceOf(SparseFieldset.class);
+        SessionExerciseDTO sessionExercise = history.get(0).getSessionExercises().get(0);
+        assertThat(sessionExercise.getId()).isEqualTo(HOT_EXERCISE_ID);
+        assertThat(sessionExercise.getStatus()).isEqualTo(SessionExercise.Status.FINISHED);
+        assertThat(sessionExercise.getTrainingSessionId()).isNull();
+        assertThat(sessionExercise).isInstanceOf(SparseFieldset.class);
+    }
+
+    @Test
+    void testGetHistoryRejectsUnknownExerciseField() {
+        // When / Then
+        assertThatThrownBy(() ->
+            trainingSessionHistoryService.getHistory(USER_ID, FROM, TO, null, SESSION_ONLY_FIELD))
+            .isInstanceOf(ValidationException.class)
+            .hasMessageContaining(SESSION_ONLY_FIELD);
+        verifyNoInteractions(trainingSessionJdbcRepository, archiveManifestJdbcRepository, archiveStorage);
+    }
+
+    private static TrainingSessionRow session(Long id, LocalDateTime createdAt) {
+        return new TrainingSessionRow(id, null, null, TrainingSession.Status.FINISHED, USER_ID, createdAt);
+    }
+
+    private static SessionExerciseRow exercise(Long id, Long trainingSessionId, LocalDateTime createdAt) {
+        SessionExerciseRow row = new SessionExerciseRow();
+        row.setId(id);
+        row.setTrainingSessionId(trainingSessionId);
+        row.setStatus(SessionExercise.Status.FINISHED);
+        row.setExerciseOrder(1);
+        row.setCreatedAt(createdAt);
+        return row;
+    }
+}
@@ -3,32 +3,42 @@ package com.rvladimir.service.impl;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.rvladimir.cache.TemplateCache;
 import com.rvladimir.domain.SessionExercise;
 import com.rvladimir.domain.TrainingSession;
 import com.rvladimir.domain.TypeOfExercise;
-import com.rvladimir.domain.User;
-import com.rvladimir.repository.SessionExerciseRepository;
-import com.rvladimir.repository.TrainingSessionRepository;
+import com.rvladimir.outbox.Outbox;
 import com.rvladimir.repository.UserRepository;
+import com.rvladimir.repository.jdbc.SessionExerciseJdbcRepository;
+import com.rvladimir.repository.jdbc.TrainingSessionJdbcRepository;
+import com.rvladimir.repository.row.SessionExerciseRow;
+import com.rvladimir.repository.row.TrainingSessionRow;
 import com.rvladimir.service.dto.CreateTrainingSessionDTO;
 import com.rvladimir.service.dto.QuickStartIntervalDTO;
 import com.rvladimir.service.dto.QuickStartIntervalResponseDTO;
 import com.rvladimir.service.dto.SessionExerciseDTO;
 import com.rvladimir.service.dto.TrainingSessionDTO;
+import com.rvladimir.service.dto.TrainingSessionHistoryDTO;
 import com.rvladimir.service.mapper.SessionExerciseMapper;
 import com.rvladimir.service.mapper.TrainingSessionMapper;
 import com.rvladimir.web.error.ValidationException;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -64,9 +74,12 @@ class TrainingSessionServiceImplTest {
     private static final int TEST_SPRINTS = 10;
     private static final int TEST_REST_TIME = 60;
     private static final LocalTime TEST_DURATION = LocalTime.of(0, 3);
+    private static final long TEMPLATE_ID = 20L;
+    private static final long SECOND_TEMPLATE_ID = 21L;
+    private static final String STARTED = "STARTED";
 
     @Mock
-    private TrainingSessionRepository trainingSessionRepository;
+    private TrainingSessionJdbcRepository trainingSessionJdbcRepository;
 
     @Mock
     private UserRepository userRepository;
@@ -75,28 +88,34 @@ class TrainingSessionServiceImplTest {
     private TrainingSessionMapper trainingSessionMapper;
 
     @Mock
-    private SessionExerciseRepository sessionExerciseRepository;
+    private SessionExerciseJdbcRepository sessionExerciseJdbcRepository;
 
     @Mock
     private SessionExerciseMapper sessionExerciseMapper;
 
+    @Mock
+    private TemplateCache templateCache;
+
+    @Mock
+    private SessionExerciseRecorder sessionExerciseRecorder;
+
+    @Mock
+    private Outbox outbox;
+
     @InjectMocks
     private TrainingSessionServiceImpl trainingSessionService;
 
     private CreateTrainingSessionDTO createTrainingSessionDTO;
-    private TrainingSession trainingSession;
+    private TrainingSessionRow trainingSession;
     private TrainingSessionDTO trainingSessionDTO;
 
     @BeforeEach
     void setUp() {
         createTrainingSessionDTO = new CreateTrainingSessionDTO(USER_ID_1);
 
-        User user = new User();
-        user.setId(USER_ID_1);
-
-        trainingSession = new TrainingSession();
+        trainingSession = new TrainingSessionRow();
         trainingSession.setId(null);
-        trainingSession.setUser(user);
+        trainingSession.setUserId(USER_ID_1);
 
         LocalDateTime createdAt = LocalDateTime.of(YEAR_2026, MONTH_JANUARY, DAY_13, HOUR_10, MINUTE_30);
 
@@ -114,21 +133,18 @@ class TrainingSessionServiceImplTest {
     void testCreateSuccess() {
         // Given
         when(userRepository.existsById(USER_ID_1)).thenReturn(true);
-        when(trainingSessionMapper.toEntity(createTrainingSessionDTO)).thenReturn(trainingSession);
-
-        User user = new User();
-        user.setId(USER_ID_1);
+        when(trainingSessionMapper.toRow(createTrainingSessionDTO)).thenReturn(trainingSession);
 
-        TrainingSession savedTrainingSession = new TrainingSession(
+        TrainingSessionRow savedTrainingSession = new TrainingSessionRow(
             TRAINING_SESSION_ID,
             TEST_NAME,
             TEST_DESCRIPTION,
             TrainingSession.Status.STARTED,
-            user,
+            USER_ID_1,
             LocalDateTime.of(YEAR_2026, MONTH_JANUARY, DAY_13, HOUR_10, MINUTE_30)
         );
-        when(trainingSessionRepository.save(any(TrainingSession.class))).thenReturn(savedTrainingSession);
-        when(trainingSessionMapper.toDto(savedTrainingSession)).thenReturn(trainingSessionDTO);
+        when(trainingSessionJdbcRepository.save(any(TrainingSessionRow.class))).thenReturn(savedTrainingSession);
+        when(trainingSessionMapper.rowToDto(savedTrainingSession)).thenReturn(trainingSessionDTO);
 
         // When
         TrainingSessionDTO result = trainingSessionService.create(createTrainingSessionDTO);
@@ -141,9 +157,10 @@ class TrainingSessionServiceImplTest {
         assertThat(result.getStatus()).isEqualTo(TrainingSession.Status.STARTED);
 
         verify(userRepository).existsById(USER_ID_1);
-        verify(trainingSessionMapper).toEntity(createTrainingSessionDTO);
-        verify(trainingSessionRepository).save(any(TrainingSession.class));
-        verify(trainingSessionMapper).toDto(savedTrainingSession);
+        verify(trainingSessionMapper).toRow(createTrainingSessionDTO);
+        verify(trainingSessionJdbcRepository).save(any(TrainingSessionRow.class));
+        verify(trainingSessionMapper).rowToDto(savedTrainingSession);
+        verify(outbox).trainingSessionCreated(savedTrainingSession);
     }
 
     @Test
@@ -164,8 +181,9 @@ class TrainingSessionServiceImplTest {
             });
 
         verify(userRepository).existsById(USER_ID_2);
-        verify(trainingSessionMapper, never()).toEntity(any());
-        verify(trainingSessionRepository, never()).save(any());
+        verify(trainingSessionMapper, never()).toRow(any());
+        verify(trainingSessionJdbcRepository, never()).save(any());
+        verifyNoInteractions(outbox);
     }
 
     @Test
@@ -173,24 +191,21 @@ class TrainingSessionServiceImplTest {
         // Given
         CreateTrainingSessionDTO dto = new CreateTrainingSessionDTO(USER_ID_2);
 
-        User user = new User();
-        user.setId(USER_ID_2);
-
-        TrainingSession session = new TrainingSession();
-        session.setUser(user);
+        TrainingSessionRow session = new TrainingSessionRow();
+        session.setUserId(USER_ID_2);
 
         when(userRepository.existsById(USER_ID_2)).thenReturn(true);
-        when(trainingSessionMapper.toEntity(dto)).thenReturn(session);
+        when(trainingSessionMapper.toRow(dto)).thenReturn(session);
 
-        TrainingSession savedSession = new TrainingSession(
+        TrainingSessionRow savedSession = new TrainingSessionRow(
             TRAINING_SESSION_ID,
             null,
             null,
             TrainingSession.Status.STARTED,
-            user,
+            USER_ID_2,
             LocalDateTime.of(YEAR_2026, MONTH_JANUARY, DAY_13, HOUR_10, MINUTE_30)
         );
-        when(trainingSessionRepository.save(any(TrainingSession.class))).thenReturn(savedSession);
+        when(trainingSessionJdbcRepository.save(any(TrainingSessionRow.class))).thenReturn(savedSession);
 
         TrainingSessionDTO resultDto = new TrainingSessionDTO(
             TRAINING_SESSION_ID,
@@ -200,7 +215,7 @@ class TrainingSessionServiceImplTest {
             USER_ID_2,
             LocalDateTime.of(YEAR_2026, MONTH_JANUARY, DAY_13, HOUR_10, MINUTE_30)
         );
-        when(trainingSessionMapper.toDto(savedSession)).thenReturn(resultDto);
+        when(trainingSessionMapper.rowToDto(savedSession)).thenReturn(resultDto);
 
         // When
         TrainingSessionDTO result = trainingSessionService.create(dto);
@@ -220,16 +235,14 @@ class TrainingSessionServiceImplTest {
 
         when(userRepository.existsById(USER_ID_1)).thenReturn(true);
 
-        User user = new User();
-        user.setId(USER_ID_1);
-        TrainingSession savedSession = new TrainingSession(
+        TrainingSessionRow savedSession = new TrainingSessionRow(
             TRAINING_SESSION_ID, QUICK_START_HIIT, null,
-            TrainingSession.Status.STARTED, user,
+            TrainingSession.Status.STARTED, USER_ID_1,
             LocalDateTime.of(YEAR_2026, MONTH_JANUARY, DAY_13, HOUR_10, MINUTE_30)
         );
-        when(trainingSessionRepository.save(any(TrainingSession.class))).thenReturn(savedSession);
+        when(trainingSessionJdbcRepository.save(any(TrainingSessionRow.class))).thenReturn(savedSession);
 
-        SessionExercise savedExercise = new SessionExercise();
+        SessionExerciseRow savedExercise = new SessionExerciseRow();
         savedExercise.setId(SESSION_EXERCISE_ID);
         savedExercise.setRounds(TEST_ROUNDS);
         savedExercise.setSprints(TEST_SPRINTS);
@@ -237,15 +250,15 @@ class TrainingSessionServiceImplTest {
         savedExercise.setRestTime(TEST_REST_TIME);
         savedExercise.setStatus(SessionExercise.Status.STARTED);
         savedExercise.setTypeOfExercise(TypeOfExercise.HIIT);
-        savedExercise.setTrainingSession(savedSession);
-        when(sessionExerciseRepository.save(any(SessionExercise.class))).thenReturn(savedExercise);
+        savedExercise.setTrainingSessionId(savedSession.getId());
+        when(sessionExerciseJdbcRepository.save(any(SessionExerciseRow.class))).thenReturn(savedExercise);
 
         TrainingSessionDTO sessionDTO = new TrainingSessionDTO(
             TRAINING_SESSION_ID, QUICK_START_HIIT, null,
             TrainingSession.Status.STARTED, USER_ID_1,
             LocalDateTime.of(YEAR_2026, MONTH_JANUARY, DAY_13, HOUR_10, MINUTE_30)
         );
-        when(trainingSessionMapper.toDto(savedSession)).thenReturn(sessionDTO);
+        when(trainingSessionMapper.rowToDto(savedSession)).thenReturn(sessionDTO);
 
         SessionExerciseDTO exerciseDTO = new SessionExerciseDTO(
             SESSION_EXERCISE_ID, TEST_ROUNDS, null, null, TEST_SPRINTS, TEST_DURATION,
@@ -254,7 +267,7 @@ class TrainingSessionServiceImplTest {
             LocalDateTime.of(YEAR_2026, MONTH_JANUARY, DAY_13, HOUR_10, MINUTE_30),
             null, TYPE_HIIT, null
         );
-        when(sessionExerciseMapper.toDto(savedExercise)).thenReturn(exerciseDTO);
+        when(sessionExerciseMapper.rowToDto(savedExercise)).thenReturn(exerciseDTO);
 
         // When
         QuickStartIntervalResponseDTO result = trainingSessionService.quickStartInterval(dto);
@@ -271,10 +284,12 @@ class TrainingSessionServiceImplTest {
         assertThat(result.getSessionExercise().getTypeOfExercise()).isEqualTo(TYPE_HIIT);
 
         verify(userRepository).existsById(USER_ID_1);
-        verify(trainingSessionRepository).save(any(TrainingSession.class));
-        verify(sessionExerciseRepository).save(any(SessionExercise.class));
-        verify(trainingSessionMapper).toDto(savedSession);
-        verify(sessionExerciseMapper).toDto(savedExercise);
+        verify(trainingSessionJdbcRepository).save(any(TrainingSessionRow.class));
+        verify(sessionExerciseJdbcRepository).save(any(SessionExerciseRow.class));
+        verify(trainingSessionMapper).rowToDto(savedSession);
+        verify(sessionExerciseMapper).rowToDto(savedExercise);
+        verify(outbox).trainingSessionCreated(savedSession);
+        verify(sessionExerciseRecorder).record(savedSession, List.of(savedExercise));
     }
 
     @Test
@@ -296,8 +311,8 @@ class TrainingSessionServiceImplTest {
             });
 
         verify(userRepository).existsById(USER_ID_2);
-        verify(trainingSessionRepository, never()).save(any());
-        verify(sessionExerciseRepository, never()).save(any());
+        verify(trainingSessionJdbcRepository, never()).save(any());
+        verify(sessionExerciseJdbcRepository, never()).save(any());
     }
 
     @Test
@@ -308,32 +323,30 @@ class TrainingSessionServiceImplTest {
         );
         when(userRepository.existsById(USER_ID_1)).thenReturn(true);
 
-        User user = new User();
-        user.setId(USER_ID_1);
-        TrainingSession savedSession = new TrainingSession(
+        TrainingSessionRow savedSession = new TrainingSessionRow(
             TRAINING_SESSION_ID, QUICK_START_INTERVAL, null,
-            TrainingSession.Status.STARTED, user, LocalDateTime.now()
+            TrainingSession.Status.STARTED, USER_ID_1, LocalDateTime.now()
         );
-        when(trainingSessionRepository.save(any(TrainingSession.class))).thenReturn(savedSession);
+        when(trainingSessionJdbcRepository.save(any(TrainingSessionRow.class))).thenReturn(savedSession);
 
-        SessionExercise savedExercise = new SessionExercise();
+        SessionExerciseRow savedExercise = new SessionExerciseRow();
         savedExercise.setId(SESSION_EXERCISE_ID);
         savedExercise.setRounds(TEST_ROUNDS);
-        savedExercise.setTrainingSession(savedSession);
-        when(sessionExerciseRepository.save(any(SessionExercise.class))).thenReturn(savedExercise);
+        savedExercise.setTrainingSessionId(savedSession.getId());
+        when(sessionExerciseJdbcRepository.save(any(SessionExerciseRow.class))).thenReturn(savedExercise);
 
         TrainingSessionDTO sessionDTO = new TrainingSessionDTO(
             TRAINING_SESSION_ID, QUICK_START_INTERVAL, null,
             TrainingSession.Status.STARTED, USER_ID_1, LocalDateTime.now()
         );
-        when(trainingSessionMapper.toDto(savedSession)).thenReturn(sessionDTO);
+        when(trainingSessionMapper.rowToDto(savedSession)).thenReturn(sessionDTO);
 
         SessionExerciseDTO exerciseDTO = new SessionExerciseDTO(
             SESSION_EXERCISE_ID, TEST_ROUNDS, null, null, null, null,
             null, null, null, null, TEST_REST_TIME, STATUS_STARTED, 1,
             null, TRAINING_SESSION_ID, LocalDateTime.now(), null, null, null
         );
-        when(sessionExerciseMapper.toDto(savedExercise)).thenReturn(exerciseDTO);
+        when(sessionExerciseMapper.rowToDto(savedExercise)).thenReturn(exerciseDTO);
 
         // When
         QuickStartIntervalResponseDTO result = trainingSessionService.quickStartInterval(dto);
@@ -343,8 +356,8 @@ class TrainingSessionServiceImplTest {
         assertThat(result.getTrainingSession().getName()).isEqualTo(QUICK_START_INTERVAL);
         assertThat(result.getSessionExercise().getTypeOfExercise()).isNull();
 
-        verify(trainingSessionRepository).save(any(TrainingSession.class));
-        verify(sessionExerciseRepository).save(any(SessionExercise.class));
+        verify(trainingSessionJdbcRepository).save(any(TrainingSessionRow.class));
+        verify(sessionExerciseJdbcRepository).save(any(SessionExerciseRow.class));
     }
 
     @Test
@@ -356,33 +369,31 @@ class TrainingSessionServiceImplTest {
         );
         when(userRepository.existsById(USER_ID_1)).thenReturn(true);
 
-        User user = new User();
-        user.setId(USER_ID_1);
-        TrainingSession savedSession = new TrainingSession(
+        TrainingSessionRow savedSession = new TrainingSessionRow(
             TRAINING_SESSION_ID, QUICK_START_BOXING_BAG, null,
-            TrainingSession.Status.STARTED, user, LocalDateTime.now()
+            TrainingSession.Status.STARTED, USER_ID_1, LocalDateTime.now()
         );
-        when(trainingSessionRepository.save(any(TrainingSession.class))).thenReturn(savedSession);
+        when(trainingSessionJdbcRepository.save(any(TrainingSessionRow.class))).thenReturn(savedSession);
 
-        SessionExercise savedExercise = new SessionExercise();
+        SessionExerciseRow savedExercise = new SessionExerciseRow();
         savedExercise.setId(SESSION_EXERCISE_ID);
         savedExercise.setTypeOfExercise(TypeOfExercise.BOXING_BAG);
         savedExercise.setNotes(NOTES_FOCUS_ON_SPEED);
-        savedExercise.setTrainingSession(savedSession);
-        when(sessionExerciseRepository.save(any(SessionExercise.class))).thenReturn(savedExercise);
+        savedExercise.setTrainingSessionId(savedSession.getId());
+        when(sessionExerciseJdbcRepository.save(any(SessionExerciseRow.class))).thenReturn(savedExercise);
 
         TrainingSessionDTO sessionDTO = new TrainingSessionDTO(
             TRAINING_SESSION_ID, QUICK_START_BOXING_BAG, null,
             TrainingSession.Status.STARTED, USER_ID_1, LocalDateTime.now()
         );
-        when(trainingSessionMapper.toDto(savedSession)).thenReturn(sessionDTO);
+        when(trainingSessionMapper.rowToDto(savedSession)).thenReturn(sessionDTO);
 
         SessionExerciseDTO exerciseDTO = new SessionExerciseDTO(
             SESSION_EXERCISE_ID, TEST_ROUNDS, null, null, TEST_SPRINTS, TEST_DURATION,
             null, null, null, null, TEST_REST_TIME, STATUS_STARTED, 1,
             null, TRAINING_SESSION_ID, LocalDateTime.now(), null, TYPE_BOXING_BAG, NOTES_FOCUS_ON_SPEED
         );
-        when(sessionExerciseMapper.toDto(savedExercise)).thenReturn(exerciseDTO);
+        when(sessionExerciseMapper.rowToDto(savedExercise)).thenReturn(exerciseDTO);
 
         // When
         QuickStartIntervalResponseDTO result = trainingSessionService.quickStartInterval(dto);
@@ -392,4 +403,140 @@ class TrainingSessionServiceImplTest {
         assertThat(result.getSessionExercise().getTypeOfExercise()).isEqualTo(TYPE_BOXING_BAG);
         assertThat(result.getSessionExercise().getNotes()).isEqualTo(NOTES_FOCUS_ON_SPEED);
     }
+
+    @Test
+    void testQuickStartIntervalLinksExerciseRowToGeneratedSessionId() {
+        // Given
+        QuickStartIntervalDTO dto = new QuickStartIntervalDTO(
+            USER_ID_1, TYPE_HIIT, TEST_ROUNDS, TEST_SPRINTS, TEST_DURATION, TEST_REST_TIME, null, null
+        );
+        when(userRepository.existsById(USER_ID_1)).thenReturn(true);
+
+        TrainingSessionRow savedSession = new TrainingSessionRow(
+            TRAINING_SESSION_ID, QUICK_START_HIIT, null,
+            TrainingSession.Status.STARTED, USER_ID_1, LocalDateTime.now()
+        );
+        when(trainingSessionJdbcRepository.save(any(TrainingSessionRow.class))).thenReturn(savedSession);
+        when(sessionExerciseJdbcRepository.save(any(SessionExerciseRow.class)))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        trainingSessionService.quickStartInterval(dto);
+
+        // Then
+        ArgumentCaptor<TrainingSessionRow> sessionCaptor = ArgumentCaptor.forClass(TrainingSessionRow.class);
+        verify(trainingSessionJdbcRepository).save(sessionCaptor.capture());
+        assertThat(sessionCaptor.getValue().getUserId()).isEqualTo(USER_ID_1);
+        assertThat(sessionCaptor.getValue().getName()).isEqualTo(QUICK_START_HIIT);
+
+        ArgumentCaptor<SessionExerciseRow> exerciseCaptor = ArgumentCaptor.forClass(SessionExerciseRow.class);
+        verify(sessionExerciseJdbcRepository).save(exerciseCaptor.capture());
+        assertThat(exerciseCaptor.getValue().getTrainingSessionId()).isEqualTo(TRAINING_SESSION_ID);
+        assertThat(exerciseCaptor.getValue().getExerciseId()).isNull();
+        assertThat(exerciseCaptor.getValue().getExerciseOrder()).isEqualTo(1);
+    }
+
+    @Test
+    void testStartFromTemplateCopiesTemplateIntoStartedSession() {
+        // Given
+        TrainingSessionRow started = new TrainingSessionRow(
+            TRAINING_SESSION_ID, TEST_NAME, TEST_DESCRIPTION, TrainingSession.Status.STARTED, USER_ID_1,
+            LocalDateTime.now());
+        SessionExerciseRow exercise = exerciseOf(TRAINING_SESSION_ID, 1);
+        SessionExerciseDTO exerciseDTO = new SessionExerciseDTO();
+        when(trainingSessionJdbcRepository.copySession(
+            eq(TEMPLATE_ID), eq(USER_ID_1), eq(true), eq(STARTED), eq(STARTED), any(LocalDateTime.class)))
+            .thenReturn(Optional.of(started));
+        when(sessionExerciseJdbcRepository.findByTrainingSessionIdOrderByExerciseOrder(TRAINING_SESSION_ID))
+            .thenReturn(List.of(exercise));
+        when(trainingSessionMapper.rowToDto(started)).thenReturn(trainingSessionDTO);
+        when(sessionExerciseMapper.rowToDto(exercise)).thenReturn(exerciseDTO);
+
+        // When
+        TrainingSessionHistoryDTO result = trainingSessionService.startFromTemplate(USER_ID_1, TEMPLATE_ID);
+
+        // Then
+        assertThat(result.getTrainingSession()).isEqualTo(trainingSessionDTO);
+        assertThat(result.getSessionExercises()).containsExactly(exerciseDTO);
+        verifyNoInteractions(templateCache);
+        verify(outbox).trainingSessionCreated(started);
+        verify(sessionExerciseRecorder).record(started, List.of(exercise));
+    }
+
+    @Test
+    void testStartFromTemplateOfAnotherUserThrows() {
+        // Given
+        when(trainingSessionJdbcRepository.copySession(
+            eq(TEMPLATE_ID), eq(USER_ID_2), eq(true), eq(STARTED), eq(STARTED), any(LocalDateTime.class)))
+            .thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> trainingSessionService.startFromTemplate(USER_ID_2, TEMPLATE_ID))
+            .isInstanceOf(ValidationException.class)
+            .extracting("code").isEqualTo(VALIDATION_CODE_NOT_FOUND);
+        verify(sessionExerciseJdbcRepository, never()).findByTrainingSessionIdOrderByExerciseOrder(any());
+        verifyNoInteractions(sessionExerciseRecorder, outbox);
+    }
+
+    @Test
+    void testSaveAsTemplateRecordsTheCopiedTemplate() {
+        // Given
+        TrainingSessionRow template = new TrainingSessionRow(
+            TEMPLATE_ID, TEST_NAME, null, TrainingSession.Status.IS_TEMPLATE, USER_ID_1, LocalDateTime.now());
+        when(trainingSessionJdbcRepository.copySession(eq(TRAINING_SESSION_ID), eq(USER_ID_1), eq(false),
+            eq(TrainingSession.Status.IS_TEMPLATE.name()), eq(STARTED), any(LocalDateTime.class)))
+            .thenReturn(Optional.of(template));
+        when(sessionExerciseJdbcRepository.findByTrainingSessionIdOrderByExerciseOrder(TEMPLATE_ID))
+            .thenReturn(List.of());
+        when(trainingSessionMapper.rowToDto(template)).thenReturn(trainingSessionDTO);
+
+        // When
+        TrainingSessionHistoryDTO result = trainingSessionService.saveAsTemplate(USER_ID_1, TRAINING_SESSION_ID);
+
+        // Then
+        assertThat(result.getSessionExercises()).isEmpty();
+        verify(sessionExerciseRecorder).record(template, List.of());
+    }
+
+    @Test
+    void testGetTemplatesGroupsExercisesByTemplateOnCacheMiss() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.now();
+        TrainingSessionRow first = new TrainingSessionRow(
+            TEMPLATE_ID, TEST_NAME, null, TrainingSession.Status.IS_TEMPLATE, USER_ID_1, createdAt);
+        TrainingSessionRow second = new TrainingSessionRow(
+            SECOND_TEMPLATE_ID, TEST_NAME, null, TrainingSession.Status.IS_TEMPLATE, USER_ID_1, createdAt);
+        SessionExerciseRow secondStep = exerciseOf(TEMPLATE_ID, 2);
+        SessionExerciseRow firstStep = exerciseOf(TEMPLATE_ID, 1);
+        when(templateCache.get(eq(USER_ID_1), any())).thenAnswer(invocation ->
+            invocation.<Function<Long, List<TrainingSessionHistoryDTO>>>getArgument(1).apply(USER_ID_1));
+        when(trainingSessionJdbcRepository.findTemplates(USER_ID_1)).thenReturn(List.of(first, second));
+        when(sessionExerciseJdbcRepository.findByTrainingSessionIds(
+            List.of(TEMPLATE_ID, SECOND_TEMPLATE_ID), createdAt))
+            .thenReturn(List.of(secondStep, firstStep));
+        when(trainingSessionMapper.rowToDto(any(TrainingSessionRow.class))).thenReturn(trainingSessionDTO);
+        when(sessionExerciseMapper.rowToDto(any(SessionExerciseRow.class)))
+            .thenAnswer(invocation -> {
+                SessionExerciseDTO dto = new SessionExerciseDTO();
+                dto.setExerciseOrder(invocation.<SessionExerciseRow>getArgument(0).getExerciseOrder());
+                return dto;
+            });
+
+        // When
+        List<TrainingSessionHistoryDTO> templates = trainingSessionService.getTemplates(USER_ID_1);
+
+        // Then
+        assertThat(templates).hasSize(2);
+        assertThat(templates.get(0).getSessionExercises()).extracting(SessionExerciseDTO::getExerciseOrder)
+            .containsExactly(1, 2);
+        assertThat(templates.get(1).getSessionExercises()).isEmpty();
+    }
+
+    private static SessionExerciseRow exerciseOf(long trainingSessionId, int exerciseOrder) {
+        SessionExerciseRow row = new SessionExerciseRow();
+        row.setTrainingSessionId(trainingSessionId);
+        row.setExerciseOrder(exerciseOrder);
+        row.setStatus(STATUS_STARTED);
+        return row;
+    }
 }
@@ -0,0 +1,242 @@
+package com.rvladimir.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.rvladimir.domain.User;
+import com.rvladimir.provisioning.PasswordHashingPool;
+import com.rvladimir.provisioning.ProvisioningConfiguration;
+import com.rvladimir.repository.jdbc.UserJdbcRepository;
+import com.rvladimir.repository.row.UserKeyRow;
+import com.rvladimir.repository.row.UserRow;
+import com.rvladimir.service.dto.CreateUserDTO;
+import com.rvladimir.service.dto.ProvisionedUserDTO;
+import com.rvladimir.service.dto.ProvisionedUserDTO.Outcome;
+import com.rvladimir.web.error.ValidationException;
+
+import io.micronaut.data.exceptions.DataAccessException;
+import io.micronaut.http.exceptions.HttpStatusException;
+import io.micronaut.transaction.TransactionCallback;
+import io.micronaut.transaction.TransactionOperations;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+import jakarta.validation.Validator;
+
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Test class for UserProvisioningServiceImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserProvisioningServiceImplTest {
+
+    private static final String ALICE = "alice";
+    private static final String BOB = "bob";
+    private static final String CAROL = "carol";
+    private static final String TAKEN_NICKNAME = "taken";
+    private static final String EMAIL_DOMAIN = "@example.com";
+    private static final String PASSWORD = "password123";
+    private static final String DUPLICATE_KEY = "duplicate key";
+    private static final String HASH = "$2a$12$hash";
+    private static final int BIRTH_YEAR = 1990;
+    private static final long ALICE_ID = 10L;
+    private static final long BOB_ID = 11L;
+    private static final int PARALLELISM = 2;
+
+    @Mock
+    private UserJdbcRepository userJdbcRepository;
+
+    @Mock
+    private PasswordHashingPool hashingPool;
+
+    @Mock
+    private TransactionOperations<Connection> transactionOperations;
+
+    @Mock
+    private Validator validator;
+
+    private ProvisioningConfiguration configuration;
+
+    private UserProvisioningServiceImpl provisioningService;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new ProvisioningConfiguration();
+        provisioningService = new UserProvisioningServiceImpl(
+            userJdbcRepository, hashingPool, configuration, transactionOperations, validator);
+    }
+
+    @Test
+    void testProvisionReportsDuplicatesAndCreatesTheRest() {
+        // Given
+        List<CreateUserDTO> users = List.of(user(ALICE, ALICE), user(BOB, BOB), user(CAROL, ALICE));
+        when(validator.validate(any(CreateUserDTO.class))).thenReturn(Set.of());
+        runCallbacks();
+        when(userJdbcRepository.findTaken(List.of(email(ALICE), email(BOB), email(CAROL)), List.of(ALICE, BOB, ALICE)))
+            .thenReturn(List.of(new UserKeyRow(email(BOB), TAKEN_NICKNAME)));
+        stubHashing();
+        when(userJdbcRepository.saveAll(any())).thenReturn(List.of(saved(ALICE_ID, ALICE)));
+
+        // When
+        List<ProvisionedUserDTO> outcomes = provisioningService.provision(users).collectList().block();
+
+        // Then
+        assertThat(outcomes).extracting(ProvisionedUserDTO::getIndex, ProvisionedUserDTO::getOutcome)
+            .containsExactly(
+                tuple(1, Outcome.DUPLICATE),
+                tuple(2, Outcome.DUPLICATE),
+                tuple(0, Outcome.CREATED));
+        assertThat(outcomes.get(0).getMessage()).isEqualTo("Duplicate value for email");
+        assertThat(outcomes.get(1).getMessage()).isEqualTo("Duplicate value for nickname");
+        assertThat(outcomes.get(2).getUserId()).isEqualTo(ALICE_ID);
+    }
+
+    @Test
+    void testProvisionInsertsRowByRowWhenABatchFails() {
+        // Given
+        List<CreateUserDTO> users = List.of(user(ALICE, ALICE), user(BOB, BOB));
+        when(validator.validate(any(CreateUserDTO.class))).thenReturn(Set.of());
+        runCallbacks();
+        when(userJdbcRepository.findTaken(any(), any())).thenReturn(List.of());
+        stubHashing();
+        when(userJdbcRepository.saveAll(any())).thenThrow(new DataAccessException(DUPLICATE_KEY));
+        when(userJdbcRepository.save(any(UserRow.class)))
+            .thenReturn(saved(ALICE_ID, ALICE))
+            .thenThrow(new DataAccessException(DUPLICATE_KEY));
+
+        // When
+        List<ProvisionedUserDTO> outcomes = provisioningService.provision(users).collectList().block();
+
+        // Then
+        assertThat(outcomes).extracting(ProvisionedUserDTO::getOutcome)
+            .containsExactly(Outcome.CREATED, Outcome.FAILED);
+        assertThat(outcomes.get(0).getUserId()).isEqualTo(ALICE_ID);
+        assertThat(outcomes.get(1).getEmail()).isEqualTo(email(BOB));
+    }
+
+    @Test
+    void testProvisionReportsInvalidUsersWithoutInsertingThem() {
+        // Given
+        @SuppressWarnings("unchecked")
+        ConstraintViolation<CreateUserDTO> violation = mock(ConstraintViolation.class);
+        Path path = mock(Path.class);
+        when(path.toString()).thenReturn("email");
+        when(violation.getPropertyPath()).thenReturn(path);
+        when(violation.getMessage()).thenReturn("must be a well-formed email address");
+        when(validator.validate(any(CreateUserDTO.class))).thenReturn(Set.of(violation));
+
+        // When
+        List<ProvisionedUserDTO> outcomes =
+            provisioningService.provision(Arrays.asList(user(ALICE, ALICE), null)).collectList().block();
+
+        // Then
+        assertThat(outcomes).extracting(ProvisionedUserDTO::getOutcome)
+            .containsExactly(Outcome.INVALID, Outcome.INVALID);
+        assertThat(outcomes.get(0).getMessage()).isEqualTo("email must be a well-formed email address");
+        verify(userJdbcRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void testProvisionRejectsTooManyUsers() {
+        // Given
+        configuration.setMaxUsers(1);
+        List<CreateUserDTO> users = new ArrayList<>(List.of(user(ALICE, ALICE), user(BOB, BOB)));
+
+        // When / Then
+        assertThatThrownBy(() -> provisioningService.provision(users))
+            .isInstanceOf(ValidationException.class)
+            .hasMessage("At most 1 users per request");
+        verify(validator, never()).validate(any(CreateUserDTO.class));
+    }
+
+    @Test
+    void testProvisionInsertsInBatchesOfTheConfiguredSize() {
+        // Given
+        configuration.setBatchSize(1);
+        List<CreateUserDTO> users = List.of(user(ALICE, ALICE), user(BOB, BOB));
+        when(validator.validate(any(CreateUserDTO.class))).thenReturn(Set.of());
+        runCallbacks();
+        when(userJdbcRepository.findTaken(any(), any())).thenReturn(List.of());
+        stubHashing();
+        when(userJdbcRepository.saveAll(any()))
+            .thenReturn(List.of(saved(ALICE_ID, ALICE)))
+            .thenReturn(List.of(saved(BOB_ID, BOB)));
+
+        // When
+        List<ProvisionedUserDTO> outcomes = provisioningService.provision(users).collectList().block();
+
+        // Then
+        assertThat(outcomes).extracting(ProvisionedUserDTO::getUserId).containsExactlyInAnyOrder(ALICE_ID, BOB_ID);
+        verify(userJdbcRepository, times(2)).saveAll(any());
+    }
+
+    @Test
+    void testProvisionRefusesRequestsBeyondTheConcurrentJobLimit() {
+        // Given
+        configuration.setMaxConcurrentJobs(1);
+        UserProvisioningServiceImpl limited = new UserProvisioningServiceImpl(
+            userJdbcRepository, hashingPool, configuration, transactionOperations, validator);
+        when(validator.validate(any(CreateUserDTO.class))).thenReturn(Set.of());
+        runCallbacks();
+        when(userJdbcRepository.findTaken(any(), any())).thenReturn(List.of());
+        stubHashing();
+        when(userJdbcRepository.saveAll(any())).thenReturn(List.of(saved(ALICE_ID, ALICE)));
+        Flux<ProvisionedUserDTO> running = limited.provision(List.of(user(ALICE, ALICE)));
+
+        // When / Then
+        assertThatThrownBy(() -> limited.provision(List.of(user(BOB, BOB))))
+            .isInstanceOf(HttpStatusException.class)
+            .hasMessage("Too many bulk provisioning requests running, retry when one finishes");
+        running.blockLast();
+        assertThat(limited.provision(List.of()).collectList().block()).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runCallbacks() {
+        doAnswer(invocation -> invocation.getArgument(0, TransactionCallback.class).call(null))
+            .when(transactionOperations).executeRead(any());
+        doAnswer(invocation -> invocation.getArgument(0, TransactionCallback.class).call(null))
+            .when(transactionOperations).executeWrite(any());
+    }
+
+    private void stubHashing() {
+        when(hashingPool.getParallelism()).thenReturn(PARALLELISM);
+        when(hashingPool.hash(anyString())).thenReturn(Mono.just(HASH));
+    }
+
+    private static CreateUserDTO user(String name, String nickname) {
+        return new CreateUserDTO(name, name, nickname, LocalDate.of(BIRTH_YEAR, 1, 1), email(name), PASSWORD);
+    }
+
+    private static String email(String name) {
+        return name + EMAIL_DOMAIN;
+    }
+
+    private static UserRow saved(long id, String name) {
+        return new UserRow(id, name, name, name, LocalDate.of(BIRTH_YEAR, 1, 1), email(name), HASH, User.Role.USER);
+    }
+}
@@ -8,6 +8,8 @@ import static org.mockito.Mockito.when;
 
 import com.rvladimir.domain.User;
 import com.rvladimir.repository.UserRepository;
+import com.rvladimir.security.PasswordHasher;
+import com.rvladimir.security.PasswordHashingConfiguration;
 import com.rvladimir.service.dto.CreateUserDTO;
 import com.rvladimir.service.dto.UserDTO;
 import com.rvladimir.service.mapper.UserMapper;
@@ -22,6 +24,7 @@ import org.mindrot.jbcrypt.BCrypt;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 /**
@@ -41,6 +44,7 @@ class UserServiceImplTest {
     private static final int BIRTH_MONTH = 5;
     private static final int BIRTH_DAY = 15;
     private static final long USER_ID_1 = 1L;
+    private static final int TEST_BCRYPT_COST = 4;
 
     @Mock
     private UserRepository userRepository;
@@ -48,6 +52,9 @@ class UserServiceImplTest {
     @Mock
     private UserMapper userMapper;
 
+    @Spy
+    private PasswordHasher passwordHasher = new PasswordHasher(hashingConfiguration());
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -194,4 +201,10 @@ class UserServiceImplTest {
 
         verify(userRepository).existsByEmail(TEST_EMAIL);
     }
+
+    private static PasswordHashingConfiguration hashingConfiguration() {
+        PasswordHashingConfiguration configuration = new PasswordHashingConfiguration();
+        configuration.setCost(TEST_BCRYPT_COST);
+        return configuration;
+    }
 }
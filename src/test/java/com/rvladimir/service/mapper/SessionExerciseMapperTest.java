@@ -7,6 +7,7 @@ import com.rvladimir.domain.SessionExercise;
 import com.rvladimir.domain.TrainingSession;
 import com.rvladimir.domain.TypeOfExercise;
 import com.rvladimir.domain.User;
+import com.rvladimir.repository.row.SessionExerciseRow;
 import com.rvladimir.service.dto.CreateSessionExerciseDTO;
 import com.rvladimir.service.dto.SessionExerciseDTO;
 
@@ -244,4 +245,46 @@ class SessionExerciseMapperTest {
             assertThat(entity.getTypeOfExercise()).isEqualTo(type);
         }
     }
+
+    @Test
+    void toRowShouldMapAllFieldsAndForeignKeyIds() {
+        // Given
+        CreateSessionExerciseDTO dto = new CreateSessionExerciseDTO(
+            ROUNDS, SETS, REPETITIONS, SPRINTS, DURATION, WEIGHT, DISTANCE, NOW, NOW.plusHours(1),
+            REST_TIME, STATUS, EXERCISE_ORDER, EXERCISE_ID, UNIT_KILOMETERS, TYPE_OF_EXERCISE, NOTES
+        );
+
+        // When
+        SessionExerciseRow row = mapper.toRow(dto, TRAINING_SESSION_ID);
+
+        // Then
+        assertThat(row.getId()).isNull();
+        assertThat(row.getRounds()).isEqualTo(ROUNDS);
+        assertThat(row.getDuration()).isEqualTo(DURATION);
+        assertThat(row.getStatus()).isEqualTo(STATUS);
+        assertThat(row.getExerciseId()).isEqualTo(EXERCISE_ID);
+        assertThat(row.getTrainingSessionId()).isEqualTo(TRAINING_SESSION_ID);
+        assertThat(row.getTypeOfExercise()).isEqualTo(TYPE_OF_EXERCISE);
+        assertThat(row.getNotes()).isEqualTo(NOTES);
+        assertThat(row.getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    void toDtoFromRowShouldMapForeignKeyIds() {
+        // Given
+        SessionExerciseRow row = new SessionExerciseRow(
+            EXERCISE_ID, ROUNDS, SETS, REPETITIONS, SPRINTS, DURATION, WEIGHT, DISTANCE, NOW, NOW.plusHours(1),
+            REST_TIME, STATUS, EXERCISE_ORDER, EXERCISE_ID, TRAINING_SESSION_ID, NOW, UNIT_KILOMETERS,
+            TYPE_OF_EXERCISE, NOTES
+        );
+
+        // When
+        SessionExerciseDTO dto = mapper.rowToDto(row);
+
+        // Then
+        assertThat(dto.getExerciseId()).isEqualTo(EXERCISE_ID);
+        assertThat(dto.getTrainingSessionId()).isEqualTo(TRAINING_SESSION_ID);
+        assertThat(dto.getUnitOfMeasurement()).isEqualTo(UNIT_KILOMETERS);
+        assertThat(dto.getNotes()).isEqualTo(NOTES);
+    }
 }
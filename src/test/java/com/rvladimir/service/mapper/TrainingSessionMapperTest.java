@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.rvladimir.domain.TrainingSession;
 import com.rvladimir.domain.User;
+import com.rvladimir.repository.row.TrainingSessionRow;
 import com.rvladimir.service.dto.CreateTrainingSessionDTO;
 import com.rvladimir.service.dto.TrainingSessionDTO;
 
@@ -157,4 +158,37 @@ class TrainingSessionMapperTest {
         assertThat(trainingSessionDTO.getDescription()).isNull();
         assertThat(trainingSessionDTO.getStatus()).isEqualTo(TrainingSession.Status.IS_TEMPLATE);
     }
+
+    @Test
+    void testToRowFromCreateTrainingSessionDTO() {
+        // Given
+        CreateTrainingSessionDTO createTrainingSessionDTO = new CreateTrainingSessionDTO(USER_ID_1);
+
+        // When
+        TrainingSessionRow row = trainingSessionMapper.toRow(createTrainingSessionDTO);
+
+        // Then
+        assertThat(row).isNotNull();
+        assertThat(row.getId()).isNull();
+        assertThat(row.getUserId()).isEqualTo(USER_ID_1);
+        assertThat(row.getStatus()).isEqualTo(TrainingSession.Status.STARTED);
+        assertThat(row.getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    void testToDtoFromRow() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(YEAR_2026, JANUARY, DAY_13, HOUR_10, MINUTE_30);
+        TrainingSessionRow row = new TrainingSessionRow(
+            TRAINING_SESSION_ID, TEST_NAME, TEST_DESCRIPTION, TrainingSession.Status.STARTED, USER_ID_2, createdAt);
+
+        // When
+        TrainingSessionDTO dto = trainingSessionMapper.rowToDto(row);
+
+        // Then
+        assertThat(dto.getId()).isEqualTo(TRAINING_SESSION_ID);
+        assertThat(dto.getName()).isEqualTo(TEST_NAME);
+        assertThat(dto.getUserId()).isEqualTo(USER_ID_2);
+        assertThat(dto.getCreatedAt()).isEqualTo(createdAt);
+    }
 }
@@ -0,0 +1,91 @@
+package com.rvladimir.warmup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micronaut.health.HealthStatus;
+import io.micronaut.management.health.indicator.HealthResult;
+
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Test class for StartupWarmup and WarmupHealthIndicator.
+ */
+@ExtendWith(MockitoExtension.class)
+class StartupWarmupTest {
+
+    private static final int POOL_SIZE = 4;
+    private static final int ITERATIONS = 3;
+
+    @Mock
+    private WarmupWorkload workload;
+
+    private StartupWarmup warmup;
+    private WarmupHealthIndicator indicator;
+
+    @BeforeEach
+    void setUp() {
+        WarmupConfiguration configuration = new WarmupConfiguration();
+        configuration.setIterations(ITERATIONS);
+        warmup = new StartupWarmup(workload, configuration, POOL_SIZE);
+        indicator = new WarmupHealthIndicator(warmup);
+    }
+
+    @Test
+    void testReadinessIsDownBeforeWarmup() {
+        // Given - a warmup that has not run yet
+
+        // When
+        HealthResult result = Mono.from(indicator.getResult()).block();
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(HealthStatus.DOWN);
+        assertThat(warmup.getStatus()).isEqualTo(StartupWarmup.Status.PENDING);
+    }
+
+    @Test
+    void testRolledBackWarmupCompletesAndReadinessGoesUp() throws SQLException {
+        // Given
+        doThrow(new WarmupWorkload.WarmupRollback()).when(workload).exerciseRequestPath(anyInt());
+
+        // When
+        warmup.run();
+        HealthResult result = Mono.from(indicator.getResult()).block();
+
+        // Then
+        verify(workload).fillPool(POOL_SIZE);
+        verify(workload, times(ITERATIONS)).exerciseRequestPath(anyInt());
+        verify(workload).primeCaches(anyInt());
+        assertThat(warmup.getStatus()).isEqualTo(StartupWarmup.Status.COMPLETED);
+        assertThat(result.getStatus()).isEqualTo(HealthStatus.UP);
+        assertThat(result.getName()).isEqualTo(WarmupHealthIndicator.NAME);
+    }
+
+    @Test
+    void testFailedWarmupStillMarksInstanceReady() throws SQLException {
+        // Given
+        doThrow(new SQLException("pool exhausted")).when(workload).fillPool(POOL_SIZE);
+
+        // When
+        warmup.run();
+        HealthResult result = Mono.from(indicator.getResult()).block();
+
+        // Then
+        verify(workload, never()).exerciseRequestPath(anyInt());
+        assertThat(warmup.getStatus()).isEqualTo(StartupWarmup.Status.FAILED);
+        assertThat(warmup.isDone()).isTrue();
+        assertThat(result.getStatus()).isEqualTo(HealthStatus.UP);
+    }
+}
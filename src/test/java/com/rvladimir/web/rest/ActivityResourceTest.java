@@ -0,0 +1,102 @@
+package com.rvladimir.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.rvladimir.service.ActivityService;
+import com.rvladimir.service.dto.ActivityHeatmapDTO;
+import com.rvladimir.service.dto.ActivityStreakDTO;
+import com.rvladimir.web.error.ValidationException;
+
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.test.annotation.MockBean;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+
+import jakarta.inject.Inject;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for ActivityResource.
+ */
+@MicronautTest
+class ActivityResourceTest {
+
+    private static final long USER_ID = 7L;
+    private static final int YEAR = 2026;
+    private static final int INVALID_YEAR = 10000;
+    private static final int CURRENT_STREAK = 4;
+    private static final int LONGEST_STREAK = 9;
+    private static final String HEATMAP_URI = "/activity/heatmap?userId=" + USER_ID + "&year=";
+    private static final LocalDate LAST_TRAINING_DAY = LocalDate.of(YEAR, Month.OCTOBER, 18);
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Inject
+    ActivityService activityService;
+
+    @MockBean(ActivityService.class)
+    ActivityService activityService() {
+        return mock(ActivityService.class);
+    }
+
+    @Test
+    void testGetHeatmap() {
+        // Given
+        when(activityService.getHeatmap(USER_ID, YEAR))
+            .thenReturn(new ActivityHeatmapDTO(YEAR, 1, 1, List.of(0, 2, 0)));
+
+        // When
+        ActivityHeatmapDTO result = client.toBlocking().retrieve(
+            HttpRequest.GET(HEATMAP_URI + YEAR), ActivityHeatmapDTO.class);
+
+        // Then
+        assertThat(result.getYear()).isEqualTo(YEAR);
+        assertThat(result.getIntensity()).containsExactly(0, 2, 0);
+    }
+
+    @Test
+    void testGetHeatmapWithInvalidYearReturnsBadRequest() {
+        // Given
+        when(activityService.getHeatmap(eq(USER_ID), anyInt()))
+            .thenThrow(new ValidationException("Year must be between 1900 and 9999", "year", "INVALID_YEAR"));
+
+        // When & Then
+        assertThatThrownBy(() -> client.toBlocking().retrieve(
+            HttpRequest.GET(HEATMAP_URI + INVALID_YEAR),
+            ActivityHeatmapDTO.class))
+            .isInstanceOf(HttpClientResponseException.class)
+            .satisfies(ex -> assertThat(((HttpClientResponseException) ex).getStatus())
+                .isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    @Test
+    void testGetStreak() {
+        // Given
+        when(activityService.getStreak(USER_ID))
+            .thenReturn(new ActivityStreakDTO(CURRENT_STREAK, LONGEST_STREAK, false, LAST_TRAINING_DAY));
+
+        // When
+        ActivityStreakDTO result = client.toBlocking().retrieve(
+            HttpRequest.GET("/activity/streak?userId=" + USER_ID), ActivityStreakDTO.class);
+
+        // Then
+        assertThat(result.getCurrent()).isEqualTo(CURRENT_STREAK);
+        assertThat(result.getLongest()).isEqualTo(LONGEST_STREAK);
+        assertThat(result.getLastTrainingDay()).isEqualTo(LAST_TRAINING_DAY);
+    }
+}
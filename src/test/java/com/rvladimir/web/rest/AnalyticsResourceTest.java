@@ -0,0 +1,88 @@
+package com.rvladimir.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.rvladimir.analytics.AnalyticsReport;
+import com.rvladimir.service.AnalyticsService;
+import com.rvladimir.service.dto.AnalyticsReportDTO;
+
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.http.exceptions.HttpStatusException;
+import io.micronaut.test.annotation.MockBean;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+
+import jakarta.inject.Inject;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for AnalyticsResource.
+ */
+@MicronautTest
+class AnalyticsResourceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2026, Month.JANUARY, 1);
+    private static final LocalDate TO = LocalDate.of(2026, Month.SEPTEMBER, 30);
+    private static final LocalDateTime SNAPSHOT_AT = LocalDateTime.of(2026, Month.OCTOBER, 18, 9, 55);
+    private static final String RANGE = "?from=" + FROM + "&to=" + TO;
+    private static final String TYPE = "type";
+    private static final String USERS = "users";
+    private static final long STRENGTH_USERS = 120L;
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Inject
+    AnalyticsService analyticsService;
+
+    @MockBean(AnalyticsService.class)
+    AnalyticsService analyticsService() {
+        return mock(AnalyticsService.class);
+    }
+
+    @Test
+    void testRunReport() {
+        // Given
+        when(analyticsService.runReport(AnalyticsReport.RETENTION_BY_TYPE, FROM, TO))
+            .thenReturn(new AnalyticsReportDTO(AnalyticsReport.RETENTION_BY_TYPE, FROM, TO, SNAPSHOT_AT,
+                List.of(TYPE, USERS), List.of(List.of("STRENGTH", STRENGTH_USERS))));
+
+        // When
+        AnalyticsReportDTO result = client.toBlocking().retrieve(
+            HttpRequest.GET("/analytics/reports/RETENTION_BY_TYPE" + RANGE), AnalyticsReportDTO.class);
+
+        // Then
+        assertThat(result.getSnapshotAt()).isEqualTo(SNAPSHOT_AT);
+        assertThat(result.getColumns()).containsExactly(TYPE, USERS);
+        assertThat(result.getRows()).hasSize(1);
+        assertThat(((Number) result.getRows().get(0).get(1)).longValue()).isEqualTo(STRENGTH_USERS);
+    }
+
+    @Test
+    void testRunReportWhenAnalyticsIsDisabledReturnsServiceUnavailable() {
+        // Given
+        when(analyticsService.runReport(AnalyticsReport.HIIT_ROUNDS, FROM, TO))
+            .thenThrow(new HttpStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Analytics is disabled"));
+
+        // When & Then
+        assertThatThrownBy(() -> client.toBlocking().retrieve(
+            HttpRequest.GET("/analytics/reports/HIIT_ROUNDS" + RANGE),
+            AnalyticsReportDTO.class))
+            .isInstanceOf(HttpClientResponseException.class)
+            .satisfies(ex -> assertThat(((HttpClientResponseException) ex).getStatus())
+                .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+    }
+}
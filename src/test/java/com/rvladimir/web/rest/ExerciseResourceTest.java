@@ -2,6 +2,7 @@ package com.rvladimir.web.rest;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -25,6 +26,7 @@ import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
 import jakarta.inject.Inject;
 
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -40,6 +42,8 @@ class ExerciseResourceTest {
     private static final TypeOfExercise EXERCISE_TYPE = TypeOfExercise.STRENGTH;
     private static final String EXERCISE_IMAGE = "https://example.com/pushups.jpg";
     private static final String ENDPOINT_EXERCISE = "/exercise";
+    private static final String AUTOCOMPLETE_PREFIX = "pus";
+    private static final int AUTOCOMPLETE_LIMIT = 5;
 
     @Inject
     @Client("/")
@@ -96,7 +100,7 @@ class ExerciseResourceTest {
             Collections.singletonList(
                 new ExerciseDTO(EXERCISE_ID, EXERCISE_NAME, EXERCISE_DESCRIPTION, EXERCISE_TYPE, EXERCISE_IMAGE)),
             Pageable.from(0), 1L);
-        when(exerciseService.getAll(any(Pageable.class))).thenReturn(page);
+        when(exerciseService.getAll(any(Pageable.class), isNull())).thenReturn(page);
 
         // When
         HttpRequest<?> request = HttpRequest.GET(ENDPOINT_EXERCISE);
@@ -108,6 +112,23 @@ class ExerciseResourceTest {
         // Then
         assertThat(response.status().getCode()).isEqualTo(HttpStatus.OK.getCode());
         assertThat(response.body()).isNotNull();
-        verify(exerciseService).getAll(any(Pageable.class));
+        verify(exerciseService).getAll(any(Pageable.class), isNull());
+    }
+
+    @Test
+    void testAutocompleteReturnsSuggestions() {
+        // Given
+        ExerciseDTO suggestion = new ExerciseDTO(EXERCISE_ID, EXERCISE_NAME, null, EXERCISE_TYPE, null);
+        when(exerciseService.autocomplete(AUTOCOMPLETE_PREFIX, EXERCISE_TYPE, AUTOCOMPLETE_LIMIT))
+            .thenReturn(List.of(suggestion));
+
+        // When
+        String body = client.toBlocking().retrieve(HttpRequest.GET(
+            ENDPOINT_EXERCISE + "/autocomplete?prefix=" + AUTOCOMPLETE_PREFIX + "&type=" + EXERCISE_TYPE +
+                "&limit=" + AUTOCOMPLETE_LIMIT));
+
+        // Then
+        assertThat(body).contains(EXERCISE_NAME).doesNotContain("description", "image");
+        verify(exerciseService).autocomplete(AUTOCOMPLETE_PREFIX, EXERCISE_TYPE, AUTOCOMPLETE_LIMIT);
     }
 }
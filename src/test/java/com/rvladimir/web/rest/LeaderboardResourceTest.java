@@ -0,0 +1,103 @@
+package com.rvladimir.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.leaderboard.LeaderboardMetric;
+import com.rvladimir.service.LeaderboardService;
+import com.rvladimir.service.dto.LeaderboardDTO;
+import com.rvladimir.service.dto.LeaderboardEntryDTO;
+import com.rvladimir.web.error.ValidationException;
+
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.test.annotation.MockBean;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+
+import jakarta.inject.Inject;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for LeaderboardResource.
+ */
+@MicronautTest
+class LeaderboardResourceTest {
+
+    private static final long USER_ID = 7L;
+    private static final long FRIEND_ID = 8L;
+    private static final double ROUNDS = 12.0;
+    private static final int LIMIT = 5;
+    private static final String BOARD = "type:BOXING_BAG:ROUNDS";
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Inject
+    LeaderboardService leaderboardService;
+
+    @MockBean(LeaderboardService.class)
+    LeaderboardService leaderboardService() {
+        return mock(LeaderboardService.class);
+    }
+
+    @Test
+    void testGetLeaderboardByType() {
+        // Given
+        when(leaderboardService.getLeaderboard(
+            isNull(), eq(TypeOfExercise.BOXING_BAG), eq(LeaderboardMetric.ROUNDS), eq(LIMIT), isNull()))
+            .thenReturn(new LeaderboardDTO(BOARD, 1, List.of(new LeaderboardEntryDTO(1, USER_ID, ROUNDS))));
+
+        // When
+        LeaderboardDTO result = client.toBlocking().retrieve(
+            HttpRequest.GET("/leaderboard?metric=ROUNDS&type=BOXING_BAG&limit=" + LIMIT), LeaderboardDTO.class);
+
+        // Then
+        assertThat(result.getBoard()).isEqualTo(BOARD);
+        assertThat(result.getEntries()).extracting(LeaderboardEntryDTO::getUserId).containsExactly(USER_ID);
+    }
+
+    @Test
+    void testGetLeaderboardForFriends() {
+        // Given
+        when(leaderboardService.getLeaderboard(
+            isNull(), eq(TypeOfExercise.BOXING_BAG), eq(LeaderboardMetric.ROUNDS), anyInt(),
+            eq(List.of(USER_ID, FRIEND_ID))))
+            .thenReturn(new LeaderboardDTO(BOARD, 2, List.of(new LeaderboardEntryDTO(2, FRIEND_ID, ROUNDS))));
+
+        // When
+        LeaderboardDTO result = client.toBlocking().retrieve(HttpRequest.GET(
+            "/leaderboard?metric=ROUNDS&type=BOXING_BAG&userIds=" + USER_ID + "," + FRIEND_ID), LeaderboardDTO.class);
+
+        // Then
+        assertThat(result.getEntries()).extracting(LeaderboardEntryDTO::getUserId).containsExactly(FRIEND_ID);
+    }
+
+    @Test
+    void testGetRankWithoutScoreReturnsBadRequest() {
+        // Given
+        when(leaderboardService.getRank(isNull(), any(), any(), eq(USER_ID)))
+            .thenThrow(new ValidationException("User has no score on this leaderboard", "userId", "NOT_FOUND"));
+
+        // When & Then
+        assertThatThrownBy(() -> client.toBlocking().retrieve(
+            HttpRequest.GET("/leaderboard/rank?metric=ROUNDS&type=BOXING_BAG&userId=" + USER_ID),
+            LeaderboardEntryDTO.class))
+            .isInstanceOf(HttpClientResponseException.class)
+            .satisfies(ex -> assertThat(((HttpClientResponseException) ex).getStatus())
+                .isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+}
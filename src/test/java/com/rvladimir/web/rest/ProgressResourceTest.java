@@ -0,0 +1,92 @@
+package com.rvladimir.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.rvladimir.progress.ProgressMetric;
+import com.rvladimir.service.ProgressService;
+import com.rvladimir.service.dto.ProgressChartDTO;
+import com.rvladimir.service.dto.ProgressPointDTO;
+import com.rvladimir.web.error.ValidationException;
+
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.test.annotation.MockBean;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+
+import jakarta.inject.Inject;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for ProgressResource.
+ */
+@MicronautTest
+class ProgressResourceTest {
+
+    private static final long USER_ID = 7L;
+    private static final long EXERCISE_ID = 12L;
+    private static final LocalDate FROM = LocalDate.of(2024, Month.JANUARY, 1);
+    private static final LocalDate TO = LocalDate.of(2026, Month.OCTOBER, 18);
+    private static final int DEFAULT_POINTS = 300;
+    private static final int TOTAL = 4210;
+    private static final double DISTANCE = 10.5;
+    private static final LocalDateTime PERFORMED_AT = LocalDateTime.of(2026, Month.OCTOBER, 18, 6, 0);
+    private static final String CHART_URI = "/progress/chart?userId=" + USER_ID + "&exerciseId=" + EXERCISE_ID +
+        "&metric=DISTANCE&from=" + FROM + "&to=" + TO;
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Inject
+    ProgressService progressService;
+
+    @MockBean(ProgressService.class)
+    ProgressService progressService() {
+        return mock(ProgressService.class);
+    }
+
+    @Test
+    void testGetChartWithDefaultPoints() {
+        // Given
+        when(progressService.getChart(USER_ID, EXERCISE_ID, ProgressMetric.DISTANCE, FROM, TO, DEFAULT_POINTS))
+            .thenReturn(new ProgressChartDTO(EXERCISE_ID, ProgressMetric.DISTANCE, TOTAL,
+                List.of(new ProgressPointDTO(PERFORMED_AT, DISTANCE))));
+
+        // When
+        ProgressChartDTO result = client.toBlocking().retrieve(HttpRequest.GET(CHART_URI), ProgressChartDTO.class);
+
+        // Then
+        assertThat(result.getTotal()).isEqualTo(TOTAL);
+        assertThat(result.getPoints()).containsExactly(new ProgressPointDTO(PERFORMED_AT, DISTANCE));
+    }
+
+    @Test
+    void testGetChartWithInvalidPointsReturnsBadRequest() {
+        // Given
+        when(progressService.getChart(eq(USER_ID), eq(EXERCISE_ID), eq(ProgressMetric.DISTANCE), eq(FROM), eq(TO),
+            anyInt()))
+            .thenThrow(new ValidationException("Points must be between 3 and 1000", "points", "INVALID_POINTS"));
+
+        // When & Then
+        assertThatThrownBy(() -> client.toBlocking().retrieve(
+            HttpRequest.GET(CHART_URI + "&points=1"),
+            ProgressChartDTO.class))
+            .isInstanceOf(HttpClientResponseException.class)
+            .satisfies(ex -> assertThat(((HttpClientResponseException) ex).getStatus())
+                .isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+}
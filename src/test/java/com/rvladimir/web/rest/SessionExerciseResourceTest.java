@@ -10,14 +10,20 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.rvladimir.domain.SessionExercise;
 import com.rvladimir.service.SessionExerciseService;
 import com.rvladimir.service.dto.CreateSessionExerciseDTO;
+import com.rvladimir.service.dto.NoteMatchDTO;
+import com.rvladimir.service.dto.NotesSearchResultDTO;
 import com.rvladimir.service.dto.SessionExerciseDTO;
+import com.rvladimir.web.codec.BinaryMediaType;
+import com.rvladimir.web.error.ValidationException;
 
 import io.micronaut.core.type.Argument;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
 import io.micronaut.http.client.HttpClient;
 import io.micronaut.http.client.annotation.Client;
 import io.micronaut.http.client.exceptions.HttpClientResponseException;
@@ -40,6 +46,13 @@ class SessionExerciseResourceTest {
     private static final String ENDPOINT = "/session-exercise/training-session/" + TRAINING_SESSION_ID;
     private static final String CREATE_ENDPOINT =
         "/session-exercise/training-sessions/" + TRAINING_SESSION_ID + "/session-exercise";
+    private static final String ENDPOINT_WITH_FIELDS = ENDPOINT + "?fields=";
+    private static final String STATUS_FIELD = "status";
+    private static final String UNKNOWN_FIELD = "password";
+    private static final long USER_ID = 5L;
+    private static final int DEFAULT_SEARCH_LIMIT = 20;
+    private static final float RANK = 0.5f;
+    private static final String NEXT_CURSOR = "next";
 
     @Inject
     @Client("/")
@@ -58,7 +71,7 @@ class SessionExerciseResourceTest {
         // Given
         SessionExerciseDTO dto = createSessionExerciseDTO();
         List<SessionExerciseDTO> dtos = Collections.singletonList(dto);
-        when(sessionExerciseService.getSessionExercisesByTrainingSession(TRAINING_SESSION_ID)).thenReturn(dtos);
+        when(sessionExerciseService.getSessionExercisesByTrainingSession(TRAINING_SESSION_ID, null)).thenReturn(dtos);
 
         // When
         HttpRequest<?> request = HttpRequest.GET(ENDPOINT);
@@ -69,7 +82,7 @@ class SessionExerciseResourceTest {
         assertThat(response.status().getCode()).isEqualTo(HttpStatus.OK.getCode());
         assertThat(response.body()).isNotNull();
         assertThat(response.body().size()).isEqualTo(1);
-        verify(sessionExerciseService).getSessionExercisesByTrainingSession(TRAINING_SESSION_ID);
+        verify(sessionExerciseService).getSessionExercisesByTrainingSession(TRAINING_SESSION_ID, null);
     }
 
     @Test
@@ -90,6 +103,110 @@ class SessionExerciseResourceTest {
         verify(sessionExerciseService).createSessionExercise(TRAINING_SESSION_ID, createDto);
     }
 
+    @Test
+    void testGetSessionExercisesNegotiatesCbor() {
+        // Given
+        SessionExerciseDTO dto = createSessionExerciseDTO();
+        when(sessionExerciseService.getSessionExercisesByTrainingSession(TRAINING_SESSION_ID, null))
+            .thenReturn(List.of(dto));
+
+        // When
+        HttpRequest<?> request = HttpRequest.GET(ENDPOINT).accept(BinaryMediaType.APPLICATION_CBOR);
+        HttpResponse<List<SessionExerciseDTO>> response =
+            client.toBlocking().exchange(request, Argument.listOf(SessionExerciseDTO.class));
+
+        // Then
+        assertThat(response.getContentType()).contains(MediaType.of(BinaryMediaType.APPLICATION_CBOR));
+        assertThat(response.body()).containsExactly(dto);
+    }
+
+    @Test
+    void testCreateSessionExerciseFromSmileBody() {
+        // Given
+        CreateSessionExerciseDTO createDto = createCreateSessionExerciseDTO();
+        SessionExerciseDTO dto = createSessionExerciseDTO();
+        when(sessionExerciseService.createSessionExercise(TRAINING_SESSION_ID, createDto)).thenReturn(dto);
+
+        // When
+        HttpRequest<CreateSessionExerciseDTO> request = HttpRequest.POST(CREATE_ENDPOINT, createDto)
+            .contentType(BinaryMediaType.APPLICATION_SMILE)
+            .accept(BinaryMediaType.APPLICATION_SMILE);
+        HttpResponse<SessionExerciseDTO> response = client.toBlocking().exchange(request, SessionExerciseDTO.class);
+
+        // Then
+        assertThat(response.getContentType()).contains(MediaType.of(BinaryMediaType.APPLICATION_SMILE));
+        assertThat(response.body()).isEqualTo(dto);
+        verify(sessionExerciseService).createSessionExercise(TRAINING_SESSION_ID, createDto);
+    }
+
+    @Test
+    void testGetSessionExercisesWithFieldsOmitsUnselectedProperties() {
+        // Given
+        SessionExerciseDTO dto = new SessionExerciseDTO.Sparse();
+        dto.setId(SESSION_EXERCISE_ID);
+        dto.setStatus(SessionExercise.Status.FINISHED);
+        when(sessionExerciseService.getSessionExercisesByTrainingSession(TRAINING_SESSION_ID, STATUS_FIELD))
+            .thenReturn(List.of(dto));
+
+        // When
+        HttpRequest<?> request = HttpRequest.GET(ENDPOINT_WITH_FIELDS + STATUS_FIELD);
+        String body = client.toBlocking().retrieve(request);
+
+        // Then
+        assertThat(body)
+            .contains("\"id\":" + SESSION_EXERCISE_ID)
+            .contains("\"status\":\"FINISHED\"")
+            .doesNotContain("notes", "trainingSessionId", "createdAt");
+    }
+
+    @Test
+    void testGetSessionExercisesWithoutFieldsKeepsNullProperties() {
+        // Given
+        SessionExerciseDTO dto = createSessionExerciseDTO();
+        when(sessionExerciseService.getSessionExercisesByTrainingSession(TRAINING_SESSION_ID, null))
+            .thenReturn(List.of(dto));
+
+        // When
+        String body = client.toBlocking().retrieve(HttpRequest.GET(ENDPOINT));
+
+        // Then
+        assertThat(dto.getNotes()).isNull();
+        assertThat(body).contains("\"notes\":null").contains("\"trainingSessionId\":" + TRAINING_SESSION_ID);
+    }
+
+    @Test
+    void testGetSessionExercisesWithUnknownFieldIsBadRequest() {
+        // Given
+        when(sessionExerciseService.getSessionExercisesByTrainingSession(TRAINING_SESSION_ID, UNKNOWN_FIELD))
+            .thenThrow(new ValidationException("Unknown field: " + UNKNOWN_FIELD, "fields", "INVALID_FIELD"));
+
+        // When
+        HttpRequest<?> request = HttpRequest.GET(ENDPOINT_WITH_FIELDS + UNKNOWN_FIELD);
+        HttpClientResponseException thrown = org.junit.jupiter.api.Assertions.assertThrows(
+            HttpClientResponseException.class, () -> client.toBlocking().retrieve(request));
+
+        // Then
+        assertThat(thrown.getStatus().getCode()).isEqualTo(HttpStatus.BAD_REQUEST.getCode());
+    }
+
+    @Test
+    void testSearchNotesReturnsHighlightedMatches() {
+        // Given
+        NoteMatchDTO match = new NoteMatchDTO(
+            SESSION_EXERCISE_ID, TRAINING_SESSION_ID, null, null, RANK, "left «knee» felt sore");
+        when(sessionExerciseService.searchNotes(USER_ID, "knee pain", null, DEFAULT_SEARCH_LIMIT))
+            .thenReturn(new NotesSearchResultDTO(List.of(match), NEXT_CURSOR, false));
+
+        // When
+        HttpRequest<?> request = HttpRequest.GET("/session-exercise/notes/search?userId=" + USER_ID + "&q=knee%20pain");
+        HttpResponse<NotesSearchResultDTO> response = client.toBlocking().exchange(request, NotesSearchResultDTO.class);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK);
+        assertThat(response.body().getMatches()).containsExactly(match);
+        assertThat(response.body().getCursor()).isEqualTo(NEXT_CURSOR);
+    }
+
     @Test
     void testCreateSessionExerciseValidationError() {
         // Given
@@ -0,0 +1,108 @@
+package com.rvladimir.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.rvladimir.domain.TrainingSession;
+import com.rvladimir.service.SyncService;
+import com.rvladimir.service.dto.SyncChangesDTO;
+import com.rvladimir.service.dto.TrainingSessionDTO;
+import com.rvladimir.web.error.ValidationException;
+
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.test.annotation.MockBean;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+
+import jakarta.inject.Inject;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for SyncResource.
+ */
+@MicronautTest
+class SyncResourceTest {
+
+    private static final long USER_ID = 1L;
+    private static final long TRAINING_SESSION_ID = 7L;
+    private static final long DELETED_EXERCISE_ID = 70L;
+    private static final int DEFAULT_LIMIT = 500;
+    private static final int LIMIT = 50;
+    private static final String CURSOR = "djE6ODE1OlRSQUlOSU5HX1NFU1NJT046Nw";
+    private static final String NEXT_CURSOR = "djE6ODE2OlNFU1NJT05fRVhFUkNJU0U6NzA";
+    private static final String ENDPOINT_SYNC = "/sync?userId=1";
+    private static final String ENDPOINT_SYNC_WITH_CURSOR = ENDPOINT_SYNC + "&cursor=" + CURSOR;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 3, 2, 7, 30);
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Inject
+    SyncService syncService;
+
+    @MockBean(SyncService.class)
+    SyncService syncService() {
+        return mock(SyncService.class);
+    }
+
+    @Test
+    void testGetChangesForFullSync() {
+        // Given
+        TrainingSessionDTO sessionDTO = new TrainingSessionDTO(
+            TRAINING_SESSION_ID, null, null, TrainingSession.Status.STARTED, USER_ID, CREATED_AT);
+        when(syncService.changesSince(USER_ID, null, DEFAULT_LIMIT)).thenReturn(new SyncChangesDTO(
+            List.of(sessionDTO), List.of(), List.of(), List.of(DELETED_EXERCISE_ID), NEXT_CURSOR, false));
+
+        // When
+        HttpResponse<SyncChangesDTO> response =
+            client.toBlocking().exchange(HttpRequest.GET(ENDPOINT_SYNC), SyncChangesDTO.class);
+
+        // Then
+        assertThat(response.status().getCode()).isEqualTo(HttpStatus.OK.getCode());
+        assertThat(response.body().getTrainingSessions()).extracting(TrainingSessionDTO::getId)
+            .containsExactly(TRAINING_SESSION_ID);
+        assertThat(response.body().getDeletedSessionExerciseIds()).containsExactly(DELETED_EXERCISE_ID);
+        assertThat(response.body().getCursor()).isEqualTo(NEXT_CURSOR);
+    }
+
+    @Test
+    void testGetChangesPassesCursorAndLimit() {
+        // Given
+        when(syncService.changesSince(USER_ID, CURSOR, LIMIT)).thenReturn(new SyncChangesDTO(
+            List.of(), List.of(), List.of(), List.of(), CURSOR, false));
+
+        // When
+        HttpResponse<SyncChangesDTO> response = client.toBlocking().exchange(
+            HttpRequest.GET(ENDPOINT_SYNC_WITH_CURSOR + "&limit=" + LIMIT), SyncChangesDTO.class);
+
+        // Then
+        assertThat(response.body().getCursor()).isEqualTo(CURSOR);
+        verify(syncService).changesSince(USER_ID, CURSOR, LIMIT);
+    }
+
+    @Test
+    void testGetChangesWithInvalidCursorReturns400() {
+        // Given
+        when(syncService.changesSince(USER_ID, CURSOR, DEFAULT_LIMIT))
+            .thenThrow(new ValidationException("Malformed sync cursor", "cursor", "INVALID_CURSOR"));
+
+        // When / Then
+        HttpRequest<?> request = HttpRequest.GET(ENDPOINT_SYNC_WITH_CURSOR);
+        assertThatThrownBy(() -> client.toBlocking().exchange(request, SyncChangesDTO.class))
+            .isInstanceOf(HttpClientResponseException.class)
+            .satisfies(ex -> assertThat(((HttpClientResponseException) ex).getStatus().getCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST.getCode()));
+    }
+}
@@ -0,0 +1,90 @@
+package com.rvladimir.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.rvladimir.service.TrainingLoadService;
+import com.rvladimir.service.dto.TrainingLoadPointDTO;
+import com.rvladimir.service.dto.TrainingLoadSeriesDTO;
+import com.rvladimir.web.error.ValidationException;
+
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.test.annotation.MockBean;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+
+import jakarta.inject.Inject;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for TrainingLoadResource.
+ */
+@MicronautTest
+class TrainingLoadResourceTest {
+
+    private static final long USER_ID = 7L;
+    private static final int ACUTE_DAYS = 7;
+    private static final int CHRONIC_DAYS = 28;
+    private static final LocalDate FROM = LocalDate.of(2026, Month.OCTOBER, 1);
+    private static final LocalDate TO = LocalDate.of(2026, Month.OCTOBER, 2);
+    private static final double LOAD = 30.0;
+    private static final double ACUTE = 7.5;
+    private static final double CHRONIC = 2.0;
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Inject
+    TrainingLoadService trainingLoadService;
+
+    @MockBean(TrainingLoadService.class)
+    TrainingLoadService trainingLoadService() {
+        return mock(TrainingLoadService.class);
+    }
+
+    @Test
+    void testGetSeries() {
+        // Given
+        when(trainingLoadService.getSeries(USER_ID, FROM, TO)).thenReturn(new TrainingLoadSeriesDTO(ACUTE_DAYS,
+            CHRONIC_DAYS, List.of(new TrainingLoadPointDTO(TO, LOAD, ACUTE, CHRONIC, ACUTE / CHRONIC))));
+
+        // When
+        TrainingLoadSeriesDTO result = client.toBlocking().retrieve(
+            HttpRequest.GET(uri(FROM, TO)), TrainingLoadSeriesDTO.class);
+
+        // Then
+        assertThat(result.getChronicDays()).isEqualTo(CHRONIC_DAYS);
+        assertThat(result.getPoints()).singleElement()
+            .satisfies(point -> assertThat(point.getRatio()).isEqualTo(ACUTE / CHRONIC));
+    }
+
+    @Test
+    void testGetSeriesWithInvalidRangeReturnsBadRequest() {
+        // Given
+        when(trainingLoadService.getSeries(USER_ID, TO, FROM))
+            .thenThrow(new ValidationException("Range must span between 1 and 366 days", "from", "INVALID_RANGE"));
+
+        // When & Then
+        assertThatThrownBy(() -> client.toBlocking().retrieve(
+            HttpRequest.GET(uri(TO, FROM)),
+            TrainingLoadSeriesDTO.class))
+            .isInstanceOf(HttpClientResponseException.class)
+            .satisfies(ex -> assertThat(((HttpClientResponseException) ex).getStatus())
+                .isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    private static String uri(LocalDate from, LocalDate to) {
+        return "/training-load?userId=" + USER_ID + "&from=" + from + "&to=" + to;
+    }
+}
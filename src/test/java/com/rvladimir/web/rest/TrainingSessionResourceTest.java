@@ -3,6 +3,7 @@ package com.rvladimir.web.rest;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -10,14 +11,17 @@ import static org.mockito.Mockito.when;
 import com.rvladimir.domain.SessionExercise;
 import com.rvladimir.domain.TrainingSession;
 import com.rvladimir.domain.TypeOfExercise;
+import com.rvladimir.service.TrainingSessionHistoryService;
 import com.rvladimir.service.TrainingSessionService;
 import com.rvladimir.service.dto.CreateTrainingSessionDTO;
 import com.rvladimir.service.dto.QuickStartIntervalDTO;
 import com.rvladimir.service.dto.QuickStartIntervalResponseDTO;
 import com.rvladimir.service.dto.SessionExerciseDTO;
 import com.rvladimir.service.dto.TrainingSessionDTO;
+import com.rvladimir.service.dto.TrainingSessionHistoryDTO;
 import com.rvladimir.web.error.ValidationException;
 
+import io.micronaut.core.type.Argument;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
@@ -32,6 +36,7 @@ import jakarta.inject.Inject;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.Month;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -49,6 +54,10 @@ class TrainingSessionResourceTest {
     private static final String TEST_DESCRIPTION = "A quick morning workout routine";
     private static final String ENDPOINT_TRAINING_SESSION_CREATE = "/training-session/create";
     private static final String ENDPOINT_QUICK_START_INTERVAL = "/training-session/quick-start/interval";
+    private static final String ENDPOINT_HISTORY =
+        "/training-session/history?userId=1&from=2026-01-01T00:00:00&to=2026-01-31T23:59:59";
+    private static final String ENDPOINT_TEMPLATES = "/training-session/templates?userId=1";
+    private static final long TEMPLATE_ID = 20L;
     private static final String VALIDATION_MESSAGE = "User not found";
     private static final String VALIDATION_FIELD = "userId";
     private static final String VALIDATION_CODE = "NOT_FOUND";
@@ -57,6 +66,10 @@ class TrainingSessionResourceTest {
     private static final int DAY_13 = 13;
     private static final int HOUR_10 = 10;
     private static final int MINUTE_30 = 30;
+    private static final int DAY_31 = 31;
+    private static final int HOUR_23 = 23;
+    private static final int MINUTE_59 = 59;
+    private static final int SECOND_59 = 59;
     private static final int TEST_ROUNDS = 5;
     private static final int TEST_SPRINTS = 10;
     private static final int TEST_REST_TIME = 60;
@@ -71,11 +84,19 @@ class TrainingSessionResourceTest {
     @Inject
     TrainingSessionService trainingSessionService;
 
+    @Inject
+    TrainingSessionHistoryService trainingSessionHistoryService;
+
     @MockBean(TrainingSessionService.class)
     TrainingSessionService trainingSessionService() {
         return mock(TrainingSessionService.class);
     }
 
+    @MockBean(TrainingSessionHistoryService.class)
+    TrainingSessionHistoryService trainingSessionHistoryService() {
+        return mock(TrainingSessionHistoryService.class);
+    }
+
     @Test
     void testCreateTrainingSessionSuccess() {
         // Given
@@ -258,4 +279,72 @@ class TrainingSessionResourceTest {
 
         verify(trainingSessionService).quickStartInterval(any(QuickStartIntervalDTO.class));
     }
+
+    @Test
+    void testGetHistoryReturnsHotAndArchivedSessions() {
+        // Given
+        TrainingSessionDTO sessionDTO = new TrainingSessionDTO(
+            TRAINING_SESSION_ID, TEST_NAME, TEST_DESCRIPTION,
+            TrainingSession.Status.FINISHED, USER_ID_1,
+            LocalDateTime.of(YEAR_2026, JANUARY, DAY_13, HOUR_10, MINUTE_30)
+        );
+        TrainingSessionHistoryDTO historyDTO = new TrainingSessionHistoryDTO(sessionDTO, List.of(), true);
+
+        when(trainingSessionHistoryService.getHistory(any(Long.class), any(LocalDateTime.class),
+            any(LocalDateTime.class), isNull(), isNull())).thenReturn(List.of(historyDTO));
+
+        // When
+        HttpResponse<List<TrainingSessionHistoryDTO>> response = client.toBlocking().exchange(
+            HttpRequest.GET(ENDPOINT_HISTORY), Argument.listOf(TrainingSessionHistoryDTO.class));
+
+        // Then
+        assertThat(response.status().getCode()).isEqualTo(HttpStatus.OK.getCode());
+        assertThat(response.body()).hasSize(1);
+        assertThat(response.body().get(0).getTrainingSession().getId()).isEqualTo(TRAINING_SESSION_ID);
+        assertThat(response.body().get(0).isArchived()).isTrue();
+
+        verify(trainingSessionHistoryService).getHistory(USER_ID_1,
+            LocalDateTime.of(YEAR_2026, JANUARY, 1, 0, 0),
+            LocalDateTime.of(YEAR_2026, JANUARY, DAY_31, HOUR_23, MINUTE_59, SECOND_59), null, null);
+    }
+
+    @Test
+    void testGetTemplatesReturnsTheUsersTemplates() {
+        // Given
+        TrainingSessionDTO templateDTO = new TrainingSessionDTO(
+            TEMPLATE_ID, TEST_NAME, null, TrainingSession.Status.IS_TEMPLATE, USER_ID_1, LocalDateTime.now());
+        when(trainingSessionService.getTemplates(USER_ID_1))
+            .thenReturn(List.of(new TrainingSessionHistoryDTO(templateDTO, List.of(), false)));
+
+        // When
+        HttpResponse<List<TrainingSessionHistoryDTO>> response = client.toBlocking().exchange(
+            HttpRequest.GET(ENDPOINT_TEMPLATES), Argument.listOf(TrainingSessionHistoryDTO.class));
+
+        // Then
+        assertThat(response.status().getCode()).isEqualTo(HttpStatus.OK.getCode());
+        assertThat(response.body()).extracting(template -> template.getTrainingSession().getStatus())
+            .containsExactly(TrainingSession.Status.IS_TEMPLATE);
+    }
+
+    @Test
+    void testStartFromTemplateReturnsCreatedSession() {
+        // Given
+        TrainingSessionDTO sessionDTO = new TrainingSessionDTO(
+            TRAINING_SESSION_ID, TEST_NAME, null, TrainingSession.Status.STARTED, USER_ID_1, LocalDateTime.now());
+        SessionExerciseDTO exerciseDTO = new SessionExerciseDTO();
+        exerciseDTO.setId(SESSION_EXERCISE_ID);
+        when(trainingSessionService.startFromTemplate(USER_ID_1, TEMPLATE_ID))
+            .thenReturn(new TrainingSessionHistoryDTO(sessionDTO, List.of(exerciseDTO), false));
+
+        // When
+        HttpResponse<TrainingSessionHistoryDTO> response = client.toBlocking().exchange(
+            HttpRequest.POST("/training-session/templates/" + TEMPLATE_ID + "/start?userId=" + USER_ID_1, ""),
+            TrainingSessionHistoryDTO.class);
+
+        // Then
+        assertThat(response.status().getCode()).isEqualTo(HttpStatus.CREATED.getCode());
+        assertThat(response.body().getTrainingSession().getId()).isEqualTo(TRAINING_SESSION_ID);
+        assertThat(response.body().getSessionExercises()).extracting(SessionExerciseDTO::getId)
+            .containsExactly(SESSION_EXERCISE_ID);
+    }
 }
@@ -3,19 +3,23 @@ package com.rvladimir.web.rest;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.rvladimir.domain.User;
+import com.rvladimir.service.UserProvisioningService;
 import com.rvladimir.service.UserService;
 import com.rvladimir.service.dto.CreateUserDTO;
+import com.rvladimir.service.dto.ProvisionedUserDTO;
 import com.rvladimir.service.dto.UserDTO;
 import com.rvladimir.web.error.ValidationException;
 
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
 import io.micronaut.http.client.HttpClient;
 import io.micronaut.http.client.annotation.Client;
 import io.micronaut.http.client.exceptions.HttpClientResponseException;
@@ -25,8 +29,12 @@ import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
 import jakarta.inject.Inject;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import reactor.core.publisher.Flux;
 
 /**
  * Test class for UserResource.
@@ -45,6 +53,7 @@ class UserResourceTest {
     private static final String VALIDATION_FIELD = "email";
     private static final String VALIDATION_CODE = "DUPLICATE";
     private static final String ENDPOINT_USER_CREATE = "/user/create";
+    private static final String ENDPOINT_USER_BULK = "/user/bulk";
     private static final int BIRTH_YEAR = 1990;
     private static final int BIRTH_MONTH = 5;
     private static final int BIRTH_DAY = 15;
@@ -57,11 +66,19 @@ class UserResourceTest {
     @Inject
     UserService userService;
 
+    @Inject
+    UserProvisioningService userProvisioningService;
+
     @MockBean(UserService.class)
     UserService userService() {
         return mock(UserService.class);
     }
 
+    @MockBean(UserProvisioningService.class)
+    UserProvisioningService userProvisioningService() {
+        return mock(UserProvisioningService.class);
+    }
+
     @Test
     void testCreateUserSuccess() {
         // Given
@@ -165,4 +182,64 @@ class UserResourceTest {
         assertThatThrownBy(() -> client.toBlocking().exchange(request, UserDTO.class))
             .isInstanceOf(HttpClientResponseException.class);
     }
+
+    @Test
+    void testProvisionUsersStreamsOneOutcomePerUser() {
+        // Given
+        CreateUserDTO createUserDTO = new CreateUserDTO(
+            TEST_NAME,
+            TEST_LASTNAME,
+            TEST_NICKNAME,
+            LocalDate.of(BIRTH_YEAR, BIRTH_MONTH, BIRTH_DAY),
+            TEST_EMAIL,
+            TEST_PASSWORD
+        );
+        when(userProvisioningService.provision(anyList())).thenReturn(Flux.just(
+            new ProvisionedUserDTO(0, TEST_EMAIL, ProvisionedUserDTO.Outcome.CREATED, USER_ID_1, null),
+            new ProvisionedUserDTO(1, TEST_EMAIL_EXISTING, ProvisionedUserDTO.Outcome.DUPLICATE, null,
+                VALIDATION_MESSAGE)));
+
+        // When
+        HttpRequest<List<CreateUserDTO>> request = HttpRequest.POST(ENDPOINT_USER_BULK, List.of(createUserDTO));
+        String body = client.toBlocking().retrieve(request);
+
+        // Then
+        assertThat(body).contains("\"outcome\":\"CREATED\"", "\"outcome\":\"DUPLICATE\"");
+        assertThat(body.lines().count()).isEqualTo(2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testProvisionUsersFromCsv() {
+        // Given
+        String csv = "name,lastname,nickname,dateBirth,email,password\n" +
+            "John,Doe,johnd,1990-05-15,john.doe@example.com,password123\n";
+        when(userProvisioningService.provision(anyList())).thenReturn(Flux.just(
+            new ProvisionedUserDTO(0, TEST_EMAIL, ProvisionedUserDTO.Outcome.CREATED, USER_ID_1, null)));
+
+        // When
+        HttpRequest<String> request = HttpRequest.POST(ENDPOINT_USER_BULK, csv).contentType(MediaType.TEXT_CSV);
+        client.toBlocking().retrieve(request);
+
+        // Then
+        ArgumentCaptor<List<CreateUserDTO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userProvisioningService).provision(captor.capture());
+        assertThat(captor.getValue()).singleElement().satisfies(user -> {
+            assertThat(user.getEmail()).isEqualTo(TEST_EMAIL);
+            assertThat(user.getDateBirth()).isEqualTo(LocalDate.of(BIRTH_YEAR, BIRTH_MONTH, BIRTH_DAY));
+        });
+    }
+
+    @Test
+    void testProvisionUsersFromMalformedCsv() {
+        // Given
+        HttpRequest<String> request = HttpRequest.POST(ENDPOINT_USER_BULK, "name,email\nJohn,john@example.com")
+            .contentType(MediaType.TEXT_CSV);
+
+        // When & Then
+        assertThatThrownBy(() -> client.toBlocking().retrieve(request))
+            .isInstanceOf(HttpClientResponseException.class)
+            .satisfies(ex -> assertThat(((HttpClientResponseException) ex).getStatus().getCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST.getCode()));
+    }
 }